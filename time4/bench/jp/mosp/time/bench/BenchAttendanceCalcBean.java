@@ -0,0 +1,91 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.bench;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import jp.mosp.framework.base.BaseBeanInterface;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.time.bean.impl.AttendanceCalcBean;
+
+/**
+ * 計算性能測定用勤怠計算クラス。<br>
+ * <br>
+ * 参照Bean等を{@link FixtureBeanHandler}のプロキシに差し替え、
+ * DBに接続せずに日々の自動計算処理を実行する。<br>
+ */
+public class BenchAttendanceCalcBean extends AttendanceCalcBean {
+	
+	/**
+	 * Bean代替クラス。
+	 */
+	protected final FixtureBeanHandler				handler;
+	
+	/**
+	 * プロキシ群(キー：Beanインターフェース)。
+	 */
+	protected final Map<Class<?>, BaseBeanInterface>	proxies;
+	
+	
+	/**
+	 * コンストラクタ。<br>
+	 * @param mospParams MosP処理情報
+	 * @throws MospException Beanの初期化に失敗した場合
+	 */
+	public BenchAttendanceCalcBean(MospParams mospParams) throws MospException {
+		super();
+		handler = new FixtureBeanHandler();
+		proxies = new HashMap<Class<?>, BaseBeanInterface>();
+		setParams(mospParams, null);
+		initBean();
+	}
+	
+	/**
+	 * 計算パターンの勤怠データを自動計算する。<br>
+	 * 計算結果は、計算パターンの勤怠データに設定される。<br>
+	 * @param scenario 計算パターン
+	 * @throws MospException 勤怠計算に失敗した場合
+	 */
+	public void calc(CalcFixture.Scenario scenario) throws MospException {
+		handler.setAnswers(scenario.answers);
+		attendanceCalc(scenario.attendanceDto, scenario.input);
+		// フィクスチャの不備で勤怠計算が中断された場合
+		if (mospParams.hasErrorMessage()) {
+			throw new IllegalStateException(scenario.getName() + ":" + mospParams.getErrorMessageList());
+		}
+	}
+	
+	@Override
+	protected BaseBeanInterface createBean(Class<?> cls) {
+		BaseBeanInterface proxy = proxies.get(cls);
+		if (proxy == null) {
+			proxy = handler.createProxy(cls);
+			proxies.put(cls, proxy);
+		}
+		return proxy;
+	}
+	
+	@Override
+	protected BaseBeanInterface createBean(Class<?> cls, Date targetDate) {
+		return createBean(cls);
+	}
+	
+}
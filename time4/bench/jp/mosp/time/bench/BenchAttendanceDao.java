@@ -0,0 +1,133 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.bench;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.time.dao.settings.impl.TmdAttendanceDao;
+
+/**
+ * SQL作成性能測定用勤怠データDAOクラス。<br>
+ * <br>
+ * {@link jp.mosp.framework.base.BaseDao}が作成するSQLを、DBに接続せずに取得する。<br>
+ * DAOメタ情報を用いない場合は、テーブル名、列名の取得及びSQLの作成を
+ * 呼出毎にリフレクションで行う(DAOメタ情報導入前の処理)。<br>
+ */
+public class BenchAttendanceDao extends TmdAttendanceDao {
+	
+	/**
+	 * DAOメタ情報利用要否(true：利用する、false：利用しない)。
+	 */
+	protected final boolean	useMetadata;
+	
+	
+	/**
+	 * コンストラクタ。<br>
+	 * @param useMetadata DAOメタ情報利用要否(true：利用する、false：利用しない)
+	 */
+	public BenchAttendanceDao(boolean useMetadata) {
+		super();
+		this.useMetadata = useMetadata;
+	}
+	
+	/**
+	 * 挿入SQLを取得する。<br>
+	 * @return 挿入SQL
+	 * @throws MospException テーブル名、フィールド値の取得に失敗した場合
+	 */
+	public String getInsertQuery() throws MospException {
+		return getInsertQuery(getClass());
+	}
+	
+	/**
+	 * 更新SQLを取得する。<br>
+	 * @return 更新SQL
+	 * @throws MospException テーブル名、フィールド値の取得に失敗した場合
+	 */
+	public String getUpdateQuery() throws MospException {
+		return getUpdateQuery(getClass());
+	}
+	
+	/**
+	 * 全件検索SQLを取得する。<br>
+	 * @return 全件検索SQL
+	 * @throws MospException テーブル名、フィールド値の取得に失敗した場合
+	 */
+	public String getSelectQuery() throws MospException {
+		return getSelectQuery(getClass()).toString();
+	}
+	
+	/**
+	 * テーブル名を取得する。<br>
+	 * @return テーブル名
+	 * @throws MospException テーブル名の取得に失敗した場合
+	 */
+	public String getTable() throws MospException {
+		return getTable(getClass());
+	}
+	
+	@Override
+	protected String getCachedQuery(Class<?> cls, String kind) throws MospException {
+		if (useMetadata == false) {
+			return null;
+		}
+		return super.getCachedQuery(cls, kind);
+	}
+	
+	@Override
+	protected String putCachedQuery(Class<?> cls, String kind, String query) throws MospException {
+		if (useMetadata == false) {
+			return query;
+		}
+		return super.putCachedQuery(cls, kind, query);
+	}
+	
+	@Override
+	protected List<String> getFieldList(Class<?> cls, String prefix) throws MospException {
+		if (useMetadata) {
+			return super.getFieldList(cls, prefix);
+		}
+		// 呼出毎にリフレクションで取得
+		List<String> list = new ArrayList<String>();
+		for (Field field : cls.getFields()) {
+			if (field.getName().indexOf(prefix) == 0) {
+				list.add(getFieldValue(field));
+			}
+		}
+		return list;
+	}
+	
+	@Override
+	public String getTable(Class<?> cls) throws MospException {
+		if (useMetadata) {
+			return super.getTable(cls);
+		}
+		// 呼出毎にリフレクションで取得
+		try {
+			return (String)cls.getField("TABLE").get(null);
+		} catch (IllegalAccessException e) {
+			throw new MospException(e);
+		} catch (NoSuchFieldException e) {
+			throw new MospException(e);
+		}
+	}
+	
+}
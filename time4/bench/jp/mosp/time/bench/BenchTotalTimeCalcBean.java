@@ -0,0 +1,105 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.bench;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import jp.mosp.framework.base.BaseBeanInterface;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.time.bean.CutoffUtilBeanInterface;
+import jp.mosp.time.bean.TotalTimeRegistBeanInterface;
+import jp.mosp.time.bean.impl.TotalTimeCalcBean;
+import jp.mosp.time.dto.settings.TotalTimeDataDtoInterface;
+import jp.mosp.time.dto.settings.impl.TmdTotalTimeDataDto;
+import jp.mosp.time.entity.TotalTimeEntityInterface;
+
+/**
+ * 計算性能測定用勤怠集計クラス。<br>
+ * <br>
+ * 参照Bean等を{@link FixtureBeanHandler}のプロキシに差し替え、
+ * DBに接続せずに勤怠集計(集計及び集計値の丸め)を実行する。<br>
+ * 仮締(DBへの登録)は行わない。<br>
+ */
+public class BenchTotalTimeCalcBean extends TotalTimeCalcBean {
+	
+	/**
+	 * Bean代替クラス。
+	 */
+	protected final FixtureBeanHandler				handler;
+	
+	/**
+	 * プロキシ群(キー：Beanインターフェース)。
+	 */
+	protected final Map<Class<?>, BaseBeanInterface>	proxies;
+	
+	
+	/**
+	 * コンストラクタ。<br>
+	 * @param mospParams      MosP処理情報
+	 * @param calculationDate 集計日
+	 * @throws MospException Beanの初期化に失敗した場合
+	 */
+	public BenchTotalTimeCalcBean(MospParams mospParams, final Date calculationDate) throws MospException {
+		super();
+		handler = new FixtureBeanHandler();
+		proxies = new HashMap<Class<?>, BaseBeanInterface>();
+		Map<String, Object> answers = handler.getAnswers();
+		answers.put(FixtureBeanHandler.getKey(CutoffUtilBeanInterface.class, "getCutoffCalculationDate"),
+				calculationDate);
+		answers.put(FixtureBeanHandler.getKey(TotalTimeRegistBeanInterface.class, "getInitDto"),
+				new FixtureBeanHandler.Answer() {
+					
+					@Override
+					public Object answer(Object[] args) {
+						return new TmdTotalTimeDataDto();
+					}
+				});
+		setParams(mospParams, null);
+		initBean();
+	}
+	
+	/**
+	 * 勤怠集計を行い、丸めた勤怠集計情報を取得する。<br>
+	 * @param entity 勤怠集計エンティティ
+	 * @return 勤怠集計情報
+	 * @throws MospException 勤怠集計に失敗した場合
+	 */
+	public TotalTimeDataDtoInterface total(TotalTimeEntityInterface entity) throws MospException {
+		entity.total();
+		return getTotalTimeData(entity);
+	}
+	
+	@Override
+	protected BaseBeanInterface createBean(Class<?> cls) {
+		BaseBeanInterface proxy = proxies.get(cls);
+		if (proxy == null) {
+			proxy = handler.createProxy(cls);
+			proxies.put(cls, proxy);
+		}
+		return proxy;
+	}
+	
+	@Override
+	protected BaseBeanInterface createBean(Class<?> cls, Date targetDate) {
+		return createBean(cls);
+	}
+	
+}
@@ -0,0 +1,259 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.bench;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.base.MospPropertiesParser;
+import jp.mosp.framework.log.LoggerInterface;
+import jp.mosp.framework.utils.DateUtility;
+import jp.mosp.time.dto.settings.TotalTimeDataDtoInterface;
+
+/**
+ * 計算性能測定。<br>
+ * <br>
+ * DBに接続せず、{@link CalcFixture}で作成したメモリ上のフィクスチャを用いて、
+ * 次の計算処理の処理速度及びメモリ割当量を測定する。<br>
+ * <ul><li>
+ * 勤怠計算(日々の自動計算)：通常勤務、残業、深夜、法定休日労働及び時差出勤
+ * </li><li>
+ * 勤怠集計(集計及び集計値の丸め)：1人月、100人月及び10000人月
+ * </li></ul>
+ * 計算パターン毎にウォームアップの後で測定し、
+ * 処理速度(回/秒、人月/秒)及びメモリ割当量(バイト/回、MB/秒)を標準出力に出力する。<br>
+ * メモリ割当量は、スレッド毎のメモリ割当量を取得できるJVMでのみ測定する。<br>
+ * <br>
+ * 実行方法(time4ディレクトリで、src及びbenchをコンパイルしたクラスパスを指定)：<br>
+ * <pre>
+ * java -cp classes:WEB-INF/lib/* jp.mosp.time.bench.CalcBenchmark [ドキュメントベース] [測定秒数] [ウォームアップ秒数]
+ * </pre>
+ * ドキュメントベースは、WEB-INF/xmlを持つディレクトリ(既定はカレントディレクトリ)とする。<br>
+ * MosP設定情報は実際の設定ファイルから読み込むため、メッセージや追加業務ロジックの設定も本番と同じになる。<br>
+ */
+public class CalcBenchmark {
+	
+	/**
+	 * 測定秒数(既定値)。
+	 */
+	protected static final int		DEFAULT_MEASURE_SECONDS	= 10;
+	
+	/**
+	 * ウォームアップ秒数(既定値)。
+	 */
+	protected static final int		DEFAULT_WARMUP_SECONDS	= 5;
+	
+	/**
+	 * 勤怠集計の人月規模群。
+	 */
+	protected static final int[]	TOTAL_SCALES			= { 1, 100, 10000 };
+	
+	/**
+	 * 1秒当たりのナノ秒。
+	 */
+	protected static final double	NANOS_PER_SECOND		= 1000000000D;
+	
+	/**
+	 * 1MB当たりのバイト数。
+	 */
+	protected static final double	BYTES_PER_MB			= 1024D * 1024D;
+	
+	/**
+	 * 測定秒数。
+	 */
+	protected final long			measureNanos;
+	
+	/**
+	 * ウォームアップ秒数。
+	 */
+	protected final long			warmupNanos;
+	
+	/**
+	 * スレッド管理。
+	 */
+	protected final ThreadMXBean	threadBean;
+	
+	/**
+	 * 計算結果の集約値。<br>
+	 * 計算結果を参照し、計算処理が最適化で除去されないようにする。<br>
+	 */
+	protected long					sink;
+	
+	
+	/**
+	 * コンストラクタ。<br>
+	 * @param measureSeconds 測定秒数
+	 * @param warmupSeconds  ウォームアップ秒数
+	 */
+	public CalcBenchmark(int measureSeconds, int warmupSeconds) {
+		measureNanos = measureSeconds * (long)NANOS_PER_SECOND;
+		warmupNanos = warmupSeconds * (long)NANOS_PER_SECOND;
+		threadBean = ManagementFactory.getThreadMXBean();
+	}
+	
+	/**
+	 * 計算性能を測定する。<br>
+	 * @param args ドキュメントベース、測定秒数、ウォームアップ秒数
+	 * @throws MospException MosP設定情報の読込或いは計算に失敗した場合
+	 */
+	public static void main(String[] args) throws MospException {
+		String docBase = args.length > 0 ? args[0] : ".";
+		int measureSeconds = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_MEASURE_SECONDS;
+		int warmupSeconds = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_WARMUP_SECONDS;
+		MospParams mospParams = new MospParams(MospPropertiesParser.parseMospProperties(docBase),
+				new HashMap<String, LoggerInterface>());
+		List<String> report = new CalcBenchmark(measureSeconds, warmupSeconds).run(mospParams);
+		for (String line : report) {
+			System.out.println(line);
+		}
+	}
+	
+	/**
+	 * 全ての計算パターンを測定する。<br>
+	 * @param mospParams MosP処理情報
+	 * @return 測定結果(先頭は見出し)
+	 * @throws MospException 計算に失敗した場合
+	 */
+	public List<String> run(MospParams mospParams) throws MospException {
+		List<String> report = new ArrayList<String>();
+		report.add("scenario\tunits/op\tops/s\tunits/s\tus/op\talloc B/op\talloc MB/s");
+		// 勤怠計算
+		final BenchAttendanceCalcBean calc = new BenchAttendanceCalcBean(mospParams);
+		for (String name : CalcFixture.DAILY_SCENARIOS) {
+			final CalcFixture.Scenario scenario = CalcFixture.createScenario(name,
+					DateUtility.getDate(CalcFixture.TARGET_YEAR, CalcFixture.TARGET_MONTH, 1), 1L);
+			report.add(measure("AttendanceCalc." + name, 1, new Operation() {
+				
+				@Override
+				public void run() throws MospException {
+					calc.calc(scenario);
+					sink += scenario.getAttendanceDto().getWorkTime();
+				}
+			}));
+		}
+		// 勤怠集計
+		final CalcFixture.MonthFixture month = CalcFixture.createMonth(calc);
+		final BenchTotalTimeCalcBean totalCalc = new BenchTotalTimeCalcBean(mospParams,
+				DateUtility.addDay(DateUtility.addMonth(
+						DateUtility.getDate(CalcFixture.TARGET_YEAR, CalcFixture.TARGET_MONTH, 1), 1), -1));
+		for (final int scale : TOTAL_SCALES) {
+			final String[] personalIds = new String[scale];
+			for (int i = 0; i < scale; i++) {
+				personalIds[i] = String.format("BENCH%05d", Integer.valueOf(i + 1));
+			}
+			report.add(measure("TotalTimeCalc.total[" + scale + "]", scale, new Operation() {
+				
+				@Override
+				public void run() throws MospException {
+					// 勤怠集計エンティティは個人毎に作成し、集計後は破棄する
+					for (String personalId : personalIds) {
+						TotalTimeDataDtoInterface dto = totalCalc
+							.total(CalcFixture.createTotalTimeEntity(personalId, month));
+						sink += dto.getWorkTime();
+					}
+				}
+			}));
+		}
+		report.add("(checksum " + sink + ")");
+		return report;
+	}
+	
+	/**
+	 * 計算パターンを測定する。<br>
+	 * ウォームアップの後、測定秒数が経過するまで(最低1回)処理を繰り返す。<br>
+	 * @param name      計算パターン名
+	 * @param units     1回当たりの処理単位数(人月等)
+	 * @param operation 処理
+	 * @return 測定結果
+	 * @throws MospException 計算に失敗した場合
+	 */
+	protected String measure(String name, int units, Operation operation) throws MospException {
+		// ウォームアップ
+		long warmupStart = System.nanoTime();
+		do {
+			operation.run();
+		} while (System.nanoTime() - warmupStart < warmupNanos);
+		System.gc();
+		// 測定
+		long startBytes = getAllocatedBytes();
+		long start = System.nanoTime();
+		long count = 0;
+		long elapsed;
+		do {
+			operation.run();
+			count++;
+			elapsed = System.nanoTime() - start;
+		} while (elapsed < measureNanos);
+		long bytes = startBytes < 0 ? -1L : getAllocatedBytes() - startBytes;
+		double seconds = elapsed / NANOS_PER_SECOND;
+		StringBuilder sb = new StringBuilder(name);
+		sb.append('\t').append(units);
+		sb.append('\t').append(format(count / seconds));
+		sb.append('\t').append(format(count * units / seconds));
+		sb.append('\t').append(format(elapsed / 1000D / count));
+		sb.append('\t').append(bytes < 0 ? "-" : format((double)bytes / count));
+		sb.append('\t').append(bytes < 0 ? "-" : format(bytes / BYTES_PER_MB / seconds));
+		return sb.toString();
+	}
+	
+	/**
+	 * 現在のスレッドのメモリ割当量(バイト)を取得する。<br>
+	 * 取得できない場合は、-1を返す。<br>
+	 * @return 現在のスレッドのメモリ割当量(バイト)
+	 */
+	protected long getAllocatedBytes() {
+		if (threadBean instanceof com.sun.management.ThreadMXBean == false) {
+			return -1L;
+		}
+		com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean)threadBean;
+		if (bean.isThreadAllocatedMemorySupported() == false || bean.isThreadAllocatedMemoryEnabled() == false) {
+			return -1L;
+		}
+		return bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+	
+	/**
+	 * 数値を出力用に整形する。<br>
+	 * @param value 数値
+	 * @return 整形した数値
+	 */
+	protected static String format(double value) {
+		return String.format(Locale.ROOT, "%.1f", Double.valueOf(value));
+	}
+	
+	
+	/**
+	 * 測定対象処理。<br>
+	 */
+	protected interface Operation {
+		
+		/**
+		 * 処理を1回実行する。<br>
+		 * @throws MospException 計算に失敗した場合
+		 */
+		void run() throws MospException;
+		
+	}
+	
+}
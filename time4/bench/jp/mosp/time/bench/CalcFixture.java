@@ -0,0 +1,876 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.bench;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.utils.DateUtility;
+import jp.mosp.platform.bean.workflow.WorkflowIntegrateBeanInterface;
+import jp.mosp.platform.bean.workflow.WorkflowReferenceBeanInterface;
+import jp.mosp.platform.constant.PlatformConst;
+import jp.mosp.platform.dto.workflow.WorkflowDtoInterface;
+import jp.mosp.platform.dto.workflow.impl.PftWorkflowDto;
+import jp.mosp.time.bean.ApplicationReferenceBeanInterface;
+import jp.mosp.time.bean.DifferenceRequestReferenceBeanInterface;
+import jp.mosp.time.bean.OvertimeRequestReferenceBeanInterface;
+import jp.mosp.time.bean.RequestUtilBeanInterface;
+import jp.mosp.time.bean.ScheduleDateReferenceBeanInterface;
+import jp.mosp.time.bean.ScheduleReferenceBeanInterface;
+import jp.mosp.time.bean.ScheduleUtilBeanInterface;
+import jp.mosp.time.bean.TimeSettingReferenceBeanInterface;
+import jp.mosp.time.bean.WorkOnHolidayRequestReferenceBeanInterface;
+import jp.mosp.time.bean.WorkTypeItemReferenceBeanInterface;
+import jp.mosp.time.bean.WorkTypeReferenceBeanInterface;
+import jp.mosp.time.constant.TimeConst;
+import jp.mosp.time.dto.settings.ApplicationDtoInterface;
+import jp.mosp.time.dto.settings.AttendanceDtoInterface;
+import jp.mosp.time.dto.settings.DifferenceRequestDtoInterface;
+import jp.mosp.time.dto.settings.GoOutDtoInterface;
+import jp.mosp.time.dto.settings.HolidayRequestDtoInterface;
+import jp.mosp.time.dto.settings.OvertimeRequestDtoInterface;
+import jp.mosp.time.dto.settings.RestDtoInterface;
+import jp.mosp.time.dto.settings.SubHolidayRequestDtoInterface;
+import jp.mosp.time.dto.settings.SubstituteDtoInterface;
+import jp.mosp.time.dto.settings.TimeSettingDtoInterface;
+import jp.mosp.time.dto.settings.WorkOnHolidayRequestDtoInterface;
+import jp.mosp.time.dto.settings.WorkTypeDtoInterface;
+import jp.mosp.time.dto.settings.WorkTypeItemDtoInterface;
+import jp.mosp.time.dto.settings.impl.TmdAttendanceDto;
+import jp.mosp.time.dto.settings.impl.TmdDifferenceRequestDto;
+import jp.mosp.time.dto.settings.impl.TmdGoOutDto;
+import jp.mosp.time.dto.settings.impl.TmdOvertimeRequestDto;
+import jp.mosp.time.dto.settings.impl.TmdRestDto;
+import jp.mosp.time.dto.settings.impl.TmdWorkOnHolidayRequestDto;
+import jp.mosp.time.dto.settings.impl.TmmApplicationDto;
+import jp.mosp.time.dto.settings.impl.TmmScheduleDateDto;
+import jp.mosp.time.dto.settings.impl.TmmScheduleDto;
+import jp.mosp.time.dto.settings.impl.TmmTimeSettingDto;
+import jp.mosp.time.dto.settings.impl.TmmWorkTypeDto;
+import jp.mosp.time.dto.settings.impl.TmmWorkTypeItemDto;
+import jp.mosp.time.entity.AttendanceCalcInputEntity;
+import jp.mosp.time.entity.RequestEntity;
+import jp.mosp.time.entity.TotalTimeEntity;
+import jp.mosp.time.entity.WorkTypeEntity;
+import jp.mosp.time.utils.TimeUtility;
+
+/**
+ * 計算性能測定用フィクスチャ。<br>
+ * <br>
+ * 勤怠計算及び勤怠集計に必要な各種情報(設定適用、カレンダ、勤怠設定、勤務形態、
+ * 勤怠、休憩、外出、各種申請及びワークフロー)を、DBを用いずにメモリ上に作成する。<br>
+ * <br>
+ * 勤務形態は9:00～18:00(休憩12:00～13:00、規定労働時間8時間)とし、
+ * 勤怠設定の丸めは日次が始業15分切上げ及び終業15分切捨て、月次が15分切捨てとする。<br>
+ */
+public class CalcFixture {
+	
+	/**
+	 * 計算パターン(通常勤務)。<br>
+	 * 9:00～18:00(休憩12:00～13:00、私用外出15:00～15:30)。<br>
+	 */
+	public static final String			SCENARIO_REGULAR		= "Regular";
+	
+	/**
+	 * 計算パターン(残業)。<br>
+	 * 9:00～21:00(残業申請3時間)。<br>
+	 */
+	public static final String			SCENARIO_OVERTIME		= "Overtime";
+	
+	/**
+	 * 計算パターン(深夜)。<br>
+	 * 9:00～翌0:30(残業申請6時間、深夜休憩23:00～23:15)。<br>
+	 */
+	public static final String			SCENARIO_LATE_NIGHT		= "LateNight";
+	
+	/**
+	 * 計算パターン(法定休日労働)。<br>
+	 * 法定休日の9:00～17:00(休日出勤申請、休憩12:00～13:00)。<br>
+	 */
+	public static final String			SCENARIO_HOLIDAY_WORK	= "HolidayWork";
+	
+	/**
+	 * 計算パターン(時差出勤)。<br>
+	 * 時差出勤A(8:00～17:00)の7:55～17:10。<br>
+	 * 当ツリーにはフレックスタイム制が無いため、始終業時刻が日毎に変わる勤務として時差出勤を用いる。<br>
+	 */
+	public static final String			SCENARIO_DIFFERENCE		= "Difference";
+	
+	/**
+	 * 勤怠計算の計算パターン群。
+	 */
+	public static final String[]		DAILY_SCENARIOS			= { SCENARIO_REGULAR, SCENARIO_OVERTIME,
+		SCENARIO_LATE_NIGHT, SCENARIO_HOLIDAY_WORK, SCENARIO_DIFFERENCE };
+	
+	/**
+	 * 個人ID。
+	 */
+	public static final String			PERSONAL_ID				= "BENCH00001";
+	
+	/**
+	 * 勤務形態コード。
+	 */
+	public static final String			WORK_TYPE_CODE			= "BW01";
+	
+	/**
+	 * 勤怠設定コード。
+	 */
+	public static final String			WORK_SETTING_CODE		= "BS01";
+	
+	/**
+	 * カレンダコード。
+	 */
+	public static final String			SCHEDULE_CODE			= "BC01";
+	
+	/**
+	 * 締日コード。
+	 */
+	public static final String			CUTOFF_CODE				= "BK01";
+	
+	/**
+	 * 集計年。
+	 */
+	public static final int				TARGET_YEAR				= 2026;
+	
+	/**
+	 * 集計月(1日～末日締)。
+	 */
+	public static final int				TARGET_MONTH			= 4;
+	
+	/**
+	 * 勤務形態項目値(キー：勤務形態項目コード、値：{時,分})。
+	 */
+	protected static final Object[][]	WORK_TYPE_ITEMS			= {
+		{ TimeConst.CODE_WORKSTART, new int[]{ 9, 0 } },
+		{ TimeConst.CODE_WORKEND, new int[]{ 18, 0 } },
+		{ TimeConst.CODE_WORKTIME, new int[]{ 8, 0 } },
+		{ TimeConst.CODE_RESTTIME, new int[]{ 1, 0 } },
+		{ TimeConst.CODE_RESTSTART1, new int[]{ 12, 0 } },
+		{ TimeConst.CODE_RESTEND1, new int[]{ 13, 0 } },
+		{ TimeConst.CODE_FRONTSTART, new int[]{ 9, 0 } },
+		{ TimeConst.CODE_FRONTEND, new int[]{ 12, 0 } },
+		{ TimeConst.CODE_BACKSTART, new int[]{ 13, 0 } },
+		{ TimeConst.CODE_BACKEND, new int[]{ 18, 0 } },
+		{ TimeConst.CODE_OVERBEFORE, new int[]{ 0, 0 } },
+		{ TimeConst.CODE_OVERPER, new int[]{ 2, 0 } },
+		{ TimeConst.CODE_OVERREST, new int[]{ 0, 15 } }, };
+	
+	
+	/**
+	 * 他クラスからインスタンスを生成させない。<br>
+	 */
+	private CalcFixture() {
+		// 処理無し
+	}
+	
+	/**
+	 * 計算パターンを作成する。<br>
+	 * 勤怠データは、勤怠計算前の状態(始業時刻及び終業時刻等の入力値のみ)とする。<br>
+	 * @param name     計算パターン名
+	 * @param workDate 勤務日
+	 * @param workflow 勤怠データのワークフロー番号
+	 * @return 計算パターン
+	 * @throws MospException 日付の作成に失敗した場合
+	 */
+	public static Scenario createScenario(String name, Date workDate, long workflow) throws MospException {
+		Scenario scenario = new Scenario(name, workDate);
+		// 勤怠データ
+		TmdAttendanceDto attendanceDto = new TmdAttendanceDto();
+		attendanceDto.setPersonalId(PERSONAL_ID);
+		attendanceDto.setWorkDate(workDate);
+		attendanceDto.setTimesWork(1);
+		attendanceDto.setWorkTypeCode(WORK_TYPE_CODE);
+		attendanceDto.setWorkflow(workflow);
+		// その他項目の初期化(勤怠一覧からの登録と同様)
+		attendanceDto.setTimeComment("");
+		attendanceDto.setRemarks("");
+		attendanceDto.setLateReason("");
+		attendanceDto.setLateCertificate("");
+		attendanceDto.setLateComment("");
+		attendanceDto.setLeaveEarlyReason("");
+		attendanceDto.setLeaveEarlyCertificate("");
+		attendanceDto.setLeaveEarlyComment("");
+		scenario.attendanceDto = attendanceDto;
+		// 予定勤務形態
+		scenario.scheduledWorkTypeCode = WORK_TYPE_CODE;
+		List<RestDtoInterface> restList = new ArrayList<RestDtoInterface>();
+		List<GoOutDtoInterface> goOutList = new ArrayList<GoOutDtoInterface>();
+		if (SCENARIO_REGULAR.equals(name)) {
+			setTime(attendanceDto, workDate, 8, 55, 18, 5);
+			restList.add(createRest(workDate, 1, 12, 0, 13, 0));
+			goOutList.add(createGoOut(workDate, TimeConst.CODE_GO_OUT_PRIVATE, 15, 0, 15, 30));
+		} else if (SCENARIO_OVERTIME.equals(name)) {
+			setTime(attendanceDto, workDate, 8, 50, 21, 0);
+			restList.add(createRest(workDate, 1, 12, 0, 13, 0));
+			scenario.overtimeRequestDto = createOvertimeRequest(workDate, workflow, 180);
+		} else if (SCENARIO_LATE_NIGHT.equals(name)) {
+			setTime(attendanceDto, workDate, 8, 50, 24, 30);
+			restList.add(createRest(workDate, 1, 12, 0, 13, 0));
+			restList.add(createRest(workDate, 2, 23, 0, 23, 15));
+			scenario.overtimeRequestDto = createOvertimeRequest(workDate, workflow, 360);
+		} else if (SCENARIO_HOLIDAY_WORK.equals(name)) {
+			attendanceDto.setWorkTypeCode(TimeConst.CODE_WORK_ON_LEGAL_HOLIDAY);
+			setTime(attendanceDto, workDate, 9, 0, 17, 0);
+			restList.add(createRest(workDate, 1, 12, 0, 13, 0));
+			scenario.scheduledWorkTypeCode = TimeConst.CODE_HOLIDAY_LEGAL_HOLIDAY;
+			scenario.workOnHolidayRequestDto = createWorkOnHolidayRequest(workDate, workflow);
+		} else if (SCENARIO_DIFFERENCE.equals(name)) {
+			attendanceDto.setWorkTypeCode(TimeConst.CODE_DIFFERENCE_TYPE_A);
+			setTime(attendanceDto, workDate, 7, 55, 17, 10);
+			restList.add(createRest(workDate, 1, 12, 0, 13, 0));
+			scenario.differenceRequestDto = createDifferenceRequest(workDate, workflow);
+		} else {
+			throw new IllegalArgumentException(name);
+		}
+		scenario.input = new AttendanceCalcInputEntity(restList, goOutList);
+		scenario.answers = createAnswers(scenario);
+		return scenario;
+	}
+	
+	/**
+	 * 勤怠計算で参照するBeanの応答群を作成する。<br>
+	 * @param scenario 計算パターン
+	 * @return 応答群(キー：インターフェース名.メソッド名)
+	 * @throws MospException 日付の作成に失敗した場合
+	 */
+	protected static Map<String, Object> createAnswers(final Scenario scenario) throws MospException {
+		Map<String, Object> answers = new HashMap<String, Object>();
+		final Date workDate = scenario.workDate;
+		// 設定適用、カレンダ、勤怠設定及びカレンダ日
+		put(answers, ApplicationReferenceBeanInterface.class, "findForPerson", getApplicationDto());
+		TmmScheduleDto scheduleDto = new TmmScheduleDto();
+		scheduleDto.setScheduleCode(SCHEDULE_CODE);
+		put(answers, ScheduleReferenceBeanInterface.class, "getScheduleInfo", scheduleDto);
+		put(answers, TimeSettingReferenceBeanInterface.class, "getTimeSettingInfo", getTimeSettingDto());
+		TmmScheduleDateDto scheduleDateDto = new TmmScheduleDateDto();
+		scheduleDateDto.setScheduleCode(SCHEDULE_CODE);
+		scheduleDateDto.setScheduleDate(workDate);
+		scheduleDateDto.setWorkTypeCode(scenario.scheduledWorkTypeCode);
+		put(answers, ScheduleDateReferenceBeanInterface.class, "getScheduleDateInfo", scheduleDateDto);
+		put(answers, ScheduleUtilBeanInterface.class, "getScheduledWorkTypeCode", WORK_TYPE_CODE);
+		// 勤務形態
+		put(answers, WorkTypeReferenceBeanInterface.class, "getWorkTypeEntity", new FixtureBeanHandler.Answer() {
+			
+			@Override
+			public Object answer(Object[] args) throws MospException {
+				return getWorkTypeEntity((String)args[0]);
+			}
+		});
+		put(answers, WorkTypeReferenceBeanInterface.class, "getWorkTypeInfo", new FixtureBeanHandler.Answer() {
+			
+			@Override
+			public Object answer(Object[] args) throws MospException {
+				return getWorkTypeDto((String)args[0]);
+			}
+		});
+		put(answers, WorkTypeItemReferenceBeanInterface.class, "getWorkTypeItemInfo", new FixtureBeanHandler.Answer() {
+			
+			@Override
+			public Object answer(Object[] args) throws MospException {
+				return getWorkTypeItemMap((String)args[0]).get(args[2]);
+			}
+		});
+		// 各種申請
+		put(answers, OvertimeRequestReferenceBeanInterface.class, "findForKeyOnWorkflow",
+				new FixtureBeanHandler.Answer() {
+					
+					@Override
+					public Object answer(Object[] args) {
+						OvertimeRequestDtoInterface dto = scenario.overtimeRequestDto;
+						if (dto == null || dto.getOvertimeType() != ((Integer)args[2]).intValue()) {
+							return null;
+						}
+						return dto;
+					}
+				});
+		put(answers, WorkOnHolidayRequestReferenceBeanInterface.class, "findForKeyOnWorkflow",
+				scenario.workOnHolidayRequestDto);
+		put(answers, DifferenceRequestReferenceBeanInterface.class, "findForKeyOnWorkflow",
+				scenario.differenceRequestDto);
+		put(answers, RequestUtilBeanInterface.class, "getWorkOnHolidayDto", scenario.workOnHolidayRequestDto);
+		put(answers, RequestUtilBeanInterface.class, "getRequestEntity", new FixtureBeanHandler.Answer() {
+			
+			@Override
+			public Object answer(Object[] args) {
+				return createRequestEntity(scenario);
+			}
+		});
+		// ワークフロー(全て承認済)
+		put(answers, WorkflowReferenceBeanInterface.class, "getLatestWorkflowInfo",
+				new FixtureBeanHandler.Answer() {
+					
+					@Override
+					public Object answer(Object[] args) {
+						return getWorkflowDto(((Long)args[0]).longValue());
+					}
+				});
+		put(answers, WorkflowIntegrateBeanInterface.class, "isCompleted",
+				Boolean.TRUE);
+		return answers;
+	}
+	
+	/**
+	 * 申請エンティティを作成する。<br>
+	 * @param scenario 計算パターン
+	 * @return 申請エンティティ
+	 */
+	protected static RequestEntity createRequestEntity(Scenario scenario) {
+		Map<Long, WorkflowDtoInterface> workflowMap = new HashMap<Long, WorkflowDtoInterface>();
+		long workflow = scenario.attendanceDto.getWorkflow();
+		workflowMap.put(Long.valueOf(workflow), getWorkflowDto(workflow));
+		RequestEntity entity = new RequestEntity();
+		entity.setPersonalId(PERSONAL_ID);
+		entity.setTargetDate(scenario.workDate);
+		entity.setAttendanceDto(scenario.attendanceDto);
+		entity.setWorkflowMap(workflowMap);
+		entity.setScheduledWorkTypeCode(scenario.scheduledWorkTypeCode);
+		entity.setHolidayRequestList(new ArrayList<HolidayRequestDtoInterface>());
+		entity.setSubHolidayRequestList(new ArrayList<SubHolidayRequestDtoInterface>());
+		entity.setSubstituteList(new ArrayList<SubstituteDtoInterface>());
+		List<OvertimeRequestDtoInterface> overtimeList = new ArrayList<OvertimeRequestDtoInterface>();
+		if (scenario.overtimeRequestDto != null) {
+			overtimeList.add(scenario.overtimeRequestDto);
+		}
+		entity.setOverTimeRequestList(overtimeList);
+		entity.setWorkOnHolidayRequestDto(scenario.workOnHolidayRequestDto);
+		entity.setDifferenceRequestDto(scenario.differenceRequestDto);
+		return entity;
+	}
+	
+	/**
+	 * 設定適用情報を取得する。<br>
+	 * @return 設定適用情報
+	 */
+	public static ApplicationDtoInterface getApplicationDto() {
+		TmmApplicationDto dto = new TmmApplicationDto();
+		dto.setApplicationCode("BA01");
+		dto.setApplicationType(1);
+		dto.setWorkSettingCode(WORK_SETTING_CODE);
+		dto.setScheduleCode(SCHEDULE_CODE);
+		dto.setPaidHolidayCode("BP01");
+		return dto;
+	}
+	
+	/**
+	 * 勤怠設定情報を取得する。<br>
+	 * @return 勤怠設定情報
+	 * @throws MospException 日付の作成に失敗した場合
+	 */
+	public static TimeSettingDtoInterface getTimeSettingDto() throws MospException {
+		TmmTimeSettingDto dto = new TmmTimeSettingDto();
+		dto.setWorkSettingCode(WORK_SETTING_CODE);
+		dto.setCutoffCode(CUTOFF_CODE);
+		dto.setStartDayTime(DateUtility.getTime(0, 0));
+		dto.setGeneralWorkTime(DateUtility.getTime(8, 0));
+		dto.setLateEarlyFull(DateUtility.getTime(4, 0));
+		dto.setLateEarlyHalf(DateUtility.getTime(2, 0));
+		dto.setSubHolidayAllNorm(DateUtility.getTime(8, 0));
+		dto.setSubHolidayHalfNorm(DateUtility.getTime(4, 0));
+		dto.setStartWeek(1);
+		dto.setBeforeOvertimeFlag(TimeConst.CODE_BEFORE_OVERTIME_INVALID);
+		// 日次丸め(始業15分切上げ、終業15分切捨て)
+		dto.setRoundDailyStart(2);
+		dto.setRoundDailyStartUnit(15);
+		dto.setRoundDailyEnd(1);
+		dto.setRoundDailyEndUnit(15);
+		// 月次丸め(15分切捨て)
+		dto.setRoundMonthlyWork(1);
+		dto.setRoundMonthlyWorkUnit(15);
+		dto.setRoundMonthlyRest(1);
+		dto.setRoundMonthlyRestUnit(15);
+		dto.setRoundMonthlyOvertime(1);
+		dto.setRoundMonthlyOvertimeUnit(15);
+		dto.setRoundMonthlyLate(1);
+		dto.setRoundMonthlyLateUnit(15);
+		dto.setRoundMonthlyEarly(1);
+		dto.setRoundMonthlyEarlyUnit(15);
+		return dto;
+	}
+	
+	/**
+	 * 勤務形態エンティティを取得する。<br>
+	 * 休日出勤等の勤務形態項目が無い勤務形態は、項目無しで作成する。<br>
+	 * @param workTypeCode 勤務形態コード
+	 * @return 勤務形態エンティティ
+	 * @throws MospException 日付の作成に失敗した場合
+	 */
+	public static WorkTypeEntity getWorkTypeEntity(String workTypeCode) throws MospException {
+		WorkTypeDtoInterface dto = getWorkTypeDto(workTypeCode);
+		WorkTypeEntity entity = new WorkTypeEntity();
+		entity.setWorkTypeDto(dto);
+		entity.setWorkTypeItemList(new ArrayList<WorkTypeItemDtoInterface>(getWorkTypeItemMap(workTypeCode).values()));
+		entity.setWorkTypeList(Collections.<WorkTypeDtoInterface> singletonList(dto));
+		return entity;
+	}
+	
+	/**
+	 * 勤務形態情報を取得する。<br>
+	 * @param workTypeCode 勤務形態コード
+	 * @return 勤務形態情報
+	 * @throws MospException 日付の作成に失敗した場合
+	 */
+	public static WorkTypeDtoInterface getWorkTypeDto(String workTypeCode) throws MospException {
+		TmmWorkTypeDto dto = new TmmWorkTypeDto();
+		dto.setWorkTypeCode(workTypeCode);
+		dto.setWorkTypeName(workTypeCode);
+		dto.setWorkTypeAbbr(workTypeCode);
+		dto.setActivateDate(DateUtility.getDate(2000, 1, 1));
+		return dto;
+	}
+	
+	/**
+	 * 勤務形態項目情報群を取得する。<br>
+	 * 勤務形態が{@link #WORK_TYPE_CODE}でない場合は、空の情報群を返す。<br>
+	 * @param workTypeCode 勤務形態コード
+	 * @return 勤務形態項目情報群(キー：勤務形態項目コード)
+	 * @throws MospException 日付の作成に失敗した場合
+	 */
+	public static Map<String, WorkTypeItemDtoInterface> getWorkTypeItemMap(String workTypeCode)
+			throws MospException {
+		Map<String, WorkTypeItemDtoInterface> map = new LinkedHashMap<String, WorkTypeItemDtoInterface>();
+		if (WORK_TYPE_CODE.equals(workTypeCode) == false) {
+			return map;
+		}
+		for (Object[] item : WORK_TYPE_ITEMS) {
+			int[] time = (int[])item[1];
+			TmmWorkTypeItemDto dto = new TmmWorkTypeItemDto();
+			dto.setWorkTypeCode(workTypeCode);
+			dto.setWorkTypeItemCode((String)item[0]);
+			dto.setWorkTypeItemValue(DateUtility.getTime(time[0], time[1]));
+			dto.setPreliminary("0");
+			dto.setActivateDate(DateUtility.getDate(2000, 1, 1));
+			map.put(dto.getWorkTypeItemCode(), dto);
+		}
+		return map;
+	}
+	
+	/**
+	 * ワークフロー情報(承認済)を取得する。<br>
+	 * @param workflow ワークフロー番号
+	 * @return ワークフロー情報
+	 */
+	public static WorkflowDtoInterface getWorkflowDto(long workflow) {
+		PftWorkflowDto dto = new PftWorkflowDto();
+		dto.setWorkflow(workflow);
+		dto.setPersonalId(PERSONAL_ID);
+		dto.setWorkflowStage(1);
+		dto.setWorkflowStatus(PlatformConst.CODE_STATUS_COMPLETE);
+		return dto;
+	}
+	
+	/**
+	 * 集計月の勤怠情報を作成する。<br>
+	 * <br>
+	 * 平日は通常勤務、残業、深夜及び時差出勤を順に繰り返し、
+	 * 土曜日は所定休日、日曜日は法定休日とする。<br>
+	 * 但し、最初の日曜日は法定休日労働とする。<br>
+	 * 勤怠データは、勤怠計算クラスで自動計算した結果を用いる。<br>
+	 * @param calc 勤怠計算クラス
+	 * @return 集計月の勤怠情報
+	 * @throws MospException 勤怠計算に失敗した場合
+	 */
+	public static MonthFixture createMonth(BenchAttendanceCalcBean calc) throws MospException {
+		MonthFixture month = new MonthFixture();
+		month.firstDate = DateUtility.getDate(TARGET_YEAR, TARGET_MONTH, 1);
+		month.lastDate = DateUtility.addDay(DateUtility.addMonth(month.firstDate, 1), -1);
+		month.targetDateList = TimeUtility.getDateList(month.firstDate, month.lastDate);
+		TimeSettingDtoInterface timeSettingDto = getTimeSettingDto();
+		ApplicationDtoInterface applicationDto = getApplicationDto();
+		String[] weekdayScenarios = { SCENARIO_REGULAR, SCENARIO_OVERTIME, SCENARIO_LATE_NIGHT, SCENARIO_DIFFERENCE };
+		int weekdays = 0;
+		boolean isHolidayWorked = false;
+		long workflow = 0L;
+		for (Date targetDate : month.targetDateList) {
+			month.timeSettingMap.put(targetDate, timeSettingDto);
+			month.applicationMap.put(targetDate, applicationDto);
+			String scenarioName = null;
+			if (DateUtility.isSaturday(targetDate)) {
+				month.scheduleMap.put(targetDate, TimeConst.CODE_HOLIDAY_PRESCRIBED_HOLIDAY);
+			} else if (DateUtility.isSunday(targetDate)) {
+				month.scheduleMap.put(targetDate, TimeConst.CODE_HOLIDAY_LEGAL_HOLIDAY);
+				if (isHolidayWorked == false) {
+					scenarioName = SCENARIO_HOLIDAY_WORK;
+					isHolidayWorked = true;
+				}
+			} else {
+				month.scheduleMap.put(targetDate, WORK_TYPE_CODE);
+				scenarioName = weekdayScenarios[weekdays++ % weekdayScenarios.length];
+			}
+			if (scenarioName == null) {
+				continue;
+			}
+			// 勤怠計算
+			Scenario scenario = createScenario(scenarioName, targetDate, ++workflow);
+			calc.calc(scenario);
+			month.attendanceList.add(scenario.attendanceDto);
+			month.workflowMap.put(Long.valueOf(workflow), getWorkflowDto(workflow));
+			if (scenario.overtimeRequestDto != null) {
+				month.overtimeRequestList.add(scenario.overtimeRequestDto);
+			}
+			if (scenario.workOnHolidayRequestDto != null) {
+				month.workOnHolidayRequestList.add(scenario.workOnHolidayRequestDto);
+			}
+			if (scenario.differenceRequestDto != null) {
+				month.differenceRequestList.add(scenario.differenceRequestDto);
+			}
+		}
+		month.workTypeEntityMap.put(WORK_TYPE_CODE,
+				Collections.singletonList(getWorkTypeEntity(WORK_TYPE_CODE)));
+		return month;
+	}
+	
+	/**
+	 * 勤怠集計エンティティを作成する。<br>
+	 * 集計月の勤怠情報は、各勤怠集計エンティティで共有する(勤怠集計では参照のみ行う)。<br>
+	 * @param personalId 個人ID
+	 * @param month      集計月の勤怠情報
+	 * @return 勤怠集計エンティティ
+	 */
+	public static TotalTimeEntity createTotalTimeEntity(String personalId, MonthFixture month) {
+		TotalTimeEntity entity = new TotalTimeEntity();
+		entity.setPersonalId(personalId);
+		entity.setCalculationYear(TARGET_YEAR);
+		entity.setCalculationMonth(TARGET_MONTH);
+		entity.setCutoffCode(CUTOFF_CODE);
+		entity.setCutoffFirstDate(month.firstDate);
+		entity.setCutoffLastDate(month.lastDate);
+		entity.setTargetDateList(month.targetDateList);
+		entity.setApplicationMap(month.applicationMap);
+		entity.setTimeSettingMap(month.timeSettingMap);
+		entity.setScheduleMap(month.scheduleMap);
+		entity.setAttendanceList(month.attendanceList);
+		entity.setOvertimeRequestList(month.overtimeRequestList);
+		entity.setWorkOnHolidayRequestList(month.workOnHolidayRequestList);
+		entity.setDifferenceRequestList(month.differenceRequestList);
+		entity.setWorkflowMap(month.workflowMap);
+		entity.setWorkTypeEntityMap(month.workTypeEntityMap);
+		return entity;
+	}
+	
+	/**
+	 * 応答を設定する。<br>
+	 * @param answers    応答群
+	 * @param cls        対象Beanインターフェース
+	 * @param methodName メソッド名
+	 * @param answer     応答
+	 */
+	protected static void put(Map<String, Object> answers, Class<?> cls, String methodName, Object answer) {
+		if (answer == null) {
+			return;
+		}
+		answers.put(FixtureBeanHandler.getKey(cls, methodName), answer);
+	}
+	
+	/**
+	 * 勤怠データに始業時刻及び終業時刻を設定する。<br>
+	 * 終業時が24以上の場合は、翌日の時刻とする。<br>
+	 * @param dto         勤怠データ
+	 * @param workDate    勤務日
+	 * @param startHour   始業時
+	 * @param startMinute 始業分
+	 * @param endHour     終業時
+	 * @param endMinute   終業分
+	 */
+	protected static void setTime(AttendanceDtoInterface dto, Date workDate, int startHour, int startMinute,
+			int endHour, int endMinute) {
+		Date startTime = getTime(workDate, startHour, startMinute);
+		Date endTime = getTime(workDate, endHour, endMinute);
+		dto.setStartTime(startTime);
+		dto.setActualStartTime(startTime);
+		dto.setEndTime(endTime);
+		dto.setActualEndTime(endTime);
+	}
+	
+	/**
+	 * 勤務日の時刻を取得する。<br>
+	 * 時が24以上の場合は、翌日の時刻とする。<br>
+	 * @param workDate 勤務日
+	 * @param hour     時
+	 * @param minute   分
+	 * @return 時刻
+	 */
+	protected static Date getTime(Date workDate, int hour, int minute) {
+		return DateUtility.addMinute(workDate, hour * TimeConst.CODE_DEFINITION_HOUR + minute);
+	}
+	
+	/**
+	 * 休憩情報を作成する。<br>
+	 * @param workDate    勤務日
+	 * @param rest        休憩回数
+	 * @param startHour   休憩開始時
+	 * @param startMinute 休憩開始分
+	 * @param endHour     休憩終了時
+	 * @param endMinute   休憩終了分
+	 * @return 休憩情報
+	 */
+	protected static RestDtoInterface createRest(Date workDate, int rest, int startHour, int startMinute,
+			int endHour, int endMinute) {
+		TmdRestDto dto = new TmdRestDto();
+		dto.setPersonalId(PERSONAL_ID);
+		dto.setWorkDate(workDate);
+		dto.setTimesWork(1);
+		dto.setRest(rest);
+		dto.setRestStart(getTime(workDate, startHour, startMinute));
+		dto.setRestEnd(getTime(workDate, endHour, endMinute));
+		dto.setRestTime((endHour - startHour) * TimeConst.CODE_DEFINITION_HOUR + endMinute - startMinute);
+		return dto;
+	}
+	
+	/**
+	 * 外出情報を作成する。<br>
+	 * @param workDate    勤務日
+	 * @param goOutType   外出区分
+	 * @param startHour   外出開始時
+	 * @param startMinute 外出開始分
+	 * @param endHour     外出終了時
+	 * @param endMinute   外出終了分
+	 * @return 外出情報
+	 */
+	protected static GoOutDtoInterface createGoOut(Date workDate, int goOutType, int startHour, int startMinute,
+			int endHour, int endMinute) {
+		TmdGoOutDto dto = new TmdGoOutDto();
+		dto.setPersonalId(PERSONAL_ID);
+		dto.setWorkDate(workDate);
+		dto.setTimesWork(1);
+		dto.setGoOutType(goOutType);
+		dto.setTimesGoOut(1);
+		dto.setGoOutStart(getTime(workDate, startHour, startMinute));
+		dto.setGoOutEnd(getTime(workDate, endHour, endMinute));
+		dto.setGoOutTime((endHour - startHour) * TimeConst.CODE_DEFINITION_HOUR + endMinute - startMinute);
+		return dto;
+	}
+	
+	/**
+	 * 残業申請(勤務後残業)を作成する。<br>
+	 * @param workDate    勤務日
+	 * @param workflow    ワークフロー番号
+	 * @param requestTime 申請時間(分)
+	 * @return 残業申請
+	 */
+	protected static OvertimeRequestDtoInterface createOvertimeRequest(Date workDate, long workflow,
+			int requestTime) {
+		TmdOvertimeRequestDto dto = new TmdOvertimeRequestDto();
+		dto.setPersonalId(PERSONAL_ID);
+		dto.setRequestDate(workDate);
+		dto.setTimesWork(1);
+		dto.setOvertimeType(2);
+		dto.setRequestTime(requestTime);
+		dto.setWorkflow(workflow);
+		return dto;
+	}
+	
+	/**
+	 * 休日出勤申請(振替無し)を作成する。<br>
+	 * @param workDate 勤務日
+	 * @param workflow ワークフロー番号
+	 * @return 休日出勤申請
+	 */
+	protected static WorkOnHolidayRequestDtoInterface createWorkOnHolidayRequest(Date workDate, long workflow) {
+		TmdWorkOnHolidayRequestDto dto = new TmdWorkOnHolidayRequestDto();
+		dto.setPersonalId(PERSONAL_ID);
+		dto.setRequestDate(workDate);
+		dto.setTimesWork(1);
+		dto.setStartTime(getTime(workDate, 9, 0));
+		dto.setEndTime(getTime(workDate, 17, 0));
+		dto.setSubstitute(TimeConst.CODE_WORK_ON_HOLIDAY_SUBSTITUTE_OFF);
+		dto.setWorkOnHolidayType(TimeConst.CODE_HOLIDAY_LEGAL_HOLIDAY);
+		dto.setWorkflow(workflow);
+		return dto;
+	}
+	
+	/**
+	 * 時差出勤申請(時差出勤A)を作成する。<br>
+	 * @param workDate 勤務日
+	 * @param workflow ワークフロー番号
+	 * @return 時差出勤申請
+	 */
+	protected static DifferenceRequestDtoInterface createDifferenceRequest(Date workDate, long workflow) {
+		TmdDifferenceRequestDto dto = new TmdDifferenceRequestDto();
+		dto.setPersonalId(PERSONAL_ID);
+		dto.setRequestDate(workDate);
+		dto.setTimesWork(1);
+		dto.setDifferenceType(TimeConst.CODE_DIFFERENCE_TYPE_A);
+		dto.setWorkTypeCode(WORK_TYPE_CODE);
+		dto.setRequestStart(getTime(workDate, 8, 0));
+		dto.setRequestEnd(getTime(workDate, 17, 0));
+		dto.setWorkflow(workflow);
+		return dto;
+	}
+	
+	
+	/**
+	 * 勤怠計算の計算パターン。<br>
+	 * 勤怠データ、勤怠計算入力情報及び参照Beanの応答群を保持する。<br>
+	 */
+	public static class Scenario {
+		
+		/**
+		 * 計算パターン名。
+		 */
+		protected final String						name;
+		
+		/**
+		 * 勤務日。
+		 */
+		protected final Date						workDate;
+		
+		/**
+		 * 予定勤務形態コード。
+		 */
+		protected String							scheduledWorkTypeCode;
+		
+		/**
+		 * 勤怠データ。
+		 */
+		protected AttendanceDtoInterface			attendanceDto;
+		
+		/**
+		 * 勤怠計算入力情報。
+		 */
+		protected AttendanceCalcInputEntity			input;
+		
+		/**
+		 * 残業申請。
+		 */
+		protected OvertimeRequestDtoInterface		overtimeRequestDto;
+		
+		/**
+		 * 休日出勤申請。
+		 */
+		protected WorkOnHolidayRequestDtoInterface	workOnHolidayRequestDto;
+		
+		/**
+		 * 時差出勤申請。
+		 */
+		protected DifferenceRequestDtoInterface		differenceRequestDto;
+		
+		/**
+		 * 参照Beanの応答群。
+		 */
+		protected Map<String, Object>				answers;
+		
+		
+		/**
+		 * コンストラクタ。<br>
+		 * @param name     計算パターン名
+		 * @param workDate 勤務日
+		 */
+		protected Scenario(String name, Date workDate) {
+			this.name = name;
+			this.workDate = workDate;
+		}
+		
+		/**
+		 * @return 計算パターン名
+		 */
+		public String getName() {
+			return name;
+		}
+		
+		/**
+		 * @return 勤怠データ
+		 */
+		public AttendanceDtoInterface getAttendanceDto() {
+			return attendanceDto;
+		}
+		
+	}
+	
+	/**
+	 * 集計月の勤怠情報。<br>
+	 * 勤怠集計エンティティに設定する情報を保持する。<br>
+	 */
+	public static class MonthFixture {
+		
+		/**
+		 * 締期間初日。
+		 */
+		protected Date										firstDate;
+		
+		/**
+		 * 締期間最終日。
+		 */
+		protected Date										lastDate;
+		
+		/**
+		 * 対象日リスト。
+		 */
+		protected List<Date>								targetDateList;
+		
+		/**
+		 * 設定適用情報群。
+		 */
+		protected Map<Date, ApplicationDtoInterface>		applicationMap				= new HashMap<Date, ApplicationDtoInterface>();
+		
+		/**
+		 * 勤怠設定情報群。
+		 */
+		protected Map<Date, TimeSettingDtoInterface>		timeSettingMap				= new HashMap<Date, TimeSettingDtoInterface>();
+		
+		/**
+		 * 予定勤務形態群。
+		 */
+		protected Map<Date, String>							scheduleMap					= new HashMap<Date, String>();
+		
+		/**
+		 * 勤怠データリスト。
+		 */
+		protected List<AttendanceDtoInterface>				attendanceList				= new ArrayList<AttendanceDtoInterface>();
+		
+		/**
+		 * 残業申請リスト。
+		 */
+		protected List<OvertimeRequestDtoInterface>			overtimeRequestList			= new ArrayList<OvertimeRequestDtoInterface>();
+		
+		/**
+		 * 休日出勤申請リスト。
+		 */
+		protected List<WorkOnHolidayRequestDtoInterface>	workOnHolidayRequestList	= new ArrayList<WorkOnHolidayRequestDtoInterface>();
+		
+		/**
+		 * 時差出勤申請リスト。
+		 */
+		protected List<DifferenceRequestDtoInterface>		differenceRequestList		= new ArrayList<DifferenceRequestDtoInterface>();
+		
+		/**
+		 * ワークフロー情報群。
+		 */
+		protected Map<Long, WorkflowDtoInterface>			workflowMap					= new HashMap<Long, WorkflowDtoInterface>();
+		
+		/**
+		 * 勤務形態エンティティ群。
+		 */
+		protected Map<String, List<WorkTypeEntity>>			workTypeEntityMap			= new HashMap<String, List<WorkTypeEntity>>();
+		
+		
+		/**
+		 * @return 勤怠データリスト
+		 */
+		public List<AttendanceDtoInterface> getAttendanceList() {
+			return attendanceList;
+		}
+		
+	}
+	
+}
@@ -0,0 +1,130 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jp.mosp.framework.base.MospException;
+
+/**
+ * SQL作成性能測定。<br>
+ * <br>
+ * DBに接続せず、{@link BenchAttendanceDao}を用いて、
+ * 勤怠データDAOの挿入、更新及び全件検索SQLとテーブル名を取得する処理の
+ * 処理速度及びメモリ割当量を測定する。<br>
+ * DAOメタ情報を用いない場合(呼出毎にリフレクション)と用いる場合(DAOクラス毎に保持)を比較し、
+ * 両者で作成されるSQLが一致することも確認する。<br>
+ * 測定方法及び出力形式は、{@link CalcBenchmark}と同じとする。<br>
+ * <br>
+ * 実行方法(time4ディレクトリで、src及びbenchをコンパイルしたクラスパスを指定)：<br>
+ * <pre>
+ * java -cp classes:WEB-INF/lib/* jp.mosp.time.bench.DaoQueryBenchmark [測定秒数] [ウォームアップ秒数]
+ * </pre>
+ */
+public class DaoQueryBenchmark {
+	
+	/**
+	 * 測定クラス。
+	 */
+	protected final CalcBenchmark	benchmark;
+	
+	/**
+	 * 取得結果の集約値。<br>
+	 * 取得結果を参照し、処理が最適化で除去されないようにする。<br>
+	 */
+	protected long					sink;
+	
+	
+	/**
+	 * コンストラクタ。<br>
+	 * @param measureSeconds 測定秒数
+	 * @param warmupSeconds  ウォームアップ秒数
+	 */
+	public DaoQueryBenchmark(int measureSeconds, int warmupSeconds) {
+		benchmark = new CalcBenchmark(measureSeconds, warmupSeconds);
+	}
+	
+	/**
+	 * SQL作成性能を測定する。<br>
+	 * @param args 測定秒数、ウォームアップ秒数
+	 * @throws MospException SQLの作成に失敗した場合
+	 */
+	public static void main(String[] args) throws MospException {
+		int measureSeconds = args.length > 0 ? Integer.parseInt(args[0]) : CalcBenchmark.DEFAULT_MEASURE_SECONDS;
+		int warmupSeconds = args.length > 1 ? Integer.parseInt(args[1]) : CalcBenchmark.DEFAULT_WARMUP_SECONDS;
+		List<String> report = new DaoQueryBenchmark(measureSeconds, warmupSeconds).run();
+		for (String line : report) {
+			System.out.println(line);
+		}
+	}
+	
+	/**
+	 * DAOメタ情報を用いない場合及び用いる場合を測定する。<br>
+	 * @return 測定結果(先頭は見出し)
+	 * @throws MospException SQLの作成に失敗した場合
+	 */
+	public List<String> run() throws MospException {
+		BenchAttendanceDao reflectDao = new BenchAttendanceDao(false);
+		BenchAttendanceDao metadataDao = new BenchAttendanceDao(true);
+		// 作成されるSQLが一致することを確認
+		if (getQueries(reflectDao).equals(getQueries(metadataDao)) == false) {
+			throw new IllegalStateException("SQL mismatch:" + getQueries(reflectDao) + getQueries(metadataDao));
+		}
+		List<String> report = new ArrayList<String>();
+		report.add("scenario\tunits/op\tops/s\tunits/s\tus/op\talloc B/op\talloc MB/s");
+		report.add(benchmark.measure("DaoQuery.reflect", 1, getOperation(reflectDao)));
+		report.add(benchmark.measure("DaoQuery.metadata", 1, getOperation(metadataDao)));
+		report.add("(checksum " + sink + ")");
+		return report;
+	}
+	
+	/**
+	 * 測定対象処理を取得する。<br>
+	 * @param dao 測定用DAO
+	 * @return 測定対象処理
+	 */
+	protected CalcBenchmark.Operation getOperation(final BenchAttendanceDao dao) {
+		return new CalcBenchmark.Operation() {
+			
+			@Override
+			public void run() throws MospException {
+				sink += dao.getInsertQuery().length();
+				sink += dao.getUpdateQuery().length();
+				sink += dao.getSelectQuery().length();
+				sink += dao.getTable().length();
+			}
+		};
+	}
+	
+	/**
+	 * 測定対象のSQL及びテーブル名を取得する。<br>
+	 * @param dao 測定用DAO
+	 * @return SQL及びテーブル名
+	 * @throws MospException SQLの作成に失敗した場合
+	 */
+	protected List<String> getQueries(BenchAttendanceDao dao) throws MospException {
+		List<String> list = new ArrayList<String>();
+		list.add(dao.getInsertQuery());
+		list.add(dao.getUpdateQuery());
+		list.add(dao.getSelectQuery());
+		list.add(dao.getTable());
+		return list;
+	}
+	
+}
@@ -0,0 +1,207 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.bench;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jp.mosp.framework.base.BaseBeanInterface;
+import jp.mosp.framework.base.MospException;
+
+/**
+ * 計算性能測定用Bean代替クラス。<br>
+ * <br>
+ * 計算処理が参照するBean(参照クラスや申請ユーティリティ等)の代わりに、
+ * メモリ上の固定データ(フィクスチャ)を返す動的プロキシを作成する。<br>
+ * DBに接続せずに計算処理を実行するために用いる。<br>
+ * <br>
+ * 応答は「インターフェース名.メソッド名」毎に設定する。<br>
+ * 応答が設定されていないメソッドは、戻り値の型に応じて
+ * 空のコレクション、false、0或いはnullを返す。<br>
+ * 応答は計算パターン毎に差し替えられるため、作成済のプロキシはそのまま使い続けられる。<br>
+ */
+public class FixtureBeanHandler implements InvocationHandler {
+	
+	/**
+	 * 応答群(キー：インターフェース名.メソッド名)。
+	 */
+	protected Map<String, Object> answers;
+	
+	
+	/**
+	 * コンストラクタ。<br>
+	 */
+	public FixtureBeanHandler() {
+		answers = new HashMap<String, Object>();
+	}
+	
+	/**
+	 * 応答群を設定する。<br>
+	 * @param answers 応答群(キー：インターフェース名.メソッド名)
+	 */
+	public void setAnswers(Map<String, Object> answers) {
+		this.answers = answers;
+	}
+	
+	/**
+	 * 応答群を取得する。<br>
+	 * @return 応答群(キー：インターフェース名.メソッド名)
+	 */
+	public Map<String, Object> getAnswers() {
+		return answers;
+	}
+	
+	/**
+	 * 対象Beanインターフェースのプロキシを作成する。<br>
+	 * プロキシは、対象Beanインターフェースに加えて{@link BaseBeanInterface}を実装する。<br>
+	 * @param cls 対象Beanインターフェース
+	 * @return プロキシ
+	 */
+	public BaseBeanInterface createProxy(Class<?> cls) {
+		Class<?>[] interfaces = new Class<?>[]{ cls };
+		if (BaseBeanInterface.class.isAssignableFrom(cls) == false) {
+			interfaces = new Class<?>[]{ cls, BaseBeanInterface.class };
+		}
+		return (BaseBeanInterface)Proxy.newProxyInstance(cls.getClassLoader(), interfaces, this);
+	}
+	
+	/**
+	 * 応答キーを取得する。<br>
+	 * @param cls        対象Beanインターフェース
+	 * @param methodName メソッド名
+	 * @return 応答キー
+	 */
+	public static String getKey(Class<?> cls, String methodName) {
+		return cls.getSimpleName() + "." + methodName;
+	}
+	
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		// Objectのメソッドの場合
+		if (method.getDeclaringClass() == Object.class) {
+			return invokeObjectMethod(proxy, method, args);
+		}
+		// 応答を取得
+		Object answer = findAnswer(proxy.getClass().getInterfaces(), method.getName());
+		// 応答が処理の場合
+		if (answer instanceof Answer) {
+			return ((Answer)answer).answer(args);
+		}
+		// 応答が設定されている場合
+		if (answer != null) {
+			return answer;
+		}
+		// 戻り値の型に応じた既定値を取得
+		return getDefault(method.getReturnType());
+	}
+	
+	/**
+	 * 応答を取得する。<br>
+	 * @param interfaces プロキシが実装するインターフェース群
+	 * @param methodName メソッド名
+	 * @return 応答(設定されていない場合はnull)
+	 */
+	protected Object findAnswer(Class<?>[] interfaces, String methodName) {
+		for (Class<?> cls : interfaces) {
+			Object answer = answers.get(getKey(cls, methodName));
+			if (answer != null) {
+				return answer;
+			}
+		}
+		return null;
+	}
+	
+	/**
+	 * Objectのメソッドを処理する。<br>
+	 * @param proxy  プロキシ
+	 * @param method メソッド
+	 * @param args   引数
+	 * @return 処理結果
+	 */
+	protected Object invokeObjectMethod(Object proxy, Method method, Object[] args) {
+		if (method.getName().equals("equals")) {
+			return Boolean.valueOf(proxy == args[0]);
+		}
+		if (method.getName().equals("hashCode")) {
+			return Integer.valueOf(System.identityHashCode(proxy));
+		}
+		return proxy.getClass().getInterfaces()[0].getSimpleName() + "(fixture)";
+	}
+	
+	/**
+	 * 戻り値の型に応じた既定値を取得する。<br>
+	 * @param type 戻り値の型
+	 * @return 既定値
+	 */
+	protected Object getDefault(Class<?> type) {
+		if (type == boolean.class) {
+			return Boolean.FALSE;
+		}
+		if (type == int.class) {
+			return Integer.valueOf(0);
+		}
+		if (type == long.class) {
+			return Long.valueOf(0L);
+		}
+		if (type == float.class) {
+			return Float.valueOf(0F);
+		}
+		if (type == double.class) {
+			return Double.valueOf(0D);
+		}
+		if (type.isAssignableFrom(List.class)) {
+			return new ArrayList<Object>();
+		}
+		if (type.isAssignableFrom(Set.class)) {
+			return new HashSet<Object>();
+		}
+		if (type.isAssignableFrom(Map.class)) {
+			return new HashMap<Object, Object>();
+		}
+		if (type.isAssignableFrom(Collection.class)) {
+			return new ArrayList<Object>();
+		}
+		return null;
+	}
+	
+	
+	/**
+	 * 引数に応じた応答。<br>
+	 * 引数によって返す値が変わる場合や、呼出毎に新しいインスタンスを返す場合に用いる。<br>
+	 */
+	public interface Answer {
+		
+		/**
+		 * 応答を取得する。<br>
+		 * @param args 引数
+		 * @return 応答
+		 * @throws MospException 応答の作成に失敗した場合
+		 */
+		Object answer(Object[] args) throws MospException;
+		
+	}
+	
+}
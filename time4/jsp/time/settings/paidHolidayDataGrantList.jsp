@@ -150,6 +150,7 @@ if (!vo.getList().isEmpty()) {
 	</span>
 	<span class="TableButtonSpan">
 		<button type="button" id="btStockHoliday" class="Name8Button" onclick="submitRegist(event, 'paidHolidayDataSearch', null, '<%= PaidHolidayDataGrantListAction.CMD_OTHER_BATCH_UPDATE2 %>');"><%= params.getName("Stock", "Vacation", "Giving") %></button>
+		<button type="button" id="btPaidHolidayBalance" class="Name8Button" onclick="submitRegist(event, 'paidHolidayDataSearch', null, '<%= PaidHolidayDataGrantListAction.CMD_OTHER_BATCH_UPDATE3 %>');"><%= params.getName("PaidHolidayBalance", "Repair") %></button>
 	</span>
 </div>
 <%
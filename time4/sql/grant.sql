@@ -34,6 +34,7 @@ pft_workflow,
 pft_workflow_comment,
 pft_message,
 pft_sub_approver,
+pft_mail_outbox,
 pfm_route_application,
 pfm_import,
 pfa_import_field,
@@ -79,6 +80,7 @@ pfm_approval_route_id_seq,
 pfa_approval_route_unit_id_seq,
 pft_message_id_seq,
 pft_sub_approver_id_seq,
+pft_mail_outbox_id_seq,
 pfm_route_application_id_seq,
 pfm_import_id_seq,
 pfa_import_field_id_seq,
@@ -5,6 +5,7 @@ tmd_allowance,
 tmd_rest,
 tmd_go_out,
 tmd_time_record,
+tmd_time_record_queue,
 tmd_total_time,
 tmd_total_time_correction,
 tmd_total_leave,
@@ -33,6 +34,7 @@ tmm_stock_holiday,
 tmm_holiday,
 tmd_holiday,
 tmd_paid_holiday,
+tmd_paid_holiday_balance,
 tmt_paid_holiday,
 tmd_stock_holiday,
 tmt_stock_holiday,
@@ -54,6 +56,7 @@ tmd_allowance_id_seq,
 tmd_rest_id_seq,
 tmd_go_out_id_seq,
 tmd_time_record_id_seq,
+tmd_time_record_queue_id_seq,
 tmd_total_time_id_seq,
 tmd_total_time_correction_id_seq,
 tmd_total_leave_id_seq,
@@ -84,6 +87,7 @@ tmm_stock_holiday_id_seq,
 tmm_holiday_id_seq,
 tmd_holiday_id_seq,
 tmd_paid_holiday_id_seq,
+tmd_paid_holiday_balance_id_seq,
 tmt_paid_holiday_id_seq,
 tmd_stock_holiday_id_seq,
 tmt_stock_holiday_id_seq,
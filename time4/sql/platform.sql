@@ -1177,6 +1177,44 @@ COMMENT ON COLUMN pft_sub_approver.update_date IS '更新日';
 COMMENT ON COLUMN pft_sub_approver.update_user IS '更新者';
 
 
+CREATE TABLE pft_mail_outbox
+(
+  pft_mail_outbox_id bigint NOT NULL DEFAULT 0,
+  server_type character varying(20) NOT NULL DEFAULT ''::character varying,
+  recipients text NOT NULL DEFAULT ''::character varying,
+  subject character varying(255) NOT NULL DEFAULT ''::character varying,
+  message text NOT NULL DEFAULT ''::character varying,
+  send_status integer NOT NULL DEFAULT 0,
+  retry_count integer NOT NULL DEFAULT 0,
+  next_send_time timestamp without time zone NOT NULL,
+  error_message character varying(500) NOT NULL DEFAULT ''::character varying,
+  sent_count integer NOT NULL DEFAULT 0,
+  delete_flag integer NOT NULL DEFAULT 0,
+  insert_date timestamp without time zone NOT NULL,
+  insert_user character varying(50) NOT NULL DEFAULT ''::character varying,
+  update_date timestamp without time zone NOT NULL,
+  update_user character varying(50) NOT NULL DEFAULT ''::character varying,
+  CONSTRAINT pft_mail_outbox_pkey PRIMARY KEY (pft_mail_outbox_id)
+)
+;
+COMMENT ON TABLE pft_mail_outbox IS 'メール送信待ちテーブル';
+COMMENT ON COLUMN pft_mail_outbox.pft_mail_outbox_id IS 'レコード識別ID';
+COMMENT ON COLUMN pft_mail_outbox.server_type IS '送信サーバ区分';
+COMMENT ON COLUMN pft_mail_outbox.recipients IS '受信者メールアドレス';
+COMMENT ON COLUMN pft_mail_outbox.subject IS 'メール題目';
+COMMENT ON COLUMN pft_mail_outbox.message IS 'メッセージ';
+COMMENT ON COLUMN pft_mail_outbox.send_status IS '送信状況';
+COMMENT ON COLUMN pft_mail_outbox.retry_count IS '再送回数';
+COMMENT ON COLUMN pft_mail_outbox.next_send_time IS '次回送信日時';
+COMMENT ON COLUMN pft_mail_outbox.error_message IS 'エラーメッセージ';
+COMMENT ON COLUMN pft_mail_outbox.sent_count IS '送信済受信者数';
+COMMENT ON COLUMN pft_mail_outbox.delete_flag IS '削除フラグ';
+COMMENT ON COLUMN pft_mail_outbox.insert_date IS '登録日';
+COMMENT ON COLUMN pft_mail_outbox.insert_user IS '登録者';
+COMMENT ON COLUMN pft_mail_outbox.update_date IS '更新日';
+COMMENT ON COLUMN pft_mail_outbox.update_user IS '更新者';
+
+
 CREATE TABLE pfm_route_application
 (
   pfm_route_application_id bigint NOT NULL DEFAULT 0,
@@ -1400,6 +1438,7 @@ CREATE SEQUENCE pfm_approval_route_id_seq;
 CREATE SEQUENCE pfa_approval_route_unit_id_seq;
 CREATE SEQUENCE pft_message_id_seq;
 CREATE SEQUENCE pft_sub_approver_id_seq;
+CREATE SEQUENCE pft_mail_outbox_id_seq;
 CREATE SEQUENCE pfm_route_application_id_seq;
 CREATE SEQUENCE pfm_import_id_seq;
 CREATE SEQUENCE pfa_import_field_id_seq;
@@ -1450,10 +1489,12 @@ CREATE INDEX pfm_section_index1 ON pfm_section(section_code, activate_date);
 CREATE INDEX pfm_user_index1 ON pfm_user(user_id, activate_date);
 CREATE INDEX pfm_work_place_index1 ON pfm_work_place(work_place_code, activate_date);
 CREATE INDEX pft_message_index1 ON pft_message(message_no, start_date, end_date);
+CREATE INDEX pft_mail_outbox_index1 ON pft_mail_outbox(send_status, next_send_time);
 CREATE INDEX pft_sub_approver_index1 ON pft_sub_approver(start_date, end_date, sub_approver_id);
 CREATE INDEX pft_workflow_index1 ON pft_workflow(workflow);
 CREATE INDEX pft_workflow_index2 ON pft_workflow(workflow_status);
 CREATE INDEX pft_workflow_index3 ON pft_workflow(personal_id);
+CREATE INDEX pft_workflow_index4 ON pft_workflow(route_code, workflow_stage);
 CREATE INDEX pft_workflow_comment_index1 ON pft_workflow_comment(workflow);
 CREATE INDEX pfm_app_property_index1 ON pfm_app_property(delete_flag, app_key);
 
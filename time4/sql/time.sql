@@ -391,6 +391,35 @@ COMMENT ON COLUMN tmd_time_record.insert_user IS '登録者';
 COMMENT ON COLUMN tmd_time_record.update_date IS '更新日';
 COMMENT ON COLUMN tmd_time_record.update_user IS '更新者';
 
+CREATE TABLE tmd_time_record_queue
+(
+  tmd_time_record_queue_id bigint NOT NULL DEFAULT 0,
+  personal_id character varying(10) NOT NULL DEFAULT ''::character varying,
+  record_type character varying(20) NOT NULL DEFAULT ''::character varying,
+  record_time timestamp without time zone NOT NULL,
+  record_status integer NOT NULL DEFAULT 0,
+  error_message character varying(500) NOT NULL DEFAULT ''::character varying,
+  delete_flag integer NOT NULL DEFAULT 0,
+  insert_date timestamp without time zone NOT NULL,
+  insert_user character varying(50) NOT NULL DEFAULT ''::character varying,
+  update_date timestamp without time zone NOT NULL,
+  update_user character varying(50) NOT NULL DEFAULT ''::character varying,
+  CONSTRAINT tmd_time_record_queue_pkey PRIMARY KEY (tmd_time_record_queue_id)
+)
+;
+COMMENT ON TABLE tmd_time_record_queue IS '打刻受付データ';
+COMMENT ON COLUMN tmd_time_record_queue.tmd_time_record_queue_id IS 'レコード識別ID';
+COMMENT ON COLUMN tmd_time_record_queue.personal_id IS '個人ID';
+COMMENT ON COLUMN tmd_time_record_queue.record_type IS '打刻区分';
+COMMENT ON COLUMN tmd_time_record_queue.record_time IS '打刻時刻';
+COMMENT ON COLUMN tmd_time_record_queue.record_status IS '反映状況';
+COMMENT ON COLUMN tmd_time_record_queue.error_message IS 'エラーメッセージ';
+COMMENT ON COLUMN tmd_time_record_queue.delete_flag IS '削除フラグ';
+COMMENT ON COLUMN tmd_time_record_queue.insert_date IS '登録日';
+COMMENT ON COLUMN tmd_time_record_queue.insert_user IS '登録者';
+COMMENT ON COLUMN tmd_time_record_queue.update_date IS '更新日';
+COMMENT ON COLUMN tmd_time_record_queue.update_user IS '更新者';
+
 CREATE TABLE tmd_total_time
 (
   tmd_total_time_id bigint NOT NULL DEFAULT 0,
@@ -1829,6 +1858,55 @@ COMMENT ON COLUMN tmd_paid_holiday.insert_user IS '登録者';
 COMMENT ON COLUMN tmd_paid_holiday.update_date IS '更新日';
 COMMENT ON COLUMN tmd_paid_holiday.update_user IS '更新者';
 
+CREATE TABLE tmd_paid_holiday_balance
+(
+  tmd_paid_holiday_balance_id bigint NOT NULL DEFAULT 0,
+  personal_id character varying(10) NOT NULL DEFAULT ''::character varying,
+  acquisition_date date NOT NULL,
+  activate_date date NOT NULL,
+  limit_date date NOT NULL,
+  giving_day double precision NOT NULL DEFAULT 0,
+  giving_hour integer NOT NULL DEFAULT 0,
+  cancel_day double precision NOT NULL DEFAULT 0,
+  cancel_hour integer NOT NULL DEFAULT 0,
+  transaction_last_date date,
+  request_day double precision NOT NULL DEFAULT 0,
+  request_hour integer NOT NULL DEFAULT 0,
+  request_last_date date,
+  approved_day double precision NOT NULL DEFAULT 0,
+  approved_hour integer NOT NULL DEFAULT 0,
+  approved_last_date date,
+  delete_flag integer NOT NULL DEFAULT 0,
+  insert_date timestamp without time zone NOT NULL,
+  insert_user character varying(50) NOT NULL DEFAULT ''::character varying,
+  update_date timestamp without time zone NOT NULL,
+  update_user character varying(50) NOT NULL DEFAULT ''::character varying,
+  CONSTRAINT tmd_paid_holiday_balance_pkey PRIMARY KEY (tmd_paid_holiday_balance_id)
+)
+;
+COMMENT ON TABLE tmd_paid_holiday_balance IS '有給休暇残高台帳';
+COMMENT ON COLUMN tmd_paid_holiday_balance.tmd_paid_holiday_balance_id IS 'レコード識別ID';
+COMMENT ON COLUMN tmd_paid_holiday_balance.personal_id IS '個人ID';
+COMMENT ON COLUMN tmd_paid_holiday_balance.acquisition_date IS '取得日';
+COMMENT ON COLUMN tmd_paid_holiday_balance.activate_date IS '有効日';
+COMMENT ON COLUMN tmd_paid_holiday_balance.limit_date IS '期限日';
+COMMENT ON COLUMN tmd_paid_holiday_balance.giving_day IS '手動付与日数';
+COMMENT ON COLUMN tmd_paid_holiday_balance.giving_hour IS '手動付与時間数';
+COMMENT ON COLUMN tmd_paid_holiday_balance.cancel_day IS '手動廃棄日数';
+COMMENT ON COLUMN tmd_paid_holiday_balance.cancel_hour IS '手動廃棄時間数';
+COMMENT ON COLUMN tmd_paid_holiday_balance.transaction_last_date IS '手動付与廃棄最終有効日';
+COMMENT ON COLUMN tmd_paid_holiday_balance.request_day IS '申請日数';
+COMMENT ON COLUMN tmd_paid_holiday_balance.request_hour IS '申請時間数';
+COMMENT ON COLUMN tmd_paid_holiday_balance.request_last_date IS '申請最終開始日';
+COMMENT ON COLUMN tmd_paid_holiday_balance.approved_day IS '承認済日数';
+COMMENT ON COLUMN tmd_paid_holiday_balance.approved_hour IS '承認済時間数';
+COMMENT ON COLUMN tmd_paid_holiday_balance.approved_last_date IS '承認済最終終了日';
+COMMENT ON COLUMN tmd_paid_holiday_balance.delete_flag IS '削除フラグ';
+COMMENT ON COLUMN tmd_paid_holiday_balance.insert_date IS '登録日';
+COMMENT ON COLUMN tmd_paid_holiday_balance.insert_user IS '登録者';
+COMMENT ON COLUMN tmd_paid_holiday_balance.update_date IS '更新日';
+COMMENT ON COLUMN tmd_paid_holiday_balance.update_user IS '更新者';
+
 
 CREATE TABLE tmt_paid_holiday
 (
@@ -2186,6 +2264,7 @@ CREATE SEQUENCE tmd_allowance_id_seq;
 CREATE SEQUENCE tmd_rest_id_seq;
 CREATE SEQUENCE tmd_go_out_id_seq;
 CREATE SEQUENCE tmd_time_record_id_seq;
+CREATE SEQUENCE tmd_time_record_queue_id_seq;
 CREATE SEQUENCE tmd_total_time_id_seq;
 CREATE SEQUENCE tmd_total_time_correction_id_seq;
 CREATE SEQUENCE tmd_total_leave_id_seq;
@@ -2216,6 +2295,7 @@ CREATE SEQUENCE tmm_stock_holiday_id_seq;
 CREATE SEQUENCE tmm_holiday_id_seq;
 CREATE SEQUENCE tmd_holiday_id_seq;
 CREATE SEQUENCE tmd_paid_holiday_id_seq;
+CREATE SEQUENCE tmd_paid_holiday_balance_id_seq;
 CREATE SEQUENCE tmt_paid_holiday_id_seq;
 CREATE SEQUENCE tmd_stock_holiday_id_seq;
 CREATE SEQUENCE tmt_stock_holiday_id_seq;
@@ -2238,12 +2318,15 @@ CREATE INDEX tmd_holiday_index1 ON tmd_holiday(personal_id, activate_date);
 CREATE INDEX tmd_holiday_request_index1 ON tmd_holiday_request(personal_id, request_start_date, request_end_date);
 CREATE INDEX tmd_overtime_request_index1 ON tmd_overtime_request(personal_id, request_date);
 CREATE INDEX tmd_paid_holiday_index1 ON tmd_paid_holiday(personal_id, activate_date, acquisition_date);
+CREATE UNIQUE INDEX tmd_paid_holiday_balance_index1 ON tmd_paid_holiday_balance(personal_id, acquisition_date, activate_date);
 CREATE INDEX tmd_rest_index1 ON tmd_rest(personal_id, work_date);
 CREATE INDEX tmd_stock_holiday_index1 ON tmd_stock_holiday(personal_id, activate_date, acquisition_date);
 CREATE INDEX tmd_sub_holiday_index1 ON tmd_sub_holiday(personal_id, work_date);
 CREATE INDEX tmd_sub_holiday_request_index1 ON tmd_sub_holiday_request(personal_id, request_date);
 CREATE INDEX tmd_substitute_index1 ON tmd_substitute(personal_id, substitute_date);
 CREATE INDEX tmd_time_record_index1 ON tmd_time_record(personal_id, work_date);
+CREATE INDEX tmd_time_record_queue_index1 ON tmd_time_record_queue(personal_id, record_time);
+CREATE INDEX tmd_time_record_queue_index2 ON tmd_time_record_queue(record_status);
 CREATE INDEX tmd_total_absence_index1 ON tmd_total_absence(personal_id, calculation_year, calculation_month);
 CREATE INDEX tmd_total_allowance_index1 ON tmd_total_allowance(personal_id, calculation_year, calculation_month);
 CREATE INDEX tmd_total_leave_index1 ON tmd_total_leave(personal_id, calculation_year, calculation_month);
@@ -25,6 +25,7 @@ import java.util.Map.Entry;
 import java.util.Set;
 
 import jp.mosp.framework.instance.InstanceFactory;
+import jp.mosp.framework.instance.InstanceRegistry;
 import jp.mosp.framework.utils.LogUtility;
 
 /**
@@ -97,6 +98,8 @@ public abstract class BaseAction implements ActionInterface {
 		} finally {
 			// アクション後処理
 			afterAction();
+			// インスタンス生成回数をログに出力
+			InstanceRegistry.outputLog(mospParams);
 		}
 	}
 	
@@ -23,9 +23,9 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLTransientException;
+import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
@@ -46,12 +46,17 @@ import jp.mosp.framework.utils.LogUtility;
 public abstract class BaseDao implements BaseDaoInterface {
 	
 	// 定数
+	/**
+	 * JDBCバッチで一度に実行するSQLの件数(既定値)。<br>
+	 */
+	protected static final int	DEFAULT_BATCH_SIZE	= 500;
+	
 	/**
 	 * 削除フラグ列名<br>
 	 * {@link #setCommonParams(BaseDtoInterface, boolean)}、
 	 * {@link #mappingCommonInfo(BaseDto)}で用いられる。<br>
 	 */
-	protected String			colDeleteFlag	= "delete_flag";
+	protected String			colDeleteFlag		= "delete_flag";
 	
 	/**
 	 * デフォルト列名(作成日)。<br>
@@ -59,7 +64,7 @@ public abstract class BaseDao implements BaseDaoInterface {
 	 * {@link #mappingCommonInfo(BaseDto)}で用いられる。<br>
 	 * 不要な場合は、""(空文字列)を設定する。
 	 */
-	protected String			colInsertDate	= "insert_date";
+	protected String			colInsertDate		= "insert_date";
 	
 	/**
 	 * デフォルト列名(作成者)。<br>
@@ -67,7 +72,7 @@ public abstract class BaseDao implements BaseDaoInterface {
 	 * {@link #mappingCommonInfo(BaseDto)}で用いられる。<br>
 	 * 不要な場合は、""(空文字列)を設定する。
 	 */
-	protected String			colInsertUser	= "insert_user";
+	protected String			colInsertUser		= "insert_user";
 	
 	/**
 	 * デフォルト列名(更新日)。<br>
@@ -75,7 +80,7 @@ public abstract class BaseDao implements BaseDaoInterface {
 	 * {@link #mappingCommonInfo(BaseDto)}で用いられる。<br>
 	 * 不要な場合は、""(空文字列)を設定する。
 	 */
-	protected String			colUpdateDate	= "update_date";
+	protected String			colUpdateDate		= "update_date";
 	
 	/**
 	 * デフォルト列名(更新者)。<br>
@@ -83,7 +88,7 @@ public abstract class BaseDao implements BaseDaoInterface {
 	 * {@link #mappingCommonInfo(BaseDto)}で用いられる。<br>
 	 * 不要な場合は、""(空文字列)を設定する。
 	 */
-	protected String			colUpdateUser	= "update_user";
+	protected String			colUpdateUser		= "update_user";
 	
 	// フィールド
 	/**
@@ -121,6 +126,37 @@ public abstract class BaseDao implements BaseDaoInterface {
 	 */
 	protected int				index;
 	
+	/**
+	 * SQL実行統計集計キー。<br>
+	 * 検索系SQLの実行時間を計測している間のみ保持する(計測しない場合はnull)。<br>
+	 */
+	protected String			statisticsKey;
+	
+	/**
+	 * 計測中の検索系SQLのステートメント。<br>
+	 */
+	protected PreparedStatement	measuredPs;
+	
+	/**
+	 * 計測中の検索系SQLの実行時間(ナノ秒)。<br>
+	 */
+	protected long				executeNanos;
+	
+	/**
+	 * 計測中の検索系SQLの検索結果取得時間(ナノ秒)。<br>
+	 */
+	protected long				fetchNanos;
+	
+	/**
+	 * 計測中の検索系SQLの検索結果取得件数。<br>
+	 */
+	protected int				fetchRows;
+	
+	/**
+	 * JDBCバッチに追加したSQLの件数。<br>
+	 */
+	protected int				batchCount;
+	
 	
 	/**
 	 * コンストラクタ。<br>
@@ -177,6 +213,8 @@ public abstract class BaseDao implements BaseDaoInterface {
 	 * @throws MospException SQL例外が発生した場合
 	 */
 	protected void releaseResultSet() throws MospException {
+		// 検索系SQLの実行結果を記録
+		recordQuery();
 		try {
 			if (rs != null) {
 				rs.close();
@@ -199,6 +237,25 @@ public abstract class BaseDao implements BaseDaoInterface {
 		}
 	}
 	
+	/**
+	 * PreparedStatementのフェッチサイズを設定する。<br>
+	 * <br>
+	 * 検索結果が大量となる場合に設定することで、
+	 * 検索結果を全件メモリに読み込まず、フェッチサイズ毎に取得させることができる。<br>
+	 * 0以下の場合は、設定しない(JDBCドライバの既定値を用いる)。<br>
+	 * @param fetchSize フェッチサイズ
+	 * @throws MospException SQL例外が発生した場合
+	 */
+	protected void setFetchSize(int fetchSize) throws MospException {
+		try {
+			if (ps != null && fetchSize > 0) {
+				ps.setFetchSize(fetchSize);
+			}
+		} catch (SQLException e) {
+			throw new MospException(e);
+		}
+	}
+	
 	/**
 	 * PreparedStatement開放。<br>
 	 * @throws MospException SQL例外が発生した場合
@@ -487,7 +544,15 @@ public abstract class BaseDao implements BaseDaoInterface {
 	 */
 	protected boolean next() throws MospException {
 		try {
-			return rs.next();
+			// 実行時間を計測しない場合
+			if (statisticsKey == null) {
+				return rs.next();
+			}
+			long start = System.nanoTime();
+			boolean hasNext = rs.next();
+			fetchNanos += System.nanoTime() - start;
+			fetchRows += hasNext ? 1 : 0;
+			return hasNext;
 		} catch (SQLException e) {
 			throw new MospException(e);
 		}
@@ -669,12 +734,57 @@ public abstract class BaseDao implements BaseDaoInterface {
 		}
 	}
 	
+	/**
+	 * シーケンスの次の値を、指定された件数分取得する。<br>
+	 * 一度のSQL実行で取得するが、他の接続からも値を取得している場合は連番にならない。<br>
+	 * @param sequence シーケンス名
+	 * @param size     取得件数
+	 * @return シーケンスの次の値(取得件数分)
+	 * @throws MospException シーケンス操作に失敗した場合
+	 */
+	protected long[] nextValues(String sequence, int size) throws MospException {
+		// SQL文字列準備
+		StringBuffer query = new StringBuffer();
+		query.append(select());
+		query.append("NEXTVAL(?)");
+		query.append(from("GENERATE_SERIES(1, ?)"));
+		long[] values = new long[size];
+		try {
+			// ステートメント生成
+			prepareStatement(query.toString());
+			// パラメータ設定
+			index = 1;
+			setParam(index++, sequence);
+			setParam(index++, size);
+			executeQuery();
+			for (int i = 0; i < size && next(); i++) {
+				values[i] = rs.getLong(1);
+			}
+			return values;
+		} catch (SQLException e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}<br>
+	 * レコード識別IDブロックサイズが2以上の場合は、
+	 * {@link RecordIdAllocator}がシーケンスから取得して保持している値を払い出す。<br>
+	 */
 	@Override
 	public long nextRecordId() throws MospException {
 		// シーケンス名を取得
 		String sequence = getTable(getClass()) + "_id_seq";
-		// シーケンスの次の値を取得
-		return nextValue(sequence);
+		// ブロックを利用しない場合
+		if (RecordIdAllocator.getBlockSize(mospParams) <= 1) {
+			// シーケンスの次の値を取得
+			return nextValue(sequence);
+		}
+		// 保持している値から払出
+		return RecordIdAllocator.nextId(mospParams, this, sequence);
 	}
 	
 	// SQL実行メソッド
@@ -685,9 +795,24 @@ public abstract class BaseDao implements BaseDaoInterface {
 	protected void executeQuery() throws MospException {
 		try {
 			if (ps != null) {
-				rs = ps.executeQuery();
-				// ログ出力
-				LogUtility.sqlSelect(mospParams, ps.toString());
+				// 計測中の検索系SQLの実行結果を記録
+				recordQuery();
+				// 実行時間を計測しない場合
+				if (MospSqlStatistics.isMeasured(mospParams) == false) {
+					rs = ps.executeQuery();
+				} else {
+					long start = System.nanoTime();
+					rs = ps.executeQuery();
+					executeNanos = System.nanoTime() - start;
+					fetchNanos = 0L;
+					fetchRows = 0;
+					measuredPs = ps;
+					statisticsKey = MospSqlStatistics.getKey(this);
+				}
+				// ログ出力(出力する場合のみSQL文字列を作成)
+				if (LogUtility.isSqlSelect(mospParams)) {
+					LogUtility.sqlSelect(mospParams, ps.toString());
+				}
 			}
 		} catch (SQLException e) {
 			// 一時的な例外の場合
@@ -714,11 +839,21 @@ public abstract class BaseDao implements BaseDaoInterface {
 	protected void executeUpdate(boolean needLog) throws MospException {
 		if (ps != null) {
 			try {
-				cnt = ps.executeUpdate();
-				if (needLog) {
-					// ログ出力
+				// 実行時間を計測しない場合
+				if (MospSqlStatistics.isMeasured(mospParams) == false) {
+					cnt = ps.executeUpdate();
+				} else {
+					long start = System.nanoTime();
+					cnt = ps.executeUpdate();
+					long nanos = System.nanoTime() - start;
+					MospSqlStatistics.record(mospParams, MospSqlStatistics.getKey(this), nanos, 0L, cnt, ps);
+				}
+				if (needLog && LogUtility.isSqlRegist(mospParams)) {
+					// ログ出力(出力する場合のみSQL文字列を作成)
 					LogUtility.sqlRegist(mospParams, ps.toString());
 				}
+				// マスタ共有キャッシュに更新を通知
+				notifyUpdate();
 			} catch (SQLException e) {
 				// 一時的な例外の場合
 				if (e instanceof SQLTransientException) {
@@ -729,6 +864,42 @@ public abstract class BaseDao implements BaseDaoInterface {
 		}
 	}
 	
+	/**
+	 * 計測中の検索系SQLの実行結果を記録する。<br>
+	 * 検索結果の取得を終えた({@link #releaseResultSet()}を呼び出した)時点で記録する。<br>
+	 * 実行時間を計測していない場合は、記録しない。<br>
+	 */
+	protected void recordQuery() {
+		if (statisticsKey == null) {
+			return;
+		}
+		MospSqlStatistics.record(mospParams, statisticsKey, executeNanos, fetchNanos, fetchRows, measuredPs);
+		statisticsKey = null;
+		measuredPs = null;
+	}
+	
+	/**
+	 * マスタ共有キャッシュ及び個人別共有キャッシュにテーブルの更新を通知する。<br>
+	 * テーブル名を持たないDAOの場合は、通知しない。<br>
+	 */
+	protected void notifyUpdate() {
+		// マスタ共有キャッシュ及び個人別共有キャッシュを利用しない場合
+		if (MospMasterCache.isEnabled(mospParams) == false && MospPersonalCache.isEnabled(mospParams) == false) {
+			return;
+		}
+		String table;
+		try {
+			// テーブル名を取得
+			table = getTable(getClass());
+		} catch (MospException e) {
+			// テーブル名を持たないDAOの場合
+			return;
+		}
+		// テーブル名を通知
+		MospMasterCache.invalidate(mospParams, table);
+		MospPersonalCache.notifyUpdate(mospParams, table);
+	}
+	
 	/**
 	 * 更新系SQLを実行する。<br>
 	 * 処理インデックスが挿入レコード上限数か挿入対象件数に達した場合、
@@ -758,6 +929,84 @@ public abstract class BaseDao implements BaseDaoInterface {
 		}
 	}
 	
+	/**
+	 * JDBCバッチで一度に実行するSQLの件数を取得する。<br>
+	 * @return JDBCバッチで一度に実行するSQLの件数
+	 */
+	protected int getBatchSize() {
+		int batchSize = mospParams.getApplicationProperty(MospConst.APP_DAO_BATCH_SIZE, DEFAULT_BATCH_SIZE);
+		return batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
+	}
+	
+	/**
+	 * 現在のパラメータをJDBCバッチに追加する。<br>
+	 * 追加したSQLの件数がJDBCバッチで一度に実行する件数に達した場合は、実行する。<br>
+	 * @param exceptionId 更新件数が想定と異なる場合の例外ID
+	 * @throws MospException SQL例外が発生した場合、或いは更新件数が想定と異なる場合
+	 */
+	protected void addBatch(String exceptionId) throws MospException {
+		try {
+			ps.addBatch();
+		} catch (SQLException e) {
+			throw new MospException(e);
+		}
+		batchCount++;
+		// 一度に実行する件数に達した場合
+		if (batchCount >= getBatchSize()) {
+			executeBatch(exceptionId);
+		}
+	}
+	
+	/**
+	 * JDBCバッチに追加したSQLを実行する。<br>
+	 * SQL毎の更新件数が1件であることを確認する。<br>
+	 * 更新件数を返さないJDBCドライバの場合({@link Statement#SUCCESS_NO_INFO})は、確認しない。<br>
+	 * @param exceptionId 更新件数が想定と異なる場合の例外ID
+	 * @return 更新件数
+	 * @throws MospException SQL例外が発生した場合、或いは更新件数が想定と異なる場合
+	 */
+	protected int executeBatch(String exceptionId) throws MospException {
+		if (ps == null || batchCount == 0) {
+			return 0;
+		}
+		int[] counts;
+		try {
+			// 実行時間を計測しない場合
+			if (MospSqlStatistics.isMeasured(mospParams) == false) {
+				counts = ps.executeBatch();
+			} else {
+				long start = System.nanoTime();
+				counts = ps.executeBatch();
+				long nanos = System.nanoTime() - start;
+				MospSqlStatistics.record(mospParams, MospSqlStatistics.getKey(this), nanos, 0L, counts.length, ps);
+			}
+		} catch (SQLException e) {
+			throw new MospException(e);
+		} finally {
+			batchCount = 0;
+		}
+		if (LogUtility.isSqlRegist(mospParams)) {
+			// ログ出力(出力する場合のみSQL文字列を作成)
+			LogUtility.sqlRegist(mospParams, ps.toString() + " (batch " + counts.length + ")");
+		}
+		// マスタ共有キャッシュに更新を通知
+		notifyUpdate();
+		// SQL毎の更新件数確認
+		int total = 0;
+		for (int count : counts) {
+			if (count == Statement.SUCCESS_NO_INFO) {
+				total++;
+				continue;
+			}
+			if (count != 1) {
+				mospParams.setErrorViewUrl();
+				throw new MospException(exceptionId);
+			}
+			total += count;
+		}
+		return total;
+	}
+	
 	// SQL作成及び実行メソッド
 	/**
 	 * 全レコードを取得する。<br>
@@ -831,6 +1080,143 @@ public abstract class BaseDao implements BaseDaoInterface {
 		return cnt;
 	}
 	
+	/**
+	 * 複数行挿入SQLを用いて、DTOリストを一括で挿入する。<br>
+	 * 挿入レコード上限数毎に1つのSQLにまとめて挿入する。<br>
+	 * @param dtoList 対象DTOリスト
+	 * @param max     挿入レコード上限数(一度に挿入する上限)
+	 * @return 結果件数
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	@Override
+	public int insert(List<? extends BaseDtoInterface> dtoList, int max) throws MospException {
+		// 挿入対象件数取得
+		int size = dtoList.size();
+		if (size == 0) {
+			return 0;
+		}
+		// 挿入件数準備
+		int total = 0;
+		index = 1;
+		prepareStatement(getInsertQuery(getClass(), size, max));
+		for (int i = 0; i < size; i++) {
+			setParams(dtoList.get(i), true);
+			// 挿入レコード上限数か挿入対象件数に達した場合は挿入
+			executeUpdate(getClass(), size, max, i);
+			total += cnt;
+		}
+		releasePreparedStatement();
+		cnt = total;
+		chkInsert(size);
+		return cnt;
+	}
+	
+	/**
+	 * JDBCバッチを用いて、DTOリストを一括で挿入する。<br>
+	 * 1つの挿入SQLに対してパラメータを追加していき、
+	 * JDBCバッチで一度に実行する件数毎に実行する。<br>
+	 * 挿入件数はDTO毎に確認する。<br>
+	 * @param dtoList 対象DTOリスト
+	 * @return 結果件数
+	 * @throws MospException SQLの作成に失敗した場合、SQL例外が発生した場合、或いは挿入件数が想定と異なる場合
+	 */
+	@Override
+	public int batchInsert(List<? extends BaseDtoInterface> dtoList) throws MospException {
+		if (dtoList.isEmpty()) {
+			return 0;
+		}
+		int total = 0;
+		try {
+			batchCount = 0;
+			prepareStatement(getInsertQuery(getClass()));
+			for (BaseDtoInterface dto : dtoList) {
+				index = 1;
+				setParams(dto, true);
+				addBatch(ExceptionConst.EX_FAIL_INSERT);
+			}
+			executeBatch(ExceptionConst.EX_FAIL_INSERT);
+			total = dtoList.size();
+		} finally {
+			batchCount = 0;
+			releasePreparedStatement();
+		}
+		cnt = total;
+		return cnt;
+	}
+	
+	/**
+	 * JDBCバッチを用いて、DTOリストを一括で更新する。<br>
+	 * 更新件数はDTO毎に確認する。<br>
+	 * @param dtoList 対象DTOリスト
+	 * @return 結果件数
+	 * @throws MospException SQLの作成に失敗した場合、SQL例外が発生した場合、或いは更新件数が想定と異なる場合
+	 */
+	@Override
+	public int batchUpdate(List<? extends BaseDtoInterface> dtoList) throws MospException {
+		if (dtoList.isEmpty()) {
+			return 0;
+		}
+		DaoMetadata metadata = DaoMetadata.getInstance(getClass());
+		int total = 0;
+		try {
+			batchCount = 0;
+			prepareStatement(getUpdateQuery(getClass()));
+			for (BaseDtoInterface dto : dtoList) {
+				index = 1;
+				setParams(dto, false);
+				setParam(index++, metadata.getRecordId(dto));
+				addBatch(ExceptionConst.EX_FAIL_UPDATE);
+			}
+			executeBatch(ExceptionConst.EX_FAIL_UPDATE);
+			total = dtoList.size();
+		} finally {
+			batchCount = 0;
+			releasePreparedStatement();
+		}
+		cnt = total;
+		return cnt;
+	}
+	
+	/**
+	 * JDBCバッチを用いて、レコード識別IDリストのレコードを一括で論理削除する。<br>
+	 * 削除フラグが立っていないレコードのみを対象とし、
+	 * 更新件数はレコード識別ID毎に確認する。<br>
+	 * @param idList レコード識別IDリスト
+	 * @return 結果件数
+	 * @throws MospException SQLの作成に失敗した場合、SQL例外が発生した場合、或いは更新件数が想定と異なる場合
+	 */
+	@Override
+	public int batchLogicalDelete(List<Long> idList) throws MospException {
+		if (idList.isEmpty()) {
+			return 0;
+		}
+		Date date = new Date();
+		int total = 0;
+		try {
+			batchCount = 0;
+			prepareStatement(getLogicalDeleteQuery(getClass()));
+			for (Long id : idList) {
+				index = 1;
+				setParam(index++, MospConst.DELETE_FLAG_ON);
+				if (!colUpdateDate.isEmpty()) {
+					setParam(index++, date, true);
+				}
+				if (!colUpdateUser.isEmpty()) {
+					setParam(index++, userId);
+				}
+				setParam(index++, id.longValue());
+				addBatch(ExceptionConst.EX_FAIL_DELETE);
+			}
+			executeBatch(ExceptionConst.EX_FAIL_DELETE);
+			total = idList.size();
+		} finally {
+			batchCount = 0;
+			releasePreparedStatement();
+		}
+		cnt = total;
+		return cnt;
+	}
+	
 	// SQL作成メソッド
 	/**
 	 * 全件検索SQLを取得する。<br>
@@ -839,6 +1225,11 @@ public abstract class BaseDao implements BaseDaoInterface {
 	 * @throws MospException テーブル名、フィールド値の取得に失敗した場合
 	 */
 	protected StringBuffer getSelectQuery(Class<?> cls) throws MospException {
+		// 保持しているSQLを取得
+		String cached = getCachedQuery(cls, DaoMetadata.QUERY_SELECT);
+		if (cached != null) {
+			return new StringBuffer(cached);
+		}
 		// テーブル名取得
 		String table = getTable(cls);
 		// 列名リスト取得
@@ -848,6 +1239,7 @@ public abstract class BaseDao implements BaseDaoInterface {
 		// 検索SQLを取得
 		query.append(getSelectStatement(columnList));
 		query.append(from(table));
+		putCachedQuery(cls, DaoMetadata.QUERY_SELECT, query.toString());
 		return query;
 	}
 	
@@ -911,6 +1303,12 @@ public abstract class BaseDao implements BaseDaoInterface {
 	 * @throws MospException テーブル名、フィールド値の取得に失敗した場合
 	 */
 	protected String getSelectStatement(Class<?> cls, boolean needTableName) throws MospException {
+		// 保持しているSQLを取得
+		String kind = needTableName ? DaoMetadata.QUERY_SELECT_STATEMENT_TABLE : DaoMetadata.QUERY_SELECT_STATEMENT;
+		String cached = getCachedQuery(cls, kind);
+		if (cached != null) {
+			return cached;
+		}
 		// テーブル名取得
 		String table = getTable(cls);
 		// 列名リスト取得
@@ -928,7 +1326,7 @@ public abstract class BaseDao implements BaseDaoInterface {
 		}
 		query.append(getCommonColumn(cls, needTableName));
 		query.delete(query.length() - 2, query.length() - 1);
-		return query.toString();
+		return putCachedQuery(cls, kind, query.toString());
 	}
 	
 	/**
@@ -938,10 +1336,15 @@ public abstract class BaseDao implements BaseDaoInterface {
 	 * @throws MospException テーブル名の取得に失敗した場合
 	 */
 	protected String getSelectCountQuery(Class<?> cls) throws MospException {
+		// 保持しているSQLを取得
+		String cached = getCachedQuery(cls, DaoMetadata.QUERY_SELECT_COUNT);
+		if (cached != null) {
+			return cached;
+		}
 		StringBuffer query = new StringBuffer();
 		query.append(getSelectCountStatement());
 		query.append(from(getTable(cls)));
-		return query.toString();
+		return putCachedQuery(cls, DaoMetadata.QUERY_SELECT_COUNT, query.toString());
 	}
 	
 	/**
@@ -962,6 +1365,11 @@ public abstract class BaseDao implements BaseDaoInterface {
 	 * @throws MospException テーブル名、フィールド値の取得に失敗した場合
 	 */
 	protected String getInsertQuery(Class<?> cls) throws MospException {
+		// 保持しているSQLを取得
+		String cached = getCachedQuery(cls, DaoMetadata.QUERY_INSERT);
+		if (cached != null) {
+			return cached;
+		}
 		// テーブル名取得
 		String table = getTable(cls);
 		// 列名リスト取得
@@ -972,7 +1380,7 @@ public abstract class BaseDao implements BaseDaoInterface {
 		query.append(getInsertQueryBase(table, columnList));
 		// 挿入SQLのパラメータ部を取得
 		query.append(getInsertQueryParams(columnList));
-		return query.toString();
+		return putCachedQuery(cls, DaoMetadata.QUERY_INSERT, query.toString());
 	}
 	
 	/**
@@ -1025,6 +1433,11 @@ public abstract class BaseDao implements BaseDaoInterface {
 	 * @throws MospException テーブル名、フィールド値の取得に失敗した場合
 	 */
 	protected String getUpdateQuery(Class<?> cls) throws MospException {
+		// 保持しているSQLを取得
+		String cached = getCachedQuery(cls, DaoMetadata.QUERY_UPDATE);
+		if (cached != null) {
+			return cached;
+		}
 		// テーブル名取得
 		String table = getTable(cls);
 		// 列名リスト取得
@@ -1053,7 +1466,39 @@ public abstract class BaseDao implements BaseDaoInterface {
 		}
 		query.delete(query.length() - 2, query.length() - 1);
 		query.append(getConditionForKey(cls));
-		return query.toString();
+		return putCachedQuery(cls, DaoMetadata.QUERY_UPDATE, query.toString());
+	}
+	
+	/**
+	 * 論理削除SQLを取得する。<br>
+	 * 削除フラグが立っていないレコードの削除フラグ、更新日、更新者を更新する。<br>
+	 * @param cls DTOクラス
+	 * @return 論理削除SQL文字列
+	 * @throws MospException テーブル名、フィールド値の取得に失敗した場合
+	 */
+	protected String getLogicalDeleteQuery(Class<?> cls) throws MospException {
+		// 保持しているSQLを取得
+		String cached = getCachedQuery(cls, DaoMetadata.QUERY_LOGICAL_DELETE);
+		if (cached != null) {
+			return cached;
+		}
+		StringBuffer query = new StringBuffer();
+		query.append("UPDATE ");
+		query.append(getTable(cls));
+		query.append(" SET ");
+		query.append(equal(colDeleteFlag));
+		if (!colUpdateDate.isEmpty()) {
+			query.append(comma());
+			query.append(equal(colUpdateDate));
+		}
+		if (!colUpdateUser.isEmpty()) {
+			query.append(comma());
+			query.append(equal(colUpdateUser));
+		}
+		query.append(getConditionForKey(cls));
+		query.append(and());
+		query.append(deleteFlagOff());
+		return putCachedQuery(cls, DaoMetadata.QUERY_LOGICAL_DELETE, query.toString());
 	}
 	
 	/**
@@ -1063,13 +1508,18 @@ public abstract class BaseDao implements BaseDaoInterface {
 	 * @throws MospException テーブル名、フィールド値の取得に失敗した場合
 	 */
 	protected String getPhysicalDeleteQuery(Class<?> cls) throws MospException {
+		// 保持しているSQLを取得
+		String cached = getCachedQuery(cls, DaoMetadata.QUERY_PHYSICAL_DELETE);
+		if (cached != null) {
+			return cached;
+		}
 		// テーブル名取得
 		String table = getTable(cls);
 		StringBuffer query = new StringBuffer();
 		query.append("DELETE FROM ");
 		query.append(table);
 		query.append(getConditionForKey(cls));
-		return query.toString();
+		return putCachedQuery(cls, DaoMetadata.QUERY_PHYSICAL_DELETE, query.toString());
 	}
 	
 	/**
@@ -1079,11 +1529,16 @@ public abstract class BaseDao implements BaseDaoInterface {
 	 * @throws MospException テーブル名、フィールド値の取得に失敗した場合
 	 */
 	protected String getDeleteQuery(Class<?> cls) throws MospException {
+		// 保持しているSQLを取得
+		String cached = getCachedQuery(cls, DaoMetadata.QUERY_DELETE);
+		if (cached != null) {
+			return cached;
+		}
 		StringBuffer query = new StringBuffer();
 		query.append("DELETE ");
 		query.append(from(getTable(cls)));
 		query.append(getConditionForKey(cls));
-		return query.toString();
+		return putCachedQuery(cls, DaoMetadata.QUERY_DELETE, query.toString());
 	}
 	
 	/**
@@ -1093,6 +1548,11 @@ public abstract class BaseDao implements BaseDaoInterface {
 	 * @throws MospException テーブル名、フィールド値の取得に失敗した場合
 	 */
 	protected String getConditionForKey(Class<?> cls) throws MospException {
+		// 保持しているSQLを取得
+		String cached = getCachedQuery(cls, DaoMetadata.QUERY_CONDITION_FOR_KEY);
+		if (cached != null) {
+			return cached;
+		}
 		// キー列名リスト取得
 		List<String> keyList = getKeyList(cls);
 		// SQL文字列準備
@@ -1106,7 +1566,7 @@ public abstract class BaseDao implements BaseDaoInterface {
 			}
 		}
 		query.append(" ");
-		return query.toString();
+		return putCachedQuery(cls, DaoMetadata.QUERY_CONDITION_FOR_KEY, query.toString());
 	}
 	
 	/**
@@ -1116,6 +1576,11 @@ public abstract class BaseDao implements BaseDaoInterface {
 	 * @throws MospException フィールド値の取得に失敗した場合
 	 */
 	protected String getOrderForKey(Class<?> cls) throws MospException {
+		// 保持しているSQLを取得
+		String cached = getCachedQuery(cls, DaoMetadata.QUERY_ORDER_FOR_KEY);
+		if (cached != null) {
+			return cached;
+		}
 		// キー列名リスト取得
 		List<String> keyList = getKeyList(cls);
 		// SQL文字列準備
@@ -1129,7 +1594,7 @@ public abstract class BaseDao implements BaseDaoInterface {
 			}
 		}
 		query.append(" ");
-		return query.toString();
+		return putCachedQuery(cls, DaoMetadata.QUERY_ORDER_FOR_KEY, query.toString());
 	}
 	
 	/**
@@ -1143,6 +1608,12 @@ public abstract class BaseDao implements BaseDaoInterface {
 	 * @throws MospException テーブル名、フィールド値の取得に失敗した場合
 	 */
 	protected String getInsertQuery(Class<?> cls, int size, int max) throws MospException {
+		// 保持しているSQLを取得(件数毎に保持)
+		String kind = DaoMetadata.QUERY_INSERT + (size < max ? size : max);
+		String cached = getCachedQuery(cls, kind);
+		if (cached != null) {
+			return cached;
+		}
 		// テーブル名取得
 		String table = getTable(cls);
 		// 列名リスト(挿入文)取得
@@ -1162,7 +1633,39 @@ public abstract class BaseDao implements BaseDaoInterface {
 			query.append(sb);
 		}
 		query.delete(query.length() - 2, query.length());
-		return query.toString();
+		return putCachedQuery(cls, kind, query.toString());
+	}
+	
+	/**
+	 * 保持しているSQLを取得する。<br>
+	 * SQLは共通列名({@link #colDeleteFlag}等)に依存するため、
+	 * 対象クラスが当該DAOクラスである場合のみ保持する。<br>
+	 * @param cls  DAOクラス
+	 * @param kind SQLの種類
+	 * @return SQL(保持していない場合はnull)
+	 * @throws MospException フィールド値の取得に失敗した場合
+	 */
+	protected String getCachedQuery(Class<?> cls, String kind) throws MospException {
+		if (cls != getClass()) {
+			return null;
+		}
+		return DaoMetadata.getInstance(cls).getQuery(kind);
+	}
+	
+	/**
+	 * SQLを保持する。<br>
+	 * 対象クラスが当該DAOクラスでない場合は、保持しない。<br>
+	 * @param cls   DAOクラス
+	 * @param kind  SQLの種類
+	 * @param query SQL
+	 * @return SQL
+	 * @throws MospException フィールド値の取得に失敗した場合
+	 */
+	protected String putCachedQuery(Class<?> cls, String kind, String query) throws MospException {
+		if (cls != getClass()) {
+			return query;
+		}
+		return DaoMetadata.getInstance(cls).putQuery(kind, query);
 	}
 	
 	/**
@@ -1354,19 +1857,8 @@ public abstract class BaseDao implements BaseDaoInterface {
 	 * @throws MospException テーブル名、フィールド値の取得に失敗した場合
 	 */
 	protected List<String> getFieldList(Class<?> cls, String prefix) throws MospException {
-		// 列名リスト準備
-		List<String> list = new ArrayList<String>();
-		// クラスのフィールド配列を取得
-		Field[] fields = cls.getFields();
-		// フィールド毎に処理
-		for (Field field : fields) {
-			// フィールド名確認
-			if (field.getName().indexOf(prefix) == 0) {
-				// 列名リストに追加
-				list.add(getFieldValue(field));
-			}
-		}
-		return list;
+		// DAOメタ情報から取得(DAOクラス毎に一度だけリフレクションで取得)
+		return DaoMetadata.getInstance(cls).getFieldList(prefix);
 	}
 	
 	/**
@@ -1391,14 +1883,8 @@ public abstract class BaseDao implements BaseDaoInterface {
 	 */
 	@Override
 	public String getTable(Class<?> cls) throws MospException {
-		try {
-			Field table = cls.getField("TABLE");
-			return (String)table.get(null);
-		} catch (IllegalAccessException e) {
-			throw new MospException(e);
-		} catch (NoSuchFieldException e) {
-			throw new MospException(e);
-		}
+		// DAOメタ情報から取得(DAOクラス毎に一度だけリフレクションで取得)
+		return DaoMetadata.getInstance(cls).getTable();
 	}
 	
 	// SQL文字列取得メソッド
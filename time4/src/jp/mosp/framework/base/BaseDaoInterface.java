@@ -76,6 +76,26 @@ public interface BaseDaoInterface {
 	 */
 	int insert(BaseDtoInterface baseDto) throws MospException;
 	
+	/**
+	 * 一括挿入。
+	 * @param dtoList 対象DTOリスト
+	 * @param max     挿入レコード上限数(一度に挿入する上限)
+	 * @return 結果件数
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	int insert(List<? extends BaseDtoInterface> dtoList, int max) throws MospException;
+	
+	/**
+	 * JDBCバッチによる一括挿入。<br>
+	 * 挿入件数はDTO毎に確認する。<br>
+	 * 登録内容の確認が同じリスト内の先行するDTOの登録結果に依存する場合
+	 * (インポート等)は、用いることができない。<br>
+	 * @param dtoList 対象DTOリスト
+	 * @return 結果件数
+	 * @throws MospException SQLの作成に失敗した場合、SQL例外が発生した場合、或いは挿入件数が想定と異なる場合
+	 */
+	int batchInsert(List<? extends BaseDtoInterface> dtoList) throws MospException;
+	
 	/**
 	 * 更新。
 	 * @param baseDto 対象DTO
@@ -84,6 +104,24 @@ public interface BaseDaoInterface {
 	 */
 	int update(BaseDtoInterface baseDto) throws MospException;
 	
+	/**
+	 * JDBCバッチによる一括更新。<br>
+	 * 更新件数はDTO毎に確認する。<br>
+	 * @param dtoList 対象DTOリスト
+	 * @return 結果件数
+	 * @throws MospException SQLの作成に失敗した場合、SQL例外が発生した場合、或いは更新件数が想定と異なる場合
+	 */
+	int batchUpdate(List<? extends BaseDtoInterface> dtoList) throws MospException;
+	
+	/**
+	 * JDBCバッチによる一括論理削除。<br>
+	 * 削除フラグが立っていないレコードのみを対象とし、更新件数はレコード識別ID毎に確認する。<br>
+	 * @param idList レコード識別IDリスト
+	 * @return 結果件数
+	 * @throws MospException SQLの作成に失敗した場合、SQL例外が発生した場合、或いは更新件数が想定と異なる場合
+	 */
+	int batchLogicalDelete(List<Long> idList) throws MospException;
+	
 	/**
 	 * 物理削除。
 	 * @param baseDto 対象DTO
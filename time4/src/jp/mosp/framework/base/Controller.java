@@ -17,6 +17,7 @@
  */
 package jp.mosp.framework.base;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.util.List;
@@ -34,12 +35,16 @@ import jp.mosp.framework.constant.ExceptionConst;
 import jp.mosp.framework.constant.MessageConst;
 import jp.mosp.framework.constant.MospConst;
 import jp.mosp.framework.instance.InstanceFactory;
+import jp.mosp.framework.instance.InstanceRegistry;
+import jp.mosp.framework.log.AsyncLogWriter;
 import jp.mosp.framework.log.LoggerInterface;
 import jp.mosp.framework.property.CommandProperty;
 import jp.mosp.framework.property.MospProperties;
 import jp.mosp.framework.utils.LogUtility;
 import jp.mosp.framework.utils.MospUtility;
 import jp.mosp.framework.utils.RoleUtility;
+import jp.mosp.platform.bean.mail.impl.MailOutbox;
+import jp.mosp.time.bean.impl.TimeRecordQueue;
 
 /**
  * MosPフレームワークのFrontController。<br><br>
@@ -179,6 +184,21 @@ public class Controller extends HttpServlet {
 	 */
 	protected static final String			API_SEPARATOR				= "/";
 	
+	/**
+	 * 初期化パラメータ名(MosP設定情報ファイル解析スレッド数)。
+	 */
+	protected static final String			INIT_PROPERTY_PARSE_THREADS	= "PropertyParseThreads";
+	
+	/**
+	 * 初期化パラメータ名(MosP設定情報スナップショット利用要否)。
+	 */
+	protected static final String			INIT_PROPERTY_SNAPSHOT		= "PropertySnapshot";
+	
+	/**
+	 * サーブレットコンテキスト属性名(一時ディレクトリ)。
+	 */
+	protected static final String			ATT_CONTEXT_TEMPDIR			= "javax.servlet.context.tempdir";
+	
 	
 	/**
 	 * 初期化処理。<br>
@@ -192,8 +212,13 @@ public class Controller extends HttpServlet {
 			// プロパティファイル読込
 			String docBase = getServletContext().getRealPath("");
 			ppt = parseMospProperties(docBase);
-			// メッセージファイル(JavaScript)出力
-			MospUtility.outputMessageJs(ppt);
+			// モデルクラスのコンストラクタを解決
+			InstanceRegistry.preload(ppt);
+			// メッセージファイル(JavaScript)出力(スナップショットから読み込み出力済である場合は不要)
+			if (ppt.getApplicationProperty(MospConst.APP_PROPERTY_SNAPSHOT) == null
+					|| new File(MospUtility.getMessageJsPath(ppt)).isFile() == false) {
+				MospUtility.outputMessageJs(ppt);
+			}
 			// MosPコントローラ初期化ログ出力
 			LogUtility.controllerInit(new MospParams(ppt, loggers), toString());
 		} catch (ServletException e) {
@@ -203,6 +228,35 @@ public class Controller extends HttpServlet {
 		}
 	}
 	
+	/**
+	 * 終了処理。<br>
+	 * メール送信用スレッド及び打刻反映用スレッドを終了し、SQL実行統計等をログに出力し、
+	 * 非同期ログ出力スレッドを終了して、DBコネクションプールを閉じる。<br>
+	 */
+	@Override
+	public void destroy() {
+		// メール送信用スレッドを終了
+		MailOutbox.shutdown();
+		// 打刻反映用スレッドを終了
+		TimeRecordQueue.shutdown();
+		if (ppt != null) {
+			MospParams mospParams = new MospParams(ppt, loggers);
+			// SQL実行統計をログに出力
+			MospSqlStatistics.outputLog(mospParams);
+			// レコード識別ID払出状況をログに出力
+			RecordIdAllocator.outputLog(mospParams);
+			// 非同期ログ出力スレッドを終了(残っているログを出力)
+			AsyncLogWriter writer = AsyncLogWriter.shutdown();
+			if (writer != null) {
+				// 非同期ログ出力の件数をログに出力
+				LogUtility.application(mospParams, writer.toString());
+			}
+		}
+		// DBコネクションプールを閉じる
+		DBConnPool.closeAll();
+		super.destroy();
+	}
+	
 	/**
 	 * Getメソッドリクエスト取得処理。<br>
 	 * Controllerのメインとなる処理を行い、アプリケーションを制御する。<br>
@@ -299,7 +353,10 @@ public class Controller extends HttpServlet {
 		if (mospParams.getFile() != null) {
 			// ファイル送出
 			output(request, response);
-			return;
+			// 送出ファイルが取り消されなかった場合
+			if (mospParams.getFile() != null) {
+				return;
+			}
 		}
 		// リダイレクト確認
 		if (mospParams.getRedirect() != null) {
@@ -822,7 +879,45 @@ public class Controller extends HttpServlet {
 	 * @throws MospException 実行時例外が発生した場合
 	 */
 	protected MospProperties parseMospProperties(String docBase) throws MospException {
-		return MospPropertiesParser.parseMospProperties(docBase);
+		return MospPropertiesParser.parseMospProperties(docBase, getPropertyParseThreads(), getPropertySnapshotDir());
+	}
+	
+	/**
+	 * MosP設定情報ファイル解析スレッド数を取得する。<br>
+	 * <br>
+	 * 初期化パラメータが設定されていない或いは不正である場合は、1(逐次解析)とする。<br>
+	 * @return MosP設定情報ファイル解析スレッド数
+	 */
+	protected int getPropertyParseThreads() {
+		String threads = getInitParameter(INIT_PROPERTY_PARSE_THREADS);
+		if (threads == null) {
+			return 1;
+		}
+		try {
+			return Integer.parseInt(threads.trim());
+		} catch (NumberFormatException e) {
+			return 1;
+		}
+	}
+	
+	/**
+	 * MosP設定情報スナップショットファイル格納ディレクトリを取得する。<br>
+	 * <br>
+	 * サーブレットコンテナが提供する一時ディレクトリを用いる。<br>
+	 * 再配備時に一時ディレクトリが削除されるとは限らないため、
+	 * スナップショットのハッシュ値にはコード(WEB-INF/lib及びWEB-INF/classes)のファイル情報も含める。<br>
+	 * 初期化パラメータでスナップショットの利用が指定されていない場合は、nullを返す。<br>
+	 * @return MosP設定情報スナップショットファイル格納ディレクトリ
+	 */
+	protected File getPropertySnapshotDir() {
+		if (Boolean.parseBoolean(getInitParameter(INIT_PROPERTY_SNAPSHOT)) == false) {
+			return null;
+		}
+		Object dir = getServletContext().getAttribute(ATT_CONTEXT_TEMPDIR);
+		if (dir instanceof File) {
+			return (File)dir;
+		}
+		return null;
 	}
 	
 	/**
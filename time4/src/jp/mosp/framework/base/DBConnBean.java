@@ -20,6 +20,8 @@ package jp.mosp.framework.base;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.naming.Context;
 import javax.naming.InitialContext;
@@ -37,33 +39,51 @@ public class DBConnBean {
 	/**
 	 * MosPアプリケーション設定キー(DB接続情報：データソース利用設定)。
 	 */
-	public static final String	APP_JDNI_DATA_SOURCE	= "JndiDataSource";
+	public static final String						APP_JDNI_DATA_SOURCE	= "JndiDataSource";
 	
 	/**
 	 * MosPアプリケーション設定キー(DB接続情報：ドライバ)。
 	 */
-	public static final String	APP_DB_DRIVER			= "DbDriver";
+	public static final String						APP_DB_DRIVER			= "DbDriver";
 	
 	/**
 	 * MosPアプリケーション設定キー(DB接続情報：URL)。
 	 */
-	public static final String	APP_DB_URL				= "DbUrl";
+	public static final String						APP_DB_URL				= "DbUrl";
 	
 	/**
 	 * MosPアプリケーション設定キー(DB接続情報：ユーザ)。
 	 */
-	public static final String	APP_DB_USER				= "DbUser";
+	public static final String						APP_DB_USER				= "DbUser";
 	
 	/**
 	 * MosPアプリケーション設定キー(DB接続情報：パスワード)。
 	 */
-	public static final String	APP_DB_PASS				= "DbPass";
+	public static final String						APP_DB_PASS				= "DbPass";
+	
+	/**
+	 * JNDI名毎のデータソース群。<br>
+	 * JNDIのLookupは初回のみ行う。<br>
+	 */
+	private static final Map<String, DataSource>	dataSources				= new ConcurrentHashMap<String, DataSource>();
 	
 	/**
 	 * コネクション。<br>
 	 * {@link #createConnection(String, String, String, String)}等により設定される。
 	 */
-	private Connection			connection;
+	private Connection								connection;
+	
+	/**
+	 * DBコネクションプール。<br>
+	 * {@link #connection}をDBコネクションプールから取得した場合に設定される。
+	 */
+	private DBConnPool								pool;
+	
+	/**
+	 * MosP処理情報。<br>
+	 * DBコネクションプールへの返却時、及びマスタ共有キャッシュへのトランザクション終了通知時に用いる。
+	 */
+	private MospParams								mospParams;
 	
 	
 	/**
@@ -74,14 +94,15 @@ public class DBConnBean {
 	public DBConnBean(MospParams mospParams) throws MospException {
 		// コネクション初期化
 		connection = null;
+		this.mospParams = mospParams;
 		// MosPユーザを取得
 		MospUser user = mospParams.getUser();
 		// SaaSの場合(MosPユーザからASPユーザIDが取得できた場合)
 		if (user != null && user.getAspUserId() != null && user.getAspUserId().isEmpty() == false) {
 			// MosPユーザからDB接続設定を取得してコネクションを生成
-			createConnection(user.getDbDriver(), user.getDbUrl(), user.getDbUser(), user.getDbPass());
+			createConnection(mospParams, user.getDbDriver(), user.getDbUrl(), user.getDbUser(), user.getDbPass());
 			// DB接続ログ出力
-			LogUtility.dbConnect(mospParams, user.getAspUserId() + connection.toString());
+			LogUtility.dbConnect(mospParams, user.getAspUserId() + getConnectionInfo());
 			return;
 		}
 		// JNDI名(データソース)取得及び確認
@@ -125,9 +146,9 @@ public class DBConnBean {
 			password = mospParams.getApplicationProperty(APP_DB_PASS);
 		}
 		// DB接続設定を用いてコネクションを生成
-		createConnection(rdbdriver, rdbname, userid, password);
+		createConnection(mospParams, rdbdriver, rdbname, userid, password);
 		// DB接続ログ出力
-		LogUtility.dbConnect(mospParams, connection.toString());
+		LogUtility.dbConnect(mospParams, getConnectionInfo());
 	}
 	
 	/**
@@ -139,6 +160,7 @@ public class DBConnBean {
 	public DBConnBean(MospParams mospParams, String dataSourceKey) throws MospException {
 		// コネクション初期化
 		connection = null;
+		this.mospParams = mospParams;
 		// JNDI名(データソース)取得及び確認
 		String jndiName = mospParams.getApplicationProperty(dataSourceKey);
 		// データソース準備
@@ -174,31 +196,64 @@ public class DBConnBean {
 			throws MospException {
 		// コネクション初期化
 		connection = null;
+		this.mospParams = mospParams;
 		// DB接続設定を用いてコネクションを生成
-		createConnection(rdbDriver, rdbName, userId, password);
+		createConnection(mospParams, rdbDriver, rdbName, userId, password);
 		// DB接続ログ出力
-		LogUtility.dbConnect(mospParams, connection.toString());
+		LogUtility.dbConnect(mospParams, getConnectionInfo());
 	}
 	
 	/**
-	 * データソースを取得する。
+	 * データソースを取得する。<br>
+	 * 一度取得したデータソースはJNDI名毎に保持し、再利用する。<br>
 	 * @param jndiName JNDI名
 	 * @return データソース
 	 * @throws MospException JNDIのLookupに失敗した場合
 	 */
 	protected DataSource getDataSource(String jndiName) throws MospException {
-		// THINK データソースを都度探さずに取っておくことでコスト軽減が図れる
+		// 保持しているデータソースを取得
+		DataSource dataSource = dataSources.get(jndiName);
+		if (dataSource != null) {
+			return dataSource;
+		}
 		try {
 			// コンテキスト取得
 			Context ctx = new InitialContext();
 			// データソース取得
-			return (DataSource)ctx.lookup(jndiName);
+			dataSource = (DataSource)ctx.lookup(jndiName);
+			// データソースを保持
+			dataSources.put(jndiName, dataSource);
+			return dataSource;
 		} catch (NamingException e) {
 			// JNDIのLookupに失敗した場合
 			throw new MospException(e, ExceptionConst.EX_FAIL_DB_CONNECT, null);
 		}
 	}
 	
+	/**
+	 * DBコネクションを取得する。<br>
+	 * DBコネクションプールを利用する設定の場合はDBコネクションプールから、
+	 * そうでない場合はJDBCを用いてDBコネクションを取得し、{@link #connection}に割当てる。<br>
+	 * 取得したコネクションはAutoCommit機能を利用しない。<br>
+	 * @param mospParams MosP処理情報
+	 * @param rdbdriver  JDBC名
+	 * @param rdbname    DBのURL
+	 * @param userid     DB接続ユーザーID
+	 * @param password   パスワード
+	 * @throws MospException DBコネクションの取得に失敗した場合
+	 */
+	protected void createConnection(MospParams mospParams, String rdbdriver, String rdbname, String userid,
+			String password) throws MospException {
+		// DBコネクションプールを利用しない場合
+		if (DBConnPool.isPoolEnabled(mospParams) == false) {
+			createConnection(rdbdriver, rdbname, userid, password);
+			return;
+		}
+		// DB接続設定に対応するDBコネクションプールから取得
+		pool = DBConnPool.getPool(mospParams, rdbdriver, rdbname, userid, password);
+		connection = pool.getConnection(mospParams);
+	}
+	
 	/**
 	 * DBコネクションを取得する。<br>
 	 * JDBCを用いてDBコネクションを取得し、{@link #connection}に割当てる。<br>
@@ -253,6 +308,8 @@ public class DBConnBean {
 				// コミット
 				connection.commit();
 			}
+			// マスタ共有キャッシュにトランザクション終了を通知
+			flushMasterCache();
 		} catch (SQLException e) {
 			throw new MospException(e);
 		}
@@ -269,6 +326,8 @@ public class DBConnBean {
 				// ロールバック
 				connection.rollback();
 			}
+			// マスタ共有キャッシュにトランザクション終了を通知
+			flushMasterCache();
 		} catch (SQLException e) {
 			throw new MospException(e);
 		}
@@ -276,10 +335,18 @@ public class DBConnBean {
 	
 	/**
 	 * DBコネクションを開放する。<br>
-	 * {@link #connection}を開放する。
+	 * {@link #connection}を開放する。<br>
+	 * DBコネクションプールから取得したコネクションは、ロールバックしてプールに返却する。<br>
 	 * @throws MospException DBコネクション解放時にSQL例外が発生した場合
 	 */
 	public void releaseConnection() throws MospException {
+		// DBコネクションプールから取得した場合
+		if (pool != null && connection != null) {
+			releasePooledConnection();
+			// マスタ共有キャッシュにトランザクション終了を通知
+			flushMasterCache();
+			return;
+		}
 		try {
 			if (connection != null && !connection.isClosed()) {
 				// ロールバック
@@ -287,6 +354,8 @@ public class DBConnBean {
 				// 解除
 				connection.close();
 			}
+			// マスタ共有キャッシュにトランザクション終了を通知
+			flushMasterCache();
 			if (connection != null) {
 				connection = null;
 			}
@@ -295,6 +364,51 @@ public class DBConnBean {
 		}
 	}
 	
+	/**
+	 * DBコネクションプールから取得したDBコネクションを返却する。<br>
+	 * ロールバックに失敗した場合は、プールに戻さずに破棄する。<br>
+	 * @throws MospException ロールバック時にSQL例外が発生した場合
+	 */
+	protected void releasePooledConnection() throws MospException {
+		Connection pooledConnection = connection;
+		connection = null;
+		try {
+			// ロールバック
+			if (pooledConnection.isClosed() == false) {
+				pooledConnection.rollback();
+			}
+		} catch (SQLException e) {
+			// 破棄
+			pool.invalidate(mospParams, pooledConnection);
+			throw new MospException(e);
+		}
+		// 返却
+		pool.release(mospParams, pooledConnection);
+	}
+	
+	/**
+	 * マスタ共有キャッシュ及び個人別共有キャッシュにトランザクションの終了を通知する。<br>
+	 * トランザクション中に更新したテーブル及び個人を参照する情報を破棄させる。<br>
+	 */
+	protected void flushMasterCache() {
+		if (mospParams != null) {
+			MospMasterCache.flush(mospParams);
+			MospPersonalCache.flush(mospParams);
+		}
+	}
+	
+	/**
+	 * DB接続ログ用のコネクション情報を取得する。<br>
+	 * DBコネクションプールから取得した場合は、プールの統計情報を付加する。<br>
+	 * @return コネクション情報
+	 */
+	protected String getConnectionInfo() {
+		if (pool == null) {
+			return connection.toString();
+		}
+		return pool.toString() + connection.toString();
+	}
+	
 	/**
 	 * DBコネクションインスタンス取得。
 	 * @return DBコネクションインスタンス。
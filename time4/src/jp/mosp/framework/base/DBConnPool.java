@@ -0,0 +1,681 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.framework.base;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jp.mosp.framework.constant.ExceptionConst;
+import jp.mosp.framework.utils.LogUtility;
+import jp.mosp.framework.utils.MospUtility;
+
+/**
+ * DBコネクションプール。<br>
+ * <br>
+ * DB接続設定(ドライバ、URL、ユーザ、パスワード)毎にプールを保持する。<br>
+ * SaaSの場合はASPユーザ毎にDB接続設定が異なるため、テナント毎に別のプールとなる。<br>
+ * <br>
+ * プールの設定は、プール生成時のMosPアプリケーション設定から取得する。<br>
+ */
+public class DBConnPool {
+	
+	/**
+	 * MosPアプリケーション設定キー(DBコネクションプール：利用設定)。
+	 */
+	public static final String							APP_DB_POOL						= "DbPool";
+	
+	/**
+	 * MosPアプリケーション設定キー(DBコネクションプール：最小コネクション数)。
+	 */
+	public static final String							APP_DB_POOL_MIN_SIZE			= "DbPoolMinSize";
+	
+	/**
+	 * MosPアプリケーション設定キー(DBコネクションプール：最大コネクション数)。
+	 */
+	public static final String							APP_DB_POOL_MAX_SIZE			= "DbPoolMaxSize";
+	
+	/**
+	 * MosPアプリケーション設定キー(DBコネクションプール：最大待機時間(ミリ秒))。
+	 */
+	public static final String							APP_DB_POOL_MAX_WAIT			= "DbPoolMaxWait";
+	
+	/**
+	 * MosPアプリケーション設定キー(DBコネクションプール：最大生存時間(ミリ秒))。
+	 */
+	public static final String							APP_DB_POOL_MAX_LIFETIME		= "DbPoolMaxLifetime";
+	
+	/**
+	 * MosPアプリケーション設定キー(DBコネクションプール：検証クエリ)。
+	 */
+	public static final String							APP_DB_POOL_VALIDATION_QUERY	= "DbPoolValidationQuery";
+	
+	/**
+	 * MosPアプリケーション設定キー(DBコネクションプール：リーク検出時間(ミリ秒))。
+	 */
+	public static final String							APP_DB_POOL_LEAK_DETECTION		= "DbPoolLeakDetection";
+	
+	/**
+	 * 最大コネクション数(デフォルト)。
+	 */
+	protected static final int							DEFAULT_MAX_SIZE				= 10;
+	
+	/**
+	 * 最大待機時間(ミリ秒)(デフォルト)。
+	 */
+	protected static final int							DEFAULT_MAX_WAIT				= 30000;
+	
+	/**
+	 * 最大生存時間(ミリ秒)(デフォルト)。
+	 */
+	protected static final int							DEFAULT_MAX_LIFETIME			= 1800000;
+	
+	/**
+	 * DB接続設定毎のプール群。<br>
+	 */
+	protected static final Map<String, DBConnPool>		pools							= new ConcurrentHashMap<String, DBConnPool>();
+	
+	/**
+	 * JDBCドライバ名。
+	 */
+	protected String									rdbDriver;
+	
+	/**
+	 * DBのURL。
+	 */
+	protected String									rdbName;
+	
+	/**
+	 * DB接続ユーザーID。
+	 */
+	protected String									userId;
+	
+	/**
+	 * パスワード。
+	 */
+	protected String									password;
+	
+	/**
+	 * 最小コネクション数。
+	 */
+	protected int										minSize;
+	
+	/**
+	 * 最大コネクション数。
+	 */
+	protected int										maxSize;
+	
+	/**
+	 * 最大待機時間(ミリ秒)。
+	 */
+	protected long										maxWait;
+	
+	/**
+	 * 最大生存時間(ミリ秒)(0：無期限)。
+	 */
+	protected long										maxLifetime;
+	
+	/**
+	 * 検証クエリ(空白：コネクションが閉じられていないかのみ確認)。
+	 */
+	protected String									validationQuery;
+	
+	/**
+	 * リーク検出時間(ミリ秒)(0：検出しない)。
+	 */
+	protected long										leakDetection;
+	
+	/**
+	 * 待機中コネクション群。<br>
+	 * 直近に返却されたものから貸し出す。<br>
+	 */
+	protected final LinkedList<PooledConnection>		idleList						= new LinkedList<PooledConnection>();
+	
+	/**
+	 * 貸出中コネクション群。
+	 */
+	protected final Map<Connection, PooledConnection>	activeMap						= new IdentityHashMap<Connection, PooledConnection>();
+	
+	/**
+	 * 保持コネクション数(生成中のものを含む)。
+	 */
+	protected int										totalCount;
+	
+	/**
+	 * 統計(生成回数)。
+	 */
+	protected long										createdCount;
+	
+	/**
+	 * 統計(破棄回数)。
+	 */
+	protected long										destroyedCount;
+	
+	/**
+	 * 統計(貸出回数)。
+	 */
+	protected long										borrowedCount;
+	
+	/**
+	 * 統計(待機回数)。
+	 */
+	protected long										waitedCount;
+	
+	/**
+	 * 統計(待機タイムアウト回数)。
+	 */
+	protected long										timeoutCount;
+	
+	/**
+	 * 統計(検証失敗回数)。
+	 */
+	protected long										invalidCount;
+	
+	/**
+	 * 統計(リーク検出回数)。
+	 */
+	protected long										leakCount;
+	
+	/**
+	 * 破棄済フラグ。<br>
+	 * {@link #closeAll()}により破棄されたプールに返却されたコネクションは閉じる。<br>
+	 */
+	protected volatile boolean							isShutdown;
+	
+	
+	/**
+	 * DBコネクションプールを生成する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param rdbDriver  JDBCドライバ名
+	 * @param rdbName    DBのURL
+	 * @param userId     DB接続ユーザーID
+	 * @param password   パスワード
+	 */
+	protected DBConnPool(MospParams mospParams, String rdbDriver, String rdbName, String userId, String password) {
+		this.rdbDriver = rdbDriver;
+		this.rdbName = rdbName;
+		this.userId = userId;
+		this.password = password;
+		maxSize = Math.max(1, mospParams.getApplicationProperty(APP_DB_POOL_MAX_SIZE, DEFAULT_MAX_SIZE));
+		minSize = Math.min(maxSize, Math.max(0, mospParams.getApplicationProperty(APP_DB_POOL_MIN_SIZE, 0)));
+		maxWait = Math.max(0, mospParams.getApplicationProperty(APP_DB_POOL_MAX_WAIT, DEFAULT_MAX_WAIT));
+		maxLifetime = Math.max(0, mospParams.getApplicationProperty(APP_DB_POOL_MAX_LIFETIME, DEFAULT_MAX_LIFETIME));
+		leakDetection = Math.max(0, mospParams.getApplicationProperty(APP_DB_POOL_LEAK_DETECTION, 0));
+		validationQuery = mospParams.getApplicationProperty(APP_DB_POOL_VALIDATION_QUERY);
+		if (validationQuery == null) {
+			validationQuery = "";
+		}
+	}
+	
+	/**
+	 * DBコネクションプールを利用するかを確認する。<br>
+	 * @param mospParams MosP処理情報
+	 * @return 確認結果(true：利用する、false：利用しない)
+	 */
+	public static boolean isPoolEnabled(MospParams mospParams) {
+		return mospParams.getApplicationPropertyBool(APP_DB_POOL);
+	}
+	
+	/**
+	 * DB接続設定に対応するDBコネクションプールを取得する。<br>
+	 * 存在しない場合は生成し、最小コネクション数分のコネクションを確保する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param rdbDriver  JDBCドライバ名
+	 * @param rdbName    DBのURL
+	 * @param userId     DB接続ユーザーID
+	 * @param password   パスワード
+	 * @return DBコネクションプール
+	 */
+	public static DBConnPool getPool(MospParams mospParams, String rdbDriver, String rdbName, String userId,
+			String password) {
+		// プールキー作成
+		String key = rdbDriver + "\t" + rdbName + "\t" + userId + "\t" + password;
+		DBConnPool pool = pools.get(key);
+		if (pool != null) {
+			return pool;
+		}
+		synchronized (pools) {
+			pool = pools.get(key);
+			if (pool == null) {
+				pool = new DBConnPool(mospParams, rdbDriver, rdbName, userId, password);
+				pools.put(key, pool);
+				// 最小コネクション数分のコネクションを確保
+				pool.fill(mospParams);
+			}
+		}
+		return pool;
+	}
+	
+	/**
+	 * 全てのDBコネクションプールを閉じる。<br>
+	 * 待機中のコネクションを閉じ、プールを破棄する。<br>
+	 * 貸出中のコネクションは、返却時に閉じられる。<br>
+	 */
+	public static void closeAll() {
+		synchronized (pools) {
+			for (DBConnPool pool : pools.values()) {
+				pool.close();
+			}
+			pools.clear();
+		}
+	}
+	
+	/**
+	 * 全てのDBコネクションプールの統計情報を取得する。<br>
+	 * @return DBコネクションプール統計情報リスト
+	 */
+	public static List<String> getAllMetrics() {
+		List<String> list = new ArrayList<String>();
+		for (DBConnPool pool : pools.values()) {
+			list.add(pool.toString());
+		}
+		return list;
+	}
+	
+	/**
+	 * DBコネクションを貸し出す。<br>
+	 * 待機中のコネクションが無く最大コネクション数に達している場合は、
+	 * 最大待機時間まで返却を待つ。<br>
+	 * 貸し出すコネクションはAutoCommit機能を利用しない。<br>
+	 * @param mospParams MosP処理情報
+	 * @return DBコネクション
+	 * @throws MospException DBコネクションの取得に失敗した場合、或いは待機がタイムアウトした場合
+	 */
+	public Connection getConnection(MospParams mospParams) throws MospException {
+		// 待機期限取得
+		long limit = System.currentTimeMillis() + maxWait;
+		while (true) {
+			PooledConnection pooled = null;
+			synchronized (this) {
+				// リーク検出
+				detectLeak(mospParams);
+				pooled = idleList.poll();
+				if (pooled == null) {
+					// 最大コネクション数に達している場合
+					if (totalCount >= maxSize) {
+						// 返却を待機
+						waitForReturn(limit);
+						continue;
+					}
+					// 生成予約
+					totalCount++;
+				}
+			}
+			// 待機中のコネクションが無かった場合
+			if (pooled == null) {
+				pooled = create();
+			} else if (isAvailable(pooled) == false) {
+				// 利用できない場合は破棄
+				destroy(mospParams, pooled, true);
+				continue;
+			}
+			synchronized (this) {
+				// 貸出
+				pooled.borrow(leakDetection > 0);
+				activeMap.put(pooled.connection, pooled);
+				borrowedCount++;
+			}
+			return pooled.connection;
+		}
+	}
+	
+	/**
+	 * DBコネクションを返却する。<br>
+	 * トランザクションはロールバックされていることを前提とする。<br>
+	 * 閉じられている、或いは最大生存時間を過ぎたコネクションは破棄する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param connection 返却するDBコネクション
+	 */
+	public void release(MospParams mospParams, Connection connection) {
+		PooledConnection pooled = null;
+		synchronized (this) {
+			pooled = activeMap.remove(connection);
+		}
+		// 当プールから貸し出したコネクションでない場合
+		if (pooled == null) {
+			closeQuietly(connection);
+			return;
+		}
+		// 利用できる場合
+		if (pooled.isClosed() == false && pooled.isExpired(maxLifetime) == false && isShutdown == false) {
+			synchronized (this) {
+				// 待機中コネクション群の先頭に戻す
+				idleList.addFirst(pooled);
+				notifyAll();
+			}
+			return;
+		}
+		// 破棄
+		destroy(mospParams, pooled, false);
+	}
+	
+	/**
+	 * DBコネクションを破棄する。<br>
+	 * 返却時のロールバックに失敗した場合等に用いる。<br>
+	 * @param mospParams MosP処理情報
+	 * @param connection 破棄するDBコネクション
+	 */
+	public void invalidate(MospParams mospParams, Connection connection) {
+		PooledConnection pooled = null;
+		synchronized (this) {
+			pooled = activeMap.remove(connection);
+		}
+		if (pooled == null) {
+			closeQuietly(connection);
+			return;
+		}
+		destroy(mospParams, pooled, false);
+	}
+	
+	/**
+	 * 最小コネクション数分のコネクションを確保する。<br>
+	 * コネクションの取得に失敗した場合は、DB接続ログを出力して処理を終了する。<br>
+	 * @param mospParams MosP処理情報
+	 */
+	protected void fill(MospParams mospParams) {
+		while (true) {
+			synchronized (this) {
+				if (totalCount >= minSize) {
+					return;
+				}
+				totalCount++;
+			}
+			try {
+				PooledConnection pooled = create();
+				synchronized (this) {
+					idleList.addLast(pooled);
+					notifyAll();
+				}
+			} catch (MospException e) {
+				// DB接続ログ出力
+				LogUtility.dbConnect(mospParams, toString() + MospUtility.getStackTrace(e));
+				return;
+			}
+		}
+	}
+	
+	/**
+	 * DBコネクションを生成する。<br>
+	 * 呼出元で保持コネクション数を加算していることを前提とし、
+	 * 生成に失敗した場合は保持コネクション数を戻す。<br>
+	 * @return プール用DBコネクション
+	 * @throws MospException ドライバクラスが見つからない場合、或いはSQL例外が発生した場合
+	 */
+	protected PooledConnection create() throws MospException {
+		try {
+			Class.forName(rdbDriver);
+			Connection connection = DriverManager.getConnection(rdbName, userId, password);
+			connection.setAutoCommit(false);
+			synchronized (this) {
+				createdCount++;
+			}
+			return new PooledConnection(connection);
+		} catch (ClassNotFoundException e) {
+			// ドライバクラスが見つからない場合
+			cancelCreate();
+			throw new MospException(e, ExceptionConst.EX_FAIL_DB_CONNECT, null);
+		} catch (SQLException e) {
+			// SQL例外が発生した場合
+			cancelCreate();
+			throw new MospException(e, ExceptionConst.EX_FAIL_DB_CONNECT, null);
+		}
+	}
+	
+	/**
+	 * コネクション生成の予約を取り消す。<br>
+	 */
+	protected synchronized void cancelCreate() {
+		totalCount--;
+		notifyAll();
+	}
+	
+	/**
+	 * DBコネクションを破棄する。<br>
+	 * 破棄後、保持コネクション数が最小コネクション数を下回る場合は補充する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param pooled     プール用DBコネクション
+	 * @param isInvalid  検証失敗フラグ(true：検証に失敗したため破棄、false：その他)
+	 */
+	protected void destroy(MospParams mospParams, PooledConnection pooled, boolean isInvalid) {
+		closeQuietly(pooled.connection);
+		synchronized (this) {
+			totalCount--;
+			destroyedCount++;
+			if (isInvalid) {
+				invalidCount++;
+			}
+			notifyAll();
+		}
+		// 破棄済のプールでない場合
+		if (isShutdown == false) {
+			fill(mospParams);
+		}
+	}
+	
+	/**
+	 * 待機中の全てのDBコネクションを閉じる。<br>
+	 */
+	protected void close() {
+		List<PooledConnection> list = new ArrayList<PooledConnection>();
+		synchronized (this) {
+			isShutdown = true;
+			list.addAll(idleList);
+			idleList.clear();
+			totalCount -= list.size();
+			destroyedCount += list.size();
+			notifyAll();
+		}
+		for (PooledConnection pooled : list) {
+			closeQuietly(pooled.connection);
+		}
+	}
+	
+	/**
+	 * DBコネクションの返却を待機する。<br>
+	 * 呼出元でプールの同期を取得していることを前提とする。<br>
+	 * @param limit 待機期限(ミリ秒)
+	 * @throws MospException 待機がタイムアウトした場合、或いは割り込まれた場合
+	 */
+	protected void waitForReturn(long limit) throws MospException {
+		long remain = limit - System.currentTimeMillis();
+		if (remain <= 0) {
+			timeoutCount++;
+			throw new MospException(new SQLException(toString()), ExceptionConst.EX_FAIL_DB_CONNECT, null);
+		}
+		waitedCount++;
+		try {
+			wait(remain);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new MospException(e, ExceptionConst.EX_FAIL_DB_CONNECT, null);
+		}
+	}
+	
+	/**
+	 * 待機中のDBコネクションが利用可能であるかを確認する。<br>
+	 * 最大生存時間を過ぎている場合、閉じられている場合、
+	 * 或いは検証クエリの実行に失敗した場合は、利用不可とする。<br>
+	 * @param pooled プール用DBコネクション
+	 * @return 確認結果(true：利用可能、false：利用不可)
+	 */
+	protected boolean isAvailable(PooledConnection pooled) {
+		if (pooled.isExpired(maxLifetime) || pooled.isClosed()) {
+			return false;
+		}
+		// 検証クエリが設定されていない場合
+		if (validationQuery.isEmpty()) {
+			return true;
+		}
+		Statement statement = null;
+		try {
+			statement = pooled.connection.createStatement();
+			statement.execute(validationQuery);
+			pooled.connection.rollback();
+			return true;
+		} catch (SQLException e) {
+			return false;
+		} finally {
+			if (statement != null) {
+				try {
+					statement.close();
+				} catch (SQLException e) {
+					// 処理無し
+				}
+			}
+		}
+	}
+	
+	/**
+	 * 貸出中のDBコネクションのリークを検出する。<br>
+	 * リーク検出時間を超えて貸し出されているコネクションについて、
+	 * 貸出時のスタックトレースをDB接続ログに出力する(コネクション毎に一度のみ)。<br>
+	 * 呼出元でプールの同期を取得していることを前提とする。<br>
+	 * @param mospParams MosP処理情報
+	 */
+	protected void detectLeak(MospParams mospParams) {
+		if (leakDetection <= 0) {
+			return;
+		}
+		long now = System.currentTimeMillis();
+		for (PooledConnection pooled : activeMap.values()) {
+			if (pooled.isLeakReported || now - pooled.borrowedTime < leakDetection) {
+				continue;
+			}
+			pooled.isLeakReported = true;
+			leakCount++;
+			// DB接続ログ出力
+			LogUtility.dbConnect(mospParams, toString() + MospUtility.getStackTrace(pooled.borrower));
+		}
+	}
+	
+	/**
+	 * DBコネクションを閉じる(例外は無視する)。<br>
+	 * @param connection DBコネクション
+	 */
+	protected static void closeQuietly(Connection connection) {
+		try {
+			connection.close();
+		} catch (SQLException e) {
+			// 処理無し
+		}
+	}
+	
+	/**
+	 * DBコネクションプールの統計情報を取得する。<br>
+	 * @return DBコネクションプール統計情報
+	 */
+	@Override
+	public synchronized String toString() {
+		StringBuffer sb = new StringBuffer();
+		sb.append("DBConnPool[").append(rdbName).append(" ").append(userId);
+		sb.append(" total=").append(totalCount);
+		sb.append(" active=").append(activeMap.size());
+		sb.append(" idle=").append(idleList.size());
+		sb.append(" created=").append(createdCount);
+		sb.append(" destroyed=").append(destroyedCount);
+		sb.append(" borrowed=").append(borrowedCount);
+		sb.append(" waited=").append(waitedCount);
+		sb.append(" timeout=").append(timeoutCount);
+		sb.append(" invalid=").append(invalidCount);
+		sb.append(" leak=").append(leakCount);
+		sb.append("]");
+		return sb.toString();
+	}
+	
+	
+	/**
+	 * プール用DBコネクション。<br>
+	 */
+	protected static class PooledConnection {
+		
+		/**
+		 * DBコネクション。
+		 */
+		protected final Connection	connection;
+		
+		/**
+		 * 生成時刻(ミリ秒)。
+		 */
+		protected final long		createdTime;
+		
+		/**
+		 * 貸出時刻(ミリ秒)。
+		 */
+		protected long				borrowedTime;
+		
+		/**
+		 * 貸出元(リーク検出時のスタックトレース出力用)。
+		 */
+		protected Throwable			borrower;
+		
+		/**
+		 * リーク出力済フラグ。
+		 */
+		protected boolean			isLeakReported;
+		
+		
+		/**
+		 * プール用DBコネクションを生成する。<br>
+		 * @param connection DBコネクション
+		 */
+		protected PooledConnection(Connection connection) {
+			this.connection = connection;
+			createdTime = System.currentTimeMillis();
+		}
+		
+		/**
+		 * 貸出情報を設定する。<br>
+		 * @param needBorrower 貸出元要否
+		 */
+		protected void borrow(boolean needBorrower) {
+			borrowedTime = System.currentTimeMillis();
+			borrower = needBorrower ? new Throwable("DBConnPool borrower") : null;
+			isLeakReported = false;
+		}
+		
+		/**
+		 * 最大生存時間を過ぎているかを確認する。<br>
+		 * @param maxLifetime 最大生存時間(ミリ秒)(0：無期限)
+		 * @return 確認結果(true：過ぎている、false：過ぎていない)
+		 */
+		protected boolean isExpired(long maxLifetime) {
+			return maxLifetime > 0 && System.currentTimeMillis() - createdTime >= maxLifetime;
+		}
+		
+		/**
+		 * DBコネクションが閉じられているかを確認する。<br>
+		 * @return 確認結果(true：閉じられている或いは確認できない、false：閉じられていない)
+		 */
+		protected boolean isClosed() {
+			try {
+				return connection.isClosed();
+			} catch (SQLException e) {
+				return true;
+			}
+		}
+		
+	}
+	
+}
@@ -0,0 +1,291 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.framework.base;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * DAOメタ情報。<br>
+ * <br>
+ * DAOクラスのテーブル名(TABLE)、列名(COL_)及びキー列名(KEY_)を、
+ * DAOクラス毎に一度だけリフレクションで取得して保持する。<br>
+ * また、{@link BaseDao}が作成したSQL(全件検索、挿入、更新、削除等)を、種類毎に保持する。<br>
+ * <br>
+ * 保持する情報は複数のスレッドで共有されるため、利用側で変更してはならない。<br>
+ */
+public class DaoMetadata {
+	
+	/**
+	 * SQLの種類(全件検索)。
+	 */
+	public static final String							QUERY_SELECT					= "select";
+	
+	/**
+	 * SQLの種類(検索(テーブル名無し))。
+	 */
+	public static final String							QUERY_SELECT_STATEMENT			= "selectStatement";
+	
+	/**
+	 * SQLの種類(検索(テーブル名付))。
+	 */
+	public static final String							QUERY_SELECT_STATEMENT_TABLE	= "selectStatementTable";
+	
+	/**
+	 * SQLの種類(件数検索)。
+	 */
+	public static final String							QUERY_SELECT_COUNT				= "selectCount";
+	
+	/**
+	 * SQLの種類(挿入)。
+	 */
+	public static final String							QUERY_INSERT					= "insert";
+	
+	/**
+	 * SQLの種類(更新)。
+	 */
+	public static final String							QUERY_UPDATE					= "update";
+	
+	/**
+	 * SQLの種類(物理削除)。
+	 */
+	public static final String							QUERY_PHYSICAL_DELETE			= "physicalDelete";
+	
+	/**
+	 * SQLの種類(削除)。
+	 */
+	public static final String							QUERY_DELETE					= "delete";
+	
+	/**
+	 * SQLの種類(論理削除)。
+	 */
+	public static final String							QUERY_LOGICAL_DELETE			= "logicalDelete";
+	
+	/**
+	 * SQLの種類(キーによる条件)。
+	 */
+	public static final String							QUERY_CONDITION_FOR_KEY			= "conditionForKey";
+	
+	/**
+	 * SQLの種類(キーによるソート)。
+	 */
+	public static final String							QUERY_ORDER_FOR_KEY				= "orderForKey";
+	
+	/**
+	 * フィールド名(テーブル名)。
+	 */
+	protected static final String						FIELD_TABLE						= "TABLE";
+	
+	/**
+	 * キーフィールド名のプレフィックス。
+	 */
+	protected static final String						PREFIX_KEY						= "KEY_";
+	
+	/**
+	 * DAOメタ情報群(キー：DAOクラス)。
+	 */
+	protected static final Map<Class<?>, DaoMetadata>	metadataMap						= new ConcurrentHashMap<Class<?>, DaoMetadata>();
+	
+	/**
+	 * DAOクラス。
+	 */
+	protected final Class<?>							cls;
+	
+	/**
+	 * テーブル名(TABLEフィールドが無い場合はnull)。
+	 */
+	protected final String								table;
+	
+	/**
+	 * フィールド値リスト群(キー：フィールド名のプレフィックス)。
+	 */
+	protected final Map<String, List<String>>			fieldListMap;
+	
+	/**
+	 * SQL群(キー：SQLの種類)。
+	 */
+	protected final Map<String, String>					queryMap;
+	
+	/**
+	 * レコード識別ID取得メソッド群(キー：DTOクラス)。
+	 */
+	protected final Map<Class<?>, Method>				recordIdGetterMap;
+	
+	
+	/**
+	 * DAOメタ情報を生成する。<br>
+	 * @param cls DAOクラス
+	 * @throws MospException フィールド値の取得に失敗した場合
+	 */
+	protected DaoMetadata(Class<?> cls) throws MospException {
+		this.cls = cls;
+		table = getTableValue(cls);
+		fieldListMap = new ConcurrentHashMap<String, List<String>>();
+		queryMap = new ConcurrentHashMap<String, String>();
+		recordIdGetterMap = new ConcurrentHashMap<Class<?>, Method>();
+	}
+	
+	/**
+	 * DAOメタ情報を取得する。<br>
+	 * 存在しない場合は作成する。<br>
+	 * @param cls DAOクラス
+	 * @return DAOメタ情報
+	 * @throws MospException フィールド値の取得に失敗した場合
+	 */
+	public static DaoMetadata getInstance(Class<?> cls) throws MospException {
+		DaoMetadata metadata = metadataMap.get(cls);
+		if (metadata == null) {
+			metadata = new DaoMetadata(cls);
+			metadataMap.put(cls, metadata);
+		}
+		return metadata;
+	}
+	
+	/**
+	 * テーブル名を取得する。<br>
+	 * @return テーブル名
+	 * @throws MospException TABLEフィールドが無い場合
+	 */
+	public String getTable() throws MospException {
+		if (table == null) {
+			throw new MospException(new NoSuchFieldException(cls.getName() + "." + FIELD_TABLE));
+		}
+		return table;
+	}
+	
+	/**
+	 * フィールド値リストを取得する。<br>
+	 * フィールド名がプレフィックスで始まるpublicフィールドの値を、
+	 * {@link Class#getFields()}の順で取得する。<br>
+	 * @param prefix 取得対象フィールド名のプレフィックス
+	 * @return フィールド値リスト(変更不可)
+	 * @throws MospException フィールド値の取得に失敗した場合
+	 */
+	public List<String> getFieldList(String prefix) throws MospException {
+		List<String> list = fieldListMap.get(prefix);
+		if (list != null) {
+			return list;
+		}
+		list = new ArrayList<String>();
+		for (Field field : cls.getFields()) {
+			if (field.getName().indexOf(prefix) == 0) {
+				list.add(getFieldValue(field));
+			}
+		}
+		list = Collections.unmodifiableList(list);
+		fieldListMap.put(prefix, list);
+		return list;
+	}
+	
+	/**
+	 * SQLを取得する。<br>
+	 * @param kind SQLの種類
+	 * @return SQL(保持していない場合はnull)
+	 */
+	public String getQuery(String kind) {
+		return queryMap.get(kind);
+	}
+	
+	/**
+	 * SQLを保持する。<br>
+	 * @param kind  SQLの種類
+	 * @param query SQL
+	 * @return SQL
+	 */
+	public String putQuery(String kind, String query) {
+		queryMap.put(kind, query);
+		return query;
+	}
+	
+	/**
+	 * DTOからレコード識別IDを取得する。<br>
+	 * 取得メソッドは、キー列名(例：tmd_total_leave_id)から
+	 * 命名規約に従って求めたもの(例：getTmdTotalLeaveId)とする。<br>
+	 * @param dto DTO
+	 * @return レコード識別ID
+	 * @throws MospException 取得メソッドが無い或いは実行に失敗した場合
+	 */
+	public long getRecordId(BaseDtoInterface dto) throws MospException {
+		Method getter = recordIdGetterMap.get(dto.getClass());
+		try {
+			if (getter == null) {
+				getter = dto.getClass().getMethod(getGetterName(getFieldList(PREFIX_KEY).get(0)));
+				recordIdGetterMap.put(dto.getClass(), getter);
+			}
+			return ((Number)getter.invoke(dto)).longValue();
+		} catch (NoSuchMethodException e) {
+			throw new MospException(e);
+		} catch (IllegalAccessException e) {
+			throw new MospException(e);
+		} catch (InvocationTargetException e) {
+			throw new MospException(e);
+		}
+	}
+	
+	/**
+	 * 列名から取得メソッド名を求める。<br>
+	 * @param column 列名(例：tmd_total_leave_id)
+	 * @return 取得メソッド名(例：getTmdTotalLeaveId)
+	 */
+	protected static String getGetterName(String column) {
+		StringBuffer sb = new StringBuffer("get");
+		for (String word : column.split("_")) {
+			if (word.isEmpty()) {
+				continue;
+			}
+			sb.append(Character.toUpperCase(word.charAt(0)));
+			sb.append(word.substring(1));
+		}
+		return sb.toString();
+	}
+	
+	/**
+	 * テーブル名を取得する。<br>
+	 * @param cls DAOクラス
+	 * @return テーブル名(TABLEフィールドが無い場合はnull)
+	 * @throws MospException フィールド値の取得に失敗した場合
+	 */
+	protected static String getTableValue(Class<?> cls) throws MospException {
+		try {
+			return getFieldValue(cls.getField(FIELD_TABLE));
+		} catch (NoSuchFieldException e) {
+			return null;
+		}
+	}
+	
+	/**
+	 * フィールド値を取得する。<br>
+	 * @param field フィールド
+	 * @return フィールド値
+	 * @throws MospException フィールド値の取得に失敗した場合
+	 */
+	protected static String getFieldValue(Field field) throws MospException {
+		try {
+			return (String)field.get(null);
+		} catch (IllegalAccessException e) {
+			throw new MospException(e);
+		}
+	}
+	
+}
@@ -0,0 +1,490 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.framework.base;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * マスタ共有キャッシュ。<br>
+ * <br>
+ * リクエストを跨いでマスタ情報を保持する。<br>
+ * 保持領域(以下、リージョン)はテナント(ASPユーザ)及び参照テーブル群毎に作成され、
+ * リージョン毎に最大件数を超えた場合は、最も参照されていない情報から破棄する。<br>
+ * <br>
+ * 参照テーブルが更新された場合({@link BaseDao}の更新系SQLを実行した場合)は、
+ * 当該テーブルを参照するリージョンの版を上げてリージョンを破棄する。<br>
+ * また、トランザクションの確定前に他のリクエストが更新前の情報を保持する可能性があるため、
+ * コミット或いはロールバック時({@link DBConnBean})にも再度版を上げる。<br>
+ * 更新したリクエストでは、コミット或いはロールバックまで当該リージョンを利用しない。<br>
+ * <br>
+ * 保持する情報は複数のリクエストで共有されるため、利用側で変更してはならない。<br>
+ */
+public class MospMasterCache {
+	
+	/**
+	 * MosPアプリケーション設定キー(マスタ共有キャッシュ利用設定)。
+	 */
+	public static final String					APP_MASTER_CACHE		= "MasterCache";
+	
+	/**
+	 * MosPアプリケーション設定キー(マスタ共有キャッシュリージョン毎最大件数)。
+	 */
+	public static final String					APP_MASTER_CACHE_SIZE	= "MasterCacheSize";
+	
+	/**
+	 * MosPアプリケーション設定キー(マスタ共有キャッシュ有効期間(ミリ秒))。
+	 */
+	public static final String					APP_MASTER_CACHE_EXPIRE	= "MasterCacheExpire";
+	
+	/**
+	 * 汎用パラメータキー(更新テーブル群)。<br>
+	 * コミット或いはロールバックまでの間に更新したテーブル名を保持する。<br>
+	 */
+	public static final String					PRM_UPDATED_TABLES		= "MasterCacheUpdatedTables";
+	
+	/**
+	 * 共有キャッシュに情報が存在しないことを表すオブジェクト。<br>
+	 * 情報としてnullを保持する場合があるため、nullとは区別する。<br>
+	 */
+	public static final Object					MISS					= new Object();
+	
+	/**
+	 * リージョン毎最大件数(デフォルト)。
+	 */
+	protected static final int					DEFAULT_SIZE			= 10000;
+	
+	/**
+	 * 有効期間(ミリ秒)(デフォルト)。
+	 */
+	protected static final int					DEFAULT_EXPIRE			= 300000;
+	
+	/**
+	 * リージョン群(キー：テナント及び参照テーブル群)。
+	 */
+	protected static final Map<String, Region>	regions					= new ConcurrentHashMap<String, Region>();
+	
+	
+	/**
+	 * 他クラスからインスタンスを生成させない。<br>
+	 */
+	private MospMasterCache() {
+		// 処理無し
+	}
+	
+	/**
+	 * マスタ共有キャッシュを利用するかを確認する。<br>
+	 * @param mospParams MosP処理情報
+	 * @return 確認結果(true：利用する、false：利用しない)
+	 */
+	public static boolean isEnabled(MospParams mospParams) {
+		return mospParams.getApplicationPropertyBool(APP_MASTER_CACHE);
+	}
+	
+	/**
+	 * リージョンの版を取得する。<br>
+	 * DBから情報を取得する前に取得し、{@link #put(MospParams, String, Object, Object, long)}に渡す。<br>
+	 * @param mospParams MosP処理情報
+	 * @param tables     参照テーブル群(カンマ区切)
+	 * @return 版
+	 */
+	public static long getVersion(MospParams mospParams, String tables) {
+		// リージョンを取得
+		Region region = getRegion(mospParams, tables);
+		if (region == null) {
+			return 0L;
+		}
+		return region.getVersion();
+	}
+	
+	/**
+	 * 共有キャッシュから情報を取得する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param tables     参照テーブル群(カンマ区切)
+	 * @param key        キー
+	 * @return 情報(存在しない場合は{@link #MISS})
+	 */
+	public static Object get(MospParams mospParams, String tables, Object key) {
+		// リージョンを取得
+		Region region = getRegion(mospParams, tables);
+		// 利用しない場合或いは更新中である場合
+		if (region == null || isUpdating(mospParams, region)) {
+			return MISS;
+		}
+		return region.get(key);
+	}
+	
+	/**
+	 * 共有キャッシュに情報を設定する。<br>
+	 * DBから情報を取得する間にリージョンの版が上がった場合は、設定しない。<br>
+	 * @param mospParams MosP処理情報
+	 * @param tables     参照テーブル群(カンマ区切)
+	 * @param key        キー
+	 * @param value      情報
+	 * @param version    DBから情報を取得する前に取得した版
+	 */
+	public static void put(MospParams mospParams, String tables, Object key, Object value, long version) {
+		// リージョンを取得
+		Region region = getRegion(mospParams, tables);
+		// 利用しない場合或いは更新中である場合
+		if (region == null || isUpdating(mospParams, region)) {
+			return;
+		}
+		region.put(key, value, version);
+	}
+	
+	/**
+	 * テーブルの更新を通知する。<br>
+	 * 当該テーブルを参照するリージョンの版を上げ、
+	 * コミット或いはロールバック時に再度版を上げるため更新テーブル群に追加する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param table      テーブル名
+	 */
+	public static void invalidate(MospParams mospParams, String table) {
+		// 共有キャッシュを利用しない場合
+		if (table == null || isEnabled(mospParams) == false) {
+			return;
+		}
+		// 当該テーブルを参照するリージョンの版を上げる
+		invalidate(getTenant(mospParams), table);
+		// 更新テーブル群に追加
+		getUpdatedTables(mospParams, true).add(table);
+	}
+	
+	/**
+	 * 更新テーブル群を参照するリージョンの版を上げ、更新テーブル群を破棄する。<br>
+	 * コミット或いはロールバック時に用いる。<br>
+	 * @param mospParams MosP処理情報
+	 */
+	public static void flush(MospParams mospParams) {
+		Set<String> updatedTables = getUpdatedTables(mospParams, false);
+		if (updatedTables == null || updatedTables.isEmpty()) {
+			return;
+		}
+		String tenant = getTenant(mospParams);
+		for (String table : updatedTables) {
+			invalidate(tenant, table);
+		}
+		updatedTables.clear();
+	}
+	
+	/**
+	 * 複数の値から共有キャッシュのキーを作成する。<br>
+	 * @param values 値(コード及び対象日等)
+	 * @return キー
+	 */
+	public static Object getKey(Object... values) {
+		return Arrays.asList(values);
+	}
+	
+	/**
+	 * 全てのリージョンの統計情報を取得する。<br>
+	 * @return 統計情報リスト
+	 */
+	public static List<String> getAllMetrics() {
+		List<String> list = new ArrayList<String>();
+		for (Region region : regions.values()) {
+			list.add(region.toString());
+		}
+		return list;
+	}
+	
+	/**
+	 * リージョンを取得する。<br>
+	 * 存在しない場合は作成する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param tables     参照テーブル群(カンマ区切)
+	 * @return リージョン(共有キャッシュを利用しない場合はnull)
+	 */
+	protected static Region getRegion(MospParams mospParams, String tables) {
+		// 共有キャッシュを利用しない場合
+		if (isEnabled(mospParams) == false) {
+			return null;
+		}
+		String tenant = getTenant(mospParams);
+		String regionKey = tenant + "\t" + tables;
+		Region region = regions.get(regionKey);
+		if (region != null) {
+			return region;
+		}
+		synchronized (regions) {
+			region = regions.get(regionKey);
+			if (region == null) {
+				int size = mospParams.getApplicationProperty(APP_MASTER_CACHE_SIZE, DEFAULT_SIZE);
+				int expire = mospParams.getApplicationProperty(APP_MASTER_CACHE_EXPIRE, DEFAULT_EXPIRE);
+				region = new Region(tenant, tables, size, expire);
+				regions.put(regionKey, region);
+			}
+		}
+		return region;
+	}
+	
+	/**
+	 * 対象テナントにおいて、テーブルを参照するリージョンの版を上げる。<br>
+	 * @param tenant テナント
+	 * @param table  テーブル名
+	 */
+	protected static void invalidate(String tenant, String table) {
+		for (Region region : regions.values()) {
+			if (region.tenant.equals(tenant) && region.tables.contains(table)) {
+				region.invalidate();
+			}
+		}
+	}
+	
+	/**
+	 * リクエスト内でリージョンの参照テーブルを更新しているかを確認する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param region     リージョン
+	 * @return 確認結果(true：更新している、false：更新していない)
+	 */
+	protected static boolean isUpdating(MospParams mospParams, Region region) {
+		Set<String> updatedTables = getUpdatedTables(mospParams, false);
+		if (updatedTables == null || updatedTables.isEmpty()) {
+			return false;
+		}
+		for (String table : region.tables) {
+			if (updatedTables.contains(table)) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * 更新テーブル群を取得する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param needCreate 作成要否(true：存在しない場合は作成する、false：作成しない)
+	 * @return 更新テーブル群
+	 */
+	@SuppressWarnings("unchecked")
+	protected static Set<String> getUpdatedTables(MospParams mospParams, boolean needCreate) {
+		Set<String> updatedTables = (Set<String>)mospParams.getGeneralParam(PRM_UPDATED_TABLES);
+		if (updatedTables == null && needCreate) {
+			updatedTables = new HashSet<String>();
+			mospParams.addGeneralParam(PRM_UPDATED_TABLES, updatedTables);
+		}
+		return updatedTables;
+	}
+	
+	/**
+	 * テナントを取得する。<br>
+	 * SaaSの場合はASPユーザID、そうでない場合は空文字とする。<br>
+	 * @param mospParams MosP処理情報
+	 * @return テナント
+	 */
+	protected static String getTenant(MospParams mospParams) {
+		MospUser user = mospParams.getStoredInfo() == null ? null : mospParams.getUser();
+		if (user == null || user.getAspUserId() == null) {
+			return "";
+		}
+		return user.getAspUserId();
+	}
+	
+	
+	/**
+	 * リージョン。<br>
+	 */
+	protected static class Region {
+		
+		/**
+		 * テナント。
+		 */
+		protected final String					tenant;
+		
+		/**
+		 * 参照テーブル群。
+		 */
+		protected final Set<String>				tables;
+		
+		/**
+		 * 最大件数。
+		 */
+		protected final int						maxSize;
+		
+		/**
+		 * 有効期間(ミリ秒)(0：無期限)。
+		 */
+		protected final long					expire;
+		
+		/**
+		 * 情報群(参照順)。
+		 */
+		protected final Map<Object, CacheEntry>	entryMap;
+		
+		/**
+		 * 版。
+		 */
+		protected long							version;
+		
+		/**
+		 * 統計(ヒット回数)。
+		 */
+		protected long							hitCount;
+		
+		/**
+		 * 統計(ミス回数)。
+		 */
+		protected long							missCount;
+		
+		/**
+		 * 統計(破棄回数)。
+		 */
+		protected long							evictCount;
+		
+		/**
+		 * 統計(版更新回数)。
+		 */
+		protected long							invalidateCount;
+		
+		
+		/**
+		 * リージョンを生成する。<br>
+		 * @param tenant  テナント
+		 * @param tables  参照テーブル群(カンマ区切)
+		 * @param maxSize 最大件数
+		 * @param expire  有効期間(ミリ秒)(0：無期限)
+		 */
+		protected Region(String tenant, String tables, int maxSize, int expire) {
+			this.tenant = tenant;
+			this.tables = new HashSet<String>(Arrays.asList(tables.split(",")));
+			this.maxSize = maxSize;
+			this.expire = expire;
+			entryMap = new LinkedHashMap<Object, CacheEntry>(16, 0.75f, true) {
+				
+				private static final long	serialVersionUID	= 1L;
+				
+				
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Object, CacheEntry> eldest) {
+					if (size() <= Region.this.maxSize) {
+						return false;
+					}
+					evictCount++;
+					return true;
+				}
+			};
+		}
+		
+		/**
+		 * @return 版
+		 */
+		protected synchronized long getVersion() {
+			return version;
+		}
+		
+		/**
+		 * 情報を取得する。<br>
+		 * @param key キー
+		 * @return 情報(存在しない或いは有効期間を過ぎた場合は{@link MospMasterCache#MISS})
+		 */
+		protected synchronized Object get(Object key) {
+			CacheEntry entry = entryMap.get(key);
+			if (entry == null || entry.isExpired(expire)) {
+				missCount++;
+				return MISS;
+			}
+			hitCount++;
+			return entry.value;
+		}
+		
+		/**
+		 * 情報を設定する。<br>
+		 * @param key           キー
+		 * @param value         情報
+		 * @param loadedVersion DBから情報を取得する前に取得した版
+		 */
+		protected synchronized void put(Object key, Object value, long loadedVersion) {
+			if (loadedVersion != version || maxSize <= 0) {
+				return;
+			}
+			entryMap.put(key, new CacheEntry(value));
+		}
+		
+		/**
+		 * 版を上げ、情報群を破棄する。<br>
+		 */
+		protected synchronized void invalidate() {
+			version++;
+			invalidateCount++;
+			entryMap.clear();
+		}
+		
+		/**
+		 * リージョンの統計情報を取得する。<br>
+		 * @return 統計情報
+		 */
+		@Override
+		public synchronized String toString() {
+			StringBuffer sb = new StringBuffer();
+			sb.append("MospMasterCache[").append(tenant).append(" ").append(tables);
+			sb.append(" size=").append(entryMap.size());
+			sb.append(" version=").append(version);
+			sb.append(" hit=").append(hitCount);
+			sb.append(" miss=").append(missCount);
+			sb.append(" evict=").append(evictCount);
+			sb.append(" invalidate=").append(invalidateCount);
+			sb.append("]");
+			return sb.toString();
+		}
+		
+	}
+	
+	/**
+	 * リージョンに保持する情報。<br>
+	 */
+	protected static class CacheEntry {
+		
+		/**
+		 * 情報。
+		 */
+		protected final Object	value;
+		
+		/**
+		 * 取得時刻(ミリ秒)。
+		 */
+		protected final long	loadedTime;
+		
+		
+		/**
+		 * リージョンに保持する情報を生成する。<br>
+		 * @param value 情報
+		 */
+		protected CacheEntry(Object value) {
+			this.value = value;
+			loadedTime = System.currentTimeMillis();
+		}
+		
+		/**
+		 * 有効期間を過ぎているかを確認する。<br>
+		 * @param expire 有効期間(ミリ秒)(0：無期限)
+		 * @return 確認結果(true：過ぎている、false：過ぎていない)
+		 */
+		protected boolean isExpired(long expire) {
+			return expire > 0 && System.currentTimeMillis() - loadedTime >= expire;
+		}
+		
+	}
+	
+}
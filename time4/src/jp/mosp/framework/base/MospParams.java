@@ -206,6 +206,38 @@ public class MospParams {
 		errorMessageList = new ArrayList<String>(params.getErrorMessageList());
 	}
 	
+	/**
+	 * 並列処理用のMosP処理情報を生成する。<br>
+	 * <br>
+	 * MosP設定情報、ログ出力クラス群、セッション保持情報及びコマンドを共有する。<br>
+	 * メッセージ及び汎用パラメータは共有しないため、並列処理で設定されたメッセージは
+	 * {@link #inheritMessages(MospParams)}で受け取る必要がある。<br>
+	 * <br>
+	 * 別スレッドで別のDBコネクションを用いてBeanを実行する場合に用いる。<br>
+	 * @return 並列処理用MosP処理情報
+	 */
+	public MospParams getParallelParams() {
+		MospParams params = new MospParams(properties, loggers);
+		params.storedInfo = storedInfo;
+		params.command = command;
+		params.generalParamsMap = new HashMap<String, Object>(generalParamsMap);
+		// マスタ共有キャッシュの更新テーブル群は共有しない
+		params.generalParamsMap.remove(MospMasterCache.PRM_UPDATED_TABLES);
+		return params;
+	}
+	
+	/**
+	 * メッセージを受け取る。<br>
+	 * <br>
+	 * {@link #getParallelParams()}で生成したMosP処理情報から、
+	 * メッセージ及びエラーメッセージを受け取る。<br>
+	 * @param params 受け取り元MosP処理情報
+	 */
+	public void inheritMessages(MospParams params) {
+		messageList.addAll(params.getMessageList());
+		errorMessageList.addAll(params.getErrorMessageList());
+	}
+	
 	/**
 	 * @return user
 	 */
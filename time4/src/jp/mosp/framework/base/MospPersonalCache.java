@@ -0,0 +1,529 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.framework.base;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 個人別共有キャッシュ。<br>
+ * <br>
+ * リクエストを跨いで個人毎の集計結果等を保持する。<br>
+ * 保持領域(以下、ストア)はテナント(ASPユーザ)毎に作成され、
+ * 最大件数を超えた場合は、最も参照されていない情報から破棄する。<br>
+ * <br>
+ * 個人の情報を更新する処理は、{@link #invalidate(MospParams, String)}で当該個人の版を上げる。<br>
+ * また、全個人に影響するテーブル({@link #APP_PERSONAL_CACHE_GLOBAL_TABLES})が更新された場合
+ * ({@link BaseDao}の更新系SQLを実行した場合)は、ストアの版を上げて全ての情報を破棄する。<br>
+ * いずれの場合も、{@link MospMasterCache}と同様にコミット或いはロールバック時に再度版を上げ、
+ * 更新したリクエストでは、コミット或いはロールバックまで当該個人の情報を利用しない。<br>
+ * <br>
+ * 版の更新が漏れた場合に備え、有効期間を過ぎた情報は利用しない。<br>
+ * 保持する情報は複数のリクエストで共有されるため、利用側で変更してはならない。<br>
+ */
+public class MospPersonalCache {
+	
+	/**
+	 * MosPアプリケーション設定キー(個人別共有キャッシュ利用設定)。
+	 */
+	public static final String					APP_PERSONAL_CACHE					= "PersonalCache";
+	
+	/**
+	 * MosPアプリケーション設定キー(個人別共有キャッシュテナント毎最大件数)。
+	 */
+	public static final String					APP_PERSONAL_CACHE_SIZE				= "PersonalCacheSize";
+	
+	/**
+	 * MosPアプリケーション設定キー(個人別共有キャッシュ有効期間(ミリ秒))。
+	 */
+	public static final String					APP_PERSONAL_CACHE_EXPIRE			= "PersonalCacheExpire";
+	
+	/**
+	 * MosPアプリケーション設定キー(個人別共有キャッシュ全件破棄テーブル接頭辞群)。<br>
+	 * 当該接頭辞で始まるテーブルが更新された場合は、全ての情報を破棄する。<br>
+	 */
+	public static final String					APP_PERSONAL_CACHE_GLOBAL_TABLES	= "PersonalCacheGlobalTables";
+	
+	/**
+	 * MosPアプリケーション設定キー(個人別共有キャッシュ検証設定)。<br>
+	 * 有効である場合、利用側は保持している情報を用いずに再作成し、保持している情報と比較する。<br>
+	 */
+	public static final String					APP_PERSONAL_CACHE_VERIFY			= "PersonalCacheVerify";
+	
+	/**
+	 * 汎用パラメータキー(更新個人ID群)。<br>
+	 * コミット或いはロールバックまでの間に更新した個人IDを保持する。<br>
+	 */
+	public static final String					PRM_UPDATED_PERSONS					= "PersonalCacheUpdatedPersons";
+	
+	/**
+	 * 共有キャッシュに情報が存在しないことを表すオブジェクト。<br>
+	 */
+	public static final Object					MISS								= MospMasterCache.MISS;
+	
+	/**
+	 * 更新個人ID群において全個人を表す値。
+	 */
+	protected static final String				ALL_PERSONS							= "";
+	
+	/**
+	 * テナント毎最大件数(デフォルト)。
+	 */
+	protected static final int					DEFAULT_SIZE						= 10000;
+	
+	/**
+	 * 有効期間(ミリ秒)(デフォルト)。
+	 */
+	protected static final int					DEFAULT_EXPIRE						= 300000;
+	
+	/**
+	 * ストア群(キー：テナント)。
+	 */
+	protected static final Map<String, Store>	stores								= new ConcurrentHashMap<String, Store>();
+	
+	
+	/**
+	 * 他クラスからインスタンスを生成させない。<br>
+	 */
+	private MospPersonalCache() {
+		// 処理無し
+	}
+	
+	/**
+	 * 個人別共有キャッシュを利用するかを確認する。<br>
+	 * @param mospParams MosP処理情報
+	 * @return 確認結果(true：利用する、false：利用しない)
+	 */
+	public static boolean isEnabled(MospParams mospParams) {
+		return mospParams.getApplicationPropertyBool(APP_PERSONAL_CACHE);
+	}
+	
+	/**
+	 * 保持している情報を検証するかを確認する。<br>
+	 * @param mospParams MosP処理情報
+	 * @return 確認結果(true：検証する、false：検証しない)
+	 */
+	public static boolean isVerified(MospParams mospParams) {
+		return mospParams.getApplicationPropertyBool(APP_PERSONAL_CACHE_VERIFY);
+	}
+	
+	/**
+	 * ストアの版を取得する。<br>
+	 * 情報を作成する前に取得し、{@link #put(MospParams, String, Object, Object, long)}に渡す。<br>
+	 * @param mospParams MosP処理情報
+	 * @return 版
+	 */
+	public static long getVersion(MospParams mospParams) {
+		Store store = getStore(mospParams);
+		if (store == null) {
+			return 0L;
+		}
+		return store.getVersion();
+	}
+	
+	/**
+	 * 共有キャッシュから情報を取得する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param personalId 個人ID
+	 * @param key        キー
+	 * @return 情報(存在しない場合は{@link #MISS})
+	 */
+	public static Object get(MospParams mospParams, String personalId, Object key) {
+		Store store = getStore(mospParams);
+		// 利用しない場合或いは更新中である場合
+		if (store == null || isUpdating(mospParams, personalId)) {
+			return MISS;
+		}
+		return store.get(personalId, key);
+	}
+	
+	/**
+	 * 共有キャッシュに情報を設定する。<br>
+	 * 情報を作成する間に当該個人或いはストアの版が上がった場合は、設定しない。<br>
+	 * @param mospParams MosP処理情報
+	 * @param personalId 個人ID
+	 * @param key        キー
+	 * @param value      情報
+	 * @param version    情報を作成する前に取得した版
+	 */
+	public static void put(MospParams mospParams, String personalId, Object key, Object value, long version) {
+		Store store = getStore(mospParams);
+		// 利用しない場合或いは更新中である場合
+		if (store == null || isUpdating(mospParams, personalId)) {
+			return;
+		}
+		store.put(personalId, key, value, version);
+	}
+	
+	/**
+	 * 個人の情報の更新を通知する。<br>
+	 * 当該個人の版を上げ、コミット或いはロールバック時に再度版を上げるため更新個人ID群に追加する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param personalId 個人ID
+	 */
+	public static void invalidate(MospParams mospParams, String personalId) {
+		Store store = getStore(mospParams);
+		if (store == null || personalId == null) {
+			return;
+		}
+		store.invalidate(personalId);
+		getUpdatedPersons(mospParams, true).add(personalId);
+	}
+	
+	/**
+	 * テーブルの更新を通知する。<br>
+	 * 全個人に影響するテーブルである場合は、ストアの版を上げ、
+	 * コミット或いはロールバック時に再度版を上げるため更新個人ID群に全個人を追加する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param table      テーブル名
+	 */
+	public static void notifyUpdate(MospParams mospParams, String table) {
+		Store store = getStore(mospParams);
+		if (store == null || table == null || isGlobalTable(mospParams, table) == false) {
+			return;
+		}
+		store.invalidateAll();
+		getUpdatedPersons(mospParams, true).add(ALL_PERSONS);
+	}
+	
+	/**
+	 * 更新個人ID群の版を上げ、更新個人ID群を破棄する。<br>
+	 * コミット或いはロールバック時に用いる。<br>
+	 * @param mospParams MosP処理情報
+	 */
+	public static void flush(MospParams mospParams) {
+		Set<String> updatedPersons = getUpdatedPersons(mospParams, false);
+		if (updatedPersons == null || updatedPersons.isEmpty()) {
+			return;
+		}
+		Store store = getStore(mospParams);
+		if (store != null) {
+			for (String personalId : updatedPersons) {
+				if (personalId.equals(ALL_PERSONS)) {
+					store.invalidateAll();
+				} else {
+					store.invalidate(personalId);
+				}
+			}
+		}
+		updatedPersons.clear();
+	}
+	
+	/**
+	 * 全てのストアの統計情報を取得する。<br>
+	 * @return 統計情報リスト
+	 */
+	public static List<String> getAllMetrics() {
+		List<String> list = new ArrayList<String>();
+		for (Store store : stores.values()) {
+			list.add(store.toString());
+		}
+		return list;
+	}
+	
+	/**
+	 * ストアを取得する。<br>
+	 * 存在しない場合は作成する。<br>
+	 * @param mospParams MosP処理情報
+	 * @return ストア(共有キャッシュを利用しない場合はnull)
+	 */
+	protected static Store getStore(MospParams mospParams) {
+		// 共有キャッシュを利用しない場合
+		if (isEnabled(mospParams) == false) {
+			return null;
+		}
+		String tenant = MospMasterCache.getTenant(mospParams);
+		Store store = stores.get(tenant);
+		if (store != null) {
+			return store;
+		}
+		synchronized (stores) {
+			store = stores.get(tenant);
+			if (store == null) {
+				int size = mospParams.getApplicationProperty(APP_PERSONAL_CACHE_SIZE, DEFAULT_SIZE);
+				int expire = mospParams.getApplicationProperty(APP_PERSONAL_CACHE_EXPIRE, DEFAULT_EXPIRE);
+				store = new Store(tenant, size, expire);
+				stores.put(tenant, store);
+			}
+		}
+		return store;
+	}
+	
+	/**
+	 * 全個人に影響するテーブルであるかを確認する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param table      テーブル名
+	 * @return 確認結果(true：全個人に影響する、false：影響しない)
+	 */
+	protected static boolean isGlobalTable(MospParams mospParams, String table) {
+		String[] prefixes = mospParams.getApplicationProperties(APP_PERSONAL_CACHE_GLOBAL_TABLES);
+		if (prefixes == null) {
+			return false;
+		}
+		for (String prefix : prefixes) {
+			if (prefix.trim().isEmpty() == false && table.startsWith(prefix.trim())) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * リクエスト内で個人の情報を更新しているかを確認する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param personalId 個人ID
+	 * @return 確認結果(true：更新している、false：更新していない)
+	 */
+	protected static boolean isUpdating(MospParams mospParams, String personalId) {
+		Set<String> updatedPersons = getUpdatedPersons(mospParams, false);
+		if (updatedPersons == null || updatedPersons.isEmpty()) {
+			return false;
+		}
+		return updatedPersons.contains(personalId) || updatedPersons.contains(ALL_PERSONS);
+	}
+	
+	/**
+	 * 更新個人ID群を取得する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param needCreate 作成要否(true：存在しない場合は作成する、false：作成しない)
+	 * @return 更新個人ID群
+	 */
+	@SuppressWarnings("unchecked")
+	protected static Set<String> getUpdatedPersons(MospParams mospParams, boolean needCreate) {
+		Set<String> updatedPersons = (Set<String>)mospParams.getGeneralParam(PRM_UPDATED_PERSONS);
+		if (updatedPersons == null && needCreate) {
+			updatedPersons = new HashSet<String>();
+			mospParams.addGeneralParam(PRM_UPDATED_PERSONS, updatedPersons);
+		}
+		return updatedPersons;
+	}
+	
+	
+	/**
+	 * ストア。<br>
+	 * <br>
+	 * 版はストア全体で単調に増加させ、個人の版及び全個人の版には更新時点の版を設定する。<br>
+	 * 情報は、作成前に取得した版が当該個人の版及び全個人の版以上である場合に有効とする。<br>
+	 */
+	protected static class Store {
+		
+		/**
+		 * テナント。
+		 */
+		protected final String						tenant;
+		
+		/**
+		 * 最大件数。
+		 */
+		protected final int							maxSize;
+		
+		/**
+		 * 有効期間(ミリ秒)(0：無期限)。
+		 */
+		protected final long						expire;
+		
+		/**
+		 * 情報群(キー：個人ID及びキー、参照順)。
+		 */
+		protected final Map<Object, PersonalEntry>	entryMap;
+		
+		/**
+		 * 個人の版群(キー：個人ID)。
+		 */
+		protected final Map<String, Long>			personVersionMap;
+		
+		/**
+		 * 版。
+		 */
+		protected long								version;
+		
+		/**
+		 * 全個人の版。
+		 */
+		protected long								globalVersion;
+		
+		/**
+		 * 統計(ヒット回数)。
+		 */
+		protected long								hitCount;
+		
+		/**
+		 * 統計(ミス回数)。
+		 */
+		protected long								missCount;
+		
+		/**
+		 * 統計(個人の版更新回数)。
+		 */
+		protected long								invalidateCount;
+		
+		/**
+		 * 統計(全個人の版更新回数)。
+		 */
+		protected long								invalidateAllCount;
+		
+		
+		/**
+		 * ストアを生成する。<br>
+		 * @param tenant  テナント
+		 * @param maxSize 最大件数
+		 * @param expire  有効期間(ミリ秒)(0：無期限)
+		 */
+		protected Store(String tenant, int maxSize, int expire) {
+			this.tenant = tenant;
+			this.maxSize = maxSize;
+			this.expire = expire;
+			personVersionMap = new HashMap<String, Long>();
+			entryMap = new LinkedHashMap<Object, PersonalEntry>(16, 0.75f, true) {
+				
+				private static final long	serialVersionUID	= 1L;
+				
+				
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Object, PersonalEntry> eldest) {
+					return size() > Store.this.maxSize;
+				}
+			};
+		}
+		
+		/**
+		 * @return 版
+		 */
+		protected synchronized long getVersion() {
+			return version;
+		}
+		
+		/**
+		 * 情報を取得する。<br>
+		 * @param personalId 個人ID
+		 * @param key        キー
+		 * @return 情報(存在しない、無効である或いは有効期間を過ぎた場合は{@link MospPersonalCache#MISS})
+		 */
+		protected synchronized Object get(String personalId, Object key) {
+			Object entryKey = MospMasterCache.getKey(personalId, key);
+			PersonalEntry entry = entryMap.get(entryKey);
+			if (entry == null) {
+				missCount++;
+				return MISS;
+			}
+			if (isValid(personalId, entry.loadedVersion) == false || entry.isExpired(expire)) {
+				entryMap.remove(entryKey);
+				missCount++;
+				return MISS;
+			}
+			hitCount++;
+			return entry.value;
+		}
+		
+		/**
+		 * 情報を設定する。<br>
+		 * @param personalId    個人ID
+		 * @param key           キー
+		 * @param value         情報
+		 * @param loadedVersion 情報を作成する前に取得した版
+		 */
+		protected synchronized void put(String personalId, Object key, Object value, long loadedVersion) {
+			if (isValid(personalId, loadedVersion) == false || maxSize <= 0) {
+				return;
+			}
+			entryMap.put(MospMasterCache.getKey(personalId, key), new PersonalEntry(value, loadedVersion));
+		}
+		
+		/**
+		 * 個人の版を上げる。<br>
+		 * @param personalId 個人ID
+		 */
+		protected synchronized void invalidate(String personalId) {
+			personVersionMap.put(personalId, Long.valueOf(++version));
+			invalidateCount++;
+		}
+		
+		/**
+		 * 全個人の版を上げ、情報群を破棄する。<br>
+		 */
+		protected synchronized void invalidateAll() {
+			globalVersion = ++version;
+			invalidateAllCount++;
+			entryMap.clear();
+			personVersionMap.clear();
+		}
+		
+		/**
+		 * 版で作成された情報が有効であるかを確認する。<br>
+		 * @param personalId    個人ID
+		 * @param loadedVersion 情報を作成する前に取得した版
+		 * @return 確認結果(true：有効である、false：無効である)
+		 */
+		protected boolean isValid(String personalId, long loadedVersion) {
+			if (loadedVersion < globalVersion) {
+				return false;
+			}
+			Long personVersion = personVersionMap.get(personalId);
+			return personVersion == null || loadedVersion >= personVersion.longValue();
+		}
+		
+		/**
+		 * ストアの統計情報を取得する。<br>
+		 * @return 統計情報
+		 */
+		@Override
+		public synchronized String toString() {
+			StringBuffer sb = new StringBuffer();
+			sb.append("MospPersonalCache[").append(tenant);
+			sb.append(" size=").append(entryMap.size());
+			sb.append(" version=").append(version);
+			sb.append(" hit=").append(hitCount);
+			sb.append(" miss=").append(missCount);
+			sb.append(" invalidate=").append(invalidateCount);
+			sb.append(" invalidateAll=").append(invalidateAllCount);
+			sb.append("]");
+			return sb.toString();
+		}
+		
+	}
+	
+	/**
+	 * ストアに保持する情報。<br>
+	 */
+	protected static class PersonalEntry extends MospMasterCache.CacheEntry {
+		
+		/**
+		 * 情報を作成する前に取得した版。
+		 */
+		protected final long	loadedVersion;
+		
+		
+		/**
+		 * ストアに保持する情報を生成する。<br>
+		 * @param value         情報
+		 * @param loadedVersion 情報を作成する前に取得した版
+		 */
+		protected PersonalEntry(Object value, long loadedVersion) {
+			super(value);
+			this.loadedVersion = loadedVersion;
+		}
+		
+	}
+	
+}
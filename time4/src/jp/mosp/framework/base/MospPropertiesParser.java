@@ -17,11 +17,12 @@
  */
 package jp.mosp.framework.base;
 
+import java.io.File;
+
 import jp.mosp.framework.constant.MospConst;
 import jp.mosp.framework.property.MospProperties;
 import jp.mosp.framework.utils.DateUtility;
 import jp.mosp.framework.xml.MospPropertiesBuilder;
-import jp.mosp.framework.xml.MospPropertiesBuilderInterface;
 
 /**
  * MosP設定情報を作成する。<br>
@@ -51,10 +52,33 @@ public final class MospPropertiesParser {
 	 * @throws MospException MosP設定情報の作成に失敗した場合
 	 */
 	public static MospProperties parseMospProperties(String docBase) throws MospException {
+		return parseMospProperties(docBase, 1, null);
+	}
+	
+	/**
+	 * MosP設定情報を作成する。<br>
+	 * <br>
+	 * スナップショットファイル格納ディレクトリが指定された場合は、
+	 * MosP設定情報ファイル群の内容が変わっていなければスナップショットから読み込み、
+	 * 読み込んだスナップショットのハッシュ値を{@link MospConst#APP_PROPERTY_SNAPSHOT}に設定する。<br>
+	 * @param docBase      MosPアプリケーションが配置されている実際のパス
+	 * @param parseThreads ファイル解析スレッド数(1以下の場合は逐次解析)
+	 * @param snapshotDir  スナップショットファイル格納ディレクトリ(nullの場合はスナップショットを利用しない)
+	 * @return MosP設定情報
+	 * @throws MospException MosP設定情報の作成に失敗した場合
+	 */
+	public static MospProperties parseMospProperties(String docBase, int parseThreads, File snapshotDir)
+			throws MospException {
 		// インスタンスの生成
-		MospPropertiesBuilderInterface builder = new MospPropertiesBuilder();
+		MospPropertiesBuilder builder = new MospPropertiesBuilder();
+		builder.setParseThreads(parseThreads);
+		builder.setSnapshotDir(snapshotDir);
 		// MosP設定情報生成
 		MospProperties mospProperties = builder.build(docBase);
+		// スナップショットから読み込んだ場合
+		if (builder.getSnapshotHash() != null) {
+			mospProperties.setApplicationProperty(MospConst.APP_PROPERTY_SNAPSHOT, builder.getSnapshotHash());
+		}
 		// ドキュメントベース設定
 		mospProperties.setApplicationProperty(MospConst.APP_DOCBASE, docBase);
 		// 設定ファイル読込時間取得
@@ -0,0 +1,365 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.framework.base;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jp.mosp.framework.utils.LogUtility;
+
+/**
+ * SQL実行統計。<br>
+ * <br>
+ * {@link BaseDao}で実行したSQLの実行時間、検索結果取得時間及び件数を、
+ * DAOクラス及びメソッド毎に集計する。<br>
+ * 実行時間は、区間(1ミリ秒未満、10ミリ秒未満、…、10秒以上)毎の回数も集計する。<br>
+ * <br>
+ * また、実行時間(検索結果取得時間を含む)が低速SQL閾値以上のSQLを、
+ * パラメータを設定したSQL文字列と併せて低速SQL実行ログに出力する。<br>
+ * <br>
+ * 集計結果は{@link #getAllMetrics()}で取得でき、
+ * アプリケーション終了時({@link Controller#destroy()})にはログに出力する。<br>
+ */
+public class MospSqlStatistics {
+	
+	/**
+	 * MosPアプリケーション設定キー(SQL実行統計利用設定)。
+	 */
+	public static final String						APP_SQL_STATISTICS				= "SqlStatistics";
+	
+	/**
+	 * MosPアプリケーション設定キー(低速SQL閾値(ミリ秒))。
+	 */
+	public static final String						APP_SQL_SLOW_THRESHOLD			= "SqlSlowThreshold";
+	
+	/**
+	 * MosPアプリケーション設定キー(SQL実行統計ログレベル)。
+	 */
+	public static final String						APP_LOG_LEVEL_SQL_STATISTICS	= "LogLevelSqlStatistics";
+	
+	/**
+	 * 実行時間区間上限(ミリ秒)。<br>
+	 * 最後の区間は、最大の上限以上とする。<br>
+	 */
+	protected static final long[]					BOUNDS							= { 1L, 10L, 100L, 1000L, 10000L };
+	
+	/**
+	 * 1ミリ秒当たりのナノ秒。
+	 */
+	protected static final long						NANOS_PER_MILLI					= 1000000L;
+	
+	/**
+	 * 1マイクロ秒当たりのナノ秒。
+	 */
+	protected static final long						NANOS_PER_MICRO					= 1000L;
+	
+	/**
+	 * 集計群(キー：DAOクラス名及びメソッド名)。
+	 */
+	protected static final Map<String, Statistics>	statisticsMap					= new ConcurrentHashMap<String, Statistics>();
+	
+	
+	/**
+	 * 他クラスからインスタンスを生成させない。<br>
+	 */
+	private MospSqlStatistics() {
+		// 処理無し
+	}
+	
+	/**
+	 * SQL実行統計を集計するかを確認する。<br>
+	 * @param mospParams MosP処理情報
+	 * @return 確認結果(true：集計する、false：集計しない)
+	 */
+	public static boolean isEnabled(MospParams mospParams) {
+		return mospParams.getApplicationPropertyBool(APP_SQL_STATISTICS);
+	}
+	
+	/**
+	 * 低速SQL閾値(ミリ秒)を取得する。<br>
+	 * @param mospParams MosP処理情報
+	 * @return 低速SQL閾値(ミリ秒)(0：低速SQL実行ログを出力しない)
+	 */
+	public static long getSlowThreshold(MospParams mospParams) {
+		return mospParams.getApplicationProperty(APP_SQL_SLOW_THRESHOLD, 0);
+	}
+	
+	/**
+	 * SQLの実行時間を計測するかを確認する。<br>
+	 * SQL実行統計を集計する場合、或いは低速SQL閾値が設定されている場合は、計測する。<br>
+	 * @param mospParams MosP処理情報
+	 * @return 確認結果(true：計測する、false：計測しない)
+	 */
+	public static boolean isMeasured(MospParams mospParams) {
+		return isEnabled(mospParams) || getSlowThreshold(mospParams) > 0;
+	}
+	
+	/**
+	 * 集計キー(DAOクラス名及びメソッド名)を取得する。<br>
+	 * スタックトレースを遡り、DAOクラス(スーパークラスを含む)で最も呼出元に近いメソッドを、
+	 * SQLを実行したメソッドとする。<br>
+	 * @param dao DAO
+	 * @return 集計キー
+	 */
+	public static String getKey(BaseDao dao) {
+		Class<?> cls = dao.getClass();
+		String method = null;
+		for (StackTraceElement element : new Throwable().getStackTrace()) {
+			// DAOクラスのメソッドである場合
+			if (isDaoClass(cls, element.getClassName())) {
+				method = element.getMethodName();
+				continue;
+			}
+			// DAOクラスのメソッドを抜けた場合
+			if (method != null) {
+				break;
+			}
+		}
+		return cls.getSimpleName() + "." + method;
+	}
+	
+	/**
+	 * SQLの実行結果を記録する。<br>
+	 * SQL実行統計を集計する場合は集計し、
+	 * 実行時間(検索結果取得時間を含む)が低速SQL閾値以上の場合は低速SQL実行ログを出力する。<br>
+	 * SQL文字列は、低速SQL実行ログを出力する場合にのみ作成する。<br>
+	 * @param mospParams   MosP処理情報
+	 * @param key          集計キー
+	 * @param executeNanos 実行時間(ナノ秒)
+	 * @param fetchNanos   検索結果取得時間(ナノ秒)
+	 * @param rows         件数(検索結果件数或いは更新件数)
+	 * @param statement    SQL(文字列表現がパラメータを設定したSQL文字列となるもの)
+	 */
+	public static void record(MospParams mospParams, String key, long executeNanos, long fetchNanos, int rows,
+			Object statement) {
+		// SQL実行統計を集計する場合
+		if (isEnabled(mospParams)) {
+			getStatistics(key).add(executeNanos, fetchNanos, rows);
+		}
+		// 低速SQL閾値を確認
+		long threshold = getSlowThreshold(mospParams);
+		long elapsed = (executeNanos + fetchNanos) / NANOS_PER_MILLI;
+		if (threshold <= 0 || elapsed < threshold) {
+			return;
+		}
+		// 低速SQL実行ログ出力
+		StringBuffer sb = new StringBuffer(key);
+		sb.append(" elapsed=").append(elapsed);
+		sb.append(" fetch=").append(fetchNanos / NANOS_PER_MILLI);
+		sb.append(" rows=").append(rows);
+		sb.append(" ").append(statement);
+		LogUtility.sqlSlow(mospParams, sb.toString());
+	}
+	
+	/**
+	 * 全ての集計結果を取得する。<br>
+	 * 先頭に見出しを設定し、合計実行時間の降順に並べる。<br>
+	 * 時間の単位はマイクロ秒とする。<br>
+	 * @return 集計結果リスト
+	 */
+	public static List<String> getAllMetrics() {
+		List<Statistics> sorted = new ArrayList<Statistics>(statisticsMap.values());
+		Collections.sort(sorted, new Comparator<Statistics>() {
+			
+			@Override
+			public int compare(Statistics o1, Statistics o2) {
+				long total1 = o1.getTotalNanos();
+				long total2 = o2.getTotalNanos();
+				return total1 < total2 ? 1 : total1 == total2 ? 0 : -1;
+			}
+		});
+		List<String> list = new ArrayList<String>();
+		list.add(getHeader());
+		for (Statistics statistics : sorted) {
+			list.add(statistics.toString());
+		}
+		return list;
+	}
+	
+	/**
+	 * 全ての集計結果を破棄する。<br>
+	 */
+	public static void clear() {
+		statisticsMap.clear();
+	}
+	
+	/**
+	 * 全ての集計結果をログに出力する。<br>
+	 * 集計結果が無い場合は、出力しない。<br>
+	 * @param mospParams MosP処理情報
+	 */
+	public static void outputLog(MospParams mospParams) {
+		int level = mospParams.getApplicationProperty(APP_LOG_LEVEL_SQL_STATISTICS, 0);
+		if (level == 0 || statisticsMap.isEmpty()) {
+			return;
+		}
+		for (String metrics : getAllMetrics()) {
+			LogUtility.log(mospParams, level, metrics);
+		}
+	}
+	
+	/**
+	 * 集計を取得する。<br>
+	 * 存在しない場合は作成する。<br>
+	 * @param key 集計キー
+	 * @return 集計
+	 */
+	protected static Statistics getStatistics(String key) {
+		Statistics statistics = statisticsMap.get(key);
+		if (statistics != null) {
+			return statistics;
+		}
+		synchronized (statisticsMap) {
+			statistics = statisticsMap.get(key);
+			if (statistics == null) {
+				statistics = new Statistics(key);
+				statisticsMap.put(key, statistics);
+			}
+		}
+		return statistics;
+	}
+	
+	/**
+	 * クラス名がDAOクラス(スーパークラスを含む)であるかを確認する。<br>
+	 * @param cls       DAOクラス
+	 * @param className クラス名
+	 * @return 確認結果(true：DAOクラスである、false：DAOクラスでない)
+	 */
+	protected static boolean isDaoClass(Class<?> cls, String className) {
+		for (Class<?> target = cls; target != null && target != Object.class; target = target.getSuperclass()) {
+			if (target.getName().equals(className)) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * 集計結果の見出しを取得する。<br>
+	 * @return 集計結果の見出し
+	 */
+	protected static String getHeader() {
+		StringBuffer sb = new StringBuffer("key\tcount\ttotal\tavg\tmax\tfetch\trows");
+		for (long bound : BOUNDS) {
+			sb.append("\t<").append(bound).append("ms");
+		}
+		sb.append("\t>=").append(BOUNDS[BOUNDS.length - 1]).append("ms");
+		return sb.toString();
+	}
+	
+	
+	/**
+	 * DAOクラス及びメソッド毎の集計。<br>
+	 */
+	protected static class Statistics {
+		
+		/**
+		 * 集計キー。
+		 */
+		protected final String	key;
+		
+		/**
+		 * 実行回数。
+		 */
+		protected long			count;
+		
+		/**
+		 * 合計実行時間(検索結果取得時間を含む)(ナノ秒)。
+		 */
+		protected long			totalNanos;
+		
+		/**
+		 * 最大実行時間(検索結果取得時間を含む)(ナノ秒)。
+		 */
+		protected long			maxNanos;
+		
+		/**
+		 * 合計検索結果取得時間(ナノ秒)。
+		 */
+		protected long			fetchNanos;
+		
+		/**
+		 * 合計件数。
+		 */
+		protected long			rows;
+		
+		/**
+		 * 実行時間区間毎の回数。
+		 */
+		protected final long[]	histogram;
+		
+		
+		/**
+		 * 集計を生成する。<br>
+		 * @param key 集計キー
+		 */
+		protected Statistics(String key) {
+			this.key = key;
+			histogram = new long[BOUNDS.length + 1];
+		}
+		
+		/**
+		 * SQLの実行結果を集計に加える。<br>
+		 * @param executeNanos 実行時間(ナノ秒)
+		 * @param fetchNanos   検索結果取得時間(ナノ秒)
+		 * @param rows         件数
+		 */
+		protected synchronized void add(long executeNanos, long fetchNanos, int rows) {
+			long elapsed = executeNanos + fetchNanos;
+			count++;
+			totalNanos += elapsed;
+			maxNanos = elapsed > maxNanos ? elapsed : maxNanos;
+			this.fetchNanos += fetchNanos;
+			this.rows += rows;
+			// 実行時間区間を特定
+			int idx = 0;
+			while (idx < BOUNDS.length && elapsed >= BOUNDS[idx] * NANOS_PER_MILLI) {
+				idx++;
+			}
+			histogram[idx]++;
+		}
+		
+		/**
+		 * @return 合計実行時間(ナノ秒)
+		 */
+		protected synchronized long getTotalNanos() {
+			return totalNanos;
+		}
+		
+		@Override
+		public synchronized String toString() {
+			StringBuffer sb = new StringBuffer(key);
+			sb.append("\t").append(count);
+			sb.append("\t").append(totalNanos / NANOS_PER_MICRO);
+			sb.append("\t").append(count == 0 ? 0 : totalNanos / count / NANOS_PER_MICRO);
+			sb.append("\t").append(maxNanos / NANOS_PER_MICRO);
+			sb.append("\t").append(fetchNanos / NANOS_PER_MICRO);
+			sb.append("\t").append(rows);
+			for (long frequency : histogram) {
+				sb.append("\t").append(frequency);
+			}
+			return sb.toString();
+		}
+		
+	}
+	
+}
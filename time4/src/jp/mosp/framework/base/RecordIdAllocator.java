@@ -0,0 +1,244 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.framework.base;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jp.mosp.framework.utils.LogUtility;
+
+/**
+ * レコード識別ID払出。<br>
+ * <br>
+ * シーケンスから一度に複数の値(以下、ブロック)を取得してメモリに保持し、
+ * レコード識別IDを払い出す度にシーケンスを操作しないようにする。<br>
+ * ブロックはテナント(ASPユーザ)及びシーケンス毎に保持し、複数のリクエストで共有する。<br>
+ * <br>
+ * ブロックの値はシーケンスから取得するため、複数のアプリケーションサーバでDBを共有しても重複しない。<br>
+ * 但し、払い出されずに残った値はアプリケーション終了時に破棄されるため、レコード識別IDには欠番が生じる。<br>
+ * また、払い出す順は、複数のリクエスト間ではレコードの登録順と一致しない。<br>
+ */
+public class RecordIdAllocator {
+	
+	/**
+	 * MosPアプリケーション設定キー(レコード識別IDブロックサイズ)。
+	 */
+	public static final String					APP_RECORD_ID_BLOCK_SIZE			= "RecordIdBlockSize";
+	
+	/**
+	 * MosPアプリケーション設定キー(レコード識別ID払出状況ログレベル)。
+	 */
+	public static final String					APP_LOG_LEVEL_RECORD_ID_ALLOCATOR	= "LogLevelRecordIdAllocator";
+	
+	/**
+	 * ブロック群(キー：テナント及びシーケンス名)。
+	 */
+	protected static final Map<String, Block>	blocks								= new ConcurrentHashMap<String, Block>();
+	
+	
+	/**
+	 * 他クラスからインスタンスを生成させない。<br>
+	 */
+	private RecordIdAllocator() {
+		// 処理無し
+	}
+	
+	/**
+	 * ブロックサイズを取得する。<br>
+	 * @param mospParams MosP処理情報
+	 * @return ブロックサイズ(1以下の場合はブロックを利用しない)
+	 */
+	public static int getBlockSize(MospParams mospParams) {
+		return mospParams.getApplicationProperty(APP_RECORD_ID_BLOCK_SIZE, 1);
+	}
+	
+	/**
+	 * レコード識別IDを払い出す。<br>
+	 * 保持しているブロックの値を使い切った場合は、DAOを用いてシーケンスから次のブロックを取得する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param dao        DAO
+	 * @param sequence   シーケンス名
+	 * @return レコード識別ID
+	 * @throws MospException シーケンス操作に失敗した場合
+	 */
+	public static long nextId(MospParams mospParams, BaseDao dao, String sequence) throws MospException {
+		return getBlock(mospParams, sequence).next(dao, getBlockSize(mospParams));
+	}
+	
+	/**
+	 * 全てのブロックの払出状況を取得する。<br>
+	 * @return 払出状況リスト
+	 */
+	public static List<String> getAllMetrics() {
+		List<String> list = new ArrayList<String>();
+		for (Block block : blocks.values()) {
+			list.add(block.toString());
+		}
+		return list;
+	}
+	
+	/**
+	 * 全てのブロックを破棄する。<br>
+	 * シーケンスを再作成した場合等に用いる。<br>
+	 */
+	public static void clear() {
+		blocks.clear();
+	}
+	
+	/**
+	 * 全てのブロックの払出状況をログに出力する。<br>
+	 * @param mospParams MosP処理情報
+	 */
+	public static void outputLog(MospParams mospParams) {
+		int level = mospParams.getApplicationProperty(APP_LOG_LEVEL_RECORD_ID_ALLOCATOR, 0);
+		if (level == 0) {
+			return;
+		}
+		for (String metrics : getAllMetrics()) {
+			LogUtility.log(mospParams, level, metrics);
+		}
+	}
+	
+	/**
+	 * ブロックを取得する。<br>
+	 * 存在しない場合は作成する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param sequence   シーケンス名
+	 * @return ブロック
+	 */
+	protected static Block getBlock(MospParams mospParams, String sequence) {
+		String tenant = getTenant(mospParams);
+		String blockKey = tenant + "\t" + sequence;
+		Block block = blocks.get(blockKey);
+		if (block != null) {
+			return block;
+		}
+		synchronized (blocks) {
+			block = blocks.get(blockKey);
+			if (block == null) {
+				block = new Block(tenant, sequence);
+				blocks.put(blockKey, block);
+			}
+		}
+		return block;
+	}
+	
+	/**
+	 * テナントを取得する。<br>
+	 * SaaSの場合はASPユーザID、そうでない場合は空文字とする。<br>
+	 * @param mospParams MosP処理情報
+	 * @return テナント
+	 */
+	protected static String getTenant(MospParams mospParams) {
+		MospUser user = mospParams.getStoredInfo() == null ? null : mospParams.getUser();
+		if (user == null || user.getAspUserId() == null) {
+			return "";
+		}
+		return user.getAspUserId();
+	}
+	
+	
+	/**
+	 * テナント及びシーケンス毎のブロック。<br>
+	 */
+	protected static class Block {
+		
+		/**
+		 * テナント。
+		 */
+		protected final String	tenant;
+		
+		/**
+		 * シーケンス名。
+		 */
+		protected final String	sequence;
+		
+		/**
+		 * 作成時刻(ミリ秒)。
+		 */
+		protected final long	createdTime;
+		
+		/**
+		 * 保持している値。
+		 */
+		protected long[]		values;
+		
+		/**
+		 * 次に払い出す値の位置。
+		 */
+		protected int			position;
+		
+		/**
+		 * 統計(払出件数)。
+		 */
+		protected long			allocatedCount;
+		
+		/**
+		 * 統計(ブロック取得回数)。
+		 */
+		protected long			blockCount;
+		
+		
+		/**
+		 * ブロックを生成する。<br>
+		 * @param tenant   テナント
+		 * @param sequence シーケンス名
+		 */
+		protected Block(String tenant, String sequence) {
+			this.tenant = tenant;
+			this.sequence = sequence;
+			createdTime = System.currentTimeMillis();
+			values = new long[0];
+		}
+		
+		/**
+		 * 値を払い出す。<br>
+		 * @param dao       DAO
+		 * @param blockSize ブロックサイズ
+		 * @return 値
+		 * @throws MospException シーケンス操作に失敗した場合
+		 */
+		protected synchronized long next(BaseDao dao, int blockSize) throws MospException {
+			// 保持している値を使い切った場合
+			if (position >= values.length) {
+				values = dao.nextValues(sequence, blockSize);
+				position = 0;
+				blockCount++;
+			}
+			allocatedCount++;
+			return values[position++];
+		}
+		
+		@Override
+		public synchronized String toString() {
+			long elapsed = System.currentTimeMillis() - createdTime;
+			StringBuffer sb = new StringBuffer(RecordIdAllocator.class.getSimpleName());
+			sb.append(" tenant=").append(tenant);
+			sb.append(" sequence=").append(sequence);
+			sb.append(" allocated=").append(allocatedCount);
+			sb.append(" blocks=").append(blockCount);
+			sb.append(" remaining=").append(values.length - position);
+			sb.append(" rate=").append(elapsed == 0 ? 0 : allocatedCount * 60000 / elapsed).append("/min");
+			return sb.toString();
+		}
+		
+	}
+	
+}
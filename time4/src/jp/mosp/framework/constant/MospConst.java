@@ -172,6 +172,12 @@ public class MospConst {
 	 */
 	public static final String	APP_PROPERTY_TIME		= "PropertyTime";
 	
+	/**
+	 * MosPアプリケーション設定キー(設定ファイルスナップショット)。<br>
+	 * スナップショットから読み込んだ場合に、そのハッシュ値が設定される。<br>
+	 */
+	public static final String	APP_PROPERTY_SNAPSHOT	= "PropertySnapshot";
+	
 	/**
 	 * MosPアプリケーション設定キー(文字コード)
 	 */
@@ -216,6 +222,12 @@ public class MospConst {
 	 */
 	public static final String	APP_DISABLE_LOGOUT_BTN	= "DisableLogoutButton";
 	
+	/**
+	 * MosPアプリケーション設定キー(DAO一括実行件数)。<br>
+	 * JDBCバッチで一度に実行するSQLの件数として用いられる。<br>
+	 */
+	public static final String	APP_DAO_BATCH_SIZE		= "DaoBatchSize";
+	
 	/**
 	 * 操作区分(参照)。
 	 */
@@ -49,19 +49,8 @@ public class InstanceFactory {
 	 * @throws MospException インスタンスの生成に失敗した場合
 	 */
 	public static Object loadInstance(String className) throws MospException {
-		Object obj = null;
-		try {
-			obj = Thread.currentThread().getContextClassLoader().loadClass(className).newInstance();
-		} catch (NullPointerException e) {
-			throw new MospException(e, ExceptionConst.EX_NO_CLASS_NAME, null);
-		} catch (ClassNotFoundException e) {
-			throw new MospException(e, ExceptionConst.EX_NO_CLASS, className);
-		} catch (InstantiationException e) {
-			throw new MospException(e, ExceptionConst.EX_FAIL_INSTANTIATE, className);
-		} catch (IllegalAccessException e) {
-			throw new MospException(e, ExceptionConst.EX_FAIL_INSTANTIATE, className);
-		}
-		return obj;
+		// インスタンス生成登録簿からインスタンスを生成
+		return InstanceRegistry.newInstance(className);
 	}
 	
 	/**
@@ -73,19 +62,8 @@ public class InstanceFactory {
 	 */
 	@SuppressWarnings("unchecked")
 	public static <T> T loadInstance(Class<T> cls, String className) throws MospException {
-		T obj = null;
-		try {
-			obj = (T)Thread.currentThread().getContextClassLoader().loadClass(className).newInstance();
-		} catch (NullPointerException e) {
-			throw new MospException(e, ExceptionConst.EX_NO_CLASS_NAME, null);
-		} catch (ClassNotFoundException e) {
-			throw new MospException(e, ExceptionConst.EX_NO_CLASS, className);
-		} catch (InstantiationException e) {
-			throw new MospException(e, ExceptionConst.EX_FAIL_INSTANTIATE, className);
-		} catch (IllegalAccessException e) {
-			throw new MospException(e, ExceptionConst.EX_FAIL_INSTANTIATE, className);
-		}
-		return obj;
+		// インスタンス生成登録簿からインスタンスを生成
+		return (T)InstanceRegistry.newInstance(className);
 	}
 	
 	/**
@@ -144,6 +122,8 @@ public class InstanceFactory {
 		BaseBeanHandlerInterface beanHandler = (BaseBeanHandlerInterface)loadInstance(modelClass);
 		// MosPパラメータ設定
 		beanHandler.setMospParams(mospParams);
+		// インスタンス生成を数える
+		InstanceRegistry.count(mospParams, beanHandler);
 		// デバッグメッセージ
 		LogUtility.debug(mospParams, beanHandler.toString());
 		return beanHandler;
@@ -220,6 +200,8 @@ public class InstanceFactory {
 		BaseBeanInterface bean = (BaseBeanInterface)loadInstance(modelClass);
 		// MosP処理情報及びコネクションを設定
 		bean.setParams(mospParams, connection);
+		// インスタンス生成を数える
+		InstanceRegistry.count(mospParams, bean);
 		// 初期化処理を実行
 		bean.initBean();
 		// デバッグメッセージ
@@ -242,6 +224,8 @@ public class InstanceFactory {
 		T bean = loadInstance(cls, modelClass);
 		// MosP処理情報及びコネクションを設定
 		bean.setParams(mospParams, connection);
+		// インスタンス生成を数える
+		InstanceRegistry.count(mospParams, bean);
 		// 初期化処理を実行
 		bean.initBean();
 		// デバッグメッセージ
@@ -283,6 +267,8 @@ public class InstanceFactory {
 		BaseDaoInterface dao = (BaseDaoInterface)loadInstance(modelClass);
 		// MosP処理情報及びコネクションを設定
 		dao.setInitParams(mospParams, connection);
+		// インスタンス生成を数える
+		InstanceRegistry.count(mospParams, dao);
 		// 初期化処理を実行
 		dao.initDao();
 		// デバッグメッセージ
@@ -303,18 +289,8 @@ public class InstanceFactory {
 	public static <T> T loadGeneralInstance(Class<T> cls, MospParams mospParams) throws MospException {
 		// モデルクラス名取得
 		String className = MospUtility.getModelClass(cls, mospParams.getProperties(), null);
-		try {
-			// クラスをロードしてインスタンスを生成
-			return (T)Thread.currentThread().getContextClassLoader().loadClass(className).newInstance();
-		} catch (NullPointerException e) {
-			throw new MospException(e, ExceptionConst.EX_NO_CLASS_NAME, null);
-		} catch (ClassNotFoundException e) {
-			throw new MospException(e, ExceptionConst.EX_NO_CLASS, className);
-		} catch (InstantiationException e) {
-			throw new MospException(e, ExceptionConst.EX_FAIL_INSTANTIATE, className);
-		} catch (IllegalAccessException e) {
-			throw new MospException(e, ExceptionConst.EX_FAIL_INSTANTIATE, className);
-		}
+		// インスタンス生成登録簿からインスタンスを生成
+		return (T)InstanceRegistry.newInstance(className);
 	}
 	
 	/**
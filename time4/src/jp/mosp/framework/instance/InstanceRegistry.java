@@ -0,0 +1,236 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.framework.instance;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.constant.ExceptionConst;
+import jp.mosp.framework.property.ModelProperty;
+import jp.mosp.framework.property.MospProperties;
+import jp.mosp.framework.utils.LogUtility;
+
+/**
+ * インスタンス生成登録簿。<br>
+ * <br>
+ * クラス名から解決したコンストラクタを保持し、
+ * インスタンス生成の度にクラスローダーからクラスを取得しないようにする。<br>
+ * モデル設定情報のモデルクラスは、アプリケーション開始時({@link #preload(MospProperties)})に解決しておく。<br>
+ * <br>
+ * また、インスタンス生成統計を利用する場合は、
+ * リクエスト毎にBean及びDAOのクラス毎の生成回数を数えてログに出力する。<br>
+ */
+public class InstanceRegistry {
+	
+	/**
+	 * MosPアプリケーション設定キー(インスタンス生成統計利用設定)。
+	 */
+	public static final String							APP_INSTANCE_STATISTICS				= "InstanceStatistics";
+	
+	/**
+	 * MosPアプリケーション設定キー(インスタンス生成統計ログレベル)。
+	 */
+	public static final String							APP_LOG_LEVEL_INSTANCE_STATISTICS	= "LogLevelInstanceStatistics";
+	
+	/**
+	 * 汎用パラメータキー(インスタンス生成回数群)。<br>
+	 * リクエスト内で生成したクラス毎の生成回数を保持する。<br>
+	 */
+	public static final String							PRM_INSTANCE_COUNTS					= "InstanceCounts";
+	
+	/**
+	 * コンストラクタ群(キー：クラス名)。
+	 */
+	protected static final Map<String, Constructor<?>>	constructors						= new ConcurrentHashMap<String, Constructor<?>>();
+	
+	
+	/**
+	 * 他クラスからのインスタンス化を防止する。<br>
+	 */
+	private InstanceRegistry() {
+		// 処理無し
+	}
+	
+	/**
+	 * モデル設定情報の全てのモデルクラス(有効日毎のモデルクラスを含む)のコンストラクタを解決する。<br>
+	 * 解決できないクラスは、インスタンス生成時に改めて解決する(例外を発生させる)。<br>
+	 * @param mospProperties MosP設定情報
+	 */
+	public static void preload(MospProperties mospProperties) {
+		for (ModelProperty modelProperty : mospProperties.getModelProperties().values()) {
+			preload(modelProperty.getModelClass());
+			for (String modelClass : modelProperty.getModelClassMap().values()) {
+				preload(modelClass);
+			}
+		}
+	}
+	
+	/**
+	 * クラス名からインスタンスを生成する。<br>
+	 * @param className 対象クラス名
+	 * @return 対象クラスインスタンス
+	 * @throws MospException インスタンスの生成に失敗した場合
+	 */
+	public static Object newInstance(String className) throws MospException {
+		Constructor<?> constructor = getConstructor(className);
+		try {
+			return constructor.newInstance();
+		} catch (InstantiationException e) {
+			throw new MospException(e, ExceptionConst.EX_FAIL_INSTANTIATE, className);
+		} catch (IllegalAccessException e) {
+			throw new MospException(e, ExceptionConst.EX_FAIL_INSTANTIATE, className);
+		} catch (InvocationTargetException e) {
+			throw new MospException(e, ExceptionConst.EX_FAIL_INSTANTIATE, className);
+		}
+	}
+	
+	/**
+	 * インスタンス生成統計を利用するかを確認する。<br>
+	 * @param mospParams MosP処理情報
+	 * @return 確認結果(true：利用する、false：利用しない)
+	 */
+	public static boolean isEnabled(MospParams mospParams) {
+		return mospParams.getApplicationPropertyBool(APP_INSTANCE_STATISTICS);
+	}
+	
+	/**
+	 * インスタンスの生成を数える。<br>
+	 * インスタンス生成統計を利用しない場合は、数えない。<br>
+	 * @param mospParams MosP処理情報
+	 * @param instance   生成したインスタンス
+	 */
+	public static void count(MospParams mospParams, Object instance) {
+		if (isEnabled(mospParams) == false) {
+			return;
+		}
+		Map<String, int[]> counts = getCounts(mospParams, true);
+		String className = instance.getClass().getName();
+		int[] count = counts.get(className);
+		if (count == null) {
+			count = new int[1];
+			counts.put(className, count);
+		}
+		count[0]++;
+	}
+	
+	/**
+	 * リクエスト内のインスタンス生成回数をログに出力し、インスタンス生成回数群を破棄する。<br>
+	 * 合計生成回数を出力した後、生成回数の多いクラスから順に出力する。<br>
+	 * @param mospParams MosP処理情報
+	 */
+	public static void outputLog(MospParams mospParams) {
+		Map<String, int[]> counts = getCounts(mospParams, false);
+		if (counts == null || counts.isEmpty()) {
+			return;
+		}
+		int level = mospParams.getApplicationProperty(APP_LOG_LEVEL_INSTANCE_STATISTICS, 0);
+		List<Entry<String, int[]>> list = new ArrayList<Entry<String, int[]>>(counts.entrySet());
+		counts.clear();
+		if (level == 0) {
+			return;
+		}
+		// 生成回数の降順に並べる
+		Collections.sort(list, new Comparator<Entry<String, int[]>>() {
+			
+			@Override
+			public int compare(Entry<String, int[]> o1, Entry<String, int[]> o2) {
+				return o2.getValue()[0] - o1.getValue()[0];
+			}
+		});
+		int total = 0;
+		StringBuffer sb = new StringBuffer();
+		for (Entry<String, int[]> entry : list) {
+			total += entry.getValue()[0];
+			sb.append(" ").append(entry.getKey()).append("=").append(entry.getValue()[0]);
+		}
+		LogUtility.log(mospParams, level, InstanceRegistry.class.getSimpleName() + " total=" + total + sb);
+	}
+	
+	/**
+	 * コンストラクタを取得する。<br>
+	 * 保持していない場合は、クラスローダーからクラスを取得して解決する。<br>
+	 * @param className 対象クラス名
+	 * @return コンストラクタ
+	 * @throws MospException コンストラクタの解決に失敗した場合
+	 */
+	protected static Constructor<?> getConstructor(String className) throws MospException {
+		if (className == null) {
+			throw new MospException(new NullPointerException(), ExceptionConst.EX_NO_CLASS_NAME, null);
+		}
+		Constructor<?> constructor = constructors.get(className);
+		if (constructor != null) {
+			return constructor;
+		}
+		try {
+			constructor = Thread.currentThread().getContextClassLoader().loadClass(className).getConstructor();
+		} catch (ClassNotFoundException e) {
+			throw new MospException(e, ExceptionConst.EX_NO_CLASS, className);
+		} catch (NoSuchMethodException e) {
+			throw new MospException(e, ExceptionConst.EX_FAIL_INSTANTIATE, className);
+		}
+		constructors.put(className, constructor);
+		return constructor;
+	}
+	
+	/**
+	 * クラス名からコンストラクタを解決する。<br>
+	 * 解決できない場合は、何もしない。<br>
+	 * @param className 対象クラス名
+	 */
+	protected static void preload(String className) {
+		if (className == null || constructors.containsKey(className)) {
+			return;
+		}
+		try {
+			getConstructor(className);
+		} catch (MospException e) {
+			// インスタンス生成時に改めて解決
+			return;
+		} catch (LinkageError e) {
+			// インスタンス生成時に改めて解決
+			return;
+		}
+	}
+	
+	/**
+	 * インスタンス生成回数群を取得する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param needCreate 作成要否(true：存在しない場合は作成する、false：作成しない)
+	 * @return インスタンス生成回数群(キー：クラス名)
+	 */
+	@SuppressWarnings("unchecked")
+	protected static Map<String, int[]> getCounts(MospParams mospParams, boolean needCreate) {
+		Map<String, int[]> counts = (Map<String, int[]>)mospParams.getGeneralParam(PRM_INSTANCE_COUNTS);
+		if (counts == null && needCreate) {
+			counts = new HashMap<String, int[]>();
+			mospParams.addGeneralParam(PRM_INSTANCE_COUNTS, counts);
+		}
+		return counts;
+	}
+	
+}
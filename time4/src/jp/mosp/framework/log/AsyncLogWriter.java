@@ -0,0 +1,402 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.framework.log;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import jp.mosp.framework.base.MospParams;
+
+/**
+ * 非同期ログ出力スレッド。<br>
+ * <br>
+ * リクエストを処理するスレッドはログをリングバッファ({@link LogRingBuffer})に追加するのみとし、
+ * 単一の出力スレッドがリングバッファからまとめて取り出して各ログ出力クラスで出力する。<br>
+ * まとめて出力した後、{@link Flushable}を実装するログ出力クラスをフラッシュする。<br>
+ * <br>
+ * リングバッファに空きが無い場合は、設定に応じて空きを待つか、ログを破棄する。<br>
+ * ログの日時は、追加した日時とする({@link TimestampLoggerInterface}を実装するログ出力クラスの場合)。<br>
+ * 追加件数、破棄件数及び出力件数を保持する。<br>
+ */
+public class AsyncLogWriter implements Runnable {
+	
+	/**
+	 * MosPアプリケーション設定キー(非同期ログ出力利用設定)。
+	 */
+	public static final String				APP_LOG_ASYNC				= "LogAsync";
+	
+	/**
+	 * MosPアプリケーション設定キー(非同期ログ出力バッファ容量)。
+	 */
+	public static final String				APP_LOG_ASYNC_CAPACITY		= "LogAsyncCapacity";
+	
+	/**
+	 * MosPアプリケーション設定キー(非同期ログ出力一括出力件数)。
+	 */
+	public static final String				APP_LOG_ASYNC_BATCH_SIZE	= "LogAsyncBatchSize";
+	
+	/**
+	 * MosPアプリケーション設定キー(非同期ログ出力間隔(ミリ秒))。
+	 */
+	public static final String				APP_LOG_ASYNC_INTERVAL		= "LogAsyncInterval";
+	
+	/**
+	 * MosPアプリケーション設定キー(非同期ログ出力バッファ溢れ時処理)。
+	 */
+	public static final String				APP_LOG_ASYNC_OVERFLOW		= "LogAsyncOverflow";
+	
+	/**
+	 * バッファ溢れ時処理(空きを待つ)。
+	 */
+	public static final String				OVERFLOW_BLOCK				= "block";
+	
+	/**
+	 * バッファ溢れ時処理(破棄する)。
+	 */
+	public static final String				OVERFLOW_DROP				= "drop";
+	
+	/**
+	 * バッファ容量(デフォルト)。
+	 */
+	protected static final int				DEFAULT_CAPACITY			= 8192;
+	
+	/**
+	 * 一括出力件数(デフォルト)。
+	 */
+	protected static final int				DEFAULT_BATCH_SIZE			= 512;
+	
+	/**
+	 * 出力間隔(ミリ秒)(デフォルト)。
+	 */
+	protected static final int				DEFAULT_INTERVAL			= 100;
+	
+	/**
+	 * 空きを待つ間隔(ナノ秒)。
+	 */
+	protected static final long				BLOCK_WAIT_NANOS			= TimeUnit.MILLISECONDS.toNanos(1L);
+	
+	/**
+	 * 出力スレッドの終了を待つ時間(ミリ秒)。
+	 */
+	protected static final long				SHUTDOWN_WAIT				= 10000L;
+	
+	/**
+	 * 非同期ログ出力スレッド。
+	 */
+	protected static AsyncLogWriter			instance;
+	
+	/**
+	 * リングバッファ。
+	 */
+	protected final LogRingBuffer<Entry>	buffer;
+	
+	/**
+	 * 一括出力件数。
+	 */
+	protected final int						batchSize;
+	
+	/**
+	 * 出力間隔(ナノ秒)。
+	 */
+	protected final long					intervalNanos;
+	
+	/**
+	 * バッファ溢れ時に空きを待つか(true：待つ、false：破棄する)。
+	 */
+	protected final boolean					block;
+	
+	/**
+	 * 追加件数。
+	 */
+	protected final AtomicLong				queuedCount;
+	
+	/**
+	 * 破棄件数。
+	 */
+	protected final AtomicLong				droppedCount;
+	
+	/**
+	 * 出力件数。
+	 */
+	protected final AtomicLong				writtenCount;
+	
+	/**
+	 * 出力スレッド。
+	 */
+	protected final Thread					thread;
+	
+	/**
+	 * 稼働中フラグ。
+	 */
+	protected volatile boolean				running;
+	
+	
+	/**
+	 * 非同期ログ出力スレッドを生成する。<br>
+	 * @param mospParams MosP処理情報
+	 */
+	protected AsyncLogWriter(MospParams mospParams) {
+		buffer = new LogRingBuffer<Entry>(mospParams.getApplicationProperty(APP_LOG_ASYNC_CAPACITY,
+				DEFAULT_CAPACITY));
+		batchSize = mospParams.getApplicationProperty(APP_LOG_ASYNC_BATCH_SIZE, DEFAULT_BATCH_SIZE);
+		intervalNanos = TimeUnit.MILLISECONDS.toNanos(mospParams.getApplicationProperty(APP_LOG_ASYNC_INTERVAL,
+				DEFAULT_INTERVAL));
+		block = OVERFLOW_DROP.equals(mospParams.getApplicationProperty(APP_LOG_ASYNC_OVERFLOW)) == false;
+		queuedCount = new AtomicLong();
+		droppedCount = new AtomicLong();
+		writtenCount = new AtomicLong();
+		thread = new Thread(this, getClass().getSimpleName());
+		thread.setDaemon(true);
+	}
+	
+	/**
+	 * 非同期ログ出力を利用するかを確認する。<br>
+	 * @param mospParams MosP処理情報
+	 * @return 確認結果(true：利用する、false：利用しない)
+	 */
+	public static boolean isEnabled(MospParams mospParams) {
+		return mospParams.getApplicationPropertyBool(APP_LOG_ASYNC);
+	}
+	
+	/**
+	 * 非同期ログ出力スレッドを取得する。<br>
+	 * 存在しない場合は、作成して開始する。<br>
+	 * @param mospParams MosP処理情報
+	 * @return 非同期ログ出力スレッド
+	 */
+	public static synchronized AsyncLogWriter getInstance(MospParams mospParams) {
+		if (instance == null) {
+			instance = new AsyncLogWriter(mospParams);
+			instance.running = true;
+			instance.thread.start();
+		}
+		return instance;
+	}
+	
+	/**
+	 * 非同期ログ出力スレッドを終了する。<br>
+	 * リングバッファに残っているログを出力してから終了する。<br>
+	 * 出力スレッドの終了を待った後、リングバッファに残っているログは、このスレッドで出力する。<br>
+	 * 終了後に追加されたログは、追加したスレッドで出力する。<br>
+	 * @return 終了した非同期ログ出力スレッド(開始していない場合はnull)
+	 */
+	public static synchronized AsyncLogWriter shutdown() {
+		if (instance == null) {
+			return null;
+		}
+		instance.running = false;
+		LockSupport.unpark(instance.thread);
+		try {
+			instance.thread.join(SHUTDOWN_WAIT);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		instance.drainAfterShutdown();
+		return instance;
+	}
+	
+	/**
+	 * ログを追加する。<br>
+	 * @param logger  ログ出力クラス
+	 * @param level   ログレベル
+	 * @param message ログメッセージ
+	 */
+	public void append(LoggerInterface logger, int level, String message) {
+		Entry entry = new Entry(logger, level, message, System.currentTimeMillis());
+		while (true) {
+			// 出力スレッドが終了している場合
+			if (running == false) {
+				logger.log(level, message);
+				return;
+			}
+			// リングバッファに追加
+			if (buffer.offer(entry)) {
+				queuedCount.incrementAndGet();
+				// 追加中に終了が始まった場合(出力スレッドが取り出さない可能性があるため)
+				if (running == false) {
+					drainAfterShutdown();
+				}
+				return;
+			}
+			// 空きを待たない場合
+			if (block == false) {
+				droppedCount.incrementAndGet();
+				return;
+			}
+			// 出力スレッドを起こして空きを待つ
+			LockSupport.unpark(thread);
+			LockSupport.parkNanos(this, BLOCK_WAIT_NANOS);
+		}
+	}
+	
+	@Override
+	public void run() {
+		while (running) {
+			// 出力するログが無い場合は出力間隔だけ待つ
+			if (write() == 0) {
+				LockSupport.parkNanos(this, intervalNanos);
+			}
+		}
+		// 残っているログを出力
+		while (write() > 0) {
+			// 処理無し
+		}
+	}
+	
+	/**
+	 * リングバッファに残っているログを出力する。<br>
+	 * <br>
+	 * 出力スレッドの終了は待たない(ログを追加したスレッドから呼ばれるため)。<br>
+	 * 出力スレッドがまだ出力中の場合は、{@link #write()}の排他により交互に取り出す。<br>
+	 */
+	protected void drainAfterShutdown() {
+		while (write() > 0) {
+			// 処理無し
+		}
+	}
+	
+	/**
+	 * リングバッファからログを取り出して出力する。<br>
+	 * 一括出力件数まで出力した後、出力したログ出力クラスをフラッシュする。<br>
+	 * <br>
+	 * リングバッファからの取得は単一のスレッドから行わなければならないため、
+	 * 終了後に出力スレッド以外から呼ばれる場合に備えて排他する。<br>
+	 * 稼働中は出力スレッドのみが呼ぶため、競合はしない。<br>
+	 * @return 出力件数
+	 */
+	protected synchronized int write() {
+		List<LoggerInterface> loggers = new ArrayList<LoggerInterface>();
+		int count = 0;
+		Entry entry = null;
+		while (count < batchSize && (entry = buffer.poll()) != null) {
+			try {
+				// 追加した日時で出力
+				if (entry.logger instanceof TimestampLoggerInterface) {
+					((TimestampLoggerInterface)entry.logger).log(entry.level, entry.message, entry.millis);
+				} else {
+					entry.logger.log(entry.level, entry.message);
+				}
+			} catch (RuntimeException e) {
+				e.printStackTrace();
+			}
+			count++;
+			if (loggers.contains(entry.logger) == false) {
+				loggers.add(entry.logger);
+			}
+		}
+		// 出力したログ出力クラスをフラッシュ
+		for (LoggerInterface logger : loggers) {
+			if (logger instanceof Flushable) {
+				try {
+					((Flushable)logger).flush();
+				} catch (IOException e) {
+					e.printStackTrace();
+				}
+			}
+		}
+		writtenCount.addAndGet(count);
+		return count;
+	}
+	
+	/**
+	 * @return リングバッファに保持しているログ件数
+	 */
+	public int getQueueDepth() {
+		return buffer.size();
+	}
+	
+	/**
+	 * @return 追加件数
+	 */
+	public long getQueuedCount() {
+		return queuedCount.get();
+	}
+	
+	/**
+	 * @return 破棄件数
+	 */
+	public long getDroppedCount() {
+		return droppedCount.get();
+	}
+	
+	/**
+	 * @return 出力件数
+	 */
+	public long getWrittenCount() {
+		return writtenCount.get();
+	}
+	
+	@Override
+	public String toString() {
+		StringBuffer sb = new StringBuffer(getClass().getSimpleName());
+		sb.append(" depth=").append(getQueueDepth());
+		sb.append(" queued=").append(getQueuedCount());
+		sb.append(" dropped=").append(getDroppedCount());
+		sb.append(" written=").append(getWrittenCount());
+		return sb.toString();
+	}
+	
+	
+	/**
+	 * リングバッファに保持するログ。<br>
+	 */
+	protected static class Entry {
+		
+		/**
+		 * ログ出力クラス。
+		 */
+		protected final LoggerInterface	logger;
+		
+		/**
+		 * ログレベル。
+		 */
+		protected final int				level;
+		
+		/**
+		 * ログメッセージ。
+		 */
+		protected final String			message;
+		
+		/**
+		 * 追加日時(ミリ秒)。
+		 */
+		protected final long			millis;
+		
+		
+		/**
+		 * ログを生成する。<br>
+		 * @param logger  ログ出力クラス
+		 * @param level   ログレベル
+		 * @param message ログメッセージ
+		 * @param millis  追加日時(ミリ秒)
+		 */
+		protected Entry(LoggerInterface logger, int level, String message, long millis) {
+			this.logger = logger;
+			this.level = level;
+			this.message = message;
+			this.millis = millis;
+		}
+		
+	}
+	
+}
@@ -0,0 +1,61 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.framework.log;
+
+import jp.mosp.framework.base.MospParams;
+
+/**
+ * 非同期ログ出力クラス。<br>
+ * <br>
+ * ログ出力クラスを包み、ログを非同期ログ出力スレッド({@link AsyncLogWriter})に追加する。<br>
+ * 実際の出力は、非同期ログ出力スレッドが包んだログ出力クラスで行う。<br>
+ */
+public class AsyncLogger implements LoggerInterface {
+	
+	/**
+	 * 包むログ出力クラス。
+	 */
+	protected final LoggerInterface	logger;
+	
+	/**
+	 * 非同期ログ出力スレッド。
+	 */
+	protected final AsyncLogWriter	writer;
+	
+	
+	/**
+	 * 非同期ログ出力クラスを生成する。<br>
+	 * @param logger 包むログ出力クラス
+	 * @param writer 非同期ログ出力スレッド
+	 */
+	public AsyncLogger(LoggerInterface logger, AsyncLogWriter writer) {
+		this.logger = logger;
+		this.writer = writer;
+	}
+	
+	@Override
+	public void log(int level, String message) {
+		writer.append(logger, level, message);
+	}
+	
+	@Override
+	public void setLogger(MospParams mospParams) {
+		logger.setLogger(mospParams);
+	}
+	
+}
@@ -62,12 +62,13 @@ public final class LogFormatClass extends Formatter {
 	/**
 	 * ログのフォーマットを形成する。<br>
 	 * 日付、レベル、メッセージをセパレータで区切る。<br>
+	 * 日付は、ログレコードの発生日時とする。<br>
 	 */
 	@Override
 	public String format(LogRecord rec) {
 		SimpleDateFormat sdf = new SimpleDateFormat(TIME_FORMAT + separator + DATE_FORMAT + separator + DAY_FORMAT);
 		StringBuffer sb = new StringBuffer();
-		sb.append(sdf.format(new Date()));
+		sb.append(sdf.format(new Date(rec.getMillis())));
 		sb.append(separator);
 		sb.append(rec.getLevel());
 		sb.append(separator);
@@ -0,0 +1,126 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.framework.log;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 固定長リングバッファ。<br>
+ * <br>
+ * 複数スレッドからの追加と単一スレッドからの取得を、ロックを用いずに行う。<br>
+ * 追加する側は書込位置を比較交換で確保してから要素を設定し、
+ * 取得する側は要素が設定されるまで当該位置を取得しない。<br>
+ * 要素の設定は、追加した後の他の変数の確認と順序が入れ替わらないように、volatile書込で行う。<br>
+ * 取得は、単一のスレッドからのみ行わなければならない。<br>
+ * @param <E> 要素
+ */
+public class LogRingBuffer<E> {
+	
+	/**
+	 * 要素群。
+	 */
+	protected final AtomicReferenceArray<E>	slots;
+	
+	/**
+	 * 容量(2の冪)。
+	 */
+	protected final int						capacity;
+	
+	/**
+	 * 位置から添字を求めるためのマスク。
+	 */
+	protected final int						mask;
+	
+	/**
+	 * 次の書込位置。
+	 */
+	protected final AtomicLong				tail;
+	
+	/**
+	 * 次の読込位置(取得するスレッドのみが更新する)。
+	 */
+	protected volatile long					head;
+	
+	
+	/**
+	 * リングバッファを生成する。<br>
+	 * 容量は、指定された値以上の2の冪とする。<br>
+	 * @param capacity 容量
+	 */
+	public LogRingBuffer(int capacity) {
+		int size = 1;
+		while (size < capacity) {
+			size <<= 1;
+		}
+		this.capacity = size;
+		mask = size - 1;
+		slots = new AtomicReferenceArray<E>(size);
+		tail = new AtomicLong();
+	}
+	
+	/**
+	 * 要素を追加する。<br>
+	 * @param element 要素
+	 * @return 追加結果(true：追加した、false：空きが無いため追加できなかった)
+	 */
+	public boolean offer(E element) {
+		while (true) {
+			long position = tail.get();
+			// 空きが無い場合
+			if (position - head >= capacity) {
+				return false;
+			}
+			// 書込位置を確保
+			if (tail.compareAndSet(position, position + 1)) {
+				slots.set((int)(position & mask), element);
+				return true;
+			}
+		}
+	}
+	
+	/**
+	 * 要素を取得する。<br>
+	 * @return 要素(無い場合、或いは次の要素が設定中である場合はnull)
+	 */
+	public E poll() {
+		int idx = (int)(head & mask);
+		E element = slots.get(idx);
+		if (element == null) {
+			return null;
+		}
+		slots.lazySet(idx, null);
+		head++;
+		return element;
+	}
+	
+	/**
+	 * @return 保持している要素数(設定中のものを含む)
+	 */
+	public int size() {
+		return (int)(tail.get() - head);
+	}
+	
+	/**
+	 * @return 容量
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+	
+}
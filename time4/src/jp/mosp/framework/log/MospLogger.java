@@ -17,9 +17,12 @@
  */
 package jp.mosp.framework.log;
 
+import java.io.Flushable;
 import java.io.IOException;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 
 import jp.mosp.framework.base.MospParams;
@@ -27,9 +30,13 @@ import jp.mosp.framework.constant.MospConst;
 import jp.mosp.framework.utils.LogUtility;
 
 /**
- * MosP用Loggerクラス。
+ * MosP用Loggerクラス。<br>
+ * <br>
+ * 非同期ログ出力({@link AsyncLogWriter})を利用する場合は、ログ毎にはファイルをフラッシュせず、
+ * 非同期ログ出力スレッドがまとめて出力した後に{@link #flush()}でフラッシュする。<br>
+ * また、ログの日時には出力した日時ではなくログを追加した日時を用いる。<br>
  */
-public class MospLogger implements LoggerInterface {
+public class MospLogger implements TimestampLoggerInterface, Flushable {
 	
 	/**
 	 *  MosPアプリケーション設定キー(ログエンコーディング)。<br>
@@ -133,6 +140,24 @@ public class MospLogger implements LoggerInterface {
 		}
 	}
 	
+	@Override
+	public void log(int level, String message, long millis) {
+		try {
+			// 出力レベル確認
+			Level logLevel = getLevel(level);
+			if (logger.isLoggable(logLevel) == false) {
+				return;
+			}
+			// 発生日時を設定してログ出力
+			LogRecord rec = new LogRecord(logLevel, message);
+			rec.setMillis(millis);
+			rec.setLoggerName(logger.getName());
+			logger.log(rec);
+		} catch (Exception e) {
+			e.printStackTrace();
+		}
+	}
+	
 	@Override
 	public void setLogger(MospParams mospParams) {
 		try {
@@ -157,8 +182,9 @@ public class MospLogger implements LoggerInterface {
 			int limit = mospParams.getApplicationProperty(APP_LOG_LIMIT, 0);
 			// ローテーション数取得
 			int count = mospParams.getApplicationProperty(APP_LOG_COUNT, 0);
-			// ハンドラ生成
-			FileHandler fh = new FileHandler(pattern, limit, count, true);
+			// ハンドラ生成(非同期ログ出力を利用する場合はフラッシュを遅延)
+			FileHandler fh = AsyncLogWriter.isEnabled(mospParams) ? new DeferredFileHandler(pattern, limit, count)
+					: new FileHandler(pattern, limit, count, true);
 			// Formatter設定
 			fh.setFormatter(new LogFormatClass(mospParams.getApplicationProperty(LogUtility.APP_LOG_SEPARATOR)));
 			// エンコーディング設定
@@ -172,4 +198,50 @@ public class MospLogger implements LoggerInterface {
 		}
 	}
 	
+	@Override
+	public void flush() {
+		if (logger == null) {
+			return;
+		}
+		for (Handler handler : logger.getHandlers()) {
+			if (handler instanceof DeferredFileHandler) {
+				((DeferredFileHandler)handler).flushDeferred();
+			}
+		}
+	}
+	
+	
+	/**
+	 * フラッシュを遅延するファイルハンドラ。<br>
+	 * <br>
+	 * ログ毎のフラッシュを行わず、{@link #flushDeferred()}が呼ばれた時にまとめてフラッシュする。<br>
+	 * ファイルのローテーションは、フラッシュした後のログ出力時に判定される。<br>
+	 */
+	protected static class DeferredFileHandler extends FileHandler {
+		
+		/**
+		 * ファイルハンドラを生成する。<br>
+		 * @param pattern ログファイル名パターン
+		 * @param limit   ログファイル最大バイト数
+		 * @param count   ログファイルローテーション数
+		 * @throws IOException ファイルを開けなかった場合
+		 */
+		protected DeferredFileHandler(String pattern, int limit, int count) throws IOException {
+			super(pattern, limit, count, true);
+		}
+		
+		@Override
+		public void flush() {
+			// ログ毎にはフラッシュしない
+		}
+		
+		/**
+		 * まとめてフラッシュする。<br>
+		 */
+		public void flushDeferred() {
+			super.flush();
+		}
+		
+	}
+	
 }
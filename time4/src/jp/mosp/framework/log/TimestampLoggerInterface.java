@@ -0,0 +1,36 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.framework.log;
+
+/**
+ * 発生日時指定可能Loggerインターフェース。<br>
+ * <br>
+ * 非同期ログ出力({@link AsyncLogWriter})では、ログを追加した日時と出力する日時が異なる。<br>
+ * このインターフェースを実装するログ出力クラスには、ログを追加した日時を発生日時として渡す。<br>
+ */
+public interface TimestampLoggerInterface extends LoggerInterface {
+	
+	/**
+	 * ログを出力する。<br>
+	 * @param level   ログレベル
+	 * @param message ログメッセージ
+	 * @param millis  発生日時(ミリ秒)
+	 */
+	void log(int level, String message, long millis);
+	
+}
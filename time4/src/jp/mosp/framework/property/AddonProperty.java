@@ -22,20 +22,22 @@ package jp.mosp.framework.property;
  */
 public class AddonProperty implements BaseProperty {
 	
+	private static final long	serialVersionUID	= -2319525890221605496L;
+	
 	/**
 	 * キー。
 	 */
-	private String	key;
+	private String				key;
 	
 	/**
 	 * アドオン名称。
 	 */
-	private String	addonName;
+	private String				addonName;
 	
 	/**
 	 * アドオン有効フラグ。
 	 */
-	private boolean	addonValid;
+	private boolean				addonValid;
 	
 	
 	/**
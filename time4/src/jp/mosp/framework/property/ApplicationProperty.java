@@ -22,15 +22,17 @@ package jp.mosp.framework.property;
  */
 public class ApplicationProperty implements BaseProperty {
 	
+	private static final long	serialVersionUID	= 4589689223107551810L;
+	
 	/**
 	 * キー。<br>
 	 */
-	private String	key;
+	private String				key;
 	
 	/**
 	 * 値。<br>
 	 */
-	private String	value;
+	private String				value;
 	
 	
 	/**
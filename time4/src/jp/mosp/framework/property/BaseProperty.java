@@ -17,10 +17,12 @@
  */
 package jp.mosp.framework.property;
 
+import java.io.Serializable;
+
 /**
  * MosP設定情報の基となるクラス。<br>
  */
-public interface BaseProperty {
+public interface BaseProperty extends Serializable {
 	
 	/**
 	 * キーを取得する。<br>
@@ -17,32 +17,36 @@
  */
 package jp.mosp.framework.property;
 
+import java.io.Serializable;
+
 import jp.mosp.framework.base.IndexedDtoInterface;
 
 /**
  * MosP設定情報(コード項目)。<br>
  */
-public class CodeItemProperty implements IndexedDtoInterface {
+public class CodeItemProperty implements IndexedDtoInterface, Serializable {
+	
+	private static final long	serialVersionUID	= 8449038777701148841L;
 	
 	/**
 	 * キー。
 	 */
-	private String	key;
+	private String				key;
 	
 	/**
 	 * コード項目名称。
 	 */
-	private String	itemName;
+	private String				itemName;
 	
 	/**
 	 * コード項目表示順。
 	 */
-	private int		viewIndex;
+	private int					viewIndex;
 	
 	/**
 	 * コード項目表示フラグ。
 	 */
-	private int		viewFlag;
+	private int					viewFlag;
 	
 	
 	/**
@@ -25,6 +25,8 @@ import java.util.Map;
  */
 public class CodeProperty implements BaseProperty {
 	
+	private static final long				serialVersionUID	= 3924815160150147117L;
+	
 	/**
 	 * キー。
 	 */
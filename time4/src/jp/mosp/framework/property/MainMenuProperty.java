@@ -25,6 +25,8 @@ import java.util.Map;
  */
 public class MainMenuProperty implements BaseProperty {
 	
+	private static final long			serialVersionUID	= 8944741048901546665L;
+	
 	/**
 	 * キー。<br>
 	 */
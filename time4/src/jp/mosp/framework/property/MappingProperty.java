@@ -22,15 +22,17 @@ package jp.mosp.framework.property;
  */
 public class MappingProperty implements BaseProperty {
 	
+	private static final long	serialVersionUID	= -986617331342251990L;
+	
 	/**
 	 * キー。<br>
 	 */
-	private final String	key;
+	private final String		key;
 	
 	/**
 	 * DAOクラス名。<br>
 	 */
-	private final String	dao;
+	private final String		dao;
 	
 	
 	/**
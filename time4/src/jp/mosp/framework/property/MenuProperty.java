@@ -17,30 +17,34 @@
  */
 package jp.mosp.framework.property;
 
+import java.io.Serializable;
+
 /**
  * MosP設定情報(メニュー)。<br>
  */
-public class MenuProperty {
+public class MenuProperty implements Serializable {
+	
+	private static final long	serialVersionUID	= -3792037595404559341L;
 	
 	/**
 	 * キー
 	 */
-	private String	key;
+	private String				key;
 	
 	/**
 	 * コマンド
 	 */
-	private String	command;
+	private String				command;
 	
 	/**
 	 * VOクラス
 	 */
-	private String	voClass;
+	private String				voClass;
 	
 	/**
 	 * メニュー有効フラグ。
 	 */
-	private boolean	menuValid;
+	private boolean				menuValid;
 	
 	
 	/**
@@ -22,20 +22,22 @@ package jp.mosp.framework.property;
  */
 public class MessageProperty implements BaseProperty {
 	
+	private static final long	serialVersionUID	= 3415344305565999273L;
+	
 	/**
 	 * キー(メッセージID)。
 	 */
-	private String	key;
+	private String				key;
 	
 	/**
 	 * メッセージ本体。
 	 */
-	private String	messageBody;
+	private String				messageBody;
 	
 	/**
 	 * クライアント利用可否。
 	 */
-	private boolean	clientAvailable;
+	private boolean				clientAvailable;
 	
 	
 	/**
@@ -18,32 +18,37 @@
 package jp.mosp.framework.property;
 
 import java.util.Date;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 
 /**
  * MosP設定情報(モデル)。<br>
  */
 public class ModelProperty implements BaseProperty {
 	
+	private static final long			serialVersionUID	= 438211738509186129L;
+	
 	/**
 	 * キー。
 	 */
-	private String				key;
+	private String						key;
 	
 	/**
 	 * モデルクラス名。<br>
 	 * 有効日の指定が無い場合に利用するモデルクラス。<br>
 	 * また、モデルクラス名群の中に対象日以前の情報が無い場合にも利用される。<br>
 	 */
-	private String				modelClass;
+	private String						modelClass;
 	
 	/**
 	 * モデルクラス名群。<br>
 	 * モデル有効日をキーとする。<br>
 	 * 設定ファイル上で有効日を指定した場合、これに追加される。<br>
+	 * 対象日以前で最新のモデルクラス名を引けるよう、有効日順に保持する。<br>
 	 */
-	private Map<Date, String>	modelClassMap;
+	private NavigableMap<Date, String>	modelClassMap;
 	
 	
 	/**
@@ -52,7 +57,7 @@ public class ModelProperty implements BaseProperty {
 	 */
 	public ModelProperty(String key) {
 		this.key = key;
-		modelClassMap = new HashMap<Date, String>();
+		modelClassMap = new TreeMap<Date, String>();
 	}
 	
 	@Override
@@ -68,6 +73,24 @@ public class ModelProperty implements BaseProperty {
 		return modelClass;
 	}
 	
+	/**
+	 * 対象日以前で最新のモデルクラス名を取得する。<br>
+	 * 対象日がnullの場合、或いは対象日以前のモデルクラス名が無い場合は、
+	 * モデルクラス名(モデル有効日指定無し)を取得する。<br>
+	 * @param targetDate 対象日
+	 * @return モデルクラス名
+	 */
+	public String getModelClass(Date targetDate) {
+		if (targetDate == null) {
+			return modelClass;
+		}
+		Entry<Date, String> entry = modelClassMap.floorEntry(targetDate);
+		if (entry == null) {
+			return modelClass;
+		}
+		return entry.getValue();
+	}
+	
 	/**
 	 * モデルクラス名群を取得する。
 	 * @return モデルクラス名群
@@ -17,6 +17,7 @@
  */
 package jp.mosp.framework.property;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -29,7 +30,9 @@ import jp.mosp.framework.utils.MospUtility;
 /**
  * MosP設定情報を扱う。<br>
  */
-public class MospProperties {
+public class MospProperties implements Serializable {
+	
+	private static final long					serialVersionUID	= -5578266619456125966L;
 	
 	/**
 	 * アプリケーション設定情報群。
@@ -22,15 +22,17 @@ package jp.mosp.framework.property;
  */
 public class NamingProperty implements BaseProperty {
 	
+	private static final long	serialVersionUID	= -5538086224126428086L;
+	
 	/**
 	 * キー。<br>
 	 */
-	private String	key;
+	private String				key;
 	
 	/**
 	 * 値。<br>
 	 */
-	private String	value;
+	private String				value;
 	
 	
 	/**
@@ -17,6 +17,7 @@
  */
 package jp.mosp.framework.property;
 
+import java.io.Serializable;
 import java.util.Map;
 
 import jp.mosp.framework.base.IndexedDtoInterface;
@@ -24,7 +25,9 @@ import jp.mosp.framework.base.IndexedDtoInterface;
 /**
  * MosPロールメニュー設定情報を扱う。
  */
-public class RoleMenuProperty implements IndexedDtoInterface {
+public class RoleMenuProperty implements IndexedDtoInterface, Serializable {
+	
+	private static final long			serialVersionUID	= -8155150252722582520L;
 	
 	/**
 	 * キー。
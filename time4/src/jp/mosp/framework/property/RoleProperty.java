@@ -29,6 +29,8 @@ import jp.mosp.framework.base.IndexedDtoInterface;
  */
 public class RoleProperty implements IndexedDtoInterface, BaseProperty {
 	
+	private static final long				serialVersionUID	= 5042523579730407115L;
+	
 	/**
 	 * キー。
 	 */
@@ -24,6 +24,8 @@ import jp.mosp.framework.base.MospException;
 import jp.mosp.framework.base.MospParams;
 import jp.mosp.framework.constant.MospConst;
 import jp.mosp.framework.instance.InstanceFactory;
+import jp.mosp.framework.log.AsyncLogWriter;
+import jp.mosp.framework.log.AsyncLogger;
 import jp.mosp.framework.log.LoggerInterface;
 import jp.mosp.framework.log.MospLogger;
 import net.arnx.jsonic.JSON;
@@ -82,6 +84,11 @@ public class LogUtility {
 	 */
 	protected static final String	APP_LOG_TYPE_SQL_REGIST			= "LogTypeSqlRegist";
 	
+	/**
+	 * MosPアプリケーション設定キー(ログタイプ：低速SQL実行)。
+	 */
+	protected static final String	APP_LOG_TYPE_SQL_SLOW			= "LogTypeSqlSlow";
+	
 	/**
 	 * MosPアプリケーション設定キー(ログタイプ：内部統制)。
 	 */
@@ -147,6 +154,11 @@ public class LogUtility {
 	 */
 	protected static final String	APP_LOG_LEVEL_SQL_REGIST		= "LogLevelSqlRegist";
 	
+	/**
+	 * MosPアプリケーション設定キー(ログ出力レベル：低速SQL実行)。
+	 */
+	protected static final String	APP_LOG_LEVEL_SQL_SLOW			= "LogLevelSqlSlow";
+	
 	/**
 	 * MosPアプリケーション設定キー(ログ出力レベル：内部統制)。
 	 */
@@ -173,6 +185,12 @@ public class LogUtility {
 	 */
 	protected static final String	APP_LOG_EXCLUDE_PARAMS			= "LogExcludeParams";
 	
+	/**
+	 * MosPアプリケーション設定キー(ログレベル(MosPログ出力クラス使用時))。<br>
+	 * ログを出力するかの確認時に用いられる。<br>
+	 */
+	protected static final String	APP_LOG_LEVEL					= "LogLevel";
+	
 	
 	/**
 	 * 他クラスからのインスタンス化を防止する。<br>
@@ -206,6 +224,10 @@ public class LogUtility {
 			logger = new MospLogger();
 			logger.setLogger(mospParams);
 		}
+		// 非同期ログ出力を利用する場合は非同期ログ出力クラスで包む
+		if (AsyncLogWriter.isEnabled(mospParams)) {
+			logger = new AsyncLogger(logger, AsyncLogWriter.getInstance(mospParams));
+		}
 		// ログ出力クラスの配置
 		mospParams.putLogger(loggerName, logger);
 		return logger;
@@ -444,6 +466,63 @@ public class LogUtility {
 		}
 	}
 	
+	/**
+	 * 低速SQL実行ログを出力する。
+	 * @param mospParams MosP処理情報
+	 * @param message    ログメッセージ
+	 */
+	public static void sqlSlow(MospParams mospParams, String message) {
+		// ログレベル取得
+		int level = mospParams.getApplicationProperty(APP_LOG_LEVEL_SQL_SLOW, 0);
+		// ログレベルが0の場合
+		if (level == 0) {
+			// ログ出力無し
+			return;
+		}
+		// ログメッセージ作成
+		String msg = getLogMessage(mospParams, APP_LOG_TYPE_SQL_SLOW, message);
+		// ログ出力クラス毎にログを出力
+		for (String loggerName : mospParams.getApplicationProperties(APP_LOG_TYPE_SQL_SLOW)) {
+			// ログ出力
+			loadLogger(loggerName, mospParams).log(level, msg);
+		}
+	}
+	
+	/**
+	 * 参照SQL実行ログを出力するかを確認する。<br>
+	 * SQL文字列の作成前に確認し、出力しない場合はSQL文字列を作成しないために用いる。<br>
+	 * @param mospParams MosP処理情報
+	 * @return 確認結果(true：出力する、false：出力しない)
+	 */
+	public static boolean isSqlSelect(MospParams mospParams) {
+		return isLoggable(mospParams, mospParams.getApplicationProperty(APP_LOG_LEVEL_SQL_SELECT, 0));
+	}
+	
+	/**
+	 * 登録SQL実行ログを出力するかを確認する。<br>
+	 * SQL文字列の作成前に確認し、出力しない場合はSQL文字列を作成しないために用いる。<br>
+	 * @param mospParams MosP処理情報
+	 * @return 確認結果(true：出力する、false：出力しない)
+	 */
+	public static boolean isSqlRegist(MospParams mospParams) {
+		return isLoggable(mospParams, mospParams.getApplicationProperty(APP_LOG_LEVEL_SQL_REGIST, 0));
+	}
+	
+	/**
+	 * ログを出力するかを確認する。<br>
+	 * ログレベルが0の場合、或いはログレベル(MosPログ出力クラス使用時)に満たない場合は、出力しない。<br>
+	 * @param mospParams MosP処理情報
+	 * @param level      ログレベル
+	 * @return 確認結果(true：出力する、false：出力しない)
+	 */
+	protected static boolean isLoggable(MospParams mospParams, int level) {
+		// ログレベルが0の場合
+		if (level == 0) {
+			return false;
+		}
+		return level >= mospParams.getApplicationProperty(APP_LOG_LEVEL, 0);
+	}
+	
 	/**
 	 * 内部統制ログを出力する。
 	 * @param mospParams MosP処理情報
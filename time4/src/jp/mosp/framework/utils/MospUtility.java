@@ -27,13 +27,13 @@ import java.io.UnsupportedEncodingException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Date;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jp.mosp.framework.base.MospException;
 import jp.mosp.framework.base.MospParams;
@@ -53,22 +53,27 @@ public final class MospUtility {
 	/**
 	 * Bean及びDAO接尾辞リスト。<br>
 	 */
-	private static final String[]	SUFFIX_ARRAY		= { "BeanInterface", "Bean", "Interface" };
+	private static final String[]				SUFFIX_ARRAY		= { "BeanInterface", "Bean", "Interface" };
 	
 	/**
 	 * 区切文字(半角スペース)。
 	 */
-	public static final char		CHR_SEPARATOR_SPACE	= ' ';
+	public static final char					CHR_SEPARATOR_SPACE	= ' ';
 	
 	/**
 	 * コマンド末尾のワイルドカード。
 	 */
-	public static final String		WILD_CARD_COMMAND	= "*";
+	public static final String					WILD_CARD_COMMAND	= "*";
 	
 	/**
 	 * 文字コード（UTF-8）。
 	 */
-	public static final String		CHARACTER_ENCODING	= "UTF-8";
+	public static final String					CHARACTER_ENCODING	= "UTF-8";
+	
+	/**
+	 * モデルキー群(キー：モデルインターフェース)。<br>
+	 */
+	private static final Map<Class<?>, String>	modelKeys			= new ConcurrentHashMap<Class<?>, String>();
 	
 	
 	/**
@@ -103,28 +108,8 @@ public final class MospUtility {
 		if (modelProperty == null) {
 			throw new MospException(new Exception(), ExceptionConst.EX_FAIL_CLASS_NAME, modelKey);
 		}
-		// 対象日がnullの場合
-		if (targetDate == null) {
-			// モデル設定情報からモデルクラス名を取得
-			return modelProperty.getModelClass();
-		}
-		// モデル設定情報からモデルクラス名群を取得
-		Map<Date, String> modelClassMap = modelProperty.getModelClassMap();
-		// モデルクラス名群のキーをリストに変換
-		List<Date> keyList = new ArrayList<Date>(modelClassMap.keySet());
-		// キーリストをソート(降順)
-		Collections.sort(keyList);
-		Collections.reverse(keyList);
-		// キー毎に処理
-		for (Date key : keyList) {
-			if (key.after(targetDate)) {
-				// 対象外
-				continue;
-			}
-			return modelClassMap.get(key);
-		}
-		// モデルクラス名を取得(対象日以前で最も新しいキーが無い場合)
-		return modelProperty.getModelClass();
+		// モデル設定情報から対象日以前で最新のモデルクラス名を取得
+		return modelProperty.getModelClass(targetDate);
 	}
 	
 	/**
@@ -152,8 +137,13 @@ public final class MospUtility {
 	 * @return モデルキー
 	 */
 	protected static String getModelKey(Class<?> cls) {
+		// モデルキー群から取得
+		String key = modelKeys.get(cls);
+		if (key != null) {
+			return key;
+		}
 		// クラス名取得
-		String key = cls.getSimpleName();
+		key = cls.getSimpleName();
 		// モデルキー取得
 		for (String suffix : SUFFIX_ARRAY) {
 			if (key.indexOf(suffix) == key.length() - suffix.length()) {
@@ -161,9 +151,19 @@ public final class MospUtility {
 				break;
 			}
 		}
+		modelKeys.put(cls, key);
 		return key;
 	}
 	
+	/**
+	 * メッセージファイル(JavaScript)のパスを取得する。<br>
+	 * @param mospProperties MosP設定情報
+	 * @return メッセージファイル(JavaScript)のパス
+	 */
+	public static String getMessageJsPath(MospProperties mospProperties) {
+		return mospProperties.getApplicationProperty(MospConst.APP_DOCBASE) + "/pub/common/js/message.js";
+	}
+	
 	/**
 	 * メッセージ設定情報をJavaScriptファイルに変換する。<br>
 	 * @param mospProperties MosP設定情報
@@ -171,7 +171,7 @@ public final class MospUtility {
 	 */
 	public static void outputMessageJs(MospProperties mospProperties) throws MospException {
 		// JavaScriptファイルパス及びJavaScript変数名宣言
-		final String path = mospProperties.getApplicationProperty(MospConst.APP_DOCBASE) + "/pub/common/js/message.js";
+		final String path = getMessageJsPath(mospProperties);
 		final String name = "messages";
 		// メッセージ設定情報群取得
 		Map<String, MessageProperty> messageProperties = mospProperties.getMessageProperties();
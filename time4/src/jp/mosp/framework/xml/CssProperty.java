@@ -24,15 +24,17 @@ import jp.mosp.framework.property.BaseProperty;
  */
 public class CssProperty implements BaseProperty {
 	
+	private static final long	serialVersionUID	= 7892679975238224029L;
+	
 	/**
 	 * CSS。
 	 */
-	private final String	key;
+	private final String		key;
 	
 	/**
 	 * CSSのクラス名
 	 */
-	private final String	name;
+	private final String		name;
 	
 	
 	/**
@@ -24,35 +24,37 @@ import jp.mosp.framework.property.BaseProperty;
  */
 public class ItemProperty implements BaseProperty {
 	
+	private static final long	serialVersionUID	= 5221446025223702190L;
+	
 	/**
 	 * 人事汎用項目キー。
 	 */
-	private final String	key;
+	private final String		key;
 	
 	/**
 	 * 人事汎用項目形式。
 	 */
-	private final String	type;
+	private final String		type;
 	
 	/**
 	 * CSS。<br>
 	 * 人事汎用項目のCSSを指定する。<br>
 	 */
-	private String			css;
+	private String				css;
 	
 	/**
 	 * 空白指定<br>
 	 * 人事汎用項目形式がselect、radioの場合に用いる。<br>
 	 * デフォルトは表示
 	 */
-	private boolean			isNeedSpace;
+	private boolean				isNeedSpace;
 	
 	/**
 	 * 固定値。<br>
 	 * 人事汎用項目形式がlabelの場合に用いる。<br>
 	 * 表示したい固定値を格納する。<br>
 	 */
-	private String			fixedValue;
+	private String				fixedValue;
 	
 	/**
 	 * MosPコードキー。<br>
@@ -60,7 +62,7 @@ public class ItemProperty implements BaseProperty {
 	 * 値が設定されている場合、MosPコード設定情報から
 	 * プルダウン用配列を取得する。<br>
 	 */
-	private String			codeKey;
+	private String				codeKey;
 	
 	/**
 	 * 名称区分。<br>
@@ -68,19 +70,19 @@ public class ItemProperty implements BaseProperty {
 	 * 値が設定されている場合、名称区分マスタから
 	 * プルダウン用配列を取得する。<br>
 	 */
-	private String			namingKey;
+	private String				namingKey;
 	
 	/**
 	 * 人事汎用項目フォーマット。<br>
 	 * 人事汎用項目形式がlabelの場合に用いる。<br>
 	 * 当項目のフォーマットを指定する。<br>
 	 */
-	private String			format;
+	private String				format;
 	
 	/**
 	 * 人事汎用項目データ型。<br>
 	 */
-	private String			dataType;
+	private String				dataType;
 	
 	
 	/**
@@ -21,6 +21,11 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -29,6 +34,7 @@ import javax.xml.parsers.ParserConfigurationException;
 import jp.mosp.framework.base.MospException;
 import jp.mosp.framework.property.MospProperties;
 
+import org.w3c.dom.Document;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 import org.xml.sax.SAXException;
@@ -42,6 +48,21 @@ public class MospPropertiesBuilder implements MospPropertiesBuilderInterface {
 	
 	private ConvertManagerInterface	manager;
 	
+	/**
+	 * ファイル解析スレッド数(1以下の場合は逐次解析)。
+	 */
+	private int						parseThreads;
+	
+	/**
+	 * スナップショットファイル格納ディレクトリ(nullの場合はスナップショットを利用しない)。
+	 */
+	private File					snapshotDir;
+	
+	/**
+	 * 読み込んだスナップショットのハッシュ値(スナップショットを読み込まなかった場合はnull)。
+	 */
+	private String					snapshotHash;
+	
 	
 	@Override
 	public MospProperties build(String docBase) throws MospException {
@@ -49,6 +70,21 @@ public class MospPropertiesBuilder implements MospPropertiesBuilderInterface {
 		init();
 		// MosP設定ファイルパスリスト取得
 		List<String> pathList = finder.getPathList(docBase);
+		// スナップショット確認
+		MospPropertiesSnapshot snapshot = null;
+		String hash = null;
+		if (snapshotDir != null) {
+			snapshot = new MospPropertiesSnapshot(snapshotDir);
+			hash = snapshot.getHash(getInputPathList(pathList), docBase);
+		}
+		if (hash != null) {
+			MospProperties properties = snapshot.load(hash);
+			if (properties != null) {
+				System.out.println("MosP設定情報スナップショット読込。");
+				snapshotHash = hash;
+				return properties;
+			}
+		}
 		// MosP設定ファイルドキュメントリスト取得
 		System.out.println("MosP設定情報ファイル解析。");
 		List<DocumentWrapper> docList = parse(pathList);
@@ -67,9 +103,45 @@ public class MospPropertiesBuilder implements MospPropertiesBuilderInterface {
 		properties.setRoleProperties(result.getRole());
 		properties.setConventionProperties(result.getConvention());
 		properties.setViewConfigProperties(result.getViewConfig());
+		// スナップショット保存
+		if (hash != null) {
+			snapshot.save(hash, properties);
+		}
 		return properties;
 	}
 	
+	/**
+	 * MosP設定情報の作成に用いられ得るファイルパスリストを取得する。<br>
+	 * <br>
+	 * MosP設定ファイルパスリストに、各ファイルに対応するアドオンディレクトリの
+	 * MosP設定ファイルパスを加えたものとなる。<br>
+	 * アドオンの有効無効に依らず加えるため、実際に読み込まれるファイルより多くなり得る。<br>
+	 * @param pathList MosP設定ファイルパスリスト
+	 * @return ファイルパスリスト
+	 */
+	protected List<String> getInputPathList(List<String> pathList) {
+		List<String> list = new ArrayList<String>();
+		for (String path : pathList) {
+			list.add(path);
+			list.addAll(finder.getFilePathList(getAddonDirPath(path), false));
+		}
+		return list;
+	}
+	
+	/**
+	 * アドオンディレクトリパスを取得する。<br>
+	 * @param path アドオンドキュメントのファイルパス
+	 * @return アドオンディレクトリパス
+	 */
+	protected String getAddonDirPath(String path) {
+		// ファイル情報取得
+		File file = new File(path);
+		// アドオンID取得
+		String addonId = file.getName().replace(".xml", "");
+		// アドオンディレクトリパス作成
+		return file.getParent() + "/" + addonId;
+	}
+	
 	/**
 	 * 初期化
 	 */
@@ -86,6 +158,10 @@ public class MospPropertiesBuilder implements MospPropertiesBuilderInterface {
 	 * @throws MospException ドキュメントリストの取得に失敗した場合
 	 */
 	List<DocumentWrapper> parse(List<String> pathList) throws MospException {
+		// 並列で解析する場合
+		if (parseThreads > 1 && pathList.size() > 1) {
+			return parseParallel(pathList);
+		}
 		// XMLファイル読込準備
 		DocumentBuilder builder;
 		try {
@@ -112,6 +188,49 @@ public class MospPropertiesBuilder implements MospPropertiesBuilderInterface {
 		return documentList;
 	}
 	
+	/**
+	 * ファイルパスリストからドキュメントリストを並列で取得する。<br>
+	 * <br>
+	 * DocumentBuilderはスレッドセーフでないため、ファイル毎に生成する。<br>
+	 * ドキュメントリストの順序は、ファイルパスリストの順序と同じになる。<br>
+	 * @param pathList ファイルパスリスト
+	 * @return ドキュメントリスト
+	 * @throws MospException ドキュメントリストの取得に失敗した場合
+	 */
+	List<DocumentWrapper> parseParallel(List<String> pathList) throws MospException {
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(parseThreads, pathList.size()));
+		try {
+			// ファイル毎に解析を開始
+			List<Future<Document>> futureList = new ArrayList<Future<Document>>();
+			for (final String path : pathList) {
+				futureList.add(executor.submit(new Callable<Document>() {
+					
+					@Override
+					public Document call() throws Exception {
+						return DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(new File(path));
+					}
+				}));
+			}
+			// ファイルパスリストの順に解析結果を取得
+			List<DocumentWrapper> documentList = new ArrayList<DocumentWrapper>();
+			for (int i = 0; i < pathList.size(); i++) {
+				String path = pathList.get(i);
+				System.out.println(path);
+				documentList.add(new DocumentWrapper(path, futureList.get(i).get()));
+			}
+			return documentList;
+		} catch (ExecutionException e) {
+			System.out.println("  MosP設定情報ファイルの解析ができませんでした。");
+			throw new MospException(e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			System.out.println("  MosP設定情報ファイルの解析ができませんでした。");
+			throw new MospException(e);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+	
 	ConvertResultInterface convert(List<DocumentWrapper> list) throws MospException {
 		// 変換結果
 		ConvertResultInterface result = manager.init();
@@ -182,14 +301,8 @@ public class MospPropertiesBuilder implements MospPropertiesBuilderInterface {
 	 * @throws MospException ドキュメントリストの取得に失敗した場合
 	 */
 	protected void addAddonDir(ConvertResultInterface result, DocumentWrapper document) throws MospException {
-		// ファイル情報取得
-		File file = new File(document.path);
-		// アドオンID取得
-		String addonId = file.getName().replace(".xml", "");
-		// アドオンディレクトリパス作成
-		String dirPath = file.getParent() + "/" + addonId;
 		// MosP設定ファイルパスリスト取得
-		List<String> pathList = finder.getFilePathList(dirPath, false);
+		List<String> pathList = finder.getFilePathList(getAddonDirPath(document.path), false);
 		// MosP設定ファイルドキュメントリスト取得
 		List<DocumentWrapper> docList = parse(pathList);
 		// ドキュメント毎に処理
@@ -219,4 +332,25 @@ public class MospPropertiesBuilder implements MospPropertiesBuilderInterface {
 		this.manager = manager;
 	}
 	
+	/**
+	 * @param parseThreads セットする parseThreads
+	 */
+	public void setParseThreads(int parseThreads) {
+		this.parseThreads = parseThreads;
+	}
+	
+	/**
+	 * @param snapshotDir セットする snapshotDir
+	 */
+	public void setSnapshotDir(File snapshotDir) {
+		this.snapshotDir = snapshotDir;
+	}
+	
+	/**
+	 * @return 読み込んだスナップショットのハッシュ値(スナップショットを読み込まなかった場合はnull)
+	 */
+	public String getSnapshotHash() {
+		return snapshotHash;
+	}
+	
 }
@@ -0,0 +1,256 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.framework.xml;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import jp.mosp.framework.property.MospProperties;
+
+/**
+ * MosP設定情報スナップショット。<br>
+ * <br>
+ * 作成したMosP設定情報を、MosP設定情報ファイル群の内容及びコード(WEB-INF/lib及びWEB-INF/classes)の
+ * ファイル情報から求めたハッシュ値をキーとしてスナップショットファイルに保存し、次回起動時に読み込む。<br>
+ * MosP設定情報ファイル群の内容或いはコードが変わった場合はハッシュ値が変わるため、
+ * スナップショットファイルは用いられない。<br>
+ * <br>
+ * 読込或いは保存に失敗した場合は、MosP設定情報ファイル群から作成する。<br>
+ */
+public class MospPropertiesSnapshot {
+	
+	/**
+	 * スナップショットファイル名接頭辞。
+	 */
+	protected static final String	PREFIX_FILE		= "mosp-properties-";
+	
+	/**
+	 * スナップショットファイル名接尾辞。
+	 */
+	protected static final String	SUFFIX_FILE		= ".ser.gz";
+	
+	/**
+	 * ハッシュアルゴリズム。
+	 */
+	protected static final String	ALGORITHM		= "SHA-256";
+	
+	/**
+	 * ファイル読込バッファサイズ。
+	 */
+	protected static final int		BUFFER_SIZE		= 8192;
+	
+	/**
+	 * コードディレクトリパス群(ドキュメントベースからの相対パス)。
+	 */
+	protected static final String[]	PATH_CODE_DIRS	= { "/WEB-INF/lib", "/WEB-INF/classes" };
+	
+	/**
+	 * ログメッセージ(スナップショット読込失敗)。
+	 */
+	protected static final String	MSG_LOAD_FAILED	= "  MosP設定情報スナップショットを読み込めませんでした。";
+	
+	/**
+	 * ログメッセージ(スナップショット保存失敗)。
+	 */
+	protected static final String	MSG_SAVE_FAILED	= "  MosP設定情報スナップショットを保存できませんでした。";
+	
+	/**
+	 * スナップショットファイル格納ディレクトリ。
+	 */
+	protected final File			dir;
+	
+	
+	/**
+	 * コンストラクタ。<br>
+	 * @param dir スナップショットファイル格納ディレクトリ
+	 */
+	public MospPropertiesSnapshot(File dir) {
+		this.dir = dir;
+	}
+	
+	/**
+	 * MosP設定情報ファイル群の内容及びコードのファイル情報からハッシュ値を取得する。<br>
+	 * <br>
+	 * ファイルパス及びファイル内容を、リストの順に用いる。<br>
+	 * 加えて、コードディレクトリ配下のファイル名、サイズ及び更新日時を用いる。<br>
+	 * MosPのバージョンアップ等でコードが変わった場合に、
+	 * 古いコードで作成したスナップショットファイルを用いないようにするためである。<br>
+	 * ハッシュ値を取得できなかった場合は、nullを返す。<br>
+	 * @param pathList ファイルパスリスト
+	 * @param docBase  ドキュメントベース
+	 * @return ハッシュ値(16進数文字列)
+	 */
+	public String getHash(List<String> pathList, String docBase) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance(ALGORITHM);
+			// コードのファイル情報
+			for (String codeDir : PATH_CODE_DIRS) {
+				updateFileInfo(digest, new File(docBase + codeDir), codeDir);
+			}
+			byte[] buffer = new byte[BUFFER_SIZE];
+			// ファイル毎に処理
+			for (String path : pathList) {
+				digest.update(path.getBytes("UTF-8"));
+				digest.update((byte)0);
+				InputStream is = new FileInputStream(path);
+				try {
+					int length;
+					while ((length = is.read(buffer)) != -1) {
+						digest.update(buffer, 0, length);
+					}
+				} finally {
+					is.close();
+				}
+				digest.update((byte)0);
+			}
+			// 16進数文字列に変換
+			StringBuilder sb = new StringBuilder();
+			for (byte b : digest.digest()) {
+				sb.append(Integer.toHexString((b & 0xff) | 0x100).substring(1));
+			}
+			return sb.toString();
+		} catch (NoSuchAlgorithmException e) {
+			return null;
+		} catch (IOException e) {
+			return null;
+		}
+	}
+	
+	/**
+	 * ディレクトリ配下のファイル情報(ファイル名、サイズ及び更新日時)でハッシュ値を更新する。<br>
+	 * <br>
+	 * サブディレクトリも対象とし、ファイル名順に用いる。<br>
+	 * ディレクトリが存在しない場合は、何もしない。<br>
+	 * @param digest ハッシュ
+	 * @param dir    ディレクトリ
+	 * @param name   ディレクトリ名(ハッシュ値算出用)
+	 * @throws IOException ファイル名の変換に失敗した場合
+	 */
+	protected void updateFileInfo(MessageDigest digest, File dir, String name) throws IOException {
+		File[] files = dir.listFiles();
+		if (files == null) {
+			return;
+		}
+		Arrays.sort(files);
+		for (File file : files) {
+			String path = name + "/" + file.getName();
+			if (file.isDirectory()) {
+				updateFileInfo(digest, file, path);
+				continue;
+			}
+			digest.update(path.getBytes("UTF-8"));
+			digest.update((byte)0);
+			digest.update(String.valueOf(file.length()).getBytes("UTF-8"));
+			digest.update((byte)0);
+			digest.update(String.valueOf(file.lastModified()).getBytes("UTF-8"));
+			digest.update((byte)0);
+		}
+	}
+	
+	/**
+	 * スナップショットファイルからMosP設定情報を読み込む。<br>
+	 * <br>
+	 * スナップショットファイルが存在しない場合或いは読み込めなかった場合は、nullを返す。<br>
+	 * @param hash ハッシュ値
+	 * @return MosP設定情報
+	 */
+	public MospProperties load(String hash) {
+		File file = getFile(hash);
+		if (file.isFile() == false) {
+			return null;
+		}
+		try {
+			ObjectInputStream ois = new ObjectInputStream(new GZIPInputStream(new BufferedInputStream(
+					new FileInputStream(file))));
+			try {
+				return (MospProperties)ois.readObject();
+			} finally {
+				ois.close();
+			}
+		} catch (IOException e) {
+			System.out.println(MSG_LOAD_FAILED);
+		} catch (ClassNotFoundException e) {
+			System.out.println(MSG_LOAD_FAILED);
+		} catch (ClassCastException e) {
+			System.out.println(MSG_LOAD_FAILED);
+		}
+		// 読み込めなかったスナップショットファイルは削除
+		file.delete();
+		return null;
+	}
+	
+	/**
+	 * MosP設定情報をスナップショットファイルに保存する。<br>
+	 * <br>
+	 * 一時ファイルに書き込んだ後に名前を変更し、他のハッシュ値のスナップショットファイルは削除する。<br>
+	 * 保存できなかった場合は、ログを出力して処理を続ける。<br>
+	 * @param hash       ハッシュ値
+	 * @param properties MosP設定情報
+	 */
+	public void save(String hash, MospProperties properties) {
+		File file = getFile(hash);
+		File tmp = new File(dir, file.getName() + ".tmp");
+		try {
+			ObjectOutputStream oos = new ObjectOutputStream(new GZIPOutputStream(new BufferedOutputStream(
+					new FileOutputStream(tmp))));
+			try {
+				oos.writeObject(properties);
+			} finally {
+				oos.close();
+			}
+			// 古いスナップショットファイルを削除
+			File[] files = dir.listFiles();
+			for (int i = 0; files != null && i < files.length; i++) {
+				String name = files[i].getName();
+				if (name.startsWith(PREFIX_FILE) && name.endsWith(SUFFIX_FILE)) {
+					files[i].delete();
+				}
+			}
+			if (tmp.renameTo(file)) {
+				return;
+			}
+		} catch (IOException e) {
+			// 処理無し(ログを出力して処理を続ける)
+		}
+		System.out.println(MSG_SAVE_FAILED);
+		tmp.delete();
+	}
+	
+	/**
+	 * スナップショットファイルを取得する。<br>
+	 * @param hash ハッシュ値
+	 * @return スナップショットファイル
+	 */
+	protected File getFile(String hash) {
+		return new File(dir, PREFIX_FILE + hash + SUFFIX_FILE);
+	}
+	
+}
@@ -26,45 +26,47 @@ import jp.mosp.framework.utils.CapsuleUtility;
  */
 public class TableItemProperty implements BaseProperty {
 	
+	private static final long	serialVersionUID	= 6141899282130050574L;
+	
 	/**
 	 * 人事汎用表示テーブル項目。
 	 */
-	private final String	key;
+	private final String		key;
 	
 	/**
 	 * 人事汎用項目キー。<br>
 	 * 人事汎用項目設定(Convention)の人事汎用項目を特定する。<br>
 	 */
-	private String[]		itemKeys;
+	private String[]			itemKeys;
 	
 	/**
 	 * 人事汎用項目名。<br>
 	 * DBに登録される人事項目区分として用いられる。<br>
 	 * また、RequestParameterのnameとして用いられる。<br>
 	 */
-	private String[]		itemNames;
+	private String[]			itemNames;
 	
 	/**
 	 * 人事汎用表示項目キー。<br>
 	 * 人事汎用項目キーで得られる設定(Convention)の人事汎用項目データ型が
 	 * Concatenate或いはFormatである場合に、人事汎用項目を特定するために用いられる。<br>
 	 */
-	private String[]		labelKeys;
+	private String[]			labelKeys;
 	
 	/**
 	 * colspan(HTML)。
 	 */
-	private int				colspan;
+	private int					colspan;
 	
 	/**
 	 * rowspan(HTML)。
 	 */
-	private int				rowspan;
+	private int					rowspan;
 	
 	/**
 	 * 必須マーク要否フラグ。
 	 */
-	private boolean			isRequired;
+	private boolean				isRequired;
 	
 	
 	/**
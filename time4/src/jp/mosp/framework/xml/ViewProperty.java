@@ -24,21 +24,23 @@ import jp.mosp.framework.property.BaseProperty;
  */
 public class ViewProperty implements BaseProperty {
 	
+	private static final long	serialVersionUID	= 3448201831624389024L;
+	
 	/**
 	 * 人事汎用管理表示区分。
 	 * 人事情報一覧画面(HumanInfo)、人事汎用管理区分(通常)編集画面(NormalCard)等。
 	 */
-	private final String	key;
+	private final String		key;
 	
 	/**
 	 * 人事汎用管理表示テーブルキーの配列。
 	 */
-	private final String[]	viewTableKeys;
+	private final String[]		viewTableKeys;
 	
 	/**
 	 * 人事汎用管理表示テーブルタイトルの配列。
 	 */
-	private final String[]	viewTableTitles;
+	private final String[]		viewTableTitles;
 	
 	
 	/**
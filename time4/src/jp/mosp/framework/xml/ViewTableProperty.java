@@ -30,6 +30,8 @@ import jp.mosp.framework.property.BaseProperty;
  */
 public class ViewTableProperty implements BaseProperty {
 	
+	private static final long				serialVersionUID	= 7796433115593736539L;
+	
 	/**
 	 * 人事汎用管理表示テーブル。
 	 */
@@ -17,15 +17,21 @@
  */
 package jp.mosp.jasperreport;
 
+import java.sql.Connection;
+import java.util.AbstractList;
+
 import javax.servlet.http.HttpServletResponse;
 
 import jp.mosp.framework.base.BaseExporter;
+import jp.mosp.framework.base.DBConnBean;
 import jp.mosp.framework.base.MospException;
 import jp.mosp.framework.base.MospExporterInterface;
 import jp.mosp.framework.base.MospParams;
 import jp.mosp.framework.constant.ExceptionConst;
 import net.sf.jasperreports.engine.JRExporter;
 import net.sf.jasperreports.engine.JRExporterParameter;
+import net.sf.jasperreports.engine.JRRuntimeException;
+import net.sf.jasperreports.engine.JRVirtualizer;
 import net.sf.jasperreports.engine.JasperPrint;
 import net.sf.jasperreports.engine.export.JRPdfExporter;
 
@@ -43,6 +49,12 @@ import net.sf.jasperreports.engine.export.JRPdfExporter;
  * <li>
  * jp.mosp.jasperreport.JasperReportIntermediate
  * </li>
+ * <li>
+ * jp.mosp.jasperreport.JasperReportVirtualPrint
+ * </li>
+ * <li>
+ * jp.mosp.jasperreport.JasperReportStream
+ * </li>
  * </ul>
  */
 public class JasperReportExporter extends BaseExporter implements MospExporterInterface {
@@ -58,7 +70,19 @@ public class JasperReportExporter extends BaseExporter implements MospExporterIn
 		// 出力対象取得
 		Object file = mospParams.getFile();
 		// 出力対象確認
-		if (file instanceof JasperPrint) {
+		if (file instanceof JasperReportStream) {
+			// 分割単位毎に帳票を作成しながら出力(分割帳票の場合)
+			exportStream(mospParams, response, ((JasperReportStream)file).getSource());
+			return;
+		}
+		// 仮想化クラス準備
+		JRVirtualizer virtualizer = null;
+		if (file instanceof JasperReportVirtualPrint) {
+			// PDFとしてExporterを設定(仮想化帳票の場合)
+			exporter = new JRPdfExporter();
+			exporter.setParameter(JRExporterParameter.JASPER_PRINT, ((JasperReportVirtualPrint)file).getJasperPrint());
+			virtualizer = ((JasperReportVirtualPrint)file).getVirtualizer();
+		} else if (file instanceof JasperPrint) {
 			// PDFとしてExporterを設定(JasperPrintの場合)
 			exporter = new JRPdfExporter();
 			exporter.setParameter(JRExporterParameter.JASPER_PRINT, file);
@@ -69,6 +93,84 @@ public class JasperReportExporter extends BaseExporter implements MospExporterIn
 			throw new MospException(ExceptionConst.EX_FAIL_OUTPUT_FILE);
 		}
 		// 出力ストリームに出力
+		try {
+			export(exporter, response);
+		} finally {
+			// スワップファイル削除(仮想化帳票の場合)
+			if (virtualizer != null) {
+				virtualizer.cleanup();
+			}
+		}
+	}
+	
+	/**
+	 * 帳票作成元から分割単位毎に帳票を作成しながら、1つのPDFとして出力する。<br>
+	 * <br>
+	 * 出力済の帳票は破棄されるため、分割単位数に関わらずメモリ使用量は一定となる。<br>
+	 * 帳票の作成には、送出用に取得したDBコネクションを用いる(参照のみのためロールバックされる)。<br>
+	 * @param mospParams MosP処理情報
+	 * @param response   レスポンス
+	 * @param source     帳票作成元
+	 * @throws MospException 帳票の作成或いは出力に失敗した場合
+	 */
+	protected void exportStream(final MospParams mospParams, HttpServletResponse response,
+			final JasperReportStreamSource source) throws MospException {
+		// DBコネクションを取得
+		DBConnBean dbConnBean = new DBConnBean(mospParams);
+		try {
+			final Connection connection = dbConnBean.getConnection();
+			// PDFとしてExporterを設定
+			JRExporter exporter = new JRPdfExporter();
+			exporter.setParameter(JRExporterParameter.JASPER_PRINT_LIST, new AbstractList<JasperPrint>() {
+				
+				/**
+				 * 作成済帳票の位置。<br>
+				 */
+				private int			currentIndex	= -1;
+				
+				/**
+				 * 作成済帳票。<br>
+				 */
+				private JasperPrint	current;
+				
+				
+				@Override
+				public JasperPrint get(int index) {
+					// 作成済帳票確認(Exporterは同じ位置を複数回取得する)
+					if (index == currentIndex) {
+						return current;
+					}
+					try {
+						// 作成済帳票を破棄して分割単位の帳票を作成
+						current = null;
+						current = source.createJasperPrint(mospParams, connection, index);
+						currentIndex = index;
+						return current;
+					} catch (MospException e) {
+						throw new JRRuntimeException(e);
+					}
+				}
+				
+				@Override
+				public int size() {
+					return source.size();
+				}
+			});
+			// 出力ストリームに出力
+			export(exporter, response);
+		} finally {
+			// DBコネクション解放
+			dbConnBean.releaseConnection();
+		}
+	}
+	
+	/**
+	 * Exporterを用いて出力ストリームに出力する。<br>
+	 * @param exporter Exporter
+	 * @param response レスポンス
+	 * @throws MospException 出力に失敗した場合
+	 */
+	protected void export(JRExporter exporter, HttpServletResponse response) throws MospException {
 		try {
 			exporter.setParameter(JRExporterParameter.OUTPUT_STREAM, response.getOutputStream());
 			exporter.exportReport();
@@ -0,0 +1,50 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.jasperreport;
+
+/**
+ * 分割帳票クラス。<br>
+ * <br>
+ * 帳票作成元を保持し、送出ファイルとして設定される。<br>
+ * {@link JasperReportExporter}は、帳票作成元から分割単位毎に帳票を作成しながら、
+ * 1つのPDFとして出力する。<br>
+ */
+public class JasperReportStream {
+	
+	/**
+	 * 帳票作成元。<br>
+	 */
+	private final JasperReportStreamSource	source;
+	
+	
+	/**
+	 * コンストラクタ。
+	 * @param source 帳票作成元
+	 */
+	public JasperReportStream(JasperReportStreamSource source) {
+		this.source = source;
+	}
+	
+	/**
+	 * @return 帳票作成元
+	 */
+	public JasperReportStreamSource getSource() {
+		return source;
+	}
+	
+}
@@ -0,0 +1,53 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.jasperreport;
+
+import java.sql.Connection;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import net.sf.jasperreports.engine.JasperPrint;
+
+/**
+ * 帳票作成元インターフェース。<br>
+ * <br>
+ * {@link JasperReportExporter}がレスポンスへの送出時に呼び出し、
+ * 帳票(JasperPrint)を分割単位(個人毎等)で1つずつ作成させる。<br>
+ * 作成した帳票は出力後に破棄されるため、分割単位数に関わらずメモリ使用量は一定となる。<br>
+ * 送出時にはアクションで用いたDBコネクションは解放されているため、
+ * {@link JasperReportExporter}が取得したDBコネクションを用いる。<br>
+ */
+public interface JasperReportStreamSource {
+	
+	/**
+	 * 分割単位数を取得する。<br>
+	 * @return 分割単位数
+	 */
+	int size();
+	
+	/**
+	 * 分割単位の帳票(JasperPrint)を作成する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param connection DBコネクション
+	 * @param index      分割単位の位置
+	 * @return 帳票(JasperPrint)
+	 * @throws MospException 帳票の作成に失敗した場合
+	 */
+	JasperPrint createJasperPrint(MospParams mospParams, Connection connection, int index) throws MospException;
+	
+}
@@ -17,19 +17,64 @@
  */
 package jp.mosp.jasperreport;
 
+import java.io.File;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
 import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JRParameter;
+import net.sf.jasperreports.engine.JRVirtualizer;
 import net.sf.jasperreports.engine.JasperFillManager;
 import net.sf.jasperreports.engine.JasperPrint;
+import net.sf.jasperreports.engine.JasperReport;
 import net.sf.jasperreports.engine.data.JRBeanCollectionDataSource;
+import net.sf.jasperreports.engine.fill.JRSwapFileVirtualizer;
+import net.sf.jasperreports.engine.util.JRLoader;
+import net.sf.jasperreports.engine.util.JRSwapFile;
 
 /**
  * JasperReportを用いる上で有用なメソッドを提供する。<br><br>
+ * 読み込んだテンプレート(JasperReport)はテンプレートファイルパス毎に保持し、
+ * テンプレートファイルが更新されるまで再利用する。<br>
  */
 public class JasperReportUtility {
 	
+	/**
+	 * MosPアプリケーション設定キー(帳票仮想化件数)。<br>
+	 * データソースの件数がこれ以上の場合、作成した頁をスワップファイルに退避する。<br>
+	 */
+	public static final String						APP_REPORT_VIRTUALIZE_ROWS	= "ReportVirtualizeRows";
+	
+	/**
+	 * MosPアプリケーション設定キー(帳票仮想化時にメモリに保持する頁数)。<br>
+	 */
+	public static final String						APP_REPORT_VIRTUALIZE_PAGES	= "ReportVirtualizePages";
+	
+	/**
+	 * 帳票仮想化時にメモリに保持する頁数(デフォルト)。<br>
+	 */
+	protected static final int						DEFAULT_VIRTUALIZE_PAGES	= 10;
+	
+	/**
+	 * スワップファイルのブロックサイズ。<br>
+	 */
+	protected static final int						SWAP_BLOCK_SIZE				= 4096;
+	
+	/**
+	 * スワップファイルの最小拡張ブロック数。<br>
+	 */
+	protected static final int						SWAP_MIN_GROW				= 256;
+	
+	/**
+	 * テンプレート群(キー：テンプレートファイルパス)。<br>
+	 */
+	protected static final Map<String, Template>	templates					= new ConcurrentHashMap<String, Template>();
+	
+	
 	/**
 	 * 他クラスからのインスタンス化を防止する。<br>
 	 */
@@ -45,11 +90,125 @@ public class JasperReportUtility {
 	 * @throws MospException 帳票の作成に失敗した場合
 	 */
 	public static JasperPrint createJasperPrint(String template, List<?> list) throws MospException {
+		return createJasperPrint(template, list, null);
+	}
+	
+	/**
+	 * 帳票(JasperPrint)を作成する。<br>
+	 * 仮想化クラスが指定された場合は、作成した頁を仮想化クラスに退避させる。<br>
+	 * @param template    テンプレートファイルパス
+	 * @param list        データソース
+	 * @param virtualizer 仮想化クラス(nullの場合は仮想化しない)
+	 * @return 帳票(JasperPrint)
+	 * @throws MospException 帳票の作成に失敗した場合
+	 */
+	public static JasperPrint createJasperPrint(String template, List<?> list, JRVirtualizer virtualizer)
+			throws MospException {
+		// パラメータ準備
+		Map<String, Object> params = new HashMap<String, Object>();
+		if (virtualizer != null) {
+			params.put(JRParameter.REPORT_VIRTUALIZER, virtualizer);
+		}
 		try {
-			return JasperFillManager.fillReport(template, null, new JRBeanCollectionDataSource(list));
+			return JasperFillManager.fillReport(getJasperReport(template), params,
+					new JRBeanCollectionDataSource(list));
 		} catch (JRException e) {
 			throw new MospException(e);
 		}
 	}
 	
+	/**
+	 * 送出ファイル(帳票)を作成する。<br>
+	 * データソースの件数が帳票仮想化件数以上の場合は、
+	 * 作成した頁をスワップファイルに退避させ、仮想化帳票を返す。<br>
+	 * それ以外の場合は、帳票(JasperPrint)を返す。<br>
+	 * @param mospParams MosP処理情報
+	 * @param template   テンプレートファイルパス
+	 * @param list       データソース
+	 * @return 送出ファイル(帳票)
+	 * @throws MospException 帳票の作成に失敗した場合
+	 */
+	public static Object createReportFile(MospParams mospParams, String template, List<?> list)
+			throws MospException {
+		// 帳票仮想化件数確認
+		int rows = mospParams.getApplicationProperty(APP_REPORT_VIRTUALIZE_ROWS, 0);
+		if (rows <= 0 || list.size() < rows) {
+			return createJasperPrint(template, list);
+		}
+		// 仮想化クラス準備
+		JRVirtualizer virtualizer = createVirtualizer(mospParams);
+		try {
+			return new JasperReportVirtualPrint(createJasperPrint(template, list, virtualizer), virtualizer);
+		} catch (MospException e) {
+			// スワップファイル削除
+			virtualizer.cleanup();
+			throw e;
+		}
+	}
+	
+	/**
+	 * 仮想化クラスを作成する。<br>
+	 * スワップファイルは一時ディレクトリに作成され、
+	 * {@link JRVirtualizer#cleanup()}により削除される。<br>
+	 * @param mospParams MosP処理情報
+	 * @return 仮想化クラス
+	 */
+	public static JRVirtualizer createVirtualizer(MospParams mospParams) {
+		int pages = mospParams.getApplicationProperty(APP_REPORT_VIRTUALIZE_PAGES, DEFAULT_VIRTUALIZE_PAGES);
+		JRSwapFile swapFile = new JRSwapFile(System.getProperty("java.io.tmpdir"), SWAP_BLOCK_SIZE, SWAP_MIN_GROW);
+		return new JRSwapFileVirtualizer(pages, swapFile, true);
+	}
+	
+	/**
+	 * テンプレート(JasperReport)を取得する。<br>
+	 * 保持しているテンプレートの読込後にテンプレートファイルが更新されていない場合は、
+	 * 保持しているテンプレートを返す。<br>
+	 * @param template テンプレートファイルパス
+	 * @return テンプレート(JasperReport)
+	 * @throws JRException テンプレートの読込に失敗した場合
+	 */
+	public static JasperReport getJasperReport(String template) throws JRException {
+		// テンプレートファイル更新日時取得
+		File file = new File(template);
+		long lastModified = file.lastModified();
+		// 保持しているテンプレートを確認
+		Template cached = templates.get(template);
+		if (cached != null && cached.lastModified == lastModified) {
+			return cached.report;
+		}
+		// テンプレートを読み込み保持
+		JasperReport report = (JasperReport)JRLoader.loadObject(file);
+		templates.put(template, new Template(report, lastModified));
+		return report;
+	}
+	
+	
+	/**
+	 * 読込済テンプレート。<br>
+	 */
+	protected static class Template {
+		
+		/**
+		 * テンプレート(JasperReport)。<br>
+		 */
+		protected final JasperReport	report;
+		
+		/**
+		 * 読込時のテンプレートファイル更新日時。<br>
+		 */
+		protected final long			lastModified;
+		
+		
+		/**
+		 * 読込済テンプレートを生成する。<br>
+		 * @param report       テンプレート(JasperReport)
+		 * @param lastModified 読込時のテンプレートファイル更新日時
+		 */
+		protected Template(JasperReport report, long lastModified) {
+			this.report = report;
+			this.lastModified = lastModified;
+		}
+		
+	}
+	
 }
@@ -0,0 +1,66 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.jasperreport;
+
+import net.sf.jasperreports.engine.JRVirtualizer;
+import net.sf.jasperreports.engine.JasperPrint;
+
+/**
+ * 仮想化帳票クラス。<br>
+ * <br>
+ * 頁をスワップファイルに退避させた帳票(JasperPrint)と、その仮想化クラスを保持する。<br>
+ * {@link JasperReportExporter}は、出力後に仮想化クラスのスワップファイルを削除する。<br>
+ */
+public class JasperReportVirtualPrint {
+	
+	/**
+	 * 帳票(JasperPrint)。<br>
+	 */
+	private final JasperPrint	jasperPrint;
+	
+	/**
+	 * 仮想化クラス。<br>
+	 */
+	private final JRVirtualizer	virtualizer;
+	
+	
+	/**
+	 * コンストラクタ。
+	 * @param jasperPrint 帳票(JasperPrint)
+	 * @param virtualizer 仮想化クラス
+	 */
+	public JasperReportVirtualPrint(JasperPrint jasperPrint, JRVirtualizer virtualizer) {
+		this.jasperPrint = jasperPrint;
+		this.virtualizer = virtualizer;
+	}
+	
+	/**
+	 * @return 帳票(JasperPrint)
+	 */
+	public JasperPrint getJasperPrint() {
+		return jasperPrint;
+	}
+	
+	/**
+	 * @return 仮想化クラス
+	 */
+	public JRVirtualizer getVirtualizer() {
+		return virtualizer;
+	}
+	
+}
@@ -17,6 +17,11 @@
  */
 package jp.mosp.orangesignal;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import javax.servlet.http.HttpServletResponse;
@@ -28,10 +33,12 @@ import jp.mosp.framework.base.MospParams;
 import jp.mosp.framework.constant.ExceptionConst;
 import jp.sf.orangesignal.csv.Csv;
 import jp.sf.orangesignal.csv.CsvConfig;
+import jp.sf.orangesignal.csv.CsvWriter;
 import jp.sf.orangesignal.csv.handlers.StringArrayListHandler;
 
 /**
  * List<String[]>の内容を、CSVで出力する。<br>
+ * 出力対象作成元が設定されている場合は、作成元から1行ずつ取得して出力する。<br>
  * {@link MospParams#getFile()}により得られる物が、
  * 下記いずれかのクラスのオブジェクトでなくてはならない。
  * <ul><li>
@@ -40,18 +47,30 @@ import jp.sf.orangesignal.csv.handlers.StringArrayListHandler;
  */
 public class OrangeSignalExporter extends BaseExporter implements MospExporterInterface {
 	
+	/**
+	 * 出力対象作成元から出力する際に、フラッシュする行数。<br>
+	 */
+	protected static final int FLUSH_ROWS = 1000;
+	
+	
 	@Override
 	public void export(MospParams mospParams, HttpServletResponse response) throws MospException {
-		// コンテンツタイプ設定
-		setFileContentType(mospParams, response);
-		// ファイル名設定
-		setFileName(mospParams, response);
 		// 各画面で設定したOrangeSignal処理情報を取得
 		OrangeSignalParams orangeParams = (OrangeSignalParams)mospParams.getFile();
 		// OrangeSignal処理情報から区切り文字形式情報生成
 		CsvConfig cfg = OrangeSignalUtility.getCsvConfig(orangeParams);
 		// 文字コード設定
 		String encoding = orangeParams.getEncoding() != null ? orangeParams.getEncoding() : "MS932";
+		// 出力対象作成元が設定されている場合
+		if (orangeParams.getStreamSource() != null) {
+			// CSVデータを1行ずつ出力(コンテンツタイプ及びファイル名は送出開始時に設定)
+			exportStream(mospParams, response, orangeParams.getStreamSource(), encoding, cfg);
+			return;
+		}
+		// コンテンツタイプ設定
+		setFileContentType(mospParams, response);
+		// ファイル名設定
+		setFileName(mospParams, response);
 		// データを取得
 		List<String[]> list = orangeParams.getCsvDataList();
 		try {
@@ -66,4 +85,195 @@ public class OrangeSignalExporter extends BaseExporter implements MospExporterIn
 		
 	}
 	
+	/**
+	 * 出力対象作成元から1行ずつCSVデータを取得し、出力する。<br>
+	 * <br>
+	 * CSVデータを全件保持しないため、出力件数に関わらずメモリ使用量は一定となる。<br>
+	 * また、一定行数毎にフラッシュするため、クライアントは作成完了を待たずに受信を開始できる。<br>
+	 * <br>
+	 * 最初のフラッシュ行数分(先頭のまとまり)は保持し、揃った時点で送出を開始する。<br>
+	 * 送出開始前に作成元がエラーメッセージを設定した場合(出力対象無しを含む)は、
+	 * 送出せずにMosP処理情報の送出ファイルを取り消す(コントローラは画面を表示する)。<br>
+	 * @param mospParams   MosP処理情報
+	 * @param response     レスポンス
+	 * @param streamSource 出力対象作成元
+	 * @param encoding     文字コード
+	 * @param cfg          区切り文字形式情報
+	 * @throws MospException CSVデータの作成或いは出力に失敗した場合
+	 */
+	protected void exportStream(MospParams mospParams, HttpServletResponse response,
+			OrangeSignalStreamSource streamSource, String encoding, CsvConfig cfg) throws MospException {
+		StreamRowHandler handler = new StreamRowHandler(mospParams, response, encoding, cfg);
+		try {
+			// CSVデータを作成し1行ずつ出力
+			streamSource.write(mospParams, handler);
+			// 送出開始前にエラーが発生した場合
+			if (handler.isStarted() == false && mospParams.hasErrorMessage()) {
+				// 送出ファイルを取り消す
+				mospParams.setFile(null);
+				return;
+			}
+			// 先頭のまとまりのみで終わった場合は送出を開始
+			handler.start();
+			// 出力時例外確認
+			handler.checkException();
+			handler.flush();
+		} catch (IOException e) {
+			// ClientAbortException確認(ClientAbortExceptionの場合は処理無し)
+			if (isClientAbortException(e) == false) {
+				throw new MospException(e, ExceptionConst.EX_FAIL_OUTPUT_FILE, null);
+			}
+		}
+	}
+	
+	
+	/**
+	 * 出力対象作成元から受け取ったCSVデータ行を出力する行処理。<br>
+	 * <br>
+	 * 先頭のまとまりを保持し、揃った時点でコンテンツタイプ及びファイル名を設定して送出を開始する。<br>
+	 */
+	protected class StreamRowHandler implements OrangeSignalRowHandler {
+		
+		/**
+		 * MosP処理情報。
+		 */
+		protected final MospParams			mospParams;
+		
+		/**
+		 * レスポンス。
+		 */
+		protected final HttpServletResponse	response;
+		
+		/**
+		 * 文字コード。
+		 */
+		protected final String				encoding;
+		
+		/**
+		 * 区切り文字形式情報。
+		 */
+		protected final CsvConfig			cfg;
+		
+		/**
+		 * 先頭のまとまり(送出開始前に保持する行)。
+		 */
+		protected final List<String[]>		firstRows;
+		
+		/**
+		 * CSV出力クラス(送出開始前はnull)。
+		 */
+		protected CsvWriter					writer;
+		
+		/**
+		 * 出力行数。
+		 */
+		protected int						count;
+		
+		/**
+		 * 出力時例外。
+		 */
+		protected IOException				exception;
+		
+		
+		/**
+		 * 行処理を生成する。<br>
+		 * @param mospParams MosP処理情報
+		 * @param response   レスポンス
+		 * @param encoding   文字コード
+		 * @param cfg        区切り文字形式情報
+		 */
+		protected StreamRowHandler(MospParams mospParams, HttpServletResponse response, String encoding,
+				CsvConfig cfg) {
+			this.mospParams = mospParams;
+			this.response = response;
+			this.encoding = encoding;
+			this.cfg = cfg;
+			firstRows = new ArrayList<String[]>();
+		}
+		
+		@Override
+		public boolean handle(String[] row) throws MospException {
+			try {
+				// 送出開始前の場合
+				if (writer == null) {
+					// 作成元がエラーメッセージを設定した場合は以降の行を処理しない
+					if (mospParams.hasErrorMessage()) {
+						return false;
+					}
+					// 先頭のまとまりが揃うまで保持
+					firstRows.add(row);
+					if (firstRows.size() >= FLUSH_ROWS) {
+						start();
+					}
+					return true;
+				}
+				// 1行出力
+				writer.writeValues(Arrays.asList(row));
+				// 一定行数毎にフラッシュ
+				if (++count % FLUSH_ROWS == 0) {
+					writer.flush();
+				}
+				return true;
+			} catch (IOException e) {
+				// 出力時例外を保持し以降の行は処理しない
+				exception = e;
+				return false;
+			}
+		}
+		
+		/**
+		 * 送出を開始する。<br>
+		 * コンテンツタイプ及びファイル名を設定し、保持している先頭のまとまりを出力する。<br>
+		 * 既に開始している場合は、何もしない。<br>
+		 * @throws MospException ファイル名の設定に失敗した場合
+		 * @throws IOException   出力に失敗した場合
+		 */
+		protected void start() throws MospException, IOException {
+			if (writer != null) {
+				return;
+			}
+			// コンテンツタイプ設定
+			setFileContentType(mospParams, response);
+			// ファイル名設定
+			setFileName(mospParams, response);
+			// CSV出力クラス準備
+			writer = new CsvWriter(new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), encoding)),
+					cfg);
+			for (String[] row : firstRows) {
+				writer.writeValues(Arrays.asList(row));
+			}
+			count = firstRows.size();
+			firstRows.clear();
+			writer.flush();
+		}
+		
+		/**
+		 * @return 送出を開始しているか(true：開始している、false：開始していない)
+		 */
+		protected boolean isStarted() {
+			return writer != null;
+		}
+		
+		/**
+		 * 出力時例外が発生していた場合は、投げる。<br>
+		 * @throws IOException 出力時例外が発生していた場合
+		 */
+		protected void checkException() throws IOException {
+			if (exception != null) {
+				throw exception;
+			}
+		}
+		
+		/**
+		 * フラッシュする。<br>
+		 * @throws IOException フラッシュに失敗した場合
+		 */
+		protected void flush() throws IOException {
+			if (writer != null) {
+				writer.flush();
+			}
+		}
+		
+	}
+	
 }
@@ -30,47 +30,54 @@ public class OrangeSignalParams {
 	/**
 	 * デフォルト文字コード(MS932)。
 	 */
-	public static final String	DEFAULT_ENCODING	= "MS932";
+	public static final String			DEFAULT_ENCODING	= "MS932";
 	
 	/**
 	 * 区切り文字。
 	 */
-	private char				separator;
+	private char						separator;
 	
 	/**
 	 * 囲み文字。
 	 */
-	private char				quote;
+	private char						quote;
 	
 	/**
 	 * 囲み文字無効フラグ
 	 */
-	private boolean				quoteDisabled;
+	private boolean						quoteDisabled;
 	
 	/**
 	 * エスケープ文字。
 	 */
-	private char				escape;
+	private char						escape;
 	
 	/**
 	 * 	空行無視フラグ。 
 	 */
-	private boolean				ignoreEmptyLines;
+	private boolean						ignoreEmptyLines;
 	
 	/**
 	 * 文字コード。<br>
 	 */
-	private String				encoding;
+	private String						encoding;
 	
 	/**
 	 * 改行文字列
 	 */
-	private String				lineSeparator;
+	private String						lineSeparator;
 	
 	/**
 	 * 出力対象リスト。<br>
 	 */
-	private List<String[]>		csvDataList;
+	private List<String[]>				csvDataList;
+	
+	/**
+	 * 出力対象作成元。<br>
+	 * 設定されている場合は、出力対象リストでなく出力対象作成元から
+	 * 1行ずつ取得したCSVデータを出力する。<br>
+	 */
+	private OrangeSignalStreamSource	streamSource;
 	
 	
 	/**
@@ -209,4 +216,18 @@ public class OrangeSignalParams {
 		this.csvDataList = csvDataList;
 	}
 	
+	/**
+	 * @return streamSource
+	 */
+	public OrangeSignalStreamSource getStreamSource() {
+		return streamSource;
+	}
+	
+	/**
+	 * @param streamSource セットする streamSource
+	 */
+	public void setStreamSource(OrangeSignalStreamSource streamSource) {
+		this.streamSource = streamSource;
+	}
+	
 }
@@ -0,0 +1,38 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.orangesignal;
+
+import jp.mosp.framework.base.MospException;
+
+/**
+ * CSVデータ行処理インターフェース。<br>
+ * <br>
+ * CSVデータを1行ずつ受け取って処理する。<br>
+ * CSVデータを全件リストに保持せずに出力する場合等に用いる。<br>
+ */
+public interface OrangeSignalRowHandler {
+	
+	/**
+	 * CSVデータ1行を処理する。<br>
+	 * @param row CSVデータ1行
+	 * @return 処理結果(true：次の行を処理する、false：以降の行を処理しない)
+	 * @throws MospException CSVデータの処理に失敗した場合
+	 */
+	boolean handle(String[] row) throws MospException;
+	
+}
@@ -0,0 +1,44 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.orangesignal;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+
+/**
+ * CSVデータ作成元インターフェース。<br>
+ * <br>
+ * {@link OrangeSignalExporter}がレスポンスへの送出時に呼び出し、
+ * 作成したCSVデータを1行ずつ送出させる。<br>
+ * 送出時にはアクションで用いたDBコネクションは解放されているため、
+ * DBを参照する場合は実装クラスでDBコネクションを取得及び解放する。<br>
+ * <br>
+ * 先頭のまとまりを渡し終えるまでにMosP処理情報へエラーメッセージを設定した場合、
+ * ファイルは送出されず、エラーメッセージが画面に表示される。<br>
+ */
+public interface OrangeSignalStreamSource {
+	
+	/**
+	 * CSVデータを作成し、1行ずつ行処理に渡す。<br>
+	 * @param mospParams MosP処理情報
+	 * @param handler    CSVデータ行処理
+	 * @throws MospException CSVデータの作成或いは処理に失敗した場合
+	 */
+	void write(MospParams mospParams, OrangeSignalRowHandler handler) throws MospException;
+	
+}
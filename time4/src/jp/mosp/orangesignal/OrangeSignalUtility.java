@@ -17,14 +17,17 @@
  */
 package jp.mosp.orangesignal;
 
+import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.util.List;
 
 import jp.mosp.framework.base.MospException;
 import jp.mosp.framework.constant.ExceptionConst;
 import jp.sf.orangesignal.csv.Csv;
 import jp.sf.orangesignal.csv.CsvConfig;
+import jp.sf.orangesignal.csv.CsvReader;
 import jp.sf.orangesignal.csv.handlers.StringArrayListHandler;
 
 /**
@@ -66,6 +69,42 @@ public class OrangeSignalUtility {
 		}
 	}
 	
+	/**
+	 * リクエストされたファイルをCSVとして1行ずつ解析し、CSVデータ行処理に渡す。<br>
+	 * 解析結果を全件リストに保持しないため、大量のデータを読み込む場合に用いる。<br>
+	 * CSVデータ行処理がfalseを返した場合は、以降の行を解析しない。<br>
+	 * @param requestedFile リクエストされたファイル
+	 * @param orangeParams  OrangeSignal処理情報
+	 * @param handler       CSVデータ行処理
+	 * @throws MospException 入出力例外が発生した場合、或いはCSVデータの処理に失敗した場合
+	 */
+	public static void parse(InputStream requestedFile, OrangeSignalParams orangeParams,
+			OrangeSignalRowHandler handler) throws MospException {
+		CsvReader reader = null;
+		try {
+			reader = new CsvReader(new BufferedReader(new InputStreamReader(requestedFile,
+					orangeParams.getEncoding())), getCsvConfig(orangeParams));
+			// 1行ずつ解析
+			List<String> values = reader.readValues();
+			while (values != null) {
+				if (handler.handle(values.toArray(new String[values.size()])) == false) {
+					break;
+				}
+				values = reader.readValues();
+			}
+		} catch (IOException e) {
+			throw new MospException(e, ExceptionConst.EX_FAIL_INPUT_FILE, null);
+		} finally {
+			try {
+				if (reader != null) {
+					reader.close();
+				}
+			} catch (IOException e) {
+				// 処理無し
+			}
+		}
+	}
+	
 	/**
 	 * CSVデータリストを設定した{@link OrangeSignalParams}を取得する。<br>
 	 * @param csvDataList CSVデータリスト
@@ -79,6 +118,19 @@ public class OrangeSignalUtility {
 		return orangeParams;
 	}
 	
+	/**
+	 * CSVデータ作成元を設定した{@link OrangeSignalParams}を取得する。<br>
+	 * @param streamSource CSVデータ作成元
+	 * @return OrangeSignal処理情報
+	 */
+	public static OrangeSignalParams getOrangeSignalParams(OrangeSignalStreamSource streamSource) {
+		// OrangeSignal処理情報生成
+		OrangeSignalParams orangeParams = new OrangeSignalParams();
+		// CSVデータ作成元設定
+		orangeParams.setStreamSource(streamSource);
+		return orangeParams;
+	}
+	
 	/**
 	 * {@link OrangeSignalParams}の設定値から区切り文字形式情報を生成する。<br>
 	 * @param orangeParams OrangeSignal処理情報
@@ -0,0 +1,181 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.base;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import jp.mosp.platform.dto.base.ApplicationMasterDtoInterface;
+import jp.mosp.platform.dto.human.HumanDtoInterface;
+
+/**
+ * 適用情報索引。<br>
+ * <br>
+ * 適用情報群を個人ID及び適用マスタの組合せをキーとした索引として保持し、
+ * 対象人事情報が適用される適用情報を、適用情報の件数に依らずに取得する。<br>
+ * 適用情報の優先順は、{@link jp.mosp.platform.utils.PlatformUtility}の
+ * getApplicationMaster(HumanDtoInterface, Set, Set)と同様である。<br>
+ * <br>
+ * 生成後は変更されないため、マスタ共有キャッシュに設定して複数スレッドから参照できる。<br>
+ * @param <T> 適用情報
+ */
+public class ApplicationMasterIndex<T extends ApplicationMasterDtoInterface> {
+	
+	/**
+	 * 適用マスタの区切文字。<br>
+	 */
+	protected static final String	SEPARATOR		= "\t";
+	
+	/**
+	 * 個人IDの区切文字。<br>
+	 */
+	protected static final String	SEPARATOR_IDS	= ",";
+	
+	/**
+	 * 適用マスタの検索順。<br>
+	 * <br>
+	 * 勤務地、雇用契約、所属、職位の順に、人事情報の値を用いるか(true)、
+	 * 指定無し(空文字)とするか(false)を示す。<br>
+	 */
+	protected static final boolean[][]	TIERS			= {
+		// 2.職位、所属、雇用契約、勤務地
+		{ true, true, true, true },
+		// 3.職位、所属、雇用契約
+		{ false, true, true, true },
+		// 4.職位、所属
+		{ false, false, true, true },
+		// 5.職位
+		{ false, false, false, true },
+		// 6.所属、雇用契約、勤務地
+		{ true, true, true, false },
+		// 7.所属、雇用契約
+		{ false, true, true, false },
+		// 8.所属
+		{ false, false, true, false },
+		// 9.雇用契約、勤務地
+		{ true, true, false, false },
+		// 10.雇用契約
+		{ false, true, false, false },
+		// 11.勤務地
+		{ true, false, false, false },
+		// 12.指定無し
+		{ false, false, false, false } };
+	
+	/**
+	 * 適用情報(個人)群(キー：個人ID)。<br>
+	 */
+	protected final Map<String, T>	personMap;
+	
+	/**
+	 * 適用情報(マスタ)群(キー：勤務地、雇用契約、所属、職位)。<br>
+	 */
+	protected final Map<String, T>	masterMap;
+	
+	
+	/**
+	 * 適用情報群から索引を生成する。<br>
+	 * <br>
+	 * 同じキーに複数の適用情報が該当する場合は、
+	 * 各適用情報群の反復順で最初の適用情報を保持する。<br>
+	 * @param personSet 適用情報(個人)群
+	 * @param masterSet 適用情報(マスタ)群
+	 */
+	public ApplicationMasterIndex(Collection<? extends T> personSet, Collection<? extends T> masterSet) {
+		personMap = new HashMap<String, T>();
+		masterMap = new HashMap<String, T>();
+		// 適用情報(個人)毎に処理
+		for (T dto : personSet) {
+			// 設定されている個人ID(カンマ区切)毎に処理
+			for (String personalId : dto.getPersonalIds().split(SEPARATOR_IDS)) {
+				String key = personalId.trim();
+				if (key.isEmpty() == false && personMap.containsKey(key) == false) {
+					personMap.put(key, dto);
+				}
+			}
+		}
+		// 適用情報(マスタ)毎に処理
+		for (T dto : masterSet) {
+			String key = getKey(dto.getWorkPlaceCode(), dto.getEmploymentContractCode(), dto.getSectionCode(),
+					dto.getPositionCode());
+			if (key != null && masterMap.containsKey(key) == false) {
+				masterMap.put(key, dto);
+			}
+		}
+	}
+	
+	/**
+	 * 対象人事情報が適用される適用情報を取得する。<br>
+	 * <br>
+	 * 個人IDで探した後、{@link #TIERS}の順に適用マスタの組合せで探し、
+	 * 最初に見つかった適用情報を返す。<br>
+	 * @param humanDto 人事情報
+	 * @return 適用情報(該当無しの場合はnull)
+	 */
+	public T get(HumanDtoInterface humanDto) {
+		// 人事情報確認
+		if (humanDto == null) {
+			return null;
+		}
+		// 1.個人
+		T dto = personMap.get(humanDto.getPersonalId());
+		if (dto != null) {
+			return dto;
+		}
+		// 適用情報(マスタ)が無い場合
+		if (masterMap.isEmpty()) {
+			return null;
+		}
+		// 2.～12.適用マスタの組合せ
+		for (boolean[] tier : TIERS) {
+			String key = getKey(tier[0] ? humanDto.getWorkPlaceCode() : "",
+					tier[1] ? humanDto.getEmploymentContractCode() : "", tier[2] ? humanDto.getSectionCode() : "",
+					tier[3] ? humanDto.getPositionCode() : "");
+			if (key == null) {
+				continue;
+			}
+			dto = masterMap.get(key);
+			if (dto != null) {
+				return dto;
+			}
+		}
+		// 該当無し
+		return null;
+	}
+	
+	/**
+	 * 適用マスタの組合せからキーを取得する。<br>
+	 * @param workPlaceCode          勤務地コード
+	 * @param employmentContractCode 雇用契約コード
+	 * @param sectionCode            所属コード
+	 * @param positionCode           職位コード
+	 * @return キー(いずれかがnullの場合はnull)
+	 */
+	protected static String getKey(String workPlaceCode, String employmentContractCode, String sectionCode,
+			String positionCode) {
+		// nullは線形探索においてもいずれの適用情報とも合致しない
+		if (workPlaceCode == null || employmentContractCode == null || sectionCode == null || positionCode == null) {
+			return null;
+		}
+		StringBuilder sb = new StringBuilder();
+		sb.append(workPlaceCode).append(SEPARATOR).append(employmentContractCode).append(SEPARATOR);
+		sb.append(sectionCode).append(SEPARATOR).append(positionCode);
+		return sb.toString();
+	}
+	
+}
@@ -0,0 +1,141 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.base;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+import jp.mosp.framework.base.BaseDtoInterface;
+
+/**
+ * 頁リスト。<br>
+ * <br>
+ * 検索結果全件のうち、表示する頁分の情報のみを保持する。<br>
+ * {@link #size()}は検索結果全件の件数を返すため、
+ * 一覧表示時の件数表示や頁繰りリンクの作成は、全件を保持するリストと同様に行える。<br>
+ * <br>
+ * 保持していない位置の情報を取得しようとした場合は、
+ * {@link IndexOutOfBoundsException}が発生する。<br>
+ * 全件を保持する必要が無いため、VOに設定してセッションに保持する情報量を抑えることができる。<br>
+ * <br>
+ * 検索結果全件のキー(ソート順)を保持する場合は、
+ * 頁繰りの際に再検索せず、キーで選択ページ分の情報のみを取得することができる。<br>
+ * @param <E> 一覧情報
+ */
+public class PagedList<E extends BaseDtoInterface> extends AbstractList<E> implements Serializable {
+	
+	private static final long	serialVersionUID	= 4153262934468254617L;
+	
+	/**
+	 * 頁分の情報リスト。<br>
+	 */
+	private final List<E>		page;
+	
+	/**
+	 * 頁の開始位置。<br>
+	 */
+	private final int			offset;
+	
+	/**
+	 * 検索結果全件の件数。<br>
+	 */
+	private final int			totalCount;
+	
+	/**
+	 * 検索結果全件のキーリスト(ソート順、保持しない場合はnull)。<br>
+	 */
+	private final List<String>	keyList;
+	
+	
+	/**
+	 * 検索結果全件から、頁リストを生成する。<br>
+	 * @param list    検索結果全件のリスト
+	 * @param offset  頁の開始位置
+	 * @param limit   1頁当たりの件数
+	 * @param keyList 検索結果全件のキーリスト(保持しない場合はnull)
+	 */
+	public PagedList(List<? extends E> list, int offset, int limit, List<String> keyList) {
+		int end = offset + limit < list.size() ? offset + limit : list.size();
+		page = new ArrayList<E>(list.subList(offset < end ? offset : end, end));
+		this.offset = offset;
+		totalCount = list.size();
+		this.keyList = keyList == null ? null : new ArrayList<String>(keyList);
+	}
+	
+	/**
+	 * キーで取得した頁分の情報から、頁リストを生成する。<br>
+	 * @param page    頁分の情報リスト
+	 * @param offset  頁の開始位置
+	 * @param keyList 検索結果全件のキーリスト
+	 */
+	public PagedList(List<? extends E> page, int offset, List<String> keyList) {
+		this.page = new ArrayList<E>(page);
+		this.offset = offset;
+		totalCount = keyList.size();
+		this.keyList = keyList;
+	}
+	
+	@Override
+	public E get(int index) {
+		if (index < offset || index >= offset + page.size()) {
+			throw new IndexOutOfBoundsException(String.valueOf(index));
+		}
+		return page.get(index - offset);
+	}
+	
+	@Override
+	public int size() {
+		return totalCount;
+	}
+	
+	/**
+	 * 対象の頁を保持しているかを確認する。<br>
+	 * @param offset 頁の開始位置
+	 * @param limit  1頁当たりの件数
+	 * @return 確認結果(true：保持している、false：保持していない)
+	 */
+	public boolean hasPage(int offset, int limit) {
+		int end = offset + limit < totalCount ? offset + limit : totalCount;
+		return this.offset == offset && page.size() == end - offset;
+	}
+	
+	/**
+	 * 検索結果全件のキーリストを取得する。<br>
+	 * @return 検索結果全件のキーリスト(保持しない場合はnull)
+	 */
+	public List<String> getKeyList() {
+		return keyList;
+	}
+	
+	/**
+	 * 対象の頁のキーリストを取得する。<br>
+	 * @param offset 頁の開始位置
+	 * @param limit  1頁当たりの件数
+	 * @return 対象の頁のキーリスト(キーリストを保持しない場合はnull)
+	 */
+	public List<String> getKeyList(int offset, int limit) {
+		if (keyList == null) {
+			return null;
+		}
+		int end = offset + limit < keyList.size() ? offset + limit : keyList.size();
+		return new ArrayList<String>(keyList.subList(offset < end ? offset : end, end));
+	}
+	
+}
@@ -90,6 +90,13 @@ public abstract class PlatformAction extends BaseAction {
 	 */
 	protected static final String			APP_LIST_LENGTH				= "ListLength";
 	
+	/**
+	 * MosPアプリケーション設定キー(サーバ側頁繰り)。<br>
+	 * trueの場合、対応している一覧画面では検索結果全件をVOに保持せず、
+	 * 頁繰り及びソートの際に検索条件で再検索する。<br>
+	 */
+	protected static final String			APP_SERVER_PAGING			= "ServerPaging";
+	
 	/**
 	 * MosP汎用パラメータキー(画面表示時にスクロールさせるHTML要素のID)。<br>
 	 * このキーで設定したStringは、画面表示時にJavaScriptの変数として宣言される。<br>
@@ -542,16 +549,142 @@ public abstract class PlatformAction extends BaseAction {
 			// ソートキーをVOに設定
 			vo.setComparatorName(sortKey);
 		}
+		// 検索結果全件を取得
+		List<? extends BaseDtoInterface> list = getAllList();
+		// ソート
+		sortAllList(list);
+		// ソート後の検索結果全件をVOに設定
+		vo.setList(list);
+		// 1ページ目のリストを取得
+		return getFirstPageList();
+	}
+	
+	/**
+	 * VOに設定されている比較クラス及び昇順降順フラグで、リストをソートする。<br>
+	 * @param list 対象リスト
+	 * @throws MospException 比較クラスのインスタンス生成に失敗した場合
+	 */
+	protected void sortAllList(List<? extends BaseDtoInterface> list) throws MospException {
+		// VO取得
+		PlatformVo vo = (PlatformVo)mospParams.getVo();
 		// 比較クラスインスタンス取得
 		Comparator<Object> comp = InstanceFactory.loadComparator(vo.getComparatorName());
 		// ソート
 		if (vo.isAscending()) {
-			Collections.sort(vo.getList(), Collections.reverseOrder(comp));
+			Collections.sort(list, Collections.reverseOrder(comp));
 		} else {
-			Collections.sort(vo.getList(), comp);
+			Collections.sort(list, comp);
 		}
-		// 1ページ目のリストを取得
-		return getFirstPageList();
+	}
+	
+	/**
+	 * 検索結果全件のリストを取得する。<br>
+	 * <br>
+	 * VOに頁リストが設定されている場合(サーバ側頁繰りの場合)は、
+	 * {@link #searchForPaging()}で再検索したリストを取得する(ソートはされていない)。<br>
+	 * それ以外の場合は、VOに設定されているリストを取得する。<br>
+	 * @return 検索結果全件のリスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected List<? extends BaseDtoInterface> getAllList() throws MospException {
+		// VO取得
+		PlatformVo vo = (PlatformVo)mospParams.getVo();
+		// VOに頁リストが設定されている場合
+		if (vo.getList() instanceof PagedList) {
+			// 検索条件で再検索
+			return searchForPaging();
+		}
+		return vo.getList();
+	}
+	
+	/**
+	 * サーバ側頁繰りを行うかを確認する。<br>
+	 * <br>
+	 * サーバ側頁繰りを行う場合、VOには検索結果全件でなく頁リストを設定する。<br>
+	 * ソートの際には、{@link #searchForPaging()}で再検索する。<br>
+	 * 頁繰りの際には、{@link #getPagingKeyList(List)}で保持したキーがあれば
+	 * {@link #searchForPaging(List)}で選択ページ分のみを取得し、無ければ再検索する。<br>
+	 * 検索結果全件を必要とする処理({@link #getArray()}等)を用いる一覧画面では、
+	 * サーバ側頁繰りを行ってはならない。<br>
+	 * <br>
+	 * サーバ側頁繰りに対応する一覧画面では、当メソッド及び{@link #searchForPaging()}をオーバーライドする。<br>
+	 * 頁繰りの際の再検索を避ける場合は、{@link #getPagingKeyList(List)}及び
+	 * {@link #searchForPaging(List)}もオーバーライドする。<br>
+	 * @return 確認結果(true：サーバ側頁繰りを行う、false：行わない)
+	 */
+	protected boolean isServerPaging() {
+		return false;
+	}
+	
+	/**
+	 * 頁繰り及びソートのために再検索する。<br>
+	 * <br>
+	 * VOに保持されている検索条件で再検索を行う。<br>
+	 * サーバ側頁繰りに対応する一覧画面で、オーバーライドする。<br>
+	 * @return 検索結果全件のリスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected List<? extends BaseDtoInterface> searchForPaging() throws MospException {
+		// VO取得
+		PlatformVo vo = (PlatformVo)mospParams.getVo();
+		return vo.getList();
+	}
+	
+	/**
+	 * 頁繰りのためのキーリストを取得する。<br>
+	 * <br>
+	 * ソート済の検索結果全件から、一覧情報毎のキー(個人ID等)をソート順で取得する。<br>
+	 * キーリストは頁リストに保持され、頁繰りの際に{@link #searchForPaging(List)}に渡される。<br>
+	 * nullを返す場合、頁繰りの際は{@link #searchForPaging()}で再検索する。<br>
+	 * @param list ソート済の検索結果全件のリスト
+	 * @return キーリスト(キーを用いない場合はnull)
+	 */
+	protected List<String> getPagingKeyList(List<? extends BaseDtoInterface> list) {
+		return null;
+	}
+	
+	/**
+	 * 頁繰りのために、キーで選択ページ分の一覧情報を取得する。<br>
+	 * <br>
+	 * キーリストの順で取得する。<br>
+	 * 取得できなかったキーがある場合(削除された場合等)は、{@link #searchForPaging()}で再検索される。<br>
+	 * {@link #getPagingKeyList(List)}をオーバーライドする一覧画面で、オーバーライドする。<br>
+	 * @param keyList 選択ページ分のキーリスト
+	 * @return 選択ページ分の一覧情報リスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected List<? extends BaseDtoInterface> searchForPaging(List<String> keyList) throws MospException {
+		return new ArrayList<BaseDtoInterface>();
+	}
+	
+	/**
+	 * 選択ページを保持する頁リストを取得する。<br>
+	 * <br>
+	 * 頁リストがキーリストを保持している場合は、選択ページ分のみを取得する。<br>
+	 * キーリストを保持していない場合或いは選択ページ分を取得できなかった場合は、
+	 * 再検索及びソートを行う。<br>
+	 * @param pagedList 頁リスト
+	 * @param offset    選択ページの開始位置
+	 * @param limit     1頁当たりの件数
+	 * @return 選択ページを保持する頁リスト
+	 * @throws MospException インスタンスの取得、SQL実行或いは比較クラスのインスタンス生成に失敗した場合
+	 */
+	protected PagedList<BaseDtoInterface> getPagedList(PagedList<?> pagedList, int offset, int limit)
+			throws MospException {
+		// 選択ページ分のキーリストを取得
+		List<String> pageKeyList = pagedList.getKeyList(offset, limit);
+		if (pageKeyList != null) {
+			// キーで選択ページ分を取得
+			List<? extends BaseDtoInterface> page = searchForPaging(pageKeyList);
+			// 全て取得できた場合
+			if (page.size() == pageKeyList.size()) {
+				return new PagedList<BaseDtoInterface>(page, offset, pagedList.getKeyList());
+			}
+		}
+		// 再検索及びソート
+		List<? extends BaseDtoInterface> allList = searchForPaging();
+		sortAllList(allList);
+		return new PagedList<BaseDtoInterface>(allList, offset, limit, getPagingKeyList(allList));
 	}
 	
 	/**
@@ -578,8 +711,9 @@ public abstract class PlatformAction extends BaseAction {
 	/**
 	 * 1ページ目のリストを取得する。<br>
 	 * @return 1ページ目分のリスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
 	 */
-	protected List<? extends BaseDtoInterface> getFirstPageList() {
+	protected List<? extends BaseDtoInterface> getFirstPageList() throws MospException {
 		// VO取得
 		PlatformVo vo = (PlatformVo)mospParams.getVo();
 		// 選択ページ番号設定
@@ -590,16 +724,33 @@ public abstract class PlatformAction extends BaseAction {
 	
 	/**
 	 * 選択ページのリストを取得する。<br>
+	 * <br>
+	 * サーバ側頁繰りの場合は、VOに選択ページの頁リストを設定する。<br>
+	 * VOの頁リストが選択ページを保持していない場合は、選択ページ分を取得する。<br>
 	 * @return 選択ページ分のリスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
 	 */
-	protected List<? extends BaseDtoInterface> pageList() {
+	protected List<? extends BaseDtoInterface> pageList() throws MospException {
 		// VO取得
 		PlatformVo vo = (PlatformVo)mospParams.getVo();
 		int offset = (Integer.parseInt(vo.getSelectIndex()) - 1) * vo.getDataPerPage();
+		// 頁繰り対象リストを取得
+		List<? extends BaseDtoInterface> allList = vo.getList();
+		// VOの頁リストが選択ページを保持していない場合
+		if (allList instanceof PagedList && ((PagedList<?>)allList).hasPage(offset, vo.getDataPerPage()) == false) {
+			// 選択ページの頁リストをVOに設定
+			allList = getPagedList((PagedList<?>)allList, offset, vo.getDataPerPage());
+			vo.setList(allList);
+		} else if (isServerPaging() && allList instanceof PagedList == false) {
+			// サーバ側頁繰りの場合は選択ページの頁リストをVOに設定
+			allList = new PagedList<BaseDtoInterface>(allList, offset, vo.getDataPerPage(),
+					getPagingKeyList(allList));
+			vo.setList(allList);
+		}
 		List<BaseDtoInterface> list = new ArrayList<BaseDtoInterface>();
-		for (int i = offset; i < (offset + vo.getDataPerPage() < vo.getList().size() ? offset + vo.getDataPerPage()
-				: vo.getList().size()); i++) {
-			list.add(vo.getList().get(i));
+		for (int i = offset; i < (offset + vo.getDataPerPage() < allList.size() ? offset + vo.getDataPerPage()
+				: allList.size()); i++) {
+			list.add(allList.get(i));
 		}
 		return list;
 	}
@@ -55,8 +55,8 @@ public abstract class ReportManagerBean extends PlatformBean implements ReportMa
 			return;
 		}
 		// 帳票を作成し送出ファイルとして設定
-		mospParams.setFile(JasperReportUtility.createJasperPrint(getTemplatePath(intermediate.getAppReport()),
-				intermediate.getList()));
+		mospParams.setFile(JasperReportUtility.createReportFile(mospParams,
+				getTemplatePath(intermediate.getAppReport()), intermediate.getList()));
 		// 送出ファイル名設定
 		mospParams.setFileName(intermediate.getAppReport());
 	}
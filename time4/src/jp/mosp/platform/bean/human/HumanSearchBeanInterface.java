@@ -46,6 +46,17 @@ public interface HumanSearchBeanInterface {
 	 */
 	List<HumanListDtoInterface> getHumanList() throws MospException;
 	
+	/**
+	 * 個人ID配列の人事一覧情報リストを取得する。<br>
+	 * 検索条件のうち対象日のみを用い、個人ID配列の順で取得する。<br>
+	 * 対象日に人事情報が存在しない個人IDは、含まれない。<br>
+	 * 検索済の一覧の表示頁分の情報を取得し直すために用いる。<br>
+	 * @param personalIds 個人ID配列
+	 * @return 人事一覧情報リスト
+	 * @throws MospException インスタンスの取得、SQLの作成及び実行に失敗した場合
+	 */
+	List<HumanListDtoInterface> getHumanList(String[] personalIds) throws MospException;
+	
 	/**
 	 * 個人IDセットを取得する。<br>
 	 * 設定された条件で、検索を行う。<br>
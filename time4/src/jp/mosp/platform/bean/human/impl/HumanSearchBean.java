@@ -54,6 +54,7 @@ import jp.mosp.platform.bean.system.SectionReferenceBeanInterface;
 import jp.mosp.platform.bean.system.WorkPlaceReferenceBeanInterface;
 import jp.mosp.platform.constant.PlatformConst;
 import jp.mosp.platform.dao.human.EntranceDaoInterface;
+import jp.mosp.platform.dao.human.HumanDaoInterface;
 import jp.mosp.platform.dao.human.HumanSearchDaoInterface;
 import jp.mosp.platform.dao.human.RetirementDaoInterface;
 import jp.mosp.platform.dao.human.SuspensionDaoInterface;
@@ -89,6 +90,11 @@ public class HumanSearchBean extends PlatformHumanBean implements HumanSearchBea
 	 */
 	protected HumanSearchDaoInterface					dao;
 	
+	/**
+	 * 人事情報DAO。
+	 */
+	protected HumanDaoInterface							humanDao;
+	
 	/**
 	 * 名称区分情報参照クラス。
 	 */
@@ -368,6 +374,7 @@ public class HumanSearchBean extends PlatformHumanBean implements HumanSearchBea
 		entranceDao = (EntranceDaoInterface)createDao(EntranceDaoInterface.class);
 		suspensionDao = (SuspensionDaoInterface)createDao(SuspensionDaoInterface.class);
 		retirementDao = (RetirementDaoInterface)createDao(RetirementDaoInterface.class);
+		humanDao = (HumanDaoInterface)createDao(HumanDaoInterface.class);
 	}
 	
 	@Override
@@ -1332,7 +1339,31 @@ public class HumanSearchBean extends PlatformHumanBean implements HumanSearchBea
 	@Override
 	public List<HumanListDtoInterface> getHumanList() throws MospException {
 		// 人事マスタ検索
-		List<HumanDtoInterface> list = search();
+		return getHumanList(search());
+	}
+	
+	@Override
+	public List<HumanListDtoInterface> getHumanList(String[] personalIds) throws MospException {
+		// 対象日における人事情報群を取得
+		Map<String, HumanDtoInterface> map = humanDao.findForPersonalIds(targetDate, personalIds);
+		// 個人ID配列の順で人事情報リストを作成
+		List<HumanDtoInterface> list = new ArrayList<HumanDtoInterface>();
+		for (String personalId : personalIds) {
+			HumanDtoInterface dto = map.get(personalId);
+			if (dto != null) {
+				list.add(dto);
+			}
+		}
+		return getHumanList(list);
+	}
+	
+	/**
+	 * 人事情報リストから人事一覧情報リストを作成する。<br>
+	 * @param list 人事情報リスト
+	 * @return 人事一覧情報リスト
+	 * @throws MospException インスタンスの取得、SQLの作成及び実行に失敗した場合
+	 */
+	protected List<HumanListDtoInterface> getHumanList(List<HumanDtoInterface> list) throws MospException {
 		String[][] aryWorkPlace = workPlace.getSelectArray(targetDate, true, null);
 		String[][] aryEmploymentContract = employmentContract.getSelectArray(targetDate, true, null);
 		String[][] arySection = section.getNameSelectArray(targetDate, true, null);
@@ -0,0 +1,704 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.bean.mail.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.mail.Address;
+import javax.mail.MessagingException;
+import javax.mail.Session;
+import javax.mail.Transport;
+import javax.mail.internet.InternetAddress;
+import javax.mail.internet.MimeMessage;
+
+import jp.mosp.framework.base.DBConnBean;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.base.MospUser;
+import jp.mosp.framework.instance.InstanceFactory;
+import jp.mosp.framework.utils.LogUtility;
+import jp.mosp.platform.constant.PlatformMailConst;
+import jp.mosp.platform.dao.mail.MailOutboxDaoInterface;
+import jp.mosp.platform.dto.mail.MailOutboxDtoInterface;
+import jp.mosp.platform.dto.mail.impl.PftMailOutboxDto;
+
+/**
+ * メール送信待ち。<br>
+ * <br>
+ * メールをメール送信待ちデータに登録及びコミットした時点で送信完了とし、
+ * メールサーバへの送信は送信用スレッドで行う。<br>
+ * 利用者のリクエストはメールサーバの応答を待たない。<br>
+ * <br>
+ * 送信用スレッドは、メールサーバとの接続(Transport)を送信サーバ区分毎に維持し、
+ * 複数のメールの送信に再利用する。<br>
+ * 送信対象が無い状態が接続維持時間を超えた場合は、接続を解除する。<br>
+ * 受信者が多いメールは、1送信当たりの受信者数毎に分けて送信する。<br>
+ * 途中で送信に失敗した場合は送信済受信者数を保持し、再送時はその続きの受信者から送信する。<br>
+ * 送信に失敗したメールは、再送間隔(再送毎に倍)を空けて再送回数まで再送し、
+ * それでも失敗した場合は送信失敗とする。<br>
+ * <br>
+ * メール送信待ちはテナント毎に保持する。<br>
+ * 送信待ち件数、送信件数、送信失敗件数、平均送信待ち時間を取得でき、
+ * 送信の都度ログ(メール送信)に出力する。<br>
+ * <br>
+ * 送信サーバの設定はメールを登録したBeanから受け取るため、
+ * 再起動後は同じ送信サーバ区分のメールが登録されるまで、残っているメールは送信されない
+ * (送信サーバが不明なメールは取得せず、再送回数も変えない)。<br>
+ * <br>
+ * 送信用スレッドは、メール毎に送信状況を送信中に更新及びコミットして送信権を取得してから送信する。<br>
+ * 複数のアプリケーションサーバで同一のDBを用いる場合も、同じメールが重複して送信されることはない。<br>
+ * 送信中のまま送信権有効時間を過ぎたメール(送信中にサーバが停止した場合等)は、再び送信対象となる。<br>
+ * <br>
+ * 送信用スレッドは、{@link #shutdown()}で終了する。<br>
+ */
+public class MailOutbox implements Runnable {
+	
+	/**
+	 * 確認間隔(ミリ秒)(デフォルト)。
+	 */
+	protected static final int						DEFAULT_INTERVAL	= 5000;
+	
+	/**
+	 * 一括送信件数(デフォルト)。
+	 */
+	protected static final int						DEFAULT_BATCH_SIZE	= 100;
+	
+	/**
+	 * 1送信当たりの受信者数(デフォルト)。
+	 */
+	protected static final int						DEFAULT_RECIPIENTS	= 50;
+	
+	/**
+	 * 再送回数(デフォルト)。
+	 */
+	protected static final int						DEFAULT_RETRY		= 5;
+	
+	/**
+	 * 再送間隔(ミリ秒)(デフォルト)。
+	 */
+	protected static final int						DEFAULT_BACKOFF		= 60000;
+	
+	/**
+	 * 接続維持時間(ミリ秒)(デフォルト)。
+	 */
+	protected static final int						DEFAULT_KEEP_ALIVE	= 30000;
+	
+	/**
+	 * 送信権有効時間(ミリ秒)。
+	 */
+	protected static final long						CLAIM_TIMEOUT		= 600000L;
+	
+	/**
+	 * 送信用スレッドの終了を待つ時間(ミリ秒)。
+	 */
+	protected static final long						SHUTDOWN_WAIT		= 10000L;
+	
+	/**
+	 * エラーメッセージ最大長。
+	 */
+	protected static final int						MAX_ERROR_MESSAGE	= 500;
+	
+	/**
+	 * メール題目最大長。
+	 */
+	protected static final int						MAX_SUBJECT			= 255;
+	
+	/**
+	 * メッセージの文字コード(バイト列をそのまま保持するため)。
+	 */
+	protected static final String					MESSAGE_ENCODING	= "ISO-8859-1";
+	
+	/**
+	 * テナント毎のメール送信待ち群。<br>
+	 */
+	protected static final Map<String, MailOutbox>	outboxes			= new ConcurrentHashMap<String, MailOutbox>();
+	
+	/**
+	 * MosP処理情報(送信用スレッド用)。
+	 */
+	protected final MospParams						mospParams;
+	
+	/**
+	 * 送信サーバ群(キー：送信サーバ区分)。
+	 */
+	protected final Map<String, Server>				servers				= new ConcurrentHashMap<String, Server>();
+	
+	/**
+	 * 接続中のトランスポート群(キー：送信サーバ区分)。<br>
+	 * 送信用スレッドのみが操作する。<br>
+	 */
+	protected final Map<String, Transport>			transports			= new HashMap<String, Transport>();
+	
+	/**
+	 * 確認間隔(ミリ秒)。
+	 */
+	protected final int								interval;
+	
+	/**
+	 * 一括送信件数。
+	 */
+	protected final int								batchSize;
+	
+	/**
+	 * 1送信当たりの受信者数。
+	 */
+	protected final int								recipients;
+	
+	/**
+	 * 再送回数。
+	 */
+	protected final int								retry;
+	
+	/**
+	 * 再送間隔(ミリ秒)。
+	 */
+	protected final int								backoff;
+	
+	/**
+	 * 接続維持時間(ミリ秒)。
+	 */
+	protected final int								keepAlive;
+	
+	/**
+	 * 送信件数。
+	 */
+	protected final AtomicLong						sentCount			= new AtomicLong();
+	
+	/**
+	 * 送信失敗件数(再送回数を超えたもの)。
+	 */
+	protected final AtomicLong						failedCount			= new AtomicLong();
+	
+	/**
+	 * 再送件数。
+	 */
+	protected final AtomicLong						retriedCount		= new AtomicLong();
+	
+	/**
+	 * 送信待ち時間(ミリ秒)の合計。
+	 */
+	protected final AtomicLong						totalLatency		= new AtomicLong();
+	
+	/**
+	 * 登録通知フラグ(true：確認待ちの間にメールが登録された)。
+	 */
+	protected boolean								appended;
+	
+	/**
+	 * 送信用スレッド。
+	 */
+	protected Thread								thread;
+	
+	/**
+	 * 稼働中フラグ。
+	 */
+	protected volatile boolean						running;
+	
+	
+	/**
+	 * メール送信待ちを生成する。<br>
+	 * @param mospParams MosP処理情報(送信用スレッド用)
+	 */
+	protected MailOutbox(MospParams mospParams) {
+		this.mospParams = mospParams;
+		interval = getProperty(mospParams, PlatformMailConst.APP_MAIL_OUTBOX_INTERVAL, DEFAULT_INTERVAL);
+		batchSize = getProperty(mospParams, PlatformMailConst.APP_MAIL_OUTBOX_BATCH_SIZE, DEFAULT_BATCH_SIZE);
+		recipients = getProperty(mospParams, PlatformMailConst.APP_MAIL_OUTBOX_RECIPIENTS, DEFAULT_RECIPIENTS);
+		retry = getProperty(mospParams, PlatformMailConst.APP_MAIL_OUTBOX_RETRY, DEFAULT_RETRY);
+		backoff = getProperty(mospParams, PlatformMailConst.APP_MAIL_OUTBOX_BACKOFF, DEFAULT_BACKOFF);
+		keepAlive = getProperty(mospParams, PlatformMailConst.APP_MAIL_OUTBOX_KEEP_ALIVE, DEFAULT_KEEP_ALIVE);
+	}
+	
+	/**
+	 * メール送信待ちを利用するかを確認する。<br>
+	 * @param mospParams MosP処理情報
+	 * @return 確認結果(true：利用する、false：利用しない)
+	 */
+	public static boolean isEnabled(MospParams mospParams) {
+		return mospParams.getApplicationPropertyBool(PlatformMailConst.APP_MAIL_OUTBOX);
+	}
+	
+	/**
+	 * メールをメール送信待ちデータに登録及びコミットし、送信用スレッドに通知する。<br>
+	 * 登録はリクエストのDBコネクションとは別のDBコネクションで行う。<br>
+	 * @param mospParams MosP処理情報
+	 * @param server     送信サーバ
+	 * @param message    メール
+	 * @throws MospException メールの変換或いはメール送信待ちデータの登録に失敗した場合
+	 */
+	public static void append(MospParams mospParams, Server server, MimeMessage message) throws MospException {
+		// メール送信待ちデータ準備
+		MailOutboxDtoInterface dto = new PftMailOutboxDto();
+		dto.setServerType(server.type);
+		try {
+			// メールをバイト列のまま文字列に変換
+			message.saveChanges();
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			message.writeTo(out);
+			dto.setMessage(out.toString(MESSAGE_ENCODING));
+			dto.setRecipients(InternetAddress.toString(message.getAllRecipients()));
+			dto.setSubject(truncate(message.getSubject(), MAX_SUBJECT));
+		} catch (Exception e) {
+			throw new MospException(e);
+		}
+		dto.setSendStatus(PlatformMailConst.CODE_SEND_STATUS_WAIT);
+		dto.setRetryCount(0);
+		dto.setNextSendTime(new Date());
+		dto.setErrorMessage("");
+		dto.setSentCount(0);
+		// テナントのメール送信待ちを取得し送信サーバを設定
+		MailOutbox outbox = getOutbox(mospParams);
+		outbox.servers.put(server.type, server);
+		// メール送信待ちデータを登録及びコミット
+		DBConnBean dbConnBean = new DBConnBean(mospParams);
+		try {
+			MailOutboxDaoInterface dao = (MailOutboxDaoInterface)InstanceFactory.loadDao(MailOutboxDaoInterface.class,
+					mospParams, dbConnBean.getConnection());
+			dto.setPftMailOutboxId(dao.nextRecordId());
+			dao.insert(dto);
+			dbConnBean.commit();
+		} finally {
+			dbConnBean.releaseConnection();
+		}
+		// 送信用スレッドに通知
+		outbox.notifyAppended();
+	}
+	
+	/**
+	 * テナントのメール送信待ちを取得する。<br>
+	 * 存在しない場合は生成し、送信用スレッドを開始する。<br>
+	 * @param mospParams MosP処理情報
+	 * @return メール送信待ち
+	 */
+	public static MailOutbox getOutbox(MospParams mospParams) {
+		String tenant = getTenant(mospParams);
+		MailOutbox outbox = outboxes.get(tenant);
+		if (outbox != null) {
+			return outbox;
+		}
+		synchronized (outboxes) {
+			outbox = outboxes.get(tenant);
+			if (outbox == null) {
+				outbox = new MailOutbox(mospParams.getParallelParams());
+				outbox.thread = new Thread(outbox, MailOutbox.class.getSimpleName() + "-" + tenant);
+				outbox.thread.setDaemon(true);
+				outbox.running = true;
+				outbox.thread.start();
+				outboxes.put(tenant, outbox);
+			}
+			return outbox;
+		}
+	}
+	
+	/**
+	 * 全テナントの送信用スレッドを終了する。<br>
+	 * 送信中のメールの送信状況を更新してから終了する。<br>
+	 * 送信されていないメールは、メール送信待ちデータに残る。<br>
+	 */
+	public static void shutdown() {
+		synchronized (outboxes) {
+			for (MailOutbox outbox : outboxes.values()) {
+				outbox.running = false;
+				outbox.thread.interrupt();
+			}
+			for (MailOutbox outbox : outboxes.values()) {
+				try {
+					outbox.thread.join(SHUTDOWN_WAIT);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			outboxes.clear();
+		}
+	}
+	
+	@Override
+	public void run() {
+		long lastSendTime = System.currentTimeMillis();
+		while (running) {
+			int count = 0;
+			try {
+				// 送信対象のメールを送信
+				count = send();
+			} catch (Throwable t) {
+				LogUtility.error(mospParams, t);
+			}
+			if (count > 0) {
+				lastSendTime = System.currentTimeMillis();
+				outputLog();
+			}
+			// 一括送信件数分送信した場合は続けて送信
+			if (count >= batchSize) {
+				continue;
+			}
+			// 接続維持時間を超えた場合は接続を解除
+			if (System.currentTimeMillis() - lastSendTime >= keepAlive) {
+				closeTransports();
+			}
+			// 登録通知或いは確認間隔まで待機
+			try {
+				waitAppended();
+			} catch (InterruptedException e) {
+				break;
+			}
+		}
+		// 接続を解除
+		closeTransports();
+	}
+	
+	/**
+	 * 送信対象のメールを一括送信件数まで取得して送信し、送信状況を更新する。<br>
+	 * 送信サーバが設定されている送信サーバ区分のメールのみを対象とする。<br>
+	 * メール毎に送信権を取得(送信中に更新)及びコミットしてから送信し、
+	 * 送信後に送信状況を更新及びコミットする。<br>
+	 * 他の送信用スレッドが送信権を取得したメールは、送信しない。<br>
+	 * @return 送信対象件数
+	 * @throws MospException メール送信待ちデータの取得或いは更新に失敗した場合
+	 */
+	protected int send() throws MospException {
+		// 送信サーバが設定されている送信サーバ区分を取得
+		String[] serverTypes = servers.keySet().toArray(new String[0]);
+		if (serverTypes.length == 0) {
+			return 0;
+		}
+		DBConnBean dbConnBean = new DBConnBean(mospParams);
+		try {
+			MailOutboxDaoInterface dao = (MailOutboxDaoInterface)InstanceFactory.loadDao(MailOutboxDaoInterface.class,
+					mospParams, dbConnBean.getConnection());
+			List<MailOutboxDtoInterface> list = dao.findForSend(new Date(), serverTypes, batchSize);
+			for (MailOutboxDtoInterface dto : list) {
+				// 送信用スレッドが終了する場合
+				if (running == false) {
+					break;
+				}
+				// 送信サーバ取得(送信サーバが不明な場合は再送回数を変えずに対象外)
+				Server server = servers.get(dto.getServerType());
+				if (server == null) {
+					continue;
+				}
+				// 送信権を取得
+				long now = System.currentTimeMillis();
+				int claimed = dao.claim(dto.getPftMailOutboxId(), new Date(now), new Date(now + CLAIM_TIMEOUT));
+				dbConnBean.commit();
+				// 他の送信用スレッドが送信権を取得した場合
+				if (claimed == 0) {
+					continue;
+				}
+				send(dto, server);
+				dao.update(dto);
+				dbConnBean.commit();
+			}
+			return list.size();
+		} finally {
+			dbConnBean.releaseConnection();
+		}
+	}
+	
+	/**
+	 * メールを送信し、送信結果をメール送信待ちデータに設定する。<br>
+	 * 送信に失敗した場合は、接続を解除し再送(送信待ち)或いは送信失敗とする。<br>
+	 * 送信済受信者数より後の受信者から送信し、送信毎に送信済受信者数を更新する。<br>
+	 * @param dto    メール送信待ちデータ
+	 * @param server 送信サーバ
+	 */
+	protected void send(MailOutboxDtoInterface dto, Server server) {
+		try {
+			try {
+				// メールを復元
+				MimeMessage message = new MimeMessage(server.session,
+						new ByteArrayInputStream(dto.getMessage().getBytes(MESSAGE_ENCODING)));
+				// 送信済受信者の続きから1送信当たりの受信者数毎に送信
+				Transport transport = getTransport(server);
+				Address[] addresses = message.getAllRecipients();
+				for (int i = dto.getSentCount(); i < addresses.length; i += recipients) {
+					int end = i + recipients < addresses.length ? i + recipients : addresses.length;
+					transport.sendMessage(message, Arrays.copyOfRange(addresses, i, end));
+					dto.setSentCount(end);
+				}
+			} catch (Exception e) {
+				// 接続を解除(次回送信時に再接続)
+				closeTransport(server.type);
+				throw e;
+			}
+			// 送信済
+			dto.setSendStatus(PlatformMailConst.CODE_SEND_STATUS_DONE);
+			dto.setErrorMessage("");
+			sentCount.incrementAndGet();
+			totalLatency.addAndGet(System.currentTimeMillis() - dto.getInsertDate().getTime());
+		} catch (Exception e) {
+			LogUtility.error(mospParams, e);
+			dto.setRetryCount(dto.getRetryCount() + 1);
+			dto.setErrorMessage(truncate(String.valueOf(e), MAX_ERROR_MESSAGE));
+			// 再送回数を超えた場合は送信失敗
+			if (dto.getRetryCount() > retry) {
+				dto.setSendStatus(PlatformMailConst.CODE_SEND_STATUS_ERROR);
+				failedCount.incrementAndGet();
+				return;
+			}
+			// 再送間隔(再送毎に倍)を空けて再送
+			long wait = (long)backoff << Math.min(dto.getRetryCount() - 1, 16);
+			dto.setSendStatus(PlatformMailConst.CODE_SEND_STATUS_WAIT);
+			dto.setNextSendTime(new Date(System.currentTimeMillis() + wait));
+			retriedCount.incrementAndGet();
+		}
+	}
+	
+	/**
+	 * 送信サーバの接続済トランスポートを取得する。<br>
+	 * 維持している接続が切れている場合は、再接続する。<br>
+	 * @param server 送信サーバ
+	 * @return 接続済トランスポート
+	 * @throws MessagingException メールサーバとの接続に失敗した場合
+	 */
+	protected Transport getTransport(Server server) throws MessagingException {
+		Transport transport = transports.get(server.type);
+		if (transport != null && transport.isConnected()) {
+			return transport;
+		}
+		closeTransport(server.type);
+		transport = server.session.getTransport(PlatformMailConst.SMTP);
+		if (server.auth) {
+			transport.connect(server.host, server.user, server.password);
+		} else {
+			transport.connect();
+		}
+		transports.put(server.type, transport);
+		return transport;
+	}
+	
+	/**
+	 * 送信サーバとの接続を解除する。<br>
+	 * @param type 送信サーバ区分
+	 */
+	protected void closeTransport(String type) {
+		Transport transport = transports.remove(type);
+		if (transport == null) {
+			return;
+		}
+		try {
+			transport.close();
+		} catch (MessagingException e) {
+			LogUtility.error(mospParams, e);
+		}
+	}
+	
+	/**
+	 * 全ての送信サーバとの接続を解除する。<br>
+	 */
+	protected void closeTransports() {
+		for (String type : transports.keySet().toArray(new String[transports.size()])) {
+			closeTransport(type);
+		}
+	}
+	
+	/**
+	 * 送信用スレッドにメールの登録を通知する。<br>
+	 */
+	protected synchronized void notifyAppended() {
+		appended = true;
+		notifyAll();
+	}
+	
+	/**
+	 * メールの登録通知或いは確認間隔まで待機する。<br>
+	 * @throws InterruptedException 送信用スレッドが割り込まれた場合
+	 */
+	protected synchronized void waitAppended() throws InterruptedException {
+		if (appended == false) {
+			wait(interval);
+		}
+		appended = false;
+	}
+	
+	/**
+	 * 送信待ち件数を取得する。<br>
+	 * @return 送信待ち件数
+	 * @throws MospException メール送信待ちデータの取得に失敗した場合
+	 */
+	public int getQueueDepth() throws MospException {
+		DBConnBean dbConnBean = new DBConnBean(mospParams);
+		try {
+			MailOutboxDaoInterface dao = (MailOutboxDaoInterface)InstanceFactory.loadDao(MailOutboxDaoInterface.class,
+					mospParams, dbConnBean.getConnection());
+			return dao.countForStatus(PlatformMailConst.CODE_SEND_STATUS_WAIT);
+		} finally {
+			dbConnBean.releaseConnection();
+		}
+	}
+	
+	/**
+	 * @return 送信件数
+	 */
+	public long getSentCount() {
+		return sentCount.get();
+	}
+	
+	/**
+	 * @return 送信失敗件数(再送回数を超えたもの)
+	 */
+	public long getFailedCount() {
+		return failedCount.get();
+	}
+	
+	/**
+	 * @return 再送件数
+	 */
+	public long getRetriedCount() {
+		return retriedCount.get();
+	}
+	
+	/**
+	 * 平均送信待ち時間(登録から送信までのミリ秒)を取得する。<br>
+	 * @return 平均送信待ち時間(ミリ秒)
+	 */
+	public long getAverageLatency() {
+		long sent = sentCount.get();
+		if (sent == 0) {
+			return 0;
+		}
+		return totalLatency.get() / sent;
+	}
+	
+	/**
+	 * 送信状況をログ(メール送信)に出力する。<br>
+	 */
+	protected void outputLog() {
+		int level = mospParams.getApplicationProperty(MailStartTlsBean.APP_LOG_LEVEL_MAIL, 0);
+		if (level == 0) {
+			return;
+		}
+		try {
+			StringBuffer sb = new StringBuffer(MailOutbox.class.getSimpleName());
+			sb.append(" depth=").append(getQueueDepth());
+			sb.append(" sent=").append(getSentCount());
+			sb.append(" retried=").append(getRetriedCount());
+			sb.append(" failed=").append(getFailedCount());
+			sb.append(" latency=").append(getAverageLatency());
+			LogUtility.log(mospParams, level, sb.toString());
+		} catch (MospException e) {
+			LogUtility.error(mospParams, e);
+		}
+	}
+	
+	/**
+	 * MosPアプリケーション設定値(正の整数)を取得する。<br>
+	 * @param mospParams   MosP処理情報
+	 * @param key          MosPアプリケーション設定キー
+	 * @param defaultValue デフォルト値
+	 * @return MosPアプリケーション設定値(0以下の場合はデフォルト値)
+	 */
+	protected static int getProperty(MospParams mospParams, String key, int defaultValue) {
+		int value = mospParams.getApplicationProperty(key, defaultValue);
+		return value > 0 ? value : defaultValue;
+	}
+	
+	/**
+	 * 文字列を最大長までに切り詰める。<br>
+	 * @param str       対象文字列
+	 * @param maxLength 最大長
+	 * @return 切り詰めた文字列(nullの場合は空文字)
+	 */
+	protected static String truncate(String str, int maxLength) {
+		if (str == null) {
+			return "";
+		}
+		return str.length() > maxLength ? str.substring(0, maxLength) : str;
+	}
+	
+	/**
+	 * テナントを取得する。<br>
+	 * SaaSの場合はASPユーザID、そうでない場合は空文字とする。<br>
+	 * @param mospParams MosP処理情報
+	 * @return テナント
+	 */
+	protected static String getTenant(MospParams mospParams) {
+		MospUser user = mospParams.getUser();
+		if (user == null || user.getAspUserId() == null) {
+			return "";
+		}
+		return user.getAspUserId();
+	}
+	
+	
+	/**
+	 * 送信サーバ。<br>
+	 * メールを登録するBeanが、自身の送信方式の設定で生成する。<br>
+	 */
+	public static class Server {
+		
+		/**
+		 * 送信サーバ区分。
+		 */
+		protected final String	type;
+		
+		/**
+		 * セッション。
+		 */
+		protected final Session	session;
+		
+		/**
+		 * SMTPホスト。
+		 */
+		protected final String	host;
+		
+		/**
+		 * SMTPユーザ。
+		 */
+		protected final String	user;
+		
+		/**
+		 * SMTPユーザパスワード。
+		 */
+		protected final String	password;
+		
+		/**
+		 * SMTP認証要否。
+		 */
+		protected final boolean	auth;
+		
+		
+		/**
+		 * 送信サーバを生成する。<br>
+		 * @param type     送信サーバ区分
+		 * @param props    プロパティ群(SMTP用)
+		 * @param host     SMTPホスト
+		 * @param user     SMTPユーザ
+		 * @param password SMTPユーザパスワード
+		 * @param auth     SMTP認証要否
+		 */
+		public Server(String type, Properties props, String host, String user, String password, boolean auth) {
+			this.type = type;
+			session = Session.getInstance(props);
+			this.host = host;
+			this.user = user;
+			this.password = password;
+			this.auth = auth;
+		}
+		
+	}
+	
+}
@@ -35,6 +35,7 @@ import javax.net.ssl.SSLSocketFactory;
 
 import jp.mosp.framework.base.MospException;
 import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.utils.MospUtility;
 import jp.mosp.platform.base.PlatformBean;
 import jp.mosp.platform.bean.mail.MailSenderBeanInterface;
 import jp.mosp.platform.constant.PlatformMailConst;
@@ -126,6 +127,10 @@ public class MailSenderBean extends PlatformBean implements MailSenderBeanInterf
 	
 	@Override
 	public boolean isSend() {
+		// メール送信待ちを利用する場合
+		if (MailOutbox.isEnabled(mospParams)) {
+			return isAppended();
+		}
 		boolean isSend = true;
 		try {
 			send();
@@ -136,10 +141,34 @@ public class MailSenderBean extends PlatformBean implements MailSenderBeanInterf
 		return isSend;
 	}
 	
+	/**
+	 * メール送信待ちに登録する。<br>
+	 * @return 登録に成功した場合true、そうでない場合false。
+	 */
+	protected boolean isAppended() {
+		try {
+			MailOutbox.Server server = new MailOutbox.Server(PlatformMailConst.SERVER_TYPE_SENDER, makeProperties(),
+					mailServer, userid, password, useMailAuth);
+			MailOutbox.append(mospParams, server, mimeMessage);
+		} catch (Throwable e) {
+			e.printStackTrace();
+			return false;
+		}
+		return true;
+	}
+	
 	/**
 	 * セッション取得
 	 */
 	protected void setSession() {
+		session = Session.getDefaultInstance(makeProperties(), new MailAuth());
+	}
+	
+	/**
+	 * プロパティ群(SMTP用)を作成する。<br>
+	 * @return プロパティ群(SMTP用)
+	 */
+	protected Properties makeProperties() {
 		Properties props = new Properties();
 		// SMTPサーバーのアドレスを指定
 		props.put(PlatformMailConst.SMTP_HOST, mailServer);
@@ -152,9 +181,9 @@ public class MailSenderBean extends PlatformBean implements MailSenderBeanInterf
 		if (useSSL) {
 			props.setProperty(PlatformMailConst.SF_CLASS, SSLSocketFactory.class.getCanonicalName());
 			props.setProperty(PlatformMailConst.SF_FALLBACK, String.valueOf(false));
-			props.setProperty(PlatformMailConst.SF_PORT, PlatformMailConst.SSL_PORT_465);
+			props.setProperty(PlatformMailConst.SF_PORT, changeSMTPPort());
 		}
-		session = Session.getDefaultInstance(props, new MailAuth());
+		return props;
 	}
 	
 	/**
@@ -199,6 +228,11 @@ public class MailSenderBean extends PlatformBean implements MailSenderBeanInterf
 	 */
 	protected String changeSMTPPort() {
 		String port = PlatformMailConst.PORT_25;
+		// メールポート番号が設定されている場合
+		String appPort = mospParams.getApplicationProperty(PlatformMailConst.APP_MAIL_PORT);
+		if (MospUtility.isEmpty(appPort) == false) {
+			return appPort;
+		}
 		if (useSSL) {
 			port = PlatformMailConst.SSL_PORT_465;
 		}
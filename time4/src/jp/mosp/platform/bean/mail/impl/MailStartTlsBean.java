@@ -138,6 +138,16 @@ public class MailStartTlsBean extends PlatformBean implements MailStartTlsBeanIn
 			mimeMessage.setText(makeText(appTemplate, dto), PlatformMailConst.UTF_8);
 			// 送信日付を指定
 			mimeMessage.setSentDate(getSystemTime());
+			// メール送信待ちを利用する場合
+			if (MailOutbox.isEnabled(mospParams)) {
+				// メール送信待ちに登録
+				MailOutbox.Server server = new MailOutbox.Server(PlatformMailConst.SERVER_TYPE_START_TLS, props,
+						getSmtpHost(), getSmtpUser(), getSmtpPass(), true);
+				MailOutbox.append(mospParams, server, mimeMessage);
+				// ログ出力
+				outputSendLog(recipients);
+				return;
+			}
 			// トランスポートを取得
 			transport = session.getTransport(PlatformMailConst.SMTP);
 			// メールサーバと接続
@@ -174,7 +184,7 @@ public class MailStartTlsBean extends PlatformBean implements MailStartTlsBeanIn
 		// プロパティを準備
 		Properties props = new Properties();
 		// 値を設定
-		props.put(PlatformMailConst.SMTP_PORT, SMTP_PORT);
+		props.put(PlatformMailConst.SMTP_PORT, getSmtpPort());
 		props.put(PlatformMailConst.SMTP_AUTH, SMTP_AUTH);
 		props.put(PlatformMailConst.CONNETCTION_TIME_OUT, PlatformMailConst.TIME_OUT);
 		props.put(PlatformMailConst.SMTP_TIME_OUT, PlatformMailConst.TIME_OUT);
@@ -263,6 +273,19 @@ public class MailStartTlsBean extends PlatformBean implements MailStartTlsBeanIn
 		return mospParams.getApplicationProperty(PlatformMailConst.APP_MAIL_HOST);
 	}
 	
+	/**
+	 * SMTPポート番号を取得する。<br>
+	 * メールポート番号が設定されていない場合は、既定のポート番号とする。<br>
+	 * @return SMTPポート番号
+	 */
+	protected String getSmtpPort() {
+		String port = mospParams.getApplicationProperty(PlatformMailConst.APP_MAIL_PORT);
+		if (MospUtility.isEmpty(port)) {
+			return SMTP_PORT;
+		}
+		return port;
+	}
+	
 	/**
 	 * SMTPユーザを取得する。<br>
 	 * @return SMTPユーザ
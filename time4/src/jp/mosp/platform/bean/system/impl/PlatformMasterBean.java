@@ -18,6 +18,7 @@
 package jp.mosp.platform.bean.system.impl;
 
 import java.sql.Connection;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -26,16 +27,22 @@ import java.util.Map;
 import java.util.Set;
 
 import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospMasterCache;
 import jp.mosp.framework.base.MospParams;
 import jp.mosp.framework.constant.MospConst;
 import jp.mosp.framework.utils.MospUtility;
+import jp.mosp.platform.base.ApplicationMasterIndex;
 import jp.mosp.platform.base.PlatformBean;
 import jp.mosp.platform.bean.system.PlatformMasterBeanInterface;
 import jp.mosp.platform.constant.PlatformConst;
 import jp.mosp.platform.dao.human.HumanDaoInterface;
+import jp.mosp.platform.dao.human.impl.PfmHumanDao;
 import jp.mosp.platform.dao.system.AppPropertyDaoInterface;
 import jp.mosp.platform.dao.system.SectionDaoInterface;
+import jp.mosp.platform.dao.system.impl.PfmAppPropertyDao;
+import jp.mosp.platform.dao.system.impl.PfmSectionDao;
 import jp.mosp.platform.dao.workflow.RouteApplicationDaoInterface;
+import jp.mosp.platform.dao.workflow.impl.PfmRouteApplicationDao;
 import jp.mosp.platform.dto.human.HumanDtoInterface;
 import jp.mosp.platform.dto.system.AppPropertyDtoInterface;
 import jp.mosp.platform.dto.system.SectionDtoInterface;
@@ -58,28 +65,33 @@ import jp.mosp.platform.utils.PlatformUtility;
  * DBにアクセスする回数が減る分メモリを使うことになるため、
  * 保持する情報の量に応じてメモリを調整する必要がある。<br>
  * <br>
+ * マスタ共有キャッシュを利用する設定の場合は、DBから取得した情報を
+ * マスタ共有キャッシュ({@link MospMasterCache})にも保持し、リクエストを跨いで再利用する。<br>
+ * マスタ共有キャッシュのリスト等は複製して返すが、そこに含まれるDTOは複数のリクエストで共有されるため、
+ * 取得したDTOを変更してはならない(変更する場合は、DTOを作成し直すこと)。<br>
+ * <br>
  */
 public class PlatformMasterBean extends PlatformBean implements PlatformMasterBeanInterface {
 	
 	/**
 	 * ルート適用マスタDAOクラス。<br>
 	 */
-	protected RouteApplicationDaoInterface					routeApplicationDao;
+	protected RouteApplicationDaoInterface										routeApplicationDao;
 	
 	/**
 	 * 人事マスタDAOクラス。<br>
 	 */
-	protected HumanDaoInterface								humanDao;
+	protected HumanDaoInterface													humanDao;
 	
 	/**
 	 * 所属マスタDAO。<br>
 	 */
-	protected SectionDaoInterface							sectionDao;
+	protected SectionDaoInterface												sectionDao;
 	
 	/**
 	 * アプリケーション設定マスタDAO。<br>
 	 */
-	protected AppPropertyDaoInterface						appPropertyDao;
+	protected AppPropertyDaoInterface											appPropertyDao;
 	
 	/**
 	 * ルート適用情報(個人)群(キー：対象日)。<br>
@@ -87,7 +99,7 @@ public class PlatformMasterBean extends PlatformBean implements PlatformMasterBe
 	 * 対象日における最新の設定適用情報群。<br>
 	 * <br>
 	 */
-	protected Map<Date, Set<RouteApplicationDtoInterface>>	applicationPersonMap;
+	protected Map<Date, Set<RouteApplicationDtoInterface>>						applicationPersonMap;
 	
 	/**
 	 * ルート適用情報(マスタ)群(キー：対象日)。<br>
@@ -95,26 +107,31 @@ public class PlatformMasterBean extends PlatformBean implements PlatformMasterBe
 	 * 対象日における最新の設定適用情報群。<br>
 	 * <br>
 	 */
-	protected Map<Date, Set<RouteApplicationDtoInterface>>	applicationMasterMap;
+	protected Map<Date, Set<RouteApplicationDtoInterface>>						applicationMasterMap;
+	
+	/**
+	 * ルート適用情報索引群(キー：対象日、フロー区分)。<br>
+	 */
+	protected Map<Object, ApplicationMasterIndex<RouteApplicationDtoInterface>>	applicationIndexMap;
 	
 	/**
 	 * 人事情報履歴群(キー：個人ID)。<br>
 	 * 一度DBから取得した情報を保持しておき、再利用する。<br>
 	 * <br>
 	 */
-	protected Map<String, List<HumanDtoInterface>>			humanMap;
+	protected Map<String, List<HumanDtoInterface>>								humanMap;
 	
 	/**
 	 * 所属情報群(キー：所属コード、対象日)。<br>
 	 * 一度DBから取得した情報を保持しておき、再利用する。<br>
 	 * <br>
 	 */
-	protected Map<String, Map<Date, SectionDtoInterface>>	sectionMap;
+	protected Map<String, Map<Date, SectionDtoInterface>>						sectionMap;
 	
 	/**
 	 * アプリケーション設定情報群(キー：アプリケーション設定キー)。<br>
 	 */
-	protected Map<String, AppPropertyDtoInterface>			appPropertyMap;
+	protected Map<String, AppPropertyDtoInterface>								appPropertyMap;
 	
 	
 	/**
@@ -143,6 +160,7 @@ public class PlatformMasterBean extends PlatformBean implements PlatformMasterBe
 		// フィールドの初期化
 		applicationPersonMap = new HashMap<Date, Set<RouteApplicationDtoInterface>>();
 		applicationMasterMap = new HashMap<Date, Set<RouteApplicationDtoInterface>>();
+		applicationIndexMap = new HashMap<Object, ApplicationMasterIndex<RouteApplicationDtoInterface>>();
 		humanMap = new HashMap<String, List<HumanDtoInterface>>();
 		sectionMap = new HashMap<String, Map<Date, SectionDtoInterface>>();
 		appPropertyMap = new HashMap<String, AppPropertyDtoInterface>();
@@ -151,11 +169,8 @@ public class PlatformMasterBean extends PlatformBean implements PlatformMasterBe
 	@Override
 	public RouteApplicationDtoInterface getRouteApplication(HumanDtoInterface humanDto, Date targetDate,
 			int workflowType) throws MospException {
-		// ルート適用情報群取得
-		Set<RouteApplicationDtoInterface> personSet = getApplicationPersonSet(targetDate, workflowType);
-		Set<RouteApplicationDtoInterface> masterSet = getApplicationMasterSet(targetDate, workflowType);
-		// 適用情報群から対象人事情報が適用される適用情報を取得
-		return (RouteApplicationDtoInterface)PlatformUtility.getApplicationMaster(humanDto, personSet, masterSet);
+		// ルート適用情報索引から対象人事情報が適用される適用情報を取得
+		return getApplicationIndex(targetDate, workflowType).get(humanDto);
 	}
 	
 	@Override
@@ -222,6 +237,45 @@ public class PlatformMasterBean extends PlatformBean implements PlatformMasterBe
 		return getApplicationSet(set, workflowType);
 	}
 	
+	/**
+	 * ルート適用情報索引を取得する。<br>
+	 * <br>
+	 * 対象フロー区分の情報のみを索引とする。<br>
+	 * フィールドから取得できなかった場合は、
+	 * マスタ共有キャッシュから或いはルート適用情報群から生成して取得し、フィールドに設定する。<br>
+	 * <br>
+	 * @param targetDate   対象日
+	 * @param workflowType フロー区分
+	 * @return ルート適用情報索引
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	@SuppressWarnings("unchecked")
+	protected ApplicationMasterIndex<RouteApplicationDtoInterface> getApplicationIndex(Date targetDate,
+			int workflowType) throws MospException {
+		// フィールドから取得
+		Object key = MospMasterCache.getKey(ApplicationMasterIndex.class.getSimpleName(), targetDate, workflowType);
+		ApplicationMasterIndex<RouteApplicationDtoInterface> index = applicationIndexMap.get(key);
+		if (index != null) {
+			return index;
+		}
+		// マスタ共有キャッシュから取得
+		Object cached = MospMasterCache.get(mospParams, PfmRouteApplicationDao.TABLE, key);
+		if (cached != MospMasterCache.MISS) {
+			index = (ApplicationMasterIndex<RouteApplicationDtoInterface>)cached;
+		} else {
+			// ルート適用情報群を取得し直して索引を生成しマスタ共有キャッシュに設定
+			long version = MospMasterCache.getVersion(mospParams, PfmRouteApplicationDao.TABLE);
+			addApplicationSet(targetDate);
+			index = new ApplicationMasterIndex<RouteApplicationDtoInterface>(
+					getApplicationSet(applicationPersonMap.get(targetDate), workflowType),
+					getApplicationSet(applicationMasterMap.get(targetDate), workflowType));
+			MospMasterCache.put(mospParams, PfmRouteApplicationDao.TABLE, key, index, version);
+		}
+		// フィールドに設定
+		applicationIndexMap.put(key, index);
+		return index;
+	}
+	
 	/**
 	 * 適用情報群をDBから取得しフィールドに設定する。<br>
 	 * <br>
@@ -239,7 +293,7 @@ public class PlatformMasterBean extends PlatformBean implements PlatformMasterBe
 		int person = Integer.parseInt(PlatformConst.APPLICATION_TYPE_PERSON);
 		int master = Integer.parseInt(PlatformConst.APPLICATION_TYPE_MASTER);
 		// 適用情報リストをDBから取得
-		List<RouteApplicationDtoInterface> list = routeApplicationDao.findForActivateDate(targetDate);
+		List<RouteApplicationDtoInterface> list = findRouteApplicationList(targetDate);
 		// 適用情報毎に処理
 		for (RouteApplicationDtoInterface dto : list) {
 			// 適用範囲区分が個人指定の場合
@@ -300,7 +354,7 @@ public class PlatformMasterBean extends PlatformBean implements PlatformMasterBe
 		// 人事情報履歴群から取得できなかった場合
 		if (list == null) {
 			// DBから取得し勤怠集計管理情報群に設定
-			list = humanDao.findForHistory(personalId);
+			list = findHumanHistory(personalId);
 			humanMap.put(personalId, list);
 		}
 		// 人事情報履歴を取得
@@ -358,7 +412,7 @@ public class PlatformMasterBean extends PlatformBean implements PlatformMasterBe
 		// 所属情報が取得できなかった場合
 		if (dto == null) {
 			// 所属情報をDBから取得
-			dto = sectionDao.findForInfo(sectionCode, targetDate);
+			dto = findSection(sectionCode, targetDate);
 			// 所属情報を所属情報群(キー：対象日)に設定
 			map.put(targetDate, dto);
 		}
@@ -407,7 +461,7 @@ public class PlatformMasterBean extends PlatformBean implements PlatformMasterBe
 		// アプリケーション設定情報が取得できなかった場合
 		if (dto == null) {
 			// アプリケーション設定情報をDBから取得
-			dto = appPropertyDao.findForKey(appKey);
+			dto = findAppProperty(appKey);
 			// システム管理情報をシステム管理情報群(キー：システム管理コード)に設定
 			appPropertyMap.put(appKey, dto);
 		}
@@ -415,4 +469,90 @@ public class PlatformMasterBean extends PlatformBean implements PlatformMasterBe
 		return dto;
 	}
 	
+	/**
+	 * ルート適用情報リストを取得する。<br>
+	 * マスタ共有キャッシュから取得できなかった場合は、DBから取得しマスタ共有キャッシュに設定する。<br>
+	 * マスタ共有キャッシュのリストは変更させないため、複製を返す。<br>
+	 * @param targetDate 対象日
+	 * @return ルート適用情報リスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	@SuppressWarnings("unchecked")
+	protected List<RouteApplicationDtoInterface> findRouteApplicationList(Date targetDate) throws MospException {
+		// マスタ共有キャッシュから取得
+		Object cached = MospMasterCache.get(mospParams, PfmRouteApplicationDao.TABLE, targetDate);
+		if (cached != MospMasterCache.MISS) {
+			return new ArrayList<RouteApplicationDtoInterface>((List<RouteApplicationDtoInterface>)cached);
+		}
+		// DBから取得しマスタ共有キャッシュに設定
+		long version = MospMasterCache.getVersion(mospParams, PfmRouteApplicationDao.TABLE);
+		List<RouteApplicationDtoInterface> list = routeApplicationDao.findForActivateDate(targetDate);
+		MospMasterCache.put(mospParams, PfmRouteApplicationDao.TABLE, targetDate, list, version);
+		return new ArrayList<RouteApplicationDtoInterface>(list);
+	}
+	
+	/**
+	 * 人事情報履歴(有効日昇順)を取得する。<br>
+	 * マスタ共有キャッシュから取得できなかった場合は、DBから取得しマスタ共有キャッシュに設定する。<br>
+	 * マスタ共有キャッシュの履歴は変更させないため、複製を返す。<br>
+	 * @param personalId 個人ID
+	 * @return 人事情報履歴(有効日昇順)
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	@SuppressWarnings("unchecked")
+	protected List<HumanDtoInterface> findHumanHistory(String personalId) throws MospException {
+		// マスタ共有キャッシュから取得
+		Object cached = MospMasterCache.get(mospParams, PfmHumanDao.TABLE, personalId);
+		if (cached != MospMasterCache.MISS) {
+			return new ArrayList<HumanDtoInterface>((List<HumanDtoInterface>)cached);
+		}
+		// DBから取得しマスタ共有キャッシュに設定
+		long version = MospMasterCache.getVersion(mospParams, PfmHumanDao.TABLE);
+		List<HumanDtoInterface> list = humanDao.findForHistory(personalId);
+		MospMasterCache.put(mospParams, PfmHumanDao.TABLE, personalId, list, version);
+		return new ArrayList<HumanDtoInterface>(list);
+	}
+	
+	/**
+	 * 所属情報を取得する。<br>
+	 * マスタ共有キャッシュから取得できなかった場合は、DBから取得しマスタ共有キャッシュに設定する。<br>
+	 * @param sectionCode 所属コード
+	 * @param targetDate  対象日
+	 * @return 所属情報
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected SectionDtoInterface findSection(String sectionCode, Date targetDate) throws MospException {
+		// マスタ共有キャッシュから取得
+		Object key = MospMasterCache.getKey(sectionCode, targetDate);
+		Object cached = MospMasterCache.get(mospParams, PfmSectionDao.TABLE, key);
+		if (cached != MospMasterCache.MISS) {
+			return (SectionDtoInterface)cached;
+		}
+		// DBから取得しマスタ共有キャッシュに設定
+		long version = MospMasterCache.getVersion(mospParams, PfmSectionDao.TABLE);
+		SectionDtoInterface dto = sectionDao.findForInfo(sectionCode, targetDate);
+		MospMasterCache.put(mospParams, PfmSectionDao.TABLE, key, dto, version);
+		return dto;
+	}
+	
+	/**
+	 * アプリケーション設定情報(DB)を取得する。<br>
+	 * マスタ共有キャッシュから取得できなかった場合は、DBから取得しマスタ共有キャッシュに設定する。<br>
+	 * @param appKey アプリケーション設定キー
+	 * @return アプリケーション設定情報
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected AppPropertyDtoInterface findAppProperty(String appKey) throws MospException {
+		// マスタ共有キャッシュから取得
+		Object cached = MospMasterCache.get(mospParams, PfmAppPropertyDao.TABLE, appKey);
+		if (cached != MospMasterCache.MISS) {
+			return (AppPropertyDtoInterface)cached;
+		}
+		// DBから取得しマスタ共有キャッシュに設定
+		long version = MospMasterCache.getVersion(mospParams, PfmAppPropertyDao.TABLE);
+		AppPropertyDtoInterface dto = appPropertyDao.findForKey(appKey);
+		MospMasterCache.put(mospParams, PfmAppPropertyDao.TABLE, appKey, dto, version);
+		return dto;
+	}
+	
 }
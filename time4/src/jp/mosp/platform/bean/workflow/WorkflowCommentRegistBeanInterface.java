@@ -53,6 +53,16 @@ public interface WorkflowCommentRegistBeanInterface {
 	 */
 	void addComment(WorkflowDtoInterface dto, String personalId, String workflowComment) throws MospException;
 	
+	/**
+	 * ワークフロー情報リストの各ワークフローに対して、コメントを一括で追加する。<br>
+	 * @param list            ワークフロー情報リスト
+	 * @param personalId      個人ID
+	 * @param workflowComment ワークフローコメント
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	void addComment(List<WorkflowDtoInterface> list, String personalId, String workflowComment)
+			throws MospException;
+	
 	/**
 	 * 削除を行う。<br>
 	 * @param list 対象DTOリスト
@@ -90,6 +90,31 @@ public interface WorkflowReferenceBeanInterface {
 	 */
 	List<WorkflowDtoInterface> getApprovableList(Set<String> functionCodeSet) throws MospException;
 	
+	/**
+	 * 承認可能ワークフロー情報リストを取得する。<br>
+	 * 機能コードセットに含まれるワークフロー情報のうち、
+	 * 承認者個人IDに対象承認者個人IDが含まれるもの、或いは
+	 * ルートコード及びワークフロー段階がルート段階群に含まれるものが抽出される。<br>
+	 * 承認者として承認可能であるかの厳密な確認は、取得後に行う必要がある。<br>
+	 * @param functionCodeSet 機能コードセット
+	 * @param approverId      承認者個人ID
+	 * @param routeStageMap   ルート段階群(キー：ルートコード、値：ワークフロー段階群)
+	 * @return 承認可能ワークフロー情報リスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	List<WorkflowDtoInterface> getApprovableList(Set<String> functionCodeSet, String approverId,
+			Map<String, Set<Integer>> routeStageMap) throws MospException;
+	
+	/**
+	 * 承認可能ワークフローのルート段階群を取得する。<br>
+	 * 承認者個人IDが設定されておらずルートによって承認者が決まるワークフローについて、
+	 * 重複無くルートコード及びワークフロー段階を取得する。<br>
+	 * @param functionCodeSet 機能コードセット
+	 * @return ルート段階群(キー：ルートコード、値：ワークフロー段階群)
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	Map<String, Set<Integer>> getApprovableRouteStageMap(Set<String> functionCodeSet) throws MospException;
+	
 	/**
 	 * 解除承認可能ワークフロー情報リストを取得する。<br>
 	 * 機能コードセットに含まれるワークフロー情報が抽出される。<br>
@@ -18,6 +18,7 @@
 package jp.mosp.platform.bean.workflow;
 
 import java.util.Date;
+import java.util.List;
 
 import jp.mosp.framework.base.MospException;
 import jp.mosp.platform.dto.workflow.WorkflowDtoInterface;
@@ -90,6 +91,22 @@ public interface WorkflowRegistBeanInterface {
 	WorkflowDtoInterface approve(WorkflowDtoInterface dto, int workflowType, String workflowComment)
 			throws MospException;
 	
+	/**
+	 * 一括承認を行う。<br>
+	 * 全てのワークフロー情報を確認した上で、
+	 * 履歴の論理削除及び追加、ワークフローコメントの追加をそれぞれ一括で行う。<br>
+	 * 確認は{@link #approve(WorkflowDtoInterface, int, String)}と同じく
+	 * ワークフロー毎に行い、最初にエラーとなった時点で終了する。<br>
+	 * 承認に失敗した場合は、nullを返す。<br>
+	 * @param list            対象DTOリスト
+	 * @param workflowType    フロー区分
+	 * @param workflowComment ワークフローコメント
+	 * @return ワークフロー情報リスト
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	List<WorkflowDtoInterface> approve(List<WorkflowDtoInterface> list, int workflowType, String workflowComment)
+			throws MospException;
+	
 	/**
 	 * 差戻を行う。<br>
 	 * @param dto             対象DTO
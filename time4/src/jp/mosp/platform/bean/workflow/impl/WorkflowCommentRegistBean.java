@@ -18,6 +18,7 @@
 package jp.mosp.platform.bean.workflow.impl;
 
 import java.sql.Connection;
+import java.util.ArrayList;
 import java.util.List;
 
 import jp.mosp.framework.base.MospException;
@@ -112,6 +113,34 @@ public class WorkflowCommentRegistBean extends PlatformBean implements WorkflowC
 		}
 	}
 	
+	@Override
+	public void addComment(List<WorkflowDtoInterface> list, String personalId, String workflowComment)
+			throws MospException {
+		// ワークフローコメントリストを準備
+		List<WorkflowCommentDtoInterface> commentList = new ArrayList<WorkflowCommentDtoInterface>();
+		for (WorkflowDtoInterface dto : list) {
+			WorkflowCommentDtoInterface commentDto = getInitDto();
+			commentDto.setPersonalId(personalId);
+			commentDto.setWorkflow(dto.getWorkflow());
+			commentDto.setWorkflowStage(dto.getWorkflowStage());
+			commentDto.setWorkflowStatus(dto.getWorkflowStatus());
+			commentDto.setWorkflowComment(workflowComment);
+			commentDto.setWorkflowDate(getSystemTimeAndSecond());
+			// DTO妥当性確認
+			validate(commentDto);
+			// 新規登録情報の検証
+			validateInsert(commentDto);
+			if (mospParams.hasErrorMessage()) {
+				return;
+			}
+			// レコード識別ID最大値をインクリメントしてDTOに設定
+			commentDto.setPftWorkflowCommentId(dao.nextRecordId());
+			commentList.add(commentDto);
+		}
+		// 一括登録処理
+		dao.batchInsert(commentList);
+	}
+	
 	@Override
 	public void deleteList(List<WorkflowCommentDtoInterface> list) throws MospException {
 		for (WorkflowCommentDtoInterface dto : list) {
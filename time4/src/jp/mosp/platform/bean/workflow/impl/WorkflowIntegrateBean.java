@@ -25,6 +25,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 
 import jp.mosp.framework.base.MospException;
@@ -463,10 +464,29 @@ public class WorkflowIntegrateBean extends PlatformBean implements WorkflowInteg
 			}
 			return stageList;
 		}
+		// ルートにおいて操作権を持つ段階のリストを取得
+		return getRouteApproverStageList(dto.getRouteCode(), personalId, routeUnitMap, approverSet, notApproverSet);
+	}
+	
+	/**
+	 * 対象ルートにおいて、対象個人IDが操作権を持つ段階のリスト取得する。<br>
+	 * システム日付におけるルートユニット情報を用いる。<br>
+	 * <br>
+	 * @param routeCode      ルートコード
+	 * @param personalId     対象個人ID
+	 * @param routeUnitMap   ルートユニットリスト群(キー：ルートコード)
+	 * @param approverSet    承認者ユニットコード群
+	 * @param notApproverSet 非承認者ユニットコード群
+	 * @return 操作権を持つ段階のリスト
+	 * @throws MospException インスタンスの取得、SQLの作成及び実行に失敗した場合
+	 */
+	protected List<Integer> getRouteApproverStageList(String routeCode, String personalId,
+			Map<String, List<ApprovalRouteUnitDtoInterface>> routeUnitMap, Set<String> approverSet,
+			Set<String> notApproverSet) throws MospException {
+		// 操作権を持つ段階のリスト準備
+		List<Integer> stageList = new ArrayList<Integer>();
 		// システム日付を取得
 		Date systemDate = getSystemDate();
-		// ルートコードを取得
-		String routeCode = dto.getRouteCode();
 		// ルートユニット情報を取得
 		List<ApprovalRouteUnitDtoInterface> routeUnitList = routeUnitMap.get(routeCode);
 		// ルートユニット情報が取得できなかった場合
@@ -813,12 +833,10 @@ public class WorkflowIntegrateBean extends PlatformBean implements WorkflowInteg
 	 */
 	public List<WorkflowDtoInterface> getApprovableList(String personalId, Set<String> functionCodeSet)
 			throws MospException {
-		// 承認可能ワークフロー情報リスト取得
-		List<WorkflowDtoInterface> approvableList = workflowReference.getApprovableList(functionCodeSet);
 		// 特権ロール確認
 		if (RoleUtility.isSuper(mospParams)) {
 			// 全ての承認可能ワークフロー情報を取得
-			return approvableList;
+			return workflowReference.getApprovableList(functionCodeSet);
 		}
 		// 対象個人IDが承認可能なワークフロー情報リストを準備
 		List<WorkflowDtoInterface> list = new ArrayList<WorkflowDtoInterface>();
@@ -828,6 +846,12 @@ public class WorkflowIntegrateBean extends PlatformBean implements WorkflowInteg
 		Set<String> approverSet = new HashSet<String>();
 		// 非承認者ユニットコード群を準備
 		Set<String> notApproverSet = new HashSet<String>();
+		// 対象個人IDが操作権を持つルート段階群を取得
+		Map<String, Set<Integer>> routeStageMap = getApproverRouteStageMap(personalId, functionCodeSet,
+				routeUnitMap, approverSet, notApproverSet);
+		// 対象個人IDが承認可能である可能性のあるワークフロー情報リストを取得
+		List<WorkflowDtoInterface> approvableList = workflowReference.getApprovableList(functionCodeSet,
+				personalId, routeStageMap);
 		// ワークフロー情報毎に処理
 		for (WorkflowDtoInterface dto : approvableList) {
 			// 承認者確認
@@ -840,6 +864,46 @@ public class WorkflowIntegrateBean extends PlatformBean implements WorkflowInteg
 		return list;
 	}
 	
+	/**
+	 * 承認可能ワークフローのうち承認者個人IDが設定されていないものについて、
+	 * 対象個人IDが操作権を持つルート段階群を取得する。<br>
+	 * <br>
+	 * 承認可能ワークフローに存在するルートコード及びワークフロー段階の組合せに対してのみ
+	 * 承認者の確認を行うため、承認可能ワークフローを全件取得して確認するよりも
+	 * 確認対象が少なくなる。<br>
+	 * 確認の際に取得したルートユニット情報等は、各引数の群に保持される。<br>
+	 * <br>
+	 * @param personalId      対象個人ID
+	 * @param functionCodeSet 対象機能コードセット
+	 * @param routeUnitMap    ルートユニットリスト群(キー：ルートコード)
+	 * @param approverSet     承認者ユニットコード群
+	 * @param notApproverSet  非承認者ユニットコード群
+	 * @return ルート段階群(キー：ルートコード、値：ワークフロー段階群)
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected Map<String, Set<Integer>> getApproverRouteStageMap(String personalId, Set<String> functionCodeSet,
+			Map<String, List<ApprovalRouteUnitDtoInterface>> routeUnitMap, Set<String> approverSet,
+			Set<String> notApproverSet) throws MospException {
+		// ルート段階群を準備
+		Map<String, Set<Integer>> routeStageMap = new HashMap<String, Set<Integer>>();
+		// 承認可能ワークフローのルート段階群を取得
+		Map<String, Set<Integer>> approvableMap = workflowReference.getApprovableRouteStageMap(functionCodeSet);
+		// ルートコード毎に処理
+		for (Entry<String, Set<Integer>> entry : approvableMap.entrySet()) {
+			// 対象ルートにおいて操作権を持つ段階のリストを取得
+			List<Integer> stageList = getRouteApproverStageList(entry.getKey(), personalId, routeUnitMap,
+					approverSet, notApproverSet);
+			// 承認可能ワークフローに存在する段階に限る
+			Set<Integer> stageSet = new HashSet<Integer>(stageList);
+			stageSet.retainAll(entry.getValue());
+			// 操作権を持つ段階が存在する場合
+			if (stageSet.isEmpty() == false) {
+				routeStageMap.put(entry.getKey(), stageSet);
+			}
+		}
+		return routeStageMap;
+	}
+	
 	/**
 	 * 解除承認可能ワークフロー情報リストを取得する。<br>
 	 * 対象個人IDが解除承認可能なものを抽出する。<br>
@@ -104,6 +104,17 @@ public class WorkflowReferenceBean extends PlatformBean implements WorkflowRefer
 		return dao.findApprovable(functionCodeSet);
 	}
 	
+	@Override
+	public List<WorkflowDtoInterface> getApprovableList(Set<String> functionCodeSet, String approverId,
+			Map<String, Set<Integer>> routeStageMap) throws MospException {
+		return dao.findApprovable(functionCodeSet, approverId, routeStageMap);
+	}
+	
+	@Override
+	public Map<String, Set<Integer>> getApprovableRouteStageMap(Set<String> functionCodeSet) throws MospException {
+		return dao.findApprovableRouteStage(functionCodeSet);
+	}
+	
 	@Override
 	public List<WorkflowDtoInterface> getCancelableList(Set<String> functionCodeSet) throws MospException {
 		return dao.findForCondition(null, null, functionCodeSet, getCancelAppliedSet());
@@ -18,11 +18,13 @@
 package jp.mosp.platform.bean.workflow.impl;
 
 import java.sql.Connection;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
 import jp.mosp.framework.base.MospException;
 import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.base.MospPersonalCache;
 import jp.mosp.framework.constant.MospConst;
 import jp.mosp.framework.utils.MospUtility;
 import jp.mosp.platform.base.PlatformBean;
@@ -298,6 +300,64 @@ public class WorkflowRegistBean extends PlatformBean implements WorkflowRegistBe
 		return approveWorkflow(dto, workflowType, workflowComment);
 	}
 	
+	@Override
+	public List<WorkflowDtoInterface> approve(List<WorkflowDtoInterface> list, int workflowType,
+			String workflowComment) throws MospException {
+		// ワークフロー毎に確認(最初のエラーで確認を終了)
+		for (WorkflowDtoInterface dto : list) {
+			// 登録情報妥当性確認
+			validate(dto);
+			// 承認の確認
+			checkApproval(dto);
+			if (mospParams.hasErrorMessage()) {
+				return null;
+			}
+			// 履歴更新情報の検証
+			checkAdd(dto);
+			if (mospParams.hasErrorMessage()) {
+				return null;
+			}
+		}
+		// 論理削除対象レコード識別IDリストを準備
+		List<Long> idList = new ArrayList<Long>();
+		for (WorkflowDtoInterface dto : list) {
+			// 対象ワークフローの段階を取得
+			int workflowStage = dto.getWorkflowStage();
+			// 最終承認確認
+			if (workflowStage == getWorkflowApprovalCount(dto)) {
+				// 完了(最終承認済)
+				dto.setWorkflowStatus(PlatformConst.CODE_STATUS_COMPLETE);
+			} else {
+				// 対象ワークフローの段階をインクリメントし状態を更新(承認済)
+				dto.setWorkflowStage(++workflowStage);
+				dto.setWorkflowStatus(PlatformConst.CODE_STATUS_APPROVED);
+			}
+			idList.add(dto.getPftWorkflowId());
+		}
+		// 一括論理削除(削除済の履歴が含まれる場合は更新件数確認で例外となる)
+		dao.batchLogicalDelete(idList);
+		// レコード識別ID最大値をインクリメントしてDTOに設定
+		for (WorkflowDtoInterface dto : list) {
+			dto.setPftWorkflowId(dao.nextRecordId());
+		}
+		// 一括登録処理
+		dao.batchInsert(list);
+		// 個人別共有キャッシュに更新を通知
+		for (WorkflowDtoInterface dto : list) {
+			MospPersonalCache.invalidate(mospParams, dto.getPersonalId());
+		}
+		// 登録ワークフローコメント準備
+		String comment = workflowComment;
+		// ワークフローコメント確認
+		if (workflowComment == null || workflowComment.isEmpty()) {
+			// デフォルト承認ワークフローコメント取得
+			comment = getDefaultApproveComment();
+		}
+		// ワークフローコメント一括設定
+		workflowCommentRegist.addComment(list, mospParams.getUser().getPersonalId(), comment);
+		return list;
+	}
+	
 	/**
 	 * 承認を行う。<br>
 	 * @param dto             対象DTO
@@ -560,6 +620,8 @@ public class WorkflowRegistBean extends PlatformBean implements WorkflowRegistBe
 		dto.setPftWorkflowId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// 個人別共有キャッシュに更新を通知
+		MospPersonalCache.invalidate(mospParams, dto.getPersonalId());
 		// ワークフロー番号を設定したDTOを取得
 		return dto;
 	}
@@ -590,6 +652,8 @@ public class WorkflowRegistBean extends PlatformBean implements WorkflowRegistBe
 		dto.setPftWorkflowId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// 個人別共有キャッシュに更新を通知
+		MospPersonalCache.invalidate(mospParams, dto.getPersonalId());
 		// ワークフロー番号を設定したDTOを取得
 		return dto;
 	}
@@ -935,6 +999,8 @@ public class WorkflowRegistBean extends PlatformBean implements WorkflowRegistBe
 	public void delete(WorkflowDtoInterface dto) throws MospException {
 		// 論理削除
 		logicalDelete(dao, dto.getPftWorkflowId());
+		// 個人別共有キャッシュに更新を通知
+		MospPersonalCache.invalidate(mospParams, dto.getPersonalId());
 	}
 	
 	@Override
@@ -155,6 +155,83 @@ public class PlatformMailConst {
 	 */
 	public static final String	APP_MAIL_SSL				= "MailSsl";
 	
+	/**
+	 * MosPアプリケーション設定キー(メールポート番号)。<br>
+	 * 設定されていない場合は、送信方式毎の既定のポート番号を用いる。<br>
+	 */
+	public static final String	APP_MAIL_PORT				= "MailPort";
+	
+	/**
+	 * MosPアプリケーション設定キー(メール送信待ち)。<br>
+	 * trueの場合、メールはメール送信待ちデータに登録した時点で送信完了とし、
+	 * 送信は送信用スレッドで行う。<br>
+	 */
+	public static final String	APP_MAIL_OUTBOX				= "MailOutbox";
+	
+	/**
+	 * MosPアプリケーション設定キー(メール送信待ち確認間隔(ミリ秒))。<br>
+	 */
+	public static final String	APP_MAIL_OUTBOX_INTERVAL	= "MailOutboxInterval";
+	
+	/**
+	 * MosPアプリケーション設定キー(メール送信待ち一括送信件数)。<br>
+	 */
+	public static final String	APP_MAIL_OUTBOX_BATCH_SIZE	= "MailOutboxBatchSize";
+	
+	/**
+	 * MosPアプリケーション設定キー(メール送信待ち1送信当たりの受信者数)。<br>
+	 */
+	public static final String	APP_MAIL_OUTBOX_RECIPIENTS	= "MailOutboxRecipients";
+	
+	/**
+	 * MosPアプリケーション設定キー(メール送信待ち再送回数)。<br>
+	 */
+	public static final String	APP_MAIL_OUTBOX_RETRY		= "MailOutboxRetry";
+	
+	/**
+	 * MosPアプリケーション設定キー(メール送信待ち再送間隔(ミリ秒))。<br>
+	 * 再送毎に倍にする。<br>
+	 */
+	public static final String	APP_MAIL_OUTBOX_BACKOFF		= "MailOutboxBackoff";
+	
+	/**
+	 * MosPアプリケーション設定キー(メール送信待ち接続維持時間(ミリ秒))。<br>
+	 * 送信対象が無い状態がこれを超えた場合、メールサーバとの接続を解除する。<br>
+	 */
+	public static final String	APP_MAIL_OUTBOX_KEEP_ALIVE	= "MailOutboxKeepAlive";
+	
+	/**
+	 * 送信サーバ区分(メール送信クラス)。<br>
+	 */
+	public static final String	SERVER_TYPE_SENDER			= "Sender";
+	
+	/**
+	 * 送信サーバ区分(メール送信(STARTTLS)処理)。<br>
+	 */
+	public static final String	SERVER_TYPE_START_TLS		= "StartTls";
+	
+	/**
+	 * 送信状況(送信待ち)。<br>
+	 */
+	public static final int		CODE_SEND_STATUS_WAIT		= 0;
+	
+	/**
+	 * 送信状況(送信済)。<br>
+	 */
+	public static final int		CODE_SEND_STATUS_DONE		= 1;
+	
+	/**
+	 * 送信状況(送信失敗)。<br>
+	 */
+	public static final int		CODE_SEND_STATUS_ERROR		= 2;
+	
+	/**
+	 * 送信状況(送信中)。<br>
+	 * 送信用スレッドが送信権を取得したもので、次回送信日時までに
+	 * 送信状況が更新されなかった場合は再び送信対象となる。<br>
+	 */
+	public static final int		CODE_SEND_STATUS_SENDING	= 3;
+	
 	/**
 	 * セパレータ(ログ出力用)。<br>
 	 */
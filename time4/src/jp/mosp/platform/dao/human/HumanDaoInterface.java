@@ -110,6 +110,18 @@ public interface HumanDaoInterface extends BaseDaoInterface {
 	 */
 	Map<String, HumanDtoInterface> findForTargetDate(Date targetDate) throws MospException;
 	
+	/**
+	 * 人事情報群(キー：個人ID)を取得する。<br>
+	 * <br>
+	 * 対象日における個人ID配列に該当する人事情報を取得する。<br>
+	 * <br>
+	 * @param targetDate  有効日
+	 * @param personalIds 個人ID配列
+	 * @return 人事情報群(キー：個人ID)
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	Map<String, HumanDtoInterface> findForPersonalIds(Date targetDate, String... personalIds) throws MospException;
+	
 	/**
 	 * 社員コード群を取得する。<br>
 	 * <br>
@@ -250,6 +250,8 @@ public class PfaHumanRetirementDao extends PlatformDao implements RetirementDaoI
 			sb.append(where());
 			sb.append(deleteFlagOff());
 			sb.append(in(COL_PERSONAL_ID, personalIds.length));
+			// 退職日順(個人IDに対して最新の退職情報が設定されるように)
+			sb.append(getOrderByColumn(COL_RETIREMENT_DATE));
 			// ステートメント生成
 			prepareStatement(sb.toString());
 			setParamsIn(personalIds);
@@ -258,6 +258,39 @@ public class PfmHumanDao extends PlatformDao implements HumanDaoInterface {
 		}
 	}
 	
+	@Override
+	public Map<String, HumanDtoInterface> findForPersonalIds(Date targetDate, String... personalIds)
+			throws MospException {
+		if (personalIds.length == 0) {
+			return new HashMap<String, HumanDtoInterface>();
+		}
+		try {
+			index = 1;
+			StringBuffer sb = new StringBuffer();
+			// SELECT部追加
+			sb.append(getSelectQuery(getClass()));
+			// WHERE部追加(対象日以前で削除されていない最新の情報を取得)
+			sb.append(getQueryForMaxActivateDate(TABLE, COL_PERSONAL_ID, COL_ACTIVATE_DATE));
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(in(COL_PERSONAL_ID, personalIds.length));
+			// ステートメント準備
+			prepareStatement(sb.toString());
+			// パラメータ設定
+			setParam(index++, targetDate);
+			setParamsIn(personalIds);
+			// SQL実行
+			executeQuery();
+			// 結果取得
+			return mappingAllMap();
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
 	@Override
 	public HumanDtoInterface findForEmployeeCode(String employeeCode, Date activateDate) throws MospException {
 		try {
@@ -0,0 +1,67 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.dao.mail;
+
+import java.util.Date;
+import java.util.List;
+
+import jp.mosp.framework.base.BaseDaoInterface;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.platform.dto.mail.MailOutboxDtoInterface;
+
+/**
+ * メール送信待ちデータDAOインターフェース
+ */
+public interface MailOutboxDaoInterface extends BaseDaoInterface {
+	
+	/**
+	 * 送信対象のメール送信待ちデータを取得する。<br>
+	 * 送信状況が送信待ち或いは送信中で次回送信日時が送信日時以前であり、
+	 * 送信サーバ区分が対象送信サーバ区分のいずれかであるものを、
+	 * 登録順(レコード識別IDの昇順)に取得件数まで取得する。<br>
+	 * 取得したデータは、{@link #claim(long, Date, Date)}で送信権を取得してから送信する。<br>
+	 * @param sendTime    送信日時
+	 * @param serverTypes 対象送信サーバ区分
+	 * @param limit       取得件数
+	 * @return メール送信待ちデータDTOリスト
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	List<MailOutboxDtoInterface> findForSend(Date sendTime, String[] serverTypes, int limit) throws MospException;
+	
+	/**
+	 * メール送信待ちデータの送信権を取得する。<br>
+	 * 送信状況が送信待ち或いは送信中で次回送信日時が送信日時以前である場合に限り、
+	 * 送信状況を送信中に、次回送信日時を送信権有効期限に更新する。<br>
+	 * 他の送信用スレッドが先に送信権を取得した場合は、更新されない。<br>
+	 * @param pftMailOutboxId レコード識別ID
+	 * @param sendTime        送信日時
+	 * @param claimLimit      送信権有効期限
+	 * @return 更新件数(1：送信権を取得した、0：送信権を取得できなかった)
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	int claim(long pftMailOutboxId, Date sendTime, Date claimLimit) throws MospException;
+	
+	/**
+	 * 送信状況を指定してメール送信待ちデータの件数を取得する。<br>
+	 * @param sendStatus 送信状況
+	 * @return 件数
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	int countForStatus(int sendStatus) throws MospException;
+	
+}
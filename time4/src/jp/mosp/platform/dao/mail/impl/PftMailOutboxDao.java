@@ -0,0 +1,279 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.dao.mail.impl;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import jp.mosp.framework.base.BaseDao;
+import jp.mosp.framework.base.BaseDto;
+import jp.mosp.framework.base.BaseDtoInterface;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.platform.constant.PlatformMailConst;
+import jp.mosp.platform.dao.mail.MailOutboxDaoInterface;
+import jp.mosp.platform.dto.mail.MailOutboxDtoInterface;
+import jp.mosp.platform.dto.mail.impl.PftMailOutboxDto;
+
+/**
+ * メール送信待ちデータDAOクラス。
+ */
+public class PftMailOutboxDao extends BaseDao implements MailOutboxDaoInterface {
+	
+	/**
+	 * メール送信待ちデータ。
+	 */
+	public static final String	TABLE					= "pft_mail_outbox";
+	
+	/**
+	 * レコード識別ID。
+	 */
+	public static final String	COL_PFT_MAIL_OUTBOX_ID	= "pft_mail_outbox_id";
+	
+	/**
+	 * 送信サーバ区分。
+	 */
+	public static final String	COL_SERVER_TYPE			= "server_type";
+	
+	/**
+	 * 受信者メールアドレス。
+	 */
+	public static final String	COL_RECIPIENTS			= "recipients";
+	
+	/**
+	 * メール題目。
+	 */
+	public static final String	COL_SUBJECT				= "subject";
+	
+	/**
+	 * メッセージ。
+	 */
+	public static final String	COL_MESSAGE				= "message";
+	
+	/**
+	 * 送信状況。
+	 */
+	public static final String	COL_SEND_STATUS			= "send_status";
+	
+	/**
+	 * 再送回数。
+	 */
+	public static final String	COL_RETRY_COUNT			= "retry_count";
+	
+	/**
+	 * 次回送信日時。
+	 */
+	public static final String	COL_NEXT_SEND_TIME		= "next_send_time";
+	
+	/**
+	 * エラーメッセージ。
+	 */
+	public static final String	COL_ERROR_MESSAGE		= "error_message";
+	
+	/**
+	 * 送信済受信者数。
+	 */
+	public static final String	COL_SENT_COUNT			= "sent_count";
+	
+	/**
+	 * キー。
+	 */
+	public static final String	KEY_1					= COL_PFT_MAIL_OUTBOX_ID;
+	
+	
+	/**
+	 * コンストラクタ。
+	 */
+	public PftMailOutboxDao() {
+		// 処理無し
+	}
+	
+	@Override
+	public void initDao() {
+		// 処理無し
+	}
+	
+	@Override
+	public BaseDto mapping() throws MospException {
+		PftMailOutboxDto dto = new PftMailOutboxDto();
+		dto.setPftMailOutboxId(getLong(COL_PFT_MAIL_OUTBOX_ID));
+		dto.setServerType(getString(COL_SERVER_TYPE));
+		dto.setRecipients(getString(COL_RECIPIENTS));
+		dto.setSubject(getString(COL_SUBJECT));
+		dto.setMessage(getString(COL_MESSAGE));
+		dto.setSendStatus(getInt(COL_SEND_STATUS));
+		dto.setRetryCount(getInt(COL_RETRY_COUNT));
+		dto.setNextSendTime(getTimestamp(COL_NEXT_SEND_TIME));
+		dto.setErrorMessage(getString(COL_ERROR_MESSAGE));
+		dto.setSentCount(getInt(COL_SENT_COUNT));
+		mappingCommonInfo(dto);
+		return dto;
+	}
+	
+	@Override
+	public List<MailOutboxDtoInterface> mappingAll() throws MospException {
+		List<MailOutboxDtoInterface> list = new ArrayList<MailOutboxDtoInterface>();
+		while (next()) {
+			list.add((MailOutboxDtoInterface)mapping());
+		}
+		return list;
+	}
+	
+	@Override
+	public List<MailOutboxDtoInterface> findForSend(Date sendTime, String[] serverTypes, int limit)
+			throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(in(COL_SEND_STATUS, 2));
+			sb.append(and());
+			sb.append(lessEqual(COL_NEXT_SEND_TIME));
+			sb.append(in(COL_SERVER_TYPE, serverTypes.length));
+			sb.append(getOrderByColumn(COL_PFT_MAIL_OUTBOX_ID));
+			sb.append(getLimit() + "? ");
+			prepareStatement(sb.toString());
+			setParam(index++, PlatformMailConst.CODE_SEND_STATUS_WAIT);
+			setParam(index++, PlatformMailConst.CODE_SEND_STATUS_SENDING);
+			setParam(index++, sendTime, true);
+			for (String serverType : serverTypes) {
+				setParam(index++, serverType);
+			}
+			setParam(index++, limit);
+			executeQuery();
+			return mappingAll();
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public int claim(long pftMailOutboxId, Date sendTime, Date claimLimit) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = new StringBuffer();
+			sb.append("UPDATE ");
+			sb.append(TABLE);
+			sb.append(" SET ");
+			sb.append(equal(COL_SEND_STATUS));
+			sb.append(comma());
+			sb.append(equal(COL_NEXT_SEND_TIME));
+			sb.append(where());
+			sb.append(equal(COL_PFT_MAIL_OUTBOX_ID));
+			sb.append(in(COL_SEND_STATUS, 2));
+			sb.append(and());
+			sb.append(lessEqual(COL_NEXT_SEND_TIME));
+			prepareStatement(sb.toString());
+			setParam(index++, PlatformMailConst.CODE_SEND_STATUS_SENDING);
+			setParam(index++, claimLimit, true);
+			setParam(index++, pftMailOutboxId);
+			setParam(index++, PlatformMailConst.CODE_SEND_STATUS_WAIT);
+			setParam(index++, PlatformMailConst.CODE_SEND_STATUS_SENDING);
+			setParam(index++, sendTime, true);
+			executeUpdate();
+			return cnt;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public int countForStatus(int sendStatus) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = new StringBuffer(getSelectCountQuery(getClass()));
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(and());
+			sb.append(equal(COL_SEND_STATUS));
+			prepareStatement(sb.toString());
+			setParam(index++, sendStatus);
+			executeQuery();
+			int count = 0;
+			if (next()) {
+				count = rs.getInt(1);
+			}
+			return count;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public int update(BaseDtoInterface baseDto) throws MospException {
+		try {
+			index = 1;
+			prepareStatement(getUpdateQuery(getClass()));
+			setParams(baseDto, false);
+			MailOutboxDtoInterface dto = (MailOutboxDtoInterface)baseDto;
+			setParam(index++, dto.getPftMailOutboxId());
+			executeUpdate();
+			chkUpdate(1);
+			return cnt;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public int delete(BaseDtoInterface baseDto) throws MospException {
+		try {
+			index = 1;
+			prepareStatement(getDeleteQuery(getClass()));
+			MailOutboxDtoInterface dto = (MailOutboxDtoInterface)baseDto;
+			setParam(index++, dto.getPftMailOutboxId());
+			executeUpdate();
+			chkDelete(1);
+			return cnt;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public void setParams(BaseDtoInterface baseDto, boolean isInsert) throws MospException {
+		MailOutboxDtoInterface dto = (MailOutboxDtoInterface)baseDto;
+		setParam(index++, dto.getPftMailOutboxId());
+		setParam(index++, dto.getServerType());
+		setParam(index++, dto.getRecipients());
+		setParam(index++, dto.getSubject());
+		setParam(index++, dto.getMessage());
+		setParam(index++, dto.getSendStatus());
+		setParam(index++, dto.getRetryCount());
+		setParam(index++, dto.getNextSendTime(), true);
+		setParam(index++, dto.getErrorMessage());
+		setParam(index++, dto.getSentCount());
+		setCommonParams(baseDto, isInsert);
+	}
+	
+}
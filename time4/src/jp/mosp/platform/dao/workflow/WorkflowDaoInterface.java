@@ -140,6 +140,41 @@ public interface WorkflowDaoInterface extends BaseDaoInterface {
 	 */
 	List<WorkflowDtoInterface> findApprovable(Set<String> functionCodeSet) throws MospException;
 	
+	/**
+	 * 承認可能ワークフロー情報リストを取得する。<br>
+	 * 承認可能の条件は、{@link #findApprovable(Set)}と同様である。<br>
+	 * <br>
+	 * 更に、次の何れかに当てはまるワークフローに絞り込む。<br>
+	 * <ul><li>
+	 * 承認者個人IDに対象承認者個人IDが含まれる
+	 * </li><li>
+	 * 承認者個人IDが設定されておらず、ルートコード及びワークフロー段階が
+	 * ルート段階群(キー：ルートコード、値：ワークフロー段階群)に含まれる
+	 * </li></ul>
+	 * <br>
+	 * 承認者として承認可能であるかの厳密な確認は、取得後に行う必要がある。<br>
+	 * <br>
+	 * @param functionCodeSet 機能コードセット
+	 * @param approverId      承認者個人ID
+	 * @param routeStageMap   ルート段階群
+	 * @return 未承認ワークフロー情報リスト
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	List<WorkflowDtoInterface> findApprovable(Set<String> functionCodeSet, String approverId,
+			Map<String, Set<Integer>> routeStageMap) throws MospException;
+	
+	/**
+	 * 承認可能ワークフローのルート段階群を取得する。<br>
+	 * 承認可能の条件は、{@link #findApprovable(Set)}と同様である。<br>
+	 * 承認者個人IDが設定されておらずルートによって承認者が決まるワークフローについて、
+	 * 重複無くルートコード及びワークフロー段階を取得する。<br>
+	 * <br>
+	 * @param functionCodeSet 機能コードセット
+	 * @return ルート段階群(キー：ルートコード、値：ワークフロー段階群)
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	Map<String, Set<Integer>> findApprovableRouteStage(Set<String> functionCodeSet) throws MospException;
+	
 	/**
 	 * 承認可能ワークフロー情報リストを取得する。<br>
 	 * 機能コードセットに含まれるワークフロー情報が抽出される。<br>
@@ -211,6 +246,19 @@ public interface WorkflowDaoInterface extends BaseDaoInterface {
 	Map<Long, WorkflowDtoInterface> findForCondition(String personalId, Date fromDate, Date toDate)
 			throws MospException;
 	
+	/**
+	 * 個人ID毎のワークフロー情報群を取得する。<br>
+	 * 個人ID配列と期間で、検索を行う。<br>
+	 * 個人IDに該当する情報が存在しない場合、マップにその個人IDは含まれない。<br>
+	 * @param personalIds      申請者個人ID配列
+	 * @param fromDate         期間自
+	 * @param toDate           期間至
+	 * @return 有効ワークフロー情報群(キー：個人ID)
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	Map<String, Map<Long, WorkflowDtoInterface>> findForPersonalIds(String[] personalIds, Date fromDate, Date toDate)
+			throws MospException;
+	
 	/**
 	 * ワークフロー情報リストを取得する。<br>
 	 * 設定された条件で、検索を行う。<br>
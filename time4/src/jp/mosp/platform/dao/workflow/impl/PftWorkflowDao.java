@@ -20,8 +20,10 @@ package jp.mosp.platform.dao.workflow.impl;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 
 import jp.mosp.framework.base.BaseDto;
@@ -389,33 +391,62 @@ public class PftWorkflowDao extends PlatformDao implements WorkflowDaoInterface
 			StringBuffer sb = getSelectQuery(getClass());
 			sb.append(where());
 			sb.append(deleteFlagOff());
-			// 機能コードによる条件を設定
-			sb.append(getQueryForSet(COL_FUNCTION_CODE, functionCodeSet));
-			// ワークロー状況及び段階による条件を設定
+			// 機能コード、ワークロー状況及び段階による条件を設定
+			sb.append(getQueryForApprovable(functionCodeSet));
+			// ステートメント生成
+			prepareStatement(sb.toString());
+			// 機能コード、ワークロー状況及び段階による条件のパラメータを設定
+			setParamsForApprovable(functionCodeSet);
+			// SQL実行
+			executeQuery();
+			// 検索結果取得
+			return mappingAll();
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public List<WorkflowDtoInterface> findApprovable(Set<String> functionCodeSet, String approverId,
+			Map<String, Set<Integer>> routeStageMap) throws MospException {
+		try {
+			index = 1;
+			// SQL作成準備
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			// 機能コード、ワークロー状況及び段階による条件を設定
+			sb.append(getQueryForApprovable(functionCodeSet));
+			// 承認者個人ID或いはルート及び段階による条件を設定
 			sb.append(and());
 			sb.append(leftParenthesis());
-			sb.append(equal(COL_WORKFLOW_STATUS));
-			sb.append(or());
-			sb.append(equal(COL_WORKFLOW_STATUS));
-			sb.append(or());
-			sb.append(equal(COL_WORKFLOW_STATUS));
-			sb.append(or());
-			sb.append(leftParenthesis());
-			sb.append(equal(COL_WORKFLOW_STATUS));
-			sb.append(and());
-			sb.append(notEqual(COL_WORKFLOW_STAGE));
-			sb.append(rightParenthesis());
+			sb.append(like(COL_APPROVER_ID));
+			for (Entry<String, Set<Integer>> entry : routeStageMap.entrySet()) {
+				sb.append(or());
+				sb.append(leftParenthesis());
+				sb.append(equal(COL_APPROVER_ID));
+				sb.append(and());
+				sb.append(equal(COL_ROUTE_CODE));
+				sb.append(in(COL_WORKFLOW_STAGE, entry.getValue().size()));
+				sb.append(rightParenthesis());
+			}
 			sb.append(rightParenthesis());
 			// ステートメント生成
 			prepareStatement(sb.toString());
-			// 機能コードによる条件のパラメータを設定
-			setParamsForSet(functionCodeSet);
-			// 検索条件パラメータ設定
-			setParam(index++, PlatformConst.CODE_STATUS_APPLY);
-			setParam(index++, PlatformConst.CODE_STATUS_APPROVED);
-			setParam(index++, PlatformConst.CODE_STATUS_CANCEL);
-			setParam(index++, PlatformConst.CODE_STATUS_REVERT);
-			setParam(index++, PlatformConst.WORKFLOW_STAGE_ZERO);
+			// 機能コード、ワークロー状況及び段階による条件のパラメータを設定
+			setParamsForApprovable(functionCodeSet);
+			// 承認者個人ID或いはルート及び段階による条件のパラメータを設定
+			setParam(index++, containsParam(approverId));
+			for (Entry<String, Set<Integer>> entry : routeStageMap.entrySet()) {
+				setParam(index++, "");
+				setParam(index++, entry.getKey());
+				for (Integer stage : entry.getValue()) {
+					setParam(index++, stage.intValue());
+				}
+			}
 			// SQL実行
 			executeQuery();
 			// 検索結果取得
@@ -428,6 +459,91 @@ public class PftWorkflowDao extends PlatformDao implements WorkflowDaoInterface
 		}
 	}
 	
+	@Override
+	public Map<String, Set<Integer>> findApprovableRouteStage(Set<String> functionCodeSet) throws MospException {
+		try {
+			index = 1;
+			// SQL作成準備
+			StringBuffer sb = getSelectDistinctQuery(TABLE, COL_ROUTE_CODE + comma() + COL_WORKFLOW_STAGE);
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			// 機能コード、ワークロー状況及び段階による条件を設定
+			sb.append(getQueryForApprovable(functionCodeSet));
+			// 承認者個人IDが設定されていないものに限る
+			sb.append(and());
+			sb.append(equal(COL_APPROVER_ID));
+			// ステートメント生成
+			prepareStatement(sb.toString());
+			// 機能コード、ワークロー状況及び段階による条件のパラメータを設定
+			setParamsForApprovable(functionCodeSet);
+			setParam(index++, "");
+			// SQL実行
+			executeQuery();
+			// 検索結果取得(ルートコード毎)
+			Map<String, Set<Integer>> map = new HashMap<String, Set<Integer>>();
+			while (next()) {
+				String routeCode = getString(COL_ROUTE_CODE);
+				Set<Integer> stageSet = map.get(routeCode);
+				if (stageSet == null) {
+					stageSet = new HashSet<Integer>();
+					map.put(routeCode, stageSet);
+				}
+				stageSet.add(getInt(COL_WORKFLOW_STAGE));
+			}
+			return map;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	/**
+	 * 承認可能ワークフローの検索条件SQLを取得する。<br>
+	 * 機能コード、ワークロー状況及び段階による条件を作成する。<br>
+	 * {@link #setParamsForApprovable(Set)}と併せて用いる。<br>
+	 * @param functionCodeSet 機能コードセット
+	 * @return 検索条件SQL
+	 */
+	protected String getQueryForApprovable(Set<String> functionCodeSet) {
+		StringBuffer sb = new StringBuffer();
+		// 機能コードによる条件を設定
+		sb.append(getQueryForSet(COL_FUNCTION_CODE, functionCodeSet));
+		// ワークロー状況及び段階による条件を設定
+		sb.append(and());
+		sb.append(leftParenthesis());
+		sb.append(equal(COL_WORKFLOW_STATUS));
+		sb.append(or());
+		sb.append(equal(COL_WORKFLOW_STATUS));
+		sb.append(or());
+		sb.append(equal(COL_WORKFLOW_STATUS));
+		sb.append(or());
+		sb.append(leftParenthesis());
+		sb.append(equal(COL_WORKFLOW_STATUS));
+		sb.append(and());
+		sb.append(notEqual(COL_WORKFLOW_STAGE));
+		sb.append(rightParenthesis());
+		sb.append(rightParenthesis());
+		return sb.toString();
+	}
+	
+	/**
+	 * 承認可能ワークフローの検索条件のパラメータを設定する。<br>
+	 * @param functionCodeSet 機能コードセット
+	 * @throws MospException 検索条件パラメータの設定に失敗した場合
+	 */
+	protected void setParamsForApprovable(Set<String> functionCodeSet) throws MospException {
+		// 機能コードによる条件のパラメータを設定
+		setParamsForSet(functionCodeSet);
+		// 検索条件パラメータ設定
+		setParam(index++, PlatformConst.CODE_STATUS_APPLY);
+		setParam(index++, PlatformConst.CODE_STATUS_APPROVED);
+		setParam(index++, PlatformConst.CODE_STATUS_CANCEL);
+		setParam(index++, PlatformConst.CODE_STATUS_REVERT);
+		setParam(index++, PlatformConst.WORKFLOW_STAGE_ZERO);
+	}
+	
 	@Override
 	public List<WorkflowDtoInterface> findApprovable(Date fromDate, Date toDate) throws MospException {
 		try {
@@ -716,6 +832,49 @@ public class PftWorkflowDao extends PlatformDao implements WorkflowDaoInterface
 		}
 	}
 	
+	@Override
+	public Map<String, Map<Long, WorkflowDtoInterface>> findForPersonalIds(String[] personalIds, Date fromDate,
+			Date toDate) throws MospException {
+		try {
+			index = 1;
+			// SQL作成準備
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(in(COL_PERSONAL_ID, personalIds.length));
+			// ワークフロー対象日による条件を設定
+			sb.append(and());
+			sb.append(greaterEqual(COL_WORKFLOW_DATE));
+			sb.append(and());
+			sb.append(lessEqual(COL_WORKFLOW_DATE));
+			// ステートメント生成
+			prepareStatement(sb.toString());
+			setParamsIn(personalIds);
+			// 検索条件パラメータ設定
+			setParam(index++, fromDate, false);
+			setParam(index++, toDate, false);
+			// SQL実行
+			executeQuery();
+			// 検索結果取得(個人ID毎)
+			Map<String, Map<Long, WorkflowDtoInterface>> map = new HashMap<String, Map<Long, WorkflowDtoInterface>>();
+			while (next()) {
+				WorkflowDtoInterface dto = castDto(mapping());
+				Map<Long, WorkflowDtoInterface> personalMap = map.get(dto.getPersonalId());
+				if (personalMap == null) {
+					personalMap = new HashMap<Long, WorkflowDtoInterface>();
+					map.put(dto.getPersonalId(), personalMap);
+				}
+				personalMap.put(dto.getWorkflow(), dto);
+			}
+			return map;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
 	@Override
 	public Map<Long, WorkflowDtoInterface> findForPersonAndDay(String personalId, Date workflowDate)
 			throws MospException {
@@ -0,0 +1,129 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.dto.mail;
+
+import java.util.Date;
+
+import jp.mosp.framework.base.BaseDtoInterface;
+
+/**
+ * メール送信待ちデータDTOインターフェース
+ */
+public interface MailOutboxDtoInterface extends BaseDtoInterface {
+	
+	/**
+	 * @return レコード識別ID。
+	 */
+	long getPftMailOutboxId();
+	
+	/**
+	 * @return 送信サーバ区分。
+	 */
+	String getServerType();
+	
+	/**
+	 * @return 受信者メールアドレス。
+	 */
+	String getRecipients();
+	
+	/**
+	 * @return メール題目。
+	 */
+	String getSubject();
+	
+	/**
+	 * @return メッセージ。
+	 */
+	String getMessage();
+	
+	/**
+	 * @return 送信状況。
+	 */
+	int getSendStatus();
+	
+	/**
+	 * @return 再送回数。
+	 */
+	int getRetryCount();
+	
+	/**
+	 * @return 次回送信日時。
+	 */
+	Date getNextSendTime();
+	
+	/**
+	 * @return エラーメッセージ。
+	 */
+	String getErrorMessage();
+	
+	/**
+	 * @return 送信済受信者数。
+	 */
+	int getSentCount();
+	
+	/**
+	 * @param pftMailOutboxId セットする レコード識別ID。
+	 */
+	void setPftMailOutboxId(long pftMailOutboxId);
+	
+	/**
+	 * @param serverType セットする 送信サーバ区分。
+	 */
+	void setServerType(String serverType);
+	
+	/**
+	 * @param recipients セットする 受信者メールアドレス。
+	 */
+	void setRecipients(String recipients);
+	
+	/**
+	 * @param subject セットする メール題目。
+	 */
+	void setSubject(String subject);
+	
+	/**
+	 * @param message セットする メッセージ。
+	 */
+	void setMessage(String message);
+	
+	/**
+	 * @param sendStatus セットする 送信状況。
+	 */
+	void setSendStatus(int sendStatus);
+	
+	/**
+	 * @param retryCount セットする 再送回数。
+	 */
+	void setRetryCount(int retryCount);
+	
+	/**
+	 * @param nextSendTime セットする 次回送信日時。
+	 */
+	void setNextSendTime(Date nextSendTime);
+	
+	/**
+	 * @param errorMessage セットする エラーメッセージ。
+	 */
+	void setErrorMessage(String errorMessage);
+	
+	/**
+	 * @param sentCount セットする 送信済受信者数。
+	 */
+	void setSentCount(int sentCount);
+	
+}
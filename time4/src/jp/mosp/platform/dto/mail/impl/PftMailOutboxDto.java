@@ -0,0 +1,174 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.dto.mail.impl;
+
+import java.util.Date;
+
+import jp.mosp.framework.base.BaseDto;
+import jp.mosp.platform.dto.mail.MailOutboxDtoInterface;
+
+/**
+ * メール送信待ちデータDTO
+ */
+public class PftMailOutboxDto extends BaseDto implements MailOutboxDtoInterface {
+	
+	private static final long	serialVersionUID	= -6081342271530918457L;
+	
+	/**
+	 * レコード識別ID。
+	 */
+	private long				pftMailOutboxId;
+	/**
+	 * 送信サーバ区分。
+	 */
+	private String				serverType;
+	/**
+	 * 受信者メールアドレス。
+	 */
+	private String				recipients;
+	/**
+	 * メール題目。
+	 */
+	private String				subject;
+	/**
+	 * メッセージ。
+	 */
+	private String				message;
+	/**
+	 * 送信状況。
+	 */
+	private int					sendStatus;
+	/**
+	 * 再送回数。
+	 */
+	private int					retryCount;
+	/**
+	 * 次回送信日時。
+	 */
+	private Date				nextSendTime;
+	/**
+	 * エラーメッセージ。
+	 */
+	private String				errorMessage;
+	/**
+	 * 送信済受信者数。
+	 */
+	private int					sentCount;
+	
+	
+	@Override
+	public long getPftMailOutboxId() {
+		return pftMailOutboxId;
+	}
+	
+	@Override
+	public String getServerType() {
+		return serverType;
+	}
+	
+	@Override
+	public String getRecipients() {
+		return recipients;
+	}
+	
+	@Override
+	public String getSubject() {
+		return subject;
+	}
+	
+	@Override
+	public String getMessage() {
+		return message;
+	}
+	
+	@Override
+	public int getSendStatus() {
+		return sendStatus;
+	}
+	
+	@Override
+	public int getRetryCount() {
+		return retryCount;
+	}
+	
+	@Override
+	public Date getNextSendTime() {
+		return getDateClone(nextSendTime);
+	}
+	
+	@Override
+	public String getErrorMessage() {
+		return errorMessage;
+	}
+	
+	@Override
+	public int getSentCount() {
+		return sentCount;
+	}
+	
+	@Override
+	public void setPftMailOutboxId(long pftMailOutboxId) {
+		this.pftMailOutboxId = pftMailOutboxId;
+	}
+	
+	@Override
+	public void setServerType(String serverType) {
+		this.serverType = serverType;
+	}
+	
+	@Override
+	public void setRecipients(String recipients) {
+		this.recipients = recipients;
+	}
+	
+	@Override
+	public void setSubject(String subject) {
+		this.subject = subject;
+	}
+	
+	@Override
+	public void setMessage(String message) {
+		this.message = message;
+	}
+	
+	@Override
+	public void setSendStatus(int sendStatus) {
+		this.sendStatus = sendStatus;
+	}
+	
+	@Override
+	public void setRetryCount(int retryCount) {
+		this.retryCount = retryCount;
+	}
+	
+	@Override
+	public void setNextSendTime(Date nextSendTime) {
+		this.nextSendTime = getDateClone(nextSendTime);
+	}
+	
+	@Override
+	public void setErrorMessage(String errorMessage) {
+		this.errorMessage = errorMessage;
+	}
+	
+	@Override
+	public void setSentCount(int sentCount) {
+		this.sentCount = sentCount;
+	}
+	
+}
@@ -223,8 +223,6 @@ public class HumanListAction extends PlatformHumanAction {
 			mospParams.addErrorMessage(PlatformMessageConst.MSG_EFFECTIVE_DAY);
 			return;
 		}
-		// 検索クラス取得
-		HumanSearchBeanInterface humanSearch = reference().humanSearch();
 		// 検索条件確認
 		checkSearchCondition(vo.getTxtEmployeeCode(), vo.getTxtLastName(), vo.getPltWorkPlaceAbbr(),
 				vo.getPltEmploymentName(), vo.getPltSectionAbbr(), vo.getPltPositionName(), vo.getPltState(),
@@ -232,33 +230,27 @@ public class HumanListAction extends PlatformHumanAction {
 		if (mospParams.hasErrorMessage()) {
 			return;
 		}
-		// 検索条件設定
-		humanSearch.setTargetDate(getActivateDate());
-		humanSearch.setEmployeeCode(vo.getTxtEmployeeCode());
-		humanSearch.setLastName(vo.getTxtLastName());
-		humanSearch.setWorkPlaceCode(vo.getPltWorkPlaceAbbr());
-		humanSearch.setSectionCode(vo.getPltSectionAbbr());
-		humanSearch.setPositionCode(vo.getPltPositionName());
-		humanSearch.setEmploymentContractCode(vo.getPltEmploymentName());
-		humanSearch.setFirstName(vo.getTxtFirstName());
-		humanSearch.setLastKana(vo.getTxtLastKana());
-		humanSearch.setLastKanaType(vo.getPltLastKana());
-		humanSearch.setFirstKana(vo.getTxtFirstKana());
-		humanSearch.setStateType(vo.getPltState());
-		humanSearch.setInformationType(vo.getPltInfoType());
-		humanSearch.setSearchWord(vo.getTxtSearchWord());
-		humanSearch.setEmployeeCodeType(vo.getPltEmployeeCode());
-		humanSearch.setFirstKanaType(vo.getPltFirstKana());
-		humanSearch.setFirstNameType(vo.getPltFirstName());
-		humanSearch.setLastNameType(vo.getPltLastName());
-		// 検索条件設定(下位所属要否)
-		humanSearch.setNeedLowerSection(true);
-		// 検索条件設定(兼務要否)
-		humanSearch.setNeedConcurrent(true);
-		// 検索条件設定(操作区分)
-		humanSearch.setOperationType(MospConst.OPERATION_TYPE_REFER);
+		// 検索条件をVOに設定
+		vo.setSearchActivateDate(getActivateDate());
+		vo.setSearchEmployeeCode(vo.getTxtEmployeeCode());
+		vo.setSearchEmployeeCodeType(vo.getPltEmployeeCode());
+		vo.setSearchLastName(vo.getTxtLastName());
+		vo.setSearchLastNameType(vo.getPltLastName());
+		vo.setSearchFirstName(vo.getTxtFirstName());
+		vo.setSearchFirstNameType(vo.getPltFirstName());
+		vo.setSearchLastKana(vo.getTxtLastKana());
+		vo.setSearchLastKanaType(vo.getPltLastKana());
+		vo.setSearchFirstKana(vo.getTxtFirstKana());
+		vo.setSearchFirstKanaType(vo.getPltFirstKana());
+		vo.setSearchWorkPlaceCode(vo.getPltWorkPlaceAbbr());
+		vo.setSearchSectionCode(vo.getPltSectionAbbr());
+		vo.setSearchPositionCode(vo.getPltPositionName());
+		vo.setSearchEmploymentContractCode(vo.getPltEmploymentName());
+		vo.setSearchStateType(vo.getPltState());
+		vo.setSearchInformationType(vo.getPltInfoType());
+		vo.setSearchWord(vo.getTxtSearchWord());
 		// 検索
-		List<HumanListDtoInterface> list = humanSearch.getHumanList();
+		List<HumanListDtoInterface> list = searchForPaging();
 		// 検索結果設定
 		vo.setList(list);
 		// ソートキー及びソート順設定
@@ -276,6 +268,84 @@ public class HumanListAction extends PlatformHumanAction {
 		vo.setActivateDate(getActivateDate());
 	}
 	
+	/**
+	 * VOに設定されている検索条件で、人事一覧情報を検索する。<br>
+	 * @return 人事一覧情報リスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	@Override
+	protected List<HumanListDtoInterface> searchForPaging() throws MospException {
+		// VO準備
+		HumanListVo vo = (HumanListVo)mospParams.getVo();
+		// 検索クラス取得
+		HumanSearchBeanInterface humanSearch = reference().humanSearch();
+		// 検索条件設定
+		humanSearch.setTargetDate(vo.getSearchActivateDate());
+		humanSearch.setEmployeeCode(vo.getSearchEmployeeCode());
+		humanSearch.setLastName(vo.getSearchLastName());
+		humanSearch.setWorkPlaceCode(vo.getSearchWorkPlaceCode());
+		humanSearch.setSectionCode(vo.getSearchSectionCode());
+		humanSearch.setPositionCode(vo.getSearchPositionCode());
+		humanSearch.setEmploymentContractCode(vo.getSearchEmploymentContractCode());
+		humanSearch.setFirstName(vo.getSearchFirstName());
+		humanSearch.setLastKana(vo.getSearchLastKana());
+		humanSearch.setLastKanaType(vo.getSearchLastKanaType());
+		humanSearch.setFirstKana(vo.getSearchFirstKana());
+		humanSearch.setStateType(vo.getSearchStateType());
+		humanSearch.setInformationType(vo.getSearchInformationType());
+		humanSearch.setSearchWord(vo.getSearchWord());
+		humanSearch.setEmployeeCodeType(vo.getSearchEmployeeCodeType());
+		humanSearch.setFirstKanaType(vo.getSearchFirstKanaType());
+		humanSearch.setFirstNameType(vo.getSearchFirstNameType());
+		humanSearch.setLastNameType(vo.getSearchLastNameType());
+		// 検索条件設定(下位所属要否)
+		humanSearch.setNeedLowerSection(true);
+		// 検索条件設定(兼務要否)
+		humanSearch.setNeedConcurrent(true);
+		// 検索条件設定(操作区分)
+		humanSearch.setOperationType(MospConst.OPERATION_TYPE_REFER);
+		// 検索
+		return humanSearch.getHumanList();
+	}
+	
+	/**
+	 * 人事一覧情報リストから、個人IDリストを取得する。<br>
+	 * @param list ソート済の人事一覧情報リスト
+	 * @return 個人IDリスト
+	 */
+	@Override
+	protected List<String> getPagingKeyList(List<? extends BaseDtoInterface> list) {
+		List<String> keyList = new ArrayList<String>();
+		for (BaseDtoInterface dto : list) {
+			keyList.add(((HumanListDtoInterface)dto).getPersonalId());
+		}
+		return keyList;
+	}
+	
+	/**
+	 * 検索を行った際の有効日で、選択ページ分の人事一覧情報を取得する。<br>
+	 * @param keyList 選択ページ分の個人IDリスト
+	 * @return 選択ページ分の人事一覧情報リスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	@Override
+	protected List<HumanListDtoInterface> searchForPaging(List<String> keyList) throws MospException {
+		// VO準備
+		HumanListVo vo = (HumanListVo)mospParams.getVo();
+		// 検索クラス取得
+		HumanSearchBeanInterface humanSearch = reference().humanSearch();
+		// 検索条件設定
+		humanSearch.setTargetDate(vo.getSearchActivateDate());
+		// 個人IDで取得
+		return humanSearch.getHumanList(keyList.toArray(new String[keyList.size()]));
+	}
+	
+	@Override
+	protected boolean isServerPaging() {
+		// 設定ファイルからサーバ側頁繰り要否を取得
+		return mospParams.getApplicationPropertyBool(APP_SERVER_PAGING);
+	}
+	
 	/**
 	 * ソート処理を行う。<br>
 	 * @throws MospException VO、或いは比較クラスの取得に失敗した場合
@@ -74,6 +74,98 @@ public class HumanListVo extends PlatformVo {
 	 */
 	private Date				activateDate;
 	
+	/**
+	 * 検索条件(有効日)。<br>
+	 * 検索を行った際の条件を保持し、頁繰りの際の再検索に用いる。<br>
+	 * 画面の入力値は頁繰りの際に変更されている可能性があるため、これとは別に保持する。<br>
+	 */
+	private Date				searchActivateDate;
+	
+	/**
+	 * 検索条件(社員コード)。<br>
+	 */
+	private String				searchEmployeeCode;
+	
+	/**
+	 * 検索条件(社員コード検索区分)。<br>
+	 */
+	private String				searchEmployeeCodeType;
+	
+	/**
+	 * 検索条件(姓)。<br>
+	 */
+	private String				searchLastName;
+	
+	/**
+	 * 検索条件(姓検索区分)。<br>
+	 */
+	private String				searchLastNameType;
+	
+	/**
+	 * 検索条件(名)。<br>
+	 */
+	private String				searchFirstName;
+	
+	/**
+	 * 検索条件(名検索区分)。<br>
+	 */
+	private String				searchFirstNameType;
+	
+	/**
+	 * 検索条件(カナ姓)。<br>
+	 */
+	private String				searchLastKana;
+	
+	/**
+	 * 検索条件(カナ姓検索区分)。<br>
+	 */
+	private String				searchLastKanaType;
+	
+	/**
+	 * 検索条件(カナ名)。<br>
+	 */
+	private String				searchFirstKana;
+	
+	/**
+	 * 検索条件(カナ名検索区分)。<br>
+	 */
+	private String				searchFirstKanaType;
+	
+	/**
+	 * 検索条件(勤務地コード)。<br>
+	 */
+	private String				searchWorkPlaceCode;
+	
+	/**
+	 * 検索条件(所属コード)。<br>
+	 */
+	private String				searchSectionCode;
+	
+	/**
+	 * 検索条件(職位コード)。<br>
+	 */
+	private String				searchPositionCode;
+	
+	/**
+	 * 検索条件(雇用契約コード)。<br>
+	 */
+	private String				searchEmploymentContractCode;
+	
+	/**
+	 * 検索条件(休退職区分)。<br>
+	 */
+	private String				searchStateType;
+	
+	/**
+	 * 検索条件(情報区分)。<br>
+	 */
+	private String				searchInformationType;
+	
+	/**
+	 * 検索条件(フリーワード)。<br>
+	 */
+	private String				searchWord;
+	
 	// プルダウンリスト
 	/**
 	 * 勤務地プルダウンリスト
@@ -646,4 +738,256 @@ public class HumanListVo extends PlatformVo {
 		return getStringArrayClone(aryPltFreeWordTypes);
 	}
 	
+	/**
+	 * @return searchActivateDate
+	 */
+	public Date getSearchActivateDate() {
+		return getDateClone(searchActivateDate);
+	}
+	
+	/**
+	 * @param searchActivateDate セットする searchActivateDate
+	 */
+	public void setSearchActivateDate(Date searchActivateDate) {
+		this.searchActivateDate = getDateClone(searchActivateDate);
+	}
+	
+	/**
+	 * @return searchEmployeeCode
+	 */
+	public String getSearchEmployeeCode() {
+		return searchEmployeeCode;
+	}
+	
+	/**
+	 * @param searchEmployeeCode セットする searchEmployeeCode
+	 */
+	public void setSearchEmployeeCode(String searchEmployeeCode) {
+		this.searchEmployeeCode = searchEmployeeCode;
+	}
+	
+	/**
+	 * @return searchEmployeeCodeType
+	 */
+	public String getSearchEmployeeCodeType() {
+		return searchEmployeeCodeType;
+	}
+	
+	/**
+	 * @param searchEmployeeCodeType セットする searchEmployeeCodeType
+	 */
+	public void setSearchEmployeeCodeType(String searchEmployeeCodeType) {
+		this.searchEmployeeCodeType = searchEmployeeCodeType;
+	}
+	
+	/**
+	 * @return searchLastName
+	 */
+	public String getSearchLastName() {
+		return searchLastName;
+	}
+	
+	/**
+	 * @param searchLastName セットする searchLastName
+	 */
+	public void setSearchLastName(String searchLastName) {
+		this.searchLastName = searchLastName;
+	}
+	
+	/**
+	 * @return searchLastNameType
+	 */
+	public String getSearchLastNameType() {
+		return searchLastNameType;
+	}
+	
+	/**
+	 * @param searchLastNameType セットする searchLastNameType
+	 */
+	public void setSearchLastNameType(String searchLastNameType) {
+		this.searchLastNameType = searchLastNameType;
+	}
+	
+	/**
+	 * @return searchFirstName
+	 */
+	public String getSearchFirstName() {
+		return searchFirstName;
+	}
+	
+	/**
+	 * @param searchFirstName セットする searchFirstName
+	 */
+	public void setSearchFirstName(String searchFirstName) {
+		this.searchFirstName = searchFirstName;
+	}
+	
+	/**
+	 * @return searchFirstNameType
+	 */
+	public String getSearchFirstNameType() {
+		return searchFirstNameType;
+	}
+	
+	/**
+	 * @param searchFirstNameType セットする searchFirstNameType
+	 */
+	public void setSearchFirstNameType(String searchFirstNameType) {
+		this.searchFirstNameType = searchFirstNameType;
+	}
+	
+	/**
+	 * @return searchLastKana
+	 */
+	public String getSearchLastKana() {
+		return searchLastKana;
+	}
+	
+	/**
+	 * @param searchLastKana セットする searchLastKana
+	 */
+	public void setSearchLastKana(String searchLastKana) {
+		this.searchLastKana = searchLastKana;
+	}
+	
+	/**
+	 * @return searchLastKanaType
+	 */
+	public String getSearchLastKanaType() {
+		return searchLastKanaType;
+	}
+	
+	/**
+	 * @param searchLastKanaType セットする searchLastKanaType
+	 */
+	public void setSearchLastKanaType(String searchLastKanaType) {
+		this.searchLastKanaType = searchLastKanaType;
+	}
+	
+	/**
+	 * @return searchFirstKana
+	 */
+	public String getSearchFirstKana() {
+		return searchFirstKana;
+	}
+	
+	/**
+	 * @param searchFirstKana セットする searchFirstKana
+	 */
+	public void setSearchFirstKana(String searchFirstKana) {
+		this.searchFirstKana = searchFirstKana;
+	}
+	
+	/**
+	 * @return searchFirstKanaType
+	 */
+	public String getSearchFirstKanaType() {
+		return searchFirstKanaType;
+	}
+	
+	/**
+	 * @param searchFirstKanaType セットする searchFirstKanaType
+	 */
+	public void setSearchFirstKanaType(String searchFirstKanaType) {
+		this.searchFirstKanaType = searchFirstKanaType;
+	}
+	
+	/**
+	 * @return searchWorkPlaceCode
+	 */
+	public String getSearchWorkPlaceCode() {
+		return searchWorkPlaceCode;
+	}
+	
+	/**
+	 * @param searchWorkPlaceCode セットする searchWorkPlaceCode
+	 */
+	public void setSearchWorkPlaceCode(String searchWorkPlaceCode) {
+		this.searchWorkPlaceCode = searchWorkPlaceCode;
+	}
+	
+	/**
+	 * @return searchSectionCode
+	 */
+	public String getSearchSectionCode() {
+		return searchSectionCode;
+	}
+	
+	/**
+	 * @param searchSectionCode セットする searchSectionCode
+	 */
+	public void setSearchSectionCode(String searchSectionCode) {
+		this.searchSectionCode = searchSectionCode;
+	}
+	
+	/**
+	 * @return searchPositionCode
+	 */
+	public String getSearchPositionCode() {
+		return searchPositionCode;
+	}
+	
+	/**
+	 * @param searchPositionCode セットする searchPositionCode
+	 */
+	public void setSearchPositionCode(String searchPositionCode) {
+		this.searchPositionCode = searchPositionCode;
+	}
+	
+	/**
+	 * @return searchEmploymentContractCode
+	 */
+	public String getSearchEmploymentContractCode() {
+		return searchEmploymentContractCode;
+	}
+	
+	/**
+	 * @param searchEmploymentContractCode セットする searchEmploymentContractCode
+	 */
+	public void setSearchEmploymentContractCode(String searchEmploymentContractCode) {
+		this.searchEmploymentContractCode = searchEmploymentContractCode;
+	}
+	
+	/**
+	 * @return searchStateType
+	 */
+	public String getSearchStateType() {
+		return searchStateType;
+	}
+	
+	/**
+	 * @param searchStateType セットする searchStateType
+	 */
+	public void setSearchStateType(String searchStateType) {
+		this.searchStateType = searchStateType;
+	}
+	
+	/**
+	 * @return searchInformationType
+	 */
+	public String getSearchInformationType() {
+		return searchInformationType;
+	}
+	
+	/**
+	 * @param searchInformationType セットする searchInformationType
+	 */
+	public void setSearchInformationType(String searchInformationType) {
+		this.searchInformationType = searchInformationType;
+	}
+	
+	/**
+	 * @return searchWord
+	 */
+	public String getSearchWord() {
+		return searchWord;
+	}
+	
+	/**
+	 * @param searchWord セットする searchWord
+	 */
+	public void setSearchWord(String searchWord) {
+		this.searchWord = searchWord;
+	}
+	
 }
@@ -279,8 +279,9 @@ public class NamingMasterAction extends PlatformSystemAction {
 	
 	/**
 	 * 一覧のページ処理を行う。
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
 	 */
-	protected void page() {
+	protected void page() throws MospException {
 		setVoList(pageList());
 	}
 	
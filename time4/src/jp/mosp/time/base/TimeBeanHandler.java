@@ -38,6 +38,7 @@ import jp.mosp.time.bean.HolidayRegistBeanInterface;
 import jp.mosp.time.bean.HolidayRequestRegistBeanInterface;
 import jp.mosp.time.bean.LimitStandardRegistBeanInterface;
 import jp.mosp.time.bean.OvertimeRequestRegistBeanInterface;
+import jp.mosp.time.bean.PaidHolidayBalanceRegistBeanInterface;
 import jp.mosp.time.bean.PaidHolidayDataGrantBeanInterface;
 import jp.mosp.time.bean.PaidHolidayDataRegistBeanInterface;
 import jp.mosp.time.bean.PaidHolidayEntranceDateRegistBeanInterface;
@@ -352,6 +353,11 @@ public class TimeBeanHandler extends BaseBeanHandler implements TimeBeanHandlerI
 		return (PaidHolidayDataGrantBeanInterface)createBean(PaidHolidayDataGrantBeanInterface.class);
 	}
 	
+	@Override
+	public PaidHolidayBalanceRegistBeanInterface paidHolidayBalanceRegist() throws MospException {
+		return (PaidHolidayBalanceRegistBeanInterface)createBean(PaidHolidayBalanceRegistBeanInterface.class);
+	}
+	
 	@Override
 	public StockHolidayDataGrantBeanInterface stockHolidayDataGrant() throws MospException {
 		return (StockHolidayDataGrantBeanInterface)createBean(StockHolidayDataGrantBeanInterface.class);
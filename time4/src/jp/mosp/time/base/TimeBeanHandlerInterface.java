@@ -37,6 +37,7 @@ import jp.mosp.time.bean.HolidayRegistBeanInterface;
 import jp.mosp.time.bean.HolidayRequestRegistBeanInterface;
 import jp.mosp.time.bean.LimitStandardRegistBeanInterface;
 import jp.mosp.time.bean.OvertimeRequestRegistBeanInterface;
+import jp.mosp.time.bean.PaidHolidayBalanceRegistBeanInterface;
 import jp.mosp.time.bean.PaidHolidayDataGrantBeanInterface;
 import jp.mosp.time.bean.PaidHolidayDataRegistBeanInterface;
 import jp.mosp.time.bean.PaidHolidayEntranceDateRegistBeanInterface;
@@ -446,6 +447,13 @@ public interface TimeBeanHandlerInterface {
 	 */
 	PaidHolidayDataGrantBeanInterface paidHolidayDataGrant() throws MospException;
 	
+	/**
+	 * 有給休暇残高台帳登録クラスを取得する。
+	 * @return 有給休暇残高台帳登録クラス
+	 * @throws MospException Beanインスタンスの生成及び初期化に失敗した場合
+	 */
+	PaidHolidayBalanceRegistBeanInterface paidHolidayBalanceRegist() throws MospException;
+	
 	/**
 	 * ストック休暇データ付与クラスを取得する。
 	 * @return ストック休暇データ付与クラス
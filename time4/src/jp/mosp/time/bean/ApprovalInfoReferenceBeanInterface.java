@@ -17,6 +17,7 @@
  */
 package jp.mosp.time.bean;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -132,6 +133,17 @@ public interface ApprovalInfoReferenceBeanInterface {
 	 */
 	BaseDtoInterface getRequestDtoForWorkflow(long workflow, boolean isApproval) throws MospException;
 	
+	/**
+	 * ワークフロー情報群から申請情報群を取得する。<br>
+	 * 機能コード毎に一度のSQL実行で取得する。<br>
+	 * @param workflowDtos ワークフロー情報群
+	 * @param isApproval 承認利用フラグ、申請で利用する場合はfalse
+	 * @return 各種申請DTO群(キー：ワークフロー番号)
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	Map<Long, BaseDtoInterface> getRequestDtoMap(Collection<WorkflowDtoInterface> workflowDtos, boolean isApproval)
+			throws MospException;
+	
 	/**
 	 * @param dto 申請一覧用DTO
 	 * @param workflowDto ワークフローDTO
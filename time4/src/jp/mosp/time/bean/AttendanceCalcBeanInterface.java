@@ -17,12 +17,15 @@
  */
 package jp.mosp.time.bean;
 
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 import jp.mosp.framework.base.MospException;
 import jp.mosp.time.dto.settings.AttendanceDtoInterface;
 import jp.mosp.time.dto.settings.GoOutDtoInterface;
 import jp.mosp.time.dto.settings.RestDtoInterface;
+import jp.mosp.time.entity.AttendanceCalcInputEntity;
 
 /**
  * 自動計算インターフェース。
@@ -51,6 +54,42 @@ public interface AttendanceCalcBeanInterface {
 			List<GoOutDtoInterface> minutelyHolidayAList, List<GoOutDtoInterface> minutelyHolidayBList)
 			throws MospException;
 	
+	/**
+	 * 日々の自動計算処理を行う。<br>
+	 * 勤怠計算入力情報は登録済の休憩情報及び外出情報であるものとし、
+	 * 分単位休暇時間数の計算にもこれを用いる。<br>
+	 * @param attendanceDto 勤怠データ
+	 * @param input 勤怠計算入力情報
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	void attendanceCalc(AttendanceDtoInterface attendanceDto, AttendanceCalcInputEntity input) throws MospException;
+	
+	/**
+	 * 勤怠計算入力情報を取得する。<br>
+	 * 休憩情報及び外出情報を、それぞれ1回の検索で取得する。<br>
+	 * @param personalId 個人ID
+	 * @param workDate 勤務日
+	 * @param timesWork 勤務回数
+	 * @return 勤怠計算入力情報
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	AttendanceCalcInputEntity getCalcInput(String personalId, Date workDate, int timesWork) throws MospException;
+	
+	/**
+	 * 期間内の勤怠計算入力情報群を取得する。<br>
+	 * 休憩情報及び外出情報を期間分まとめてそれぞれ1回の検索で取得し、勤務日毎に振り分ける。<br>
+	 * 期間内の全ての日が含まれる(休憩情報及び外出情報が無い日は空の勤怠計算入力情報)。<br>
+	 * 取得後に休憩情報或いは外出情報を登録した日については、改めて取得する必要がある。<br>
+	 * @param personalId 個人ID
+	 * @param startDate 開始年月日
+	 * @param endDate 終了年月日
+	 * @param timesWork 勤務回数
+	 * @return 勤怠計算入力情報群(キー：勤務日)
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	Map<Date, AttendanceCalcInputEntity> getCalcInputMap(String personalId, Date startDate, Date endDate,
+			int timesWork) throws MospException;
+	
 	/**
 	 * 始業時刻及び終業時刻の自動計算処理を行う。<br>
 	 * @param attendanceDto 勤怠データ
@@ -59,4 +98,15 @@ public interface AttendanceCalcBeanInterface {
 	 */
 	void calcStartEndTime(AttendanceDtoInterface attendanceDto, boolean useBetweenTime) throws MospException;
 	
+	/**
+	 * 始業時刻及び終業時刻の自動計算処理を行う。<br>
+	 * 分単位休暇時間数の計算には、勤怠計算入力情報の分単位休暇を用いる。<br>
+	 * @param attendanceDto 勤怠データ
+	 * @param useBetweenTime 前半休と後半休の間の時間を使う場合true、そうでない場合false
+	 * @param input 勤怠計算入力情報(登録済の休憩情報及び外出情報)
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	void calcStartEndTime(AttendanceDtoInterface attendanceDto, boolean useBetweenTime,
+			AttendanceCalcInputEntity input) throws MospException;
+	
 }
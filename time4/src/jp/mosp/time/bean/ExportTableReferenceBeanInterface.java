@@ -24,6 +24,8 @@ import java.util.Date;
 import java.util.List;
 
 import jp.mosp.framework.base.MospException;
+import jp.mosp.orangesignal.OrangeSignalRowHandler;
+import jp.mosp.orangesignal.OrangeSignalStreamSource;
 
 /**
  * エクスポートテーブル参照インターフェース。
@@ -37,6 +39,25 @@ public interface ExportTableReferenceBeanInterface {
 	 */
 	List<String[]> export() throws MospException;
 	
+	/**
+	 * エクスポートを行う。<br>
+	 * <br>
+	 * CSVデータを全件リストに保持せず、1行ずつ行処理に渡す。<br>
+	 * 行処理がfalseを返した場合は、以降の行は作成しない。<br>
+	 * @param handler CSVデータ行処理
+	 * @return 処理結果(true：エクスポートした、false：エクスポート情報が存在しない)
+	 * @throws MospException インスタンスの取得、SQL実行或いはCSVデータの処理に失敗した場合
+	 */
+	boolean export(OrangeSignalRowHandler handler) throws MospException;
+	
+	/**
+	 * 設定されている条件でエクスポートを行うCSVデータ作成元を取得する。<br>
+	 * <br>
+	 * ファイル送出時にCSVデータを1行ずつ作成及び出力するために用いる。<br>
+	 * @return CSVデータ作成元
+	 */
+	OrangeSignalStreamSource getStreamSource();
+	
 	/**
 	 * @param exportCode セットする exportCode
 	 */
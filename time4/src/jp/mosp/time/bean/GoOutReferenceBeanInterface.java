@@ -112,4 +112,16 @@ public interface GoOutReferenceBeanInterface {
 	 */
 	List<GoOutDtoInterface> getMinutelyHolidayBList(String personalId, Date workDate) throws MospException;
 	
+	/**
+	 * 期間内の勤怠データ外出情報リストを取得する。<br>
+	 * 社員コードと期間で勤務回数1の全外出区分の勤怠データ外出情報リストを取得する。<br>
+	 * 勤務日、外出区分、外出回数の順に並べて返す。<br>
+	 * @param personalId 個人ID
+	 * @param startDate  開始年月日
+	 * @param endDate    終了年月日
+	 * @return 勤怠データ外出情報リスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	List<GoOutDtoInterface> getGoOutList(String personalId, Date startDate, Date endDate) throws MospException;
+	
 }
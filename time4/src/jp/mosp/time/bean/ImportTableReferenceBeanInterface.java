@@ -46,6 +46,18 @@ public interface ImportTableReferenceBeanInterface {
 	 */
 	List<AttendanceDtoInterface> getAttendanceList(String importCode, List<String[]> list) throws MospException;
 	
+	/**
+	 * インポートされた内容の一部(分割された対象リスト)からDTOリストを取得する。<br>
+	 * エラーメッセージの行番号は、開始行インデックスを基準に設定する。<br>
+	 * @param importCode インポートコード
+	 * @param list 対象リスト
+	 * @param firstRow 対象リストの開始行インデックス(ファイル全体における位置)
+	 * @return DTOリスト
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	List<AttendanceDtoInterface> getAttendanceList(String importCode, List<String[]> list, int firstRow)
+			throws MospException;
+	
 	/**
 	 * インポートされた内容からDTOリストを取得する。
 	 * @param importCode インポートコード
@@ -55,6 +67,18 @@ public interface ImportTableReferenceBeanInterface {
 	 */
 	List<TotalTimeDataDtoInterface> getTotalTimeList(String importCode, List<String[]> list) throws MospException;
 	
+	/**
+	 * インポートされた内容の一部(分割された対象リスト)からDTOリストを取得する。<br>
+	 * エラーメッセージの行番号は、開始行インデックスを基準に設定する。<br>
+	 * @param importCode インポートコード
+	 * @param list 対象リスト
+	 * @param firstRow 対象リストの開始行インデックス(ファイル全体における位置)
+	 * @return DTOリスト
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	List<TotalTimeDataDtoInterface> getTotalTimeList(String importCode, List<String[]> list, int firstRow)
+			throws MospException;
+	
 	/**
 	 * インポートされた内容からDTOリストを取得する。
 	 * @param importCode インポートコード
@@ -64,6 +88,18 @@ public interface ImportTableReferenceBeanInterface {
 	 */
 	List<PaidHolidayDataDtoInterface> getPaidHolidayList(String importCode, List<String[]> list) throws MospException;
 	
+	/**
+	 * インポートされた内容の一部(分割された対象リスト)からDTOリストを取得する。<br>
+	 * エラーメッセージの行番号は、開始行インデックスを基準に設定する。<br>
+	 * @param importCode インポートコード
+	 * @param list 対象リスト
+	 * @param firstRow 対象リストの開始行インデックス(ファイル全体における位置)
+	 * @return DTOリスト
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	List<PaidHolidayDataDtoInterface> getPaidHolidayList(String importCode, List<String[]> list, int firstRow)
+			throws MospException;
+	
 	/**
 	 * インポートされた内容からDTOリストを取得する。
 	 * @param importCode インポートコード
@@ -0,0 +1,79 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.bean;
+
+import java.util.Date;
+import java.util.List;
+
+import jp.mosp.framework.base.BaseDtoInterface;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.time.dto.settings.PaidHolidayBalanceDtoInterface;
+import jp.mosp.time.dto.settings.PaidHolidayDataDtoInterface;
+
+/**
+ * 有給休暇残高台帳登録インターフェース。<br>
+ * 有給休暇データ(付与)毎に、手動付与・廃棄及び有給休暇申請の集計結果を保持する。<br>
+ */
+public interface PaidHolidayBalanceRegistBeanInterface {
+	
+	/**
+	 * 登録用DTOを取得する。<br>
+	 * @return 初期DTO
+	 */
+	PaidHolidayBalanceDtoInterface getInitDto();
+	
+	/**
+	 * 個人ID及び取得日を指定して有給休暇残高台帳を登録する。<br>
+	 * 対象付与の台帳に行ロックを取得した上で、有給休暇データの履歴毎に集計し直す。<br>
+	 * 同じ台帳を他のトランザクションが先に登録した場合は、再取得して更新する。<br>
+	 * @param personalId      個人ID
+	 * @param acquisitionDate 取得日
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	void regist(String personalId, Date acquisitionDate) throws MospException;
+	
+	/**
+	 * 申請に応じて有給休暇残高台帳を登録する。<br>
+	 * 有給休暇の休暇申請でない場合は、何もしない。<br>
+	 * @param requestDto 申請DTO
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	void regist(BaseDtoInterface requestDto) throws MospException;
+	
+	/**
+	 * 有給休暇データに対する有給休暇残高台帳を集計する。<br>
+	 * 登録は行わない。<br>
+	 * @param dto 有給休暇データ
+	 * @return 有給休暇残高台帳
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	PaidHolidayBalanceDtoInterface calc(PaidHolidayDataDtoInterface dto) throws MospException;
+	
+	/**
+	 * 有給休暇残高台帳の整合性を確認する。<br>
+	 * 対象日時点の有給休暇データ毎に集計し直し、登録されている台帳と一致しないものを取得する。<br>
+	 * @param personalId 個人ID
+	 * @param targetDate 対象日
+	 * @param isRepair   修復する場合true
+	 * @return 不一致である有給休暇残高台帳(集計結果)リスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	List<PaidHolidayBalanceDtoInterface> check(String personalId, Date targetDate, boolean isRepair)
+			throws MospException;
+	
+}
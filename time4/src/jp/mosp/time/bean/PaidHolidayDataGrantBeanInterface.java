@@ -18,6 +18,7 @@
 package jp.mosp.time.bean;
 
 import java.util.Date;
+import java.util.Map;
 
 import jp.mosp.framework.base.MospException;
 import jp.mosp.time.dto.settings.PaidHolidayDataDtoInterface;
@@ -35,6 +36,15 @@ public interface PaidHolidayDataGrantBeanInterface {
 	 */
 	void grant(String personalId, Date targetDate) throws MospException;
 	
+	/**
+	 * 有給休暇データ一括付与を行う。<br>
+	 * 有給休暇データは対象者全員分をまとめて登録し、
+	 * 有給休暇付与情報及び有給休暇残高台帳は個人ID毎に登録する。<br>
+	 * @param targetDateMap 対象日群(キー：個人ID)
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	void grant(Map<String, Date> targetDateMap) throws MospException;
+	
 	/**
 	 * 有給休暇データを生成する。
 	 * @param personalId 個人ID
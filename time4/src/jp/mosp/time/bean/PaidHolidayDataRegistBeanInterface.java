@@ -18,6 +18,7 @@
 package jp.mosp.time.bean;
 
 import java.util.Date;
+import java.util.List;
 
 import jp.mosp.framework.base.MospException;
 import jp.mosp.time.dto.settings.PaidHolidayDataDtoInterface;
@@ -40,6 +41,14 @@ public interface PaidHolidayDataRegistBeanInterface {
 	 */
 	void insert(PaidHolidayDataDtoInterface dto) throws MospException;
 	
+	/**
+	 * 一括新規登録を行う。<br>
+	 * 対象DTOと同じキーの有給休暇データが存在する場合は、論理削除してから登録する。<br>
+	 * @param list 対象DTOリスト
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	void insert(List<PaidHolidayDataDtoInterface> list) throws MospException;
+	
 	/**
 	 * 履歴更新を行う。<br>
 	 * @param dto 対象DTO
@@ -192,18 +192,6 @@ public interface PaidHolidayInfoReferenceBeanInterface extends PaidHolidayReques
 	boolean canPaidHolidayRequest(String personalId, Date targetDate, double requestDay, int requestHour)
 			throws MospException;
 	
-	/**
-	 * テーブルロック。
-	 * @throws MospException SQL例外が発生した場合
-	 */
-	void lockTables() throws MospException;
-	
-	/**
-	 * テーブルロック解除。
-	 * @throws MospException SQL例外が発生した場合
-	 */
-	void unlockTable() throws MospException;
-	
 	/**
 	 * 勤怠関連マスタ参照クラスを設定する。<br>
 	 * <br>
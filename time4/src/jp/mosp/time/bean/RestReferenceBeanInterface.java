@@ -52,4 +52,17 @@ public interface RestReferenceBeanInterface {
 	 */
 	List<RestDtoInterface> getRestList(String personalId, Date workDate, int works) throws MospException;
 	
+	/**
+	 * 期間内の勤怠データ休憩情報リストを取得する。<br>
+	 * 勤務日、休憩回数の順に並べて返す。<br>
+	 * @param personalId 個人ID
+	 * @param startDate 開始年月日
+	 * @param endDate 終了年月日
+	 * @param works 勤務回数
+	 * @return 勤怠データ休憩情報リスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	List<RestDtoInterface> getRestList(String personalId, Date startDate, Date endDate, int works)
+			throws MospException;
+	
 }
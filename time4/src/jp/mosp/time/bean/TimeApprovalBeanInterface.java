@@ -37,6 +37,11 @@ public interface TimeApprovalBeanInterface {
 	
 	/**
 	 * 一括承認処理を行う。<br>
+	 * ワークフロー情報及び申請情報を一括で取得して全て確認した上で、
+	 * ワークフローを一括で更新する。<br>
+	 * 確認はワークフロー毎に行い、最初にエラーとなったワークフローで終了する
+	 * (エラーメッセージは一件毎の承認を繰り返した場合と同じになる)。<br>
+	 * 勤怠の下書及び勤怠トランザクション登録は、個人ID及び日付毎に一度だけ行う。<br>
 	 * @param aryWorkflow ワークフロー番号配列
 	 * @param workflowComment ワークフローコメント
 	 * @throws MospException インスタンスの取得及びSQL実行に失敗した場合
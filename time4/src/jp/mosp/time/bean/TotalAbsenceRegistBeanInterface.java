@@ -43,6 +43,13 @@ public interface TotalAbsenceRegistBeanInterface {
 	 */
 	void insert(TotalAbsenceDtoInterface dto) throws MospException;
 	
+	/**
+	 * 一括新規登録を行う。<br>
+	 * @param list 対象DTOリスト
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	void insert(List<TotalAbsenceDtoInterface> list) throws MospException;
+	
 	/**
 	 * 履歴更新を行う。<br>
 	 * @param dto 対象DTO
@@ -43,6 +43,13 @@ public interface TotalOtherVacationRegistBeanInterface {
 	 */
 	void insert(TotalOtherVacationDtoInterface dto) throws MospException;
 	
+	/**
+	 * 一括新規登録を行う。<br>
+	 * @param list 対象DTOリスト
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	void insert(List<TotalOtherVacationDtoInterface> list) throws MospException;
+	
 	/**
 	 * 履歴更新を行う。<br>
 	 * @param dto 対象DTO
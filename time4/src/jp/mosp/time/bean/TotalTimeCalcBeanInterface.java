@@ -17,6 +17,7 @@
  */
 package jp.mosp.time.bean;
 
+import java.util.Collection;
 import java.util.List;
 
 import jp.mosp.framework.base.MospException;
@@ -35,6 +36,8 @@ public interface TotalTimeCalcBeanInterface {
 	 * 勤怠集計前の確認でエラーがあった場合は、集計時エラー内容情報リストを返す。<br>
 	 * <br>
 	 * 対象年月において対象締日コードが適用されている個人IDに対して処理を行う。<br>
+	 * 締処理分割人数が設定されている場合は、対象者を分割して並列に仮締を行い、
+	 * エラーの無い者は分割した単位毎に確定する(締処理一括確定が設定されている場合を除く)。<br>
 	 * <br>
 	 * 勤怠集計管理画面等で用いる。<br>
 	 * <br>
@@ -89,11 +92,52 @@ public interface TotalTimeCalcBeanInterface {
 	List<CutoffErrorListDtoInterface> tightening(String personalId, int targetYear, int targetMonth)
 			throws MospException;
 	
+	/**
+	 * 仮締前の確認を行う。<br>
+	 * <br>
+	 * 対象個人IDのうち未締である者に対して、勤怠集計前の確認を行う。<br>
+	 * DBへの登録は行わない。<br>
+	 * <br>
+	 * 仮締を分割して行う際に、全対象者の確認を先に行う場合に用いる。<br>
+	 * <br>
+	 * @param personalIds 個人IDコレクション
+	 * @param targetYear  対象年
+	 * @param targetMonth 対象月
+	 * @param cutoffCode  締日コード
+	 * @return 集計時エラー内容情報リスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	List<CutoffErrorListDtoInterface> checkTightening(Collection<String> personalIds, int targetYear,
+			int targetMonth, String cutoffCode) throws MospException;
+	
+	/**
+	 * 個人ID毎に仮締を行う。<br>
+	 * <br>
+	 * 対象個人IDのうち未締である者に対して、個人ID毎に
+	 * 勤怠集計前の確認、勤怠集計、データの登録を行う。<br>
+	 * 勤怠集計前の確認でエラーがあった者は仮締せず、
+	 * その集計時エラー内容情報を返す(他の者の仮締は行う)。<br>
+	 * <br>
+	 * 勤怠集計エンティティは個人ID毎に破棄されるため、
+	 * 仮締を分割して行う場合等、対象者が多い場合に用いる。<br>
+	 * 対象年月における対象締日コードの仮締は行わない。<br>
+	 * <br>
+	 * @param personalIds 個人IDコレクション
+	 * @param targetYear  対象年
+	 * @param targetMonth 対象月
+	 * @param cutoffCode  締日コード
+	 * @return 集計時エラー内容情報リスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	List<CutoffErrorListDtoInterface> tighteningEach(Collection<String> personalIds, int targetYear,
+			int targetMonth, String cutoffCode) throws MospException;
+	
 	/**
 	 * 勤怠計算を行う。<br>
 	 * <br>
 	 * 勤怠集計前の確認は、行わない。<br>
 	 * 勤怠集計結果一覧画面等で用いる。<br>
+	 * 個人別共有キャッシュを利用する場合は共有される勤怠集計情報を返すため、変更してはならない。<br>
 	 * <br>
 	 * @param personalId  個人ID
 	 * @param targetYear  対象年
@@ -110,6 +154,7 @@ public interface TotalTimeCalcBeanInterface {
 	 * <br>
 	 * 勤怠集計前の確認は、行わない。<br>
 	 * 部下一覧画面等で用いる。<br>
+	 * 個人別共有キャッシュを利用する場合は共有される勤怠集計情報を返すため、変更してはならない。<br>
 	 * <br>
 	 * @param personalId  個人ID配列
 	 * @param targetYear  対象年
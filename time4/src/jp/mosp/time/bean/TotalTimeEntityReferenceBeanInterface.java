@@ -17,6 +17,9 @@
  */
 package jp.mosp.time.bean;
 
+import java.util.Collection;
+import java.util.Map;
+
 import jp.mosp.framework.base.MospException;
 import jp.mosp.platform.bean.system.PlatformMasterBeanInterface;
 import jp.mosp.time.dto.settings.CutoffDtoInterface;
@@ -41,6 +44,27 @@ public interface TotalTimeEntityReferenceBeanInterface {
 	TotalTimeEntityInterface getTotalTimeEntity(String personalId, int targetYear, int targetMonth,
 			CutoffDtoInterface cutoffDto) throws MospException;
 	
+	/**
+	 * 勤怠集計エンティティ群を取得する。<br>
+	 * <br>
+	 * 勤怠データ、各種申請、ワークフロー情報等を個人ID毎ではなく
+	 * 対象個人IDについて一括で取得し、個人ID毎の勤怠集計エンティティを作成する。<br>
+	 * 取得される勤怠集計エンティティは、
+	 * {@link #getTotalTimeEntity(String, int, int, CutoffDtoInterface)}
+	 * で取得したものと同じ内容となる。<br>
+	 * <br>
+	 * 勤怠集計管理画面の仮締等、多数の個人IDについて勤怠集計を行う場合に用いる。<br>
+	 * <br>
+	 * @param personalIds 個人IDコレクション
+	 * @param targetYear  対象年
+	 * @param targetMonth 対象月
+	 * @param cutoffDto   締日情報
+	 * @return 勤怠集計エンティティ群(キー：個人ID、個人IDコレクションの順)
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	Map<String, TotalTimeEntityInterface> getTotalTimeEntityMap(Collection<String> personalIds, int targetYear,
+			int targetMonth, CutoffDtoInterface cutoffDto) throws MospException;
+	
 	/**
 	 * 申請検出エンティティを取得する。<br>
 	 * <br>
@@ -68,6 +92,27 @@ public interface TotalTimeEntityReferenceBeanInterface {
 	RequestDetectEntityInterface getRequestDetectEntity(String personalId, int targetYear, int targetMonth,
 			int cutoffDate) throws MospException;
 	
+	/**
+	 * 申請検出エンティティ群を取得する。<br>
+	 * <br>
+	 * 勤怠データ、各種申請、ワークフロー情報等を個人ID毎ではなく
+	 * 対象個人IDについて一括で取得し、個人ID毎の申請検出エンティティを作成する。<br>
+	 * 取得される申請検出エンティティは、
+	 * {@link #getRequestDetectEntity(String, int, int, int)}
+	 * で取得したものと同じ内容となる。<br>
+	 * <br>
+	 * 部下一覧等、多数の個人IDについて承認状態を確認する場合に用いる。<br>
+	 * <br>
+	 * @param personalIds 個人IDコレクション
+	 * @param targetYear  対象年
+	 * @param targetMonth 対象月
+	 * @param cutoffDate  締日
+	 * @return 申請検出エンティティ群(キー：個人ID、個人IDコレクションの順)
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	Map<String, RequestDetectEntityInterface> getRequestDetectEntityMap(Collection<String> personalIds,
+			int targetYear, int targetMonth, int cutoffDate) throws MospException;
+	
 	/**
 	 * 勤怠関連マスタ参照クラスを設定する。<br>
 	 * <br>
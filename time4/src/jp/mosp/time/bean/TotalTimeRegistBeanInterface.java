@@ -57,6 +57,14 @@ public interface TotalTimeRegistBeanInterface {
 	 */
 	void regist(TotalTimeDataDtoInterface dto) throws MospException;
 	
+	/**
+	 * 登録処理を一括で行う。<br>
+	 * 新規登録となる勤怠集計データは、複数行挿入SQLでまとめて登録する。<br>
+	 * @param list 対象DTOリスト
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	void regist(List<TotalTimeDataDtoInterface> list) throws MospException;
+	
 	/**
 	 * 論理削除を行う。<br>
 	 * @param dto 対象DTO
@@ -19,10 +19,13 @@ package jp.mosp.time.bean.impl;
 
 import java.sql.Connection;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 
 import jp.mosp.framework.base.BaseDtoInterface;
@@ -51,7 +54,14 @@ import jp.mosp.time.bean.WorkOnHolidayRequestReferenceBeanInterface;
 import jp.mosp.time.bean.WorkTypeChangeRequestReferenceBeanInterface;
 import jp.mosp.time.bean.WorkTypeReferenceBeanInterface;
 import jp.mosp.time.constant.TimeConst;
+import jp.mosp.time.dao.settings.AttendanceDaoInterface;
+import jp.mosp.time.dao.settings.DifferenceRequestDaoInterface;
 import jp.mosp.time.dao.settings.HolidayDaoInterface;
+import jp.mosp.time.dao.settings.HolidayRequestDaoInterface;
+import jp.mosp.time.dao.settings.OvertimeRequestDaoInterface;
+import jp.mosp.time.dao.settings.SubHolidayRequestDaoInterface;
+import jp.mosp.time.dao.settings.WorkOnHolidayRequestDaoInterface;
+import jp.mosp.time.dao.settings.WorkTypeChangeRequestDaoInterface;
 import jp.mosp.time.dto.settings.AttendanceDtoInterface;
 import jp.mosp.time.dto.settings.DifferenceRequestDtoInterface;
 import jp.mosp.time.dto.settings.HolidayDtoInterface;
@@ -895,6 +905,74 @@ public class ApprovalInfoReferenceBean extends PlatformBean implements ApprovalI
 		return null;
 	}
 	
+	@Override
+	public Map<Long, BaseDtoInterface> getRequestDtoMap(Collection<WorkflowDtoInterface> workflowDtos,
+			boolean isApproval) throws MospException {
+		// ワークフロー番号群(キー：機能コード)を準備
+		Map<String, Set<Long>> workflowSetMap = new HashMap<String, Set<Long>>();
+		for (WorkflowDtoInterface dto : workflowDtos) {
+			// 下書きを除く
+			if (isApproval && PlatformConst.CODE_STATUS_DRAFT.equals(dto.getWorkflowStatus())) {
+				continue;
+			}
+			Set<Long> workflowSet = workflowSetMap.get(dto.getFunctionCode());
+			if (workflowSet == null) {
+				workflowSet = new HashSet<Long>();
+				workflowSetMap.put(dto.getFunctionCode(), workflowSet);
+			}
+			workflowSet.add(dto.getWorkflow());
+		}
+		// 各種申請DTO群を準備
+		Map<Long, BaseDtoInterface> map = new HashMap<Long, BaseDtoInterface>();
+		// 機能コード毎に処理
+		for (Entry<String, Set<Long>> entry : workflowSetMap.entrySet()) {
+			String functionCode = entry.getKey();
+			Set<Long> workflowSet = entry.getValue();
+			// 勤怠データ
+			if (TimeConst.CODE_FUNCTION_WORK_MANGE.equals(functionCode)) {
+				AttendanceDaoInterface dao = (AttendanceDaoInterface)createDao(AttendanceDaoInterface.class);
+				map.putAll(dao.findForInWorkflow(workflowSet));
+			}
+			// 残業申請
+			if (TimeConst.CODE_FUNCTION_OVER_WORK.equals(functionCode)) {
+				OvertimeRequestDaoInterface dao = (OvertimeRequestDaoInterface)createDao(
+						OvertimeRequestDaoInterface.class);
+				map.putAll(dao.findForInWorkflow(workflowSet));
+			}
+			// 休暇申請
+			if (TimeConst.CODE_FUNCTION_VACATION.equals(functionCode)) {
+				HolidayRequestDaoInterface dao = (HolidayRequestDaoInterface)createDao(
+						HolidayRequestDaoInterface.class);
+				map.putAll(dao.findForInWorkflow(workflowSet));
+			}
+			// 休日出勤
+			if (TimeConst.CODE_FUNCTION_WORK_HOLIDAY.equals(functionCode)) {
+				WorkOnHolidayRequestDaoInterface dao = (WorkOnHolidayRequestDaoInterface)createDao(
+						WorkOnHolidayRequestDaoInterface.class);
+				map.putAll(dao.findForInWorkflow(workflowSet));
+			}
+			// 代休申請
+			if (TimeConst.CODE_FUNCTION_COMPENSATORY_HOLIDAY.equals(functionCode)) {
+				SubHolidayRequestDaoInterface dao = (SubHolidayRequestDaoInterface)createDao(
+						SubHolidayRequestDaoInterface.class);
+				map.putAll(dao.findForInWorkflow(workflowSet));
+			}
+			// 勤務形態変更
+			if (TimeConst.CODE_FUNCTION_WORK_TYPE_CHANGE.equals(functionCode)) {
+				WorkTypeChangeRequestDaoInterface dao = (WorkTypeChangeRequestDaoInterface)createDao(
+						WorkTypeChangeRequestDaoInterface.class);
+				map.putAll(dao.findForInWorkflow(workflowSet));
+			}
+			// 時差出勤
+			if (TimeConst.CODE_FUNCTION_DIFFERENCE.equals(functionCode)) {
+				DifferenceRequestDaoInterface dao = (DifferenceRequestDaoInterface)createDao(
+						DifferenceRequestDaoInterface.class);
+				map.putAll(dao.findForInWorkflow(workflowSet));
+			}
+		}
+		return map;
+	}
+	
 	@Override
 	public void setWorkflowInfo(RequestListDtoInterface dto, WorkflowDtoInterface workflowDto) throws MospException {
 		if (dto != null && workflowDto != null) {
@@ -19,6 +19,7 @@ package jp.mosp.time.bean.impl;
 
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -68,9 +69,9 @@ import jp.mosp.time.dto.settings.WorkOnHolidayRequestDtoInterface;
 import jp.mosp.time.dto.settings.WorkTypeDtoInterface;
 import jp.mosp.time.dto.settings.WorkTypeItemDtoInterface;
 import jp.mosp.time.dto.settings.impl.TmdOvertimeRequestDto;
+import jp.mosp.time.entity.AttendanceCalcInputEntity;
 import jp.mosp.time.entity.RequestEntity;
 import jp.mosp.time.entity.WorkTypeEntity;
-import jp.mosp.time.utils.AttendanceUtility;
 import jp.mosp.time.utils.TimeUtility;
 
 /**
@@ -791,33 +792,6 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 	 */
 	protected int											short2End;
 	
-	// 処理前のデータを保持する変数
-	
-	/**
-	 * 処理前の勤怠データ
-	 */
-	protected AttendanceDtoInterface						inputAttendanceDto;
-	/**
-	 * 処理前の休憩リスト
-	 */
-	protected List<RestDtoInterface>						inputRestList;
-	/**
-	 * 処理前の公用外出リスト
-	 */
-	protected List<GoOutDtoInterface>						inputPublicGoOutList;
-	/**
-	 * 処理前の私用外出リスト
-	 */
-	protected List<GoOutDtoInterface>						inputPrivateGoOutList;
-	/**
-	 * 処理前の分単位休暇Aリスト
-	 */
-	protected List<GoOutDtoInterface>						inputMinutelyHolidayAList;
-	/**
-	 * 処理前の分単位休暇Bリスト
-	 */
-	protected List<GoOutDtoInterface>						inputMinutelyHolidayBList;
-	
 	/**
 	 * 設定適用管理参照インターフェース。<br>
 	 */
@@ -5535,62 +5509,57 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 	
 	@Override
 	public void attendanceCalc(AttendanceDtoInterface attendanceDto) throws MospException {
-		// 休憩リストの取得
-		List<RestDtoInterface> restList = restReference.getRestList(attendanceDto.getPersonalId(),
-				attendanceDto.getWorkDate(), attendanceDto.getTimesWork());
-		// 公用外出リストの取得
-		List<GoOutDtoInterface> publicGoOutList = goOutReference.getPublicGoOutList(attendanceDto.getPersonalId(),
-				attendanceDto.getWorkDate());
-		// 私用外出リストの取得
-		List<GoOutDtoInterface> privateGoOutList = goOutReference.getPrivateGoOutList(attendanceDto.getPersonalId(),
-				attendanceDto.getWorkDate());
-		// 分単位休暇Aリストの取得
-		List<GoOutDtoInterface> minutelyHolidayAList = goOutReference
-			.getMinutelyHolidayAList(attendanceDto.getPersonalId(), attendanceDto.getWorkDate());
-		// 分単位休暇Bリストの取得
-		List<GoOutDtoInterface> minutelyHolidayBList = goOutReference
-			.getMinutelyHolidayBList(attendanceDto.getPersonalId(), attendanceDto.getWorkDate());
+		// 勤怠計算入力情報(休憩リスト及び外出リスト)の取得
+		AttendanceCalcInputEntity input = getCalcInput(attendanceDto.getPersonalId(), attendanceDto.getWorkDate(),
+				attendanceDto.getTimesWork());
 		// 日々の自動計算処理
-		attendanceCalc(attendanceDto, restList, publicGoOutList, privateGoOutList, minutelyHolidayAList,
-				minutelyHolidayBList);
+		attendanceCalc(attendanceDto, input);
 	}
 	
-	/**
-	* 入力項目の値を別領域に設定する。<br>
-	* 値の変更が影響しないように、完全ディープコピーをする。<br>
-	* @param attendanceDto 勤怠データ
-	* @param restList 休憩リスト
-	* @param publicGoOutList 公用外出リスト
-	* @param privateGoOutList 私用外出リスト
-	* @param minutelyHolidayAList 分単位休暇Aリスト
-	* @param minutelyHolidayBList 分単位休暇Bリスト
-	* @throws MospException インスタンスの生成に失敗した場合
-	*/
-	protected void setInputParameters(AttendanceDtoInterface attendanceDto, List<RestDtoInterface> restList,
-			List<GoOutDtoInterface> publicGoOutList, List<GoOutDtoInterface> privateGoOutList,
-			List<GoOutDtoInterface> minutelyHolidayAList, List<GoOutDtoInterface> minutelyHolidayBList)
+	@Override
+	public AttendanceCalcInputEntity getCalcInput(String personalId, Date workDate, int timesWork)
 			throws MospException {
-		inputAttendanceDto = AttendanceUtility.getAttendanceDtoClone(null, attendanceDto);
-		inputRestList = new ArrayList<RestDtoInterface>(restList.size());
+		// 休憩リスト及び外出リスト(全外出区分)を取得
+		List<RestDtoInterface> restList = restReference.getRestList(personalId, workDate, workDate, timesWork);
+		List<GoOutDtoInterface> goOutList = goOutReference.getGoOutList(personalId, workDate, workDate);
+		return new AttendanceCalcInputEntity(restList, goOutList);
+	}
+	
+	@Override
+	public Map<Date, AttendanceCalcInputEntity> getCalcInputMap(String personalId, Date startDate, Date endDate,
+			int timesWork) throws MospException {
+		// 期間内の休憩リスト及び外出リスト(全外出区分)を取得
+		List<RestDtoInterface> restList = restReference.getRestList(personalId, startDate, endDate, timesWork);
+		List<GoOutDtoInterface> goOutList = goOutReference.getGoOutList(personalId, startDate, endDate);
+		// 勤務日毎に振り分け
+		Map<Date, List<RestDtoInterface>> restMap = new HashMap<Date, List<RestDtoInterface>>();
 		for (RestDtoInterface dto : restList) {
-			inputRestList.add(AttendanceUtility.getRestDtoClone(null, dto));
-		}
-		inputPublicGoOutList = new ArrayList<GoOutDtoInterface>(publicGoOutList.size());
-		for (GoOutDtoInterface dto : publicGoOutList) {
-			inputPublicGoOutList.add(AttendanceUtility.getGoOutDtoClone(null, dto));
-		}
-		inputPrivateGoOutList = new ArrayList<GoOutDtoInterface>(privateGoOutList.size());
-		for (GoOutDtoInterface dto : privateGoOutList) {
-			inputPrivateGoOutList.add(AttendanceUtility.getGoOutDtoClone(null, dto));
-		}
-		inputMinutelyHolidayAList = new ArrayList<GoOutDtoInterface>(minutelyHolidayAList.size());
-		for (GoOutDtoInterface dto : minutelyHolidayAList) {
-			inputMinutelyHolidayAList.add(AttendanceUtility.getGoOutDtoClone(null, dto));
-		}
-		inputMinutelyHolidayBList = new ArrayList<GoOutDtoInterface>(minutelyHolidayBList.size());
-		for (GoOutDtoInterface dto : minutelyHolidayBList) {
-			inputMinutelyHolidayBList.add(AttendanceUtility.getGoOutDtoClone(null, dto));
-		}
+			List<RestDtoInterface> list = restMap.get(dto.getWorkDate());
+			if (list == null) {
+				list = new ArrayList<RestDtoInterface>();
+				restMap.put(dto.getWorkDate(), list);
+			}
+			list.add(dto);
+		}
+		Map<Date, List<GoOutDtoInterface>> goOutMap = new HashMap<Date, List<GoOutDtoInterface>>();
+		for (GoOutDtoInterface dto : goOutList) {
+			List<GoOutDtoInterface> list = goOutMap.get(dto.getWorkDate());
+			if (list == null) {
+				list = new ArrayList<GoOutDtoInterface>();
+				goOutMap.put(dto.getWorkDate(), list);
+			}
+			list.add(dto);
+		}
+		// 期間内の日毎に勤怠計算入力情報を作成
+		Map<Date, AttendanceCalcInputEntity> map = new HashMap<Date, AttendanceCalcInputEntity>();
+		for (Date date : TimeUtility.getDateList(startDate, endDate)) {
+			List<RestDtoInterface> dateRestList = restMap.get(date);
+			List<GoOutDtoInterface> dateGoOutList = goOutMap.get(date);
+			map.put(date, new AttendanceCalcInputEntity(
+					dateRestList == null ? new ArrayList<RestDtoInterface>() : dateRestList,
+					dateGoOutList == null ? new ArrayList<GoOutDtoInterface>() : dateGoOutList));
+		}
+		return map;
 	}
 	
 	@Override
@@ -5598,15 +5567,41 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 			List<GoOutDtoInterface> publicGoOutList, List<GoOutDtoInterface> privateGoOutList,
 			List<GoOutDtoInterface> minutelyHolidayAList, List<GoOutDtoInterface> minutelyHolidayBList)
 			throws MospException {
+		// 勤怠計算入力情報を作成
+		AttendanceCalcInputEntity input = new AttendanceCalcInputEntity(restList, publicGoOutList, privateGoOutList,
+				minutelyHolidayAList, minutelyHolidayBList);
+		// 分単位休暇時間数計算には登録済の分単位休暇を用いる
+		String targetPersonalId = attendanceDto.getPersonalId();
+		Date targetDate = attendanceDto.getWorkDate();
+		attendanceCalc(attendanceDto, input, goOutReference.getMinutelyHolidayAList(targetPersonalId, targetDate),
+				goOutReference.getMinutelyHolidayBList(targetPersonalId, targetDate));
+	}
+	
+	@Override
+	public void attendanceCalc(AttendanceDtoInterface attendanceDto, AttendanceCalcInputEntity input)
+			throws MospException {
+		// 日々の自動計算処理
+		attendanceCalc(attendanceDto, input, input.getMinutelyHolidayAList(), input.getMinutelyHolidayBList());
+	}
+	
+	/**
+	 * 日々の自動計算処理を行う。<br>
+	 * 勤怠計算入力情報の各リストは変更不可であり、自動計算処理では参照のみ行う。<br>
+	 * @param attendanceDto 勤怠データ
+	 * @param input 勤怠計算入力情報
+	 * @param registeredMinutelyHolidayAList 分単位休暇時間数計算に用いる分単位休暇Aリスト
+	 * @param registeredMinutelyHolidayBList 分単位休暇時間数計算に用いる分単位休暇Bリスト
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	protected void attendanceCalc(AttendanceDtoInterface attendanceDto, AttendanceCalcInputEntity input,
+			List<GoOutDtoInterface> registeredMinutelyHolidayAList,
+			List<GoOutDtoInterface> registeredMinutelyHolidayBList) throws MospException {
 		// 個人ID・勤務日取得
 		personalId = attendanceDto.getPersonalId();
 		workDate = attendanceDto.getWorkDate();
-		// 入力値を保持領域に設定
-		setInputParameters(attendanceDto, restList, publicGoOutList, privateGoOutList, minutelyHolidayAList,
-				minutelyHolidayBList);
 		// 計算基準値設定
-		setCalcInfo(attendanceDto, restList, publicGoOutList, privateGoOutList, minutelyHolidayAList,
-				minutelyHolidayBList);
+		setCalcInfo(attendanceDto, input.getRestList(), input.getPublicGoOutList(), input.getPrivateGoOutList(),
+				input.getMinutelyHolidayAList(), input.getMinutelyHolidayBList());
 		// 申請設定
 		RequestUtilBeanInterface requestUtil = (RequestUtilBeanInterface)createBean(RequestUtilBeanInterface.class);
 		requestUtil.setRequests(personalId, workDate);
@@ -5622,8 +5617,8 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 		// 代休申請日数計算
 		calcSubHolidayRequestDays(requestUtil);
 		// 分単位休暇時間数計算
-		minutelyHolidayADtoList = goOutReference.getMinutelyHolidayAList(personalId, workDate);
-		minutelyHolidayBDtoList = goOutReference.getMinutelyHolidayBList(personalId, workDate);
+		minutelyHolidayADtoList = registeredMinutelyHolidayAList;
+		minutelyHolidayBDtoList = registeredMinutelyHolidayBList;
 		calcMinutelyHolidayATime();
 		calcMinutelyHolidayBTime();
 		// 自動計算
@@ -5642,6 +5637,30 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 	
 	@Override
 	public void calcStartEndTime(AttendanceDtoInterface attendanceDto, boolean useBetweenTime) throws MospException {
+		// 登録済の分単位休暇を取得して始業時刻及び終業時刻の自動計算
+		calcStartEndTime(attendanceDto, useBetweenTime,
+				goOutReference.getMinutelyHolidayAList(attendanceDto.getPersonalId(), attendanceDto.getWorkDate()),
+				goOutReference.getMinutelyHolidayBList(attendanceDto.getPersonalId(), attendanceDto.getWorkDate()));
+	}
+	
+	@Override
+	public void calcStartEndTime(AttendanceDtoInterface attendanceDto, boolean useBetweenTime,
+			AttendanceCalcInputEntity input) throws MospException {
+		calcStartEndTime(attendanceDto, useBetweenTime, input.getMinutelyHolidayAList(),
+				input.getMinutelyHolidayBList());
+	}
+	
+	/**
+	 * 始業時刻及び終業時刻の自動計算処理を行う。<br>
+	 * @param attendanceDto 勤怠データ
+	 * @param useBetweenTime 前半休と後半休の間の時間を使う場合true、そうでない場合false
+	 * @param registeredMinutelyHolidayAList 分単位休暇時間数計算に用いる分単位休暇Aリスト
+	 * @param registeredMinutelyHolidayBList 分単位休暇時間数計算に用いる分単位休暇Bリスト
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	protected void calcStartEndTime(AttendanceDtoInterface attendanceDto, boolean useBetweenTime,
+			List<GoOutDtoInterface> registeredMinutelyHolidayAList,
+			List<GoOutDtoInterface> registeredMinutelyHolidayBList) throws MospException {
 		// 計算基準値設定
 		setCalcInfo(attendanceDto, new ArrayList<RestDtoInterface>(), new ArrayList<GoOutDtoInterface>(),
 				new ArrayList<GoOutDtoInterface>(), new ArrayList<GoOutDtoInterface>(),
@@ -5662,8 +5681,8 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 		// 休暇申請日数計算
 		calcHolidayRequest(requestUtil);
 		// 分単位休暇時間数計算
-		minutelyHolidayADtoList = goOutReference.getMinutelyHolidayAList(personalId, workDate);
-		minutelyHolidayBDtoList = goOutReference.getMinutelyHolidayBList(personalId, workDate);
+		minutelyHolidayADtoList = registeredMinutelyHolidayAList;
+		minutelyHolidayBDtoList = registeredMinutelyHolidayBList;
 		calcMinutelyHolidayATime();
 		calcMinutelyHolidayBTime();
 		// 自動計算
@@ -17,7 +17,9 @@
  */
 package jp.mosp.time.bean.impl;
 
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 import jp.mosp.framework.base.MospException;
 import jp.mosp.time.base.TimeBean;
@@ -25,6 +27,7 @@ import jp.mosp.time.bean.AttendanceCalcBeanInterface;
 import jp.mosp.time.dto.settings.AttendanceDtoInterface;
 import jp.mosp.time.dto.settings.GoOutDtoInterface;
 import jp.mosp.time.dto.settings.RestDtoInterface;
+import jp.mosp.time.entity.AttendanceCalcInputEntity;
 
 /**
  * 勤怠データ自動計算拡張クラス。<br>
@@ -65,10 +68,34 @@ public class AttendanceCalcExBean extends TimeBean implements AttendanceCalcBean
 		
 	}
 	
+	@Override
+	public void attendanceCalc(AttendanceDtoInterface attendanceDto, AttendanceCalcInputEntity input)
+			throws MospException {
+		attendanceClac.attendanceCalc(attendanceDto, input);
+	}
+	
+	@Override
+	public AttendanceCalcInputEntity getCalcInput(String personalId, Date workDate, int timesWork)
+			throws MospException {
+		return attendanceClac.getCalcInput(personalId, workDate, timesWork);
+	}
+	
+	@Override
+	public Map<Date, AttendanceCalcInputEntity> getCalcInputMap(String personalId, Date startDate, Date endDate,
+			int timesWork) throws MospException {
+		return attendanceClac.getCalcInputMap(personalId, startDate, endDate, timesWork);
+	}
+	
 	@Override
 	public void calcStartEndTime(AttendanceDtoInterface attendanceDto, boolean useBetweenTime) throws MospException {
 		attendanceClac.calcStartEndTime(attendanceDto, useBetweenTime);
 		
 	}
 	
+	@Override
+	public void calcStartEndTime(AttendanceDtoInterface attendanceDto, boolean useBetweenTime,
+			AttendanceCalcInputEntity input) throws MospException {
+		attendanceClac.calcStartEndTime(attendanceDto, useBetweenTime, input);
+	}
+	
 }
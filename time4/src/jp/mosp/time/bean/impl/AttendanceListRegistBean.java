@@ -18,8 +18,11 @@
 package jp.mosp.time.bean.impl;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import jp.mosp.framework.base.MospException;
 import jp.mosp.framework.constant.MospConst;
@@ -60,6 +63,7 @@ import jp.mosp.time.dto.settings.WorkOnHolidayRequestDtoInterface;
 import jp.mosp.time.dto.settings.WorkTypeChangeRequestDtoInterface;
 import jp.mosp.time.dto.settings.WorkTypeDtoInterface;
 import jp.mosp.time.dto.settings.WorkTypeItemDtoInterface;
+import jp.mosp.time.entity.AttendanceCalcInputEntity;
 import jp.mosp.time.entity.RequestEntity;
 import jp.mosp.time.utils.TimeUtility;
 
@@ -149,6 +153,12 @@ public class AttendanceListRegistBean extends AttendanceBean implements Attendan
 	 */
 	protected TimeSettingDtoInterface						timeSettingDto;
 	
+	/**
+	 * 登録前勤怠計算入力情報群(キー：勤務日)。<br>
+	 * 日毎処理の前に対象期間分をまとめて取得し、対象日の休憩情報及び外出情報を登録する前に取り出される。<br>
+	 */
+	protected Map<Date, AttendanceCalcInputEntity>			calcInputMap;
+	
 	/**
 	 * 勤怠データ休憩情報参照インターフェース。
 	 */
@@ -209,6 +219,8 @@ public class AttendanceListRegistBean extends AttendanceBean implements Attendan
 		}
 		// エラーメッセージリスト
 		List<String> errorMessageList = new ArrayList<String>();
+		// 登録前勤怠計算入力情報群を取得
+		setCalcInputMap(targetDateList);
 		// 対象日毎に勤怠情報を作成して登録
 		for (int i = 0; i < targetDateList.size(); i++) {
 			// 対象日付設定
@@ -254,6 +266,8 @@ public class AttendanceListRegistBean extends AttendanceBean implements Attendan
 				continue;
 			}
 		}
+		// 登録前勤怠計算入力情報群を破棄
+		calcInputMap = null;
 		if (!errorMessageList.isEmpty()) {
 			mospParams.getErrorMessageList().addAll(errorMessageList);
 		}
@@ -278,7 +292,10 @@ public class AttendanceListRegistBean extends AttendanceBean implements Attendan
 		AttendanceDtoInterface dto = null;
 		// エラーメッセージリスト
 		List<String> errorMessageList = new ArrayList<String>();
+		// 登録前勤怠計算入力情報群を取得
+		setCalcInputMap(targetDateList);
 		// 対象日毎に勤怠情報を作成して登録
+		// (ワークフロー、休憩、代休等は各登録クラスの確認を経て日毎に登録されるため、一括登録しない)
 		for (int i = 0; i < targetDateList.size(); i++) {
 			// 対象日付設定
 			targetDate = targetDateList.get(i);
@@ -343,6 +360,8 @@ public class AttendanceListRegistBean extends AttendanceBean implements Attendan
 				continue;
 			}
 		}
+		// 登録前勤怠計算入力情報群を破棄
+		calcInputMap = null;
 		if (!errorMessageList.isEmpty()) {
 			mospParams.getErrorMessageList().addAll(errorMessageList);
 		}
@@ -425,8 +444,10 @@ public class AttendanceListRegistBean extends AttendanceBean implements Attendan
 		dto.setEndTime(endTime);
 		// 実終業時刻設定
 		dto.setActualEndTime(endTime);
+		// 登録前勤怠計算入力情報取得
+		AttendanceCalcInputEntity oldInput = getOldCalcInput(attendanceCalc);
 		// 始業終業時刻自動計算
-		attendanceCalc.calcStartEndTime(dto, true);
+		attendanceCalc.calcStartEndTime(dto, true, oldInput);
 		boolean isWorkflowDraft = false;
 		if (dto.getWorkflow() != 0) {
 			// 既にワークフロー番号が設定されている場合
@@ -446,17 +467,15 @@ public class AttendanceListRegistBean extends AttendanceBean implements Attendan
 			}
 		}
 		// 休憩時間
-		List<RestDtoInterface> oldRestList = restReference.getRestList(personalId, targetDate, dto.getTimesWork());
+		List<RestDtoInterface> oldRestList = oldInput.getRestList();
 		// 公用外出時間
-		List<GoOutDtoInterface> oldPublicGoOutList = goOutReference.getPublicGoOutList(personalId, targetDate);
+		List<GoOutDtoInterface> oldPublicGoOutList = oldInput.getPublicGoOutList();
 		// 私用外出時間
-		List<GoOutDtoInterface> oldPrivateGoOutList = goOutReference.getPrivateGoOutList(personalId, targetDate);
+		List<GoOutDtoInterface> oldPrivateGoOutList = oldInput.getPrivateGoOutList();
 		// 分単位休暇A時間
-		List<GoOutDtoInterface> oldMinutely1HolidayGoOutList = goOutReference.getMinutelyHolidayAList(personalId,
-				targetDate);
+		List<GoOutDtoInterface> oldMinutely1HolidayGoOutList = oldInput.getMinutelyHolidayAList();
 		// 分単位休暇B時間
-		List<GoOutDtoInterface> oldMinutely2HolidayGoOutList = goOutReference.getMinutelyHolidayBList(personalId,
-				targetDate);
+		List<GoOutDtoInterface> oldMinutely2HolidayGoOutList = oldInput.getMinutelyHolidayBList();
 		// 休憩時間登録
 		if (deleteRest) {
 			// 削除
@@ -473,19 +492,19 @@ public class AttendanceListRegistBean extends AttendanceBean implements Attendan
 		registMinutelyHolidayAGoOut(dto.getStartTime(), dto.getEndTime());
 		// 分単位休暇B時間登録
 		registMinutelyHolidayBGoOut(dto.getStartTime(), dto.getEndTime());
+		// 登録後の勤怠計算入力情報取得
+		AttendanceCalcInputEntity input = attendanceCalc.getCalcInput(personalId, targetDate, dto.getTimesWork());
 		// 勤怠データ自動計算
-		attendanceCalc.attendanceCalc(dto);
+		attendanceCalc.attendanceCalc(dto, input);
 		if (mospParams.hasErrorMessage()) {
 			return null;
 		}
 		if (isAppli) {
-			List<RestDtoInterface> restList = restReference.getRestList(personalId, targetDate, dto.getTimesWork());
-			List<GoOutDtoInterface> publicList = goOutReference.getPublicGoOutList(personalId, targetDate);
-			List<GoOutDtoInterface> privateList = goOutReference.getPrivateGoOutList(personalId, targetDate);
-			List<GoOutDtoInterface> minutely1HolidayList = goOutReference.getMinutelyHolidayAList(personalId,
-					targetDate);
-			List<GoOutDtoInterface> minutely2HolidayList = goOutReference.getMinutelyHolidayBList(personalId,
-					targetDate);
+			List<RestDtoInterface> restList = input.getRestList();
+			List<GoOutDtoInterface> publicList = input.getPublicGoOutList();
+			List<GoOutDtoInterface> privateList = input.getPrivateGoOutList();
+			List<GoOutDtoInterface> minutely1HolidayList = input.getMinutelyHolidayAList();
+			List<GoOutDtoInterface> minutely2HolidayList = input.getMinutelyHolidayBList();
 			// 休暇申請時間休確認
 			attendanceRegist.checkHolidayTime(personalId, dto.getWorkDate(), restList, publicList, privateList,
 					minutely1HolidayList, minutely2HolidayList);
@@ -507,6 +526,42 @@ public class AttendanceListRegistBean extends AttendanceBean implements Attendan
 		return dto;
 	}
 	
+	/**
+	 * 対象日リストの期間における登録前勤怠計算入力情報群を取得し、設定する。<br>
+	 * 休憩情報及び外出情報を、期間分まとめてそれぞれ1回の検索で取得する。<br>
+	 * @param targetDateList 対象日リスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected void setCalcInputMap(List<Date> targetDateList) throws MospException {
+		calcInputMap = new HashMap<Date, AttendanceCalcInputEntity>();
+		// 対象日確認
+		if (targetDateList.isEmpty()) {
+			return;
+		}
+		Date startDate = Collections.min(targetDateList);
+		Date endDate = Collections.max(targetDateList);
+		AttendanceCalcBeanInterface attendanceCalc = (AttendanceCalcBeanInterface)createBean(
+				AttendanceCalcBeanInterface.class, startDate);
+		calcInputMap.putAll(attendanceCalc.getCalcInputMap(personalId, startDate, endDate, TIMES_WORK_DEFAULT));
+	}
+	
+	/**
+	 * 対象日の登録前勤怠計算入力情報を取得する。<br>
+	 * 登録前勤怠計算入力情報群に存在する場合はそこから取り出し(対象日の登録後は利用できないため除去する)、
+	 * 存在しない場合はDBから取得する。<br>
+	 * @param attendanceCalc 自動計算クラス
+	 * @return 登録前勤怠計算入力情報
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected AttendanceCalcInputEntity getOldCalcInput(AttendanceCalcBeanInterface attendanceCalc)
+			throws MospException {
+		AttendanceCalcInputEntity input = calcInputMap == null ? null : calcInputMap.remove(targetDate);
+		if (input != null) {
+			return input;
+		}
+		return attendanceCalc.getCalcInput(personalId, targetDate, TIMES_WORK_DEFAULT);
+	}
+	
 	/**
 	 * 対象個人IDの対象日における勤怠データを新規作成するのに必要な
 	 * 各種情報を、取得及び設定する。<br>
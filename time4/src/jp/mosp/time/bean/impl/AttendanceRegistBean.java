@@ -27,6 +27,7 @@ import java.util.TreeMap;
 
 import jp.mosp.framework.base.MospException;
 import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.base.MospPersonalCache;
 import jp.mosp.framework.constant.MospConst;
 import jp.mosp.framework.utils.DateUtility;
 import jp.mosp.framework.utils.MospUtility;
@@ -289,6 +290,8 @@ public class AttendanceRegistBean extends TimeApplicationBean implements Attenda
 		dto.setTmdAttendanceId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// 個人別共有キャッシュに更新を通知
+		MospPersonalCache.invalidate(mospParams, dto.getPersonalId());
 		if (mospParams.hasErrorMessage()) {
 			return;
 		}
@@ -321,6 +324,8 @@ public class AttendanceRegistBean extends TimeApplicationBean implements Attenda
 		dto.setTmdAttendanceId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// 個人別共有キャッシュに更新を通知
+		MospPersonalCache.invalidate(mospParams, dto.getPersonalId());
 		if (mospParams.hasErrorMessage()) {
 			return;
 		}
@@ -2219,6 +2224,8 @@ public class AttendanceRegistBean extends TimeApplicationBean implements Attenda
 	public void delete(AttendanceDtoInterface dto) throws MospException {
 		// 論理削除
 		logicalDelete(dao, dto.getTmdAttendanceId());
+		// 個人別共有キャッシュに更新を通知
+		MospPersonalCache.invalidate(mospParams, dto.getPersonalId());
 		if (mospParams.hasErrorMessage()) {
 			return;
 		}
@@ -18,6 +18,7 @@
 package jp.mosp.time.bean.impl;
 
 import java.sql.Connection;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -596,7 +597,27 @@ public class AttendanceTransactionRegistBean extends TimeBean implements Attenda
 	
 	@Override
 	public void regist(String personalId, Map<Date, String> attendanceMap) throws MospException {
-		//  勤怠トランザクション登録判定情報毎に処理
+		// 勤怠トランザクション登録判定情報が無い場合
+		if (attendanceMap.isEmpty()) {
+			return;
+		}
+		// 対象期間を取得
+		Date firstDate = null;
+		Date lastDate = null;
+		for (Date workDate : attendanceMap.keySet()) {
+			if (firstDate == null || workDate.before(firstDate)) {
+				firstDate = workDate;
+			}
+			if (lastDate == null || workDate.after(lastDate)) {
+				lastDate = workDate;
+			}
+		}
+		// DBから対象期間の勤怠トランザクションを取得
+		Map<Date, AttendanceTransactionDtoInterface> formerMap = dao.findForTerm(personalId, firstDate, lastDate);
+		// 論理削除対象レコード識別IDリスト及び登録対象DTOリストを準備
+		List<Long> idList = new ArrayList<Long>();
+		List<AttendanceTransactionDtoInterface> list = new ArrayList<AttendanceTransactionDtoInterface>();
+		// 勤怠トランザクション登録判定情報毎に処理
 		for (Entry<Date, String> entry : attendanceMap.entrySet()) {
 			// 出勤日を取得
 			Date workDate = entry.getKey();
@@ -609,16 +630,25 @@ public class AttendanceTransactionRegistBean extends TimeBean implements Attenda
 			dto.setAttendanceType(attendanceType);
 			dto.setNumerator(0);
 			dto.setDenominator(0);
-			// DBから勤怠トランザクションを取得
-			AttendanceTransactionDtoInterface formerDto = dao.findForKey(personalId, workDate);
+			// DTOの妥当性確認
+			validate(dto);
+			if (mospParams.hasErrorMessage()) {
+				return;
+			}
 			// 勤怠トランザクションが存在する場合
+			AttendanceTransactionDtoInterface formerDto = formerMap.get(workDate);
 			if (formerDto != null) {
-				// 論理削除
-				logicalDelete(dao, formerDto.getTmtAttendanceId());
+				// 論理削除対象に追加
+				idList.add(formerDto.getTmtAttendanceId());
 			}
-			// 登録
-			insert(dto);
+			// レコード識別ID最大値をインクリメントしてDTOに設定
+			dto.setTmtAttendanceId(dao.nextRecordId());
+			list.add(dto);
 		}
+		// 一括論理削除(削除済のレコードが含まれる場合は更新件数確認で例外となる)
+		dao.batchLogicalDelete(idList);
+		// 一括登録(同じ出勤日の勤怠トランザクションは論理削除済のため重複しない)
+		dao.batchInsert(list);
 	}
 	
 	/**
@@ -29,6 +29,8 @@ import jp.mosp.framework.base.MospParams;
 import jp.mosp.framework.constant.MospConst;
 import jp.mosp.framework.utils.DateUtility;
 import jp.mosp.framework.utils.MospUtility;
+import jp.mosp.orangesignal.OrangeSignalRowHandler;
+import jp.mosp.orangesignal.OrangeSignalStreamSource;
 import jp.mosp.platform.base.PlatformBean;
 import jp.mosp.platform.bean.human.HumanSearchBeanInterface;
 import jp.mosp.platform.bean.human.RetirementReferenceBeanInterface;
@@ -243,22 +245,40 @@ public class ExportTableReferenceBean extends PlatformBean implements ExportTabl
 	
 	@Override
 	public List<String[]> export() throws MospException {
+		// リスト準備
+		final List<String[]> list = new ArrayList<String[]>();
+		// エクスポート(CSVデータをリストに追加)
+		boolean isExported = export(new OrangeSignalRowHandler() {
+			
+			@Override
+			public boolean handle(String[] row) {
+				list.add(row);
+				return true;
+			}
+		});
+		// エクスポート情報が存在しない場合
+		if (isExported == false) {
+			return null;
+		}
+		return list;
+	}
+	
+	@Override
+	public boolean export(OrangeSignalRowHandler handler) throws MospException {
 		// エクスポート情報取得
 		ExportDtoInterface exportDto = exportDao.findForKey(exportCode);
 		// 情報確認
 		if (exportDto == null) {
-			return null;
+			return false;
 		}
 		// エクスポートフィールドマスタリストを取得
 		List<ExportFieldDtoInterface> exportFieldDtoList = exportFieldDao.findForList(exportCode);
 		// リスト確認
 		if (exportFieldDtoList.isEmpty()) {
-			return null;
+			return false;
 		}
 		// エクスポート時間フォーマット区分
 		int format = getExportTimeFormat();
-		// リスト準備
-		List<String[]> list = new ArrayList<String[]>();
 		// ヘッダが有りの場合
 		if (exportDto.getHeader() == 1) {
 			// ヘッダリスト準備
@@ -269,8 +289,10 @@ public class ExportTableReferenceBean extends PlatformBean implements ExportTabl
 				headerList.add(mospParams.getProperties().getCodeItemName(exportDto.getExportTable(),
 						exportFieldDto.getFieldName()));
 			}
-			// 1行目にヘッダ名列追加
-			list.add(headerList.toArray(new String[0]));
+			// 1行目にヘッダ名列を処理
+			if (handler.handle(headerList.toArray(new String[0])) == false) {
+				return true;
+			}
 		}
 		// 対象年月及び締日から締期間初日及び最終日を取得
 		Date startDate = cutoffUtil.getCutoffFirstDate(cutoffCode, startYear, startMonth);
@@ -349,7 +371,7 @@ public class ExportTableReferenceBean extends PlatformBean implements ExportTabl
 			
 			// 人事情報確認
 			if (humanList.isEmpty()) {
-				return list;
+				return true;
 			}
 			// 人事情報毎に処理
 			for (HumanDtoInterface humanDto : humanList) {
@@ -387,12 +409,15 @@ public class ExportTableReferenceBean extends PlatformBean implements ExportTabl
 					}
 					// 対象社員出力リスト取得
 					List<String[]> AttandanceBookList = getFieldValue(humanDto, exportFieldDtoList, actualList);
-					// CSVデータをCSVデータリストに追加
-					list.addAll(AttandanceBookList);
+					// CSVデータを処理
+					for (String[] row : AttandanceBookList) {
+						if (handler.handle(row) == false) {
+							return true;
+						}
+					}
 				}
 			}
-			exportDataDao.closers();
-			return list;
+			return true;
 		}
 		try {
 			while (rs != null && rs.next()) {
@@ -809,13 +834,22 @@ public class ExportTableReferenceBean extends PlatformBean implements ExportTabl
 					}
 					dataList.add(rs.getString(fieldName));
 				}
-				list.add(dataList.toArray(new String[0]));
+				// CSVデータを処理
+				if (handler.handle(dataList.toArray(new String[0])) == false) {
+					break;
+				}
 			}
 		} catch (SQLException e) {
 			throw new MospException(e);
+		} finally {
+			exportDataDao.closers();
 		}
-		exportDataDao.closers();
-		return list;
+		return true;
+	}
+	
+	@Override
+	public OrangeSignalStreamSource getStreamSource() {
+		return new ExportTableStreamSource(this);
 	}
 	
 	/**
@@ -0,0 +1,158 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.bean.impl;
+
+import jp.mosp.framework.base.DBConnBean;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.instance.InstanceFactory;
+import jp.mosp.orangesignal.OrangeSignalRowHandler;
+import jp.mosp.orangesignal.OrangeSignalStreamSource;
+import jp.mosp.platform.constant.PlatformMessageConst;
+import jp.mosp.time.bean.ExportTableReferenceBeanInterface;
+
+/**
+ * エクスポートCSVデータ作成元クラス。<br>
+ * <br>
+ * {@link ExportTableReferenceBean}に設定されていた条件を保持し、
+ * ファイル送出時に専用のDBコネクションを取得してエクスポートを行う。<br>
+ * 作成したCSVデータは、1行ずつ行処理に渡される。<br>
+ * 出力対象が存在しない場合は、エラーメッセージを設定する。<br>
+ */
+public class ExportTableStreamSource implements OrangeSignalStreamSource {
+	
+	/**
+	 * エクスポートコード。
+	 */
+	protected String	exportCode;
+	
+	/**
+	 * 開始年。
+	 */
+	protected int		startYear;
+	
+	/**
+	 * 開始月。
+	 */
+	protected int		startMonth;
+	
+	/**
+	 * 終了年。
+	 */
+	protected int		endYear;
+	
+	/**
+	 * 終了月。
+	 */
+	protected int		endMonth;
+	
+	/**
+	 * 締日コード。
+	 */
+	protected String	cutoffCode;
+	
+	/**
+	 * 勤務地コード。
+	 */
+	protected String	workPlaceCode;
+	
+	/**
+	 * 雇用契約コード。
+	 */
+	protected String	employmentCode;
+	
+	/**
+	 * 所属コード。
+	 */
+	protected String	sectionCode;
+	
+	/**
+	 * 職位コード。
+	 */
+	protected String	positionCode;
+	
+	/**
+	 * 下位所属要否。
+	 */
+	protected int		ckbNeedLowerSection;
+	
+	
+	/**
+	 * エクスポートクラスに設定されている条件を保持する。<br>
+	 * @param bean エクスポートクラス
+	 */
+	public ExportTableStreamSource(ExportTableReferenceBean bean) {
+		exportCode = bean.exportCode;
+		startYear = bean.startYear;
+		startMonth = bean.startMonth;
+		endYear = bean.endYear;
+		endMonth = bean.endMonth;
+		cutoffCode = bean.cutoffCode;
+		workPlaceCode = bean.workPlaceCode;
+		employmentCode = bean.employmentCode;
+		sectionCode = bean.sectionCode;
+		positionCode = bean.positionCode;
+		ckbNeedLowerSection = bean.ckbNeedLowerSection;
+	}
+	
+	@Override
+	public void write(MospParams mospParams, final OrangeSignalRowHandler handler) throws MospException {
+		// DBコネクションを取得
+		DBConnBean dbConnBean = new DBConnBean(mospParams);
+		try {
+			// エクスポートクラスを取得
+			ExportTableReferenceBeanInterface exportTable = (ExportTableReferenceBeanInterface)InstanceFactory
+				.loadBean(ExportTableReferenceBeanInterface.class, mospParams, dbConnBean.getConnection());
+			// 条件設定
+			exportTable.setExportCode(exportCode);
+			exportTable.setStartYear(startYear);
+			exportTable.setStartMonth(startMonth);
+			exportTable.setEndYear(endYear);
+			exportTable.setEndMonth(endMonth);
+			exportTable.setCutoffCode(cutoffCode);
+			exportTable.setWorkPlaceCode(workPlaceCode);
+			exportTable.setEmploymentCode(employmentCode);
+			exportTable.setSectionCode(sectionCode);
+			exportTable.setCkbNeedLowerSection(ckbNeedLowerSection);
+			exportTable.setPositionCode(positionCode);
+			// 行数準備
+			final int[] count = { 0 };
+			// エクスポート
+			exportTable.export(new OrangeSignalRowHandler() {
+				
+				@Override
+				public boolean handle(String[] row) throws MospException {
+					count[0]++;
+					return handler.handle(row);
+				}
+			});
+			// 出力対象が存在しない場合
+			if (count[0] == 0 && mospParams.hasErrorMessage() == false) {
+				// 該当するエクスポート情報が存在しない
+				StringBuffer sb = new StringBuffer();
+				sb.append(mospParams.getName("Export"));
+				sb.append(mospParams.getName("Information"));
+				mospParams.addErrorMessage(PlatformMessageConst.MSG_NO_ITEM, sb.toString());
+			}
+		} finally {
+			// DBコネクション解放(参照のみのためロールバックされる)
+			dbConnBean.releaseConnection();
+		}
+	}
+	
+}
@@ -100,4 +100,10 @@ public class GoOutReferenceBean extends TimeBean implements GoOutReferenceBeanIn
 		return getGoOutList(personalId, workDate, TIMES_WORK_DEFAULT, TimeConst.CODE_GO_OUT_MINUTELY_HOLIDAY_B);
 	}
 	
+	@Override
+	public List<GoOutDtoInterface> getGoOutList(String personalId, Date startDate, Date endDate)
+			throws MospException {
+		return dao.findForTerm(personalId, startDate, endDate, TIMES_WORK_DEFAULT);
+	}
+	
 }
@@ -27,6 +27,7 @@ import jp.mosp.framework.base.MospException;
 import jp.mosp.framework.base.MospParams;
 import jp.mosp.framework.constant.MospConst;
 import jp.mosp.framework.utils.DateUtility;
+import jp.mosp.framework.utils.MospUtility;
 import jp.mosp.platform.base.PlatformBean;
 import jp.mosp.platform.bean.human.RetirementReferenceBeanInterface;
 import jp.mosp.platform.bean.human.SuspensionReferenceBeanInterface;
@@ -48,6 +49,7 @@ import jp.mosp.time.bean.HolidayInfoReferenceBeanInterface;
 import jp.mosp.time.bean.HolidayReferenceBeanInterface;
 import jp.mosp.time.bean.HolidayRequestReferenceBeanInterface;
 import jp.mosp.time.bean.HolidayRequestRegistBeanInterface;
+import jp.mosp.time.bean.PaidHolidayBalanceRegistBeanInterface;
 import jp.mosp.time.bean.PaidHolidayInfoReferenceBeanInterface;
 import jp.mosp.time.bean.RequestUtilBeanInterface;
 import jp.mosp.time.bean.ScheduleUtilBeanInterface;
@@ -217,6 +219,11 @@ public class HolidayRequestRegistBean extends TimeApplicationBean implements Hol
 	 */
 	protected DifferenceRequestReferenceBeanInterface		differenceRequestReference;
 	
+	/**
+	 * 有給休暇残高台帳登録クラス。
+	 */
+	protected PaidHolidayBalanceRegistBeanInterface		paidHolidayBalanceRegist;
+	
 	
 	/**
 	 * {@link PlatformBean#PlatformBean()}を実行する。<br>
@@ -272,6 +279,8 @@ public class HolidayRequestRegistBean extends TimeApplicationBean implements Hol
 				WorkTypeChangeRequestReferenceBeanInterface.class);
 		differenceRequestReference = (DifferenceRequestReferenceBeanInterface)createBean(
 				DifferenceRequestReferenceBeanInterface.class);
+		paidHolidayBalanceRegist = (PaidHolidayBalanceRegistBeanInterface)createBean(
+				PaidHolidayBalanceRegistBeanInterface.class);
 	}
 	
 	@Override
@@ -295,6 +304,8 @@ public class HolidayRequestRegistBean extends TimeApplicationBean implements Hol
 		dto.setTmdHolidayRequestId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// 有給休暇残高台帳登録
+		paidHolidayBalanceRegist.regist(dto);
 	}
 	
 	@Override
@@ -309,12 +320,16 @@ public class HolidayRequestRegistBean extends TimeApplicationBean implements Hol
 		if (mospParams.hasErrorMessage()) {
 			return;
 		}
+		// 更新前の休暇申請を取得
+		BaseDtoInterface previousDto = dao.findForKey(dto.getTmdHolidayRequestId(), false);
 		// 論理削除
 		logicalDelete(dao, dto.getTmdHolidayRequestId());
 		// レコード識別ID最大値をインクリメントしてDTOに設定
 		dto.setTmdHolidayRequestId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// 有給休暇残高台帳登録
+		registPaidHolidayBalance((HolidayRequestDtoInterface)previousDto, dto);
 	}
 	
 	@Override
@@ -340,12 +355,16 @@ public class HolidayRequestRegistBean extends TimeApplicationBean implements Hol
 		if (mospParams.hasErrorMessage()) {
 			return;
 		}
+		// 更新前の休暇申請を取得
+		BaseDtoInterface previousDto = dao.findForKey(dto.getTmdHolidayRequestId(), false);
 		// 論理削除
 		logicalDelete(dao, dto.getTmdHolidayRequestId());
 		// レコード識別ID最大値をインクリメントしてDTOに設定
 		dto.setTmdHolidayRequestId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// 有給休暇残高台帳登録
+		registPaidHolidayBalance((HolidayRequestDtoInterface)previousDto, dto);
 	}
 	
 	@Override
@@ -357,6 +376,8 @@ public class HolidayRequestRegistBean extends TimeApplicationBean implements Hol
 		}
 		// 論理削除
 		logicalDelete(dao, dto.getTmdHolidayRequestId());
+		// 有給休暇残高台帳登録
+		paidHolidayBalanceRegist.regist(dto);
 	}
 	
 	@Override
@@ -394,7 +415,34 @@ public class HolidayRequestRegistBean extends TimeApplicationBean implements Hol
 						mospParams.getProperties().getMessage(PlatformMessageConst.MSG_PROCESS_SUCCEED,
 								new String[]{ mospParams.getName("TakeDown") }));
 			}
+			// 有給休暇残高台帳登録
+			paidHolidayBalanceRegist.regist(dto);
+		}
+	}
+	
+	/**
+	 * 有給休暇残高台帳を登録する。<br>
+	 * 更新前後で休暇種別或いは休暇取得日が異なる場合は、更新前の台帳も登録し直す。<br>
+	 * @param previousDto 更新前の休暇申請(null可)
+	 * @param dto         更新後の休暇申請
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected void registPaidHolidayBalance(HolidayRequestDtoInterface previousDto, HolidayRequestDtoInterface dto)
+			throws MospException {
+		// 更新後の台帳を登録
+		paidHolidayBalanceRegist.regist(dto);
+		// 更新前の休暇申請が存在しない場合
+		if (previousDto == null) {
+			return;
+		}
+		// 休暇種別及び休暇取得日が同じ場合
+		if (previousDto.getHolidayType1() == dto.getHolidayType1()
+				&& MospUtility.isEqual(previousDto.getHolidayType2(), dto.getHolidayType2())
+				&& DateUtility.isSame(previousDto.getHolidayAcquisitionDate(), dto.getHolidayAcquisitionDate())) {
+			return;
 		}
+		// 更新前の台帳を登録
+		paidHolidayBalanceRegist.regist(previousDto);
 	}
 	
 	/**
@@ -252,6 +252,12 @@ public class ImportTableReferenceBean extends PlatformBean implements ImportTabl
 	
 	@Override
 	public List<AttendanceDtoInterface> getAttendanceList(String importCode, List<String[]> list) throws MospException {
+		return getAttendanceList(importCode, list, 0);
+	}
+	
+	@Override
+	public List<AttendanceDtoInterface> getAttendanceList(String importCode, List<String[]> list, int firstRow)
+			throws MospException {
 		ImportDtoInterface importDto = importDao.findForKey(importCode);
 		if (importDto == null) {
 			return null;
@@ -261,7 +267,7 @@ public class ImportTableReferenceBean extends PlatformBean implements ImportTabl
 			return null;
 		}
 		List<AttendanceDtoInterface> attendanceList = new ArrayList<AttendanceDtoInterface>();
-		int i = 0;
+		int i = firstRow;
 		for (String[] csvArray : list) {
 			if (importDto.getHeader() == 1 && i == 0) {
 				// ヘッダが有りの場合
@@ -1562,6 +1568,12 @@ public class ImportTableReferenceBean extends PlatformBean implements ImportTabl
 	@Override
 	public List<TotalTimeDataDtoInterface> getTotalTimeList(String importCode, List<String[]> list)
 			throws MospException {
+		return getTotalTimeList(importCode, list, 0);
+	}
+	
+	@Override
+	public List<TotalTimeDataDtoInterface> getTotalTimeList(String importCode, List<String[]> list, int firstRow)
+			throws MospException {
 		ImportDtoInterface importDto = importDao.findForKey(importCode);
 		if (importDto == null) {
 			return null;
@@ -1571,7 +1583,7 @@ public class ImportTableReferenceBean extends PlatformBean implements ImportTabl
 			return null;
 		}
 		List<TotalTimeDataDtoInterface> totaltimeList = new ArrayList<TotalTimeDataDtoInterface>();
-		int i = 0;
+		int i = firstRow;
 		for (String[] csvArray : list) {
 			if (importDto.getHeader() == 1 && i == 0) {
 				// ヘッダが有り場合
@@ -2872,6 +2884,12 @@ public class ImportTableReferenceBean extends PlatformBean implements ImportTabl
 	@Override
 	public List<PaidHolidayDataDtoInterface> getPaidHolidayList(String importCode, List<String[]> list)
 			throws MospException {
+		return getPaidHolidayList(importCode, list, 0);
+	}
+	
+	@Override
+	public List<PaidHolidayDataDtoInterface> getPaidHolidayList(String importCode, List<String[]> list, int firstRow)
+			throws MospException {
 		Date systemDate = getSystemDate();
 		ImportDtoInterface importDto = importDao.findForKey(importCode);
 		if (importDto == null) {
@@ -2882,7 +2900,7 @@ public class ImportTableReferenceBean extends PlatformBean implements ImportTabl
 			return null;
 		}
 		List<PaidHolidayDataDtoInterface> paidHolidayDataList = new ArrayList<PaidHolidayDataDtoInterface>();
-		int i = 0;
+		int i = firstRow;
 		for (String[] csvArray : list) {
 			if (importDto.getHeader() == 1 && i == 0) {
 				// ヘッダが有り場合
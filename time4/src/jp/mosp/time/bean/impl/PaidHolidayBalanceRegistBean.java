@@ -0,0 +1,309 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.bean.impl;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import jp.mosp.framework.base.BaseDtoInterface;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.utils.DateUtility;
+import jp.mosp.platform.bean.workflow.WorkflowIntegrateBeanInterface;
+import jp.mosp.time.base.TimeBean;
+import jp.mosp.time.bean.PaidHolidayBalanceRegistBeanInterface;
+import jp.mosp.time.constant.TimeConst;
+import jp.mosp.time.dao.settings.HolidayRequestDaoInterface;
+import jp.mosp.time.dao.settings.PaidHolidayBalanceDaoInterface;
+import jp.mosp.time.dao.settings.PaidHolidayDataDaoInterface;
+import jp.mosp.time.dao.settings.PaidHolidayTransactionDaoInterface;
+import jp.mosp.time.dto.settings.HolidayRequestDtoInterface;
+import jp.mosp.time.dto.settings.PaidHolidayBalanceDtoInterface;
+import jp.mosp.time.dto.settings.PaidHolidayDataDtoInterface;
+import jp.mosp.time.dto.settings.PaidHolidayTransactionDtoInterface;
+import jp.mosp.time.dto.settings.impl.TmdPaidHolidayBalanceDto;
+
+/**
+ * 有給休暇残高台帳登録クラス。
+ */
+public class PaidHolidayBalanceRegistBean extends TimeBean implements PaidHolidayBalanceRegistBeanInterface {
+	
+	/**
+	 * 有給休暇残高台帳DAO。
+	 */
+	protected PaidHolidayBalanceDaoInterface		dao;
+	
+	/**
+	 * 有給休暇データDAO。
+	 */
+	protected PaidHolidayDataDaoInterface			paidHolidayDataDao;
+	
+	/**
+	 * 有給休暇トランザクションDAO。
+	 */
+	protected PaidHolidayTransactionDaoInterface	paidHolidayTransactionDao;
+	
+	/**
+	 * 休暇申請DAO。
+	 */
+	protected HolidayRequestDaoInterface			holidayRequestDao;
+	
+	/**
+	 * ワークフロー統合クラス。
+	 */
+	protected WorkflowIntegrateBeanInterface		workflowIntegrate;
+	
+	
+	/**
+	 * {@link TimeBean#TimeBean()}を実行する。<br>
+	 */
+	public PaidHolidayBalanceRegistBean() {
+		super();
+	}
+	
+	/**
+	 * {@link TimeBean#TimeBean(MospParams, Connection)}を実行する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param connection DBコネクション
+	 */
+	public PaidHolidayBalanceRegistBean(MospParams mospParams, Connection connection) {
+		super(mospParams, connection);
+	}
+	
+	@Override
+	public void initBean() throws MospException {
+		dao = (PaidHolidayBalanceDaoInterface)createDao(PaidHolidayBalanceDaoInterface.class);
+		paidHolidayDataDao = (PaidHolidayDataDaoInterface)createDao(PaidHolidayDataDaoInterface.class);
+		paidHolidayTransactionDao = (PaidHolidayTransactionDaoInterface)createDao(
+				PaidHolidayTransactionDaoInterface.class);
+		holidayRequestDao = (HolidayRequestDaoInterface)createDao(HolidayRequestDaoInterface.class);
+		workflowIntegrate = (WorkflowIntegrateBeanInterface)createBean(WorkflowIntegrateBeanInterface.class);
+	}
+	
+	@Override
+	public PaidHolidayBalanceDtoInterface getInitDto() {
+		return new TmdPaidHolidayBalanceDto();
+	}
+	
+	@Override
+	public void regist(String personalId, Date acquisitionDate) throws MospException {
+		// 対象付与の台帳を行ロックを取得して取得(同一付与に対する更新を直列化)
+		List<PaidHolidayBalanceDtoInterface> balanceList = dao.findForAcquisition(personalId, acquisitionDate, true);
+		// 有給休暇データの履歴毎に集計
+		for (PaidHolidayDataDtoInterface dataDto : paidHolidayDataDao.findForHistory(personalId, acquisitionDate)) {
+			PaidHolidayBalanceDtoInterface dto = calc(dataDto);
+			// 有効日が同じ台帳を取得(リストからは除去)
+			PaidHolidayBalanceDtoInterface current = remove(balanceList, dataDto.getActivateDate());
+			if (current == null) {
+				// 新規登録
+				dto.setTmdPaidHolidayBalanceId(dao.nextRecordId());
+				if (dao.insertIfAbsent(dto)) {
+					continue;
+				}
+				// 他のトランザクションが同じ台帳を登録していた場合は再取得して更新
+				current = remove(dao.findForAcquisition(personalId, acquisitionDate, true), dataDto.getActivateDate());
+				if (current == null) {
+					continue;
+				}
+			}
+			// 集計結果が変わらない場合
+			if (isSame(current, dto)) {
+				continue;
+			}
+			// 更新
+			dto.setTmdPaidHolidayBalanceId(current.getTmdPaidHolidayBalanceId());
+			dao.update(dto);
+		}
+		// 有給休暇データの履歴が無くなった台帳を削除
+		for (PaidHolidayBalanceDtoInterface dto : balanceList) {
+			dao.delete(dto);
+		}
+	}
+	
+	@Override
+	public void regist(BaseDtoInterface requestDto) throws MospException {
+		// 休暇申請でない場合
+		if (requestDto instanceof HolidayRequestDtoInterface == false) {
+			return;
+		}
+		HolidayRequestDtoInterface dto = (HolidayRequestDtoInterface)requestDto;
+		// 有給休暇でない場合
+		if (isPaidHoliday(dto) == false) {
+			return;
+		}
+		regist(dto.getPersonalId(), dto.getHolidayAcquisitionDate());
+	}
+	
+	@Override
+	public PaidHolidayBalanceDtoInterface calc(PaidHolidayDataDtoInterface dataDto) throws MospException {
+		String personalId = dataDto.getPersonalId();
+		Date acquisitionDate = dataDto.getAcquisitionDate();
+		Date activateDate = dataDto.getActivateDate();
+		Date limitDate = dataDto.getLimitDate();
+		PaidHolidayBalanceDtoInterface dto = getInitDto();
+		dto.setPersonalId(personalId);
+		dto.setAcquisitionDate(acquisitionDate);
+		dto.setActivateDate(activateDate);
+		dto.setLimitDate(limitDate);
+		// 有効日以降の手動付与・廃棄を集計
+		for (PaidHolidayTransactionDtoInterface transactionDto : paidHolidayTransactionDao.findForList(personalId,
+				acquisitionDate, activateDate, null)) {
+			dto.setGivingDay(dto.getGivingDay() + transactionDto.getGivingDay());
+			dto.setGivingHour(dto.getGivingHour() + transactionDto.getGivingHour());
+			dto.setCancelDay(dto.getCancelDay() + transactionDto.getCancelDay());
+			dto.setCancelHour(dto.getCancelHour() + transactionDto.getCancelHour());
+			dto.setTransactionLastDate(getLater(dto.getTransactionLastDate(), transactionDto.getActivateDate()));
+		}
+		// 有効日から期限日までに掛かる有給休暇申請(下書及び取下以外)を集計
+		List<HolidayRequestDtoInterface> requestList = holidayRequestDao.findForRequestList(personalId,
+				acquisitionDate, TimeConst.CODE_HOLIDAYTYPE_HOLIDAY,
+				Integer.toString(TimeConst.CODE_HOLIDAYTYPE_HOLIDAY), activateDate, limitDate);
+		for (HolidayRequestDtoInterface requestDto : requestList) {
+			dto.setRequestDay(dto.getRequestDay() + requestDto.getUseDay());
+			dto.setRequestHour(dto.getRequestHour() + requestDto.getUseHour());
+			dto.setRequestLastDate(getLater(dto.getRequestLastDate(), requestDto.getRequestStartDate()));
+			// 承認済でない場合
+			if (workflowIntegrate.isCompleted(requestDto.getWorkflow()) == false) {
+				continue;
+			}
+			// 有効日から期限日までの日毎に承認済日数及び時間数を加算
+			Date startDate = getLater(requestDto.getRequestStartDate(), activateDate);
+			Date endDate = requestDto.getRequestEndDate().after(limitDate) ? limitDate
+					: requestDto.getRequestEndDate();
+			int holidayRange = requestDto.getHolidayRange();
+			for (Date date = startDate; !date.after(endDate); date = addDay(date, 1)) {
+				if (holidayRange == TimeConst.CODE_HOLIDAY_RANGE_ALL) {
+					dto.setApprovedDay(dto.getApprovedDay() + 1);
+				}
+				if (holidayRange == TimeConst.CODE_HOLIDAY_RANGE_AM
+						|| holidayRange == TimeConst.CODE_HOLIDAY_RANGE_PM) {
+					dto.setApprovedDay(dto.getApprovedDay() + TimeConst.HOLIDAY_TIMES_HALF);
+				}
+				if (holidayRange == TimeConst.CODE_HOLIDAY_RANGE_TIME) {
+					dto.setApprovedHour(dto.getApprovedHour() + requestDto.getUseHour());
+				}
+			}
+			if (!startDate.after(endDate)) {
+				dto.setApprovedLastDate(getLater(dto.getApprovedLastDate(), endDate));
+			}
+		}
+		return dto;
+	}
+	
+	@Override
+	public List<PaidHolidayBalanceDtoInterface> check(String personalId, Date targetDate, boolean isRepair)
+			throws MospException {
+		List<PaidHolidayBalanceDtoInterface> list = new ArrayList<PaidHolidayBalanceDtoInterface>();
+		// 登録されている台帳を取得
+		List<PaidHolidayBalanceDtoInterface> balanceList = dao.findForPersonalId(personalId);
+		// 対象日時点の有給休暇データ毎に処理
+		for (PaidHolidayDataDtoInterface dataDto : paidHolidayDataDao.findForInfoList(personalId, targetDate)) {
+			PaidHolidayBalanceDtoInterface dto = calc(dataDto);
+			PaidHolidayBalanceDtoInterface current = null;
+			for (PaidHolidayBalanceDtoInterface balanceDto : balanceList) {
+				if (DateUtility.isSame(balanceDto.getAcquisitionDate(), dto.getAcquisitionDate())
+						&& DateUtility.isSame(balanceDto.getActivateDate(), dto.getActivateDate())) {
+					current = balanceDto;
+					break;
+				}
+			}
+			// 台帳が存在し集計結果と一致する場合
+			if (current != null && isSame(current, dto)) {
+				continue;
+			}
+			list.add(dto);
+			// 修復
+			if (isRepair) {
+				regist(personalId, dto.getAcquisitionDate());
+			}
+		}
+		return list;
+	}
+	
+	/**
+	 * 有給休暇の休暇申請であるかを確認する。<br>
+	 * @param dto 休暇申請DTO
+	 * @return 確認結果(true：有給休暇の休暇申請である、false：そうでない)
+	 */
+	protected boolean isPaidHoliday(HolidayRequestDtoInterface dto) {
+		return dto.getHolidayType1() == TimeConst.CODE_HOLIDAYTYPE_HOLIDAY
+				&& Integer.toString(TimeConst.CODE_HOLIDAYTYPE_HOLIDAY).equals(dto.getHolidayType2());
+	}
+	
+	/**
+	 * 台帳リストから有効日が同じ台帳を除去して取得する。<br>
+	 * @param list         台帳リスト
+	 * @param activateDate 有効日
+	 * @return 台帳(存在しない場合はnull)
+	 */
+	protected PaidHolidayBalanceDtoInterface remove(List<PaidHolidayBalanceDtoInterface> list, Date activateDate) {
+		for (int i = 0; i < list.size(); i++) {
+			if (DateUtility.isSame(list.get(i).getActivateDate(), activateDate)) {
+				return list.remove(i);
+			}
+		}
+		return null;
+	}
+	
+	/**
+	 * 台帳の集計内容が同じであるかを確認する。<br>
+	 * @param dto1 台帳1
+	 * @param dto2 台帳2
+	 * @return 確認結果(true：同じである、false：異なる)
+	 */
+	protected boolean isSame(PaidHolidayBalanceDtoInterface dto1, PaidHolidayBalanceDtoInterface dto2) {
+		return DateUtility.isSame(dto1.getLimitDate(), dto2.getLimitDate())
+				&& dto1.getGivingDay() == dto2.getGivingDay() && dto1.getGivingHour() == dto2.getGivingHour()
+				&& dto1.getCancelDay() == dto2.getCancelDay() && dto1.getCancelHour() == dto2.getCancelHour()
+				&& isSameDate(dto1.getTransactionLastDate(), dto2.getTransactionLastDate())
+				&& dto1.getRequestDay() == dto2.getRequestDay() && dto1.getRequestHour() == dto2.getRequestHour()
+				&& isSameDate(dto1.getRequestLastDate(), dto2.getRequestLastDate())
+				&& dto1.getApprovedDay() == dto2.getApprovedDay() && dto1.getApprovedHour() == dto2.getApprovedHour()
+				&& isSameDate(dto1.getApprovedLastDate(), dto2.getApprovedLastDate());
+	}
+	
+	/**
+	 * 日付が同じであるかを確認する。<br>
+	 * 両方ともnullである場合も、同じであると判断する。<br>
+	 * @param date1 日付1
+	 * @param date2 日付2
+	 * @return 確認結果(true：同じである、false：異なる)
+	 */
+	protected boolean isSameDate(Date date1, Date date2) {
+		if (date1 == null || date2 == null) {
+			return date1 == date2;
+		}
+		return DateUtility.isSame(date1, date2);
+	}
+	
+	/**
+	 * 後の日付を取得する。<br>
+	 * @param date1 日付1(null可)
+	 * @param date2 日付2
+	 * @return 後の日付
+	 */
+	protected Date getLater(Date date1, Date date2) {
+		if (date1 == null || date2.after(date1)) {
+			return date2;
+		}
+		return date1;
+	}
+	
+}
@@ -18,7 +18,11 @@
 package jp.mosp.time.bean.impl;
 
 import java.sql.Connection;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 
 import jp.mosp.framework.base.MospException;
 import jp.mosp.framework.base.MospParams;
@@ -29,6 +33,7 @@ import jp.mosp.platform.bean.human.HumanHistoryReferenceBeanInterface;
 import jp.mosp.platform.dto.human.HumanHistoryDtoInterface;
 import jp.mosp.platform.utils.MonthUtility;
 import jp.mosp.time.base.TimeApplicationBean;
+import jp.mosp.time.bean.PaidHolidayBalanceRegistBeanInterface;
 import jp.mosp.time.bean.PaidHolidayDataGrantBeanInterface;
 import jp.mosp.time.bean.PaidHolidayDataReferenceBeanInterface;
 import jp.mosp.time.bean.PaidHolidayDataRegistBeanInterface;
@@ -69,6 +74,11 @@ public class PaidHolidayDataGrantBean extends TimeApplicationBean implements Pai
 	 */
 	protected PaidHolidayGrantRegistBeanInterface				paidHolidayGrantRegist;
 	
+	/**
+	 * 有給休暇残高台帳登録クラス。
+	 */
+	protected PaidHolidayBalanceRegistBeanInterface			paidHolidayBalanceRegist;
+	
 	/**
 	 * 有給休暇比例付与参照クラス。
 	 */
@@ -137,6 +147,8 @@ public class PaidHolidayDataGrantBean extends TimeApplicationBean implements Pai
 				PaidHolidayGrantReferenceBeanInterface.class);
 		paidHolidayGrantRegist = (PaidHolidayGrantRegistBeanInterface)createBean(
 				PaidHolidayGrantRegistBeanInterface.class);
+		paidHolidayBalanceRegist = (PaidHolidayBalanceRegistBeanInterface)createBean(
+				PaidHolidayBalanceRegistBeanInterface.class);
 		paidHolidayProportionallyRefer = (PaidHolidayProportionallyReferenceBeanInterface)createBean(
 				PaidHolidayProportionallyReferenceBeanInterface.class);
 		paidHolidayFirstYearRefer = (PaidHolidayFirstYearReferenceBeanInterface)createBean(
@@ -152,6 +164,30 @@ public class PaidHolidayDataGrantBean extends TimeApplicationBean implements Pai
 		grant(create(personalId, targetDate));
 	}
 	
+	@Override
+	public void grant(Map<String, Date> targetDateMap) throws MospException {
+		// 有給休暇データリストを準備
+		List<PaidHolidayDataDtoInterface> list = new ArrayList<PaidHolidayDataDtoInterface>();
+		// 個人ID毎に有給休暇データを生成
+		for (Entry<String, Date> entry : targetDateMap.entrySet()) {
+			PaidHolidayDataDtoInterface dto = create(entry.getKey(), entry.getValue());
+			if (dto != null) {
+				list.add(dto);
+			}
+		}
+		// 有給休暇データを一括登録(登録済の有給休暇データは論理削除)
+		paidHolidayDataRegist.insert(list);
+		if (mospParams.hasErrorMessage()) {
+			return;
+		}
+		// 個人ID毎に処理
+		for (PaidHolidayDataDtoInterface dto : list) {
+			paidHolidayGrantRegist(dto);
+			// 有給休暇残高台帳登録
+			paidHolidayBalanceRegist.regist(dto.getPersonalId(), dto.getAcquisitionDate());
+		}
+	}
+	
 	/**
 	 * 有給休暇データ付与を行う。
 	 * @param dto 対象DTO
@@ -170,6 +206,8 @@ public class PaidHolidayDataGrantBean extends TimeApplicationBean implements Pai
 		// 新規登録
 		paidHolidayDataRegist.insert(dto);
 		paidHolidayGrantRegist(dto);
+		// 有給休暇残高台帳登録
+		paidHolidayBalanceRegist.regist(dto.getPersonalId(), dto.getAcquisitionDate());
 	}
 	
 	/**
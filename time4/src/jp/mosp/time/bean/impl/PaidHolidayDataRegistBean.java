@@ -18,9 +18,12 @@
 package jp.mosp.time.bean.impl;
 
 import java.sql.Connection;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import jp.mosp.framework.base.MospException;
 import jp.mosp.framework.base.MospParams;
@@ -144,6 +147,45 @@ public class PaidHolidayDataRegistBean extends PlatformBean implements PaidHolid
 		dao.insert(dto);
 	}
 	
+	@Override
+	public void insert(List<PaidHolidayDataDtoInterface> list) throws MospException {
+		// 論理削除対象レコード識別IDリストを準備
+		List<Long> idList = new ArrayList<Long>();
+		// 対象リスト内のキー(個人ID、有効日、取得日)セットを準備
+		Set<String> keySet = new HashSet<String>();
+		// DTO毎に処理
+		for (PaidHolidayDataDtoInterface dto : list) {
+			// DTO妥当性確認
+			validate(dto);
+			if (mospParams.hasErrorMessage()) {
+				return;
+			}
+			// 対象リスト内で重複していないかを確認
+			if (keySet.add(dto.getPersonalId() + "," + dto.getActivateDate().getTime() + ","
+					+ dto.getAcquisitionDate().getTime()) == false) {
+				checkDuplicateInsert(dto);
+				return;
+			}
+			PaidHolidayDataDtoInterface paidHolidayDataDto = dao.findForKey(dto.getPersonalId(),
+					dto.getActivateDate(), dto.getAcquisitionDate());
+			if (paidHolidayDataDto != null) {
+				// DTO妥当性確認
+				validate(paidHolidayDataDto);
+				if (mospParams.hasErrorMessage()) {
+					return;
+				}
+				// 論理削除対象に追加(削除済の場合は一括論理削除の更新件数確認で例外となる)
+				idList.add(paidHolidayDataDto.getTmdPaidHolidayId());
+			}
+			// レコード識別ID最大値をインクリメントしてDTOに設定
+			dto.setTmdPaidHolidayId(dao.nextRecordId());
+		}
+		// 一括論理削除
+		dao.batchLogicalDelete(idList);
+		// 一括登録処理
+		dao.batchInsert(list);
+	}
+	
 	@Override
 	public void delete(PaidHolidayDataDtoInterface dto) throws MospException {
 		// DTO妥当性確認
@@ -49,12 +49,14 @@ import jp.mosp.time.bean.TimeMasterBeanInterface;
 import jp.mosp.time.constant.TimeConst;
 import jp.mosp.time.constant.TimeMessageConst;
 import jp.mosp.time.dao.settings.HolidayRequestDaoInterface;
+import jp.mosp.time.dao.settings.PaidHolidayBalanceDaoInterface;
 import jp.mosp.time.dao.settings.PaidHolidayDataDaoInterface;
 import jp.mosp.time.dao.settings.PaidHolidayEntranceDateDaoInterface;
 import jp.mosp.time.dao.settings.PaidHolidayPointDateDaoInterface;
 import jp.mosp.time.dao.settings.PaidHolidayTransactionDaoInterface;
 import jp.mosp.time.dao.settings.TotalTimeDataDaoInterface;
 import jp.mosp.time.dto.settings.HolidayRequestDtoInterface;
+import jp.mosp.time.dto.settings.PaidHolidayBalanceDtoInterface;
 import jp.mosp.time.dto.settings.PaidHolidayDataDtoInterface;
 import jp.mosp.time.dto.settings.PaidHolidayDtoInterface;
 import jp.mosp.time.dto.settings.PaidHolidayEntranceDateDtoInterface;
@@ -87,6 +89,11 @@ public class PaidHolidayInfoReferenceBean extends TimeApplicationBean implements
 	 */
 	private HolidayRequestDaoInterface						holidayRequestDao;
 	
+	/**
+	 * 有給休暇残高台帳DAO。
+	 */
+	private PaidHolidayBalanceDaoInterface					paidHolidayBalanceDao;
+	
 	/**
 	 * 休暇申請参照。
 	 */
@@ -185,6 +192,8 @@ public class PaidHolidayInfoReferenceBean extends TimeApplicationBean implements
 				PaidHolidayTransactionDaoInterface.class);
 		// 休暇申請DAO
 		holidayRequestDao = (HolidayRequestDaoInterface)createDao(HolidayRequestDaoInterface.class);
+		// 有給休暇残高台帳DAO
+		paidHolidayBalanceDao = (PaidHolidayBalanceDaoInterface)createDao(PaidHolidayBalanceDaoInterface.class);
 		// 休暇申請参照クラス取得
 		holidayRequest = (HolidayRequestReferenceBeanInterface)createBean(HolidayRequestReferenceBeanInterface.class);
 		// 有給休暇基準日管理DAO
@@ -306,38 +315,37 @@ public class PaidHolidayInfoReferenceBean extends TimeApplicationBean implements
 		// 有給休暇データリスト取得
 		List<PaidHolidayDataDtoInterface> paidHolidayDataDtoList = paidHolidayDataDao.findForInfoList(personalId,
 				targetDate);
+		// 有給休暇残高台帳リスト取得
+		List<PaidHolidayBalanceDtoInterface> balanceList = paidHolidayBalanceDao.findForPersonalId(personalId);
 		// 有給休暇データリスト毎に処理
 		for (PaidHolidayDataDtoInterface paidHolidayDataDto : paidHolidayDataDtoList) {
 			// 有効日設定
 			map.put(TimeConst.CODE_ACTIVATE_DATE, paidHolidayDataDto.getActivateDate());
 			// 取得日取得
 			Date acquisitionDate = paidHolidayDataDto.getAcquisitionDate();
+			// 有給休暇残高台帳取得
+			PaidHolidayBalanceDtoInterface balanceDto = getBalance(balanceList, paidHolidayDataDto);
 			// 取得日が今年度付与日の前でない場合
 			if (!acquisitionDate.before(currentAcquisitionDate)) {
 				// 今年度
 				currentHoldDay += paidHolidayDataDto.getHoldDay();
 				currentHoldTime += paidHolidayDataDto.getHoldHour();
 				// 手動付与・破棄
-				List<PaidHolidayTransactionDtoInterface> paidHolidayTransactionDtoList = paidHolidayTransactionDao
-					.findForList(personalId, acquisitionDate, paidHolidayDataDto.getActivateDate(), targetDate);
-				for (PaidHolidayTransactionDtoInterface paidHolidayTransactionDto : paidHolidayTransactionDtoList) {
-					// 付与日数・付与時間・廃棄日数・廃棄時間数
-					currentGivingDay += paidHolidayTransactionDto.getGivingDay();
-					currentGivingTime += paidHolidayTransactionDto.getGivingHour();
-					currentCancelDay += paidHolidayTransactionDto.getCancelDay();
-					currentCancelTime += paidHolidayTransactionDto.getCancelHour();
-				}
+				Map<String, Object> transactionMap = getTransactionDayHour(balanceDto, paidHolidayDataDto, targetDate);
+				// 付与日数・付与時間・廃棄日数・廃棄時間数
+				currentGivingDay += ((Double)transactionMap.get(TimeConst.CODE_GIVING_DAY)).doubleValue();
+				currentGivingTime += ((Integer)transactionMap.get(TimeConst.CODE_GIVING_TIME)).intValue();
+				currentCancelDay += ((Double)transactionMap.get(TimeConst.CODE_CANCEL_DAY)).doubleValue();
+				currentCancelTime += ((Integer)transactionMap.get(TimeConst.CODE_CANCEL_TIME)).intValue();
 				// 申請
 				if (containNotApproved) {
 					// 未承認申請を含む場合
-					Map<String, Object> requestMap = holidayRequest.getRequestDayHour(personalId, acquisitionDate, 1,
-							Integer.toString(1), paidHolidayDataDto.getActivateDate(), targetDate);
+					Map<String, Object> requestMap = getRequestDayHour(balanceDto, paidHolidayDataDto, targetDate);
 					currentUseDay += ((Double)requestMap.get(TimeConst.CODE_REQUEST_DAY)).doubleValue();
 					currentUseTime += ((Integer)requestMap.get(TimeConst.CODE_REQUEST_HOUR)).intValue();
 				} else {
 					// 承認済のみの場合
-					Map<String, Object> approvedMap = holidayRequest.getApprovedDayHour(personalId, acquisitionDate, 1,
-							Integer.toString(1), paidHolidayDataDto.getActivateDate(), targetDate);
+					Map<String, Object> approvedMap = getApprovedDayHour(balanceDto, paidHolidayDataDto, targetDate);
 					// 承認済の合計日数
 					currentUseDay += ((Double)approvedMap.get(TimeConst.CODE_APPROVED_DAY)).doubleValue();
 					// 承認済の合計時間数
@@ -356,26 +364,21 @@ public class PaidHolidayInfoReferenceBean extends TimeApplicationBean implements
 				formerHoldDay += paidHolidayDataDto.getHoldDay();
 				formerHoldTime += paidHolidayDataDto.getHoldHour();
 				// 手動付与・破棄
-				List<PaidHolidayTransactionDtoInterface> paidHolidayTransactionDtoList = paidHolidayTransactionDao
-					.findForList(personalId, acquisitionDate, paidHolidayDataDto.getActivateDate(), targetDate);
-				for (PaidHolidayTransactionDtoInterface paidHolidayTransactionDto : paidHolidayTransactionDtoList) {
-					// 付与日数・付与時間・廃棄日数・廃棄時間数
-					formerGivingDay += paidHolidayTransactionDto.getGivingDay();
-					formerGivingTime += paidHolidayTransactionDto.getGivingHour();
-					formerCancelDay += paidHolidayTransactionDto.getCancelDay();
-					formerCancelTime += paidHolidayTransactionDto.getCancelHour();
-				}
+				Map<String, Object> transactionMap = getTransactionDayHour(balanceDto, paidHolidayDataDto, targetDate);
+				// 付与日数・付与時間・廃棄日数・廃棄時間数
+				formerGivingDay += ((Double)transactionMap.get(TimeConst.CODE_GIVING_DAY)).doubleValue();
+				formerGivingTime += ((Integer)transactionMap.get(TimeConst.CODE_GIVING_TIME)).intValue();
+				formerCancelDay += ((Double)transactionMap.get(TimeConst.CODE_CANCEL_DAY)).doubleValue();
+				formerCancelTime += ((Integer)transactionMap.get(TimeConst.CODE_CANCEL_TIME)).intValue();
 				// 申請
 				if (containNotApproved) {
 					// 未承認申請を含む場合
-					Map<String, Object> requestMap = holidayRequest.getRequestDayHour(personalId, acquisitionDate, 1,
-							Integer.toString(1), paidHolidayDataDto.getActivateDate(), targetDate);
+					Map<String, Object> requestMap = getRequestDayHour(balanceDto, paidHolidayDataDto, targetDate);
 					formerUseDay += ((Double)requestMap.get(TimeConst.CODE_REQUEST_DAY)).doubleValue();
 					formerUseTime += ((Integer)requestMap.get(TimeConst.CODE_REQUEST_HOUR)).intValue();
 				} else {
 					// 承認済のみの場合
-					Map<String, Object> approvedMap = holidayRequest.getApprovedDayHour(personalId, acquisitionDate, 1,
-							Integer.toString(1), paidHolidayDataDto.getActivateDate(), targetDate);
+					Map<String, Object> approvedMap = getApprovedDayHour(balanceDto, paidHolidayDataDto, targetDate);
 					// 承認済の合計日数
 					formerUseDay += ((Double)approvedMap.get(TimeConst.CODE_APPROVED_DAY)).doubleValue();
 					// 承認済の合計時間数
@@ -933,10 +936,14 @@ public class PaidHolidayInfoReferenceBean extends TimeApplicationBean implements
 		// 有休情報リスト取得
 		List<PaidHolidayDataDtoInterface> paidHolidayDataDtoList = paidHolidayDataDao.findForInfoList(personalId,
 				targetDate);
+		// 有給休暇残高台帳リスト取得
+		List<PaidHolidayBalanceDtoInterface> balanceList = paidHolidayBalanceDao.findForPersonalId(personalId);
 		// 有休情報リスト毎に処理
 		for (PaidHolidayDataDtoInterface paidHolidayDataDto : paidHolidayDataDtoList) {
 			// 取得日取得
 			Date acquisitionDate = paidHolidayDataDto.getAcquisitionDate();
+			// 有給休暇残高台帳取得
+			PaidHolidayBalanceDtoInterface balanceDto = getBalance(balanceList, paidHolidayDataDto);
 			// 取得日より付与日前でない場合
 			if (!acquisitionDate.before(currentAcquisitionDate)) {
 				// 今年度
@@ -964,14 +971,11 @@ public class PaidHolidayInfoReferenceBean extends TimeApplicationBean implements
 					currentGivingDate = paidHolidayDataDto.getAcquisitionDate();
 				}
 				// 手動付与・破棄
-				List<PaidHolidayTransactionDtoInterface> paidHolidayTransactionDtoList = paidHolidayTransactionDao
-					.findForList(personalId, acquisitionDate, paidHolidayDataDto.getActivateDate(), targetDate);
-				for (PaidHolidayTransactionDtoInterface paidHolidayTransactionDto : paidHolidayTransactionDtoList) {
-					currentGivingDay += paidHolidayTransactionDto.getGivingDay();
-					currentGivingTime += paidHolidayTransactionDto.getGivingHour();
-					currentCancelDay += paidHolidayTransactionDto.getCancelDay();
-					currentCancelTime += paidHolidayTransactionDto.getCancelHour();
-				}
+				Map<String, Object> transactionMap = getTransactionDayHour(balanceDto, paidHolidayDataDto, targetDate);
+				currentGivingDay += ((Double)transactionMap.get(TimeConst.CODE_GIVING_DAY)).doubleValue();
+				currentGivingTime += ((Integer)transactionMap.get(TimeConst.CODE_GIVING_TIME)).intValue();
+				currentCancelDay += ((Double)transactionMap.get(TimeConst.CODE_CANCEL_DAY)).doubleValue();
+				currentCancelTime += ((Integer)transactionMap.get(TimeConst.CODE_CANCEL_TIME)).intValue();
 				currentGrantDay = currentHoldDay + currentGivingDay - currentCancelDay;
 				currentGrantHour = currentHoldTime + currentGivingTime - currentCancelTime;
 				if (generalWorkHour > 0) {
@@ -983,8 +987,8 @@ public class PaidHolidayInfoReferenceBean extends TimeApplicationBean implements
 					}
 				}
 				// 申請
-				Map<String, Object> requestMap = holidayRequest.getRequestDayHour(personalId, acquisitionDate, 1,
-						Integer.toString(1), paidHolidayDataDto.getActivateDate(), paidHolidayDataDto.getLimitDate());
+				Map<String, Object> requestMap = getRequestDayHour(balanceDto, paidHolidayDataDto,
+						paidHolidayDataDto.getLimitDate());
 				currentUseDay += ((Double)requestMap.get(TimeConst.CODE_REQUEST_DAY)).doubleValue();
 				currentUseTime += ((Integer)requestMap.get(TimeConst.CODE_REQUEST_HOUR)).intValue();
 				currentDay = currentHoldDay + currentGivingDay - currentCancelDay - currentUseDay;
@@ -1022,15 +1026,11 @@ public class PaidHolidayInfoReferenceBean extends TimeApplicationBean implements
 					formerGivingDate = paidHolidayDataDto.getAcquisitionDate();
 				}
 				// 手動付与・破棄情報取得
-				List<PaidHolidayTransactionDtoInterface> paidHolidayTransactionDtoList = paidHolidayTransactionDao
-					.findForList(personalId, acquisitionDate, paidHolidayDataDto.getActivateDate(), targetDate);
-				// 手動付与・破棄情報取得毎に処理
-				for (PaidHolidayTransactionDtoInterface paidHolidayTransactionDto : paidHolidayTransactionDtoList) {
-					formerGivingDay += paidHolidayTransactionDto.getGivingDay();
-					formerGivingTime += paidHolidayTransactionDto.getGivingHour();
-					formerCancelDay += paidHolidayTransactionDto.getCancelDay();
-					formerCancelTime += paidHolidayTransactionDto.getCancelHour();
-				}
+				Map<String, Object> transactionMap = getTransactionDayHour(balanceDto, paidHolidayDataDto, targetDate);
+				formerGivingDay += ((Double)transactionMap.get(TimeConst.CODE_GIVING_DAY)).doubleValue();
+				formerGivingTime += ((Integer)transactionMap.get(TimeConst.CODE_GIVING_TIME)).intValue();
+				formerCancelDay += ((Double)transactionMap.get(TimeConst.CODE_CANCEL_DAY)).doubleValue();
+				formerCancelTime += ((Integer)transactionMap.get(TimeConst.CODE_CANCEL_TIME)).intValue();
 				formerGrantDay = formerHoldDay + formerGivingDay - formerCancelDay;
 				formerGrantHour = formerHoldTime + formerGivingTime - formerCancelTime;
 				if (generalWorkHour > 0) {
@@ -1042,8 +1042,8 @@ public class PaidHolidayInfoReferenceBean extends TimeApplicationBean implements
 					}
 				}
 				// 申請
-				Map<String, Object> requestMap = holidayRequest.getRequestDayHour(personalId, acquisitionDate, 1,
-						Integer.toString(1), paidHolidayDataDto.getActivateDate(), paidHolidayDataDto.getLimitDate());
+				Map<String, Object> requestMap = getRequestDayHour(balanceDto, paidHolidayDataDto,
+						paidHolidayDataDto.getLimitDate());
 				formerUseDay += ((Double)requestMap.get(TimeConst.CODE_REQUEST_DAY)).doubleValue();
 				formerUseTime += ((Integer)requestMap.get(TimeConst.CODE_REQUEST_HOUR)).intValue();
 				formerDay = formerHoldDay + formerGivingDay - formerCancelDay - formerUseDay;
@@ -2240,14 +2240,118 @@ public class PaidHolidayInfoReferenceBean extends TimeApplicationBean implements
 		return false;
 	}
 	
-	@Override
-	public void lockTables() throws MospException {
-		super.lockTables();
+	/**
+	 * 有給休暇データに対応する有給休暇残高台帳を取得する。<br>
+	 * 取得日、有効日及び期限日が一致する台帳が無い場合は、nullを返す。<br>
+	 * @param balanceList 有給休暇残高台帳リスト
+	 * @param dataDto     有給休暇データ
+	 * @return 有給休暇残高台帳
+	 */
+	protected PaidHolidayBalanceDtoInterface getBalance(List<PaidHolidayBalanceDtoInterface> balanceList,
+			PaidHolidayDataDtoInterface dataDto) {
+		for (PaidHolidayBalanceDtoInterface balanceDto : balanceList) {
+			if (DateUtility.isSame(balanceDto.getAcquisitionDate(), dataDto.getAcquisitionDate())
+					&& DateUtility.isSame(balanceDto.getActivateDate(), dataDto.getActivateDate())
+					&& DateUtility.isSame(balanceDto.getLimitDate(), dataDto.getLimitDate())) {
+				return balanceDto;
+			}
+		}
+		return null;
 	}
 	
-	@Override
-	public void unlockTable() throws MospException {
-		super.unlockTable();
+	/**
+	 * 有効日から対象日までの手動付与・廃棄日数及び時間数を取得する。<br>
+	 * 有給休暇残高台帳が対象日より後の手動付与・廃棄を含まない場合は、台帳の値を用いる。<br>
+	 * @param balanceDto 有給休暇残高台帳(null可)
+	 * @param dataDto    有給休暇データ
+	 * @param targetDate 対象日
+	 * @return 手動付与・廃棄日数及び時間数
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected Map<String, Object> getTransactionDayHour(PaidHolidayBalanceDtoInterface balanceDto,
+			PaidHolidayDataDtoInterface dataDto, Date targetDate) throws MospException {
+		Map<String, Object> map = new HashMap<String, Object>();
+		if (balanceDto != null && isNotAfter(balanceDto.getTransactionLastDate(), targetDate)) {
+			map.put(TimeConst.CODE_GIVING_DAY, balanceDto.getGivingDay());
+			map.put(TimeConst.CODE_GIVING_TIME, balanceDto.getGivingHour());
+			map.put(TimeConst.CODE_CANCEL_DAY, balanceDto.getCancelDay());
+			map.put(TimeConst.CODE_CANCEL_TIME, balanceDto.getCancelHour());
+			return map;
+		}
+		double givingDay = 0;
+		int givingTime = 0;
+		double cancelDay = 0;
+		int cancelTime = 0;
+		List<PaidHolidayTransactionDtoInterface> list = paidHolidayTransactionDao.findForList(dataDto.getPersonalId(),
+				dataDto.getAcquisitionDate(), dataDto.getActivateDate(), targetDate);
+		for (PaidHolidayTransactionDtoInterface dto : list) {
+			givingDay += dto.getGivingDay();
+			givingTime += dto.getGivingHour();
+			cancelDay += dto.getCancelDay();
+			cancelTime += dto.getCancelHour();
+		}
+		map.put(TimeConst.CODE_GIVING_DAY, givingDay);
+		map.put(TimeConst.CODE_GIVING_TIME, givingTime);
+		map.put(TimeConst.CODE_CANCEL_DAY, cancelDay);
+		map.put(TimeConst.CODE_CANCEL_TIME, cancelTime);
+		return map;
+	}
+	
+	/**
+	 * 有効日から終了日までの有給休暇申請日数及び時間数を取得する。<br>
+	 * 有給休暇残高台帳が終了日より後に開始する申請を含まない場合は、台帳の値を用いる。<br>
+	 * @param balanceDto 有給休暇残高台帳(null可)
+	 * @param dataDto    有給休暇データ
+	 * @param endDate    終了日
+	 * @return 有給休暇申請日数及び時間数
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected Map<String, Object> getRequestDayHour(PaidHolidayBalanceDtoInterface balanceDto,
+			PaidHolidayDataDtoInterface dataDto, Date endDate) throws MospException {
+		if (balanceDto != null && !endDate.after(balanceDto.getLimitDate())
+				&& isNotAfter(balanceDto.getRequestLastDate(), endDate)) {
+			Map<String, Object> map = new HashMap<String, Object>();
+			map.put(TimeConst.CODE_REQUEST_DAY, balanceDto.getRequestDay());
+			map.put(TimeConst.CODE_REQUEST_HOUR, balanceDto.getRequestHour());
+			return map;
+		}
+		return holidayRequest.getRequestDayHour(dataDto.getPersonalId(), dataDto.getAcquisitionDate(),
+				TimeConst.CODE_HOLIDAYTYPE_HOLIDAY, Integer.toString(TimeConst.CODE_HOLIDAYTYPE_HOLIDAY),
+				dataDto.getActivateDate(), endDate);
+	}
+	
+	/**
+	 * 有効日から終了日までの承認済有給休暇日数及び時間数を取得する。<br>
+	 * 有給休暇残高台帳が終了日より後の承認済休暇を含まない場合は、台帳の値を用いる。<br>
+	 * @param balanceDto 有給休暇残高台帳(null可)
+	 * @param dataDto    有給休暇データ
+	 * @param endDate    終了日
+	 * @return 承認済有給休暇日数及び時間数
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected Map<String, Object> getApprovedDayHour(PaidHolidayBalanceDtoInterface balanceDto,
+			PaidHolidayDataDtoInterface dataDto, Date endDate) throws MospException {
+		if (balanceDto != null && !endDate.after(balanceDto.getLimitDate())
+				&& isNotAfter(balanceDto.getApprovedLastDate(), endDate)) {
+			Map<String, Object> map = new HashMap<String, Object>();
+			map.put(TimeConst.CODE_APPROVED_DAY, balanceDto.getApprovedDay());
+			map.put(TimeConst.CODE_APPROVED_HOUR, balanceDto.getApprovedHour());
+			return map;
+		}
+		return holidayRequest.getApprovedDayHour(dataDto.getPersonalId(), dataDto.getAcquisitionDate(),
+				TimeConst.CODE_HOLIDAYTYPE_HOLIDAY, Integer.toString(TimeConst.CODE_HOLIDAYTYPE_HOLIDAY),
+				dataDto.getActivateDate(), endDate);
+	}
+	
+	/**
+	 * 日付が対象日より後でないかを確認する。<br>
+	 * 日付がnullである場合も、後でないと判断する。<br>
+	 * @param date       日付
+	 * @param targetDate 対象日
+	 * @return 確認結果(true：後でない、false：後である)
+	 */
+	protected boolean isNotAfter(Date date, Date targetDate) {
+		return date == null || !date.after(targetDate);
 	}
 	
 	@Override
@@ -27,6 +27,7 @@ import jp.mosp.framework.utils.DateUtility;
 import jp.mosp.platform.base.PlatformBean;
 import jp.mosp.time.bean.ApplicationReferenceBeanInterface;
 import jp.mosp.time.bean.HolidayRequestReferenceBeanInterface;
+import jp.mosp.time.bean.PaidHolidayBalanceRegistBeanInterface;
 import jp.mosp.time.bean.PaidHolidayTransactionRegistBeanInterface;
 import jp.mosp.time.bean.TimeSettingReferenceBeanInterface;
 import jp.mosp.time.constant.TimeConst;
@@ -47,27 +48,32 @@ public class PaidHolidayTransactionRegistBean extends PlatformBean
 	/**
 	 * 有給休暇トランザクションDAOクラス。
 	 */
-	private PaidHolidayTransactionDaoInterface	dao;
+	private PaidHolidayTransactionDaoInterface		dao;
 	
 	/**
 	 * 有給休暇データDAO。
 	 */
-	private PaidHolidayDataDaoInterface			paidHolidayDataDao;
+	private PaidHolidayDataDaoInterface				paidHolidayDataDao;
 	
 	/**
 	 * 休暇申請参照。
 	 */
-	HolidayRequestReferenceBeanInterface		holidayRequest;
+	HolidayRequestReferenceBeanInterface			holidayRequest;
 	
 	/**
 	 * 設定適用管理参照。
 	 */
-	private ApplicationReferenceBeanInterface	application;
+	private ApplicationReferenceBeanInterface		application;
 	
 	/**
 	 * 勤怠設定参照。
 	 */
-	private TimeSettingReferenceBeanInterface	timeSetting;
+	private TimeSettingReferenceBeanInterface		timeSetting;
+	
+	/**
+	 * 有給休暇残高台帳登録。
+	 */
+	private PaidHolidayBalanceRegistBeanInterface	paidHolidayBalanceRegist;
 	
 	
 	/**
@@ -98,6 +104,9 @@ public class PaidHolidayTransactionRegistBean extends PlatformBean
 		application = (ApplicationReferenceBeanInterface)createBean(ApplicationReferenceBeanInterface.class);
 		// 勤怠設定参照クラス取得
 		timeSetting = (TimeSettingReferenceBeanInterface)createBean(TimeSettingReferenceBeanInterface.class);
+		// 有給休暇残高台帳登録クラス取得
+		paidHolidayBalanceRegist = (PaidHolidayBalanceRegistBeanInterface)createBean(
+				PaidHolidayBalanceRegistBeanInterface.class);
 	}
 	
 	@Override
@@ -123,6 +132,8 @@ public class PaidHolidayTransactionRegistBean extends PlatformBean
 		dto.setTmtPaidHolidayId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// 有給休暇残高台帳登録
+		paidHolidayBalanceRegist.regist(dto.getPersonalId(), dto.getAcquisitionDate());
 	}
 	
 	@Override
@@ -143,6 +154,8 @@ public class PaidHolidayTransactionRegistBean extends PlatformBean
 		dto.setTmtPaidHolidayId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// 有給休暇残高台帳登録
+		paidHolidayBalanceRegist.regist(dto.getPersonalId(), dto.getAcquisitionDate());
 	}
 	
 	/**
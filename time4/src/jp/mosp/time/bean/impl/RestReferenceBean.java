@@ -70,4 +70,10 @@ public class RestReferenceBean extends PlatformBean implements RestReferenceBean
 	public List<RestDtoInterface> getRestList(String personalId, Date workDate, int works) throws MospException {
 		return dao.findForList(personalId, workDate, works);
 	}
+	
+	@Override
+	public List<RestDtoInterface> getRestList(String personalId, Date startDate, Date endDate, int works)
+			throws MospException {
+		return dao.findForTerm(personalId, startDate, endDate, works);
+	}
 }
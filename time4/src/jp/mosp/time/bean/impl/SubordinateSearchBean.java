@@ -20,7 +20,10 @@ package jp.mosp.time.bean.impl;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import jp.mosp.framework.base.MospException;
@@ -28,6 +31,7 @@ import jp.mosp.framework.base.MospParams;
 import jp.mosp.framework.constant.MospConst;
 import jp.mosp.platform.bean.human.impl.HumanSubordinateBean;
 import jp.mosp.platform.constant.PlatformConst;
+import jp.mosp.platform.dto.human.EntranceDtoInterface;
 import jp.mosp.platform.dto.human.HumanDtoInterface;
 import jp.mosp.platform.utils.PlatformNamingUtility;
 import jp.mosp.time.bean.SubordinateSearchBeanInterface;
@@ -36,7 +40,9 @@ import jp.mosp.time.bean.TotalTimeCorrectionReferenceBeanInterface;
 import jp.mosp.time.bean.TotalTimeEmployeeTransactionReferenceBeanInterface;
 import jp.mosp.time.bean.TotalTimeTransactionReferenceBeanInterface;
 import jp.mosp.time.constant.TimeConst;
+import jp.mosp.time.dao.settings.TotalTimeCorrectionDaoInterface;
 import jp.mosp.time.dao.settings.TotalTimeDataDaoInterface;
+import jp.mosp.time.dao.settings.TotalTimeEmployeeDaoInterface;
 import jp.mosp.time.dto.settings.SubordinateListDtoInterface;
 import jp.mosp.time.dto.settings.TotalTimeCorrectionDtoInterface;
 import jp.mosp.time.dto.settings.TotalTimeDataDtoInterface;
@@ -56,6 +62,16 @@ public class SubordinateSearchBean extends HumanSubordinateBean implements Subor
 	 */
 	protected TotalTimeDataDaoInterface								totalTimeDataDao;
 	
+	/**
+	 * 社員勤怠集計管理DAO。
+	 */
+	protected TotalTimeEmployeeDaoInterface							totalTimeEmployeeDao;
+	
+	/**
+	 * 勤怠集計修正情報DAO。
+	 */
+	protected TotalTimeCorrectionDaoInterface						totalTimeCorrectionDao;
+	
 	/**
 	 * 勤怠集計修正情報参照。
 	 */
@@ -133,6 +149,10 @@ public class SubordinateSearchBean extends HumanSubordinateBean implements Subor
 		super.initBean();
 		// 勤怠集計データDAO取得
 		totalTimeDataDao = (TotalTimeDataDaoInterface)createDao(TotalTimeDataDaoInterface.class);
+		// 社員勤怠集計管理DAO取得
+		totalTimeEmployeeDao = (TotalTimeEmployeeDaoInterface)createDao(TotalTimeEmployeeDaoInterface.class);
+		// 勤怠集計修正情報DAO取得
+		totalTimeCorrectionDao = (TotalTimeCorrectionDaoInterface)createDao(TotalTimeCorrectionDaoInterface.class);
 		// 勤怠集計修正情報参照クラス取得
 		totalTimeCorrection = (TotalTimeCorrectionReferenceBeanInterface)createBean(
 				TotalTimeCorrectionReferenceBeanInterface.class);
@@ -173,6 +193,15 @@ public class SubordinateSearchBean extends HumanSubordinateBean implements Subor
 	 * <br>
 	 * 検索条件(未承認、未承認)に合致する部下一覧情報のみ、リストに加える。<br>
 	 * <br>
+	 * 勤怠集計データ、社員勤怠集計管理情報、勤怠集計修正情報及び
+	 * 承認状態の確認に用いる勤怠データや各種申請等は、
+	 * 部下毎ではなく対象個人IDについて一括で取得する。<br>
+	 * 締期間最終日時点の人事情報は、締期間最終日毎に一括で取得する。<br>
+	 * 個人IDを条件とする一括取得は、
+	 * 一括取得単位({@link TotalTimeEntityReferenceBean#BULK_PERSONAL_ID_SIZE})毎に行う。<br>
+	 * 締状態(検索条件)は承認状態の確認前に絞り込み、
+	 * 勤怠集計修正情報は検索条件に合致した部下についてのみ取得する。<br>
+	 * <br>
 	 * @param humanList 人事情報リスト
 	 * @return 部下一覧情報リスト
 	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
@@ -181,27 +210,174 @@ public class SubordinateSearchBean extends HumanSubordinateBean implements Subor
 			throws MospException {
 		// 部下一覧リスト準備
 		List<SubordinateListDtoInterface> subordinateList = new ArrayList<SubordinateListDtoInterface>();
+		// 人事情報が存在しない場合
+		if (humanList.isEmpty()) {
+			return subordinateList;
+		}
 		// 前日までフラグ(承認状態取得用)を取得
 		boolean searchBeforeDay = approvalBeforeDay.equals(MospConst.CHECKBOX_ON);
-		// 検索結果から部下一覧リストを作成
+		// 個人ID配列を取得
+		String[] personalIds = getPersonalIds(humanList);
+		// 勤怠集計データ群、入社情報群及び社員勤怠集計管理情報群を準備
+		Map<String, TotalTimeDataDtoInterface> totalTimeDataMap = new HashMap<String, TotalTimeDataDtoInterface>();
+		Map<String, EntranceDtoInterface> entranceMap = new HashMap<String, EntranceDtoInterface>();
+		Map<String, TotalTimeEmployeeDtoInterface> employeeMap = new HashMap<String, TotalTimeEmployeeDtoInterface>();
+		// 一括取得単位毎に一括取得
+		for (int i = 0; i < personalIds.length; i += TotalTimeEntityReferenceBean.BULK_PERSONAL_ID_SIZE) {
+			String[] bulkPersonalIds = getPersonalIds(personalIds, i,
+					TotalTimeEntityReferenceBean.BULK_PERSONAL_ID_SIZE);
+			totalTimeDataMap.putAll(getTotalTimeDataMap(bulkPersonalIds));
+			entranceMap.putAll(entranceDao.findForPersonalIds(bulkPersonalIds));
+			employeeMap.putAll(totalTimeEmployeeDao.findForPersonalIds(bulkPersonalIds, targetYear, targetMonth));
+		}
+		// 設定適用エンティティ群(キー：個人ID)及び締期間最終日毎の個人IDリストを準備
+		Map<String, ApplicationEntity> applicationEntityMap = new HashMap<String, ApplicationEntity>();
+		Map<Date, List<String>> cutoffLastDateMap = new LinkedHashMap<Date, List<String>>();
+		// 締期間最終日時点で入社している部下を確認
+		for (HumanDtoInterface humanDto : humanList) {
+			// 個人IDを取得
+			String personalId = humanDto.getPersonalId();
+			// 設定適用エンティティを取得(年月指定時の基準日で)
+			ApplicationEntity applicationEntity = timeMaster.getApplicationEntity(humanDto, targetYear, targetMonth);
+			// 設定適用エンティティが無効である(必要な情報が揃っていない)場合
+			if (applicationEntity.isValid() == false) {
+				continue;
+			}
+			// 締期間最終日取得
+			Date cutoffLastDate = TimeUtility.getCutoffLastDate(applicationEntity.getCutoffDate(), targetYear,
+					targetMonth);
+			// 締最終日時点で入社していない場合
+			if (!isEntered(entranceMap.get(personalId), cutoffLastDate)) {
+				continue;
+			}
+			applicationEntityMap.put(personalId, applicationEntity);
+			// 締期間最終日毎に個人IDを保持
+			List<String> list = cutoffLastDateMap.get(cutoffLastDate);
+			if (list == null) {
+				list = new ArrayList<String>();
+				cutoffLastDateMap.put(cutoffLastDate, list);
+			}
+			list.add(personalId);
+		}
+		// 締期間最終日時点の人事情報群(キー：個人ID)を締期間最終日毎に一括取得
+		Map<String, HumanDtoInterface> cutoffLastDateHumanMap = new HashMap<String, HumanDtoInterface>();
+		for (Map.Entry<Date, List<String>> entry : cutoffLastDateMap.entrySet()) {
+			List<String> list = entry.getValue();
+			for (int i = 0; i < list.size(); i += TotalTimeEntityReferenceBean.BULK_PERSONAL_ID_SIZE) {
+				cutoffLastDateHumanMap.putAll(humanDao.findForPersonalIds(entry.getKey(),
+						getPersonalIdsSubList(list, i, TotalTimeEntityReferenceBean.BULK_PERSONAL_ID_SIZE)));
+			}
+		}
+		// 締日毎の個人IDリスト及び勤怠設定コード群(キー：個人ID)を準備
+		Map<Integer, List<String>> cutoffDateMap = new LinkedHashMap<Integer, List<String>>();
+		Map<String, String> workSettingCodeMap = new HashMap<String, String>();
+		// 締状態(検索条件)に合致する部下一覧情報リストを準備
+		List<SubordinateListDtoInterface> candidateList = new ArrayList<SubordinateListDtoInterface>();
+		// 検索結果から部下一覧情報を作成
 		for (HumanDtoInterface humanDto : humanList) {
 			// 個人IDを取得
 			String personalId = humanDto.getPersonalId();
-			// 勤怠集計データを取得
-			TotalTimeDataDtoInterface totalTimeDto = totalTimeDataDao.findForKey(personalId, targetYear, targetMonth);
-			// 部下一覧情報DTOに設定
-			SubordinateListDtoInterface dto = getSubordinateListDto(humanDto, targetYear, targetMonth, totalTimeDto,
-					searchBeforeDay);
-			// 部下一覧情報が検索条件に合致する場合
-			if (isApprovalConditionMatch(dto) && isCalcConditionMatch(dto)) {
+			// 設定適用エンティティを取得
+			ApplicationEntity applicationEntity = applicationEntityMap.get(personalId);
+			// 設定適用エンティティが無効或いは締最終日時点で入社していない場合
+			if (applicationEntity == null) {
+				continue;
+			}
+			// 設定適用エンティティから締日情報を取得
+			int cutoffDate = applicationEntity.getCutoffDate();
+			// 締期間最終日取得
+			Date cutoffLastDate = TimeUtility.getCutoffLastDate(cutoffDate, targetYear, targetMonth);
+			// 締日最終日時点で設定適用がない場合
+			if (timeMaster.getApplication(cutoffLastDateHumanMap.get(personalId), cutoffLastDate) == null) {
+				continue;
+			}
+			// 部下一覧情報準備
+			SubordinateListDtoInterface dto = new SubordinateListDto();
+			// 対象年月を設定
+			dto.setTargetYear(targetYear);
+			dto.setTargetMonth(targetMonth);
+			// 部下一覧情報に人事情報を設定
+			setHuman(dto, humanDto);
+			// 部下一覧情報に勤怠集計データを設定
+			setTotalTimeData(dto, totalTimeDataMap.get(personalId));
+			// 締状態設定
+			setCutoffState(dto, getCutoffState(employeeMap.get(personalId), targetYear, targetMonth));
+			// 部下一覧情報が締状態(検索条件)に合致しない場合
+			if (isCalcConditionMatch(dto) == false) {
+				continue;
+			}
+			candidateList.add(dto);
+			// 締日毎に個人IDを保持
+			List<String> list = cutoffDateMap.get(cutoffDate);
+			if (list == null) {
+				list = new ArrayList<String>();
+				cutoffDateMap.put(cutoffDate, list);
+			}
+			list.add(personalId);
+			// 勤怠設定コードを保持
+			workSettingCodeMap.put(personalId, applicationEntity.getWorkSettingCode());
+		}
+		// 締日毎に申請検出エンティティを一括取得
+		Map<String, RequestDetectEntityInterface> entityMap = new HashMap<String, RequestDetectEntityInterface>();
+		for (Map.Entry<Integer, List<String>> entry : cutoffDateMap.entrySet()) {
+			entityMap.putAll(totalTimeEntityRefer.getRequestDetectEntityMap(entry.getValue(), targetYear, targetMonth,
+					entry.getKey().intValue()));
+		}
+		// 部下一覧情報毎に処理
+		for (SubordinateListDtoInterface dto : candidateList) {
+			// 部下一覧情報に承認状態を設定
+			setApprovalState(dto, entityMap.get(dto.getPersonalId()), searchBeforeDay);
+			// 部下一覧情報が未承認(検索条件)に合致する場合
+			if (isApprovalConditionMatch(dto)) {
 				// 部下一覧情報リストに追加
 				subordinateList.add(dto);
 			}
 		}
+		// 検索条件に合致した部下の勤怠集計修正情報群を一括取得
+		Map<String, TotalTimeCorrectionDtoInterface> correctionMap = getTotalTimeCorrectionMap(subordinateList);
+		// 部下一覧情報毎に処理
+		for (SubordinateListDtoInterface dto : subordinateList) {
+			// 勤怠修正情報設定
+			setCorrection(dto, correctionMap.get(dto.getPersonalId()));
+			// 限度基準情報を設定
+			setLimitStandard(dto, workSettingCodeMap.get(dto.getPersonalId()));
+		}
 		// 部下一覧情報リストを取得
 		return subordinateList;
 	}
 	
+	/**
+	 * 対象年月の勤怠集計データ群を一括取得する。<br>
+	 * @param personalIds 個人ID配列
+	 * @return 勤怠集計データ群(キー：個人ID)
+	 * @throws MospException SQL実行に失敗した場合
+	 */
+	protected Map<String, TotalTimeDataDtoInterface> getTotalTimeDataMap(String[] personalIds) throws MospException {
+		Map<String, TotalTimeDataDtoInterface> map = new HashMap<String, TotalTimeDataDtoInterface>();
+		for (TotalTimeDataDtoInterface dto : totalTimeDataDao.findForList(personalIds, targetYear, targetMonth)) {
+			map.put(dto.getPersonalId(), dto);
+		}
+		return map;
+	}
+	
+	/**
+	 * 部下一覧情報リストの勤怠集計修正情報群を一括取得する。<br>
+	 * @param list 部下一覧情報リスト
+	 * @return 勤怠集計修正情報群(キー：個人ID)
+	 * @throws MospException SQL実行に失敗した場合
+	 */
+	protected Map<String, TotalTimeCorrectionDtoInterface> getTotalTimeCorrectionMap(
+			List<SubordinateListDtoInterface> list) throws MospException {
+		Map<String, TotalTimeCorrectionDtoInterface> map = new HashMap<String, TotalTimeCorrectionDtoInterface>();
+		// 一括取得単位毎に一括取得
+		for (int i = 0; i < list.size(); i += TotalTimeEntityReferenceBean.BULK_PERSONAL_ID_SIZE) {
+			map.putAll(totalTimeCorrectionDao.findForPersonalIds(
+					getPersonalIds(list, i, TotalTimeEntityReferenceBean.BULK_PERSONAL_ID_SIZE), targetYear,
+					targetMonth));
+		}
+		return map;
+	}
+	
 	/**
 	 * 承認状態表示名を取得する。<br>
 	 * <br>
@@ -447,7 +623,19 @@ public class SubordinateSearchBean extends HumanSubordinateBean implements Subor
 		// 申請検出エンティティを取得
 		RequestDetectEntityInterface entity = totalTimeEntityRefer.getRequestDetectEntity(personalId, targetYear,
 				targetMonth, cutoffDate);
-		
+		// 承認状態及び申請状態を設定
+		setApprovalState(dto, entity, searchBeforeDay);
+	}
+	
+	/**
+	 * 申請検出エンティティを基に、部下一覧情報に承認状態及び申請状態を設定する。<br>
+	 * <br>
+	 * @param dto             対象部下一覧情報
+	 * @param entity          申請検出エンティティ
+	 * @param searchBeforeDay 前日までフラグ(承認状態取得用)
+	 */
+	protected void setApprovalState(SubordinateListDtoInterface dto, RequestDetectEntityInterface entity,
+			boolean searchBeforeDay) {
 		// 前日までの場合
 		if (searchBeforeDay) {
 			// 対象期間をシステム日付前日までに設定
@@ -478,8 +666,16 @@ public class SubordinateSearchBean extends HumanSubordinateBean implements Subor
 		String personalId = dto.getPersonalId();
 		int targetYear = dto.getTargetYear();
 		int targetMonth = dto.getTargetMonth();
-		// 締状態取得
-		int cutoffState = getCutoffState(personalId, targetYear, targetMonth);
+		// 締状態を取得し設定
+		setCutoffState(dto, getCutoffState(personalId, targetYear, targetMonth));
+	}
+	
+	/**
+	 * 締状態を設定する。<br>
+	 * @param dto         対象部下一覧情報
+	 * @param cutoffState 締状態
+	 */
+	protected void setCutoffState(SubordinateListDtoInterface dto, int cutoffState) {
 		// 締状態設定
 		dto.setCutoffState(cutoffState);
 		// 締状態表示名称設定
@@ -498,9 +694,17 @@ public class SubordinateSearchBean extends HumanSubordinateBean implements Subor
 		String personalId = dto.getPersonalId();
 		int targetYear = dto.getTargetYear();
 		int targetMonth = dto.getTargetMonth();
-		// 勤怠集計修正情報取得
-		TotalTimeCorrectionDtoInterface totalTimeCorrectionDto = totalTimeCorrection
-			.getLatestTotalTimeCorrectionInfo(personalId, targetYear, targetMonth);
+		// 勤怠集計修正情報を取得し設定
+		setCorrection(dto, totalTimeCorrection.getLatestTotalTimeCorrectionInfo(personalId, targetYear, targetMonth));
+	}
+	
+	/**
+	 * 勤怠修正情報を設定する。<br>
+	 * @param dto                    対象部下一覧情報
+	 * @param totalTimeCorrectionDto 最新の勤怠集計修正情報
+	 */
+	protected void setCorrection(SubordinateListDtoInterface dto,
+			TotalTimeCorrectionDtoInterface totalTimeCorrectionDto) {
 		if (totalTimeCorrectionDto == null) {
 			dto.setCorrection("");
 			return;
@@ -579,9 +783,21 @@ public class SubordinateSearchBean extends HumanSubordinateBean implements Subor
 	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
 	 */
 	protected int getCutoffState(String personalId, int targetYear, int targetMonth) throws MospException {
-		// 社員勤怠集計管理情報取得
-		TotalTimeEmployeeDtoInterface totalTimeEmployeeDto = totalTimeEmployeeTransaction.findForKey(personalId,
-				targetYear, targetMonth);
+		// 社員勤怠集計管理情報を取得し締状態を取得
+		return getCutoffState(totalTimeEmployeeTransaction.findForKey(personalId, targetYear, targetMonth), targetYear,
+				targetMonth);
+	}
+	
+	/**
+	 * 社員勤怠集計管理情報から締状態を取得する。<br>
+	 * @param totalTimeEmployeeDto 社員勤怠集計管理情報
+	 * @param targetYear           対象年
+	 * @param targetMonth          対象月
+	 * @return 締状態
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected int getCutoffState(TotalTimeEmployeeDtoInterface totalTimeEmployeeDto, int targetYear, int targetMonth)
+			throws MospException {
 		// 社員勤怠集計管理情報確認
 		if (totalTimeEmployeeDto == null) {
 			// 未締であると判断
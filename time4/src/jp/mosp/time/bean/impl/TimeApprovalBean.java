@@ -18,8 +18,15 @@
 package jp.mosp.time.bean.impl;
 
 import java.sql.Connection;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
 
 import jp.mosp.framework.base.BaseDtoInterface;
 import jp.mosp.framework.base.MospException;
@@ -28,6 +35,7 @@ import jp.mosp.framework.utils.DateUtility;
 import jp.mosp.platform.bean.workflow.WorkflowReferenceBeanInterface;
 import jp.mosp.platform.bean.workflow.WorkflowRegistBeanInterface;
 import jp.mosp.platform.constant.PlatformConst;
+import jp.mosp.platform.dao.workflow.WorkflowDaoInterface;
 import jp.mosp.platform.dto.workflow.WorkflowDtoInterface;
 import jp.mosp.time.base.TimeBean;
 import jp.mosp.time.bean.ApprovalInfoReferenceBeanInterface;
@@ -38,6 +46,7 @@ import jp.mosp.time.bean.DifferenceRequestRegistBeanInterface;
 import jp.mosp.time.bean.HolidayRequestRegistBeanInterface;
 import jp.mosp.time.bean.OvertimeRequestRegistBeanInterface;
 import jp.mosp.time.bean.RequestUtilBeanInterface;
+import jp.mosp.time.bean.PaidHolidayBalanceRegistBeanInterface;
 import jp.mosp.time.bean.SubHolidayRequestRegistBeanInterface;
 import jp.mosp.time.bean.SubstituteReferenceBeanInterface;
 import jp.mosp.time.bean.TimeApprovalBeanInterface;
@@ -75,6 +84,11 @@ public class TimeApprovalBean extends TimeBean implements TimeApprovalBeanInterf
 	 */
 	protected WorkflowRegistBeanInterface				workflowRegist;
 	
+	/**
+	 * ワークフローDAO。
+	 */
+	protected WorkflowDaoInterface						workflowDao;
+	
 	/**
 	 * 勤怠一覧登録クラス。<br>
 	 */
@@ -125,6 +139,11 @@ public class TimeApprovalBean extends TimeBean implements TimeApprovalBeanInterf
 	 */
 	protected SubstituteReferenceBeanInterface			substituteReference;
 	
+	/**
+	 * 有給休暇残高台帳登録クラス。
+	 */
+	protected PaidHolidayBalanceRegistBeanInterface		paidHolidayBalanceRegist;
+	
 	
 	/**
 	 * {@link TimeBean#TimeBean()}を実行する。<br>
@@ -148,6 +167,7 @@ public class TimeApprovalBean extends TimeBean implements TimeApprovalBeanInterf
 		approvalInfo = (ApprovalInfoReferenceBeanInterface)createBean(ApprovalInfoReferenceBeanInterface.class);
 		workflowRefer = (WorkflowReferenceBeanInterface)createBean(WorkflowReferenceBeanInterface.class);
 		workflowRegist = (WorkflowRegistBeanInterface)createBean(WorkflowRegistBeanInterface.class);
+		workflowDao = (WorkflowDaoInterface)createDao(WorkflowDaoInterface.class);
 		attendanceListRegist = (AttendanceListRegistBeanInterface)createBean(AttendanceListRegistBeanInterface.class);
 		attendanceRegist = (AttendanceRegistBeanInterface)createBean(AttendanceRegistBeanInterface.class);
 		differenceRequestRegist = (DifferenceRequestRegistBeanInterface)createBean(
@@ -164,6 +184,8 @@ public class TimeApprovalBean extends TimeBean implements TimeApprovalBeanInterf
 		attendanceTransactionRegist = (AttendanceTransactionRegistBeanInterface)createBean(
 				AttendanceTransactionRegistBeanInterface.class);
 		substituteReference = (SubstituteReferenceBeanInterface)createBean(SubstituteReferenceBeanInterface.class);
+		paidHolidayBalanceRegist = (PaidHolidayBalanceRegistBeanInterface)createBean(
+				PaidHolidayBalanceRegistBeanInterface.class);
 	}
 	
 	@Override
@@ -188,6 +210,8 @@ public class TimeApprovalBean extends TimeBean implements TimeApprovalBeanInterf
 		}
 		// 勤怠トランザクション登録
 		registAttendanceTransaction(dto.getPersonalId(), dto.getWorkflowDate(), requestDto);
+		// 有給休暇残高台帳登録
+		paidHolidayBalanceRegist.regist(requestDto);
 	}
 	
 	@Override
@@ -224,14 +248,77 @@ public class TimeApprovalBean extends TimeBean implements TimeApprovalBeanInterf
 			// 承認済の場合は勤怠を下書し直す
 			reDraft(dto.getPersonalId(), dto.getWorkflowDate(), false, false, false);
 		}
+		// 有給休暇残高台帳登録
+		paidHolidayBalanceRegist.regist(requestDto);
 	}
 	
 	@Override
 	public void approve(long[] aryWorkflow, String workflowComment) throws MospException {
-		// ワークフロー毎に処理
+		// ワークフロー番号群を準備
+		Set<Long> workflowSet = new LinkedHashSet<Long>();
 		for (long workflow : aryWorkflow) {
-			// 承認処理
-			approve(workflow, workflowComment);
+			workflowSet.add(workflow);
+		}
+		// ワークフロー情報群及び申請情報群を一括で取得
+		Map<Long, WorkflowDtoInterface> workflowMap = workflowDao.findForInKey(workflowSet);
+		Map<Long, BaseDtoInterface> requestMap = approvalInfo.getRequestDtoMap(workflowMap.values(), true);
+		// 承認対象ワークフロー情報リストを準備
+		List<WorkflowDtoInterface> list = new ArrayList<WorkflowDtoInterface>();
+		// ワークフロー毎に確認
+		for (Long workflow : workflowSet) {
+			WorkflowDtoInterface dto = workflowMap.get(workflow);
+			// 承認時の確認処理
+			checkApproval(requestMap.get(workflow));
+			// ワークフロー情報の排他確認
+			checkExclusive(dto);
+			// 処理結果確認(最初にエラーとなったワークフローで終了)
+			if (mospParams.hasErrorMessage()) {
+				return;
+			}
+			list.add(dto);
+		}
+		// 一括承認処理
+		workflowRegist.approve(list, PlatformConst.WORKFLOW_TYPE_TIME, workflowComment);
+		if (mospParams.hasErrorMessage()) {
+			return;
+		}
+		// 下書し直す勤怠の申請情報群(キー：個人ID及び勤務日)を準備
+		Map<String, List<BaseDtoInterface>> reDraftMap = new LinkedHashMap<String, List<BaseDtoInterface>>();
+		Map<String, WorkflowDtoInterface> reDraftWorkflowMap = new HashMap<String, WorkflowDtoInterface>();
+		// 勤怠トランザクション登録対象日群(キー：個人ID)を準備
+		Map<String, Set<Date>> transactionMap = new LinkedHashMap<String, Set<Date>>();
+		for (WorkflowDtoInterface dto : list) {
+			BaseDtoInterface requestDto = requestMap.get(dto.getWorkflow());
+			if (PlatformConst.CODE_STATUS_COMPLETE.equals(dto.getWorkflowStatus())) {
+				// 承認済の場合は個人ID及び勤務日毎に申請情報をまとめる
+				String key = dto.getPersonalId() + "," + dto.getWorkflowDate().getTime();
+				List<BaseDtoInterface> requestList = reDraftMap.get(key);
+				if (requestList == null) {
+					requestList = new ArrayList<BaseDtoInterface>();
+					reDraftMap.put(key, requestList);
+					reDraftWorkflowMap.put(key, dto);
+				}
+				requestList.add(requestDto);
+			}
+			// 勤怠トランザクション登録対象日を追加
+			addAttendanceTransaction(transactionMap, dto.getPersonalId(), dto.getWorkflowDate(), requestDto);
+		}
+		// 個人ID及び勤務日毎に勤怠を下書し直す
+		for (Entry<String, List<BaseDtoInterface>> entry : reDraftMap.entrySet()) {
+			WorkflowDtoInterface dto = reDraftWorkflowMap.get(entry.getKey());
+			boolean deleteRest = false;
+			boolean useWorkTypeChangeRequest = false;
+			for (BaseDtoInterface requestDto : entry.getValue()) {
+				deleteRest |= isDeleteRest(requestDto);
+				useWorkTypeChangeRequest |= requestDto instanceof WorkTypeChangeRequestDtoInterface;
+			}
+			reDraft(dto.getPersonalId(), dto.getWorkflowDate(), deleteRest, useWorkTypeChangeRequest, false);
+		}
+		// 個人ID及び日付毎に勤怠トランザクション登録
+		registAttendanceTransaction(transactionMap);
+		// 申請毎に有給休暇残高台帳登録
+		for (WorkflowDtoInterface dto : list) {
+			paidHolidayBalanceRegist.regist(requestMap.get(dto.getWorkflow()));
 		}
 	}
 	
@@ -264,6 +351,8 @@ public class TimeApprovalBean extends TimeBean implements TimeApprovalBeanInterf
 		}
 		// 勤怠トランザクション登録
 		registAttendanceTransaction(dto.getPersonalId(), dto.getWorkflowDate(), requestDto);
+		// 有給休暇残高台帳登録
+		paidHolidayBalanceRegist.regist(requestDto);
 	}
 	
 	@Override
@@ -306,6 +395,8 @@ public class TimeApprovalBean extends TimeBean implements TimeApprovalBeanInterf
 		}
 		// 勤怠トランザクション登録
 		registAttendanceTransaction(dto.getPersonalId(), dto.getWorkflowDate(), requestDto);
+		// 有給休暇残高台帳登録
+		paidHolidayBalanceRegist.regist(requestDto);
 	}
 	
 	@Override
@@ -453,13 +544,44 @@ public class TimeApprovalBean extends TimeBean implements TimeApprovalBeanInterf
 	@Override
 	public void registAttendanceTransaction(String personalId, Date workDate, BaseDtoInterface requestDto)
 			throws MospException {
+		// 勤怠トランザクション登録対象日群(キー：個人ID)を準備
+		Map<String, Set<Date>> transactionMap = new LinkedHashMap<String, Set<Date>>();
+		addAttendanceTransaction(transactionMap, personalId, workDate, requestDto);
+		// 勤怠トランザクション登録
+		registAttendanceTransaction(transactionMap);
+	}
+	
+	/**
+	 * 勤怠トランザクションを登録する。<br>
+	 * @param transactionMap 勤怠トランザクション登録対象日群(キー：個人ID)
+	 * @throws MospException インスタンスの取得及びSQL実行に失敗した場合
+	 */
+	protected void registAttendanceTransaction(Map<String, Set<Date>> transactionMap) throws MospException {
+		for (Entry<String, Set<Date>> entry : transactionMap.entrySet()) {
+			for (Date date : entry.getValue()) {
+				attendanceTransactionRegist.regist(entry.getKey(), date);
+			}
+		}
+	}
+	
+	/**
+	 * 申請に応じた勤怠トランザクション登録対象日を追加する。<br>
+	 * 既に追加されている個人ID及び日付は、重複して追加しない。<br>
+	 * @param transactionMap 勤怠トランザクション登録対象日群(キー：個人ID)
+	 * @param personalId     個人ID
+	 * @param workDate       勤務日
+	 * @param requestDto     申請DTO
+	 * @throws MospException インスタンスの取得及びSQL実行に失敗した場合
+	 */
+	protected void addAttendanceTransaction(Map<String, Set<Date>> transactionMap, String personalId, Date workDate,
+			BaseDtoInterface requestDto) throws MospException {
 		if (requestDto instanceof HolidayRequestDtoInterface) {
 			// 休暇申請である場合
 			HolidayRequestDtoInterface holidayRequestDto = (HolidayRequestDtoInterface)requestDto;
 			List<Date> list = TimeUtility.getDateList(holidayRequestDto.getRequestStartDate(),
 					holidayRequestDto.getRequestEndDate());
 			for (Date date : list) {
-				attendanceTransactionRegist.regist(personalId, date);
+				addAttendanceTransaction(transactionMap, personalId, date);
 			}
 			return;
 		} else if (requestDto instanceof WorkOnHolidayRequestDtoInterface) {
@@ -472,13 +594,28 @@ public class TimeApprovalBean extends TimeBean implements TimeApprovalBeanInterf
 				// 振替出勤(全日)・振替出勤(午前)・振替出勤(午後)の場合
 				for (SubstituteDtoInterface substituteDto : substituteReference
 					.getSubstituteList(workOnHolidayRequestDto.getWorkflow())) {
-					attendanceTransactionRegist.regist(substituteDto.getPersonalId(),
+					addAttendanceTransaction(transactionMap, substituteDto.getPersonalId(),
 							substituteDto.getSubstituteDate());
 				}
 			}
 		}
 		// 休暇申請でない場合
-		attendanceTransactionRegist.regist(personalId, workDate);
+		addAttendanceTransaction(transactionMap, personalId, workDate);
+	}
+	
+	/**
+	 * 勤怠トランザクション登録対象日を追加する。<br>
+	 * @param transactionMap 勤怠トランザクション登録対象日群(キー：個人ID)
+	 * @param personalId     個人ID
+	 * @param date           対象日
+	 */
+	protected void addAttendanceTransaction(Map<String, Set<Date>> transactionMap, String personalId, Date date) {
+		Set<Date> dateSet = transactionMap.get(personalId);
+		if (dateSet == null) {
+			dateSet = new LinkedHashSet<Date>();
+			transactionMap.put(personalId, dateSet);
+		}
+		dateSet.add(date);
 	}
 	
 	/**
@@ -490,8 +627,19 @@ public class TimeApprovalBean extends TimeBean implements TimeApprovalBeanInterf
 	 */
 	protected void reDraftAttendance(String personalId, Date workDate, BaseDtoInterface requestDto)
 			throws MospException {
+		// 勤務形態変更申請の場合は勤務形態変更申請を利用
+		boolean useWorkTypeChangeRequest = requestDto instanceof WorkTypeChangeRequestDtoInterface;
+		reDraft(personalId, workDate, isDeleteRest(requestDto), useWorkTypeChangeRequest, false);
+	}
+	
+	/**
+	 * 勤怠を下書し直す際に休憩を削除するかを確認する。<br>
+	 * 午前休または午後休の休暇申請及び代休申請の場合に、休憩を削除する。<br>
+	 * @param requestDto 申請DTO
+	 * @return 確認結果(true：休憩を削除する、false：休憩を削除しない)
+	 */
+	protected boolean isDeleteRest(BaseDtoInterface requestDto) {
 		boolean deleteRest = false;
-		boolean useWorkTypeChangeRequest = false;
 		if (requestDto instanceof HolidayRequestDtoInterface) {
 			// 休暇申請の場合
 			HolidayRequestDtoInterface holidayRequestDto = (HolidayRequestDtoInterface)requestDto;
@@ -509,11 +657,7 @@ public class TimeApprovalBean extends TimeBean implements TimeApprovalBeanInterf
 				deleteRest = true;
 			}
 		}
-		if (requestDto instanceof WorkTypeChangeRequestDtoInterface) {
-			// 勤務形態変更申請の場合
-			useWorkTypeChangeRequest = true;
-		}
-		reDraft(personalId, workDate, deleteRest, useWorkTypeChangeRequest, false);
+		return deleteRest;
 	}
 	
 	@Override
@@ -18,6 +18,7 @@
 package jp.mosp.time.bean.impl;
 
 import java.sql.Connection;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -27,7 +28,9 @@ import java.util.Map.Entry;
 import java.util.Set;
 
 import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospMasterCache;
 import jp.mosp.framework.base.MospParams;
+import jp.mosp.platform.base.ApplicationMasterIndex;
 import jp.mosp.platform.base.PlatformBean;
 import jp.mosp.platform.bean.system.PlatformMasterBeanInterface;
 import jp.mosp.platform.constant.PlatformConst;
@@ -42,6 +45,14 @@ import jp.mosp.time.dao.settings.HolidayDaoInterface;
 import jp.mosp.time.dao.settings.PaidHolidayDaoInterface;
 import jp.mosp.time.dao.settings.ScheduleDateDaoInterface;
 import jp.mosp.time.dao.settings.TimeSettingDaoInterface;
+import jp.mosp.time.dao.settings.impl.TmmApplicationDao;
+import jp.mosp.time.dao.settings.impl.TmmCutoffDao;
+import jp.mosp.time.dao.settings.impl.TmmHolidayDao;
+import jp.mosp.time.dao.settings.impl.TmmPaidHolidayDao;
+import jp.mosp.time.dao.settings.impl.TmmScheduleDateDao;
+import jp.mosp.time.dao.settings.impl.TmmTimeSettingDao;
+import jp.mosp.time.dao.settings.impl.TmmWorkTypeDao;
+import jp.mosp.time.dao.settings.impl.TmmWorkTypeItemDao;
 import jp.mosp.time.dto.settings.ApplicationDtoInterface;
 import jp.mosp.time.dto.settings.CutoffDtoInterface;
 import jp.mosp.time.dto.settings.HolidayDtoInterface;
@@ -67,58 +78,63 @@ import jp.mosp.time.utils.TimeUtility;
  * DBにアクセスする回数が減る分メモリを使うことになるため、
  * 保持する情報の量に応じてメモリを調整する必要がある。<br>
  * <br>
+ * マスタ共有キャッシュを利用する設定の場合は、DBから取得した情報を
+ * マスタ共有キャッシュ({@link MospMasterCache})にも保持し、リクエストを跨いで再利用する。<br>
+ * マスタ共有キャッシュのリスト等は複製して返すが、そこに含まれるDTOは複数のリクエストで共有されるため、
+ * 取得したDTOを変更してはならない(変更する場合は、DTOを作成し直すこと)。<br>
+ * <br>
  */
 public class TimeMasterBean extends PlatformBean implements TimeMasterBeanInterface {
 	
 	/**
 	 * 設定適用マスタDAOクラス。<br>
 	 */
-	protected ApplicationDaoInterface							applicationDao;
+	protected ApplicationDaoInterface										applicationDao;
 	
 	/**
 	 * 勤怠設定管理DAOクラス。<br>
 	 */
-	protected TimeSettingDaoInterface							timeSettingDao;
+	protected TimeSettingDaoInterface										timeSettingDao;
 	
 	/**
 	 * 有給休暇設定DAOクラス。<br>
 	 */
-	protected PaidHolidayDaoInterface							paidHolidayDao;
+	protected PaidHolidayDaoInterface										paidHolidayDao;
 	
 	/**
 	 * 締日管理DAOクラス。<br>
 	 */
-	protected CutoffDaoInterface								cutoffDao;
+	protected CutoffDaoInterface											cutoffDao;
 	
 	/**
 	 * カレンダ日情報DAOクラス。<br>
 	 */
-	protected ScheduleDateDaoInterface							scheduleDateDao;
+	protected ScheduleDateDaoInterface										scheduleDateDao;
 	
 	/**
 	 * 休暇種別管理DAOクラス。<br>
 	 */
-	protected HolidayDaoInterface								holidayDao;
+	protected HolidayDaoInterface											holidayDao;
 	
 	/**
 	 * 勤務形態参照クラス。<br>
 	 */
-	protected WorkTypeReferenceBeanInterface					workTypeRefer;
+	protected WorkTypeReferenceBeanInterface								workTypeRefer;
 	
 	/**
 	 * プラットフォームマスタ参照処理。<br>
 	 */
-	protected PlatformMasterBeanInterface						platformMaster;
+	protected PlatformMasterBeanInterface									platformMaster;
 	
 	/**
 	 * From日付(設定適用情報有効日群取得範囲)。<br>
 	 */
-	protected Date												applicationFromDate;
+	protected Date															applicationFromDate;
 	
 	/**
 	 * To日付(設定適用情報有効日群取得範囲)。<br>
 	 */
-	protected Date												applicationToDate;
+	protected Date															applicationToDate;
 	
 	/**
 	 * 設定適用情報有効日群。<br>
@@ -126,7 +142,7 @@ public class TimeMasterBean extends PlatformBean implements TimeMasterBeanInterf
 	 * 設定適用情報有効日群取得範囲に有効日を持つ設定適用情報の有効日群。<br>
 	 * <br>
 	 */
-	protected Set<Date>											applicationDateSet;
+	protected Set<Date>														applicationDateSet;
 	
 	/**
 	 * 設定適用情報(個人)群(キー：対象日)。<br>
@@ -134,7 +150,7 @@ public class TimeMasterBean extends PlatformBean implements TimeMasterBeanInterf
 	 * 対象日における最新の設定適用情報群。<br>
 	 * <br>
 	 */
-	protected Map<Date, Set<ApplicationDtoInterface>>			applicationPersonMap;
+	protected Map<Date, Set<ApplicationDtoInterface>>						applicationPersonMap;
 	
 	/**
 	 * 設定適用情報(マスタ)群(キー：対象日)。<br>
@@ -142,7 +158,12 @@ public class TimeMasterBean extends PlatformBean implements TimeMasterBeanInterf
 	 * 対象日における最新の設定適用情報群。<br>
 	 * <br>
 	 */
-	protected Map<Date, Set<ApplicationDtoInterface>>			applicationMasterMap;
+	protected Map<Date, Set<ApplicationDtoInterface>>						applicationMasterMap;
+	
+	/**
+	 * 設定適用情報索引群(キー：対象日)。<br>
+	 */
+	protected Map<Date, ApplicationMasterIndex<ApplicationDtoInterface>>	applicationIndexMap;
 	
 	/**
 	 * 勤怠設定情報群(キー：対象日)。<br>
@@ -150,7 +171,7 @@ public class TimeMasterBean extends PlatformBean implements TimeMasterBeanInterf
 	 * 対象日における最新の勤怠設定情報群。<br>
 	 * <br>
 	 */
-	protected Map<Date, Set<TimeSettingDtoInterface>>			timeSettingMap;
+	protected Map<Date, Set<TimeSettingDtoInterface>>						timeSettingMap;
 	
 	/**
 	 * 有給休暇設定情報群(キー：対象日)。<br>
@@ -158,7 +179,7 @@ public class TimeMasterBean extends PlatformBean implements TimeMasterBeanInterf
 	 * 対象日における最新の有給休暇設定情報群。<br>
 	 * <br>
 	 */
-	protected Map<Date, Set<PaidHolidayDtoInterface>>			paidHolidayMap;
+	protected Map<Date, Set<PaidHolidayDtoInterface>>						paidHolidayMap;
 	
 	/**
 	 * 締日管理情報群(キー：対象日)。<br>
@@ -166,12 +187,12 @@ public class TimeMasterBean extends PlatformBean implements TimeMasterBeanInterf
 	 * 対象日における最新の締日管理情報群。<br>
 	 * <br>
 	 */
-	protected Map<Date, Set<CutoffDtoInterface>>				cutoffMap;
+	protected Map<Date, Set<CutoffDtoInterface>>							cutoffMap;
 	
 	/**
 	 * カレンダ日情報群(キー：カレンダコード)。<br>
 	 */
-	protected Map<String, Map<Date, ScheduleDateDtoInterface>>	scheduleMap;
+	protected Map<String, Map<Date, ScheduleDateDtoInterface>>				scheduleMap;
 	
 	/**
 	 * 勤務形態エンティティ群(キー：勤務形態コード)。<br>
@@ -179,7 +200,7 @@ public class TimeMasterBean extends PlatformBean implements TimeMasterBeanInterf
 	 * 値は勤務形態エンティティ履歴(有効日昇順)。<br>
 	 * <br>
 	 */
-	protected Map<String, List<WorkTypeEntity>>					workTypeMap;
+	protected Map<String, List<WorkTypeEntity>>								workTypeMap;
 	
 	/**
 	 * 休暇種別情報群(キー：対象日)。<br>
@@ -187,7 +208,7 @@ public class TimeMasterBean extends PlatformBean implements TimeMasterBeanInterf
 	 * 対象日における最新の休暇種別情報群。<br>
 	 * <br>
 	 */
-	protected Map<Date, Set<HolidayDtoInterface>>				holidayMap;
+	protected Map<Date, Set<HolidayDtoInterface>>							holidayMap;
 	
 	
 	/**
@@ -222,6 +243,7 @@ public class TimeMasterBean extends PlatformBean implements TimeMasterBeanInterf
 		applicationDateSet = new HashSet<Date>();
 		applicationPersonMap = new HashMap<Date, Set<ApplicationDtoInterface>>();
 		applicationMasterMap = new HashMap<Date, Set<ApplicationDtoInterface>>();
+		applicationIndexMap = new HashMap<Date, ApplicationMasterIndex<ApplicationDtoInterface>>();
 		timeSettingMap = new HashMap<Date, Set<TimeSettingDtoInterface>>();
 		paidHolidayMap = new HashMap<Date, Set<PaidHolidayDtoInterface>>();
 		cutoffMap = new HashMap<Date, Set<CutoffDtoInterface>>();
@@ -232,11 +254,8 @@ public class TimeMasterBean extends PlatformBean implements TimeMasterBeanInterf
 	
 	@Override
 	public ApplicationDtoInterface getApplication(HumanDtoInterface humanDto, Date targetDate) throws MospException {
-		// 設定適用情報群取得
-		Set<ApplicationDtoInterface> personSet = getApplicationPersonSet(targetDate);
-		Set<ApplicationDtoInterface> masterSet = getApplicationMasterSet(targetDate);
-		// 適用情報群から対象人事情報が適用される適用情報を取得
-		return (ApplicationDtoInterface)PlatformUtility.getApplicationMaster(humanDto, personSet, masterSet);
+		// 設定適用情報索引から対象人事情報が適用される適用情報を取得
+		return getApplicationIndex(targetDate).get(humanDto);
 	}
 	
 	@Override
@@ -385,7 +404,7 @@ public class TimeMasterBean extends PlatformBean implements TimeMasterBeanInterf
 			}
 		}
 		// DBから締日管理情報を取得(フィールドから締日管理情報を取得できなかった場合)
-		CutoffDtoInterface dto = cutoffDao.findForInfo(cutoffCode, targetDate);
+		CutoffDtoInterface dto = findCutoff(cutoffCode, targetDate);
 		// DBから締日管理情報を取得できなかった場合
 		if (dto == null) {
 			return null;
@@ -414,7 +433,7 @@ public class TimeMasterBean extends PlatformBean implements TimeMasterBeanInterf
 			return dto;
 		}
 		// DBからカレンダ日情報を取得(フィールドからカレンダ日情報を取得できなかった場合)
-		dto = scheduleDateDao.findForKey(scheduleCode, targetDate);
+		dto = findScheduleDate(scheduleCode, targetDate);
 		// フィールドに設定(nullであればnullを設定)
 		map.put(targetDate, dto);
 		// カレンダ日情報を取得
@@ -449,7 +468,7 @@ public class TimeMasterBean extends PlatformBean implements TimeMasterBeanInterf
 		// フィールドから休暇種別情報群を取得できなかった場合
 		if (set == null) {
 			// 休暇種別情報群をDBから準備しフィールドに設定
-			set = holidayDao.findForActivateDate(targetDate);
+			set = findHolidaySet(targetDate);
 			holidayMap.put(targetDate, set);
 		}
 		// 休暇種別情報群を取得
@@ -498,6 +517,42 @@ public class TimeMasterBean extends PlatformBean implements TimeMasterBeanInterf
 		return applicationMasterMap.get(targetDate);
 	}
 	
+	/**
+	 * 設定適用情報索引を取得する。<br>
+	 * <br>
+	 * フィールドから取得できなかった場合は、
+	 * マスタ共有キャッシュから或いは設定適用情報群から生成して取得し、フィールドに設定する。<br>
+	 * <br>
+	 * @param targetDate 対象日
+	 * @return 設定適用情報索引
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	@SuppressWarnings("unchecked")
+	protected ApplicationMasterIndex<ApplicationDtoInterface> getApplicationIndex(Date targetDate)
+			throws MospException {
+		// フィールドから取得
+		ApplicationMasterIndex<ApplicationDtoInterface> index = applicationIndexMap.get(targetDate);
+		if (index != null) {
+			return index;
+		}
+		// マスタ共有キャッシュから取得
+		Object key = MospMasterCache.getKey(ApplicationMasterIndex.class.getSimpleName(), targetDate);
+		Object cached = MospMasterCache.get(mospParams, TmmApplicationDao.TABLE, key);
+		if (cached != MospMasterCache.MISS) {
+			index = (ApplicationMasterIndex<ApplicationDtoInterface>)cached;
+		} else {
+			// 設定適用情報群を取得し直して索引を生成しマスタ共有キャッシュに設定
+			long version = MospMasterCache.getVersion(mospParams, TmmApplicationDao.TABLE);
+			addApplicationSet(targetDate);
+			index = new ApplicationMasterIndex<ApplicationDtoInterface>(applicationPersonMap.get(targetDate),
+					applicationMasterMap.get(targetDate));
+			MospMasterCache.put(mospParams, TmmApplicationDao.TABLE, key, index, version);
+		}
+		// フィールドに設定
+		applicationIndexMap.put(targetDate, index);
+		return index;
+	}
+	
 	/**
 	 * 設定適用情報群をDBから取得しフィールドに設定する。<br>
 	 * <br>
@@ -515,7 +570,7 @@ public class TimeMasterBean extends PlatformBean implements TimeMasterBeanInterf
 		int person = Integer.parseInt(PlatformConst.APPLICATION_TYPE_PERSON);
 		int master = Integer.parseInt(PlatformConst.APPLICATION_TYPE_MASTER);
 		// 設定適用情報リストをDBから取得
-		List<ApplicationDtoInterface> list = applicationDao.findForActivateDate(targetDate);
+		List<ApplicationDtoInterface> list = findApplicationList(targetDate);
 		// 設定適用情報毎に処理
 		for (ApplicationDtoInterface dto : list) {
 			// 適用範囲区分が個人指定の場合
@@ -594,7 +649,7 @@ public class TimeMasterBean extends PlatformBean implements TimeMasterBeanInterf
 			}
 		}
 		// DBから勤怠設定情報を取得(フィールドから勤怠設定情報を取得できなかった場合)
-		TimeSettingDtoInterface dto = timeSettingDao.findForInfo(workSettingCode, targetDate);
+		TimeSettingDtoInterface dto = findTimeSetting(workSettingCode, targetDate);
 		// フィールドに設定(nullであればnullを設定)
 		set.add(dto);
 		// 勤怠設定情報を取得
@@ -620,13 +675,169 @@ public class TimeMasterBean extends PlatformBean implements TimeMasterBeanInterf
 			}
 		}
 		// DBから勤怠設定情報を取得(フィールドから勤怠設定情報を取得できなかった場合)
-		PaidHolidayDtoInterface dto = paidHolidayDao.findForInfo(paidHolidayCode, targetDate);
+		PaidHolidayDtoInterface dto = findPaidHoliday(paidHolidayCode, targetDate);
 		// フィールドに設定(nullであればnullを設定)
 		set.add(dto);
 		// 勤怠設定情報を取得
 		return dto;
 	}
 	
+	/**
+	 * 設定適用情報リストを取得する。<br>
+	 * マスタ共有キャッシュから取得できなかった場合は、DBから取得しマスタ共有キャッシュに設定する。<br>
+	 * マスタ共有キャッシュのリストは変更させないため、複製を返す。<br>
+	 * @param targetDate 対象日
+	 * @return 設定適用情報リスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	@SuppressWarnings("unchecked")
+	protected List<ApplicationDtoInterface> findApplicationList(Date targetDate) throws MospException {
+		// マスタ共有キャッシュから取得
+		Object cached = MospMasterCache.get(mospParams, TmmApplicationDao.TABLE, targetDate);
+		if (cached != MospMasterCache.MISS) {
+			return new ArrayList<ApplicationDtoInterface>((List<ApplicationDtoInterface>)cached);
+		}
+		// DBから取得しマスタ共有キャッシュに設定
+		long version = MospMasterCache.getVersion(mospParams, TmmApplicationDao.TABLE);
+		List<ApplicationDtoInterface> list = applicationDao.findForActivateDate(targetDate);
+		MospMasterCache.put(mospParams, TmmApplicationDao.TABLE, targetDate, list, version);
+		return new ArrayList<ApplicationDtoInterface>(list);
+	}
+	
+	/**
+	 * 勤怠設定情報を取得する。<br>
+	 * マスタ共有キャッシュから取得できなかった場合は、DBから取得しマスタ共有キャッシュに設定する。<br>
+	 * @param workSettingCode 勤怠設定コード
+	 * @param targetDate      対象日
+	 * @return 勤怠設定情報
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected TimeSettingDtoInterface findTimeSetting(String workSettingCode, Date targetDate) throws MospException {
+		// マスタ共有キャッシュから取得
+		Object key = MospMasterCache.getKey(workSettingCode, targetDate);
+		Object cached = MospMasterCache.get(mospParams, TmmTimeSettingDao.TABLE, key);
+		if (cached != MospMasterCache.MISS) {
+			return (TimeSettingDtoInterface)cached;
+		}
+		// DBから取得しマスタ共有キャッシュに設定
+		long version = MospMasterCache.getVersion(mospParams, TmmTimeSettingDao.TABLE);
+		TimeSettingDtoInterface dto = timeSettingDao.findForInfo(workSettingCode, targetDate);
+		MospMasterCache.put(mospParams, TmmTimeSettingDao.TABLE, key, dto, version);
+		return dto;
+	}
+	
+	/**
+	 * 有給休暇設定情報を取得する。<br>
+	 * マスタ共有キャッシュから取得できなかった場合は、DBから取得しマスタ共有キャッシュに設定する。<br>
+	 * @param paidHolidayCode 有給休暇設定コード
+	 * @param targetDate      対象日
+	 * @return 有給休暇設定情報
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected PaidHolidayDtoInterface findPaidHoliday(String paidHolidayCode, Date targetDate) throws MospException {
+		// マスタ共有キャッシュから取得
+		Object key = MospMasterCache.getKey(paidHolidayCode, targetDate);
+		Object cached = MospMasterCache.get(mospParams, TmmPaidHolidayDao.TABLE, key);
+		if (cached != MospMasterCache.MISS) {
+			return (PaidHolidayDtoInterface)cached;
+		}
+		// DBから取得しマスタ共有キャッシュに設定
+		long version = MospMasterCache.getVersion(mospParams, TmmPaidHolidayDao.TABLE);
+		PaidHolidayDtoInterface dto = paidHolidayDao.findForInfo(paidHolidayCode, targetDate);
+		MospMasterCache.put(mospParams, TmmPaidHolidayDao.TABLE, key, dto, version);
+		return dto;
+	}
+	
+	/**
+	 * 締日情報を取得する。<br>
+	 * マスタ共有キャッシュから取得できなかった場合は、DBから取得しマスタ共有キャッシュに設定する。<br>
+	 * @param cutoffCode 締日コード
+	 * @param targetDate 対象日
+	 * @return 締日情報
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected CutoffDtoInterface findCutoff(String cutoffCode, Date targetDate) throws MospException {
+		// マスタ共有キャッシュから取得
+		Object key = MospMasterCache.getKey(cutoffCode, targetDate);
+		Object cached = MospMasterCache.get(mospParams, TmmCutoffDao.TABLE, key);
+		if (cached != MospMasterCache.MISS) {
+			return (CutoffDtoInterface)cached;
+		}
+		// DBから取得しマスタ共有キャッシュに設定
+		long version = MospMasterCache.getVersion(mospParams, TmmCutoffDao.TABLE);
+		CutoffDtoInterface dto = cutoffDao.findForInfo(cutoffCode, targetDate);
+		MospMasterCache.put(mospParams, TmmCutoffDao.TABLE, key, dto, version);
+		return dto;
+	}
+	
+	/**
+	 * カレンダ日情報を取得する。<br>
+	 * マスタ共有キャッシュから取得できなかった場合は、DBから取得しマスタ共有キャッシュに設定する。<br>
+	 * @param scheduleCode カレンダコード
+	 * @param targetDate   対象日
+	 * @return カレンダ日情報
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected ScheduleDateDtoInterface findScheduleDate(String scheduleCode, Date targetDate) throws MospException {
+		// マスタ共有キャッシュから取得
+		Object key = MospMasterCache.getKey(scheduleCode, targetDate);
+		Object cached = MospMasterCache.get(mospParams, TmmScheduleDateDao.TABLE, key);
+		if (cached != MospMasterCache.MISS) {
+			return (ScheduleDateDtoInterface)cached;
+		}
+		// DBから取得しマスタ共有キャッシュに設定
+		long version = MospMasterCache.getVersion(mospParams, TmmScheduleDateDao.TABLE);
+		ScheduleDateDtoInterface dto = scheduleDateDao.findForKey(scheduleCode, targetDate);
+		MospMasterCache.put(mospParams, TmmScheduleDateDao.TABLE, key, dto, version);
+		return dto;
+	}
+	
+	/**
+	 * 休暇種別情報群を取得する。<br>
+	 * マスタ共有キャッシュから取得できなかった場合は、DBから取得しマスタ共有キャッシュに設定する。<br>
+	 * マスタ共有キャッシュの情報群は変更させないため、複製を返す。<br>
+	 * @param targetDate 対象日
+	 * @return 休暇種別情報群
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	@SuppressWarnings("unchecked")
+	protected Set<HolidayDtoInterface> findHolidaySet(Date targetDate) throws MospException {
+		// マスタ共有キャッシュから取得
+		Object cached = MospMasterCache.get(mospParams, TmmHolidayDao.TABLE, targetDate);
+		if (cached != MospMasterCache.MISS) {
+			return new HashSet<HolidayDtoInterface>((Set<HolidayDtoInterface>)cached);
+		}
+		// DBから取得しマスタ共有キャッシュに設定
+		long version = MospMasterCache.getVersion(mospParams, TmmHolidayDao.TABLE);
+		Set<HolidayDtoInterface> set = holidayDao.findForActivateDate(targetDate);
+		MospMasterCache.put(mospParams, TmmHolidayDao.TABLE, targetDate, set, version);
+		return new HashSet<HolidayDtoInterface>(set);
+	}
+	
+	/**
+	 * 勤務形態エンティティ履歴(有効日昇順)を取得する。<br>
+	 * マスタ共有キャッシュから取得できなかった場合は、DBから取得しマスタ共有キャッシュに設定する。<br>
+	 * マスタ共有キャッシュの履歴は変更させないため、複製を返す。<br>
+	 * @param workTypeCode 勤務形態コード
+	 * @return 勤務形態エンティティ履歴(有効日昇順)
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	@SuppressWarnings("unchecked")
+	protected List<WorkTypeEntity> findWorkTypeEntityHistory(String workTypeCode) throws MospException {
+		// 参照テーブル群(勤務形態及び勤務形態項目)
+		String tables = TmmWorkTypeDao.TABLE + "," + TmmWorkTypeItemDao.TABLE;
+		// マスタ共有キャッシュから取得
+		Object cached = MospMasterCache.get(mospParams, tables, workTypeCode);
+		if (cached != MospMasterCache.MISS) {
+			return new ArrayList<WorkTypeEntity>((List<WorkTypeEntity>)cached);
+		}
+		// DBから取得しマスタ共有キャッシュに設定
+		long version = MospMasterCache.getVersion(mospParams, tables);
+		List<WorkTypeEntity> history = workTypeRefer.getWorkTypeEntityHistory(workTypeCode);
+		MospMasterCache.put(mospParams, tables, workTypeCode, history, version);
+		return new ArrayList<WorkTypeEntity>(history);
+	}
+	
 	@Override
 	public int getPaidHolidayHoursPerDay(HumanDtoInterface humanDto, Date targetDate) throws MospException {
 		// 有給休暇設定情報を取得
@@ -650,7 +861,7 @@ public class TimeMasterBean extends PlatformBean implements TimeMasterBeanInterf
 			return history;
 		}
 		// 勤務形態エンティティ履歴(有効日昇順)を準備
-		history = workTypeRefer.getWorkTypeEntityHistory(workTypeCode);
+		history = findWorkTypeEntityHistory(workTypeCode);
 		// 勤務形態エンティティ群に追加
 		workTypeMap.put(workTypeCode, history);
 		// 勤務形態エンティティ履歴(有効日昇順)を取得
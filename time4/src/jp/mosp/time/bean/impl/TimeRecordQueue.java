@@ -0,0 +1,450 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.bean.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import jp.mosp.framework.base.DBConnBean;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.base.MospUser;
+import jp.mosp.framework.instance.InstanceFactory;
+import jp.mosp.time.constant.TimeConst;
+import jp.mosp.time.dao.settings.TimeRecordQueueDaoInterface;
+import jp.mosp.time.dto.settings.TimeRecordQueueDtoInterface;
+import jp.mosp.time.dto.settings.impl.TmdTimeRecordQueueDto;
+
+/**
+ * 打刻受付。<br>
+ * <br>
+ * ポータルの打刻を打刻受付データに登録した時点で打刻完了とし、
+ * 勤怠データへの反映は反映用スレッドで順次行う。<br>
+ * <br>
+ * 同時に受け付けた打刻は、先に受け付けた打刻の登録スレッドが
+ * 一括コミット件数までまとめて登録及びコミットする(グループコミット)。<br>
+ * 各スレッドは、自身の打刻がコミットされるまで待機する。<br>
+ * なお、打刻受付データの登録者は、まとめて登録したスレッドのユーザとなる。<br>
+ * <br>
+ * 勤怠データへの反映は、個人ID毎に同じ反映用スレッドで行うため、
+ * 同一個人の打刻は受付順に反映される。<br>
+ * 反映結果は打刻受付データの反映状況に保持する。<br>
+ * 反映状況をエラーにもできなかった個人IDは反映停止とし、
+ * 以降の打刻は未反映のまま次回起動時に受付順に反映する。<br>
+ * <br>
+ * 打刻受付はテナント毎に保持する。<br>
+ * 打刻受付の生成時には、未反映の打刻受付データを反映対象とする(再起動時の再開)。<br>
+ * アプリケーション終了時には{@link #shutdown()}で反映用スレッドを終了する。<br>
+ * 但し、複数のアプリケーションサーバで同一のDBを用いる場合は、
+ * 1台のみで打刻受付を利用すること。<br>
+ */
+public class TimeRecordQueue {
+	
+	/**
+	 * 反映並列数(デフォルト)。
+	 */
+	protected static final int							DEFAULT_THREADS		= 4;
+	
+	/**
+	 * 一括コミット件数(デフォルト)。
+	 */
+	protected static final int							DEFAULT_COMMIT_SIZE	= 100;
+	
+	/**
+	 * 反映用スレッドの終了を待つ時間(ミリ秒)。
+	 */
+	protected static final long							SHUTDOWN_WAIT		= 10000L;
+	
+	/**
+	 * テナント毎の打刻受付群。<br>
+	 */
+	protected static final Map<String, TimeRecordQueue>	queues				= new ConcurrentHashMap<String, TimeRecordQueue>();
+	
+	/**
+	 * 登録待ち打刻群。<br>
+	 */
+	protected final LinkedList<Entry>					pendingList			= new LinkedList<Entry>();
+	
+	/**
+	 * 反映用スレッド群。<br>
+	 * 個人ID毎に同じスレッドで反映する。<br>
+	 */
+	protected final ExecutorService[]					workers;
+	
+	/**
+	 * 反映停止個人ID群。<br>
+	 */
+	protected final Set<String>							stoppedPersonalIds;
+	
+	/**
+	 * 一括コミット件数。
+	 */
+	protected final int									commitSize;
+	
+	/**
+	 * 登録中フラグ(true：いずれかのスレッドが登録中)。
+	 */
+	protected boolean									writing;
+	
+	
+	/**
+	 * 打刻受付を生成する。<br>
+	 * @param threads    反映並列数
+	 * @param commitSize 一括コミット件数
+	 */
+	protected TimeRecordQueue(int threads, int commitSize) {
+		this.commitSize = commitSize;
+		stoppedPersonalIds = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+		workers = new ExecutorService[threads];
+		for (int i = 0; i < threads; i++) {
+			final String name = TimeRecordQueue.class.getSimpleName() + "-" + i;
+			workers[i] = Executors.newSingleThreadExecutor(new ThreadFactory() {
+				
+				@Override
+				public Thread newThread(Runnable runnable) {
+					Thread thread = new Thread(runnable, name);
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+		}
+	}
+	
+	/**
+	 * 打刻受付を利用するかを確認する。<br>
+	 * @param mospParams MosP処理情報
+	 * @return 確認結果(true：利用する、false：利用しない)
+	 */
+	public static boolean isEnabled(MospParams mospParams) {
+		return mospParams.getApplicationPropertyBool(TimeConst.APP_TIME_RECORD_QUEUE);
+	}
+	
+	/**
+	 * 打刻を受け付ける。<br>
+	 * 打刻受付データがコミットされるまで待機する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param personalId 個人ID
+	 * @param recordType 打刻区分
+	 * @param recordTime 打刻時刻
+	 * @throws MospException 打刻受付データの登録に失敗した場合
+	 */
+	public static void append(MospParams mospParams, String personalId, String recordType, Date recordTime)
+			throws MospException {
+		// 打刻受付データ準備
+		TimeRecordQueueDtoInterface dto = new TmdTimeRecordQueueDto();
+		dto.setPersonalId(personalId);
+		dto.setRecordType(recordType);
+		dto.setRecordTime(recordTime);
+		dto.setRecordStatus(TimeConst.CODE_RECORD_STATUS_WAIT);
+		dto.setErrorMessage("");
+		// 打刻を受け付ける
+		getQueue(mospParams).write(new Entry(mospParams.getParallelParams(), dto));
+	}
+	
+	/**
+	 * テナントの打刻受付を取得する。<br>
+	 * 存在しない場合は生成し、未反映の打刻受付データを反映対象とする。<br>
+	 * @param mospParams MosP処理情報
+	 * @return 打刻受付
+	 * @throws MospException 未反映の打刻受付データの取得に失敗した場合
+	 */
+	protected static TimeRecordQueue getQueue(MospParams mospParams) throws MospException {
+		String tenant = getTenant(mospParams);
+		TimeRecordQueue queue = queues.get(tenant);
+		if (queue != null) {
+			return queue;
+		}
+		synchronized (queues) {
+			queue = queues.get(tenant);
+			if (queue == null) {
+				int threads = mospParams.getApplicationProperty(TimeConst.APP_TIME_RECORD_QUEUE_THREADS,
+						DEFAULT_THREADS);
+				int commitSize = mospParams.getApplicationProperty(TimeConst.APP_TIME_RECORD_QUEUE_COMMIT_SIZE,
+						DEFAULT_COMMIT_SIZE);
+				queue = new TimeRecordQueue(threads > 0 ? threads : DEFAULT_THREADS,
+						commitSize > 0 ? commitSize : DEFAULT_COMMIT_SIZE);
+				// 未反映の打刻受付データを反映対象とする
+				queue.resume(mospParams);
+				queues.put(tenant, queue);
+			}
+			return queue;
+		}
+	}
+	
+	/**
+	 * 全テナントの反映用スレッドを終了する。<br>
+	 * 反映中の打刻は反映してから終了する。<br>
+	 * 反映されていない打刻は未反映のまま打刻受付データに残り、次回起動時に反映される。<br>
+	 */
+	public static void shutdown() {
+		synchronized (queues) {
+			for (TimeRecordQueue queue : queues.values()) {
+				for (ExecutorService worker : queue.workers) {
+					worker.shutdown();
+				}
+			}
+			long limit = System.currentTimeMillis() + SHUTDOWN_WAIT;
+			for (TimeRecordQueue queue : queues.values()) {
+				for (ExecutorService worker : queue.workers) {
+					try {
+						if (worker.awaitTermination(Math.max(limit - System.currentTimeMillis(), 0L),
+								TimeUnit.MILLISECONDS) == false) {
+							// 反映待ちの打刻は破棄(未反映のまま残る)
+							worker.shutdownNow();
+						}
+					} catch (InterruptedException e) {
+						worker.shutdownNow();
+						Thread.currentThread().interrupt();
+					}
+				}
+			}
+			queues.clear();
+		}
+	}
+	
+	/**
+	 * 未反映の打刻受付データを受付順に反映用スレッドに渡す。<br>
+	 * @param mospParams MosP処理情報
+	 * @throws MospException 未反映の打刻受付データの取得に失敗した場合
+	 */
+	protected void resume(MospParams mospParams) throws MospException {
+		DBConnBean dbConnBean = new DBConnBean(mospParams);
+		try {
+			TimeRecordQueueDaoInterface dao = (TimeRecordQueueDaoInterface)InstanceFactory
+				.loadDao(TimeRecordQueueDaoInterface.class, mospParams, dbConnBean.getConnection());
+			for (TimeRecordQueueDtoInterface dto : dao.findForStatus(TimeConst.CODE_RECORD_STATUS_WAIT)) {
+				dispatch(new Entry(mospParams.getParallelParams(), dto));
+			}
+		} finally {
+			dbConnBean.releaseConnection();
+		}
+	}
+	
+	/**
+	 * 打刻受付データを登録する。<br>
+	 * <br>
+	 * 他のスレッドが登録中の場合は、そのスレッドがまとめて登録するのを待機する。<br>
+	 * 登録中のスレッドが無い場合は、自身が登録スレッドとなり、
+	 * 登録待ち打刻が無くなるまで一括コミット件数毎に登録及びコミットを行う。<br>
+	 * 待機中に割り込まれた場合は、打刻を登録待ち打刻から取り除いて例外を投げる。<br>
+	 * 但し、既に他のスレッドが登録中の場合は、登録を待ってから割込状態を戻す。<br>
+	 * @param entry 打刻
+	 * @throws MospException 打刻受付データの登録に失敗した場合
+	 */
+	protected void write(Entry entry) throws MospException {
+		synchronized (this) {
+			pendingList.add(entry);
+			boolean interrupted = false;
+			// 他のスレッドが登録中の場合
+			while (writing && entry.isDone() == false) {
+				try {
+					wait();
+				} catch (InterruptedException e) {
+					// 登録待ち打刻から取り除けた場合(登録されない)
+					if (pendingList.remove(entry)) {
+						Thread.currentThread().interrupt();
+						throw new MospException(e);
+					}
+					// 他のスレッドが登録中の場合は登録を待つ
+					interrupted = true;
+				}
+			}
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+			// 他のスレッドが登録した場合
+			if (entry.isDone()) {
+				entry.checkError();
+				return;
+			}
+			writing = true;
+		}
+		try {
+			// 登録待ち打刻が無くなるまで登録
+			List<Entry> entryList = poll();
+			while (entryList.isEmpty() == false) {
+				write(entry.mospParams, entryList);
+				entryList = poll();
+			}
+		} finally {
+			synchronized (this) {
+				writing = false;
+				notifyAll();
+			}
+		}
+		entry.checkError();
+	}
+	
+	/**
+	 * 登録待ち打刻を一括コミット件数まで取り出す。<br>
+	 * @return 打刻リスト
+	 */
+	protected synchronized List<Entry> poll() {
+		List<Entry> entryList = new ArrayList<Entry>();
+		while (pendingList.isEmpty() == false && entryList.size() < commitSize) {
+			entryList.add(pendingList.removeFirst());
+		}
+		return entryList;
+	}
+	
+	/**
+	 * 打刻リストを登録及びコミットし、反映用スレッドに渡す。<br>
+	 * 登録に失敗した場合は、各打刻に例外を設定する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param entryList  打刻リスト
+	 */
+	protected void write(MospParams mospParams, List<Entry> entryList) {
+		MospException exception = null;
+		try {
+			DBConnBean dbConnBean = new DBConnBean(mospParams);
+			try {
+				TimeRecordQueueDaoInterface dao = (TimeRecordQueueDaoInterface)InstanceFactory
+					.loadDao(TimeRecordQueueDaoInterface.class, mospParams, dbConnBean.getConnection());
+				List<TimeRecordQueueDtoInterface> dtoList = new ArrayList<TimeRecordQueueDtoInterface>();
+				for (Entry entry : entryList) {
+					entry.dto.setTmdTimeRecordQueueId(dao.nextRecordId());
+					dtoList.add(entry.dto);
+				}
+				// 一括登録及びコミット
+				dao.insert(dtoList, commitSize);
+				dbConnBean.commit();
+			} finally {
+				dbConnBean.releaseConnection();
+			}
+		} catch (MospException e) {
+			exception = e;
+		}
+		synchronized (this) {
+			for (Entry entry : entryList) {
+				entry.done(exception);
+			}
+			notifyAll();
+		}
+		// 登録できた場合は受付順に反映用スレッドに渡す
+		if (exception == null) {
+			for (Entry entry : entryList) {
+				dispatch(entry);
+			}
+		}
+	}
+	
+	/**
+	 * 打刻を個人IDに対応する反映用スレッドに渡す。<br>
+	 * 反映用スレッドが終了している場合は、未反映のまま次回起動時の反映対象とする。<br>
+	 * @param entry 打刻
+	 */
+	protected void dispatch(Entry entry) {
+		int index = (entry.dto.getPersonalId().hashCode() & Integer.MAX_VALUE) % workers.length;
+		try {
+			workers[index].execute(new TimeRecordQueueTask(entry.mospParams, entry.dto, stoppedPersonalIds));
+		} catch (RejectedExecutionException e) {
+			// 処理無し(未反映のまま残る)
+		}
+	}
+	
+	/**
+	 * テナントを取得する。<br>
+	 * SaaSの場合はASPユーザID、そうでない場合は空文字とする。<br>
+	 * @param mospParams MosP処理情報
+	 * @return テナント
+	 */
+	protected static String getTenant(MospParams mospParams) {
+		MospUser user = mospParams.getUser();
+		if (user == null || user.getAspUserId() == null) {
+			return "";
+		}
+		return user.getAspUserId();
+	}
+	
+	
+	/**
+	 * 打刻。<br>
+	 */
+	protected static class Entry {
+		
+		/**
+		 * MosP処理情報(並列処理用)。
+		 */
+		protected final MospParams					mospParams;
+		
+		/**
+		 * 打刻受付データ。
+		 */
+		protected final TimeRecordQueueDtoInterface	dto;
+		
+		/**
+		 * 登録済フラグ。
+		 */
+		protected boolean							done;
+		
+		/**
+		 * 登録時例外。
+		 */
+		protected MospException						exception;
+		
+		
+		/**
+		 * 打刻を生成する。<br>
+		 * @param mospParams MosP処理情報(並列処理用)
+		 * @param dto        打刻受付データ
+		 */
+		protected Entry(MospParams mospParams, TimeRecordQueueDtoInterface dto) {
+			this.mospParams = mospParams;
+			this.dto = dto;
+		}
+		
+		/**
+		 * 登録済とする。<br>
+		 * @param exception 登録時例外(登録に成功した場合はnull)
+		 */
+		protected void done(MospException exception) {
+			this.exception = exception;
+			done = true;
+		}
+		
+		/**
+		 * @return 登録済フラグ
+		 */
+		protected boolean isDone() {
+			return done;
+		}
+		
+		/**
+		 * 登録に失敗している場合は、登録時例外を投げる。<br>
+		 * @throws MospException 登録に失敗している場合
+		 */
+		protected void checkError() throws MospException {
+			if (exception != null) {
+				throw exception;
+			}
+		}
+		
+	}
+	
+}
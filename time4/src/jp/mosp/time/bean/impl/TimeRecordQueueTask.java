@@ -0,0 +1,211 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.bean.impl;
+
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Set;
+
+import jp.mosp.framework.base.DBConnBean;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.instance.InstanceFactory;
+import jp.mosp.framework.utils.LogUtility;
+import jp.mosp.time.bean.TimeRecordBeanInterface;
+import jp.mosp.time.constant.TimeConst;
+import jp.mosp.time.dao.settings.TimeRecordQueueDaoInterface;
+import jp.mosp.time.dto.settings.TimeRecordQueueDtoInterface;
+import jp.mosp.time.portal.bean.impl.PortalTimeCardBean;
+
+/**
+ * 打刻反映処理クラス。<br>
+ * <br>
+ * {@link TimeRecordQueue}で受け付けた打刻を、
+ * 専用のDBコネクション及び打刻クラスを用いて勤怠データに反映する。<br>
+ * 反映結果は打刻受付データの反映状況に設定し、当クラスで取得したDBコネクションでコミットする。<br>
+ * <br>
+ * 反映中に例外が発生した場合は、別のDBコネクションで反映状況をエラーとしてコミットする。<br>
+ * エラーとできなかった場合は、その個人IDを反映停止とし、以降の打刻は未反映のまま残す。<br>
+ * これにより、未反映の打刻が後の打刻より後に反映される(再起動時)ことを防ぐ。<br>
+ */
+public class TimeRecordQueueTask implements Runnable {
+	
+	/**
+	 * エラーメッセージ最大文字数。<br>
+	 */
+	protected static final int				MAX_LENGTH_ERROR_MESSAGE	= 500;
+	
+	/**
+	 * MosP処理情報。<br>
+	 * {@link MospParams#getParallelParams()}で生成されたものを用いる。<br>
+	 */
+	protected MospParams					mospParams;
+	
+	/**
+	 * 打刻受付データ。
+	 */
+	protected TimeRecordQueueDtoInterface	dto;
+	
+	/**
+	 * 反映停止個人ID群。<br>
+	 * 反映用スレッド間で共有する。<br>
+	 */
+	protected Set<String>					stoppedPersonalIds;
+	
+	
+	/**
+	 * 打刻反映処理を生成する。<br>
+	 * @param mospParams         MosP処理情報(並列処理用)
+	 * @param dto                打刻受付データ
+	 * @param stoppedPersonalIds 反映停止個人ID群
+	 */
+	public TimeRecordQueueTask(MospParams mospParams, TimeRecordQueueDtoInterface dto,
+			Set<String> stoppedPersonalIds) {
+		this.mospParams = mospParams;
+		this.dto = dto;
+		this.stoppedPersonalIds = stoppedPersonalIds;
+	}
+	
+	@Override
+	public void run() {
+		// 反映停止中の場合(未反映のまま残し次回起動時に受付順に反映)
+		if (stoppedPersonalIds.contains(dto.getPersonalId())) {
+			return;
+		}
+		try {
+			// DBコネクションを取得
+			DBConnBean dbConnBean = new DBConnBean(mospParams);
+			try {
+				// 勤怠データに反映
+				record(dbConnBean);
+				// エラーが発生した場合
+				if (mospParams.hasErrorMessage()) {
+					// 反映内容をロールバック
+					dbConnBean.rollback();
+					dto.setRecordStatus(TimeConst.CODE_RECORD_STATUS_ERROR);
+					dto.setErrorMessage(getErrorMessage());
+				} else {
+					dto.setRecordStatus(TimeConst.CODE_RECORD_STATUS_DONE);
+				}
+				// 反映状況を更新してコミット
+				TimeRecordQueueDaoInterface dao = (TimeRecordQueueDaoInterface)InstanceFactory
+					.loadDao(TimeRecordQueueDaoInterface.class, mospParams, dbConnBean.getConnection());
+				dao.update(dto);
+				dbConnBean.commit();
+			} finally {
+				// DBコネクション解放(コミットされていない場合はロールバックされる)
+				dbConnBean.releaseConnection();
+			}
+		} catch (Throwable e) {
+			// 反映用スレッドを継続させるため例外は投げない
+			LogUtility.error(mospParams, e);
+			// 反映状況をエラーに更新
+			updateError(e);
+		}
+	}
+	
+	/**
+	 * 反映中に例外が発生した打刻受付データの反映状況を、別のDBコネクションでエラーに更新する。<br>
+	 * 更新できなかった場合は、個人IDを反映停止とする。<br>
+	 * @param throwable 反映中に発生した例外
+	 */
+	protected void updateError(Throwable throwable) {
+		try {
+			DBConnBean dbConnBean = new DBConnBean(mospParams);
+			try {
+				dto.setRecordStatus(TimeConst.CODE_RECORD_STATUS_ERROR);
+				dto.setErrorMessage(truncate(String.valueOf(throwable)));
+				TimeRecordQueueDaoInterface dao = (TimeRecordQueueDaoInterface)InstanceFactory
+					.loadDao(TimeRecordQueueDaoInterface.class, mospParams, dbConnBean.getConnection());
+				dao.update(dto);
+				dbConnBean.commit();
+			} finally {
+				dbConnBean.releaseConnection();
+			}
+		} catch (Throwable e) {
+			// 個人IDを反映停止とする(以降の打刻は未反映のまま残る)
+			stoppedPersonalIds.add(dto.getPersonalId());
+			LogUtility.error(mospParams, e);
+		}
+	}
+	
+	/**
+	 * 打刻区分に応じて、打刻を勤怠データに反映する。<br>
+	 * @param dbConnBean DBコネクション
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected void record(DBConnBean dbConnBean) throws MospException {
+		// 打刻クラスを取得
+		TimeRecordBeanInterface timeRecord = (TimeRecordBeanInterface)InstanceFactory
+			.loadBean(TimeRecordBeanInterface.class, mospParams, dbConnBean.getConnection());
+		String personalId = dto.getPersonalId();
+		String recordType = dto.getRecordType();
+		Date recordTime = dto.getRecordTime();
+		if (PortalTimeCardBean.RECODE_START_WORK.equals(recordType)) {
+			// 始業
+			timeRecord.recordStartWork(personalId, recordTime);
+		} else if (PortalTimeCardBean.RECODE_END_WORK.equals(recordType)) {
+			// 終業
+			timeRecord.recordEndWork(personalId, recordTime);
+		} else if (PortalTimeCardBean.RECODE_START_REST.equals(recordType)) {
+			// 休憩入
+			timeRecord.recordStartRest(personalId, recordTime);
+		} else if (PortalTimeCardBean.RECODE_END_REST.equals(recordType)) {
+			// 休憩戻
+			timeRecord.recordEndRest(personalId, recordTime);
+		} else if (PortalTimeCardBean.RECODE_REGULAR_END.equals(recordType)) {
+			// 定時終業
+			timeRecord.recordRegularEnd(personalId, recordTime);
+		} else if (PortalTimeCardBean.RECODE_OVER_END.equals(recordType)) {
+			// 残業有終業
+			timeRecord.recordOverEnd(personalId, recordTime);
+		} else if (PortalTimeCardBean.RECODE_REGULAR_WORK.equals(recordType)) {
+			// 出勤
+			timeRecord.recordRegularWork(personalId, recordTime);
+		}
+	}
+	
+	/**
+	 * 反映時のエラーメッセージを連結して取得する。<br>
+	 * @return エラーメッセージ
+	 */
+	protected String getErrorMessage() {
+		StringBuffer sb = new StringBuffer();
+		Iterator<String> it = mospParams.getErrorMessageList().iterator();
+		while (it.hasNext()) {
+			sb.append(it.next());
+			if (it.hasNext()) {
+				sb.append(" ");
+			}
+		}
+		return truncate(sb.toString());
+	}
+	
+	/**
+	 * エラーメッセージをエラーメッセージ最大文字数までに切り詰める。<br>
+	 * @param message エラーメッセージ
+	 * @return 切り詰めたエラーメッセージ
+	 */
+	protected String truncate(String message) {
+		if (message.length() > MAX_LENGTH_ERROR_MESSAGE) {
+			return message.substring(0, MAX_LENGTH_ERROR_MESSAGE);
+		}
+		return message;
+	}
+	
+}
@@ -21,7 +21,12 @@
 package jp.mosp.time.bean.impl;
 
 import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import jp.mosp.framework.base.MospException;
 import jp.mosp.framework.base.MospParams;
@@ -86,6 +91,28 @@ public class TotalAbsenceRegistBean extends PlatformBean implements TotalAbsence
 		dao.insert(dto);
 	}
 	
+	@Override
+	public void insert(List<TotalAbsenceDtoInterface> list) throws MospException {
+		// DTO毎に妥当性確認
+		for (TotalAbsenceDtoInterface dto : list) {
+			validate(dto);
+			if (mospParams.hasErrorMessage()) {
+				return;
+			}
+		}
+		// 新規登録情報の検証
+		checkInsert(list);
+		if (mospParams.hasErrorMessage()) {
+			return;
+		}
+		// レコード識別ID最大値をインクリメントしてDTOに設定
+		for (TotalAbsenceDtoInterface dto : list) {
+			dto.setTmdTotalAbsenceId(dao.nextRecordId());
+		}
+		// 一括登録処理
+		dao.batchInsert(list);
+	}
+	
 	@Override
 	public void update(TotalAbsenceDtoInterface dto) throws MospException {
 		// DTOの妥当性確認
@@ -121,20 +148,18 @@ public class TotalAbsenceRegistBean extends PlatformBean implements TotalAbsence
 	@Override
 	public void delete(String personalId, int calculationYear, int calculationMonth) throws MospException {
 		List<TotalAbsenceDtoInterface> list = dao.findForList(personalId, calculationYear, calculationMonth);
+		// 論理削除対象レコード識別IDリストを準備
+		List<Long> idList = new ArrayList<Long>();
 		for (TotalAbsenceDtoInterface dto : list) {
 			// DTO妥当性確認
 			validate(dto);
 			if (mospParams.hasErrorMessage()) {
 				return;
 			}
-			// 確認
-			checkDelete(dto);
-			if (mospParams.hasErrorMessage()) {
-				return;
-			}
-			// 論理削除
-			logicalDelete(dao, dto.getTmdTotalAbsenceId());
+			idList.add(dto.getTmdTotalAbsenceId());
 		}
+		// 一括論理削除(削除済のレコードが含まれる場合は更新件数確認で例外となる)
+		dao.batchLogicalDelete(idList);
 	}
 	
 	@Override
@@ -169,6 +194,37 @@ public class TotalAbsenceRegistBean extends PlatformBean implements TotalAbsence
 				dto.getAbsenceCode()));
 	}
 	
+	/**
+	 * 一括新規登録時の確認処理を行う。<br>
+	 * 個人ID及び集計年月毎に登録済の情報を一度だけ取得し、
+	 * 対象リスト内での重複も併せて確認する。<br>
+	 * @param list 対象DTOリスト
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	protected void checkInsert(List<TotalAbsenceDtoInterface> list) throws MospException {
+		// 欠勤コード群(キー：個人ID及び集計年月)を準備
+		Map<String, Set<String>> codeMap = new HashMap<String, Set<String>>();
+		for (TotalAbsenceDtoInterface dto : list) {
+			String key = dto.getPersonalId() + "," + dto.getCalculationYear() + "," + dto.getCalculationMonth();
+			Set<String> codeSet = codeMap.get(key);
+			if (codeSet == null) {
+				// 登録済の欠勤コードを取得
+				codeSet = new HashSet<String>();
+				List<TotalAbsenceDtoInterface> registeredList = dao.findForList(dto.getPersonalId(),
+						dto.getCalculationYear(), dto.getCalculationMonth());
+				for (TotalAbsenceDtoInterface registered : registeredList) {
+					codeSet.add(registered.getAbsenceCode());
+				}
+				codeMap.put(key, codeSet);
+			}
+			// 対象レコードが重複していないかを確認
+			if (codeSet.add(dto.getAbsenceCode()) == false) {
+				checkDuplicateInsert(dto);
+				return;
+			}
+		}
+	}
+	
 	/**
 	 * 履歴更新時の確認処理を行う。<br>
 	 * @param dto 対象DTO
@@ -17,17 +17,29 @@
  */
 package jp.mosp.time.bean.impl;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.sql.Connection;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospMasterCache;
 import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.base.MospPersonalCache;
+import jp.mosp.framework.utils.LogUtility;
 import jp.mosp.platform.base.PlatformBean;
 import jp.mosp.platform.bean.system.PlatformMasterBeanInterface;
 import jp.mosp.platform.dto.human.HumanDtoInterface;
@@ -86,6 +98,16 @@ public class TotalTimeCalcBean extends TimeBean implements TotalTimeCalcBeanInte
 	 */
 	public static final int										LEGAL_OVERTIME_WORK			= 45;
 	
+	/**
+	 * 個人別共有キャッシュキー(勤怠計算)。<br>
+	 */
+	protected static final String								KEY_CACHE_CALC				= "TotalTimeCalc.calc";
+	
+	/**
+	 * ログメッセージ(個人別共有キャッシュ検証不一致)。<br>
+	 */
+	protected static final String								MSG_CACHE_MISMATCH			= "個人別共有キャッシュの勤怠集計情報が再計算結果と一致しません。";
+	
 	/**
 	 * 締日ユーティリティインターフェース参照。
 	 */
@@ -207,21 +229,27 @@ public class TotalTimeCalcBean extends TimeBean implements TotalTimeCalcBeanInte
 			PlatformMessageUtility.addErrorEmployeeNotExist(mospParams);
 			return errorList;
 		}
-		// 個人ID毎に処理
-		for (String personalId : personalIdSet) {
-			// 未締でない場合
-			if (cutoffUtil.isNotTighten(personalId, targetYear, targetMonth) == false) {
-				// 仮締対象外
-				continue;
+		// 締処理分割人数を取得
+		int chunkSize = mospParams.getApplicationProperty(TimeConst.APP_TIGHTENING_CHUNK_SIZE, 0);
+		// 締処理分割人数が設定されている場合
+		if (chunkSize > 0) {
+			// 分割して仮締
+			return tighteningPartition(personalIdSet, targetYear, targetMonth, cutoffCode, chunkSize);
+		}
+		// 未締である個人IDリストを取得
+		List<String> personalIdList = getNotTightenedPersonalIdList(personalIdSet, targetYear, targetMonth);
+		// 一括取得単位毎に処理
+		for (List<String> bulkPersonalIdList : getBulkPersonalIdLists(personalIdList)) {
+			// 勤怠集計エンティティ毎に処理(一括取得)
+			for (TotalTimeEntityInterface entity : getTotalTimeEntityMap(bulkPersonalIdList, targetYear,
+					targetMonth, cutoffCode).values()) {
+				// 勤怠集計エンティティリストに追加
+				entityList.add(entity);
+				// 各種申請及び振替休日情報から申請済でないものを除去
+				removeUnusedRequests(entity, false);
+				// 勤怠集計前の確認
+				errorList.addAll(check(entity));
 			}
-			// 勤怠集計エンティティを取得
-			TotalTimeEntityInterface entity = getTotalTimeEntity(personalId, targetYear, targetMonth, cutoffCode);
-			// 勤怠集計エンティティリストに追加
-			entityList.add(entity);
-			// 各種申請及び振替休日情報から申請済でないものを除去
-			removeUnusedRequests(entity, false);
-			// 勤怠集計前の確認
-			errorList.addAll(check(entity));
 		}
 		// 勤怠集計前の確認でエラーがあった場合
 		if (errorList.isEmpty() == false) {
@@ -238,9 +266,12 @@ public class TotalTimeCalcBean extends TimeBean implements TotalTimeCalcBeanInte
 			doAdditionalLogic(TimeConst.CODE_KEY_ADD_TOTALTIMECALCBEAN_TOTAL, entity);
 		}
 		// 勤怠集計エンティティ毎に処理
-		for (TotalTimeEntityInterface entity : entityList) {
+		Iterator<TotalTimeEntityInterface> iterator = entityList.iterator();
+		while (iterator.hasNext()) {
 			// 仮締(DBへの登録)
-			tightening(entity);
+			tightening(iterator.next());
+			// 勤怠集計エンティティを破棄
+			iterator.remove();
 		}
 		// 締日仮締
 		tightenCutoff(targetYear, targetMonth, cutoffCode);
@@ -255,21 +286,21 @@ public class TotalTimeCalcBean extends TimeBean implements TotalTimeCalcBeanInte
 		List<CutoffErrorListDtoInterface> errorList = new ArrayList<CutoffErrorListDtoInterface>();
 		// 勤怠集計エンティティリストを準備
 		List<TotalTimeEntityInterface> entityList = new ArrayList<TotalTimeEntityInterface>();
-		// 個人ID毎に処理
-		for (String personalId : aryPersonalId) {
-			// 未締でない場合
-			if (cutoffUtil.isNotTighten(personalId, targetYear, targetMonth) == false) {
-				// 仮締対象外
-				continue;
+		// 未締である個人IDリストを取得
+		List<String> personalIdList = getNotTightenedPersonalIdList(Arrays.asList(aryPersonalId), targetYear,
+				targetMonth);
+		// 一括取得単位毎に処理
+		for (List<String> bulkPersonalIdList : getBulkPersonalIdLists(personalIdList)) {
+			// 勤怠集計エンティティ毎に処理(一括取得)
+			for (TotalTimeEntityInterface entity : getTotalTimeEntityMap(bulkPersonalIdList, targetYear,
+					targetMonth, cutoffCode).values()) {
+				// 勤怠集計エンティティリストに追加
+				entityList.add(entity);
+				// 各種申請及び振替休日情報から申請済でないものを除去
+				removeUnusedRequests(entity, false);
+				// 勤怠集計前の確認
+				errorList.addAll(check(entity));
 			}
-			// 勤怠集計エンティティを取得
-			TotalTimeEntityInterface entity = getTotalTimeEntity(personalId, targetYear, targetMonth, cutoffCode);
-			// 勤怠集計エンティティリストに追加
-			entityList.add(entity);
-			// 各種申請及び振替休日情報から申請済でないものを除去
-			removeUnusedRequests(entity, false);
-			// 勤怠集計前の確認
-			errorList.addAll(check(entity));
 		}
 		// 勤怠集計前の確認でエラーがあった場合
 		if (errorList.isEmpty() == false) {
@@ -286,9 +317,12 @@ public class TotalTimeCalcBean extends TimeBean implements TotalTimeCalcBeanInte
 			doAdditionalLogic(TimeConst.CODE_KEY_ADD_TOTALTIMECALCBEAN_TOTAL, entity);
 		}
 		// 勤怠集計エンティティ毎に処理
-		for (TotalTimeEntityInterface entity : entityList) {
+		Iterator<TotalTimeEntityInterface> iterator = entityList.iterator();
+		while (iterator.hasNext()) {
 			// 仮締(DBへの登録)
-			tightening(entity);
+			tightening(iterator.next());
+			// 勤怠集計エンティティを破棄
+			iterator.remove();
 		}
 		// 締日が設定されている社員全員が仮締である場合
 		if (isAllTightened(targetYear, targetMonth, cutoffCode)) {
@@ -330,15 +364,93 @@ public class TotalTimeCalcBean extends TimeBean implements TotalTimeCalcBeanInte
 		return errorList;
 	}
 	
+	@Override
+	public List<CutoffErrorListDtoInterface> checkTightening(Collection<String> personalIds, int targetYear,
+			int targetMonth, String cutoffCode) throws MospException {
+		// 集計時エラー内容情報リストを準備
+		List<CutoffErrorListDtoInterface> errorList = new ArrayList<CutoffErrorListDtoInterface>();
+		// 未締である個人IDリストを取得
+		List<String> personalIdList = getNotTightenedPersonalIdList(personalIds, targetYear, targetMonth);
+		// 一括取得単位毎に処理
+		for (List<String> bulkPersonalIdList : getBulkPersonalIdLists(personalIdList)) {
+			// 勤怠集計エンティティ群を取得(一括取得)
+			Iterator<TotalTimeEntityInterface> iterator = getTotalTimeEntityMap(bulkPersonalIdList, targetYear,
+					targetMonth, cutoffCode).values().iterator();
+			// 勤怠集計エンティティ毎に処理
+			while (iterator.hasNext()) {
+				TotalTimeEntityInterface entity = iterator.next();
+				// 勤怠集計エンティティを破棄(個人ID毎)
+				iterator.remove();
+				// 各種申請及び振替休日情報から申請済でないものを除去
+				removeUnusedRequests(entity, false);
+				// 勤怠集計前の確認
+				errorList.addAll(check(entity));
+			}
+		}
+		// 集計時エラー内容情報リストを取得
+		return errorList;
+	}
+	
+	@Override
+	public List<CutoffErrorListDtoInterface> tighteningEach(Collection<String> personalIds, int targetYear,
+			int targetMonth, String cutoffCode) throws MospException {
+		// 集計時エラー内容情報リストを準備
+		List<CutoffErrorListDtoInterface> errorList = new ArrayList<CutoffErrorListDtoInterface>();
+		// 未締である個人IDリストを取得
+		List<String> personalIdList = getNotTightenedPersonalIdList(personalIds, targetYear, targetMonth);
+		// 一括取得単位毎に処理
+		for (List<String> bulkPersonalIdList : getBulkPersonalIdLists(personalIdList)) {
+			// 勤怠集計エンティティ群を取得(一括取得)
+			Iterator<TotalTimeEntityInterface> iterator = getTotalTimeEntityMap(bulkPersonalIdList, targetYear,
+					targetMonth, cutoffCode).values().iterator();
+			// 勤怠集計エンティティ毎に処理
+			while (iterator.hasNext()) {
+				TotalTimeEntityInterface entity = iterator.next();
+				// 勤怠集計エンティティを破棄(個人ID毎)
+				iterator.remove();
+				// 各種申請及び振替休日情報から申請済でないものを除去
+				removeUnusedRequests(entity, false);
+				// 勤怠集計前の確認
+				List<CutoffErrorListDtoInterface> personalErrorList = check(entity);
+				// 勤怠集計前の確認でエラーがあった場合
+				if (personalErrorList.isEmpty() == false) {
+					// 集計時エラー内容情報リストに追加(仮締対象外)
+					errorList.addAll(personalErrorList);
+					continue;
+				}
+				// 各種申請及び振替休日情報から承認済でないものを除去
+				removeUnusedRequests(entity, true);
+				// 勤怠集計
+				entity.total();
+				// 追加業務ロジック処理
+				doAdditionalLogic(TimeConst.CODE_KEY_ADD_TOTALTIMECALCBEAN_TOTAL, entity);
+				// 仮締(DBへの登録)
+				tightening(entity);
+			}
+		}
+		// 集計時エラー内容情報リストを取得
+		return errorList;
+	}
+	
 	@Override
 	public TotalTimeDataDtoInterface calc(String personalId, int targetYear, int targetMonth, String cutoffCode)
 			throws MospException {
+		// 個人別共有キャッシュから勤怠集計情報を取得
+		Object key = MospMasterCache.getKey(KEY_CACHE_CALC, targetYear, targetMonth, cutoffCode);
+		Object cached = MospPersonalCache.get(mospParams, personalId, key);
+		if (cached != MospPersonalCache.MISS && MospPersonalCache.isVerified(mospParams) == false) {
+			return (TotalTimeDataDtoInterface)cached;
+		}
+		// 勤怠集計前の版を取得
+		long version = MospPersonalCache.getVersion(mospParams);
 		// 勤怠集計エンティティを取得
 		TotalTimeEntityInterface entity = getTotalTimeEntity(personalId, targetYear, targetMonth, cutoffCode);
 		// 各種申請及び振替休日情報から承認済でないものを除去
 		removeUnusedRequests(entity, true);
 		// 勤怠集計
 		TotalTimeDataDtoInterface dto = calc(entity);
+		// 個人別共有キャッシュに勤怠集計情報を設定
+		putCache(personalId, key, cached, dto, version);
 		// 勤怠集計情報を取得
 		return dto;
 	}
@@ -346,16 +458,78 @@ public class TotalTimeCalcBean extends TimeBean implements TotalTimeCalcBeanInte
 	@Override
 	public TotalTimeDataDtoInterface calc(String personalId, int targetYear, int targetMonth, boolean isCompleted)
 			throws MospException {
+		// 個人別共有キャッシュから勤怠集計情報を取得
+		Object key = MospMasterCache.getKey(KEY_CACHE_CALC, targetYear, targetMonth, isCompleted);
+		Object cached = MospPersonalCache.get(mospParams, personalId, key);
+		if (cached != MospPersonalCache.MISS && MospPersonalCache.isVerified(mospParams) == false) {
+			return (TotalTimeDataDtoInterface)cached;
+		}
+		// 勤怠集計前の版を取得
+		long version = MospPersonalCache.getVersion(mospParams);
 		// 勤怠集計エンティティを取得
 		TotalTimeEntityInterface entity = getTotalTimeEntity(personalId, targetYear, targetMonth);
 		// 各種申請及び振替休日情報から承認済でないものを除去
 		removeUnusedRequests(entity, isCompleted);
 		// 勤怠集計
 		TotalTimeDataDtoInterface dto = calc(entity);
+		// 個人別共有キャッシュに勤怠集計情報を設定
+		putCache(personalId, key, cached, dto, version);
 		// 勤怠集計情報リストを取得
 		return dto;
 	}
 	
+	/**
+	 * 個人別共有キャッシュに勤怠集計情報を設定する。<br>
+	 * <br>
+	 * 個人別共有キャッシュを検証する場合、保持していた勤怠集計情報を勤怠集計結果と比較し、
+	 * 一致しなければログを出力する。<br>
+	 * 設定した勤怠集計情報は複数のリクエストで共有されるため、利用側で変更してはならない。<br>
+	 * @param personalId 個人ID
+	 * @param key        キー
+	 * @param cached     保持していた勤怠集計情報(保持していない場合は{@link MospPersonalCache#MISS})
+	 * @param dto        勤怠集計結果
+	 * @param version    勤怠集計前の版
+	 */
+	protected void putCache(String personalId, Object key, Object cached, TotalTimeDataDtoInterface dto,
+			long version) {
+		// 保持していた勤怠集計情報を検証
+		if (cached != MospPersonalCache.MISS && isSameTotalTimeData((TotalTimeDataDtoInterface)cached, dto) == false) {
+			LogUtility.application(mospParams, MSG_CACHE_MISMATCH + " " + personalId + " " + key);
+		}
+		MospPersonalCache.put(mospParams, personalId, key, dto, version);
+	}
+	
+	/**
+	 * 勤怠集計情報が一致するかを確認する。<br>
+	 * 勤怠集計情報インターフェースの取得メソッドの値を比較する。<br>
+	 * @param dto1 勤怠集計情報1
+	 * @param dto2 勤怠集計情報2
+	 * @return 確認結果(true：一致する、false：一致しない)
+	 */
+	protected boolean isSameTotalTimeData(TotalTimeDataDtoInterface dto1, TotalTimeDataDtoInterface dto2) {
+		if (dto1 == null || dto2 == null) {
+			return dto1 == dto2;
+		}
+		try {
+			// 取得メソッド毎に比較
+			for (Method method : TotalTimeDataDtoInterface.class.getMethods()) {
+				if (method.getName().startsWith("get") == false || method.getParameterTypes().length != 0) {
+					continue;
+				}
+				Object value1 = method.invoke(dto1);
+				Object value2 = method.invoke(dto2);
+				if (value1 == null ? value2 != null : value1.equals(value2) == false) {
+					return false;
+				}
+			}
+			return true;
+		} catch (IllegalAccessException e) {
+			return false;
+		} catch (InvocationTargetException e) {
+			return false;
+		}
+	}
+	
 	/**
 	 * 勤怠集計エンティティを取得する。<br>
 	 * <br>
@@ -395,6 +569,70 @@ public class TotalTimeCalcBean extends TimeBean implements TotalTimeCalcBeanInte
 		return totalTimeEntityRefer.getTotalTimeEntity(personalId, targetYear, targetMonth, cutoffDto);
 	}
 	
+	/**
+	 * 勤怠集計エンティティ群を取得する。<br>
+	 * <br>
+	 * 勤怠集計に必要な情報を対象個人IDについて一括で取得する。<br>
+	 * <br>
+	 * @param personalIds 個人IDコレクション
+	 * @param targetYear  対象年
+	 * @param targetMonth 対象月
+	 * @param cutoffCode  締日コード
+	 * @return 勤怠集計エンティティ群(キー：個人ID)
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected Map<String, TotalTimeEntityInterface> getTotalTimeEntityMap(Collection<String> personalIds,
+			int targetYear, int targetMonth, String cutoffCode) throws MospException {
+		// 締日情報を取得
+		CutoffDtoInterface cutoffDto = timeMaster.getCutoff(cutoffCode, targetYear, targetMonth);
+		// 勤怠集計エンティティ群を取得
+		return totalTimeEntityRefer.getTotalTimeEntityMap(personalIds, targetYear, targetMonth, cutoffDto);
+	}
+	
+	/**
+	 * 個人IDリストを一括取得単位毎に分割する。<br>
+	 * <br>
+	 * 勤怠集計エンティティを一括取得単位毎に作成することで、
+	 * 同時に保持する勤怠集計エンティティの数を抑える。<br>
+	 * <br>
+	 * @param personalIdList 個人IDリスト
+	 * @return 分割した個人IDリストのリスト
+	 */
+	protected List<List<String>> getBulkPersonalIdLists(List<String> personalIdList) {
+		// 分割した個人IDリストのリストを準備
+		List<List<String>> lists = new ArrayList<List<String>>();
+		// 一括取得単位毎に分割
+		for (int i = 0; i < personalIdList.size(); i += TotalTimeEntityReferenceBean.BULK_PERSONAL_ID_SIZE) {
+			lists.add(personalIdList.subList(i,
+					Math.min(i + TotalTimeEntityReferenceBean.BULK_PERSONAL_ID_SIZE, personalIdList.size())));
+		}
+		// 分割した個人IDリストのリストを取得
+		return lists;
+	}
+	
+	/**
+	 * 未締である個人IDリストを取得する。<br>
+	 * <br>
+	 * @param personalIds 個人IDコレクション
+	 * @param targetYear  対象年
+	 * @param targetMonth 対象月
+	 * @return 未締である個人IDリスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected List<String> getNotTightenedPersonalIdList(Collection<String> personalIds, int targetYear,
+			int targetMonth) throws MospException {
+		// 個人IDリストを準備
+		List<String> list = new ArrayList<String>();
+		// 個人ID毎に処理
+		for (String personalId : personalIds) {
+			// 未締である場合
+			if (cutoffUtil.isNotTighten(personalId, targetYear, targetMonth)) {
+				list.add(personalId);
+			}
+		}
+		return list;
+	}
+	
 	/**
 	 * 勤怠集計前の確認を行う。<br>
 	 * <br>
@@ -504,6 +742,139 @@ public class TotalTimeCalcBean extends TimeBean implements TotalTimeCalcBeanInte
 		employeeTransRegist.draft(personalId, targetYear, targetMonth, cutoffCode, calculationDate);
 	}
 	
+	/**
+	 * 分割して仮締を行う。<br>
+	 * <br>
+	 * 対象個人IDセットを締処理分割人数毎に分割し、分割した単位で
+	 * {@link TotalTimeTighteningTask}を用いて並列に仮締を行う。<br>
+	 * 分割した単位毎に専用のDBコネクションを用いてコミットするため、
+	 * 処理が中断された場合でも、再実行すれば未締の者のみが仮締される。<br>
+	 * <br>
+	 * 勤怠集計前の確認でエラーがあった者は仮締せず、その集計時エラー内容情報を返す。<br>
+	 * <br>
+	 * 但し、締処理一括確定が設定されている場合は、全対象者の確認を並列に先に行い、
+	 * エラーがあった場合は誰も仮締しない。<br>
+	 * エラーが無い場合は、分割した単位毎に当クラスのDBコネクションで順に仮締し、コミットしない。<br>
+	 * いずれかの単位でエラー或いは例外が発生した場合は、呼出元がコミットしないため、
+	 * 全ての仮締がロールバックされる(一つのトランザクションで仮締する)。<br>
+	 * <br>
+	 * 処理の結果、対象年月において対象締日コードが設定されている社員全員が
+	 * 仮締状態となった場合、対象年月における対象締日コードを仮締とする。<br>
+	 * <br>
+	 * @param personalIdSet 個人IDセット
+	 * @param targetYear    対象年
+	 * @param targetMonth   対象月
+	 * @param cutoffCode    締日コード
+	 * @param chunkSize     締処理分割人数
+	 * @return 集計時エラー内容情報リスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected List<CutoffErrorListDtoInterface> tighteningPartition(Set<String> personalIdSet, int targetYear,
+			int targetMonth, String cutoffCode, int chunkSize) throws MospException {
+		// 個人IDセットを分割
+		List<List<String>> chunkList = new ArrayList<List<String>>();
+		List<String> chunk = new ArrayList<String>();
+		for (String personalId : personalIdSet) {
+			chunk.add(personalId);
+			if (chunk.size() >= chunkSize) {
+				chunkList.add(chunk);
+				chunk = new ArrayList<String>();
+			}
+		}
+		if (chunk.isEmpty() == false) {
+			chunkList.add(chunk);
+		}
+		// 締処理並列数を取得
+		int threads = mospParams.getApplicationProperty(TimeConst.APP_TIGHTENING_THREADS, 1);
+		threads = Math.max(1, Math.min(threads, chunkList.size()));
+		// 締処理一括確定の場合
+		if (mospParams.getApplicationPropertyBool(TimeConst.APP_TIGHTENING_ALL_OR_NOTHING)) {
+			// 全対象者について仮締前の確認
+			List<CutoffErrorListDtoInterface> errorList = executeTighteningTasks(chunkList, targetYear, targetMonth,
+					cutoffCode, threads, true);
+			// 勤怠集計前の確認でエラーがあった場合
+			if (errorList.isEmpty() == false) {
+				// 集計時エラー内容情報リストを取得
+				return errorList;
+			}
+			// 分割した単位毎に当クラスのDBコネクションで仮締(コミットは呼出元で行う)
+			for (List<String> personalIdList : chunkList) {
+				errorList.addAll(tighteningEach(personalIdList, targetYear, targetMonth, cutoffCode));
+				// エラーがあった場合(呼出元でコミットされずロールバックされる)
+				if (errorList.isEmpty() == false || mospParams.hasErrorMessage()) {
+					return errorList;
+				}
+			}
+			// 締日仮締
+			tightenCutoff(targetYear, targetMonth, cutoffCode);
+			// 集計時エラー内容情報リスト(空)を取得
+			return errorList;
+		}
+		// 分割した単位毎に仮締
+		List<CutoffErrorListDtoInterface> errorList = executeTighteningTasks(chunkList, targetYear, targetMonth,
+				cutoffCode, threads, false);
+		// 締日が設定されている社員全員が仮締である場合
+		if (errorList.isEmpty() && isAllTightened(targetYear, targetMonth, cutoffCode)) {
+			// 締日仮締
+			tightenCutoff(targetYear, targetMonth, cutoffCode);
+		}
+		// 集計時エラー内容情報リストを取得
+		return errorList;
+	}
+	
+	/**
+	 * 分割仮締処理を並列に実行する。<br>
+	 * <br>
+	 * 各分割仮締処理で設定されたメッセージは、当クラスのMosP処理情報に受け取る。<br>
+	 * <br>
+	 * @param chunkList   分割された個人IDリスト
+	 * @param targetYear  対象年
+	 * @param targetMonth 対象月
+	 * @param cutoffCode  締日コード
+	 * @param threads     締処理並列数
+	 * @param isCheckOnly 確認のみフラグ(true：仮締前の確認のみ行う、false：仮締を行う)
+	 * @return 集計時エラー内容情報リスト
+	 * @throws MospException 分割仮締処理で例外が発生した場合
+	 */
+	protected List<CutoffErrorListDtoInterface> executeTighteningTasks(List<List<String>> chunkList, int targetYear,
+			int targetMonth, String cutoffCode, int threads, boolean isCheckOnly) throws MospException {
+		// 集計時エラー内容情報リストを準備
+		List<CutoffErrorListDtoInterface> errorList = new ArrayList<CutoffErrorListDtoInterface>();
+		// 分割仮締処理を準備
+		List<TotalTimeTighteningTask> taskList = new ArrayList<TotalTimeTighteningTask>();
+		for (List<String> chunk : chunkList) {
+			taskList.add(new TotalTimeTighteningTask(mospParams, chunk, targetYear, targetMonth, cutoffCode,
+					isCheckOnly));
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			// 分割仮締処理を実行
+			List<Future<List<CutoffErrorListDtoInterface>>> futureList = executor.invokeAll(taskList);
+			// 例外を保持(全ての処理の終了を待ってから発行する)
+			MospException exception = null;
+			for (int i = 0; i < futureList.size(); i++) {
+				try {
+					errorList.addAll(futureList.get(i).get());
+				} catch (ExecutionException e) {
+					if (exception == null) {
+						exception = e.getCause() instanceof MospException ? (MospException)e.getCause()
+								: new MospException(e.getCause());
+					}
+				}
+				// メッセージを受け取る
+				mospParams.inheritMessages(taskList.get(i).getMospParams());
+			}
+			if (exception != null) {
+				throw exception;
+			}
+		} catch (InterruptedException e) {
+			throw new MospException(e);
+		} finally {
+			executor.shutdownNow();
+		}
+		return errorList;
+	}
+	
 	/**
 	 * 締日が設定されている社員全員が仮締であるかを確認する。<br>
 	 * <br>
@@ -569,6 +940,8 @@ public class TotalTimeCalcBean extends TimeBean implements TotalTimeCalcBeanInte
 		int targetMonth = entity.getCalculationMonth();
 		// 特別休暇集計情報を削除
 		totalLeaveRegist.delete(personalId, targetYear, targetMonth);
+		// 特別休暇集計情報リストを準備
+		List<TotalLeaveDtoInterface> totalLeaveList = new ArrayList<TotalLeaveDtoInterface>();
 		// 特別休暇回数群(キー：休暇コード)を取得
 		Map<String, Float> specialHolidayDays = entity.getSpecialHolidayDays();
 		Map<String, Integer> specialHolidayHours = entity.getSpecialHolidayHours();
@@ -584,11 +957,14 @@ public class TotalTimeCalcBean extends TimeBean implements TotalTimeCalcBeanInte
 			dto.setHolidayCode(holidayCode);
 			dto.setTimes(entry.getValue());
 			dto.setHours(specialHolidayHours.get(holidayCode));
-			// 登録
-			totalLeaveRegist.insert(dto);
+			totalLeaveList.add(dto);
 		}
+		// 一括登録
+		totalLeaveRegist.insert(totalLeaveList);
 		// その他休暇集計情報を削除
 		totalOtherVacationRegist.delete(personalId, targetYear, targetMonth);
+		// その他休暇集計情報リストを準備
+		List<TotalOtherVacationDtoInterface> totalOtherVacationList = new ArrayList<TotalOtherVacationDtoInterface>();
 		// その他休暇回数群(キー：休暇コード)を取得
 		Map<String, Float> otherHolidayMap = entity.getOtherHolidayDays();
 		Map<String, Integer> otherHolidayHours = entity.getOtherHolidayHours();
@@ -604,11 +980,14 @@ public class TotalTimeCalcBean extends TimeBean implements TotalTimeCalcBeanInte
 			dto.setHolidayCode(holidayCode);
 			dto.setTimes(entry.getValue());
 			dto.setHours(otherHolidayHours.get(holidayCode));
-			// 登録
-			totalOtherVacationRegist.insert(dto);
+			totalOtherVacationList.add(dto);
 		}
+		// 一括登録
+		totalOtherVacationRegist.insert(totalOtherVacationList);
 		// 欠勤集計情報を削除
 		totalAbsenceRegist.delete(personalId, targetYear, targetMonth);
+		// 欠勤集計情報リストを準備
+		List<TotalAbsenceDtoInterface> totalAbsenceList = new ArrayList<TotalAbsenceDtoInterface>();
 		// 欠勤回数群(キー：休暇コード)を取得
 		Map<String, Float> absenceMap = entity.getAbsenceDays();
 		Map<String, Integer> absenceHours = entity.getAbsenceHours();
@@ -624,9 +1003,10 @@ public class TotalTimeCalcBean extends TimeBean implements TotalTimeCalcBeanInte
 			dto.setAbsenceCode(holidayCode);
 			dto.setTimes(entry.getValue());
 			dto.setHours(absenceHours.get(holidayCode));
-			// 登録
-			totalAbsenceRegist.insert(dto);
+			totalAbsenceList.add(dto);
 		}
+		// 一括登録
+		totalAbsenceRegist.insert(totalAbsenceList);
 	}
 	
 	/**
@@ -17,10 +17,13 @@
  */
 package jp.mosp.time.bean.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -35,6 +38,7 @@ import jp.mosp.platform.dao.workflow.WorkflowDaoInterface;
 import jp.mosp.platform.dto.human.EntranceDtoInterface;
 import jp.mosp.platform.dto.human.HumanDtoInterface;
 import jp.mosp.platform.dto.human.RetirementDtoInterface;
+import jp.mosp.platform.dto.workflow.WorkflowDtoInterface;
 import jp.mosp.platform.utils.WorkflowUtility;
 import jp.mosp.time.base.TimeBean;
 import jp.mosp.time.bean.ScheduleDateReferenceBeanInterface;
@@ -85,107 +89,222 @@ public class TotalTimeEntityReferenceBean extends TimeBean implements TotalTimeE
 	 * 前日が法定休日出勤だった場合に、7日前が必要になる。<br>
 	 * <br>
 	 */
-	public static final int							DAYS_FORMER_ATTENDANCE	= -7;
+	public static final int												DAYS_FORMER_ATTENDANCE	= -7;
+	
+	/**
+	 * 申請検出時に勤怠情報取得対象となる締期間初日以前の日数。<br>
+	 * <br>
+	 * 締期間初日が週の最終日だった場合の6日。<br>
+	 * <br>
+	 */
+	public static final int												DAYS_FORMER_REQUEST_DETECT	= -6;
+	
+	/**
+	 * 一括取得時に1回のSQLで取得する個人IDの最大数。<br>
+	 */
+	public static final int												BULK_PERSONAL_ID_SIZE	= 1000;
 	
 	/**
 	 * 入社情報DAOクラス。<br>
 	 */
-	protected EntranceDaoInterface					entranceDao;
+	protected EntranceDaoInterface										entranceDao;
 	
 	/**
 	 * 休職情報参照クラス。<br>
 	 */
-	protected SuspensionReferenceBeanInterface		suspentionReference;
+	protected SuspensionReferenceBeanInterface							suspentionReference;
 	
 	/**
 	 * 退社情報DAOクラス。<br>
 	 */
-	protected RetirementDaoInterface				retirementDao;
+	protected RetirementDaoInterface									retirementDao;
 	
 	/**
 	 * 休暇種別管理DAOクラス。<br>
 	 */
-	protected HolidayDaoInterface					holidayDao;
+	protected HolidayDaoInterface										holidayDao;
 	
 	/**
 	 * 勤怠データDAOクラス。<br>
 	 */
-	protected AttendanceDaoInterface				attendanceDao;
+	protected AttendanceDaoInterface									attendanceDao;
 	
 	/**
 	 * 残業申請データDAOクラス。<br>
 	 */
-	protected OvertimeRequestDaoInterface			overtimeRequestDao;
+	protected OvertimeRequestDaoInterface								overtimeRequestDao;
 	
 	/**
 	 * 休暇申請データDAOクラス。<br>
 	 */
-	protected HolidayRequestDaoInterface			holidayRequestDao;
+	protected HolidayRequestDaoInterface								holidayRequestDao;
 	
 	/**
 	 * 休日出勤申請データDAOクラス。<br>
 	 */
-	protected WorkOnHolidayRequestDaoInterface		workOnHolidayRequestDao;
+	protected WorkOnHolidayRequestDaoInterface							workOnHolidayRequestDao;
 	
 	/**
 	 * 代休申請データDAOクラス。<br>
 	 */
-	protected SubHolidayRequestDaoInterface			subHolidayRequestDao;
+	protected SubHolidayRequestDaoInterface								subHolidayRequestDao;
 	
 	/**
 	 * 勤務形態変更申請DAOクラス。<br>
 	 */
-	protected WorkTypeChangeRequestDaoInterface		workTypeChangeRequestDao;
+	protected WorkTypeChangeRequestDaoInterface							workTypeChangeRequestDao;
 	
 	/**
 	 * 時差出勤申請データDAOクラス。<br>
 	 */
-	protected DifferenceRequestDaoInterface			differenceRequestDao;
+	protected DifferenceRequestDaoInterface								differenceRequestDao;
 	
 	/**
 	 * 振替休日データDAOクラス。<br>
 	 */
-	protected SubstituteDaoInterface				substituteDao;
+	protected SubstituteDaoInterface									substituteDao;
 	
 	/**
 	 * 代休データDAOクラス。<br>
 	 */
-	protected SubHolidayDaoInterface				subHolidayDao;
+	protected SubHolidayDaoInterface									subHolidayDao;
 	
 	/**
 	 * ワークフローDAOクラス。<br>
 	 */
-	protected WorkflowDaoInterface					workflowDao;
+	protected WorkflowDaoInterface										workflowDao;
 	
 	/**
 	 * 勤怠トランザクションDAO。<br>
 	 */
-	protected AttendanceTransactionDaoInterface		attendanceTransactionDao;
+	protected AttendanceTransactionDaoInterface							attendanceTransactionDao;
 	
 	/**
 	 * 勤怠設定管理DAOクラス。<br>
 	 */
-	protected TimeSettingDaoInterface				timeSettingDao;
+	protected TimeSettingDaoInterface									timeSettingDao;
 	
 	/**
 	 * カレンダ日管理参照。<br>
 	 */
-	protected ScheduleDateReferenceBeanInterface	scheduleDateReference;
+	protected ScheduleDateReferenceBeanInterface						scheduleDateReference;
 	
 	/**
 	 * 勤務形態マスタ参照クラス。<br>
 	 */
-	protected WorkTypeReferenceBeanInterface		workTypeReference;
+	protected WorkTypeReferenceBeanInterface							workTypeReference;
 	
 	/**
 	 * プラットフォームマスタ参照クラス。<br>
 	 */
-	protected PlatformMasterBeanInterface			platformMaster;
+	protected PlatformMasterBeanInterface								platformMaster;
 	
 	/**
 	 * 勤怠関連マスタ参照クラス。<br>
 	 */
-	protected TimeMasterBeanInterface				timeMaster;
+	protected TimeMasterBeanInterface									timeMaster;
+	
+	/**
+	 * 一括取得対象個人IDセット。<br>
+	 * 当セットに含まれる個人IDの情報は、DBではなく一括取得した情報群から取得する。<br>
+	 * {@link #getTotalTimeEntityMap(Collection, int, int, CutoffDtoInterface)}の処理中にのみ設定される。<br>
+	 */
+	protected Set<String>												bulkPersonalIdSet;
+	
+	/**
+	 * 一括取得対象期間初日(締期間初日)。
+	 */
+	protected Date														bulkFirstDate;
+	
+	/**
+	 * 一括取得対象期間最終日(締期間最終日)。
+	 */
+	protected Date														bulkLastDate;
+	
+	/**
+	 * 勤怠データ一括取得対象期間初日。
+	 */
+	protected Date														bulkAttendanceFirstDate;
+	
+	/**
+	 * 代休データ及び代休申請一括取得対象期間初日。
+	 */
+	protected Date														bulkSubHolidayFirstDate;
+	
+	/**
+	 * ワークフロー一括取得対象期間初日。
+	 */
+	protected Date														bulkWorkflowFirstDate;
+	
+	/**
+	 * ワークフロー一括取得対象期間最終日。
+	 */
+	protected Date														bulkWorkflowLastDate;
+	
+	/**
+	 * 一括取得した入社情報群(キー：個人ID)。
+	 */
+	protected Map<String, EntranceDtoInterface>							bulkEntranceMap;
+	
+	/**
+	 * 一括取得した退社情報群(キー：個人ID)。
+	 */
+	protected Map<String, RetirementDtoInterface>						bulkRetirementMap;
+	
+	/**
+	 * 一括取得した勤怠データ群(キー：個人ID)。
+	 */
+	protected Map<String, List<AttendanceDtoInterface>>					bulkAttendanceMap;
+	
+	/**
+	 * 一括取得した休暇申請群(キー：個人ID)。
+	 */
+	protected Map<String, List<HolidayRequestDtoInterface>>				bulkHolidayRequestMap;
+	
+	/**
+	 * 一括取得した休日出勤申請群(キー：個人ID)。
+	 */
+	protected Map<String, List<WorkOnHolidayRequestDtoInterface>>		bulkWorkOnHolidayRequestMap;
+	
+	/**
+	 * 一括取得した残業申請群(キー：個人ID)。
+	 */
+	protected Map<String, List<OvertimeRequestDtoInterface>>			bulkOvertimeRequestMap;
+	
+	/**
+	 * 一括取得した勤務形態変更申請群(キー：個人ID)。
+	 */
+	protected Map<String, List<WorkTypeChangeRequestDtoInterface>>		bulkWorkTypeChangeRequestMap;
+	
+	/**
+	 * 一括取得した時差出勤申請群(キー：個人ID)。
+	 */
+	protected Map<String, List<DifferenceRequestDtoInterface>>			bulkDifferenceRequestMap;
+	
+	/**
+	 * 一括取得した振替休日データ群(キー：個人ID)。
+	 */
+	protected Map<String, List<SubstituteDtoInterface>>					bulkSubstituteMap;
+	
+	/**
+	 * 一括取得した代休データ群(キー：個人ID)。
+	 */
+	protected Map<String, List<SubHolidayDtoInterface>>					bulkSubHolidayMap;
+	
+	/**
+	 * 一括取得した代休申請群(キー：個人ID)。
+	 */
+	protected Map<String, List<SubHolidayRequestDtoInterface>>			bulkSubHolidayRequestMap;
+	
+	/**
+	 * 一括取得したワークフロー情報群(キー：個人ID)。
+	 */
+	protected Map<String, Map<Long, WorkflowDtoInterface>>				bulkWorkflowMap;
+	
+	/**
+	 * 一括取得した勤怠トランザクション群(キー：個人ID)。
+	 */
+	protected Map<String, Map<Date, AttendanceTransactionDtoInterface>>	bulkAttendanceTransactionMap;
 	
 	
 	@Override
@@ -217,6 +336,188 @@ public class TotalTimeEntityReferenceBean extends TimeBean implements TotalTimeE
 	@Override
 	public TotalTimeEntityInterface getTotalTimeEntity(String personalId, int targetYear, int targetMonth,
 			CutoffDtoInterface cutoffDto) throws MospException {
+		// 勤怠集計エンティティを準備(締期間及び勤怠申請情報等を設定)
+		TotalTimeEntityInterface entity = createTotalTimeEntity(personalId, targetYear, targetMonth, cutoffDto);
+		// 計算対象外である場合
+		if (isCalculationTarget(entity) == false) {
+			return entity;
+		}
+		// 代休情報を設定
+		setSubHolidayInfo(entity);
+		// ワークフロー情報等を設定
+		setWorkflowInfo(entity);
+		// 勤怠集計エンティティを取得
+		return entity;
+	}
+	
+	@Override
+	public Map<String, TotalTimeEntityInterface> getTotalTimeEntityMap(Collection<String> personalIds,
+			int targetYear, int targetMonth, CutoffDtoInterface cutoffDto) throws MospException {
+		// 勤怠集計エンティティ群を準備
+		Map<String, TotalTimeEntityInterface> map = new LinkedHashMap<String, TotalTimeEntityInterface>();
+		// 個人IDリストを準備
+		List<String> personalIdList = new ArrayList<String>(personalIds);
+		// 一括取得単位毎に処理
+		for (int i = 0; i < personalIdList.size(); i += BULK_PERSONAL_ID_SIZE) {
+			List<String> subList = personalIdList.subList(i,
+					Math.min(i + BULK_PERSONAL_ID_SIZE, personalIdList.size()));
+			try {
+				// 勤怠集計エンティティを一括取得
+				map.putAll(getBulkTotalTimeEntityMap(subList, targetYear, targetMonth, cutoffDto));
+			} finally {
+				// 一括取得した情報群を破棄
+				clearBulk();
+			}
+		}
+		// 勤怠集計エンティティ群を取得
+		return map;
+	}
+	
+	/**
+	 * 勤怠集計エンティティ群を一括取得する。<br>
+	 * <br>
+	 * 勤怠集計に必要な情報を個人ID毎ではなくテーブル毎に一括で取得し、
+	 * {@link #getTotalTimeEntity(String, int, int, CutoffDtoInterface)}と同様の手順で
+	 * 個人ID毎の勤怠集計エンティティを作成する。<br>
+	 * 代休情報及びワークフロー情報は個人毎に取得期間が異なるため、
+	 * 全員分の期間を含む範囲で一括取得し、個人毎の期間で絞り込む。<br>
+	 * <br>
+	 * @param personalIdList 個人IDリスト
+	 * @param targetYear     対象年
+	 * @param targetMonth    対象月
+	 * @param cutoffDto      締日情報
+	 * @return 勤怠集計エンティティ群(キー：個人ID)
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected Map<String, TotalTimeEntityInterface> getBulkTotalTimeEntityMap(List<String> personalIdList,
+			int targetYear, int targetMonth, CutoffDtoInterface cutoffDto) throws MospException {
+		// 勤怠集計エンティティ群を準備
+		Map<String, TotalTimeEntityInterface> map = new LinkedHashMap<String, TotalTimeEntityInterface>();
+		// 締日情報が取得できない場合
+		if (cutoffDto == null) {
+			for (String personalId : personalIdList) {
+				map.put(personalId, getTotalTimeEntity(personalId, targetYear, targetMonth, cutoffDto));
+			}
+			return map;
+		}
+		// 個人ID配列を取得
+		String[] personalIds = personalIdList.toArray(new String[personalIdList.size()]);
+		// 締期間初日及び最終日を取得
+		int cutoffDate = cutoffDto.getCutoffDate();
+		Date firstDate = TimeUtility.getCutoffFirstDate(cutoffDate, targetYear, targetMonth);
+		Date lastDate = TimeUtility.getCutoffLastDate(cutoffDate, targetYear, targetMonth);
+		Date attendanceFirstDate = DateUtility.addDay(firstDate, DAYS_FORMER_ATTENDANCE);
+		// 締期間で取得する情報を一括取得
+		bulkEntranceMap = entranceDao.findForPersonalIds(personalIds);
+		bulkRetirementMap = retirementDao.findForPersonalIds(personalIds);
+		bulkAttendanceMap = attendanceDao.findForPersonalIds(personalIds, attendanceFirstDate, lastDate);
+		bulkHolidayRequestMap = holidayRequestDao.findForPersonalIds(personalIds, firstDate, lastDate);
+		bulkWorkOnHolidayRequestMap = workOnHolidayRequestDao.findForPersonalIds(personalIds, firstDate, lastDate);
+		bulkOvertimeRequestMap = overtimeRequestDao.findForPersonalIds(personalIds, firstDate, lastDate);
+		bulkWorkTypeChangeRequestMap = workTypeChangeRequestDao.findForPersonalIds(personalIds, firstDate, lastDate);
+		bulkDifferenceRequestMap = differenceRequestDao.findForPersonalIds(personalIds, firstDate, lastDate);
+		bulkSubstituteMap = substituteDao.findForPersonalIds(personalIds, firstDate, lastDate);
+		bulkAttendanceTransactionMap = attendanceTransactionDao.findForPersonalIds(personalIds, firstDate, lastDate);
+		bulkFirstDate = firstDate;
+		bulkLastDate = lastDate;
+		bulkAttendanceFirstDate = attendanceFirstDate;
+		bulkPersonalIdSet = new HashSet<String>(personalIdList);
+		// 計算対象勤怠集計エンティティリストを準備
+		List<TotalTimeEntityInterface> targetList = new ArrayList<TotalTimeEntityInterface>();
+		// 代休情報取得期間初日を準備
+		Date subHolidayFirstDate = firstDate;
+		// 個人ID毎に処理
+		for (String personalId : personalIdList) {
+			// 勤怠集計エンティティを準備
+			TotalTimeEntityInterface entity = createTotalTimeEntity(personalId, targetYear, targetMonth, cutoffDto);
+			map.put(personalId, entity);
+			// 計算対象外である場合
+			if (isCalculationTarget(entity) == false) {
+				continue;
+			}
+			targetList.add(entity);
+			// 代休情報取得期間初日を更新
+			Date date = getDateOnTimeSetteingDto(entity);
+			if (date.before(subHolidayFirstDate)) {
+				subHolidayFirstDate = date;
+			}
+		}
+		// 代休情報を一括取得
+		bulkSubHolidayMap = subHolidayDao.findForPersonalIds(personalIds, subHolidayFirstDate, lastDate);
+		bulkSubHolidayRequestMap = subHolidayRequestDao.findForPersonalIds(personalIds, subHolidayFirstDate, lastDate);
+		bulkSubHolidayFirstDate = subHolidayFirstDate;
+		// ワークフロー取得期間を準備
+		Date workflowFirstDate = firstDate;
+		Date workflowLastDate = lastDate;
+		// 勤怠集計エンティティ毎に処理
+		for (TotalTimeEntityInterface entity : targetList) {
+			// 代休情報を設定
+			setSubHolidayInfo(entity);
+			// ワークフロー取得期間を更新
+			Date startDate = getRequestStartDateForWorkflow(entity);
+			Date endDate = getRequestEndDateForWorkflow(entity);
+			if (startDate.before(workflowFirstDate)) {
+				workflowFirstDate = startDate;
+			}
+			if (endDate.after(workflowLastDate)) {
+				workflowLastDate = endDate;
+			}
+		}
+		// ワークフロー情報を一括取得
+		bulkWorkflowMap = workflowDao.findForPersonalIds(personalIds, workflowFirstDate, workflowLastDate);
+		bulkWorkflowFirstDate = workflowFirstDate;
+		bulkWorkflowLastDate = workflowLastDate;
+		// 勤怠集計エンティティ毎に処理
+		for (TotalTimeEntityInterface entity : targetList) {
+			// ワークフロー情報等を設定
+			setWorkflowInfo(entity);
+		}
+		// 勤怠集計エンティティ群を取得
+		return map;
+	}
+	
+	/**
+	 * 一括取得した情報群を破棄する。<br>
+	 */
+	protected void clearBulk() {
+		bulkPersonalIdSet = null;
+		bulkFirstDate = null;
+		bulkLastDate = null;
+		bulkAttendanceFirstDate = null;
+		bulkSubHolidayFirstDate = null;
+		bulkWorkflowFirstDate = null;
+		bulkWorkflowLastDate = null;
+		bulkEntranceMap = null;
+		bulkRetirementMap = null;
+		bulkAttendanceMap = null;
+		bulkHolidayRequestMap = null;
+		bulkWorkOnHolidayRequestMap = null;
+		bulkOvertimeRequestMap = null;
+		bulkWorkTypeChangeRequestMap = null;
+		bulkDifferenceRequestMap = null;
+		bulkSubstituteMap = null;
+		bulkSubHolidayMap = null;
+		bulkSubHolidayRequestMap = null;
+		bulkWorkflowMap = null;
+		bulkAttendanceTransactionMap = null;
+	}
+	
+	/**
+	 * 勤怠集計エンティティを準備する。<br>
+	 * <br>
+	 * 締期間、設定適用情報、勤怠データ及び各種申請情報、振替休日データを設定する。<br>
+	 * 締日情報或いは締期間(個人)が取得できない場合は、計算対象外として
+	 * 個人ID及び対象年月のみを設定する。<br>
+	 * <br>
+	 * @param personalId  個人ID
+	 * @param targetYear  対象年
+	 * @param targetMonth 対象月
+	 * @param cutoffDto   締日情報
+	 * @return 勤怠集計エンティティ
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected TotalTimeEntityInterface createTotalTimeEntity(String personalId, int targetYear, int targetMonth,
+			CutoffDtoInterface cutoffDto) throws MospException {
 		// 勤怠集計エンティティを準備
 		TotalTimeEntityInterface entity = (TotalTimeEntityInterface)createObject(TotalTimeEntityInterface.class);
 		// 個人ID設定
@@ -268,32 +569,75 @@ public class TotalTimeEntityReferenceBean extends TimeBean implements TotalTimeE
 		// カレンダ日情報群設定(締期間(個人))
 		entity.setScheduleMap(getScheduleMap(personalId, targetDateList));
 		// 勤怠申請リスト取得
-		entity.setAttendanceList(attendanceDao.findForList(personalId, attendanceFirstDate, lastDate));
+		entity.setAttendanceList(getAttendanceList(personalId, attendanceFirstDate, lastDate));
 		// 休暇申請リスト取得
-		entity.setHolidayRequestList(holidayRequestDao.findForTerm(personalId, firstDate, lastDate));
+		entity.setHolidayRequestList(getHolidayRequestList(personalId, firstDate, lastDate));
 		// 休日出勤申請リスト取得
-		entity.setWorkOnHolidayRequestList(workOnHolidayRequestDao.findForList(personalId, firstDate, lastDate));
+		entity.setWorkOnHolidayRequestList(getWorkOnHolidayRequestList(personalId, firstDate, lastDate));
 		// 残業申請リスト取得
-		entity.setOvertimeRequestList(overtimeRequestDao.findForList(personalId, firstDate, lastDate));
+		entity.setOvertimeRequestList(getOvertimeRequestList(personalId, firstDate, lastDate));
 		// 勤務形態変更申請リスト取得
-		entity.setWorkTypeChangeRequestList(workTypeChangeRequestDao.findForTerm(personalId, firstDate, lastDate));
+		entity.setWorkTypeChangeRequestList(getWorkTypeChangeRequestList(personalId, firstDate, lastDate));
 		// 時差出勤申請リスト取得
-		entity.setDifferenceRequestList(differenceRequestDao.findForList(personalId, firstDate, lastDate));
+		entity.setDifferenceRequestList(getDifferenceRequestList(personalId, firstDate, lastDate));
 		// 振替休日データ取得
-		entity.setSubstitubeList(substituteDao.findForTerm(personalId, firstDate, lastDate));
+		entity.setSubstitubeList(getSubstituteList(personalId, firstDate, lastDate));
+		// 勤怠集計エンティティを取得
+		return entity;
+	}
+	
+	/**
+	 * 計算対象であるかを確認する。<br>
+	 * <br>
+	 * {@link #createTotalTimeEntity(String, int, int, CutoffDtoInterface)}で
+	 * 締期間が設定されている場合、計算対象とする。<br>
+	 * <br>
+	 * @param entity 勤怠集計エンティティ
+	 * @return 確認結果(true：計算対象である、false：計算対象でない)
+	 */
+	protected boolean isCalculationTarget(TotalTimeEntityInterface entity) {
+		return entity.getCutoffFirstDate() != null;
+	}
+	
+	/**
+	 * 勤怠集計エンティティに代休情報を設定する。<br>
+	 * <br>
+	 * @param entity 勤怠集計エンティティ
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected void setSubHolidayInfo(TotalTimeEntityInterface entity) throws MospException {
+		// 個人ID及び締期間最終日を取得
+		String personalId = entity.getPersonalId();
+		Date lastDate = entity.getCutoffLastDate();
 		// 締期間初日(個人)から代休取得期限だけ遡った日付を取得
 		Date subHolidayFirstDate = getDateOnTimeSetteingDto(entity);
 		// 代休データリスト取得
-		entity.setSubHolidayList(subHolidayDao.findSubHolidayList(personalId, subHolidayFirstDate, lastDate));
+		entity.setSubHolidayList(getSubHolidayList(personalId, subHolidayFirstDate, lastDate));
 		// 代休勤怠設定マップ取得
 		entity.setSubHolidayTimeSettingMap(getSubHolidayTimeSettingMap(entity.getSubHolidayList()));
 		// 代休申請リスト取得
-		entity.setSubHolidayRequestList(subHolidayRequestDao.findForList(personalId, subHolidayFirstDate, lastDate));
+		entity.setSubHolidayRequestList(getSubHolidayRequestList(personalId, subHolidayFirstDate, lastDate));
+	}
+	
+	/**
+	 * 勤怠集計エンティティにワークフロー情報等を設定する。<br>
+	 * <br>
+	 * ワークフロー情報、勤怠トランザクション、振替勤務形態コード群、
+	 * 勤務形態エンティティ群を設定し、追加業務ロジック処理を行う。<br>
+	 * <br>
+	 * @param entity 勤怠集計エンティティ
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected void setWorkflowInfo(TotalTimeEntityInterface entity) throws MospException {
+		// 個人ID及び締期間を取得
+		String personalId = entity.getPersonalId();
+		Date firstDate = entity.getCutoffFirstDate();
+		Date lastDate = entity.getCutoffLastDate();
 		// ワークフロー日付範囲を取得
 		Date workflowFirstDate = getRequestStartDateForWorkflow(entity);
 		Date workflowLastDate = getRequestEndDateForWorkflow(entity);
 		// ワークフロー情報群取得
-		entity.setWorkflowMap(workflowDao.findForCondition(personalId, workflowFirstDate, workflowLastDate));
+		entity.setWorkflowMap(getWorkflowMap(personalId, workflowFirstDate, workflowLastDate));
 		entity.setAttendanceTransactionSet(getAttendanceTransactionSet(personalId, firstDate, lastDate));
 		// 振替勤務形態コード群設定
 		entity.setSubstitutedMap(getSubstitutedMap(entity));
@@ -308,8 +652,273 @@ public class TotalTimeEntityReferenceBean extends TimeBean implements TotalTimeE
 		entity.setWorkTypeEntityMap(workTypeEntityMap);
 		// 追加業務ロジック処理
 		doAdditionalLogic(TimeConst.CODE_KEY_ADD_TOTALTIMEENTITYREFERENCEBEAN_GETTOTALTIMEENTITY, entity);
-		// 勤怠集計エンティティを取得
-		return entity;
+	}
+	
+	/**
+	 * 一括取得済の個人IDであるかを確認する。<br>
+	 * @param personalId 個人ID
+	 * @return 確認結果(true：一括取得済である、false：そうでない)
+	 */
+	protected boolean isBulkTarget(String personalId) {
+		return bulkPersonalIdSet != null && bulkPersonalIdSet.contains(personalId);
+	}
+	
+	/**
+	 * 締期間で一括取得済であるかを確認する。<br>
+	 * 個人IDが一括取得済であり、期間が一括取得した締期間と一致する場合、trueを返す。<br>
+	 * @param personalId 個人ID
+	 * @param firstDate  対象期間初日
+	 * @param lastDate   対象期間最終日
+	 * @return 確認結果(true：一括取得済である、false：そうでない)
+	 */
+	protected boolean isBulkTerm(String personalId, Date firstDate, Date lastDate) {
+		return isBulkTarget(personalId) && firstDate.equals(bulkFirstDate) && lastDate.equals(bulkLastDate);
+	}
+	
+	/**
+	 * 期間を含む範囲で一括取得済であるかを確認する。<br>
+	 * @param personalId 個人ID
+	 * @param firstDate  対象期間初日
+	 * @param lastDate   対象期間最終日
+	 * @param bulkFirst  一括取得対象期間初日
+	 * @param bulkLast   一括取得対象期間最終日
+	 * @return 確認結果(true：一括取得済である、false：そうでない)
+	 */
+	protected boolean isBulkContain(String personalId, Date firstDate, Date lastDate, Date bulkFirst, Date bulkLast) {
+		if (isBulkTarget(personalId) == false || bulkFirst == null || bulkLast == null) {
+			return false;
+		}
+		return firstDate.before(bulkFirst) == false && lastDate.after(bulkLast) == false;
+	}
+	
+	/**
+	 * 一括取得した情報群から個人IDのリストを取得する。<br>
+	 * 情報が存在しない場合は、空のリストを返す。<br>
+	 * @param <T> 情報の型
+	 * @param bulkMap    一括取得した情報群
+	 * @param personalId 個人ID
+	 * @return 情報リスト
+	 */
+	protected <T> List<T> getBulkList(Map<String, List<T>> bulkMap, String personalId) {
+		List<T> list = bulkMap.get(personalId);
+		if (list == null) {
+			return new ArrayList<T>();
+		}
+		return list;
+	}
+	
+	/**
+	 * 入社情報を取得する。<br>
+	 * @param personalId 個人ID
+	 * @return 入社情報
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected EntranceDtoInterface getEntrance(String personalId) throws MospException {
+		if (isBulkTarget(personalId)) {
+			return bulkEntranceMap.get(personalId);
+		}
+		return entranceDao.findForInfo(personalId);
+	}
+	
+	/**
+	 * 退社情報を取得する。<br>
+	 * @param personalId 個人ID
+	 * @return 退社情報
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected RetirementDtoInterface getRetirement(String personalId) throws MospException {
+		if (isBulkTarget(personalId)) {
+			return bulkRetirementMap.get(personalId);
+		}
+		return retirementDao.findForInfo(personalId);
+	}
+	
+	/**
+	 * 勤怠データリストを取得する。<br>
+	 * @param personalId 個人ID
+	 * @param firstDate  対象期間初日
+	 * @param lastDate   対象期間最終日
+	 * @return 勤怠データリスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected List<AttendanceDtoInterface> getAttendanceList(String personalId, Date firstDate, Date lastDate)
+			throws MospException {
+		if (isBulkTarget(personalId) && firstDate.equals(bulkAttendanceFirstDate) && lastDate.equals(bulkLastDate)) {
+			return getBulkList(bulkAttendanceMap, personalId);
+		}
+		return attendanceDao.findForList(personalId, firstDate, lastDate);
+	}
+	
+	/**
+	 * 休暇申請リストを取得する。<br>
+	 * @param personalId 個人ID
+	 * @param firstDate  対象期間初日
+	 * @param lastDate   対象期間最終日
+	 * @return 休暇申請リスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected List<HolidayRequestDtoInterface> getHolidayRequestList(String personalId, Date firstDate, Date lastDate)
+			throws MospException {
+		if (isBulkTerm(personalId, firstDate, lastDate)) {
+			return getBulkList(bulkHolidayRequestMap, personalId);
+		}
+		return holidayRequestDao.findForTerm(personalId, firstDate, lastDate);
+	}
+	
+	/**
+	 * 休日出勤申請リストを取得する。<br>
+	 * @param personalId 個人ID
+	 * @param firstDate  対象期間初日
+	 * @param lastDate   対象期間最終日
+	 * @return 休日出勤申請リスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected List<WorkOnHolidayRequestDtoInterface> getWorkOnHolidayRequestList(String personalId, Date firstDate,
+			Date lastDate) throws MospException {
+		if (isBulkTerm(personalId, firstDate, lastDate)) {
+			return getBulkList(bulkWorkOnHolidayRequestMap, personalId);
+		}
+		return workOnHolidayRequestDao.findForList(personalId, firstDate, lastDate);
+	}
+	
+	/**
+	 * 残業申請リストを取得する。<br>
+	 * @param personalId 個人ID
+	 * @param firstDate  対象期間初日
+	 * @param lastDate   対象期間最終日
+	 * @return 残業申請リスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected List<OvertimeRequestDtoInterface> getOvertimeRequestList(String personalId, Date firstDate, Date lastDate)
+			throws MospException {
+		if (isBulkTerm(personalId, firstDate, lastDate)) {
+			return getBulkList(bulkOvertimeRequestMap, personalId);
+		}
+		return overtimeRequestDao.findForList(personalId, firstDate, lastDate);
+	}
+	
+	/**
+	 * 勤務形態変更申請リストを取得する。<br>
+	 * @param personalId 個人ID
+	 * @param firstDate  対象期間初日
+	 * @param lastDate   対象期間最終日
+	 * @return 勤務形態変更申請リスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected List<WorkTypeChangeRequestDtoInterface> getWorkTypeChangeRequestList(String personalId, Date firstDate,
+			Date lastDate) throws MospException {
+		if (isBulkTerm(personalId, firstDate, lastDate)) {
+			return getBulkList(bulkWorkTypeChangeRequestMap, personalId);
+		}
+		return workTypeChangeRequestDao.findForTerm(personalId, firstDate, lastDate);
+	}
+	
+	/**
+	 * 時差出勤申請リストを取得する。<br>
+	 * @param personalId 個人ID
+	 * @param firstDate  対象期間初日
+	 * @param lastDate   対象期間最終日
+	 * @return 時差出勤申請リスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected List<DifferenceRequestDtoInterface> getDifferenceRequestList(String personalId, Date firstDate,
+			Date lastDate) throws MospException {
+		if (isBulkTerm(personalId, firstDate, lastDate)) {
+			return getBulkList(bulkDifferenceRequestMap, personalId);
+		}
+		return differenceRequestDao.findForList(personalId, firstDate, lastDate);
+	}
+	
+	/**
+	 * 振替休日データリストを取得する。<br>
+	 * @param personalId 個人ID
+	 * @param firstDate  対象期間初日
+	 * @param lastDate   対象期間最終日
+	 * @return 振替休日データリスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected List<SubstituteDtoInterface> getSubstituteList(String personalId, Date firstDate, Date lastDate)
+			throws MospException {
+		if (isBulkTerm(personalId, firstDate, lastDate)) {
+			return getBulkList(bulkSubstituteMap, personalId);
+		}
+		return substituteDao.findForTerm(personalId, firstDate, lastDate);
+	}
+	
+	/**
+	 * 代休データリストを取得する。<br>
+	 * @param personalId 個人ID
+	 * @param firstDate  対象期間初日
+	 * @param lastDate   対象期間最終日
+	 * @return 代休データリスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected List<SubHolidayDtoInterface> getSubHolidayList(String personalId, Date firstDate, Date lastDate)
+			throws MospException {
+		// 一括取得済でない場合
+		if (isBulkContain(personalId, firstDate, lastDate, bulkSubHolidayFirstDate, bulkLastDate) == false) {
+			return subHolidayDao.findSubHolidayList(personalId, firstDate, lastDate);
+		}
+		// 対象期間で絞り込み
+		List<SubHolidayDtoInterface> list = new ArrayList<SubHolidayDtoInterface>();
+		for (SubHolidayDtoInterface dto : getBulkList(bulkSubHolidayMap, personalId)) {
+			if (DateUtility.isTermContain(dto.getWorkDate(), firstDate, lastDate)) {
+				list.add(dto);
+			}
+		}
+		return list;
+	}
+	
+	/**
+	 * 代休申請リストを取得する。<br>
+	 * @param personalId 個人ID
+	 * @param firstDate  対象期間初日
+	 * @param lastDate   対象期間最終日
+	 * @return 代休申請リスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected List<SubHolidayRequestDtoInterface> getSubHolidayRequestList(String personalId, Date firstDate,
+			Date lastDate) throws MospException {
+		// 一括取得済でない場合
+		if (isBulkContain(personalId, firstDate, lastDate, bulkSubHolidayFirstDate, bulkLastDate) == false) {
+			return subHolidayRequestDao.findForList(personalId, firstDate, lastDate);
+		}
+		// 対象期間で絞り込み
+		List<SubHolidayRequestDtoInterface> list = new ArrayList<SubHolidayRequestDtoInterface>();
+		for (SubHolidayRequestDtoInterface dto : getBulkList(bulkSubHolidayRequestMap, personalId)) {
+			if (DateUtility.isTermContain(dto.getRequestDate(), firstDate, lastDate)) {
+				list.add(dto);
+			}
+		}
+		return list;
+	}
+	
+	/**
+	 * ワークフロー情報群を取得する。<br>
+	 * @param personalId 個人ID
+	 * @param firstDate  対象期間初日
+	 * @param lastDate   対象期間最終日
+	 * @return ワークフロー情報群(キー：ワークフロー番号)
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected Map<Long, WorkflowDtoInterface> getWorkflowMap(String personalId, Date firstDate, Date lastDate)
+			throws MospException {
+		// 一括取得済でない場合
+		if (isBulkContain(personalId, firstDate, lastDate, bulkWorkflowFirstDate, bulkWorkflowLastDate) == false) {
+			return workflowDao.findForCondition(personalId, firstDate, lastDate);
+		}
+		// 対象期間で絞り込み
+		Map<Long, WorkflowDtoInterface> map = new HashMap<Long, WorkflowDtoInterface>();
+		Map<Long, WorkflowDtoInterface> bulkMap = bulkWorkflowMap.get(personalId);
+		if (bulkMap == null) {
+			return map;
+		}
+		for (WorkflowDtoInterface dto : bulkMap.values()) {
+			if (DateUtility.isTermContain(dto.getWorkflowDate(), firstDate, lastDate)) {
+				map.put(dto.getWorkflow(), dto);
+			}
+		}
+		return map;
 	}
 	
 	/**
@@ -330,7 +939,7 @@ public class TotalTimeEntityReferenceBean extends TimeBean implements TotalTimeE
 	protected Date getPersonalFirstDate(String personalId, int targetYear, int targetMonth, int cutoffDate)
 			throws MospException {
 		// 入社日取得
-		EntranceDtoInterface entranceDto = entranceDao.findForInfo(personalId);
+		EntranceDtoInterface entranceDto = getEntrance(personalId);
 		// 入社日確認
 		if (entranceDto == null) {
 			return null;
@@ -373,7 +982,7 @@ public class TotalTimeEntityReferenceBean extends TimeBean implements TotalTimeE
 		// 締期間最終日を取得
 		Date cutoffLastDate = TimeUtility.getCutoffLastDate(cutoffDate, targetYear, targetMonth);
 		// 退社日取得
-		RetirementDtoInterface retirementDto = retirementDao.findForInfo(personalId);
+		RetirementDtoInterface retirementDto = getRetirement(personalId);
 		// 退社日確認
 		if (retirementDto == null) {
 			return cutoffLastDate;
@@ -539,8 +1148,16 @@ public class TotalTimeEntityReferenceBean extends TimeBean implements TotalTimeE
 	protected Set<AttendanceTransactionDtoInterface> getAttendanceTransactionSet(String personalId, Date firstDate,
 			Date lastDate) throws MospException {
 		// 勤怠トランザクションマップを取得
-		Map<Date, AttendanceTransactionDtoInterface> map = attendanceTransactionDao.findForTerm(personalId, firstDate,
-				lastDate);
+		Map<Date, AttendanceTransactionDtoInterface> map = null;
+		// 一括取得済である場合
+		if (isBulkTerm(personalId, firstDate, lastDate)) {
+			map = bulkAttendanceTransactionMap.get(personalId);
+			if (map == null) {
+				map = Collections.emptyMap();
+			}
+		} else {
+			map = attendanceTransactionDao.findForTerm(personalId, firstDate, lastDate);
+		}
 		// セットに変換
 		return new HashSet<AttendanceTransactionDtoInterface>(map.values());
 	}
@@ -571,6 +1188,100 @@ public class TotalTimeEntityReferenceBean extends TimeBean implements TotalTimeE
 	@Override
 	public RequestDetectEntityInterface getRequestDetectEntity(String personalId, int targetYear, int targetMonth,
 			int cutoffDate) throws MospException {
+		// 申請検出エンティティを取得
+		return createRequestDetectEntity(personalId, targetYear, targetMonth, cutoffDate);
+	}
+	
+	@Override
+	public Map<String, RequestDetectEntityInterface> getRequestDetectEntityMap(Collection<String> personalIds,
+			int targetYear, int targetMonth, int cutoffDate) throws MospException {
+		// 申請検出エンティティ群を準備
+		Map<String, RequestDetectEntityInterface> map = new LinkedHashMap<String, RequestDetectEntityInterface>();
+		// 個人IDリストを準備
+		List<String> personalIdList = new ArrayList<String>(personalIds);
+		// 一括取得単位毎に処理
+		for (int i = 0; i < personalIdList.size(); i += BULK_PERSONAL_ID_SIZE) {
+			List<String> subList = personalIdList.subList(i,
+					Math.min(i + BULK_PERSONAL_ID_SIZE, personalIdList.size()));
+			try {
+				// 申請検出エンティティを一括取得
+				map.putAll(getBulkRequestDetectEntityMap(subList, targetYear, targetMonth, cutoffDate));
+			} finally {
+				// 一括取得した情報群を破棄
+				clearBulk();
+			}
+		}
+		// 申請検出エンティティ群を取得
+		return map;
+	}
+	
+	/**
+	 * 申請検出エンティティ群を一括取得する。<br>
+	 * <br>
+	 * 申請検出に必要な情報を締期間でテーブル毎に一括で取得し、
+	 * {@link #getRequestDetectEntity(String, int, int, int)}と同様の手順で
+	 * 個人ID毎の申請検出エンティティを作成する。<br>
+	 * 入社日或いは退社日により締期間(個人)が締期間と異なる場合は、
+	 * 個人毎にDBから取得する。<br>
+	 * <br>
+	 * @param personalIdList 個人IDリスト
+	 * @param targetYear     対象年
+	 * @param targetMonth    対象月
+	 * @param cutoffDate     締日
+	 * @return 申請検出エンティティ群(キー：個人ID)
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected Map<String, RequestDetectEntityInterface> getBulkRequestDetectEntityMap(List<String> personalIdList,
+			int targetYear, int targetMonth, int cutoffDate) throws MospException {
+		// 個人ID配列を取得
+		String[] personalIds = personalIdList.toArray(new String[personalIdList.size()]);
+		// 締期間初日及び最終日を取得
+		Date firstDate = TimeUtility.getCutoffFirstDate(cutoffDate, targetYear, targetMonth);
+		Date lastDate = TimeUtility.getCutoffLastDate(cutoffDate, targetYear, targetMonth);
+		Date attendanceFirstDate = DateUtility.addDay(firstDate, DAYS_FORMER_REQUEST_DETECT);
+		// 締期間で取得する情報を一括取得
+		bulkEntranceMap = entranceDao.findForPersonalIds(personalIds);
+		bulkRetirementMap = retirementDao.findForPersonalIds(personalIds);
+		bulkAttendanceMap = attendanceDao.findForPersonalIds(personalIds, attendanceFirstDate, lastDate);
+		bulkHolidayRequestMap = holidayRequestDao.findForPersonalIds(personalIds, firstDate, lastDate);
+		bulkWorkOnHolidayRequestMap = workOnHolidayRequestDao.findForPersonalIds(personalIds, firstDate, lastDate);
+		bulkOvertimeRequestMap = overtimeRequestDao.findForPersonalIds(personalIds, firstDate, lastDate);
+		bulkWorkTypeChangeRequestMap = workTypeChangeRequestDao.findForPersonalIds(personalIds, firstDate, lastDate);
+		bulkDifferenceRequestMap = differenceRequestDao.findForPersonalIds(personalIds, firstDate, lastDate);
+		bulkSubstituteMap = substituteDao.findForPersonalIds(personalIds, firstDate, lastDate);
+		bulkSubHolidayRequestMap = subHolidayRequestDao.findForPersonalIds(personalIds, firstDate, lastDate);
+		bulkWorkflowMap = workflowDao.findForPersonalIds(personalIds, firstDate, lastDate);
+		bulkFirstDate = firstDate;
+		bulkLastDate = lastDate;
+		bulkAttendanceFirstDate = attendanceFirstDate;
+		bulkSubHolidayFirstDate = firstDate;
+		bulkWorkflowFirstDate = firstDate;
+		bulkWorkflowLastDate = lastDate;
+		bulkPersonalIdSet = new HashSet<String>(personalIdList);
+		// 申請検出エンティティ群を準備
+		Map<String, RequestDetectEntityInterface> map = new LinkedHashMap<String, RequestDetectEntityInterface>();
+		// 個人ID毎に申請検出エンティティを作成
+		for (String personalId : personalIdList) {
+			map.put(personalId, createRequestDetectEntity(personalId, targetYear, targetMonth, cutoffDate));
+		}
+		// 申請検出エンティティ群を取得
+		return map;
+	}
+	
+	/**
+	 * 申請検出エンティティを作成する。<br>
+	 * <br>
+	 * 一括取得済の個人IDについては、一括取得した情報群から情報を取得する。<br>
+	 * <br>
+	 * @param personalId  個人ID
+	 * @param targetYear  対象年
+	 * @param targetMonth 対象月
+	 * @param cutoffDate  締日
+	 * @return 申請検出エンティティ
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected RequestDetectEntityInterface createRequestDetectEntity(String personalId, int targetYear,
+			int targetMonth, int cutoffDate) throws MospException {
 		// 申請検出エンティティを準備
 		RequestDetectEntityInterface entity = (RequestDetectEntityInterface)createObject(
 				RequestDetectEntityInterface.class);
@@ -590,23 +1301,24 @@ public class TotalTimeEntityReferenceBean extends TimeBean implements TotalTimeE
 		// 休職情報を設定
 		entity.setSuspensionList(suspentionReference.getSuspentionList(personalId));
 		// 締期間(個人)における勤怠申請リスト取得
-		entity.setAttendanceList(attendanceDao.findForList(personalId, DateUtility.addDay(firstDate, -6), lastDate));
+		entity.setAttendanceList(
+				getAttendanceList(personalId, DateUtility.addDay(firstDate, DAYS_FORMER_REQUEST_DETECT), lastDate));
 		// 休暇申請リスト取得
-		entity.setHolidayRequestList(holidayRequestDao.findForTerm(personalId, firstDate, lastDate));
+		entity.setHolidayRequestList(getHolidayRequestList(personalId, firstDate, lastDate));
 		// 休日出勤申請リスト取得
-		entity.setWorkOnHolidayRequestList(workOnHolidayRequestDao.findForList(personalId, firstDate, lastDate));
+		entity.setWorkOnHolidayRequestList(getWorkOnHolidayRequestList(personalId, firstDate, lastDate));
 		// 残業申請リスト取得
-		entity.setOvertimeRequestList(overtimeRequestDao.findForList(personalId, firstDate, lastDate));
+		entity.setOvertimeRequestList(getOvertimeRequestList(personalId, firstDate, lastDate));
 		// 勤務形態変更申請リスト取得
-		entity.setWorkTypeChangeRequestList(workTypeChangeRequestDao.findForTerm(personalId, firstDate, lastDate));
+		entity.setWorkTypeChangeRequestList(getWorkTypeChangeRequestList(personalId, firstDate, lastDate));
 		// 時差出勤申請リスト取得
-		entity.setDifferenceRequestList(differenceRequestDao.findForList(personalId, firstDate, lastDate));
+		entity.setDifferenceRequestList(getDifferenceRequestList(personalId, firstDate, lastDate));
 		// 代休申請リスト取得
-		entity.setSubHolidayRequestList(subHolidayRequestDao.findForList(personalId, firstDate, lastDate));
+		entity.setSubHolidayRequestList(getSubHolidayRequestList(personalId, firstDate, lastDate));
 		// 振替休日リスト取得
-		entity.setSubstituteList(substituteDao.findForTerm(personalId, firstDate, lastDate));
+		entity.setSubstituteList(getSubstituteList(personalId, firstDate, lastDate));
 		// ワークフロー情報群取得
-		entity.setWorkflowMap(workflowDao.findForCondition(personalId, firstDate, lastDate));
+		entity.setWorkflowMap(getWorkflowMap(personalId, firstDate, lastDate));
 		// 申請検出エンティティを取得
 		return entity;
 	}
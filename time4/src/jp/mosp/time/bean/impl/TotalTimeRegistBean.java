@@ -21,6 +21,7 @@
 package jp.mosp.time.bean.impl;
 
 import java.sql.Connection;
+import java.util.ArrayList;
 import java.util.List;
 
 import jp.mosp.framework.base.MospException;
@@ -37,6 +38,11 @@ import jp.mosp.time.dto.settings.impl.TmdTotalTimeDataDto;
  */
 public class TotalTimeRegistBean extends PlatformBean implements TotalTimeRegistBeanInterface {
 	
+	/**
+	 * 一括登録時の挿入レコード上限数(1つの挿入SQLで登録する件数)。<br>
+	 */
+	protected static final int MAX_INSERT_ROWS = 100;
+	
 	/**
 	 * 勤怠集計データDAOクラス。<br>
 	 */
@@ -123,6 +129,36 @@ public class TotalTimeRegistBean extends PlatformBean implements TotalTimeRegist
 		}
 	}
 	
+	@Override
+	public void regist(List<TotalTimeDataDtoInterface> list) throws MospException {
+		// 新規登録対象リスト準備
+		List<TotalTimeDataDtoInterface> insertList = new ArrayList<TotalTimeDataDtoInterface>();
+		for (TotalTimeDataDtoInterface dto : list) {
+			if (dao.findForKey(dto.getPersonalId(), dto.getCalculationYear(), dto.getCalculationMonth()) != null) {
+				// 更新
+				update(dto);
+				if (mospParams.hasErrorMessage()) {
+					return;
+				}
+				continue;
+			}
+			// DTO妥当性確認
+			validate(dto);
+			if (mospParams.hasErrorMessage()) {
+				return;
+			}
+			// レコード識別ID最大値をインクリメントしてDTOに設定
+			dto.setTmdTotalTimeId(dao.nextRecordId());
+			insertList.add(dto);
+		}
+		// 新規登録対象を一括で登録
+		dao.insert(insertList, MAX_INSERT_ROWS);
+		for (TotalTimeDataDtoInterface dto : insertList) {
+			// 追加業務ロジック処理を行う
+			doAdditionalLogic(TimeConst.CODE_KEY_ADD_TOTALTIMEREGISTBEAN_INSERT, dto);
+		}
+	}
+	
 	@Override
 	public void delete(TotalTimeDataDtoInterface dto) throws MospException {
 		// DTO妥当性確認
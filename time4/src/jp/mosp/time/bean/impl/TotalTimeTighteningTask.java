@@ -0,0 +1,126 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.bean.impl;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import jp.mosp.framework.base.DBConnBean;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.instance.InstanceFactory;
+import jp.mosp.time.bean.TotalTimeCalcBeanInterface;
+import jp.mosp.time.dto.settings.CutoffErrorListDtoInterface;
+
+/**
+ * 分割仮締処理クラス。<br>
+ * <br>
+ * {@link TotalTimeCalcBean}で分割された個人IDに対して、
+ * 専用のDBコネクション及び勤怠集計クラスを用いて仮締前の確認或いは仮締を行う。<br>
+ * 仮締を行った場合は、当クラスで取得したDBコネクションでコミットする。<br>
+ * <br>
+ * 処理中に設定されたメッセージは、{@link #getMospParams()}で取得する
+ * MosP処理情報に保持される。<br>
+ */
+public class TotalTimeTighteningTask implements Callable<List<CutoffErrorListDtoInterface>> {
+	
+	/**
+	 * MosP処理情報。<br>
+	 * {@link MospParams#getParallelParams()}で生成されたものを用いる。<br>
+	 */
+	protected MospParams			mospParams;
+	
+	/**
+	 * 対象個人IDコレクション。
+	 */
+	protected Collection<String>	personalIds;
+	
+	/**
+	 * 対象年。
+	 */
+	protected int					targetYear;
+	
+	/**
+	 * 対象月。
+	 */
+	protected int					targetMonth;
+	
+	/**
+	 * 締日コード。
+	 */
+	protected String				cutoffCode;
+	
+	/**
+	 * 確認のみフラグ(true：仮締前の確認のみ行う、false：仮締を行う)。
+	 */
+	protected boolean				isCheckOnly;
+	
+	
+	/**
+	 * 分割仮締処理を生成する。<br>
+	 * @param mospParams  MosP処理情報
+	 * @param personalIds 対象個人IDコレクション
+	 * @param targetYear  対象年
+	 * @param targetMonth 対象月
+	 * @param cutoffCode  締日コード
+	 * @param isCheckOnly 確認のみフラグ(true：仮締前の確認のみ行う、false：仮締を行う)
+	 */
+	public TotalTimeTighteningTask(MospParams mospParams, Collection<String> personalIds, int targetYear,
+			int targetMonth, String cutoffCode, boolean isCheckOnly) {
+		this.mospParams = mospParams.getParallelParams();
+		this.personalIds = personalIds;
+		this.targetYear = targetYear;
+		this.targetMonth = targetMonth;
+		this.cutoffCode = cutoffCode;
+		this.isCheckOnly = isCheckOnly;
+	}
+	
+	@Override
+	public List<CutoffErrorListDtoInterface> call() throws MospException {
+		// DBコネクションを取得
+		DBConnBean dbConnBean = new DBConnBean(mospParams);
+		try {
+			// 勤怠集計クラスを取得
+			TotalTimeCalcBeanInterface calc = (TotalTimeCalcBeanInterface)InstanceFactory.loadBean(
+					TotalTimeCalcBeanInterface.class, mospParams, dbConnBean.getConnection());
+			// 確認のみの場合
+			if (isCheckOnly) {
+				// 仮締前の確認
+				return calc.checkTightening(personalIds, targetYear, targetMonth, cutoffCode);
+			}
+			// 仮締
+			List<CutoffErrorListDtoInterface> errorList = calc.tighteningEach(personalIds, targetYear, targetMonth,
+					cutoffCode);
+			// コミット
+			dbConnBean.commit();
+			return errorList;
+		} finally {
+			// DBコネクション解放(コミットされていない場合はロールバックされる)
+			dbConnBean.releaseConnection();
+		}
+	}
+	
+	/**
+	 * @return mospParams
+	 */
+	public MospParams getMospParams() {
+		return mospParams;
+	}
+	
+}
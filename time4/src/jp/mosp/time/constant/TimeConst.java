@@ -2127,6 +2127,21 @@ public final class TimeConst {
 	 */
 	public static final int		CODE_CUTOFF_STATE_TIGHTENED											= 2;
 	
+	/**
+	 * 打刻反映状況コード(未反映)。<br>
+	 */
+	public static final int		CODE_RECORD_STATUS_WAIT												= 0;
+	
+	/**
+	 * 打刻反映状況コード(反映済)。<br>
+	 */
+	public static final int		CODE_RECORD_STATUS_DONE												= 1;
+	
+	/**
+	 * 打刻反映状況コード(エラー)。<br>
+	 */
+	public static final int		CODE_RECORD_STATUS_ERROR											= 2;
+	
 	/**
 	 * 出勤区分(出勤)。<br>
 	 */
@@ -2302,6 +2317,68 @@ public final class TimeConst {
 	 */
 	public static final String	APP_SHOW_SEASON_HOLIDAY_CODE										= "SeasonHolidayCode";
 	
+	/**
+	 * MosPアプリケーション設定キー(締処理分割人数)。<br>
+	 * 0以下の場合は、分割せずに締処理を行う。<br>
+	 */
+	public static final String	APP_TIGHTENING_CHUNK_SIZE											= "TighteningChunkSize";
+	
+	/**
+	 * MosPアプリケーション設定キー(締処理並列数)。
+	 */
+	public static final String	APP_TIGHTENING_THREADS												= "TighteningThreads";
+	
+	/**
+	 * MosPアプリケーション設定キー(締処理一括確定)。<br>
+	 * trueの場合、全対象者の確認後にエラーが無い場合のみ締処理を行う。<br>
+	 * 分割した場合も、締処理は一つのトランザクションで行う(エラーがあった場合は全て取り消す)。<br>
+	 */
+	public static final String	APP_TIGHTENING_ALL_OR_NOTHING										= "TighteningAllOrNothing";
+	
+	/**
+	 * MosPアプリケーション設定キー(エクスポートストリーミング出力)。<br>
+	 * trueの場合、CSVデータを全件作成せずに1行ずつ作成してレスポンスに出力する。<br>
+	 */
+	public static final String	APP_EXPORT_STREAMING												= "ExportStreaming";
+	
+	/**
+	 * MosPアプリケーション設定キー(エクスポートフェッチサイズ)。<br>
+	 * 0以下の場合は、JDBCドライバの既定値を用いる。<br>
+	 */
+	public static final String	APP_EXPORT_FETCH_SIZE												= "ExportFetchSize";
+	
+	/**
+	 * MosPアプリケーション設定キー(インポート分割件数)。<br>
+	 * 0より大きい場合、インポートファイルを1行ずつ読み込み、分割件数毎に登録及びコミットを行う。<br>
+	 * 0以下の場合は、ファイル全体を読み込んでから登録する。<br>
+	 */
+	public static final String	APP_IMPORT_CHUNK_SIZE												= "ImportChunkSize";
+	
+	/**
+	 * MosPアプリケーション設定キー(帳票分割出力)。<br>
+	 * trueの場合、複数人の出勤簿及び予定簿を全件作成せずに、
+	 * 個人毎に作成してレスポンスに出力する。<br>
+	 */
+	public static final String	APP_REPORT_STREAMING												= "ReportStreaming";
+	
+	/**
+	 * MosPアプリケーション設定キー(打刻受付)。<br>
+	 * trueの場合、ポータルの打刻は打刻受付データに登録した時点で完了とし、
+	 * 勤怠データへの反映は別スレッドで行う。<br>
+	 */
+	public static final String	APP_TIME_RECORD_QUEUE												= "TimeRecordQueue";
+	
+	/**
+	 * MosPアプリケーション設定キー(打刻受付：反映並列数)。
+	 */
+	public static final String	APP_TIME_RECORD_QUEUE_THREADS										= "TimeRecordQueueThreads";
+	
+	/**
+	 * MosPアプリケーション設定キー(打刻受付：一括コミット件数)。<br>
+	 * 同時に受け付けた打刻を、この件数までまとめて登録及びコミットする。<br>
+	 */
+	public static final String	APP_TIME_RECORD_QUEUE_COMMIT_SIZE									= "TimeRecordQueueCommitSize";
+	
 	/**
 	 * 勤務形態プルダウンの変更処理用コードキー。<br>
 	 */
@@ -23,6 +23,7 @@ package jp.mosp.time.dao.settings;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import jp.mosp.framework.base.BaseDaoInterface;
 import jp.mosp.framework.base.MospException;
@@ -54,6 +55,14 @@ public interface AttendanceDaoInterface extends BaseDaoInterface {
 	 */
 	AttendanceDtoInterface findForWorkflow(long workflow) throws MospException;
 	
+	/**
+	 * ワークフロー番号群から勤怠データ情報群を取得する。<br>
+	 * @param workflowSet ワークフロー番号群
+	 * @return 勤怠データ情報群(キー：ワークフロー番号)
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	Map<Long, AttendanceDtoInterface> findForInWorkflow(Set<Long> workflowSet) throws MospException;
+	
 	/**
 	 * 個人IDと開始年月日と終了年月日から勤怠情報を取得する。<br>
 	 * 条件と合致する情報が存在しない場合は、nullを返す。<br>
@@ -65,6 +74,19 @@ public interface AttendanceDaoInterface extends BaseDaoInterface {
 	 */
 	List<AttendanceDtoInterface> findForList(String personalId, Date startDate, Date endDate) throws MospException;
 	
+	/**
+	 * 個人ID配列と開始年月日と終了年月日から勤怠情報を取得する。<br>
+	 * 個人ID毎の勤怠情報リストをマップで返す(キー：個人ID)。<br>
+	 * 個人IDに該当する情報が存在しない場合、マップにその個人IDは含まれない。<br>
+	 * @param personalIds 個人ID配列
+	 * @param startDate 開始年月日
+	 * @param endDate 終了年月日
+	 * @return 勤怠情報リスト群(キー：個人ID)
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	Map<String, List<AttendanceDtoInterface>> findForPersonalIds(String[] personalIds, Date startDate, Date endDate)
+			throws MospException;
+	
 	/**
 	 * 履歴一覧。
 	 * <p>
@@ -50,6 +50,18 @@ public interface AttendanceTransactionDaoInterface extends BaseDaoInterface {
 	Map<Date, AttendanceTransactionDtoInterface> findForTerm(String personalId, Date firstDate, Date lastDate)
 			throws MospException;
 	
+	/**
+	 * 個人ID毎の勤怠トランザクションマップを取得する。<br>
+	 * 個人IDに該当する情報が存在しない場合、マップにその個人IDは含まれない。<br>
+	 * @param personalIds 個人ID配列
+	 * @param firstDate 対象期間初日
+	 * @param lastDate 対象期間末日
+	 * @return 勤怠トランザクションマップ群(キー：個人ID)
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	Map<String, Map<Date, AttendanceTransactionDtoInterface>> findForPersonalIds(String[] personalIds,
+			Date firstDate, Date lastDate) throws MospException;
+	
 	/**
 	 * 勤怠トランザクションの和を取得する。<br>
 	 * @param personalId 個人ID
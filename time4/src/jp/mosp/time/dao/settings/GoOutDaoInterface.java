@@ -58,6 +58,22 @@ public interface GoOutDaoInterface extends BaseDaoInterface {
 	List<GoOutDtoInterface> findForList(String personalId, Date workDate, int timesWork, int goOutType)
 			throws MospException;
 	
+	/**
+	 * 勤怠データ外出情報リスト取得。
+	 * <p>
+	 * 個人IDと勤務回数から、期間内の全外出区分の勤怠データ外出情報リストを取得。<br>
+	 * 勤務日、外出区分、外出回数の順に並べて返す。<br>
+	 * </p>
+	 * @param personalId 個人ID
+	 * @param startDate 開始年月日
+	 * @param endDate 終了年月日
+	 * @param timesWork 勤務回数
+	 * @return 勤怠データ外出情報リスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	List<GoOutDtoInterface> findForTerm(String personalId, Date startDate, Date endDate, int timesWork)
+			throws MospException;
+	
 	/**
 	 * 勤怠データ外出情報リスト取得。
 	 * <p>
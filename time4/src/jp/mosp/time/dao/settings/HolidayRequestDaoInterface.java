@@ -20,6 +20,7 @@ package jp.mosp.time.dao.settings;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import jp.mosp.framework.base.BaseDaoInterface;
 import jp.mosp.framework.base.MospException;
@@ -39,6 +40,14 @@ public interface HolidayRequestDaoInterface extends BaseDaoInterface {
 	 */
 	HolidayRequestDtoInterface findForWorkflow(long workflow) throws MospException;
 	
+	/**
+	 * ワークフロー番号群から休暇申請情報群を取得する。<br>
+	 * @param workflowSet ワークフロー番号群
+	 * @return 休暇申請情報群(キー：ワークフロー番号)
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	Map<Long, HolidayRequestDtoInterface> findForInWorkflow(Set<Long> workflowSet) throws MospException;
+	
 	/**
 	 * 個人IDと申請日から休暇申請リストを取得する。<br>
 	 * @param personalId 個人ID
@@ -66,6 +75,19 @@ public interface HolidayRequestDaoInterface extends BaseDaoInterface {
 	 */
 	List<HolidayRequestDtoInterface> findForTerm(String personalId, Date firstDate, Date lastDate) throws MospException;
 	
+	/**
+	 * 個人ID配列と対象期間初日と対象期間最終日から休暇申請情報を取得する。<br>
+	 * 個人ID毎の休暇申請情報リストをマップで返す(キー：個人ID)。<br>
+	 * 個人IDに該当する情報が存在しない場合、マップにその個人IDは含まれない。<br>
+	 * @param personalIds 個人ID配列
+	 * @param firstDate 対象期間初日
+	 * @param lastDate 対象期間最終日
+	 * @return 休暇申請情報リスト群(キー：個人ID)
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	Map<String, List<HolidayRequestDtoInterface>> findForPersonalIds(String[] personalIds, Date firstDate,
+			Date lastDate) throws MospException;
+	
 	/**
 	 * 個人IDと対象期間と休暇種別1と休暇種別2から休暇申請情報リストを取得する。<br>
 	 * @param personalId 個人ID
@@ -20,6 +20,7 @@ package jp.mosp.time.dao.settings;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import jp.mosp.framework.base.BaseDaoInterface;
 import jp.mosp.framework.base.MospException;
@@ -39,6 +40,14 @@ public interface OvertimeRequestDaoInterface extends BaseDaoInterface {
 	 */
 	OvertimeRequestDtoInterface findForWorkflow(long workflow) throws MospException;
 	
+	/**
+	 * ワークフロー番号群から残業申請情報群を取得する。<br>
+	 * @param workflowSet ワークフロー番号群
+	 * @return 残業申請情報群(キー：ワークフロー番号)
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	Map<Long, OvertimeRequestDtoInterface> findForInWorkflow(Set<Long> workflowSet) throws MospException;
+	
 	/**
 	 * 個人IDと申請日から残業申請リストを取得する。<br>
 	 * @param personalId 個人ID
@@ -58,6 +67,19 @@ public interface OvertimeRequestDaoInterface extends BaseDaoInterface {
 	 */
 	List<OvertimeRequestDtoInterface> findForList(String personalId, Date startDate, Date endDate) throws MospException;
 	
+	/**
+	 * 個人ID配列と開始年月日と終了年月日から残業申請情報を取得する。<br>
+	 * 個人ID毎の残業申請情報リストをマップで返す(キー：個人ID)。<br>
+	 * 個人IDに該当する情報が存在しない場合、マップにその個人IDは含まれない。<br>
+	 * @param personalIds 個人ID配列
+	 * @param startDate 開始年月日
+	 * @param endDate 終了年月日
+	 * @return 残業申請情報リスト群(キー：個人ID)
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	Map<String, List<OvertimeRequestDtoInterface>> findForPersonalIds(String[] personalIds, Date startDate,
+			Date endDate) throws MospException;
+	
 	/**
 	 * 個人IDと対象期間から残業申請情報リストを取得する。<br>
 	 * @param personalId 個人ID
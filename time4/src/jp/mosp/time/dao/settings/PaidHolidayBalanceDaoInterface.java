@@ -0,0 +1,64 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.dao.settings;
+
+import java.util.Date;
+import java.util.List;
+
+import jp.mosp.framework.base.BaseDaoInterface;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.time.dto.settings.PaidHolidayBalanceDtoInterface;
+
+/**
+ * 有給休暇残高台帳DAOインターフェース
+ */
+public interface PaidHolidayBalanceDaoInterface extends BaseDaoInterface {
+	
+	/**
+	 * 個人の有給休暇残高台帳を取得する。<br>
+	 * 取得日及び有効日の昇順に並べる。<br>
+	 * @param personalId 個人ID
+	 * @return 有給休暇残高台帳DTOリスト
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	List<PaidHolidayBalanceDtoInterface> findForPersonalId(String personalId) throws MospException;
+	
+	/**
+	 * 個人及び取得日を指定して有給休暇残高台帳を取得する。<br>
+	 * 更新時には行ロックを取得し、同一付与に対する台帳更新を直列化する。<br>
+	 * 有効日の昇順に並べる。<br>
+	 * @param personalId      個人ID
+	 * @param acquisitionDate 取得日
+	 * @param isUpdate        更新時(行ロックを取得する場合)true
+	 * @return 有給休暇残高台帳DTOリスト
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	List<PaidHolidayBalanceDtoInterface> findForAcquisition(String personalId, Date acquisitionDate, boolean isUpdate)
+			throws MospException;
+	
+	/**
+	 * 有給休暇残高台帳が登録されていない場合に、登録する。<br>
+	 * 個人ID、取得日及び有効日が同じ台帳が他のトランザクションで登録されていた場合(一意制約違反)は、
+	 * 登録前の状態(セーブポイント)までロールバックし、falseを返す。<br>
+	 * @param dto 対象DTO
+	 * @return 登録結果(true：登録した、false：既に登録されていた)
+	 * @throws MospException SQLの作成に失敗した場合、或いは一意制約違反以外のSQL例外が発生した場合
+	 */
+	boolean insertIfAbsent(PaidHolidayBalanceDtoInterface dto) throws MospException;
+	
+}
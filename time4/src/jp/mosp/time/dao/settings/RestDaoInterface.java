@@ -59,6 +59,22 @@ public interface RestDaoInterface extends BaseDaoInterface {
 	 */
 	List<RestDtoInterface> findForList(String personalId, Date workDate, int timesWork) throws MospException;
 	
+	/**
+	 * 勤怠データ休憩情報リスト取得。
+	 * <p>
+	 * 個人IDと勤務回数から、期間内の勤怠データ休憩情報リストを取得。<br>
+	 * 勤務日、休憩回数の順に並べて返す。<br>
+	 * </p>
+	 * @param personalId 個人ID
+	 * @param startDate 開始年月日
+	 * @param endDate 終了年月日
+	 * @param timesWork 勤務回数
+	 * @return 勤怠データ休憩情報リスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	List<RestDtoInterface> findForTerm(String personalId, Date startDate, Date endDate, int timesWork)
+			throws MospException;
+	
 	/**
 	 * 履歴一覧。
 	 * <p>
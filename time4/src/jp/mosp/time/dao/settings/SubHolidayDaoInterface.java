@@ -19,6 +19,7 @@ package jp.mosp.time.dao.settings;
 
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 import jp.mosp.framework.base.BaseDaoInterface;
 import jp.mosp.framework.base.MospException;
@@ -74,6 +75,19 @@ public interface SubHolidayDaoInterface extends BaseDaoInterface {
 	List<SubHolidayDtoInterface> findSubHolidayList(String personalId, Date startDate, Date endDate)
 			throws MospException;
 	
+	/**
+	 * 個人ID配列と開始年月日と終了年月日から代休情報を取得する。<br>
+	 * 個人ID毎の代休情報リストをマップで返す(キー：個人ID)。<br>
+	 * 個人IDに該当する情報が存在しない場合、マップにその個人IDは含まれない。<br>
+	 * @param personalIds 個人ID配列
+	 * @param startDate 開始年月日
+	 * @param endDate 終了年月日
+	 * @return 代休情報リスト群(キー：個人ID)
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	Map<String, List<SubHolidayDtoInterface>> findForPersonalIds(String[] personalIds, Date startDate, Date endDate)
+			throws MospException;
+	
 	/**
 	 * 個人IDで代休データリストを取得する。<br>
 	 * @param personalId 個人ID
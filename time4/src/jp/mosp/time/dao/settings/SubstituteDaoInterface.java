@@ -22,6 +22,7 @@ package jp.mosp.time.dao.settings;
 
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 import jp.mosp.framework.base.BaseDaoInterface;
 import jp.mosp.framework.base.MospException;
@@ -93,6 +94,19 @@ public interface SubstituteDaoInterface extends BaseDaoInterface {
 	 */
 	List<SubstituteDtoInterface> findForTerm(String personalId, Date firstDate, Date lastDate) throws MospException;
 	
+	/**
+	 * 個人ID配列と対象期間初日と対象期間最終日から振替休日情報を取得する。<br>
+	 * 個人ID毎の振替休日情報リストをマップで返す(キー：個人ID)。<br>
+	 * 個人IDに該当する情報が存在しない場合、マップにその個人IDは含まれない。<br>
+	 * @param personalIds 個人ID配列
+	 * @param firstDate 対象期間初日
+	 * @param lastDate 対象期間最終日
+	 * @return 振替休日情報リスト群(キー：個人ID)
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	Map<String, List<SubstituteDtoInterface>> findForPersonalIds(String[] personalIds, Date firstDate, Date lastDate)
+			throws MospException;
+	
 	/**
 	 * 個人IDと振替日から振替休日データリストを取得する。<br>
 	 * @param personalId 個人ID
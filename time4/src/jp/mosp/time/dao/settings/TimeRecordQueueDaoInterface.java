@@ -0,0 +1,51 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.dao.settings;
+
+import java.util.Date;
+import java.util.List;
+
+import jp.mosp.framework.base.BaseDaoInterface;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.time.dto.settings.TimeRecordQueueDtoInterface;
+
+/**
+ * 打刻受付データDAOインターフェース
+ */
+public interface TimeRecordQueueDaoInterface extends BaseDaoInterface {
+	
+	/**
+	 * 反映状況を指定して打刻受付データを取得する。<br>
+	 * 受付順(レコード識別IDの昇順)に並べる。<br>
+	 * @param recordStatus 反映状況
+	 * @return 打刻受付データDTOリスト
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	List<TimeRecordQueueDtoInterface> findForStatus(int recordStatus) throws MospException;
+	
+	/**
+	 * 打刻時刻が開始時刻以降の個人の打刻受付データを取得する。<br>
+	 * 打刻時刻の昇順に並べる。<br>
+	 * @param personalId 個人ID
+	 * @param startTime  開始時刻
+	 * @return 打刻受付データDTOリスト
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	List<TimeRecordQueueDtoInterface> findForPerson(String personalId, Date startTime) throws MospException;
+	
+}
@@ -58,6 +58,18 @@ public interface TotalTimeCorrectionDaoInterface extends BaseDaoInterface {
 	List<TotalTimeCorrectionDtoInterface> findForHistory(String personalId, int calculationYear, int calculationMonth)
 			throws MospException;
 	
+	/**
+	 * 個人ID毎の最新の勤怠集計修正情報を取得する。<br>
+	 * 個人IDに該当する情報が存在しない場合、マップにその個人IDは含まれない。<br>
+	 * @param personalIds 個人ID配列
+	 * @param calculationYear 年
+	 * @param calculationMonth 月
+	 * @return 勤怠集計修正情報群(キー：個人ID)
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	Map<String, TotalTimeCorrectionDtoInterface> findForPersonalIds(String[] personalIds, int calculationYear,
+			int calculationMonth) throws MospException;
+	
 	/**
 	 * 検索条件取得。
 	 * @return 設定適用検索条件マップ
@@ -91,6 +91,18 @@ public interface TotalTimeEmployeeDaoInterface extends BaseDaoInterface {
 	 */
 	List<TotalTimeEmployeeDtoInterface> findForSearch(Map<String, Object> param) throws MospException;
 	
+	/**
+	 * 個人ID毎の社員勤怠集計管理情報を取得する。<br>
+	 * 個人IDに該当する情報が存在しない場合、マップにその個人IDは含まれない。<br>
+	 * @param personalIds 個人ID配列
+	 * @param calculationYear 年
+	 * @param calculationMonth 月
+	 * @return 社員勤怠集計管理情報群(キー：個人ID)
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	Map<String, TotalTimeEmployeeDtoInterface> findForPersonalIds(String[] personalIds, int calculationYear,
+			int calculationMonth) throws MospException;
+	
 	/**
 	 * 検索条件取得。
 	 * @return 残業申請検索条件マップ
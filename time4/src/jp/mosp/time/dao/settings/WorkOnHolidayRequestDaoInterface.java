@@ -20,6 +20,7 @@ package jp.mosp.time.dao.settings;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import jp.mosp.framework.base.BaseDaoInterface;
 import jp.mosp.framework.base.MospException;
@@ -51,6 +52,14 @@ public interface WorkOnHolidayRequestDaoInterface extends BaseDaoInterface {
 	 */
 	WorkOnHolidayRequestDtoInterface findForWorkflow(long workflow) throws MospException;
 	
+	/**
+	 * ワークフロー番号群から休日出勤申請情報群を取得する。<br>
+	 * @param workflowSet ワークフロー番号群
+	 * @return 休日出勤申請情報群(キー：ワークフロー番号)
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	Map<Long, WorkOnHolidayRequestDtoInterface> findForInWorkflow(Set<Long> workflowSet) throws MospException;
+	
 	/**
 	 * 履歴一覧。
 	 * <p>
@@ -88,6 +97,19 @@ public interface WorkOnHolidayRequestDaoInterface extends BaseDaoInterface {
 	List<WorkOnHolidayRequestDtoInterface> findForList(String personalId, Date startDate, Date endDate)
 			throws MospException;
 	
+	/**
+	 * 個人ID配列と開始年月日と終了年月日から休日出勤申請情報を取得する。<br>
+	 * 個人ID毎の休日出勤申請情報リストをマップで返す(キー：個人ID)。<br>
+	 * 個人IDに該当する情報が存在しない場合、マップにその個人IDは含まれない。<br>
+	 * @param personalIds 個人ID配列
+	 * @param startDate 開始年月日
+	 * @param endDate 終了年月日
+	 * @return 休日出勤申請情報リスト群(キー：個人ID)
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	Map<String, List<WorkOnHolidayRequestDtoInterface>> findForPersonalIds(String[] personalIds, Date startDate,
+			Date endDate) throws MospException;
+	
 	/**
 	 * 個人IDと対象期間から休日出勤申請情報リストを取得する。<br>
 	 * @param personalId 個人ID
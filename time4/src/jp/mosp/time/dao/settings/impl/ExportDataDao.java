@@ -28,6 +28,7 @@ import jp.mosp.platform.base.PlatformDao;
 import jp.mosp.platform.dao.human.HumanDaoInterface;
 import jp.mosp.platform.dao.human.impl.PfmHumanDao;
 import jp.mosp.platform.dao.workflow.WorkflowDaoInterface;
+import jp.mosp.time.constant.TimeConst;
 import jp.mosp.time.dao.settings.ExportDataDaoInterface;
 
 /**
@@ -52,6 +53,17 @@ public class ExportDataDao extends PlatformDao implements ExportDataDaoInterface
 		humanDao = (HumanDaoInterface)loadDao(HumanDaoInterface.class);
 	}
 	
+	/**
+	 * {@inheritDoc}<br>
+	 * 検索結果が大量となるため、フェッチサイズを設定する。<br>
+	 */
+	@Override
+	protected void prepareStatement(String sql) throws MospException {
+		super.prepareStatement(sql);
+		// フェッチサイズ設定
+		setFetchSize(mospParams.getApplicationProperty(TimeConst.APP_EXPORT_FETCH_SIZE, 0));
+	}
+	
 	@Override
 	public BaseDto mapping() {
 		// 処理なし
@@ -23,6 +23,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import jp.mosp.framework.base.BaseDto;
 import jp.mosp.framework.base.BaseDtoInterface;
@@ -934,6 +935,43 @@ public class TmdAttendanceDao extends PlatformDao implements AttendanceDaoInterf
 		}
 	}
 	
+	@Override
+	public Map<String, List<AttendanceDtoInterface>> findForPersonalIds(String[] personalIds, Date startDate,
+			Date endDate) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(in(COL_PERSONAL_ID, personalIds.length));
+			sb.append(and());
+			sb.append(greaterEqual(COL_WORK_DATE));
+			sb.append(and());
+			sb.append(lessEqual(COL_WORK_DATE));
+			prepareStatement(sb.toString());
+			setParamsIn(personalIds);
+			setParam(index++, startDate);
+			setParam(index++, endDate);
+			executeQuery();
+			Map<String, List<AttendanceDtoInterface>> map = new HashMap<String, List<AttendanceDtoInterface>>();
+			while (next()) {
+				AttendanceDtoInterface dto = (AttendanceDtoInterface)mapping();
+				List<AttendanceDtoInterface> list = map.get(dto.getPersonalId());
+				if (list == null) {
+					list = new ArrayList<AttendanceDtoInterface>();
+					map.put(dto.getPersonalId(), list);
+				}
+				list.add(dto);
+			}
+			return map;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
 	@Override
 	public AttendanceDtoInterface findForWorkflow(long workflow) throws MospException {
 		try {
@@ -959,6 +997,34 @@ public class TmdAttendanceDao extends PlatformDao implements AttendanceDaoInterf
 		}
 	}
 	
+	@Override
+	public Map<Long, AttendanceDtoInterface> findForInWorkflow(Set<Long> workflowSet) throws MospException {
+		Map<Long, AttendanceDtoInterface> map = new HashMap<Long, AttendanceDtoInterface>();
+		if (workflowSet.isEmpty()) {
+			return map;
+		}
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(in(COL_WORKFLOW, workflowSet.size()));
+			prepareStatement(sb.toString());
+			setParamsIn(workflowSet);
+			executeQuery();
+			while (next()) {
+				AttendanceDtoInterface dto = (AttendanceDtoInterface)mapping();
+				map.put(dto.getWorkflow(), dto);
+			}
+			return map;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
 	@Override
 	public List<AttendanceDtoInterface> findForWorkflowStatus(String personalId, int workflowStage,
 			String workflowStatus, String routeCode) throws MospException {
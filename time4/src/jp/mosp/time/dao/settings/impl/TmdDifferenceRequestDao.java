@@ -23,6 +23,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import jp.mosp.framework.base.BaseDto;
 import jp.mosp.framework.base.BaseDtoInterface;
@@ -271,6 +272,43 @@ public class TmdDifferenceRequestDao extends PlatformDao implements DifferenceRe
 		}
 	}
 	
+	@Override
+	public Map<String, List<DifferenceRequestDtoInterface>> findForPersonalIds(String[] personalIds, Date startDate,
+			Date endDate) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(in(COL_PERSONAL_ID, personalIds.length));
+			sb.append(and());
+			sb.append(greaterEqual(COL_REQUEST_DATE));
+			sb.append(and());
+			sb.append(lessEqual(COL_REQUEST_DATE));
+			prepareStatement(sb.toString());
+			setParamsIn(personalIds);
+			setParam(index++, startDate);
+			setParam(index++, endDate);
+			executeQuery();
+			Map<String, List<DifferenceRequestDtoInterface>> map = new HashMap<String, List<DifferenceRequestDtoInterface>>();
+			while (next()) {
+				DifferenceRequestDtoInterface dto = (DifferenceRequestDtoInterface)mapping();
+				List<DifferenceRequestDtoInterface> list = map.get(dto.getPersonalId());
+				if (list == null) {
+					list = new ArrayList<DifferenceRequestDtoInterface>();
+					map.put(dto.getPersonalId(), list);
+				}
+				list.add(dto);
+			}
+			return map;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
 	@Override
 	public DifferenceRequestDtoInterface findForKeyOnWorkflow(String personalId, Date requestDate)
 			throws MospException {
@@ -331,6 +369,34 @@ public class TmdDifferenceRequestDao extends PlatformDao implements DifferenceRe
 		}
 	}
 	
+	@Override
+	public Map<Long, DifferenceRequestDtoInterface> findForInWorkflow(Set<Long> workflowSet) throws MospException {
+		Map<Long, DifferenceRequestDtoInterface> map = new HashMap<Long, DifferenceRequestDtoInterface>();
+		if (workflowSet.isEmpty()) {
+			return map;
+		}
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(in(COL_WORKFLOW, workflowSet.size()));
+			prepareStatement(sb.toString());
+			setParamsIn(workflowSet);
+			executeQuery();
+			while (next()) {
+				DifferenceRequestDtoInterface dto = (DifferenceRequestDtoInterface)mapping();
+				map.put(dto.getWorkflow(), dto);
+			}
+			return map;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
 	@Override
 	public List<DifferenceRequestDtoInterface> findForWorkflowStatus(String personalId, int workflowStage,
 			String workflowStatus, String routeCode) throws MospException {
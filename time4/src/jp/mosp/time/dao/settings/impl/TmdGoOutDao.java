@@ -146,6 +146,38 @@ public class TmdGoOutDao extends PlatformDao implements GoOutDaoInterface {
 		}
 	}
 	
+	@Override
+	public List<GoOutDtoInterface> findForTerm(String personalId, Date startDate, Date endDate, int timesWork)
+			throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(and());
+			sb.append(equal(COL_PERSONAL_ID));
+			sb.append(and());
+			sb.append(greaterEqual(COL_WORK_DATE));
+			sb.append(and());
+			sb.append(lessEqual(COL_WORK_DATE));
+			sb.append(and());
+			sb.append(equal(COL_TIMES_WORK));
+			sb.append(getOrderByColumns(COL_WORK_DATE, COL_GO_OUT_TYPE, COL_TIMES_GO_OUT));
+			prepareStatement(sb.toString());
+			setParam(index++, personalId);
+			setParam(index++, startDate);
+			setParam(index++, endDate);
+			setParam(index++, timesWork);
+			executeQuery();
+			return mappingAll();
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
 	@Override
 	public int update(BaseDtoInterface baseDto) throws MospException {
 		try {
@@ -22,6 +22,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import jp.mosp.framework.base.BaseDto;
 import jp.mosp.framework.base.BaseDtoInterface;
@@ -511,6 +512,34 @@ public class TmdHolidayRequestDao extends PlatformDao implements HolidayRequestD
 		}
 	}
 	
+	@Override
+	public Map<Long, HolidayRequestDtoInterface> findForInWorkflow(Set<Long> workflowSet) throws MospException {
+		Map<Long, HolidayRequestDtoInterface> map = new HashMap<Long, HolidayRequestDtoInterface>();
+		if (workflowSet.isEmpty()) {
+			return map;
+		}
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(in(COL_WORKFLOW, workflowSet.size()));
+			prepareStatement(sb.toString());
+			setParamsIn(workflowSet);
+			executeQuery();
+			while (next()) {
+				HolidayRequestDtoInterface dto = (HolidayRequestDtoInterface)mapping();
+				map.put(dto.getWorkflow(), dto);
+			}
+			return map;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
 	@Override
 	public List<HolidayRequestDtoInterface> findForList(String personalId, Date requestDate) throws MospException {
 		try {
@@ -854,6 +883,44 @@ public class TmdHolidayRequestDao extends PlatformDao implements HolidayRequestD
 		}
 	}
 	
+	@Override
+	public Map<String, List<HolidayRequestDtoInterface>> findForPersonalIds(String[] personalIds, Date firstDate,
+			Date lastDate) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(in(COL_PERSONAL_ID, personalIds.length));
+			sb.append(and());
+			sb.append(lessEqual(COL_REQUEST_START_DATE));
+			sb.append(and());
+			sb.append(greaterEqual(COL_REQUEST_END_DATE));
+			sb.append(getOrderByColumn(COL_REQUEST_START_DATE, COL_REQUEST_END_DATE));
+			prepareStatement(sb.toString());
+			setParamsIn(personalIds);
+			setParam(index++, lastDate, false);
+			setParam(index++, firstDate, false);
+			executeQuery();
+			Map<String, List<HolidayRequestDtoInterface>> map = new HashMap<String, List<HolidayRequestDtoInterface>>();
+			while (next()) {
+				HolidayRequestDtoInterface dto = (HolidayRequestDtoInterface)mapping();
+				List<HolidayRequestDtoInterface> list = map.get(dto.getPersonalId());
+				if (list == null) {
+					list = new ArrayList<HolidayRequestDtoInterface>();
+					map.put(dto.getPersonalId(), list);
+				}
+				list.add(dto);
+			}
+			return map;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
 	@Override
 	public List<HolidayRequestDtoInterface> findForTerm(String personalId, Date firstDate, Date lastDate,
 			int holidayType1, String holidayType2) throws MospException {
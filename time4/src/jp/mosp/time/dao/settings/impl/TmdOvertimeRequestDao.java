@@ -25,6 +25,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import jp.mosp.framework.base.BaseDto;
 import jp.mosp.framework.base.BaseDtoInterface;
@@ -219,6 +220,43 @@ public class TmdOvertimeRequestDao extends PlatformDao implements OvertimeReques
 		}
 	}
 	
+	@Override
+	public Map<String, List<OvertimeRequestDtoInterface>> findForPersonalIds(String[] personalIds, Date startDate,
+			Date endDate) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(in(COL_PERSONAL_ID, personalIds.length));
+			sb.append(and());
+			sb.append(greaterEqual(COL_REQUEST_DATE));
+			sb.append(and());
+			sb.append(lessEqual(COL_REQUEST_DATE));
+			prepareStatement(sb.toString());
+			setParamsIn(personalIds);
+			setParam(index++, startDate);
+			setParam(index++, endDate);
+			executeQuery();
+			Map<String, List<OvertimeRequestDtoInterface>> map = new HashMap<String, List<OvertimeRequestDtoInterface>>();
+			while (next()) {
+				OvertimeRequestDtoInterface dto = (OvertimeRequestDtoInterface)mapping();
+				List<OvertimeRequestDtoInterface> list = map.get(dto.getPersonalId());
+				if (list == null) {
+					list = new ArrayList<OvertimeRequestDtoInterface>();
+					map.put(dto.getPersonalId(), list);
+				}
+				list.add(dto);
+			}
+			return map;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
 	@Override
 	public List<OvertimeRequestDtoInterface> findForTerm(String personalId, Date firstDate, Date lastDate)
 			throws MospException {
@@ -329,6 +367,34 @@ public class TmdOvertimeRequestDao extends PlatformDao implements OvertimeReques
 		}
 	}
 	
+	@Override
+	public Map<Long, OvertimeRequestDtoInterface> findForInWorkflow(Set<Long> workflowSet) throws MospException {
+		Map<Long, OvertimeRequestDtoInterface> map = new HashMap<Long, OvertimeRequestDtoInterface>();
+		if (workflowSet.isEmpty()) {
+			return map;
+		}
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(in(COL_WORKFLOW, workflowSet.size()));
+			prepareStatement(sb.toString());
+			setParamsIn(workflowSet);
+			executeQuery();
+			while (next()) {
+				OvertimeRequestDtoInterface dto = (OvertimeRequestDtoInterface)mapping();
+				map.put(dto.getWorkflow(), dto);
+			}
+			return map;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
 	@Override
 	public OvertimeRequestDtoInterface findForKeyOnWorkflow(String personalId, Date requestDate, int overtimeType)
 			throws MospException {
@@ -0,0 +1,332 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.dao.settings.impl;
+
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import jp.mosp.framework.base.BaseDao;
+import jp.mosp.framework.base.BaseDto;
+import jp.mosp.framework.base.BaseDtoInterface;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.time.dao.settings.PaidHolidayBalanceDaoInterface;
+import jp.mosp.time.dto.settings.PaidHolidayBalanceDtoInterface;
+import jp.mosp.time.dto.settings.impl.TmdPaidHolidayBalanceDto;
+
+/**
+ * 有給休暇残高台帳DAOクラス。
+ */
+public class TmdPaidHolidayBalanceDao extends BaseDao implements PaidHolidayBalanceDaoInterface {
+	
+	/**
+	 * 有給休暇残高台帳。
+	 */
+	public static final String	TABLE							= "tmd_paid_holiday_balance";
+	
+	/**
+	 * レコード識別ID。
+	 */
+	public static final String	COL_TMD_PAID_HOLIDAY_BALANCE_ID	= "tmd_paid_holiday_balance_id";
+	
+	/**
+	 * 個人ID。
+	 */
+	public static final String	COL_PERSONAL_ID					= "personal_id";
+	
+	/**
+	 * 取得日。
+	 */
+	public static final String	COL_ACQUISITION_DATE			= "acquisition_date";
+	
+	/**
+	 * 有効日。
+	 */
+	public static final String	COL_ACTIVATE_DATE				= "activate_date";
+	
+	/**
+	 * 期限日。
+	 */
+	public static final String	COL_LIMIT_DATE					= "limit_date";
+	
+	/**
+	 * 手動付与日数。
+	 */
+	public static final String	COL_GIVING_DAY					= "giving_day";
+	
+	/**
+	 * 手動付与時間数。
+	 */
+	public static final String	COL_GIVING_HOUR					= "giving_hour";
+	
+	/**
+	 * 手動廃棄日数。
+	 */
+	public static final String	COL_CANCEL_DAY					= "cancel_day";
+	
+	/**
+	 * 手動廃棄時間数。
+	 */
+	public static final String	COL_CANCEL_HOUR					= "cancel_hour";
+	
+	/**
+	 * 手動付与廃棄最終有効日。
+	 */
+	public static final String	COL_TRANSACTION_LAST_DATE		= "transaction_last_date";
+	
+	/**
+	 * 申請日数。
+	 */
+	public static final String	COL_REQUEST_DAY					= "request_day";
+	
+	/**
+	 * 申請時間数。
+	 */
+	public static final String	COL_REQUEST_HOUR				= "request_hour";
+	
+	/**
+	 * 申請最終開始日。
+	 */
+	public static final String	COL_REQUEST_LAST_DATE			= "request_last_date";
+	
+	/**
+	 * 承認済日数。
+	 */
+	public static final String	COL_APPROVED_DAY				= "approved_day";
+	
+	/**
+	 * 承認済時間数。
+	 */
+	public static final String	COL_APPROVED_HOUR				= "approved_hour";
+	
+	/**
+	 * 承認済最終終了日。
+	 */
+	public static final String	COL_APPROVED_LAST_DATE			= "approved_last_date";
+	
+	/**
+	 * キー。
+	 */
+	public static final String	KEY_1							= COL_TMD_PAID_HOLIDAY_BALANCE_ID;
+	
+	/**
+	 * SQLSTATE(一意制約違反)。
+	 */
+	protected static final String	SQL_STATE_UNIQUE_VIOLATION		= "23505";
+	
+	
+	/**
+	 * コンストラクタ。
+	 */
+	public TmdPaidHolidayBalanceDao() {
+		// 処理無し
+	}
+	
+	@Override
+	public void initDao() {
+		// 処理無し
+	}
+	
+	@Override
+	public BaseDto mapping() throws MospException {
+		TmdPaidHolidayBalanceDto dto = new TmdPaidHolidayBalanceDto();
+		dto.setTmdPaidHolidayBalanceId(getLong(COL_TMD_PAID_HOLIDAY_BALANCE_ID));
+		dto.setPersonalId(getString(COL_PERSONAL_ID));
+		dto.setAcquisitionDate(getDate(COL_ACQUISITION_DATE));
+		dto.setActivateDate(getDate(COL_ACTIVATE_DATE));
+		dto.setLimitDate(getDate(COL_LIMIT_DATE));
+		dto.setGivingDay(getDouble(COL_GIVING_DAY));
+		dto.setGivingHour(getInt(COL_GIVING_HOUR));
+		dto.setCancelDay(getDouble(COL_CANCEL_DAY));
+		dto.setCancelHour(getInt(COL_CANCEL_HOUR));
+		dto.setTransactionLastDate(getDate(COL_TRANSACTION_LAST_DATE));
+		dto.setRequestDay(getDouble(COL_REQUEST_DAY));
+		dto.setRequestHour(getInt(COL_REQUEST_HOUR));
+		dto.setRequestLastDate(getDate(COL_REQUEST_LAST_DATE));
+		dto.setApprovedDay(getDouble(COL_APPROVED_DAY));
+		dto.setApprovedHour(getInt(COL_APPROVED_HOUR));
+		dto.setApprovedLastDate(getDate(COL_APPROVED_LAST_DATE));
+		mappingCommonInfo(dto);
+		return dto;
+	}
+	
+	@Override
+	public List<PaidHolidayBalanceDtoInterface> mappingAll() throws MospException {
+		List<PaidHolidayBalanceDtoInterface> list = new ArrayList<PaidHolidayBalanceDtoInterface>();
+		while (next()) {
+			list.add((PaidHolidayBalanceDtoInterface)mapping());
+		}
+		return list;
+	}
+	
+	@Override
+	public List<PaidHolidayBalanceDtoInterface> findForPersonalId(String personalId) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(and());
+			sb.append(equal(COL_PERSONAL_ID));
+			sb.append(getOrderByColumn(COL_ACQUISITION_DATE, COL_ACTIVATE_DATE));
+			prepareStatement(sb.toString());
+			setParam(index++, personalId);
+			executeQuery();
+			return mappingAll();
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public List<PaidHolidayBalanceDtoInterface> findForAcquisition(String personalId, Date acquisitionDate,
+			boolean isUpdate) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(and());
+			sb.append(equal(COL_PERSONAL_ID));
+			sb.append(and());
+			sb.append(equal(COL_ACQUISITION_DATE));
+			sb.append(getOrderByColumn(COL_ACTIVATE_DATE));
+			if (isUpdate) {
+				sb.append(getForUpdate());
+			}
+			prepareStatement(sb.toString());
+			setParam(index++, personalId);
+			setParam(index++, acquisitionDate);
+			executeQuery();
+			return mappingAll();
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public boolean insertIfAbsent(PaidHolidayBalanceDtoInterface dto) throws MospException {
+		Savepoint savepoint = null;
+		try {
+			// 一意制約違反時にトランザクションを継続させるためセーブポイントを設定
+			savepoint = connection.setSavepoint();
+			insert(dto);
+			connection.releaseSavepoint(savepoint);
+			return true;
+		} catch (MospException e) {
+			// 一意制約違反でない場合
+			if (savepoint == null || isUniqueViolation(e) == false) {
+				throw e;
+			}
+			// セーブポイントまでロールバック
+			try {
+				connection.rollback(savepoint);
+			} catch (SQLException e1) {
+				throw new MospException(e1);
+			}
+			return false;
+		} catch (SQLException e) {
+			throw new MospException(e);
+		} finally {
+			releasePreparedStatement();
+		}
+	}
+	
+	/**
+	 * 一意制約違反による例外であるかを確認する。<br>
+	 * @param e 例外
+	 * @return 確認結果(true：一意制約違反による例外である、false：そうでない)
+	 */
+	protected boolean isUniqueViolation(MospException e) {
+		for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+			if (cause instanceof SQLException
+					&& SQL_STATE_UNIQUE_VIOLATION.equals(((SQLException)cause).getSQLState())) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	@Override
+	public int update(BaseDtoInterface baseDto) throws MospException {
+		try {
+			index = 1;
+			prepareStatement(getUpdateQuery(getClass()));
+			setParams(baseDto, false);
+			PaidHolidayBalanceDtoInterface dto = (PaidHolidayBalanceDtoInterface)baseDto;
+			setParam(index++, dto.getTmdPaidHolidayBalanceId());
+			executeUpdate();
+			chkUpdate(1);
+			return cnt;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public int delete(BaseDtoInterface baseDto) throws MospException {
+		try {
+			index = 1;
+			prepareStatement(getDeleteQuery(getClass()));
+			PaidHolidayBalanceDtoInterface dto = (PaidHolidayBalanceDtoInterface)baseDto;
+			setParam(index++, dto.getTmdPaidHolidayBalanceId());
+			executeUpdate();
+			chkDelete(1);
+			return cnt;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public void setParams(BaseDtoInterface baseDto, boolean isInsert) throws MospException {
+		PaidHolidayBalanceDtoInterface dto = (PaidHolidayBalanceDtoInterface)baseDto;
+		setParam(index++, dto.getTmdPaidHolidayBalanceId());
+		setParam(index++, dto.getPersonalId());
+		setParam(index++, dto.getAcquisitionDate());
+		setParam(index++, dto.getActivateDate());
+		setParam(index++, dto.getLimitDate());
+		setParam(index++, dto.getGivingDay());
+		setParam(index++, dto.getGivingHour());
+		setParam(index++, dto.getCancelDay());
+		setParam(index++, dto.getCancelHour());
+		setParam(index++, dto.getTransactionLastDate());
+		setParam(index++, dto.getRequestDay());
+		setParam(index++, dto.getRequestHour());
+		setParam(index++, dto.getRequestLastDate());
+		setParam(index++, dto.getApprovedDay());
+		setParam(index++, dto.getApprovedHour());
+		setParam(index++, dto.getApprovedLastDate());
+		setCommonParams(baseDto, isInsert);
+	}
+	
+}
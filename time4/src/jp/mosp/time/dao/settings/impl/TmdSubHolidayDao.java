@@ -22,7 +22,9 @@ package jp.mosp.time.dao.settings.impl;
 
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import jp.mosp.framework.base.BaseDto;
 import jp.mosp.framework.base.BaseDtoInterface;
@@ -287,6 +289,43 @@ public class TmdSubHolidayDao extends PlatformDao implements SubHolidayDaoInterf
 		}
 	}
 	
+	@Override
+	public Map<String, List<SubHolidayDtoInterface>> findForPersonalIds(String[] personalIds, Date startDate,
+			Date endDate) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(in(COL_PERSONAL_ID, personalIds.length));
+			sb.append(and());
+			sb.append(greaterEqual(COL_WORK_DATE));
+			sb.append(and());
+			sb.append(lessEqual(COL_WORK_DATE));
+			prepareStatement(sb.toString());
+			setParamsIn(personalIds);
+			setParam(index++, startDate);
+			setParam(index++, endDate);
+			executeQuery();
+			Map<String, List<SubHolidayDtoInterface>> map = new HashMap<String, List<SubHolidayDtoInterface>>();
+			while (next()) {
+				SubHolidayDtoInterface dto = (SubHolidayDtoInterface)mapping();
+				List<SubHolidayDtoInterface> list = map.get(dto.getPersonalId());
+				if (list == null) {
+					list = new ArrayList<SubHolidayDtoInterface>();
+					map.put(dto.getPersonalId(), list);
+				}
+				list.add(dto);
+			}
+			return map;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
 	@Override
 	public List<SubHolidayDtoInterface> findSubHolidayList(String personalId) throws MospException {
 		try {
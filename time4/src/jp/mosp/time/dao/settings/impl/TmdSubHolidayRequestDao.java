@@ -22,6 +22,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import jp.mosp.framework.base.BaseDto;
 import jp.mosp.framework.base.BaseDtoInterface;
@@ -189,6 +190,34 @@ public class TmdSubHolidayRequestDao extends PlatformDao implements SubHolidayRe
 		}
 	}
 	
+	@Override
+	public Map<Long, SubHolidayRequestDtoInterface> findForInWorkflow(Set<Long> workflowSet) throws MospException {
+		Map<Long, SubHolidayRequestDtoInterface> map = new HashMap<Long, SubHolidayRequestDtoInterface>();
+		if (workflowSet.isEmpty()) {
+			return map;
+		}
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(in(COL_WORKFLOW, workflowSet.size()));
+			prepareStatement(sb.toString());
+			setParamsIn(workflowSet);
+			executeQuery();
+			while (next()) {
+				SubHolidayRequestDtoInterface dto = (SubHolidayRequestDtoInterface)mapping();
+				map.put(dto.getWorkflow(), dto);
+			}
+			return map;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
 	@Override
 	public List<SubHolidayRequestDtoInterface> findForList(String personalId) throws MospException {
 		try {
@@ -262,6 +291,43 @@ public class TmdSubHolidayRequestDao extends PlatformDao implements SubHolidayRe
 		}
 	}
 	
+	@Override
+	public Map<String, List<SubHolidayRequestDtoInterface>> findForPersonalIds(String[] personalIds, Date startDate,
+			Date endDate) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(in(COL_PERSONAL_ID, personalIds.length));
+			sb.append(and());
+			sb.append(greaterEqual(COL_REQUEST_DATE));
+			sb.append(and());
+			sb.append(lessEqual(COL_REQUEST_DATE));
+			prepareStatement(sb.toString());
+			setParamsIn(personalIds);
+			setParam(index++, startDate);
+			setParam(index++, endDate);
+			executeQuery();
+			Map<String, List<SubHolidayRequestDtoInterface>> map = new HashMap<String, List<SubHolidayRequestDtoInterface>>();
+			while (next()) {
+				SubHolidayRequestDtoInterface dto = (SubHolidayRequestDtoInterface)mapping();
+				List<SubHolidayRequestDtoInterface> list = map.get(dto.getPersonalId());
+				if (list == null) {
+					list = new ArrayList<SubHolidayRequestDtoInterface>();
+					map.put(dto.getPersonalId(), list);
+				}
+				list.add(dto);
+			}
+			return map;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
 	@Override
 	public List<SubHolidayRequestDtoInterface> findForList(String personalId, Date workDate, int timesWork,
 			int workDateSubHolidayType) throws MospException {
@@ -22,7 +22,9 @@ package jp.mosp.time.dao.settings.impl;
 
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import jp.mosp.framework.base.BaseDto;
 import jp.mosp.framework.base.BaseDtoInterface;
@@ -256,6 +258,44 @@ public class TmdSubstituteDao extends PlatformDao implements SubstituteDaoInterf
 		}
 	}
 	
+	@Override
+	public Map<String, List<SubstituteDtoInterface>> findForPersonalIds(String[] personalIds, Date firstDate,
+			Date lastDate) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(in(COL_PERSONAL_ID, personalIds.length));
+			sb.append(and());
+			sb.append(lessEqual(COL_SUBSTITUTE_DATE));
+			sb.append(and());
+			sb.append(greaterEqual(COL_SUBSTITUTE_DATE));
+			sb.append(getOrderByColumn(COL_SUBSTITUTE_DATE));
+			prepareStatement(sb.toString());
+			setParamsIn(personalIds);
+			setParam(index++, lastDate, false);
+			setParam(index++, firstDate, false);
+			executeQuery();
+			Map<String, List<SubstituteDtoInterface>> map = new HashMap<String, List<SubstituteDtoInterface>>();
+			while (next()) {
+				SubstituteDtoInterface dto = (SubstituteDtoInterface)mapping();
+				List<SubstituteDtoInterface> list = map.get(dto.getPersonalId());
+				if (list == null) {
+					list = new ArrayList<SubstituteDtoInterface>();
+					map.put(dto.getPersonalId(), list);
+				}
+				list.add(dto);
+			}
+			return map;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
 	@Override
 	public List<SubstituteDtoInterface> findForWorkflow(long workflow) throws MospException {
 		try {
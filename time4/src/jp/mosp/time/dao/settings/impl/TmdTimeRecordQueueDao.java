@@ -0,0 +1,208 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.dao.settings.impl;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import jp.mosp.framework.base.BaseDao;
+import jp.mosp.framework.base.BaseDto;
+import jp.mosp.framework.base.BaseDtoInterface;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.time.dao.settings.TimeRecordQueueDaoInterface;
+import jp.mosp.time.dto.settings.TimeRecordQueueDtoInterface;
+import jp.mosp.time.dto.settings.impl.TmdTimeRecordQueueDto;
+
+/**
+ * 打刻受付データDAOクラス。
+ */
+public class TmdTimeRecordQueueDao extends BaseDao implements TimeRecordQueueDaoInterface {
+	
+	/**
+	 * 打刻受付データ。
+	 */
+	public static final String	TABLE							= "tmd_time_record_queue";
+	
+	/**
+	 * レコード識別ID。
+	 */
+	public static final String	COL_TMD_TIME_RECORD_QUEUE_ID	= "tmd_time_record_queue_id";
+	
+	/**
+	 * 個人ID。
+	 */
+	public static final String	COL_PERSONAL_ID					= "personal_id";
+	
+	/**
+	 * 打刻区分。
+	 */
+	public static final String	COL_RECORD_TYPE					= "record_type";
+	
+	/**
+	 * 打刻時刻。
+	 */
+	public static final String	COL_RECORD_TIME					= "record_time";
+	
+	/**
+	 * 反映状況。
+	 */
+	public static final String	COL_RECORD_STATUS				= "record_status";
+	
+	/**
+	 * エラーメッセージ。
+	 */
+	public static final String	COL_ERROR_MESSAGE				= "error_message";
+	
+	/**
+	 * キー。
+	 */
+	public static final String	KEY_1							= COL_TMD_TIME_RECORD_QUEUE_ID;
+	
+	
+	/**
+	 * コンストラクタ。
+	 */
+	public TmdTimeRecordQueueDao() {
+		// 処理無し
+	}
+	
+	@Override
+	public void initDao() {
+		// 処理無し
+	}
+	
+	@Override
+	public BaseDto mapping() throws MospException {
+		TmdTimeRecordQueueDto dto = new TmdTimeRecordQueueDto();
+		dto.setTmdTimeRecordQueueId(getLong(COL_TMD_TIME_RECORD_QUEUE_ID));
+		dto.setPersonalId(getString(COL_PERSONAL_ID));
+		dto.setRecordType(getString(COL_RECORD_TYPE));
+		dto.setRecordTime(getTimestamp(COL_RECORD_TIME));
+		dto.setRecordStatus(getInt(COL_RECORD_STATUS));
+		dto.setErrorMessage(getString(COL_ERROR_MESSAGE));
+		mappingCommonInfo(dto);
+		return dto;
+	}
+	
+	@Override
+	public List<TimeRecordQueueDtoInterface> mappingAll() throws MospException {
+		List<TimeRecordQueueDtoInterface> list = new ArrayList<TimeRecordQueueDtoInterface>();
+		while (next()) {
+			list.add((TimeRecordQueueDtoInterface)mapping());
+		}
+		return list;
+	}
+	
+	@Override
+	public List<TimeRecordQueueDtoInterface> findForStatus(int recordStatus) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(and());
+			sb.append(equal(COL_RECORD_STATUS));
+			sb.append(getOrderByColumn(COL_TMD_TIME_RECORD_QUEUE_ID));
+			prepareStatement(sb.toString());
+			setParam(index++, recordStatus);
+			executeQuery();
+			return mappingAll();
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public List<TimeRecordQueueDtoInterface> findForPerson(String personalId, Date startTime) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(and());
+			sb.append(equal(COL_PERSONAL_ID));
+			sb.append(and());
+			sb.append(greaterEqual(COL_RECORD_TIME));
+			sb.append(getOrderByColumn(COL_RECORD_TIME, COL_TMD_TIME_RECORD_QUEUE_ID));
+			prepareStatement(sb.toString());
+			setParam(index++, personalId);
+			setParam(index++, startTime, true);
+			executeQuery();
+			return mappingAll();
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public int update(BaseDtoInterface baseDto) throws MospException {
+		try {
+			index = 1;
+			prepareStatement(getUpdateQuery(getClass()));
+			setParams(baseDto, false);
+			TimeRecordQueueDtoInterface dto = (TimeRecordQueueDtoInterface)baseDto;
+			setParam(index++, dto.getTmdTimeRecordQueueId());
+			executeUpdate();
+			chkUpdate(1);
+			return cnt;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public int delete(BaseDtoInterface baseDto) throws MospException {
+		try {
+			index = 1;
+			prepareStatement(getDeleteQuery(getClass()));
+			TimeRecordQueueDtoInterface dto = (TimeRecordQueueDtoInterface)baseDto;
+			setParam(index++, dto.getTmdTimeRecordQueueId());
+			executeUpdate();
+			chkDelete(1);
+			return cnt;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public void setParams(BaseDtoInterface baseDto, boolean isInsert) throws MospException {
+		TimeRecordQueueDtoInterface dto = (TimeRecordQueueDtoInterface)baseDto;
+		setParam(index++, dto.getTmdTimeRecordQueueId());
+		setParam(index++, dto.getPersonalId());
+		setParam(index++, dto.getRecordType());
+		setParam(index++, dto.getRecordTime(), true);
+		setParam(index++, dto.getRecordStatus());
+		setParam(index++, dto.getErrorMessage());
+		setCommonParams(baseDto, isInsert);
+	}
+	
+}
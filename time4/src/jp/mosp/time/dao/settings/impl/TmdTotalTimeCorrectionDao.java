@@ -164,6 +164,43 @@ public class TmdTotalTimeCorrectionDao extends PlatformDao implements TotalTimeC
 		}
 	}
 	
+	@Override
+	public Map<String, TotalTimeCorrectionDtoInterface> findForPersonalIds(String[] personalIds,
+			int calculationYear, int calculationMonth) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(in(COL_PERSONAL_ID, personalIds.length));
+			sb.append(and());
+			sb.append(equal(COL_CALCULATION_YEAR));
+			sb.append(and());
+			sb.append(equal(COL_CALCULATION_MONTH));
+			sb.append(getOrderByColumn(COL_CORRECTION_DATE));
+			sb.append(getDesc());
+			prepareStatement(sb.toString());
+			setParamsIn(personalIds);
+			setParam(index++, calculationYear);
+			setParam(index++, calculationMonth);
+			executeQuery();
+			Map<String, TotalTimeCorrectionDtoInterface> map = new HashMap<String, TotalTimeCorrectionDtoInterface>();
+			while (next()) {
+				TotalTimeCorrectionDtoInterface dto = (TotalTimeCorrectionDtoInterface)mapping();
+				// 個人ID毎に修正日時が最も新しい情報を保持
+				if (map.containsKey(dto.getPersonalId()) == false) {
+					map.put(dto.getPersonalId(), dto);
+				}
+			}
+			return map;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
 	@Override
 	public List<TotalTimeCorrectionDtoInterface> findForHistory(String personalId, int calculationYear,
 			int calculationMonth) throws MospException {
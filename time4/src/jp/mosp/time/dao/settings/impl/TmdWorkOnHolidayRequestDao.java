@@ -22,6 +22,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import jp.mosp.framework.base.BaseDto;
 import jp.mosp.framework.base.BaseDtoInterface;
@@ -406,6 +407,34 @@ public class TmdWorkOnHolidayRequestDao extends PlatformDao implements WorkOnHol
 		}
 	}
 	
+	@Override
+	public Map<Long, WorkOnHolidayRequestDtoInterface> findForInWorkflow(Set<Long> workflowSet) throws MospException {
+		Map<Long, WorkOnHolidayRequestDtoInterface> map = new HashMap<Long, WorkOnHolidayRequestDtoInterface>();
+		if (workflowSet.isEmpty()) {
+			return map;
+		}
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(in(COL_WORKFLOW, workflowSet.size()));
+			prepareStatement(sb.toString());
+			setParamsIn(workflowSet);
+			executeQuery();
+			while (next()) {
+				WorkOnHolidayRequestDtoInterface dto = (WorkOnHolidayRequestDtoInterface)mapping();
+				map.put(dto.getWorkflow(), dto);
+			}
+			return map;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
 	@Override
 	public List<WorkOnHolidayRequestDtoInterface> findForWorkflowStatus(String personalId, int workflowStage,
 			String workflowStatus, String routeCode) throws MospException {
@@ -471,6 +500,43 @@ public class TmdWorkOnHolidayRequestDao extends PlatformDao implements WorkOnHol
 		}
 	}
 	
+	@Override
+	public Map<String, List<WorkOnHolidayRequestDtoInterface>> findForPersonalIds(String[] personalIds, Date startDate,
+			Date endDate) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(in(COL_PERSONAL_ID, personalIds.length));
+			sb.append(and());
+			sb.append(greaterEqual(COL_REQUEST_DATE));
+			sb.append(and());
+			sb.append(lessEqual(COL_REQUEST_DATE));
+			prepareStatement(sb.toString());
+			setParamsIn(personalIds);
+			setParam(index++, startDate);
+			setParam(index++, endDate);
+			executeQuery();
+			Map<String, List<WorkOnHolidayRequestDtoInterface>> map = new HashMap<String, List<WorkOnHolidayRequestDtoInterface>>();
+			while (next()) {
+				WorkOnHolidayRequestDtoInterface dto = (WorkOnHolidayRequestDtoInterface)mapping();
+				List<WorkOnHolidayRequestDtoInterface> list = map.get(dto.getPersonalId());
+				if (list == null) {
+					list = new ArrayList<WorkOnHolidayRequestDtoInterface>();
+					map.put(dto.getPersonalId(), list);
+				}
+				list.add(dto);
+			}
+			return map;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
 	@Override
 	public List<WorkOnHolidayRequestDtoInterface> findForSubstitute(String personalId, Date requestDate, int timesWork)
 			throws MospException {
@@ -22,6 +22,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import jp.mosp.framework.base.BaseDao;
 import jp.mosp.framework.base.BaseDto;
@@ -218,6 +219,34 @@ public class TmdWorkTypeChangeRequestDao extends BaseDao implements WorkTypeChan
 		}
 	}
 	
+	@Override
+	public Map<Long, WorkTypeChangeRequestDtoInterface> findForInWorkflow(Set<Long> workflowSet) throws MospException {
+		Map<Long, WorkTypeChangeRequestDtoInterface> map = new HashMap<Long, WorkTypeChangeRequestDtoInterface>();
+		if (workflowSet.isEmpty()) {
+			return map;
+		}
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(in(COL_WORKFLOW, workflowSet.size()));
+			prepareStatement(sb.toString());
+			setParamsIn(workflowSet);
+			executeQuery();
+			while (next()) {
+				WorkTypeChangeRequestDtoInterface dto = (WorkTypeChangeRequestDtoInterface)mapping();
+				map.put(dto.getWorkflow(), dto);
+			}
+			return map;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
 	@Override
 	public List<WorkTypeChangeRequestDtoInterface> findForTerm(String personalId, Date firstDate, Date lastDate)
 			throws MospException {
@@ -247,6 +276,44 @@ public class TmdWorkTypeChangeRequestDao extends BaseDao implements WorkTypeChan
 		}
 	}
 	
+	@Override
+	public Map<String, List<WorkTypeChangeRequestDtoInterface>> findForPersonalIds(String[] personalIds, Date firstDate,
+			Date lastDate) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(in(COL_PERSONAL_ID, personalIds.length));
+			sb.append(and());
+			sb.append(lessEqual(COL_REQUEST_DATE));
+			sb.append(and());
+			sb.append(greaterEqual(COL_REQUEST_DATE));
+			sb.append(getOrderByColumn(COL_REQUEST_DATE));
+			prepareStatement(sb.toString());
+			setParamsIn(personalIds);
+			setParam(index++, lastDate, false);
+			setParam(index++, firstDate, false);
+			executeQuery();
+			Map<String, List<WorkTypeChangeRequestDtoInterface>> map = new HashMap<String, List<WorkTypeChangeRequestDtoInterface>>();
+			while (next()) {
+				WorkTypeChangeRequestDtoInterface dto = (WorkTypeChangeRequestDtoInterface)mapping();
+				List<WorkTypeChangeRequestDtoInterface> list = map.get(dto.getPersonalId());
+				if (list == null) {
+					list = new ArrayList<WorkTypeChangeRequestDtoInterface>();
+					map.put(dto.getPersonalId(), list);
+				}
+				list.add(dto);
+			}
+			return map;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
 	@Override
 	public List<WorkTypeChangeRequestDtoInterface> findForTermOnWorkflow(String personalId, Date firstDate,
 			Date lastDate) throws MospException {
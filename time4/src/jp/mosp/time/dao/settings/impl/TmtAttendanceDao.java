@@ -219,6 +219,44 @@ public class TmtAttendanceDao extends PlatformDao implements AttendanceTransacti
 		}
 	}
 	
+	@Override
+	public Map<String, Map<Date, AttendanceTransactionDtoInterface>> findForPersonalIds(String[] personalIds,
+			Date firstDate, Date lastDate) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(in(COL_PERSONAL_ID, personalIds.length));
+			sb.append(and());
+			sb.append(lessEqual(COL_WORK_DATE));
+			sb.append(and());
+			sb.append(greaterEqual(COL_WORK_DATE));
+			sb.append(getOrderByColumn(COL_PERSONAL_ID, COL_WORK_DATE));
+			prepareStatement(sb.toString());
+			setParamsIn(personalIds);
+			setParam(index++, lastDate);
+			setParam(index++, firstDate);
+			executeQuery();
+			Map<String, Map<Date, AttendanceTransactionDtoInterface>> map = new HashMap<String, Map<Date, AttendanceTransactionDtoInterface>>();
+			while (next()) {
+				AttendanceTransactionDtoInterface dto = (AttendanceTransactionDtoInterface)mapping();
+				Map<Date, AttendanceTransactionDtoInterface> personalMap = map.get(dto.getPersonalId());
+				if (personalMap == null) {
+					personalMap = new HashMap<Date, AttendanceTransactionDtoInterface>();
+					map.put(dto.getPersonalId(), personalMap);
+				}
+				personalMap.put(dto.getWorkDate(), dto);
+			}
+			return map;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
 	@Override
 	public AttendanceTransactionDtoInterface sum(String personalId, Date firstDate, Date lastDate)
 			throws MospException {
@@ -184,6 +184,38 @@ public class TmtTotalTimeEmployeeDao extends PlatformDao implements TotalTimeEmp
 		}
 	}
 	
+	@Override
+	public Map<String, TotalTimeEmployeeDtoInterface> findForPersonalIds(String[] personalIds, int calculationYear,
+			int calculationMonth) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(in(COL_PERSONAL_ID, personalIds.length));
+			sb.append(and());
+			sb.append(equal(COL_CALCULATION_YEAR));
+			sb.append(and());
+			sb.append(equal(COL_CALCULATION_MONTH));
+			prepareStatement(sb.toString());
+			setParamsIn(personalIds);
+			setParam(index++, calculationYear);
+			setParam(index++, calculationMonth);
+			executeQuery();
+			Map<String, TotalTimeEmployeeDtoInterface> map = new HashMap<String, TotalTimeEmployeeDtoInterface>();
+			while (next()) {
+				TotalTimeEmployeeDtoInterface dto = (TotalTimeEmployeeDtoInterface)mapping();
+				map.put(dto.getPersonalId(), dto);
+			}
+			return map;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
 	@Override
 	public List<TotalTimeEmployeeDtoInterface> findPersonTerm(String personalId, Date startDate, Date endDate)
 			throws MospException {
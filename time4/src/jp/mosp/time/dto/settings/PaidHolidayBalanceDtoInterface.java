@@ -0,0 +1,189 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.dto.settings;
+
+import java.util.Date;
+
+import jp.mosp.framework.base.BaseDtoInterface;
+
+/**
+ * 有給休暇残高台帳DTOインターフェース
+ */
+public interface PaidHolidayBalanceDtoInterface extends BaseDtoInterface {
+	
+	/**
+	 * @return レコード識別ID。
+	 */
+	long getTmdPaidHolidayBalanceId();
+	
+	/**
+	 * @return 個人ID。
+	 */
+	String getPersonalId();
+	
+	/**
+	 * @return 取得日。
+	 */
+	Date getAcquisitionDate();
+	
+	/**
+	 * @return 有効日。
+	 */
+	Date getActivateDate();
+	
+	/**
+	 * @return 期限日。
+	 */
+	Date getLimitDate();
+	
+	/**
+	 * @return 手動付与日数。
+	 */
+	double getGivingDay();
+	
+	/**
+	 * @return 手動付与時間数。
+	 */
+	int getGivingHour();
+	
+	/**
+	 * @return 手動廃棄日数。
+	 */
+	double getCancelDay();
+	
+	/**
+	 * @return 手動廃棄時間数。
+	 */
+	int getCancelHour();
+	
+	/**
+	 * @return 手動付与廃棄最終有効日。
+	 */
+	Date getTransactionLastDate();
+	
+	/**
+	 * @return 申請日数。
+	 */
+	double getRequestDay();
+	
+	/**
+	 * @return 申請時間数。
+	 */
+	int getRequestHour();
+	
+	/**
+	 * @return 申請最終開始日。
+	 */
+	Date getRequestLastDate();
+	
+	/**
+	 * @return 承認済日数。
+	 */
+	double getApprovedDay();
+	
+	/**
+	 * @return 承認済時間数。
+	 */
+	int getApprovedHour();
+	
+	/**
+	 * @return 承認済最終終了日。
+	 */
+	Date getApprovedLastDate();
+	
+	/**
+	 * @param tmdPaidHolidayBalanceId セットする レコード識別ID。
+	 */
+	void setTmdPaidHolidayBalanceId(long tmdPaidHolidayBalanceId);
+	
+	/**
+	 * @param personalId セットする 個人ID。
+	 */
+	void setPersonalId(String personalId);
+	
+	/**
+	 * @param acquisitionDate セットする 取得日。
+	 */
+	void setAcquisitionDate(Date acquisitionDate);
+	
+	/**
+	 * @param activateDate セットする 有効日。
+	 */
+	void setActivateDate(Date activateDate);
+	
+	/**
+	 * @param limitDate セットする 期限日。
+	 */
+	void setLimitDate(Date limitDate);
+	
+	/**
+	 * @param givingDay セットする 手動付与日数。
+	 */
+	void setGivingDay(double givingDay);
+	
+	/**
+	 * @param givingHour セットする 手動付与時間数。
+	 */
+	void setGivingHour(int givingHour);
+	
+	/**
+	 * @param cancelDay セットする 手動廃棄日数。
+	 */
+	void setCancelDay(double cancelDay);
+	
+	/**
+	 * @param cancelHour セットする 手動廃棄時間数。
+	 */
+	void setCancelHour(int cancelHour);
+	
+	/**
+	 * @param transactionLastDate セットする 手動付与廃棄最終有効日。
+	 */
+	void setTransactionLastDate(Date transactionLastDate);
+	
+	/**
+	 * @param requestDay セットする 申請日数。
+	 */
+	void setRequestDay(double requestDay);
+	
+	/**
+	 * @param requestHour セットする 申請時間数。
+	 */
+	void setRequestHour(int requestHour);
+	
+	/**
+	 * @param requestLastDate セットする 申請最終開始日。
+	 */
+	void setRequestLastDate(Date requestLastDate);
+	
+	/**
+	 * @param approvedDay セットする 承認済日数。
+	 */
+	void setApprovedDay(double approvedDay);
+	
+	/**
+	 * @param approvedHour セットする 承認済時間数。
+	 */
+	void setApprovedHour(int approvedHour);
+	
+	/**
+	 * @param approvedLastDate セットする 承認済最終終了日。
+	 */
+	void setApprovedLastDate(Date approvedLastDate);
+	
+}
@@ -0,0 +1,89 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.dto.settings;
+
+import java.util.Date;
+
+import jp.mosp.framework.base.BaseDtoInterface;
+
+/**
+ * 打刻受付データDTOインターフェース
+ */
+public interface TimeRecordQueueDtoInterface extends BaseDtoInterface {
+	
+	/**
+	 * @return レコード識別ID。
+	 */
+	long getTmdTimeRecordQueueId();
+	
+	/**
+	 * @return 個人ID。
+	 */
+	String getPersonalId();
+	
+	/**
+	 * @return 打刻区分。
+	 */
+	String getRecordType();
+	
+	/**
+	 * @return 打刻時刻。
+	 */
+	Date getRecordTime();
+	
+	/**
+	 * @return 反映状況。
+	 */
+	int getRecordStatus();
+	
+	/**
+	 * @return エラーメッセージ。
+	 */
+	String getErrorMessage();
+	
+	/**
+	 * @param tmdTimeRecordQueueId セットする レコード識別ID。
+	 */
+	void setTmdTimeRecordQueueId(long tmdTimeRecordQueueId);
+	
+	/**
+	 * @param personalId セットする 個人ID。
+	 */
+	void setPersonalId(String personalId);
+	
+	/**
+	 * @param recordType セットする 打刻区分。
+	 */
+	void setRecordType(String recordType);
+	
+	/**
+	 * @param recordTime セットする 打刻時刻。
+	 */
+	void setRecordTime(Date recordTime);
+	
+	/**
+	 * @param recordStatus セットする 反映状況。
+	 */
+	void setRecordStatus(int recordStatus);
+	
+	/**
+	 * @param errorMessage セットする エラーメッセージ。
+	 */
+	void setErrorMessage(String errorMessage);
+	
+}
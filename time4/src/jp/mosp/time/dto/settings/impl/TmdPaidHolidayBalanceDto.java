@@ -0,0 +1,258 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.dto.settings.impl;
+
+import java.util.Date;
+
+import jp.mosp.framework.base.BaseDto;
+import jp.mosp.time.dto.settings.PaidHolidayBalanceDtoInterface;
+
+/**
+ * 有給休暇残高台帳DTO
+ */
+public class TmdPaidHolidayBalanceDto extends BaseDto implements PaidHolidayBalanceDtoInterface {
+	
+	private static final long	serialVersionUID	= 5803519464715036492L;
+	
+	/**
+	 * レコード識別ID。
+	 */
+	private long				tmdPaidHolidayBalanceId;
+	/**
+	 * 個人ID。
+	 */
+	private String				personalId;
+	/**
+	 * 取得日。
+	 */
+	private Date				acquisitionDate;
+	/**
+	 * 有効日。
+	 */
+	private Date				activateDate;
+	/**
+	 * 期限日。
+	 */
+	private Date				limitDate;
+	/**
+	 * 手動付与日数。
+	 */
+	private double				givingDay;
+	/**
+	 * 手動付与時間数。
+	 */
+	private int					givingHour;
+	/**
+	 * 手動廃棄日数。
+	 */
+	private double				cancelDay;
+	/**
+	 * 手動廃棄時間数。
+	 */
+	private int					cancelHour;
+	/**
+	 * 手動付与廃棄最終有効日。
+	 */
+	private Date				transactionLastDate;
+	/**
+	 * 申請日数。
+	 */
+	private double				requestDay;
+	/**
+	 * 申請時間数。
+	 */
+	private int					requestHour;
+	/**
+	 * 申請最終開始日。
+	 */
+	private Date				requestLastDate;
+	/**
+	 * 承認済日数。
+	 */
+	private double				approvedDay;
+	/**
+	 * 承認済時間数。
+	 */
+	private int					approvedHour;
+	/**
+	 * 承認済最終終了日。
+	 */
+	private Date				approvedLastDate;
+	
+	
+	@Override
+	public long getTmdPaidHolidayBalanceId() {
+		return tmdPaidHolidayBalanceId;
+	}
+	
+	@Override
+	public String getPersonalId() {
+		return personalId;
+	}
+	
+	@Override
+	public Date getAcquisitionDate() {
+		return getDateClone(acquisitionDate);
+	}
+	
+	@Override
+	public Date getActivateDate() {
+		return getDateClone(activateDate);
+	}
+	
+	@Override
+	public Date getLimitDate() {
+		return getDateClone(limitDate);
+	}
+	
+	@Override
+	public double getGivingDay() {
+		return givingDay;
+	}
+	
+	@Override
+	public int getGivingHour() {
+		return givingHour;
+	}
+	
+	@Override
+	public double getCancelDay() {
+		return cancelDay;
+	}
+	
+	@Override
+	public int getCancelHour() {
+		return cancelHour;
+	}
+	
+	@Override
+	public Date getTransactionLastDate() {
+		return getDateClone(transactionLastDate);
+	}
+	
+	@Override
+	public double getRequestDay() {
+		return requestDay;
+	}
+	
+	@Override
+	public int getRequestHour() {
+		return requestHour;
+	}
+	
+	@Override
+	public Date getRequestLastDate() {
+		return getDateClone(requestLastDate);
+	}
+	
+	@Override
+	public double getApprovedDay() {
+		return approvedDay;
+	}
+	
+	@Override
+	public int getApprovedHour() {
+		return approvedHour;
+	}
+	
+	@Override
+	public Date getApprovedLastDate() {
+		return getDateClone(approvedLastDate);
+	}
+	
+	@Override
+	public void setTmdPaidHolidayBalanceId(long tmdPaidHolidayBalanceId) {
+		this.tmdPaidHolidayBalanceId = tmdPaidHolidayBalanceId;
+	}
+	
+	@Override
+	public void setPersonalId(String personalId) {
+		this.personalId = personalId;
+	}
+	
+	@Override
+	public void setAcquisitionDate(Date acquisitionDate) {
+		this.acquisitionDate = getDateClone(acquisitionDate);
+	}
+	
+	@Override
+	public void setActivateDate(Date activateDate) {
+		this.activateDate = getDateClone(activateDate);
+	}
+	
+	@Override
+	public void setLimitDate(Date limitDate) {
+		this.limitDate = getDateClone(limitDate);
+	}
+	
+	@Override
+	public void setGivingDay(double givingDay) {
+		this.givingDay = givingDay;
+	}
+	
+	@Override
+	public void setGivingHour(int givingHour) {
+		this.givingHour = givingHour;
+	}
+	
+	@Override
+	public void setCancelDay(double cancelDay) {
+		this.cancelDay = cancelDay;
+	}
+	
+	@Override
+	public void setCancelHour(int cancelHour) {
+		this.cancelHour = cancelHour;
+	}
+	
+	@Override
+	public void setTransactionLastDate(Date transactionLastDate) {
+		this.transactionLastDate = getDateClone(transactionLastDate);
+	}
+	
+	@Override
+	public void setRequestDay(double requestDay) {
+		this.requestDay = requestDay;
+	}
+	
+	@Override
+	public void setRequestHour(int requestHour) {
+		this.requestHour = requestHour;
+	}
+	
+	@Override
+	public void setRequestLastDate(Date requestLastDate) {
+		this.requestLastDate = getDateClone(requestLastDate);
+	}
+	
+	@Override
+	public void setApprovedDay(double approvedDay) {
+		this.approvedDay = approvedDay;
+	}
+	
+	@Override
+	public void setApprovedHour(int approvedHour) {
+		this.approvedHour = approvedHour;
+	}
+	
+	@Override
+	public void setApprovedLastDate(Date approvedLastDate) {
+		this.approvedLastDate = getDateClone(approvedLastDate);
+	}
+	
+}
@@ -0,0 +1,118 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.dto.settings.impl;
+
+import java.util.Date;
+
+import jp.mosp.framework.base.BaseDto;
+import jp.mosp.time.dto.settings.TimeRecordQueueDtoInterface;
+
+/**
+ * 打刻受付データDTO
+ */
+public class TmdTimeRecordQueueDto extends BaseDto implements TimeRecordQueueDtoInterface {
+	
+	private static final long	serialVersionUID	= 3207431870284531925L;
+	
+	/**
+	 * レコード識別ID。
+	 */
+	private long				tmdTimeRecordQueueId;
+	/**
+	 * 個人ID。
+	 */
+	private String				personalId;
+	/**
+	 * 打刻区分。
+	 */
+	private String				recordType;
+	/**
+	 * 打刻時刻。
+	 */
+	private Date				recordTime;
+	/**
+	 * 反映状況。
+	 */
+	private int					recordStatus;
+	/**
+	 * エラーメッセージ。
+	 */
+	private String				errorMessage;
+	
+	
+	@Override
+	public long getTmdTimeRecordQueueId() {
+		return tmdTimeRecordQueueId;
+	}
+	
+	@Override
+	public String getPersonalId() {
+		return personalId;
+	}
+	
+	@Override
+	public String getRecordType() {
+		return recordType;
+	}
+	
+	@Override
+	public Date getRecordTime() {
+		return getDateClone(recordTime);
+	}
+	
+	@Override
+	public int getRecordStatus() {
+		return recordStatus;
+	}
+	
+	@Override
+	public String getErrorMessage() {
+		return errorMessage;
+	}
+	
+	@Override
+	public void setTmdTimeRecordQueueId(long tmdTimeRecordQueueId) {
+		this.tmdTimeRecordQueueId = tmdTimeRecordQueueId;
+	}
+	
+	@Override
+	public void setPersonalId(String personalId) {
+		this.personalId = personalId;
+	}
+	
+	@Override
+	public void setRecordType(String recordType) {
+		this.recordType = recordType;
+	}
+	
+	@Override
+	public void setRecordTime(Date recordTime) {
+		this.recordTime = getDateClone(recordTime);
+	}
+	
+	@Override
+	public void setRecordStatus(int recordStatus) {
+		this.recordStatus = recordStatus;
+	}
+	
+	@Override
+	public void setErrorMessage(String errorMessage) {
+		this.errorMessage = errorMessage;
+	}
+	
+}
@@ -0,0 +1,159 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.entity;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import jp.mosp.time.constant.TimeConst;
+import jp.mosp.time.dto.settings.GoOutDtoInterface;
+import jp.mosp.time.dto.settings.RestDtoInterface;
+
+/**
+ * 勤怠計算入力エンティティクラス。<br>
+ * <br>
+ * 日々の自動計算に用いる休憩情報及び外出情報を保持する。<br>
+ * 各リストは変更不可として保持するため、自動計算処理で複製する必要は無い。<br>
+ */
+public class AttendanceCalcInputEntity {
+	
+	/**
+	 * 休憩リスト。<br>
+	 */
+	protected final List<RestDtoInterface>	restList;
+	
+	/**
+	 * 公用外出リスト。<br>
+	 */
+	protected final List<GoOutDtoInterface>	publicGoOutList;
+	
+	/**
+	 * 私用外出リスト。<br>
+	 */
+	protected final List<GoOutDtoInterface>	privateGoOutList;
+	
+	/**
+	 * 分単位休暇Aリスト。<br>
+	 */
+	protected final List<GoOutDtoInterface>	minutelyHolidayAList;
+	
+	/**
+	 * 分単位休暇Bリスト。<br>
+	 */
+	protected final List<GoOutDtoInterface>	minutelyHolidayBList;
+	
+	
+	/**
+	 * コンストラクタ。<br>
+	 * 外出リストは、外出区分毎に振り分けて保持する。<br>
+	 * @param restList  休憩リスト
+	 * @param goOutList 外出リスト(全外出区分)
+	 */
+	public AttendanceCalcInputEntity(List<RestDtoInterface> restList, List<GoOutDtoInterface> goOutList) {
+		// 外出区分毎に振り分け
+		List<GoOutDtoInterface> publicList = new ArrayList<GoOutDtoInterface>();
+		List<GoOutDtoInterface> privateList = new ArrayList<GoOutDtoInterface>();
+		List<GoOutDtoInterface> minutelyAList = new ArrayList<GoOutDtoInterface>();
+		List<GoOutDtoInterface> minutelyBList = new ArrayList<GoOutDtoInterface>();
+		for (GoOutDtoInterface dto : goOutList) {
+			switch (dto.getGoOutType()) {
+				case TimeConst.CODE_GO_OUT_PUBLIC:
+					publicList.add(dto);
+					break;
+				case TimeConst.CODE_GO_OUT_PRIVATE:
+					privateList.add(dto);
+					break;
+				case TimeConst.CODE_GO_OUT_MINUTELY_HOLIDAY_A:
+					minutelyAList.add(dto);
+					break;
+				case TimeConst.CODE_GO_OUT_MINUTELY_HOLIDAY_B:
+					minutelyBList.add(dto);
+					break;
+				default:
+					break;
+			}
+		}
+		this.restList = Collections.unmodifiableList(new ArrayList<RestDtoInterface>(restList));
+		publicGoOutList = Collections.unmodifiableList(publicList);
+		privateGoOutList = Collections.unmodifiableList(privateList);
+		minutelyHolidayAList = Collections.unmodifiableList(minutelyAList);
+		minutelyHolidayBList = Collections.unmodifiableList(minutelyBList);
+	}
+	
+	/**
+	 * コンストラクタ。<br>
+	 * @param restList             休憩リスト
+	 * @param publicGoOutList      公用外出リスト
+	 * @param privateGoOutList     私用外出リスト
+	 * @param minutelyHolidayAList 分単位休暇Aリスト
+	 * @param minutelyHolidayBList 分単位休暇Bリスト
+	 */
+	public AttendanceCalcInputEntity(List<RestDtoInterface> restList, List<GoOutDtoInterface> publicGoOutList,
+			List<GoOutDtoInterface> privateGoOutList, List<GoOutDtoInterface> minutelyHolidayAList,
+			List<GoOutDtoInterface> minutelyHolidayBList) {
+		this.restList = Collections.unmodifiableList(new ArrayList<RestDtoInterface>(restList));
+		this.publicGoOutList = Collections.unmodifiableList(new ArrayList<GoOutDtoInterface>(publicGoOutList));
+		this.privateGoOutList = Collections.unmodifiableList(new ArrayList<GoOutDtoInterface>(privateGoOutList));
+		this.minutelyHolidayAList = Collections
+			.unmodifiableList(new ArrayList<GoOutDtoInterface>(minutelyHolidayAList));
+		this.minutelyHolidayBList = Collections
+			.unmodifiableList(new ArrayList<GoOutDtoInterface>(minutelyHolidayBList));
+	}
+	
+	/**
+	 * 休憩リストを取得する。<br>
+	 * @return 休憩リスト(変更不可)
+	 */
+	public List<RestDtoInterface> getRestList() {
+		return restList;
+	}
+	
+	/**
+	 * 公用外出リストを取得する。<br>
+	 * @return 公用外出リスト(変更不可)
+	 */
+	public List<GoOutDtoInterface> getPublicGoOutList() {
+		return publicGoOutList;
+	}
+	
+	/**
+	 * 私用外出リストを取得する。<br>
+	 * @return 私用外出リスト(変更不可)
+	 */
+	public List<GoOutDtoInterface> getPrivateGoOutList() {
+		return privateGoOutList;
+	}
+	
+	/**
+	 * 分単位休暇Aリストを取得する。<br>
+	 * @return 分単位休暇Aリスト(変更不可)
+	 */
+	public List<GoOutDtoInterface> getMinutelyHolidayAList() {
+		return minutelyHolidayAList;
+	}
+	
+	/**
+	 * 分単位休暇Bリストを取得する。<br>
+	 * @return 分単位休暇Bリスト(変更不可)
+	 */
+	public List<GoOutDtoInterface> getMinutelyHolidayBList() {
+		return minutelyHolidayBList;
+	}
+	
+}
@@ -25,6 +25,8 @@ import java.util.Map.Entry;
 import jp.mosp.framework.base.MospException;
 import jp.mosp.framework.constant.MospConst;
 import jp.mosp.framework.utils.DateUtility;
+import jp.mosp.orangesignal.OrangeSignalParams;
+import jp.mosp.orangesignal.OrangeSignalRowHandler;
 import jp.mosp.orangesignal.OrangeSignalUtility;
 import jp.mosp.platform.bean.file.ImportBeanInterface;
 import jp.mosp.platform.bean.workflow.WorkflowIntegrateBeanInterface;
@@ -264,6 +266,14 @@ public class TimeImportListAction extends ImportListAction {
 	 * @throws MospException インポートに失敗した場合
 	 */
 	protected void registImportFile(ImportDtoInterface importDto) throws MospException {
+		// インポート分割件数取得
+		int chunkSize = mospParams.getApplicationProperty(TimeConst.APP_IMPORT_CHUNK_SIZE, 0);
+		// 分割インポート対象のデータ区分である場合
+		if (chunkSize > 0 && isChunkImportTable(importDto.getImportTable())) {
+			// 分割件数毎にインポート
+			registImportFile(importDto, chunkSize);
+			return;
+		}
 		// データ区分確認
 		if (TimeFileConst.CODE_IMPORT_TYPE_TMD_ATTENDANCE.equals(importDto.getImportTable())) {
 			// 勤怠データ
@@ -299,6 +309,78 @@ public class TimeImportListAction extends ImportListAction {
 		}
 	}
 	
+	/**
+	 * 分割件数毎にインポートするデータ区分であるかを確認する。<br>
+	 * @param importTable データ区分
+	 * @return 確認結果(true：分割件数毎にインポートする、false：しない)
+	 */
+	protected boolean isChunkImportTable(String importTable) {
+		return TimeFileConst.CODE_IMPORT_TYPE_TMD_ATTENDANCE.equals(importTable)
+				|| TimeFileConst.CODE_IMPORT_TYPE_TMD_ATTENDANCE_SELF.equals(importTable)
+				|| TimeFileConst.CODE_IMPORT_TYPE_TMD_TOTAL_TIME.equals(importTable)
+				|| TimeFileConst.CODE_IMPORT_TYPE_TMD_PAID_HOLIDAY.equals(importTable);
+	}
+	
+	/**
+	 * インポートファイルを分割件数毎に登録する。<br>
+	 * <br>
+	 * インポートファイルを1行ずつ読み込み、分割件数に達する毎に登録及びコミットを行う。<br>
+	 * ファイル全体をメモリ上に保持しないため、大量のデータをインポートする場合に用いる。<br>
+	 * エラーが発生した場合は、その分割分を登録せずに処理を終了する
+	 * (それ以前の分割分は登録済となる)。<br>
+	 * @param importDto インポートマスタDTO
+	 * @param chunkSize 分割件数
+	 * @throws MospException インポートに失敗した場合
+	 */
+	protected void registImportFile(ImportDtoInterface importDto, int chunkSize) throws MospException {
+		// CSVデータ行処理準備
+		ImportChunkHandler handler = new ImportChunkHandler(importDto, chunkSize);
+		// 1行ずつ解析して分割件数毎に登録
+		OrangeSignalUtility.parse(mospParams.getRequestFile(PRM_FIL_IMPORT), new OrangeSignalParams(), handler);
+		// エラーが発生していない場合は残りの分割分を登録
+		if (mospParams.hasErrorMessage() == false) {
+			handler.flush();
+		}
+	}
+	
+	/**
+	 * 分割分のデータを登録し、コミットする。<br>
+	 * @param importDto インポートマスタDTO
+	 * @param csvList   分割分のデータリスト
+	 * @param firstRow  分割分のデータリストの開始行インデックス
+	 * @return 処理結果(true：登録成功、false：エラー有り)
+	 * @throws MospException インポート或いはコミットに失敗した場合
+	 */
+	protected boolean importChunk(ImportDtoInterface importDto, List<String[]> csvList, int firstRow)
+			throws MospException {
+		// 登録対象データが存在しない場合
+		if (csvList.isEmpty()) {
+			return true;
+		}
+		// データ区分確認
+		String importTable = importDto.getImportTable();
+		if (TimeFileConst.CODE_IMPORT_TYPE_TMD_ATTENDANCE.equals(importTable)) {
+			// 勤怠データ
+			importAttendance(importDto, csvList, firstRow);
+		} else if (TimeFileConst.CODE_IMPORT_TYPE_TMD_ATTENDANCE_SELF.equals(importTable)) {
+			// 勤怠データ【自己承認】
+			importAttendanceSelf(importDto, csvList, firstRow);
+		} else if (TimeFileConst.CODE_IMPORT_TYPE_TMD_TOTAL_TIME.equals(importTable)) {
+			// 勤怠集計データ
+			importTotalTime(importDto, csvList, firstRow);
+		} else if (TimeFileConst.CODE_IMPORT_TYPE_TMD_PAID_HOLIDAY.equals(importTable)) {
+			// 有給休暇データ
+			importPaidHoliday(importDto, csvList, firstRow);
+		}
+		// エラー確認
+		if (mospParams.hasErrorMessage()) {
+			return false;
+		}
+		// 分割分をコミット
+		commit();
+		return true;
+	}
+	
 	/**
 	 * 勤怠データをインポートする。<br>
 	 * @param importDto インポート情報
@@ -306,9 +388,21 @@ public class TimeImportListAction extends ImportListAction {
 	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
 	 */
 	protected void importAttendance(ImportDtoInterface importDto, List<String[]> csvList) throws MospException {
+		importAttendance(importDto, csvList, 0);
+	}
+	
+	/**
+	 * 勤怠データをインポートする。<br>
+	 * @param importDto インポート情報
+	 * @param csvList   インポート対象データリスト
+	 * @param firstRow  インポート対象データリストの開始行インデックス
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected void importAttendance(ImportDtoInterface importDto, List<String[]> csvList, int firstRow)
+			throws MospException {
 		// 勤怠データ
 		List<AttendanceDtoInterface> list = timeReference.importTable().getAttendanceList(importDto.getImportCode(),
-				csvList);
+				csvList, firstRow);
 		if (mospParams.hasErrorMessage() || list.isEmpty()) {
 			return;
 		}
@@ -346,6 +440,18 @@ public class TimeImportListAction extends ImportListAction {
 	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
 	 */
 	protected void importAttendanceSelf(ImportDtoInterface dto, List<String[]> csvList) throws MospException {
+		importAttendanceSelf(dto, csvList, 0);
+	}
+	
+	/**
+	 * 勤怠データ【自己承認】をインポートする。<br>
+	 * @param dto 対象DTO
+	 * @param csvList インポート対象データリスト
+	 * @param firstRow インポート対象データリストの開始行インデックス
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected void importAttendanceSelf(ImportDtoInterface dto, List<String[]> csvList, int firstRow)
+			throws MospException {
 		// Beanを準備
 		WorkflowRegistBeanInterface workflowRegist = platform().workflowRegist();
 		WorkflowIntegrateBeanInterface workflowIntegrate = reference().workflowIntegrate();
@@ -354,7 +460,8 @@ public class TimeImportListAction extends ImportListAction {
 		GoOutRegistBeanInterface goOutRegist = time.goOutRegist();
 		AttendanceTransactionRegistBeanInterface transactionRegist = time.attendanceTransactionRegist();
 		// 勤怠データ
-		List<AttendanceDtoInterface> list = timeReference.importTable().getAttendanceList(dto.getImportCode(), csvList);
+		List<AttendanceDtoInterface> list = timeReference.importTable().getAttendanceList(dto.getImportCode(), csvList,
+				firstRow);
 		if (mospParams.hasErrorMessage() || list.isEmpty()) {
 			return;
 		}
@@ -414,21 +521,33 @@ public class TimeImportListAction extends ImportListAction {
 	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
 	 */
 	protected void importTotalTime(ImportDtoInterface importDto, List<String[]> csvList) throws MospException {
+		importTotalTime(importDto, csvList, 0);
+	}
+	
+	/**
+	 * 勤怠集計データをインポートする。<br>
+	 * @param importDto インポート情報
+	 * @param csvList   インポート対象データリスト
+	 * @param firstRow  インポート対象データリストの開始行インデックス
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected void importTotalTime(ImportDtoInterface importDto, List<String[]> csvList, int firstRow)
+			throws MospException {
 		ApplicationReferenceBeanInterface application = timeReference.application();
 		TimeSettingReferenceBeanInterface timeSetting = timeReference.timeSetting();
 		CutoffReferenceBeanInterface cutoff = timeReference.cutoff();
 		// 勤怠集計データ
 		List<TotalTimeDataDtoInterface> list = timeReference.importTable().getTotalTimeList(importDto.getImportCode(),
-				csvList);
+				csvList, firstRow);
 		if (mospParams.hasErrorMessage() || list.isEmpty()) {
 			return;
 		}
+		// 勤怠集計データ一括登録
+		time.totalTimeRegist().regist(list);
+		if (mospParams.hasErrorMessage()) {
+			return;
+		}
 		for (TotalTimeDataDtoInterface dto : list) {
-			// 勤怠集計データ登録
-			time.totalTimeRegist().regist(dto);
-			if (mospParams.hasErrorMessage()) {
-				return;
-			}
 			Integer state = timeReference.totalTimeEmployeeTransaction().getCutoffState(dto.getPersonalId(),
 					dto.getCalculationYear(), dto.getCalculationMonth());
 			if (state != null && state.intValue() == TimeConst.CODE_CUTOFF_STATE_TEMP_TIGHT) {
@@ -467,10 +586,22 @@ public class TimeImportListAction extends ImportListAction {
 	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
 	 */
 	protected void importPaidHoliday(ImportDtoInterface importDto, List<String[]> csvList) throws MospException {
+		importPaidHoliday(importDto, csvList, 0);
+	}
+	
+	/**
+	 * 有給休暇データをインポートする。<br>
+	 * @param importDto インポート情報
+	 * @param csvList   インポート対象データリスト
+	 * @param firstRow  インポート対象データリストの開始行インデックス
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected void importPaidHoliday(ImportDtoInterface importDto, List<String[]> csvList, int firstRow)
+			throws MospException {
 		PaidHolidayDataRegistBeanInterface regist = time.paidHolidayDataRegist();
 		// 有給休暇データ登録
 		List<PaidHolidayDataDtoInterface> list = timeReference.importTable()
-			.getPaidHolidayList(importDto.getImportCode(), csvList);
+			.getPaidHolidayList(importDto.getImportCode(), csvList, firstRow);
 		if (mospParams.hasErrorMessage() || list.isEmpty()) {
 			return;
 		}
@@ -643,4 +774,69 @@ public class TimeImportListAction extends ImportListAction {
 			}
 		}
 	}
+	
+	/**
+	 * 分割インポート用CSVデータ行処理クラス。<br>
+	 * CSVデータを分割件数分保持し、分割件数に達する毎に登録する。<br>
+	 */
+	protected class ImportChunkHandler implements OrangeSignalRowHandler {
+		
+		/**
+		 * インポートマスタDTO。<br>
+		 */
+		private final ImportDtoInterface	importDto;
+		
+		/**
+		 * 分割件数。<br>
+		 */
+		private final int					chunkSize;
+		
+		/**
+		 * 分割分のデータリスト。<br>
+		 */
+		private final List<String[]>		chunk;
+		
+		/**
+		 * 分割分のデータリストの開始行インデックス。<br>
+		 */
+		private int							firstRow;
+		
+		
+		/**
+		 * 分割インポート用CSVデータ行処理を生成する。<br>
+		 * @param importDto インポートマスタDTO
+		 * @param chunkSize 分割件数
+		 */
+		protected ImportChunkHandler(ImportDtoInterface importDto, int chunkSize) {
+			this.importDto = importDto;
+			this.chunkSize = chunkSize;
+			chunk = new ArrayList<String[]>(chunkSize);
+			firstRow = 0;
+		}
+		
+		@Override
+		public boolean handle(String[] row) throws MospException {
+			chunk.add(row);
+			// 分割件数に達していない場合
+			if (chunk.size() < chunkSize) {
+				return true;
+			}
+			// 分割分を登録
+			return flush();
+		}
+		
+		/**
+		 * 保持している分割分のデータを登録する。<br>
+		 * @return 処理結果(true：登録成功、false：エラー有り)
+		 * @throws MospException インポート或いはコミットに失敗した場合
+		 */
+		protected boolean flush() throws MospException {
+			boolean result = importChunk(importDto, chunk, firstRow);
+			firstRow += chunk.size();
+			chunk.clear();
+			return result;
+		}
+		
+	}
+	
 }
@@ -358,6 +358,8 @@ public class CancellationRequestAction extends TimeAction {
 				addInsertFailedMessage();
 				return;
 			}
+			// 有給休暇残高台帳登録(承認済でなくなるため)
+			time().paidHolidayBalanceRegist().regist(dto);
 			// 自己承認時の取下げ
 			withdrawnSelfApproval(workflowDto, dto);
 			// 登録結果確認
@@ -1924,6 +1924,8 @@ public class HolidayRequestAction extends TimeAction {
 						mospParams.getProperties().getMessage(PlatformMessageConst.MSG_PROCESS_SUCCEED,
 								new String[]{ mospParams.getName("TakeDown") }));
 			}
+			// 有給休暇残高台帳登録
+			time().paidHolidayBalanceRegist().regist(dto);
 		}
 		// 削除結果確認
 		if (mospParams.hasErrorMessage()) {
@@ -638,8 +638,9 @@ public class SubHolidayRequestAction extends TimeAction {
 	
 	/**
 	 * 一覧のページ処理を行う。
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
 	 */
-	protected void page() {
+	protected void page() throws MospException {
 		setVoList(pageList());
 	}
 	
@@ -19,6 +19,7 @@ package jp.mosp.time.portal.bean.impl;
 
 import java.sql.Connection;
 import java.util.Date;
+import java.util.List;
 
 import jp.mosp.framework.base.MospException;
 import jp.mosp.framework.base.MospParams;
@@ -30,7 +31,11 @@ import jp.mosp.time.base.TimeBean;
 import jp.mosp.time.bean.ApplicationReferenceBeanInterface;
 import jp.mosp.time.bean.TimeRecordBeanInterface;
 import jp.mosp.time.bean.TimeRecordReferenceBeanInterface;
+import jp.mosp.time.bean.impl.TimeRecordQueue;
+import jp.mosp.time.constant.TimeConst;
+import jp.mosp.time.dao.settings.TimeRecordQueueDaoInterface;
 import jp.mosp.time.dto.settings.TimeRecordDtoInterface;
+import jp.mosp.time.dto.settings.TimeRecordQueueDtoInterface;
 import jp.mosp.time.entity.ApplicationEntity;
 import jp.mosp.time.utils.TimeMessageUtility;
 import jp.mosp.time.utils.TimeUtility;
@@ -161,12 +166,23 @@ public class PortalTimeCardBean extends PortalBean implements PortalBeanInterfac
 			// ポータル休憩ボタン表示設定(非表示)
 			putPortalParameter(PRM_REST_BUTTON, CODE_REST_BUTTON_DISABLE);
 		}
+		// 打刻受付を利用する場合
+		if (TimeRecordQueue.isEnabled(mospParams)) {
+			// 打刻の反映状況を設定
+			addRecordQueueStatus(personalId, targetDate);
+		}
 	}
 	
 	@Override
 	public void regist() throws MospException {
 		// VOから値を受け取り変数に詰める
 		String recodeType = getPortalParameter(PRM_RECODE_TYPE);
+		// 打刻受付を利用する場合
+		if (TimeRecordQueue.isEnabled(mospParams)) {
+			// 打刻を受け付ける(勤怠データへの反映は非同期)
+			appendRecord(recodeType);
+			return;
+		}
 		// コマンド毎の処理
 		if (recodeType.equals(RECODE_START_WORK)) {
 			// 出勤
@@ -318,6 +334,81 @@ public class PortalTimeCardBean extends PortalBean implements PortalBeanInterfac
 		TimeMessageUtility.addMessageRecordRegularWork(mospParams, recordTime);
 	}
 	
+	/**
+	 * 打刻を受け付ける。<br>
+	 * 打刻受付データがコミットされた時点で打刻完了とする。<br>
+	 * @param recordType 打刻区分
+	 * @throws MospException 打刻受付データの登録に失敗した場合
+	 */
+	protected void appendRecord(String recordType) throws MospException {
+		// 打刻日時(システム日時)取得
+		Date recordTime = getSystemTimeAndSecond();
+		// 打刻を受け付ける
+		TimeRecordQueue.append(mospParams, mospParams.getUser().getPersonalId(), recordType, recordTime);
+		// 打刻メッセージ設定
+		TimeMessageUtility.addMessageRecordTime(mospParams, DateUtility.getStringTimeAndSecond(recordTime),
+				getRecordName(recordType));
+		TimeMessageUtility.addMessageRecordQueued(mospParams);
+	}
+	
+	/**
+	 * 前日以降に受け付けた打刻の反映状況を、メッセージとして設定する。<br>
+	 * 未反映の打刻は件数を、勤怠に反映できなかった打刻はエラー内容を設定する。<br>
+	 * @param personalId 個人ID
+	 * @param targetDate 対象日
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected void addRecordQueueStatus(String personalId, Date targetDate) throws MospException {
+		// 打刻受付データ取得
+		TimeRecordQueueDaoInterface dao = (TimeRecordQueueDaoInterface)createDao(TimeRecordQueueDaoInterface.class);
+		List<TimeRecordQueueDtoInterface> list = dao.findForPerson(personalId, DateUtility.addDay(targetDate, -1));
+		// 未反映件数準備
+		int waitCount = 0;
+		for (TimeRecordQueueDtoInterface dto : list) {
+			if (dto.getRecordStatus() == TimeConst.CODE_RECORD_STATUS_WAIT) {
+				waitCount++;
+			} else if (dto.getRecordStatus() == TimeConst.CODE_RECORD_STATUS_ERROR) {
+				// 反映できなかった打刻のメッセージ設定
+				TimeMessageUtility.addMessageRecordQueueError(mospParams, dto.getRecordTime(),
+						getRecordName(dto.getRecordType()), dto.getErrorMessage());
+			}
+		}
+		if (waitCount > 0) {
+			// 未反映の打刻のメッセージ設定
+			TimeMessageUtility.addMessageRecordQueueWait(mospParams, waitCount);
+		}
+	}
+	
+	/**
+	 * 打刻区分から打刻名称を取得する。<br>
+	 * @param recordType 打刻区分
+	 * @return 打刻名称
+	 */
+	protected String getRecordName(String recordType) {
+		if (RECODE_START_WORK.equals(recordType)) {
+			return TimeMessageUtility.getNameStartWork(mospParams);
+		}
+		if (RECODE_END_WORK.equals(recordType)) {
+			return TimeMessageUtility.getNameEndWork(mospParams);
+		}
+		if (RECODE_START_REST.equals(recordType)) {
+			return TimeMessageUtility.getNameStartRest(mospParams);
+		}
+		if (RECODE_END_REST.equals(recordType)) {
+			return TimeMessageUtility.getNameEndRest(mospParams);
+		}
+		if (RECODE_REGULAR_END.equals(recordType)) {
+			return TimeMessageUtility.getNameRegularEnd(mospParams);
+		}
+		if (RECODE_OVER_END.equals(recordType)) {
+			return TimeMessageUtility.getNameOverEnd(mospParams);
+		}
+		if (RECODE_REGULAR_WORK.equals(recordType)) {
+			return TimeMessageUtility.getNameRegularWork(mospParams);
+		}
+		return recordType;
+	}
+	
 	/**
 	 * 設定適用参照クラスを取得する。<br>
 	 * @return 設定適用参照ユーティリティクラス
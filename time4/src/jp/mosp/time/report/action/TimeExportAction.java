@@ -29,6 +29,7 @@ import jp.mosp.platform.dto.file.ExportDtoInterface;
 import jp.mosp.platform.utils.MonthUtility;
 import jp.mosp.time.base.TimeAction;
 import jp.mosp.time.bean.ExportTableReferenceBeanInterface;
+import jp.mosp.time.constant.TimeConst;
 import jp.mosp.time.constant.TimeFileConst;
 import jp.mosp.time.dto.settings.CutoffDtoInterface;
 import jp.mosp.time.file.vo.TimeExportListVo;
@@ -140,6 +141,12 @@ public class TimeExportAction extends TimeAction {
 		// 下位所属含むチェックボックス設定
 		exportTable.setCkbNeedLowerSection(ckbNeedLowerSection);
 		exportTable.setPositionCode(vo.getPltPosition());
+		// ストリーミング出力の場合
+		if (mospParams.getApplicationPropertyBool(TimeConst.APP_EXPORT_STREAMING)) {
+			// ストリーミング出力設定
+			setStreamSource(exportTable);
+			return;
+		}
 		// CSVデータリスト取得
 		List<String[]> csvDataList = exportTable.export();
 		if (mospParams.hasErrorMessage()) {
@@ -163,6 +170,22 @@ public class TimeExportAction extends TimeAction {
 		setFileName();
 	}
 	
+	/**
+	 * ストリーミング出力のためのCSVデータ作成元をMosP処理情報に設定する。<br>
+	 * <br>
+	 * CSVデータの作成及び出力は、ファイル送出時に1行ずつ行われる。<br>
+	 * エラー及び出力対象の有無は、作成元が先頭のまとまりを作成する際に確認し、
+	 * 送出開始前であればエラーメッセージを画面に表示する。<br>
+	 * @param exportTable 条件設定済のエクスポートクラス
+	 * @throws MospException インスタンスの取得に失敗した場合
+	 */
+	protected void setStreamSource(ExportTableReferenceBeanInterface exportTable) throws MospException {
+		// CSVデータ作成元をMosP処理情報に設定
+		mospParams.setFile(OrangeSignalUtility.getOrangeSignalParams(exportTable.getStreamSource()));
+		// 送出ファイル名をMosP処理情報に設定
+		setFileName();
+	}
+	
 	/**
 	 * 送出ファイル名をMosP処理情報に設定する。<br>
 	 * @throws MospException 例外発生時
@@ -23,9 +23,11 @@ import java.util.List;
 
 import jp.mosp.framework.base.MospException;
 import jp.mosp.framework.constant.MospConst;
+import jp.mosp.jasperreport.JasperReportStream;
 import jp.mosp.jasperreport.JasperReportUtility;
 import jp.mosp.platform.base.PlatformBean;
 import jp.mosp.time.bean.AttendanceListReferenceBeanInterface;
+import jp.mosp.time.constant.TimeConst;
 import jp.mosp.time.dto.settings.impl.AttendanceListDto;
 import jp.mosp.time.report.bean.AttendanceBookBeanInterface;
 
@@ -37,7 +39,7 @@ public class AttendanceBookBean extends PlatformBean implements AttendanceBookBe
 	/**
 	 * 勤怠一覧参照クラス。
 	 */
-	protected AttendanceListReferenceBeanInterface attendanceListRefer;
+	protected AttendanceListReferenceBeanInterface	attendanceListRefer;
 	
 	
 	@Override
@@ -73,6 +75,12 @@ public class AttendanceBookBean extends PlatformBean implements AttendanceBookBe
 	
 	@Override
 	public void makeAttendanceBooks(String[] personalIds, int year, int month) throws MospException {
+		// 帳票分割出力確認
+		if (mospParams.getApplicationPropertyBool(TimeConst.APP_REPORT_STREAMING) && personalIds.length > 0) {
+			// 個人毎に出勤簿を作成して出力
+			makeAttendanceBookStream(personalIds, year, month);
+			return;
+		}
 		// 勤怠一覧情報リスト準備
 		List<AttendanceListDto> list = new ArrayList<AttendanceListDto>();
 		// 個人ID毎に出勤簿を作成
@@ -90,6 +98,31 @@ public class AttendanceBookBean extends PlatformBean implements AttendanceBookBe
 		makeAttendanceBook(list);
 	}
 	
+	/**
+	 * 個人毎に出勤簿を作成して出力する分割帳票を、送出ファイルとして設定する。<br>
+	 * <br>
+	 * 送出開始後はメッセージを表示できないため、
+	 * 先頭の個人の勤怠一覧情報を取得して処理結果を確認する。<br>
+	 * @param personalIds 個人ID配列
+	 * @param year        対象年
+	 * @param month       対象月
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected void makeAttendanceBookStream(String[] personalIds, int year, int month) throws MospException {
+		// 先頭の個人の勤怠一覧情報取得
+		attendanceListRefer.getActualList(personalIds[0], year, month);
+		// 処理結果確認
+		if (mospParams.hasErrorMessage()) {
+			return;
+		}
+		// 分割帳票を送出ファイルとして設定
+		AttendanceBookStreamSource source = new AttendanceBookStreamSource(personalIds, year, month, getTemplatePath(),
+				getReportTitle());
+		mospParams.setFile(new JasperReportStream(source));
+		// 送出ファイル名設定
+		mospParams.setFileName(APP_REPORT_ATTENDANCE_BOOK);
+	}
+	
 	/**
 	 * 出勤簿を作成する。<br>
 	 * @param attendanceList 勤怠一覧情報リスト
@@ -101,7 +134,7 @@ public class AttendanceBookBean extends PlatformBean implements AttendanceBookBe
 			dto.setTitle(getReportTitle());
 		}
 		// 帳票を作成し送出ファイルとして設定
-		mospParams.setFile(JasperReportUtility.createJasperPrint(getTemplatePath(), attendanceList));
+		mospParams.setFile(JasperReportUtility.createReportFile(mospParams, getTemplatePath(), attendanceList));
 		// 送出ファイル名設定
 		mospParams.setFileName(APP_REPORT_ATTENDANCE_BOOK);
 	}
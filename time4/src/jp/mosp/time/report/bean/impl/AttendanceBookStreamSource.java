@@ -0,0 +1,122 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.report.bean.impl;
+
+import java.sql.Connection;
+import java.util.List;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.constant.ExceptionConst;
+import jp.mosp.framework.instance.InstanceFactory;
+import jp.mosp.jasperreport.JasperReportStreamSource;
+import jp.mosp.jasperreport.JasperReportUtility;
+import jp.mosp.time.bean.AttendanceListReferenceBeanInterface;
+import jp.mosp.time.dto.settings.impl.AttendanceListDto;
+import net.sf.jasperreports.engine.JasperPrint;
+
+/**
+ * 出勤簿作成元クラス。<br>
+ * <br>
+ * 出勤簿の作成条件を保持し、ファイル送出時に個人毎の出勤簿を1つずつ作成する。<br>
+ * 送出開始後はメッセージを表示できないため、
+ * 勤怠一覧情報の取得でエラーが発生した場合は、例外を発生させ出力を中断する。<br>
+ */
+public class AttendanceBookStreamSource implements JasperReportStreamSource {
+	
+	/**
+	 * 個人ID配列。
+	 */
+	protected String[]	personalIds;
+	
+	/**
+	 * 対象年。
+	 */
+	protected int		year;
+	
+	/**
+	 * 対象月。
+	 */
+	protected int		month;
+	
+	/**
+	 * 帳票のテンプレートパス。
+	 */
+	protected String	templatePath;
+	
+	/**
+	 * 帳票のタイトル。
+	 */
+	protected String	reportTitle;
+	
+	
+	/**
+	 * 出勤簿の作成条件を保持する。<br>
+	 * @param personalIds  個人ID配列
+	 * @param year         対象年
+	 * @param month        対象月
+	 * @param templatePath 帳票のテンプレートパス
+	 * @param reportTitle  帳票のタイトル
+	 */
+	public AttendanceBookStreamSource(String[] personalIds, int year, int month, String templatePath,
+			String reportTitle) {
+		this.personalIds = personalIds;
+		this.year = year;
+		this.month = month;
+		this.templatePath = templatePath;
+		this.reportTitle = reportTitle;
+	}
+	
+	@Override
+	public int size() {
+		return personalIds.length;
+	}
+	
+	@Override
+	public JasperPrint createJasperPrint(MospParams mospParams, Connection connection, int index)
+			throws MospException {
+		// 勤怠一覧参照クラス取得
+		AttendanceListReferenceBeanInterface attendanceListRefer = (AttendanceListReferenceBeanInterface)InstanceFactory
+			.loadBean(AttendanceListReferenceBeanInterface.class, mospParams, connection);
+		// 勤怠一覧情報取得
+		List<AttendanceListDto> attendanceList = getAttendanceList(attendanceListRefer, personalIds[index]);
+		// 処理結果確認
+		if (mospParams.hasErrorMessage()) {
+			throw new MospException(ExceptionConst.EX_FAIL_OUTPUT_FILE);
+		}
+		// ヘッダ情報(帳票タイトル)付加
+		for (AttendanceListDto dto : attendanceList) {
+			dto.setTitle(reportTitle);
+		}
+		// 帳票を作成
+		return JasperReportUtility.createJasperPrint(templatePath, attendanceList);
+	}
+	
+	/**
+	 * 勤怠一覧(出勤簿)情報を取得する。<br>
+	 * @param attendanceListRefer 勤怠一覧参照クラス
+	 * @param personalId          個人ID
+	 * @return 勤怠一覧情報リスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected List<AttendanceListDto> getAttendanceList(AttendanceListReferenceBeanInterface attendanceListRefer,
+			String personalId) throws MospException {
+		return attendanceListRefer.getActualList(personalId, year, month);
+	}
+	
+}
@@ -0,0 +1,52 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.report.bean.impl;
+
+import java.util.List;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.time.bean.AttendanceListReferenceBeanInterface;
+import jp.mosp.time.dto.settings.impl.AttendanceListDto;
+
+/**
+ * 予定簿作成元クラス。<br>
+ * <br>
+ * 予定簿の作成条件を保持し、ファイル送出時に個人毎の予定簿を1つずつ作成する。<br>
+ */
+public class ScheduleBookStreamSource extends AttendanceBookStreamSource {
+	
+	/**
+	 * 予定簿の作成条件を保持する。<br>
+	 * @param personalIds  個人ID配列
+	 * @param year         対象年
+	 * @param month        対象月
+	 * @param templatePath 帳票のテンプレートパス
+	 * @param reportTitle  帳票のタイトル
+	 */
+	public ScheduleBookStreamSource(String[] personalIds, int year, int month, String templatePath,
+			String reportTitle) {
+		super(personalIds, year, month, templatePath, reportTitle);
+	}
+	
+	@Override
+	protected List<AttendanceListDto> getAttendanceList(AttendanceListReferenceBeanInterface attendanceListRefer,
+			String personalId) throws MospException {
+		return attendanceListRefer.getScheduleList(personalId, year, month);
+	}
+	
+}
@@ -21,7 +21,9 @@ import java.text.Format;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import jp.mosp.framework.base.BaseDtoInterface;
@@ -36,6 +38,7 @@ import jp.mosp.platform.constant.PlatformConst;
 import jp.mosp.platform.constant.PlatformMessageConst;
 import jp.mosp.platform.utils.MonthUtility;
 import jp.mosp.time.base.TimeAction;
+import jp.mosp.time.bean.PaidHolidayBalanceRegistBeanInterface;
 import jp.mosp.time.bean.PaidHolidayDataGrantBeanInterface;
 import jp.mosp.time.bean.PaidHolidayDataSearchBeanInterface;
 import jp.mosp.time.bean.PaidHolidayReferenceBeanInterface;
@@ -166,6 +169,14 @@ public class PaidHolidayDataGrantListAction extends TimeAction {
 	 */
 	public static final String		CMD_OTHER_BATCH_UPDATE2	= "TM040937";
 	
+	/**
+	 * その他一括処理3コマンド。<br>
+	 * <br>
+	 * 一覧に表示されているレコードの有給休暇残高台帳を集計し直し、
+	 * 登録されている台帳と一致しないものを修復する。<br>
+	 */
+	public static final String		CMD_OTHER_BATCH_UPDATE3	= "TM040938";
+	
 	/**
 	 * パラメータID(選択チェックボックス)。<br>
 	 */
@@ -259,6 +270,10 @@ public class PaidHolidayDataGrantListAction extends TimeAction {
 			// その他一括処理2
 			prepareVo();
 			otherBatchUpdate2();
+		} else if (mospParams.getCommand().equals(CMD_OTHER_BATCH_UPDATE3)) {
+			// その他一括処理3
+			prepareVo();
+			otherBatchUpdate3();
 		} else {
 			throwInvalidCommandException();
 		}
@@ -317,19 +332,22 @@ public class PaidHolidayDataGrantListAction extends TimeAction {
 		// VO取得
 		PaidHolidayDataGrantListVo vo = (PaidHolidayDataGrantListVo)mospParams.getVo();
 		PaidHolidayDataGrantBeanInterface paidHolidayDataGrant = time().paidHolidayDataGrant();
+		// 付与対象日群(キー：個人ID)を準備
+		Map<String, Date> targetDateMap = new LinkedHashMap<String, Date>();
 		for (String index : vo.getCkbSelect()) {
 			int i = Integer.parseInt(index);
 			if (!mospParams.getName("Accomplish").equals(vo.getAryLblAccomplish()[i])) {
 				// 達成でない場合
 				continue;
 			}
-			// 付与
-			paidHolidayDataGrant.grant(vo.getAryPersonalId()[i], getDate(vo.getAryLblGrantDate()[i]));
-			if (mospParams.hasErrorMessage()) {
-				// 登録失敗メッセージ設定
-				addInsertFailedMessage();
-				return;
-			}
+			targetDateMap.put(vo.getAryPersonalId()[i], getDate(vo.getAryLblGrantDate()[i]));
+		}
+		// 一括付与
+		paidHolidayDataGrant.grant(targetDateMap);
+		if (mospParams.hasErrorMessage()) {
+			// 登録失敗メッセージ設定
+			addInsertFailedMessage();
+			return;
 		}
 		// コミット
 		commit();
@@ -349,8 +367,9 @@ public class PaidHolidayDataGrantListAction extends TimeAction {
 	
 	/**
 	 * 一覧のページ処理を行う。<br>
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
 	 */
-	protected void page() {
+	protected void page() throws MospException {
 		setVoList(pageList());
 	}
 	
@@ -448,24 +467,25 @@ public class PaidHolidayDataGrantListAction extends TimeAction {
 		// VO取得
 		PaidHolidayDataGrantListVo vo = (PaidHolidayDataGrantListVo)mospParams.getVo();
 		PaidHolidayDataGrantBeanInterface paidHolidayDataGrant = time().paidHolidayDataGrant();
-		// 検索対象個人ID
-		Set<String> set = new HashSet<String>();
+		// 付与対象日群(キー：個人ID)を準備
+		Map<String, Date> targetDateMap = new LinkedHashMap<String, Date>();
 		// 社員毎に処理
 		for (int i = 0; i < vo.getAryPersonalId().length; i++) {
 			// 達成でない場合
 			if (!mospParams.getName("Accomplish").equals(vo.getAryLblAccomplish()[i])) {
 				continue;
 			}
-			// 付与
-			paidHolidayDataGrant.grant(vo.getAryPersonalId()[i], getDate(vo.getAryLblGrantDate()[i]));
-			if (mospParams.hasErrorMessage()) {
-				// 登録失敗メッセージ設定
-				addInsertFailedMessage();
-				return;
-			}
-			// 付与した社員追加
-			set.add(vo.getAryPersonalId()[i]);
+			targetDateMap.put(vo.getAryPersonalId()[i], getDate(vo.getAryLblGrantDate()[i]));
 		}
+		// 一括付与
+		paidHolidayDataGrant.grant(targetDateMap);
+		if (mospParams.hasErrorMessage()) {
+			// 登録失敗メッセージ設定
+			addInsertFailedMessage();
+			return;
+		}
+		// 検索対象個人ID(付与した社員)
+		Set<String> set = new HashSet<String>(targetDateMap.keySet());
 		// コミット
 		commit();
 		// 付与した社員がいる場合
@@ -503,6 +523,35 @@ public class PaidHolidayDataGrantListAction extends TimeAction {
 		search();
 	}
 	
+	/**
+	 * 有給休暇残高台帳一括修復処理を行う。<br>
+	 * 修復した台帳の件数を、メッセージに設定する。<br>
+	 * @throws MospException 例外発生時
+	 */
+	protected void otherBatchUpdate3() throws MospException {
+		// VO取得
+		PaidHolidayDataGrantListVo vo = (PaidHolidayDataGrantListVo)mospParams.getVo();
+		PaidHolidayBalanceRegistBeanInterface paidHolidayBalanceRegist = time().paidHolidayBalanceRegist();
+		Date searchActivateDate = getSearchActivateDate();
+		int count = 0;
+		for (String personalId : vo.getAryPersonalId()) {
+			// 点検及び修復
+			count += paidHolidayBalanceRegist.check(personalId, searchActivateDate, true).size();
+			if (mospParams.hasErrorMessage()) {
+				// 更新失敗メッセージ設定
+				addUpdateFailedMessage();
+				return;
+			}
+		}
+		// コミット
+		commit();
+		// 修復成功メッセージ設定
+		mospParams.addMessage(PlatformMessageConst.MSG_PROCESS_SUCCEED,
+				mospParams.getName("PaidHolidayBalance", "Repair") + "(" + count + ")");
+		// 検索
+		search();
+	}
+	
 	/**
 	 * 計算処理を行う。<br>
 	 * @throws MospException 例外発生時
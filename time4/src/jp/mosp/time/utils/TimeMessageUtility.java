@@ -134,6 +134,24 @@ public class TimeMessageUtility {
 	 */
 	public static final String		MSG_COLOR_SETTING_DESCRIPTION		= "TMI0012";
 	
+	/**
+	 * メッセージコード(打刻受付時)。<br>
+	 * (勤怠への反映は順次行われます。)<br>
+	 */
+	protected static final String	MSG_RECORD_QUEUED					= "TMI0007";
+	
+	/**
+	 * メッセージコード(打刻受付：未反映の打刻がある場合)。<br>
+	 * 勤怠に反映中の打刻が%1%件あります。<br>
+	 */
+	protected static final String	MSG_RECORD_QUEUE_WAIT				= "TMI0008";
+	
+	/**
+	 * メッセージコード(打刻受付：勤怠に反映できなかった打刻がある場合)。<br>
+	 * %1%の%2%は、勤怠に反映できませんでした。%3%<br>
+	 */
+	protected static final String	MSG_RECORD_QUEUE_ERROR				= "TMW0342";
+	
 	
 	/**
 	 * 他クラスからのインスタンス化を防止する。<br>
@@ -265,6 +283,46 @@ public class TimeMessageUtility {
 				getNameRecordTime(mospParams));
 	}
 	
+	/**
+	 * HH:MM:SSに(打刻名称)を打刻しました。<br>
+	 * @param mospParams MosP処理情報
+	 * @param recordTime 打刻時刻
+	 * @param recordName 打刻名称
+	 */
+	public static void addMessageRecordTime(MospParams mospParams, String recordTime, String recordName) {
+		mospParams.addMessage(MSG_RECORD_TIME, recordTime, recordName, getNameRecordTime(mospParams));
+	}
+	
+	/**
+	 * (勤怠への反映は順次行われます。)<br>
+	 * @param mospParams MosP処理情報
+	 */
+	public static void addMessageRecordQueued(MospParams mospParams) {
+		mospParams.addMessage(MSG_RECORD_QUEUED);
+	}
+	
+	/**
+	 * 勤怠に反映中の打刻がN件あります。<br>
+	 * @param mospParams MosP処理情報
+	 * @param count      未反映の打刻件数
+	 */
+	public static void addMessageRecordQueueWait(MospParams mospParams, int count) {
+		mospParams.addMessage(MSG_RECORD_QUEUE_WAIT, String.valueOf(count));
+	}
+	
+	/**
+	 * YYYY/MM/DD HH:MMの始業は、勤怠に反映できませんでした。(エラー内容)<br>
+	 * @param mospParams   MosP処理情報
+	 * @param recordTime   打刻時刻
+	 * @param recordName   打刻名称
+	 * @param errorMessage 反映時のエラーメッセージ
+	 */
+	public static void addMessageRecordQueueError(MospParams mospParams, Date recordTime, String recordName,
+			String errorMessage) {
+		mospParams.addMessage(MSG_RECORD_QUEUE_ERROR, DateUtility.getStringDateAndTime(recordTime), recordName,
+				errorMessage);
+	}
+	
 	/**
 	 * 終業時刻を更新しました。<br>
 	 * @param mospParams MosP処理情報
@@ -739,7 +797,7 @@ public class TimeMessageUtility {
 	 * @param mospParams MosP処理情報
 	 * @return 始業名称
 	 */
-	protected static String getNameStartWork(MospParams mospParams) {
+	public static String getNameStartWork(MospParams mospParams) {
 		return mospParams.getName("StartWork");
 	}
 	
@@ -793,7 +851,7 @@ public class TimeMessageUtility {
 	 * @param mospParams MosP処理情報
 	 * @return 出勤名称
 	 */
-	protected static String getNameRegularWork(MospParams mospParams) {
+	public static String getNameRegularWork(MospParams mospParams) {
 		return mospParams.getName("GoingWork");
 	}
 	
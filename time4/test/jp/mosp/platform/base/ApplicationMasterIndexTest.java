@@ -0,0 +1,331 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.base;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.LinkedHashSet;
+import java.util.Random;
+import java.util.Set;
+
+import jp.mosp.platform.dto.human.HumanDtoInterface;
+import jp.mosp.platform.dto.human.impl.PfmHumanDto;
+import jp.mosp.platform.utils.PlatformUtility;
+import jp.mosp.time.dto.settings.ApplicationDtoInterface;
+import jp.mosp.time.dto.settings.impl.TmmApplicationDto;
+
+import org.junit.Test;
+
+/**
+ * 適用情報索引のテスト。<br>
+ * <br>
+ * {@link ApplicationMasterIndex}が、
+ * {@link PlatformUtility#getApplicationMaster(HumanDtoInterface, Set, Set)}(線形探索)と
+ * 同じ適用情報を同じ優先順で取得することを確認する。<br>
+ * 線形探索は個人IDを部分一致で探すため、個人IDは固定長とする。<br>
+ */
+public class ApplicationMasterIndexTest {
+	
+	/**
+	 * 適用マスタの組合せ(勤務地、雇用契約、所属、職位)。<br>
+	 * {@link ApplicationMasterIndex}の検索順(2.～12.)に並べる。<br>
+	 */
+	protected static final boolean[][]	TIERS			= ApplicationMasterIndex.TIERS;
+	
+	/**
+	 * 乱数による比較回数。
+	 */
+	protected static final int			RANDOM_COUNT	= 2000;
+	
+	/**
+	 * 適用情報(個人)群。
+	 */
+	protected Set<ApplicationDtoInterface>	personSet		= new LinkedHashSet<ApplicationDtoInterface>();
+	
+	/**
+	 * 適用情報(マスタ)群。
+	 */
+	protected Set<ApplicationDtoInterface>	masterSet		= new LinkedHashSet<ApplicationDtoInterface>();
+	
+	
+	/**
+	 * 個人の適用情報が、全ての適用マスタの組合せより優先されることを確認する。<br>
+	 */
+	@Test
+	public void testPersonal() {
+		HumanDtoInterface human = getHuman("P0001", "WP1", "EC1", "SC1", "PS1");
+		addPerson("APP_P", "P0002,P0001,P0003");
+		addAllTiers(human);
+		assertSameAsLinear(human, "APP_P");
+		// 他の個人IDの場合
+		assertSameAsLinear(getHuman("P0004", "WP1", "EC1", "SC1", "PS1"), "APP_2");
+	}
+	
+	/**
+	 * 職位の適用情報(5.)を確認する。<br>
+	 */
+	@Test
+	public void testPosition() {
+		addMaster("APP_PS", "", "", "", "PS1");
+		addMaster("APP_ALL", "", "", "", "");
+		assertSameAsLinear(getHuman("P0001", "WP1", "EC1", "SC1", "PS1"), "APP_PS");
+		assertSameAsLinear(getHuman("P0001", "WP1", "EC1", "SC1", "PS2"), "APP_ALL");
+	}
+	
+	/**
+	 * 雇用契約の適用情報(10.)を確認する。<br>
+	 */
+	@Test
+	public void testEmploymentContract() {
+		addMaster("APP_EC", "", "EC1", "", "");
+		addMaster("APP_ALL", "", "", "", "");
+		assertSameAsLinear(getHuman("P0001", "WP1", "EC1", "SC1", "PS1"), "APP_EC");
+		assertSameAsLinear(getHuman("P0001", "WP1", "EC2", "SC1", "PS1"), "APP_ALL");
+	}
+	
+	/**
+	 * 所属の適用情報(8.)を確認する。<br>
+	 */
+	@Test
+	public void testSection() {
+		addMaster("APP_SC", "", "", "SC1", "");
+		addMaster("APP_ALL", "", "", "", "");
+		assertSameAsLinear(getHuman("P0001", "WP1", "EC1", "SC1", "PS1"), "APP_SC");
+		assertSameAsLinear(getHuman("P0001", "WP1", "EC1", "SC2", "PS1"), "APP_ALL");
+	}
+	
+	/**
+	 * 指定無しの適用情報(12.)及び該当無しを確認する。<br>
+	 */
+	@Test
+	public void testMasterWide() {
+		HumanDtoInterface human = getHuman("P0001", "WP1", "EC1", "SC1", "PS1");
+		// 該当無し
+		assertSameAsLinear(human, null);
+		addMaster("APP_OTHER", "WP2", "", "", "");
+		assertSameAsLinear(human, null);
+		// 指定無し
+		addMaster("APP_ALL", "", "", "", "");
+		assertSameAsLinear(human, "APP_ALL");
+	}
+	
+	/**
+	 * 適用マスタの組合せの優先順を確認する。<br>
+	 * <br>
+	 * 全ての組合せの適用情報を登録し、優先順の高いものから順に除きながら比較する。<br>
+	 */
+	@Test
+	public void testPriority() {
+		HumanDtoInterface human = getHuman("P0001", "WP1", "EC1", "SC1", "PS1");
+		for (int i = 0; i < TIERS.length; i++) {
+			masterSet.clear();
+			for (int j = i; j < TIERS.length; j++) {
+				addTier(human, j);
+			}
+			assertSameAsLinear(human, "APP_" + (i + 2));
+		}
+	}
+	
+	/**
+	 * 同じ組合せに複数の適用情報がある場合に、同じ適用情報を取得することを確認する。<br>
+	 */
+	@Test
+	public void testDuplicate() {
+		addPerson("APP_P1", "P0001");
+		addPerson("APP_P2", "P0001");
+		addMaster("APP_M1", "", "", "SC1", "");
+		addMaster("APP_M2", "", "", "SC1", "");
+		assertSameAsLinear(getHuman("P0001", "WP1", "EC1", "SC1", "PS1"), "APP_P1");
+		assertSameAsLinear(getHuman("P0002", "WP1", "EC1", "SC1", "PS1"), "APP_M1");
+	}
+	
+	/**
+	 * 乱数で作成した適用情報群及び人事情報で、線形探索と比較する。<br>
+	 */
+	@Test
+	public void testRandom() {
+		Random random = new Random(20161018L);
+		for (int i = 0; i < RANDOM_COUNT; i++) {
+			personSet.clear();
+			masterSet.clear();
+			int persons = random.nextInt(3);
+			for (int j = 0; j < persons; j++) {
+				addPerson("APP_P" + j, getPersonalId(random) + "," + getPersonalId(random));
+			}
+			int masters = random.nextInt(12);
+			for (int j = 0; j < masters; j++) {
+				addMaster("APP_M" + j, getCode(random, "WP", true), getCode(random, "EC", true),
+						getCode(random, "SC", true), getCode(random, "PS", true));
+			}
+			HumanDtoInterface human = getHuman(getPersonalId(random), getCode(random, "WP", false),
+					getCode(random, "EC", false), getCode(random, "SC", false), getCode(random, "PS", false));
+			assertSame(getLinear(human), getIndex().get(human));
+		}
+	}
+	
+	/**
+	 * 索引と線形探索で同じ適用情報を取得し、期待する適用コードであることを確認する。<br>
+	 * @param human           人事情報
+	 * @param applicationCode 期待する適用コード(該当無しの場合はnull)
+	 */
+	protected void assertSameAsLinear(HumanDtoInterface human, String applicationCode) {
+		ApplicationDtoInterface linear = getLinear(human);
+		ApplicationDtoInterface indexed = getIndex().get(human);
+		assertSame(linear, indexed);
+		if (applicationCode == null) {
+			assertNull(indexed);
+			return;
+		}
+		assertNotNull(indexed);
+		assertEquals(applicationCode, indexed.getApplicationCode());
+	}
+	
+	/**
+	 * 線形探索で適用情報を取得する。<br>
+	 * @param human 人事情報
+	 * @return 適用情報
+	 */
+	protected ApplicationDtoInterface getLinear(HumanDtoInterface human) {
+		return (ApplicationDtoInterface)PlatformUtility.getApplicationMaster(human, personSet, masterSet);
+	}
+	
+	/**
+	 * 現在の適用情報群から索引を生成する。<br>
+	 * @return 適用情報索引
+	 */
+	protected ApplicationMasterIndex<ApplicationDtoInterface> getIndex() {
+		return new ApplicationMasterIndex<ApplicationDtoInterface>(personSet, masterSet);
+	}
+	
+	/**
+	 * 全ての適用マスタの組合せの適用情報を追加する。<br>
+	 * @param human 人事情報
+	 */
+	protected void addAllTiers(HumanDtoInterface human) {
+		for (int i = 0; i < TIERS.length; i++) {
+			addTier(human, i);
+		}
+	}
+	
+	/**
+	 * 人事情報に合致する適用マスタの組合せの適用情報を追加する。<br>
+	 * 適用コードは「APP_」に検索順(2.～12.)を付したものとする。<br>
+	 * @param human 人事情報
+	 * @param index 組合せの添字
+	 */
+	protected void addTier(HumanDtoInterface human, int index) {
+		boolean[] tier = TIERS[index];
+		addMaster("APP_" + (index + 2), tier[0] ? human.getWorkPlaceCode() : "",
+				tier[1] ? human.getEmploymentContractCode() : "", tier[2] ? human.getSectionCode() : "",
+				tier[3] ? human.getPositionCode() : "");
+	}
+	
+	/**
+	 * 適用情報(個人)を追加する。<br>
+	 * @param applicationCode 適用コード
+	 * @param personalIds     個人ID(カンマ区切)
+	 */
+	protected void addPerson(String applicationCode, String personalIds) {
+		ApplicationDtoInterface dto = getApplication(applicationCode, "", "", "", "");
+		dto.setPersonalIds(personalIds);
+		personSet.add(dto);
+	}
+	
+	/**
+	 * 適用情報(マスタ)を追加する。<br>
+	 * @param applicationCode        適用コード
+	 * @param workPlaceCode          勤務地コード
+	 * @param employmentContractCode 雇用契約コード
+	 * @param sectionCode            所属コード
+	 * @param positionCode           職位コード
+	 */
+	protected void addMaster(String applicationCode, String workPlaceCode, String employmentContractCode,
+			String sectionCode, String positionCode) {
+		masterSet.add(getApplication(applicationCode, workPlaceCode, employmentContractCode, sectionCode,
+				positionCode));
+	}
+	
+	/**
+	 * 適用情報を作成する。<br>
+	 * @param applicationCode        適用コード
+	 * @param workPlaceCode          勤務地コード
+	 * @param employmentContractCode 雇用契約コード
+	 * @param sectionCode            所属コード
+	 * @param positionCode           職位コード
+	 * @return 適用情報
+	 */
+	protected ApplicationDtoInterface getApplication(String applicationCode, String workPlaceCode,
+			String employmentContractCode, String sectionCode, String positionCode) {
+		ApplicationDtoInterface dto = new TmmApplicationDto();
+		dto.setApplicationCode(applicationCode);
+		dto.setWorkPlaceCode(workPlaceCode);
+		dto.setEmploymentContractCode(employmentContractCode);
+		dto.setSectionCode(sectionCode);
+		dto.setPositionCode(positionCode);
+		dto.setPersonalIds("");
+		return dto;
+	}
+	
+	/**
+	 * 人事情報を作成する。<br>
+	 * @param personalId             個人ID
+	 * @param workPlaceCode          勤務地コード
+	 * @param employmentContractCode 雇用契約コード
+	 * @param sectionCode            所属コード
+	 * @param positionCode           職位コード
+	 * @return 人事情報
+	 */
+	protected HumanDtoInterface getHuman(String personalId, String workPlaceCode, String employmentContractCode,
+			String sectionCode, String positionCode) {
+		HumanDtoInterface dto = new PfmHumanDto();
+		dto.setPersonalId(personalId);
+		dto.setWorkPlaceCode(workPlaceCode);
+		dto.setEmploymentContractCode(employmentContractCode);
+		dto.setSectionCode(sectionCode);
+		dto.setPositionCode(positionCode);
+		return dto;
+	}
+	
+	/**
+	 * 乱数で個人ID(固定長)を取得する。<br>
+	 * @param random 乱数
+	 * @return 個人ID
+	 */
+	protected String getPersonalId(Random random) {
+		return "P000" + (random.nextInt(5) + 1);
+	}
+	
+	/**
+	 * 乱数でコードを取得する。<br>
+	 * @param random   乱数
+	 * @param prefix   コード接頭辞
+	 * @param useBlank 空文字を含めるか(true：含める、false：含めない)
+	 * @return コード
+	 */
+	protected String getCode(Random random, String prefix, boolean useBlank) {
+		int value = random.nextInt(useBlank ? 3 : 2);
+		if (value == 2) {
+			return "";
+		}
+		return prefix + (value + 1);
+	}
+	
+}